@@ -0,0 +1,409 @@
+package com.deveagles.be15_deveagles_be.common.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 자주 읽고 드물게 바뀌는 참조 데이터(매장, 설정, 상품, 등급 등)의 2단 캐시.
+ *
+ * <p>로컬 캐시(크기, 만료 시간 제한)를 먼저 보고, 없으면 Redis 에 JSON 으로 올려 둔 값을, 그래도 없으면 {@link #load} 로 DB 에서 읽어
+ * 양쪽에 올린다. 값이 없는 것(null)도 캐시한다. 원본을 바꾸는 커맨드 서비스가 {@link #evict} 를 부르면 Redis 값을 지우고 {@link
+ * ReferenceCacheRegistry} 채널로 모든 인스턴스의 로컬 항목을 지우며, 커밋 후 한 번 더 지운다. 메시지를 놓쳐도 로컬 항목은 만료 시간이 지나면 새로
+ * 읽는다.
+ *
+ * <p>무효화할 때마다 Redis 에 키별 버전을 올린다. DB 에서 읽기 전에 버전을 가져 두고, Redis 에 올릴 때 버전이 그대로일 때만 쓴다(Lua). 다른
+ * 인스턴스가 읽는 도중 커밋 후 무효화가 지나가도 이전 값이 Redis 에 다시 올라가지 않는다.
+ *
+ * <p>구현 클래스는 캐시 이름과 값 타입을 넘기고 {@link #load} 를 구현해 빈으로 등록한다.
+ */
+@Slf4j
+public abstract class ReferenceCache<K, V> {
+
+  private static final String KEY_PREFIX = "REFERENCE_CACHE:";
+  private static final String VERSION_KEY_PREFIX = "REFERENCE_CACHE_VERSION:";
+  private static final String NO_VERSION = "";
+  private static final int TRIM_PERCENT = 10;
+  private static final Object MISS = new Object();
+
+  // KEYS: [값 키, 버전 키], ARGV: [읽기 전 버전, 값, 만료 초]
+  private static final DefaultRedisScript<Long> STORE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if (redis.call('get', KEYS[2]) or '') ~= ARGV[1] then return 0 end "
+              + "redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3]) "
+              + "return 1",
+          Long.class);
+
+  // KEYS: [값 키1, 버전 키1, 값 키2, 버전 키2, ...], ARGV: [버전 만료 초]
+  private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT =
+      new DefaultRedisScript<>(
+          "for i = 1, #KEYS, 2 do "
+              + "redis.call('del', KEYS[i]) "
+              + "redis.call('incr', KEYS[i + 1]) "
+              + "redis.call('expire', KEYS[i + 1], ARGV[1]) end "
+              + "return #KEYS / 2",
+          Long.class);
+
+  private final String name;
+  private final ReferenceCacheRegistry registry;
+  private final JavaType valueType;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  // 무효화마다 증가. 읽는 도중 무효화가 있었으면 읽은 결과를 캐시에 넣지 않는다.
+  private final AtomicLong generation = new AtomicLong();
+
+  private final LongAdder localHits = new LongAdder();
+  private final LongAdder redisHits = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder loadCalls = new LongAdder();
+  private final LongAdder loadNanos = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  protected ReferenceCache(
+      String name, ReferenceCacheRegistry registry, TypeReference<V> valueType) {
+    this.name = name;
+    this.registry = registry;
+    this.valueType = registry.objectMapper().getTypeFactory().constructType(valueType);
+  }
+
+  @PostConstruct
+  public void register() {
+    registry.register(this);
+  }
+
+  /** DB 에서 값을 읽는다. 없으면 null */
+  protected abstract V load(K key);
+
+  /** 여러 키를 한 번에 읽는다. 결과에 없는 키는 값이 없는 것으로 캐시한다. */
+  protected Map<K, V> loadAll(Set<K> keys) {
+    Map<K, V> loaded = new HashMap<>();
+    keys.forEach(key -> loaded.put(key, load(key)));
+    return loaded;
+  }
+
+  /** false 를 반환한 값은 캐시하지 않고 매번 읽는다. */
+  protected boolean isCacheable(V value) {
+    return true;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public V get(K key) {
+    String id = String.valueOf(key);
+    Entry cached = localEntry(id);
+    if (cached != null) {
+      localHits.increment();
+      return cast(cached.value());
+    }
+
+    long loadedGeneration = generation.get();
+    Object shared = fromJson(readRedis(id));
+    if (shared != MISS) {
+      redisHits.increment();
+      putLocal(id, shared, loadedGeneration);
+      return cast(shared);
+    }
+
+    String version = readVersion(id);
+    V value = timedLoad(1, () -> load(key));
+    store(id, value, loadedGeneration, version);
+    return value;
+  }
+
+  /** 여러 키의 값. 로컬과 Redis 에 없는 키만 {@link #loadAll} 로 한 번에 읽는다. 값이 없는 키는 null 로 담긴다. */
+  public Map<K, V> getAll(Collection<K> keys) {
+    Map<K, V> result = new HashMap<>();
+    Map<String, K> missing = new LinkedHashMap<>();
+    for (K key : keys) {
+      String id = String.valueOf(key);
+      Entry cached = localEntry(id);
+      if (cached != null) {
+        localHits.increment();
+        result.put(key, cast(cached.value()));
+      } else {
+        missing.putIfAbsent(id, key);
+      }
+    }
+    if (missing.isEmpty()) {
+      return result;
+    }
+
+    long loadedGeneration = generation.get();
+    List<String> ids = new ArrayList<>(missing.keySet());
+    List<String> jsons = readRedis(ids);
+    Set<K> toLoad = new LinkedHashSet<>();
+    for (int i = 0; i < ids.size(); i++) {
+      K key = missing.get(ids.get(i));
+      Object shared = fromJson(jsons.get(i));
+      if (shared == MISS) {
+        toLoad.add(key);
+        continue;
+      }
+      redisHits.increment();
+      putLocal(ids.get(i), shared, loadedGeneration);
+      result.put(key, cast(shared));
+    }
+
+    if (!toLoad.isEmpty()) {
+      List<String> loadIds = toLoad.stream().map(String::valueOf).toList();
+      List<String> versions = readVersions(loadIds);
+      Map<K, V> loaded = timedLoad(toLoad.size(), () -> loadAll(toLoad));
+      int i = 0;
+      for (K key : toLoad) {
+        V value = loaded.get(key);
+        store(loadIds.get(i), value, loadedGeneration, versions.get(i));
+        result.put(key, value);
+        i++;
+      }
+    }
+    return result;
+  }
+
+  public void evict(K key) {
+    evict(List.of(key));
+  }
+
+  /** 원본이 바뀐 키를 모든 인스턴스에서 지운다. 트랜잭션 안이면 커밋 후 한 번 더 지운다. */
+  public void evict(Collection<K> keys) {
+    List<String> ids = keys.stream().map(String::valueOf).distinct().toList();
+    if (ids.isEmpty()) {
+      return;
+    }
+    invalidate(ids);
+    // 커밋 전에는 다른 요청이 이전 값을 다시 읽어 올릴 수 있다
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              invalidate(ids);
+            }
+          });
+    }
+  }
+
+  public Stats stats() {
+    long loadCallCount = loadCalls.sum();
+    return new Stats(
+        name,
+        localHits.sum(),
+        redisHits.sum(),
+        loads.sum(),
+        loadCallCount == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / loadCallCount,
+        evictions.sum(),
+        invalidations.sum(),
+        entries.size());
+  }
+
+  void evictLocal(Collection<String> ids) {
+    generation.incrementAndGet();
+    ids.forEach(entries::remove);
+  }
+
+  private void invalidate(List<String> ids) {
+    invalidations.add(ids.size());
+    evictLocal(ids);
+    List<String> keys = new ArrayList<>(ids.size() * 2);
+    for (String id : ids) {
+      keys.add(redisKey(id));
+      keys.add(versionKey(id));
+    }
+    try {
+      registry
+          .redisTemplate()
+          .execute(INVALIDATE_SCRIPT, keys, String.valueOf(registry.redisTtlSeconds()));
+    } catch (Exception e) {
+      log.warn("참조 캐시 Redis 값 삭제 실패: {}, 오류={}", name, e.getMessage());
+    }
+    registry.publish(name, ids);
+  }
+
+  private <T> T timedLoad(int keyCount, Supplier<T> loader) {
+    long startedAt = System.nanoTime();
+    try {
+      return loader.get();
+    } finally {
+      loadNanos.add(System.nanoTime() - startedAt);
+      loadCalls.increment();
+      loads.add(keyCount);
+    }
+  }
+
+  /** 읽기 전 버전(version)을 알 수 없으면 Redis 에는 올리지 않고 로컬에만 둔다. */
+  private void store(String id, V value, long loadedGeneration, String version) {
+    if (!isCacheable(value) || generation.get() != loadedGeneration) {
+      return;
+    }
+    try {
+      if (version != null) {
+        registry
+            .redisTemplate()
+            .execute(
+                STORE_SCRIPT,
+                List.of(redisKey(id), versionKey(id)),
+                version,
+                registry.objectMapper().writeValueAsString(value),
+                String.valueOf(registry.redisTtlSeconds()));
+      }
+    } catch (Exception e) {
+      log.warn("참조 캐시 Redis 저장 실패: {}, 오류={}", name, e.getMessage());
+    }
+    putLocal(id, value, loadedGeneration);
+  }
+
+  private Entry localEntry(String id) {
+    Entry entry = entries.get(id);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt() <= System.currentTimeMillis()) {
+      if (entries.remove(id, entry)) {
+        evictions.increment();
+      }
+      return null;
+    }
+    return entry;
+  }
+
+  private void putLocal(String id, Object value, long loadedGeneration) {
+    int maxSize = registry.maxSize();
+    if (entries.size() >= maxSize) {
+      trim(maxSize);
+    }
+    if (generation.get() == loadedGeneration) {
+      entries.put(id, new Entry(value, System.currentTimeMillis() + registry.localTtlMillis()));
+    }
+  }
+
+  // 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 일부를 임의로 지운다
+  private void trim(int maxSize) {
+    long now = System.currentTimeMillis();
+    int before = entries.size();
+    entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    int target = maxSize - Math.max(1, maxSize * TRIM_PERCENT / 100);
+    Iterator<String> ids = entries.keySet().iterator();
+    while (entries.size() > target && ids.hasNext()) {
+      ids.next();
+      ids.remove();
+    }
+    evictions.add(Math.max(0, before - entries.size()));
+  }
+
+  private String readRedis(String id) {
+    try {
+      return registry.redisTemplate().opsForValue().get(redisKey(id));
+    } catch (Exception e) {
+      log.warn("참조 캐시 Redis 조회 실패, DB 에서 조회: {}, 오류={}", name, e.getMessage());
+      return null;
+    }
+  }
+
+  private List<String> readRedis(List<String> ids) {
+    try {
+      List<String> keys = ids.stream().map(this::redisKey).toList();
+      List<String> values = registry.redisTemplate().opsForValue().multiGet(keys);
+      if (values != null && values.size() == ids.size()) {
+        return values;
+      }
+    } catch (Exception e) {
+      log.warn("참조 캐시 Redis 조회 실패, DB 에서 조회: {}, 오류={}", name, e.getMessage());
+    }
+    return Collections.nCopies(ids.size(), null);
+  }
+
+  // 무효화된 적 없는 키는 빈 문자열, Redis 를 쓸 수 없으면 null
+  private String readVersion(String id) {
+    try {
+      String version = registry.redisTemplate().opsForValue().get(versionKey(id));
+      return version != null ? version : NO_VERSION;
+    } catch (Exception e) {
+      log.warn("참조 캐시 버전 조회 실패: {}, 오류={}", name, e.getMessage());
+      return null;
+    }
+  }
+
+  private List<String> readVersions(List<String> ids) {
+    try {
+      List<String> keys = ids.stream().map(this::versionKey).toList();
+      List<String> versions = registry.redisTemplate().opsForValue().multiGet(keys);
+      if (versions != null && versions.size() == ids.size()) {
+        return versions.stream().map(v -> v != null ? v : NO_VERSION).toList();
+      }
+    } catch (Exception e) {
+      log.warn("참조 캐시 버전 조회 실패: {}, 오류={}", name, e.getMessage());
+    }
+    return Collections.nCopies(ids.size(), null);
+  }
+
+  private Object fromJson(String json) {
+    if (json == null) {
+      return MISS;
+    }
+    try {
+      return registry.objectMapper().readValue(json, valueType);
+    } catch (Exception e) {
+      log.warn("참조 캐시 값 해석 실패, DB 에서 조회: {}, 오류={}", name, e.getMessage());
+      return MISS;
+    }
+  }
+
+  private String redisKey(String id) {
+    return KEY_PREFIX + name + ":" + id;
+  }
+
+  private String versionKey(String id) {
+    return VERSION_KEY_PREFIX + name + ":" + id;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V cast(Object value) {
+    return (V) value;
+  }
+
+  private record Entry(Object value, long expiresAt) {}
+
+  /** 캐시별 누적 지표. 적중률은 로컬과 Redis 에서 찾은 비율 */
+  public record Stats(
+      String name,
+      long localHits,
+      long redisHits,
+      long loads,
+      double averageLoadMillis,
+      long evictions,
+      long invalidations,
+      int size) {
+
+    public long requests() {
+      return localHits + redisHits + loads;
+    }
+
+    public double hitRatio() {
+      return requests() == 0 ? 0 : (double) (localHits + redisHits) / requests();
+    }
+
+    public double localHitRatio() {
+      return requests() == 0 ? 0 : (double) localHits / requests();
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.deveagles.be15_deveagles_be.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ReferenceCache} 공용 설정과 무효화 채널.
+ *
+ * <p>모든 참조 캐시가 Redis 채널 하나를 함께 쓴다. 메시지는 {@code 캐시이름\n키\n키...} 형식이며, 받은 인스턴스는 해당 캐시의 로컬 항목만
+ * 지운다. 캐시별 지표는 주기적으로 로그에 남기고 {@link #stats()} 로도 조회할 수 있다.
+ */
+@Slf4j
+@Component
+public class ReferenceCacheRegistry implements MessageListener {
+
+  public static final String CHANNEL = "REFERENCE_CACHE_EVICT";
+  static final String SEPARATOR = "\n";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+  private final Map<String, ReferenceCache<?, ?>> caches = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService reporter =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "reference-cache-stats");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  @Value("${reference-cache.local-ttl-seconds:300}")
+  private long localTtlSeconds = 300;
+
+  @Value("${reference-cache.redis-ttl-seconds:3600}")
+  private long redisTtlSeconds = 3600;
+
+  @Value("${reference-cache.max-size:10000}")
+  private int maxSize = 10000;
+
+  @Value("${reference-cache.stats-log-interval-seconds:300}")
+  private long statsLogIntervalSeconds = 300;
+
+  public ReferenceCacheRegistry(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      ObjectMapper objectMapper) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.objectMapper = objectMapper;
+  }
+
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    if (statsLogIntervalSeconds > 0) {
+      reporter.scheduleWithFixedDelay(
+          this::logStats, statsLogIntervalSeconds, statsLogIntervalSeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    reporter.shutdownNow();
+  }
+
+  /** 캐시별 누적 지표 */
+  public List<ReferenceCache.Stats> stats() {
+    return caches.values().stream().map(ReferenceCache::stats).toList();
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR);
+    ReferenceCache<?, ?> cache = caches.get(parts[0]);
+    if (cache != null) {
+      cache.evictLocal(Arrays.asList(parts).subList(1, parts.length));
+    }
+  }
+
+  void register(ReferenceCache<?, ?> cache) {
+    if (caches.putIfAbsent(cache.getName(), cache) != null) {
+      throw new IllegalStateException("이미 등록된 참조 캐시 이름: " + cache.getName());
+    }
+  }
+
+  void publish(String cacheName, List<String> keys) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, cacheName + SEPARATOR + String.join(SEPARATOR, keys));
+    } catch (Exception e) {
+      log.warn("참조 캐시 무효화 전파 실패: {}, 오류={}", cacheName, e.getMessage());
+    }
+  }
+
+  RedisTemplate<String, String> redisTemplate() {
+    return redisTemplate;
+  }
+
+  ObjectMapper objectMapper() {
+    return objectMapper;
+  }
+
+  long localTtlMillis() {
+    return localTtlSeconds * 1000;
+  }
+
+  long redisTtlSeconds() {
+    return redisTtlSeconds;
+  }
+
+  int maxSize() {
+    return maxSize;
+  }
+
+  private void logStats() {
+    for (ReferenceCache.Stats stats : stats()) {
+      if (stats.requests() == 0) {
+        continue;
+      }
+      log.info(
+          "참조 캐시 [{}] 요청={}, 적중률={}%(로컬 {}%), DB 조회={}, 평균 조회={}ms, 제거={}, 무효화={}, 크기={}",
+          stats.name(),
+          stats.requests(),
+          Math.round(stats.hitRatio() * 1000) / 10.0,
+          Math.round(stats.localHitRatio() * 1000) / 10.0,
+          stats.loads(),
+          Math.round(stats.averageLoadMillis() * 100) / 100.0,
+          stats.evictions(),
+          stats.invalidations(),
+          stats.size());
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.deveagles.be15_deveagles_be.common.config;
+
+import com.deveagles.be15_deveagles_be.common.datasource.ReplicaLagMonitor;
+import com.deveagles.be15_deveagles_be.common.datasource.ReplicaQueryInterceptor;
+import com.deveagles.be15_deveagles_be.common.datasource.ReplicaRoutingDataSource;
+import com.deveagles.be15_deveagles_be.common.datasource.ReplicaStickiness;
+import com.deveagles.be15_deveagles_be.common.datasource.ReplicaStickinessFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 복제본 라우팅 설정. {@code replica} 프로필에서만 적용된다.
+ *
+ * <p>원본 풀은 기존 {@code spring.datasource} 설정을, 복제본 풀은 {@code spring.datasource.replica} 설정을 쓴다. JPA,
+ * JdbcTemplate, MyBatis 는 {@link ReplicaRoutingDataSource} 를 통해 커넥션을 얻는다.
+ */
+@Configuration
+@Profile("replica")
+public class ReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.replica")
+  public HikariDataSource replicaDataSource() {
+    return new HikariDataSource();
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "shutdown")
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaDataSource") DataSource replica,
+      @Value("${replica.max-lag-seconds:3}") long maxLagSeconds,
+      @Value("${replica.lag-check-interval-ms:2000}") long checkIntervalMillis) {
+    return new ReplicaLagMonitor(replica, maxLagSeconds, checkIntervalMillis);
+  }
+
+  @Bean
+  public ReplicaStickiness replicaStickiness(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${replica.sticky-ms:5000}") long stickyMillis) {
+    return new ReplicaStickiness(redisTemplate, stickyMillis);
+  }
+
+  @Bean
+  public ReplicaStickinessFilter replicaStickinessFilter(ReplicaStickiness stickiness) {
+    return new ReplicaStickinessFilter(stickiness);
+  }
+
+  @Bean
+  public ReplicaQueryInterceptor replicaQueryInterceptor(ReplicaStickiness stickiness) {
+    return new ReplicaQueryInterceptor(stickiness);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      ReplicaLagMonitor lagMonitor,
+      ReplicaStickiness stickiness) {
+    ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(primary, replica, lagMonitor, stickiness);
+    routing.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+}
@@ -71,6 +71,8 @@ public class SecurityConfig {
                         "/secondary-items/active",
                         "/primary-items",
                         "/schedules/reservations/staff/{staffId}/available-times",
+                        "/schedules/reservations/staff/{staffId}/available-slots",
+                        "/schedules/reservations/available-slots",
                         "/secondary-items/active/{shopId}",
                         "/primary-items/{shopId}",
                         "/staffs/{staffId}/profile-url",
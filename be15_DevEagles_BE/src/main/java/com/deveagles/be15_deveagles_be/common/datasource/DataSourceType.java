@@ -0,0 +1,6 @@
+package com.deveagles.be15_deveagles_be.common.datasource;
+
+public enum DataSourceType {
+  PRIMARY,
+  REPLICA
+}
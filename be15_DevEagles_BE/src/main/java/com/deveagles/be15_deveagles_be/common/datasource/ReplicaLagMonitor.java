@@ -0,0 +1,78 @@
+package com.deveagles.be15_deveagles_be.common.datasource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 복제본의 복제 지연을 주기적으로 확인한다.
+ *
+ * <p>{@code SHOW SLAVE STATUS} 의 {@code Seconds_Behind_Master} 가 한도 이하일 때만 복제본을 쓸 수 있다고 본다. 복제가
+ * 멈췄거나(값이 NULL), 복제 설정이 없어 결과가 비었거나(잘못된 서버를 가리키는 경우), 확인에 실패하면 다음 확인까지 모든 읽기를 원본으로 보낸다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private static final String STATUS_SQL = "SHOW SLAVE STATUS";
+  private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final long maxLagSeconds;
+  private final long checkIntervalMillis;
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private volatile boolean available;
+
+  public ReplicaLagMonitor(DataSource replica, long maxLagSeconds, long checkIntervalMillis) {
+    this.jdbcTemplate = new JdbcTemplate(replica);
+    this.maxLagSeconds = maxLagSeconds;
+    this.checkIntervalMillis = checkIntervalMillis;
+  }
+
+  public void start() {
+    scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  public boolean isAvailable() {
+    return available;
+  }
+
+  void check() {
+    boolean next;
+    try {
+      List<Map<String, Object>> rows = jdbcTemplate.queryForList(STATUS_SQL);
+      Object lag = rows.isEmpty() ? null : rows.get(0).get(LAG_COLUMN);
+      next = lag instanceof Number seconds && seconds.longValue() <= maxLagSeconds;
+      if (!next) {
+        log.debug("복제 지연 한도 초과, 복제 중지 또는 복제 상태 없음, 원본 사용: 지연={}초", lag);
+      }
+    } catch (Exception e) {
+      next = false;
+      log.debug("복제 지연 확인 실패, 원본 사용: {}", e.getMessage());
+    }
+
+    if (next != available) {
+      if (next) {
+        log.info("복제본 읽기 재개");
+      } else {
+        log.warn("복제본 읽기 중단 (최대 지연 {}초)", maxLagSeconds);
+      }
+    }
+    available = next;
+  }
+}
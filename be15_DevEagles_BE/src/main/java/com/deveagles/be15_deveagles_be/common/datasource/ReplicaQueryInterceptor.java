@@ -0,0 +1,71 @@
+package com.deveagles.be15_deveagles_be.common.datasource;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 밖에서 실행되는 MyBatis 조회 매퍼({@code ..query.mapper..})의 SELECT 를 복제본 대상으로 표시한다.
+ *
+ * <p>트랜잭션 안의 조회는 트랜잭션의 읽기 전용 여부를 따른다. 트랜잭션 밖의 INSERT/UPDATE/DELETE 가 성공하면 이후 읽기를 잠시 원본으로 보낸다.
+ */
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class})
+})
+public class ReplicaQueryInterceptor implements Interceptor {
+
+  private static final String QUERY_MAPPER_PACKAGE = ".query.mapper.";
+  private static final ThreadLocal<Boolean> REPLICA_QUERY = new ThreadLocal<>();
+
+  private final ReplicaStickiness stickiness;
+
+  public ReplicaQueryInterceptor(ReplicaStickiness stickiness) {
+    this.stickiness = stickiness;
+  }
+
+  static boolean isReplicaQuery() {
+    return Boolean.TRUE.equals(REPLICA_QUERY.get());
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+    boolean outsideTransaction = !TransactionSynchronizationManager.isActualTransactionActive();
+
+    if (statement.getSqlCommandType() != SqlCommandType.SELECT) {
+      Object result = invocation.proceed();
+      if (outsideTransaction) {
+        stickiness.markWritten();
+      }
+      return result;
+    }
+
+    // 트랜잭션 동기화 중이면 커넥션이 범위 끝까지 재사용되므로 표시하지 않는다
+    if (TransactionSynchronizationManager.isSynchronizationActive()
+        || !statement.getId().contains(QUERY_MAPPER_PACKAGE)
+        || REPLICA_QUERY.get() != null) {
+      return invocation.proceed();
+    }
+
+    REPLICA_QUERY.set(Boolean.TRUE);
+    try {
+      return invocation.proceed();
+    } finally {
+      REPLICA_QUERY.remove();
+    }
+  }
+}
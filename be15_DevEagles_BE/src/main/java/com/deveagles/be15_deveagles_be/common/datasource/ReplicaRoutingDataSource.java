@@ -0,0 +1,80 @@
+package com.deveagles.be15_deveagles_be.common.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 작업을 복제본으로 보내는 라우팅 데이터소스.
+ *
+ * <p>HTTP 요청 안의 읽기 전용 트랜잭션과, 트랜잭션 밖에서 실행되는 MyBatis 조회 매퍼({@link ReplicaQueryInterceptor})만 복제본을
+ * 쓴다. 같은 사용자가 방금 쓴 데이터를 다시 읽는 동안({@link ReplicaStickiness})이나 복제 지연이 한도를 넘은 동안({@link
+ * ReplicaLagMonitor})에는 원본을 쓴다. 요청 밖의 백그라운드 작업은 항상 원본을 쓴다.
+ *
+ * <p>트랜잭션의 읽기 전용 여부가 정해진 뒤 커넥션을 고르도록 {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  private static final String WRITE_SYNC_KEY = ReplicaRoutingDataSource.class.getName() + ".WRITE";
+
+  private final ReplicaLagMonitor lagMonitor;
+  private final ReplicaStickiness stickiness;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      ReplicaLagMonitor lagMonitor,
+      ReplicaStickiness stickiness) {
+    this.lagMonitor = lagMonitor;
+    this.stickiness = stickiness;
+    setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (isReadOnlyWork()) {
+      return stickiness.inRequest() && !stickiness.isSticky() && lagMonitor.isAvailable()
+          ? DataSourceType.REPLICA
+          : DataSourceType.PRIMARY;
+    }
+
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      markWrittenAfterCommit();
+    }
+    return DataSourceType.PRIMARY;
+  }
+
+  private boolean isReadOnlyWork() {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+    return ReplicaQueryInterceptor.isReplicaQuery();
+  }
+
+  // 쓰기 트랜잭션이 커밋되면 이후 읽기를 잠시 원본으로 보낸다
+  private void markWrittenAfterCommit() {
+    if (!stickiness.inRequest()
+        || !TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(WRITE_SYNC_KEY)) {
+      return;
+    }
+
+    TransactionSynchronizationManager.bindResource(WRITE_SYNC_KEY, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            stickiness.markWritten();
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_SYNC_KEY);
+          }
+        });
+  }
+}
@@ -0,0 +1,107 @@
+package com.deveagles.be15_deveagles_be.common.datasource;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 쓰기 직후의 읽기를 원본으로 보내 방금 쓴 데이터를 다시 읽을 수 있게 한다.
+ *
+ * <p>쓰기 트랜잭션이 커밋되면 그 요청의 남은 읽기와, 같은 사용자의 다음 요청들을 일정 시간 동안 원본으로 보낸다. 다음 요청이 다른 인스턴스로 가도
+ * 지켜지도록 사용자별 기한을 Redis 에 남기고, 요청마다 처음 읽을 때 한 번만 확인한다. Redis 를 쓸 수 없으면 원본으로 보낸다.
+ *
+ * <p>요청 범위는 {@link ReplicaStickinessFilter} 가 연다. 요청 밖(백그라운드 작업)에서는 복제본을 쓰지 않는다.
+ */
+@Slf4j
+public class ReplicaStickiness {
+
+  private static final String KEY_PREFIX = "REPLICA_STICKY:";
+  private static final ThreadLocal<RequestState> REQUEST = new ThreadLocal<>();
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final long stickyMillis;
+
+  public ReplicaStickiness(RedisTemplate<String, String> redisTemplate, long stickyMillis) {
+    this.redisTemplate = redisTemplate;
+    this.stickyMillis = stickyMillis;
+  }
+
+  public void begin() {
+    REQUEST.set(new RequestState());
+  }
+
+  public void end() {
+    REQUEST.remove();
+  }
+
+  public boolean inRequest() {
+    return REQUEST.get() != null;
+  }
+
+  /** 이 요청의 읽기를 원본으로 보내야 하면 true */
+  public boolean isSticky() {
+    RequestState state = REQUEST.get();
+    if (state == null) {
+      return true;
+    }
+    if (!state.remoteChecked) {
+      state.remoteChecked = true;
+      state.stickyUntil = Math.max(state.stickyUntil, readRemote());
+    }
+    return System.currentTimeMillis() < state.stickyUntil;
+  }
+
+  /** 쓰기가 끝났음을 기록한다. */
+  public void markWritten() {
+    RequestState state = REQUEST.get();
+    if (state == null) {
+      return;
+    }
+    long until = System.currentTimeMillis() + stickyMillis;
+    state.stickyUntil = until;
+
+    String user = currentUser();
+    if (user == null) {
+      return;
+    }
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(KEY_PREFIX + user, String.valueOf(until), Duration.ofMillis(stickyMillis));
+    } catch (Exception e) {
+      log.warn("복제본 읽기 보류 기록 실패: 사용자={}, 오류={}", user, e.getMessage());
+    }
+  }
+
+  private long readRemote() {
+    String user = currentUser();
+    if (user == null) {
+      return 0L;
+    }
+    try {
+      String until = redisTemplate.opsForValue().get(KEY_PREFIX + user);
+      return until != null ? Long.parseLong(until) : 0L;
+    } catch (Exception e) {
+      log.debug("복제본 읽기 보류 확인 실패, 원본 사용: 사용자={}, 오류={}", user, e.getMessage());
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+
+  private static class RequestState {
+    private boolean remoteChecked;
+    private long stickyUntil;
+  }
+}
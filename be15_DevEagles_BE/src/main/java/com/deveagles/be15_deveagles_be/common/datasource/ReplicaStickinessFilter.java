@@ -0,0 +1,30 @@
+package com.deveagles.be15_deveagles_be.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/** 요청마다 {@link ReplicaStickiness} 의 요청 범위를 열고 닫는다. */
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+  private final ReplicaStickiness stickiness;
+
+  public ReplicaStickinessFilter(ReplicaStickiness stickiness) {
+    this.stickiness = stickiness;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    stickiness.begin();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      stickiness.end();
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** 신규 고객 등록 */
+public record CustomerRegistrationEvent(
+    String eventId, Long customerId, Long shopId, LocalDateTime registrationTime)
+    implements DomainEvent {
+
+  public static CustomerRegistrationEvent of(
+      Long customerId, Long shopId, LocalDateTime registrationTime) {
+    return new CustomerRegistrationEvent(
+        UUID.randomUUID().toString(), customerId, shopId, registrationTime);
+  }
+}
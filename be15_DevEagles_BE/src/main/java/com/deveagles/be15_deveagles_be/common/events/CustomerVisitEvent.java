@@ -0,0 +1,35 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 고객 방문(매출 등록, 방문 추가)
+ *
+ * <p>이벤트는 고객 정보를 갱신한 뒤에 처리되므로, 방문 주기 확인에 쓸 이전 방문일은 갱신 전 값을 이벤트에 담는다.
+ */
+public record CustomerVisitEvent(
+    String eventId,
+    Long customerId,
+    Long shopId,
+    String treatmentId,
+    LocalDateTime visitTime,
+    LocalDate previousVisitDate)
+    implements DomainEvent {
+
+  public static CustomerVisitEvent of(
+      Long customerId,
+      Long shopId,
+      String treatmentId,
+      LocalDateTime visitTime,
+      LocalDate previousVisitDate) {
+    return new CustomerVisitEvent(
+        UUID.randomUUID().toString(),
+        customerId,
+        shopId,
+        treatmentId,
+        visitTime,
+        previousVisitDate);
+  }
+}
@@ -0,0 +1,17 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+/**
+ * outbox 를 거쳐 커밋 후 비동기로 전달되는 도메인 이벤트.
+ *
+ * <p>같은 이벤트가 다시 전달될 수 있으므로(at-least-once) 소비자는 {@link #eventId()} 로 중복을 걸러야 한다. 같은 고객의 이벤트는 쌓인
+ * 순서대로 전달된다.
+ */
+public interface DomainEvent {
+
+  String eventId();
+
+  Long shopId();
+
+  /** 전달 순서를 지킬 고객. 고객이 없으면 매장 단위로 순서를 지킨다. */
+  Long customerId();
+}
@@ -0,0 +1,39 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 고객 결제 완료
+ *
+ * <p>누적 매출 마일스톤은 이번 결제로 넘어섰을 때만 실행하므로, 결제 전 누적 매출을 함께 담는다.
+ */
+public record PaymentCompletedEvent(
+    String eventId,
+    Long customerId,
+    Long shopId,
+    Long amount,
+    LocalDateTime paymentTime,
+    Long previousTotalRevenue)
+    implements DomainEvent {
+
+  public static PaymentCompletedEvent of(
+      Long customerId,
+      Long shopId,
+      Long amount,
+      LocalDateTime paymentTime,
+      Long previousTotalRevenue) {
+    return new PaymentCompletedEvent(
+        UUID.randomUUID().toString(),
+        customerId,
+        shopId,
+        amount,
+        paymentTime,
+        previousTotalRevenue);
+  }
+
+  /** 결제 후 누적 매출. 결제 전 누적 매출을 모르면 null */
+  public Long totalRevenue() {
+    return previousTotalRevenue != null && amount != null ? previousTotalRevenue + amount : null;
+  }
+}
@@ -1,3 +1,13 @@
 package com.deveagles.be15_deveagles_be.common.events;
 
-public record ReservationCreatedEvent(Long shopId, String customerName) {}
+import java.util.UUID;
+
+/** 고객 예약 신청. 미등록 고객이면 customerId 가 없다. */
+public record ReservationCreatedEvent(
+    String eventId, Long shopId, Long customerId, String customerName) implements DomainEvent {
+
+  public static ReservationCreatedEvent of(Long shopId, Long customerId, String customerName) {
+    return new ReservationCreatedEvent(
+        UUID.randomUUID().toString(), shopId, customerId, customerName);
+  }
+}
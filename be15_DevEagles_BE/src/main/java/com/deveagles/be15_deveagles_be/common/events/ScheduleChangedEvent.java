@@ -0,0 +1,40 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 가능 시간에 영향을 주는 일정 변경(예약, 일정, 휴무, 예약 설정).
+ *
+ * <p>staffId 가 없으면 매장의 모든 직원, 기간이 없으면 모든 날짜가 대상이다.
+ */
+public record ScheduleChangedEvent(
+    Long shopId, Long staffId, LocalDate fromDate, LocalDate toDate) {
+
+  public static ScheduleChangedEvent ofShop(Long shopId) {
+    return new ScheduleChangedEvent(shopId, null, null, null);
+  }
+
+  public static ScheduleChangedEvent ofStaff(Long shopId, Long staffId) {
+    return new ScheduleChangedEvent(shopId, staffId, null, null);
+  }
+
+  public static ScheduleChangedEvent ofDate(Long shopId, Long staffId, LocalDate date) {
+    return new ScheduleChangedEvent(shopId, staffId, date, date);
+  }
+
+  public static ScheduleChangedEvent ofPeriod(
+      Long shopId, Long staffId, LocalDateTime startAt, LocalDateTime endAt) {
+    if (startAt == null) {
+      return ofStaff(shopId, staffId);
+    }
+    LocalDate from = startAt.toLocalDate();
+    LocalDate to = endAt != null && endAt.toLocalDate().isAfter(from) ? endAt.toLocalDate() : from;
+    return new ScheduleChangedEvent(shopId, staffId, from, to);
+  }
+
+  public boolean covers(LocalDate date) {
+    return (fromDate == null || !date.isBefore(fromDate))
+        && (toDate == null || !date.isAfter(toDate));
+  }
+}
@@ -0,0 +1,4 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+/** 매장 워크플로우의 생성, 수정, 삭제, 활성 상태 변경 */
+public record WorkflowChangedEvent(Long shopId) {}
@@ -0,0 +1,110 @@
+package com.deveagles.be15_deveagles_be.common.events.outbox;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 다시 전달된 도메인 이벤트를 소비자마다 한 번만 처리하도록 처리 기록을 남긴다.
+ *
+ * <p>소비자 이름과 이벤트 ID 를 키로 Redis 에 짧은 처리 중 기록을 남기고 작업을 실행한다. 작업이 성공해야(트랜잭션 안이면 커밋된 뒤) 처리 완료 기록으로
+ * 바꾸고, 실패하면 기록을 지운 뒤 예외를 그대로 던져 {@link DomainEventDispatcher} 가 다시 전달하게 한다. 처리 도중 서버가 내려가도 처리 중 기록은
+ * 만료되어 다음 전달에서 다시 처리한다. Redis 를 쓸 수 없으면 이벤트를 놓치지 않도록 처리한다.
+ */
+@Slf4j
+@Component
+public class DomainEventDeduplicator {
+
+  private static final String KEY_PREFIX = "DOMAIN_EVENT_HANDLED:";
+  private static final String PROCESSING = "0";
+  private static final String HANDLED = "1";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  @Value("${domain-event.handled-ttl-hours:72}")
+  private long handledTtlHours = 72;
+
+  @Value("${domain-event.processing-ttl-minutes:10}")
+  private long processingTtlMinutes = 10;
+
+  public DomainEventDeduplicator(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /** 처음 처리하는 이벤트면 작업을 실행하고 true, 이미 처리했거나 처리 중이면 실행하지 않고 false */
+  public boolean handleOnce(String consumer, String eventId, Runnable work) {
+    if (eventId == null) {
+      work.run();
+      return true;
+    }
+
+    String key = KEY_PREFIX + consumer + ":" + eventId;
+    if (!claim(key, consumer, eventId)) {
+      return false;
+    }
+    try {
+      work.run();
+    } catch (RuntimeException e) {
+      delete(key, consumer);
+      throw e;
+    }
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      markHandled(key, consumer);
+      return true;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+              markHandled(key, consumer);
+            } else {
+              delete(key, consumer);
+            }
+          }
+        });
+    return true;
+  }
+
+  private boolean claim(String key, String consumer, String eventId) {
+    try {
+      Boolean first =
+          redisTemplate
+              .opsForValue()
+              .setIfAbsent(key, PROCESSING, Duration.ofMinutes(processingTtlMinutes));
+      if (!Boolean.TRUE.equals(first)) {
+        log.debug("이미 처리한 도메인 이벤트: 소비자={}, 이벤트 ID={}", consumer, eventId);
+        return false;
+      }
+      return true;
+    } catch (Exception e) {
+      log.warn("도메인 이벤트 처리 기록 실패, 그대로 처리: 소비자={}, 오류={}", consumer, e.getMessage());
+      return true;
+    }
+  }
+
+  private void markHandled(String key, String consumer) {
+    try {
+      redisTemplate.opsForValue().set(key, HANDLED, Duration.ofHours(handledTtlHours));
+    } catch (Exception e) {
+      log.warn(
+          "도메인 이벤트 처리 완료 기록 실패 (처리 중 기록 만료 후 재처리될 수 있음): 소비자={}, 오류={}",
+          consumer,
+          e.getMessage());
+    }
+  }
+
+  private void delete(String key, String consumer) {
+    try {
+      redisTemplate.delete(key);
+    } catch (Exception e) {
+      log.warn(
+          "도메인 이벤트 처리 기록 삭제 실패 (만료 후 재처리됨): 소비자={}, 오류={}", consumer, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,274 @@
+package com.deveagles.be15_deveagles_be.common.events.outbox;
+
+import com.deveagles.be15_deveagles_be.common.events.CustomerRegistrationEvent;
+import com.deveagles.be15_deveagles_be.common.events.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.common.events.DomainEvent;
+import com.deveagles.be15_deveagles_be.common.events.PaymentCompletedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ReservationCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트 전달기.
+ *
+ * <p>{@link DomainEventPublisher} 가 쌓은 outbox 를 오래된 순으로 읽어, 고객(고객이 없으면 매장)마다 정해진 작업 줄에 나눠 담고 줄마다
+ * 하나의 스레드에서 순서대로 {@link ApplicationEventPublisher} 로 전달한다. 전달한 행은 지우고, 실패한 행은 시도 횟수와 다음 시도 시각을
+ * 남긴다. 같은 고객의 앞선 이벤트가 실패했거나 재시도를 기다리는 동안에는 그 고객의 뒤 이벤트를 전달하지 않는다. 재시도 한도를 넘은 행은 남겨 두고
+ * 더 전달하지 않는다. 여러 인스턴스 중 한 곳만 처리하도록 묶음마다 Redis 잠금을 잡는다.
+ */
+@Slf4j
+@Component
+public class DomainEventDispatcher {
+
+  static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES =
+      Stream.of(
+              CustomerVisitEvent.class,
+              CustomerRegistrationEvent.class,
+              PaymentCompletedEvent.class,
+              ReservationCreatedEvent.class)
+          .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, type -> type));
+
+  private static final String LOCK_KEY = "DOMAIN_EVENT_OUTBOX:LOCK";
+
+  // 자신이 잡은 잠금만 해제
+  private static final DefaultRedisScript<Long> UNLOCK_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private final DomainEventOutboxRepository outboxRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ScheduledExecutorService poller =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "domain-event-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private ExecutorService workers;
+
+  @Value("${domain-event.dispatcher.enabled:true}")
+  private boolean enabled = true;
+
+  @Value("${domain-event.dispatcher.batch-size:200}")
+  private int batchSize = 200;
+
+  @Value("${domain-event.dispatcher.lanes:4}")
+  private int lanes = 4;
+
+  @Value("${domain-event.dispatcher.poll-interval-ms:500}")
+  private long pollIntervalMillis = 500;
+
+  @Value("${domain-event.dispatcher.max-backoff-ms:60000}")
+  private long maxBackoffMillis = 60000;
+
+  @Value("${domain-event.dispatcher.max-attempts:10}")
+  private int maxAttempts = 10;
+
+  @Value("${domain-event.dispatcher.lock-ttl-seconds:120}")
+  private long lockTtlSeconds = 120;
+
+  private int consecutiveFailures;
+
+  public DomainEventDispatcher(
+      DomainEventOutboxRepository outboxRepository,
+      ApplicationEventPublisher eventPublisher,
+      ObjectMapper objectMapper,
+      RedisTemplate<String, String> redisTemplate) {
+    this.outboxRepository = outboxRepository;
+    this.eventPublisher = eventPublisher;
+    this.objectMapper = objectMapper;
+    this.redisTemplate = redisTemplate;
+  }
+
+  @PostConstruct
+  public void start() {
+    AtomicInteger sequence = new AtomicInteger();
+    workers =
+        Executors.newFixedThreadPool(
+            lanes,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "domain-event-lane-" + sequence.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    if (enabled) {
+      poller.schedule(this::poll, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    poller.shutdownNow();
+    if (workers != null) {
+      workers.shutdownNow();
+    }
+  }
+
+  private void poll() {
+    long delay = pollIntervalMillis;
+    try {
+      if (flush() >= batchSize) {
+        delay = 0;
+      }
+      consecutiveFailures = 0;
+    } catch (Exception e) {
+      consecutiveFailures++;
+      delay = backoff(consecutiveFailures);
+      log.warn(
+          "도메인 이벤트 전달 실패 ({}회 연속), {}ms 후 재시도: {}",
+          consecutiveFailures,
+          delay,
+          e.getMessage());
+    } finally {
+      if (!poller.isShutdown()) {
+        poller.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /** outbox 한 묶음 처리. 전달을 시도한 행 수를 반환한다. */
+  int flush() throws Exception {
+    String token = UUID.randomUUID().toString();
+    Boolean locked =
+        redisTemplate
+            .opsForValue()
+            .setIfAbsent(LOCK_KEY, token, Duration.ofSeconds(lockTtlSeconds));
+    if (!Boolean.TRUE.equals(locked)) {
+      return 0;
+    }
+
+    try {
+      LocalDateTime now = LocalDateTime.now();
+      List<DomainEventOutbox> rows =
+          outboxRepository.findPending(maxAttempts, now, PageRequest.of(0, batchSize));
+      if (rows.isEmpty()) {
+        return 0;
+      }
+
+      // 같은 순서 단위의 이벤트는 항상 같은 줄에 들어가 쌓인 순서대로 전달된다
+      List<List<DomainEventOutbox>> laneRows = new ArrayList<>();
+      for (int i = 0; i < lanes; i++) {
+        laneRows.add(new ArrayList<>());
+      }
+      rows.forEach(
+          row -> laneRows.get(Math.floorMod(row.orderingKey().hashCode(), lanes)).add(row));
+
+      List<Callable<LaneResult>> tasks = new ArrayList<>();
+      laneRows.stream()
+          .filter(lane -> !lane.isEmpty())
+          .forEach(lane -> tasks.add(() -> dispatch(lane, now)));
+
+      List<Long> deliveredIds = new ArrayList<>();
+      List<DomainEventOutbox> failed = new ArrayList<>();
+      for (Future<LaneResult> future : workers.invokeAll(tasks)) {
+        LaneResult result = future.get();
+        deliveredIds.addAll(result.deliveredIds());
+        failed.addAll(result.failed());
+      }
+
+      if (!deliveredIds.isEmpty()) {
+        outboxRepository.deleteAllByIdInBatch(deliveredIds);
+      }
+      if (!failed.isEmpty()) {
+        outboxRepository.saveAll(failed);
+      }
+      log.debug("도메인 이벤트 전달: 성공 {}건, 실패 {}건", deliveredIds.size(), failed.size());
+      return deliveredIds.size() + failed.size();
+    } finally {
+      unlock(token);
+    }
+  }
+
+  private LaneResult dispatch(List<DomainEventOutbox> rows, LocalDateTime now) {
+    List<Long> deliveredIds = new ArrayList<>();
+    List<DomainEventOutbox> failed = new ArrayList<>();
+    Set<String> blocked = new HashSet<>();
+
+    for (DomainEventOutbox row : rows) {
+      if (blocked.contains(row.orderingKey())) {
+        continue;
+      }
+      if (row.isWaiting(now)) {
+        blocked.add(row.orderingKey());
+        continue;
+      }
+
+      try {
+        eventPublisher.publishEvent(deserialize(row));
+        deliveredIds.add(row.getId());
+      } catch (Exception e) {
+        blocked.add(row.orderingKey());
+        row.fail(e.getMessage(), now.plus(Duration.ofMillis(backoff(row.getAttempts() + 1))));
+        failed.add(row);
+        if (row.getAttempts() >= maxAttempts) {
+          log.error(
+              "도메인 이벤트 전달 포기: outboxId={}, 유형={}, 오류={}",
+              row.getId(),
+              row.getEventType(),
+              e.getMessage(),
+              e);
+        } else {
+          log.warn(
+              "도메인 이벤트 전달 실패 ({}회): outboxId={}, 유형={}, 오류={}",
+              row.getAttempts(),
+              row.getId(),
+              row.getEventType(),
+              e.getMessage());
+        }
+      }
+    }
+    return new LaneResult(deliveredIds, failed);
+  }
+
+  private DomainEvent deserialize(DomainEventOutbox row) throws Exception {
+    Class<? extends DomainEvent> type = EVENT_TYPES.get(row.getEventType());
+    if (type == null) {
+      throw new IllegalStateException("알 수 없는 도메인 이벤트 유형: " + row.getEventType());
+    }
+    return objectMapper.readValue(row.getPayload(), type);
+  }
+
+  private long backoff(int failures) {
+    return Math.min(maxBackoffMillis, pollIntervalMillis << Math.min(failures, 16));
+  }
+
+  private void unlock(String token) {
+    try {
+      redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+    } catch (Exception e) {
+      log.warn("도메인 이벤트 전달 잠금 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+    }
+  }
+
+  private record LaneResult(List<Long> deliveredIds, List<DomainEventOutbox> failed) {}
+}
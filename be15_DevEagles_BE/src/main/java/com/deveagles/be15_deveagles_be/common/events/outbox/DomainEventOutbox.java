@@ -0,0 +1,79 @@
+package com.deveagles.be15_deveagles_be.common.events.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/** 전달할 도메인 이벤트. 이벤트를 만든 변경과 같은 트랜잭션에서 쌓고, 전달 후 지운다. */
+@Entity
+@Table(name = "domain_event_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DomainEventOutbox {
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "outbox_id")
+  private Long id;
+
+  @Column(name = "event_id", nullable = false, length = 36)
+  private String eventId;
+
+  @Column(name = "event_type", nullable = false, length = 100)
+  private String eventType;
+
+  @Column(name = "shop_id", nullable = false)
+  private Long shopId;
+
+  @Column(name = "customer_id")
+  private Long customerId;
+
+  @Column(name = "payload", nullable = false, columnDefinition = "json")
+  private String payload;
+
+  @Builder.Default
+  @Column(name = "attempts", nullable = false)
+  private int attempts = 0;
+
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+  private String lastError;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  /** 순서를 지킬 단위. 고객이 없는 이벤트는 매장 단위로 묶는다. */
+  public String orderingKey() {
+    return customerId != null ? "C" + customerId : "S" + shopId;
+  }
+
+  public boolean isWaiting(LocalDateTime now) {
+    return nextAttemptAt != null && nextAttemptAt.isAfter(now);
+  }
+
+  public void fail(String error, LocalDateTime nextAttemptAt) {
+    this.attempts++;
+    this.nextAttemptAt = nextAttemptAt;
+    this.lastError =
+        error != null && error.length() > MAX_ERROR_LENGTH
+            ? error.substring(0, MAX_ERROR_LENGTH)
+            : error;
+  }
+}
@@ -0,0 +1,27 @@
+package com.deveagles.be15_deveagles_be.common.events.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DomainEventOutboxRepository extends JpaRepository<DomainEventOutbox, Long> {
+
+  /**
+   * 재시도 한도를 넘지 않고 지금 전달할 수 있는 이벤트를 쌓인 순서대로. 재시도를 기다리는 행은 묶음을 차지하지 않고, 같은 순서 단위(고객, 고객이 없으면
+   * 매장)에 재시도를 기다리는 앞선 행이 있으면 뒤 이벤트도 꺼내지 않는다.
+   */
+  @Query(
+      "SELECT o FROM DomainEventOutbox o"
+          + " WHERE o.attempts < :maxAttempts"
+          + " AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now)"
+          + " AND NOT EXISTS (SELECT 1 FROM DomainEventOutbox w"
+          + "   WHERE w.id < o.id AND w.attempts < :maxAttempts AND w.nextAttemptAt > :now"
+          + "   AND ((o.customerId IS NOT NULL AND w.customerId = o.customerId)"
+          + "     OR (o.customerId IS NULL AND w.customerId IS NULL AND w.shopId = o.shopId)))"
+          + " ORDER BY o.id ASC")
+  List<DomainEventOutbox> findPending(
+      @Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now, Pageable pageable);
+}
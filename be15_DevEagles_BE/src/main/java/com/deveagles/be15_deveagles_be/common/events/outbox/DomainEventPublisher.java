@@ -0,0 +1,43 @@
+package com.deveagles.be15_deveagles_be.common.events.outbox;
+
+import com.deveagles.be15_deveagles_be.common.events.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 호출한 트랜잭션 안에서 outbox 에 쌓는다.
+ *
+ * <p>변경이 롤백되면 이벤트도 함께 사라지고, 커밋된 이벤트는 {@link DomainEventDispatcher} 가 요청 스레드 밖에서 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+  private final DomainEventOutboxRepository outboxRepository;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(DomainEvent event) {
+    String eventType = event.getClass().getSimpleName();
+    if (!DomainEventDispatcher.EVENT_TYPES.containsKey(eventType)) {
+      throw new IllegalArgumentException("등록되지 않은 도메인 이벤트: " + eventType);
+    }
+
+    try {
+      outboxRepository.save(
+          DomainEventOutbox.builder()
+              .eventId(event.eventId())
+              .eventType(eventType)
+              .shopId(event.shopId())
+              .customerId(event.customerId())
+              .payload(objectMapper.writeValueAsString(event))
+              .build());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("도메인 이벤트 직렬화 실패: " + eventType, e);
+    }
+  }
+}
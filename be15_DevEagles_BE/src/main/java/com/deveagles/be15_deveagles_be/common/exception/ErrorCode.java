@@ -41,6 +41,7 @@ public enum ErrorCode implements ErrorCodeType {
   CUSTOMER_INVALID_PHONE_NUMBER("30005", "유효하지 않은 전화번호 형식입니다", HttpStatus.BAD_REQUEST),
   CUSTOMER_INVALID_BIRTHDATE("30006", "유효하지 않은 생년월일입니다", HttpStatus.BAD_REQUEST),
   SEGMENT_NOT_FOUND("30007", "세그먼트를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+  CUSTOMER_REINDEX_TASK_NOT_FOUND("30008", "재인덱싱 작업을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
 
   // 메시지 관련 에러 (40000번대)
   MESSAGE_SETTINGS_ALREADY_EXISTS("40001", "이미 메시지 설정이 존재합니다.", HttpStatus.BAD_REQUEST),
@@ -83,6 +84,9 @@ public enum ErrorCode implements ErrorCodeType {
   COUPON_INVALID_DISCOUNT_RATE("50009", "유효하지 않은 할인율입니다", HttpStatus.BAD_REQUEST),
   DELETED_COUPON_OPERATION_NOT_ALLOWED(
       "50010", "삭제된 쿠폰은 해당 작업을 수행할 수 없습니다", HttpStatus.BAD_REQUEST),
+  COUPON_ISSUE_JOB_NOT_FOUND("50011", "쿠폰 일괄 발급 작업을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+  COUPON_ISSUE_QUEUE_FULL(
+      "50012", "대기 중인 쿠폰 일괄 발급 작업이 많습니다. 잠시 후 다시 시도해주세요", HttpStatus.TOO_MANY_REQUESTS),
 
   // 캠페인 관련 에러 (51000번대)
   CAMPAIGN_NOT_FOUND("51001", "캠페인을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
@@ -126,6 +130,8 @@ public enum ErrorCode implements ErrorCodeType {
   RESERVATION_NOT_FOUND("71001", "예약을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
   MODIFY_NOT_ALLOWED_FOR_PAID_RESERVATION(
       "71002", "PAID 상태의 예약은 수정할 수 없습니다", HttpStatus.BAD_REQUEST),
+  RESERVATION_TIME_CONFLICT("71003", "해당 시간에 이미 다른 예약이 있습니다", HttpStatus.CONFLICT),
+  RESERVATION_TIME_UNAVAILABLE("71004", "예약할 수 없는 시간입니다", HttpStatus.BAD_REQUEST),
   // 일정 삭제 관련 에러 (72000번대)
   PLAN_NOT_FOUND("72001", "단기 일정이 존재하지 않습니다", HttpStatus.NOT_FOUND),
   REGULAR_PLAN_NOT_FOUND("72002", "정기 일정이 존재하지 않습니다", HttpStatus.NOT_FOUND),
@@ -160,6 +166,8 @@ public enum ErrorCode implements ErrorCodeType {
       "82007", "회원권 유효기간 단위를 입력해주세요.", HttpStatus.BAD_REQUEST),
   CUSTOMERPREPAIDPASS_NOT_FOUND("82008", "고객선불권을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
   CUSTOMERSESSIONPASS_NOT_FOUND("82009", "고객횟수권을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+  CUSTOMERPREPAIDPASS_INSUFFICIENT_BALANCE("82010", "선불권 잔액이 부족합니다.", HttpStatus.BAD_REQUEST),
+  CUSTOMERSESSIONPASS_INSUFFICIENT_COUNT("82011", "횟수권 잔여 횟수가 부족합니다.", HttpStatus.BAD_REQUEST),
   // 매출 관련 에러 (90000번대)
 
   SALES_RETAILPRICE_REQUIRED("90001", "매출정가를 입력해주세요.", HttpStatus.BAD_REQUEST),
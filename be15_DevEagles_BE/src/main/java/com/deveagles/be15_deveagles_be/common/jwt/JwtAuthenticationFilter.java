@@ -1,5 +1,8 @@
 package com.deveagles.be15_deveagles_be.common.jwt;
 
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.StaffStatus;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,27 +30,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       throws ServletException, IOException {
 
     String token = getJwtFromRequest(request);
-    log.info("[AUTH_FILTER] 요청 헤더 토큰: {}", token);
     try {
-      if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+      if (StringUtils.hasText(token)) {
+        // 서명 검증과 claims 추출을 한 번에 수행
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
 
-        if (jwtTokenProvider.isRefreshToken(token)) {
+        if ("refresh".equals(claims.get("type", String.class))) {
           log.warn("# refreshToken으로 접근 시도 차단");
           response.sendError(
               HttpServletResponse.SC_UNAUTHORIZED, "refreshToken은 API 인증에 사용할 수 없습니다.");
           return;
         }
 
-        if (Boolean.TRUE.equals(jwtTokenProvider.isAccessTokenBlacklisted(token))) {
+        if (jwtTokenProvider.isAccessTokenBlacklisted(token)) {
           log.warn("# 블랙리스트 토큰 사용 시도");
           response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다.");
           return;
         }
 
-        String username = jwtTokenProvider.getUsernameFromJWT(token);
-        log.info("## user login -> username: {}", username);
+        UserDetails userDetails = loadPrincipal(claims);
+        log.debug("## user login -> username: {}", userDetails.getUsername());
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
@@ -61,6 +64,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
+  /** 서명된 claims 로 사용자 정보를 구성한다. 필요한 claim 이 없는 토큰만 DB 에서 조회한다. */
+  private UserDetails loadPrincipal(Claims claims) {
+    String shopId = claims.get("shopId", String.class);
+    String userId = claims.get("userId", String.class);
+    String userStatus = claims.get("userStatus", String.class);
+    if (shopId == null || userId == null || userStatus == null) {
+      return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
+    return CustomUser.builder()
+        .shopId(Long.valueOf(shopId))
+        .userId(Long.valueOf(userId))
+        .username(claims.getSubject())
+        .staffStatus(StaffStatus.valueOf(userStatus))
+        .staffName(claims.get("staffName", String.class))
+        .grade(claims.get("grade", String.class))
+        .profileUrl(claims.get("profileUrl", String.class))
+        .build();
+  }
+
   private String getJwtFromRequest(HttpServletRequest request) {
     String bearerToken = request.getHeader("Authorization");
     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
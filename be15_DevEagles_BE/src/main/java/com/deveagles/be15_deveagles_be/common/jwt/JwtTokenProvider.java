@@ -16,7 +16,6 @@ import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
 
@@ -36,8 +35,8 @@ public class JwtTokenProvider {
 
   private SecretKey secretKey;
 
-  private final RedisTemplate<String, String> redisTemplate;
   private final UserRepository userRepository;
+  private final TokenBlacklistCache tokenBlacklistCache;
 
   @PostConstruct
   public void init() {
@@ -113,9 +112,14 @@ public class JwtTokenProvider {
   }
 
   public boolean validateToken(String token) {
+    parseVerifiedClaims(token);
+    return true;
+  }
+
+  /** 서명과 만료를 검증하고 claims 를 반환한다. 요청당 한 번만 파싱하도록 필터에서 사용한다. */
+  public Claims parseVerifiedClaims(String token) {
     try {
-      Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-      return true;
+      return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
     } catch (SecurityException | MalformedJwtException e) {
       throw new BadCredentialsException("Invalid JWT Token", e);
     } catch (ExpiredJwtException e) {
@@ -152,6 +156,6 @@ public class JwtTokenProvider {
   }
 
   public boolean isAccessTokenBlacklisted(String token) {
-    return Boolean.TRUE.equals(redisTemplate.hasKey("BL:" + token));
+    return tokenBlacklistCache.isBlacklisted(token);
   }
 }
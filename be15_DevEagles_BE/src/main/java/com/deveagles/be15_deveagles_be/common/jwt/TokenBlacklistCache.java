@@ -0,0 +1,157 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 access token 블랙리스트의 로컬 사본.
+ *
+ * <p>원본은 Redis 의 {@code BL:{token}} 키이며, 로그아웃 시 채널로 발행된 토큰을 모든 인스턴스가 즉시 반영한다. 채널 메시지를 놓치는 경우를
+ * 대비해 주기적으로 Redis 에서 다시 읽어 온다. 대부분의 요청(블랙리스트가 아닌 토큰)은 네트워크 호출 없이 판별된다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklistCache implements MessageListener {
+
+  public static final String KEY_PREFIX = "BL:";
+  public static final String CHANNEL = "TOKEN_BLACKLIST";
+
+  private static final int SYNC_BATCH_SIZE = 1000;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  // 토큰 -> 만료 시각(ms)
+  private final Map<String, Long> blacklist = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService syncScheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "token-blacklist-sync");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  // 한 번이라도 Redis 와 동기화되기 전에는 Redis 를 직접 조회
+  private volatile boolean synced;
+
+  @Value("${jwt.blacklist.sync-interval-seconds:60}")
+  private long syncIntervalSeconds = 60;
+
+  public TokenBlacklistCache(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    syncScheduler.scheduleWithFixedDelay(
+        this::sync, 0, Math.max(1, syncIntervalSeconds), TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    syncScheduler.shutdownNow();
+  }
+
+  public boolean isBlacklisted(String token) {
+    if (!synced) {
+      return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + token));
+    }
+
+    Long expiresAt = blacklist.get(token);
+    if (expiresAt == null) {
+      return false;
+    }
+    if (expiresAt <= System.currentTimeMillis()) {
+      blacklist.remove(token, expiresAt);
+      return false;
+    }
+    return true;
+  }
+
+  /** 로그아웃 시 모든 인스턴스에 전파할 채널 메시지 ({만료 시각}:{토큰}) */
+  public static String toMessage(String token, long remainMillis) {
+    return (System.currentTimeMillis() + remainMillis) + ":" + token;
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    if (separator <= 0) {
+      return;
+    }
+    try {
+      long expiresAt = Long.parseLong(body.substring(0, separator));
+      blacklist.put(body.substring(separator + 1), expiresAt);
+    } catch (NumberFormatException e) {
+      log.warn("블랙리스트 메시지 형식 오류");
+    }
+  }
+
+  void sync() {
+    try {
+      long now = System.currentTimeMillis();
+      ScanOptions options =
+          ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SYNC_BATCH_SIZE).build();
+      List<String> keys = new ArrayList<>(SYNC_BATCH_SIZE);
+      try (Cursor<String> cursor = redisTemplate.scan(options)) {
+        while (cursor.hasNext()) {
+          keys.add(cursor.next());
+          if (keys.size() == SYNC_BATCH_SIZE) {
+            loadExpirations(keys, now);
+            keys.clear();
+          }
+        }
+      }
+      loadExpirations(keys, now);
+      blacklist.values().removeIf(expiresAt -> expiresAt <= now);
+      synced = true;
+    } catch (Exception e) {
+      log.warn("토큰 블랙리스트 동기화 실패: {}", e.getMessage());
+    }
+  }
+
+  // 키마다 왕복하지 않도록 남은 만료 시간을 묶음 단위 파이프라인으로 조회
+  private void loadExpirations(List<String> keys, long now) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    List<Object> ttls =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (String key : keys) {
+                    connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+                  }
+                  return null;
+                });
+    for (int i = 0; i < keys.size() && i < ttls.size(); i++) {
+      if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+        blacklist.put(keys.get(i).substring(KEY_PREFIX.length()), now + ttl);
+      }
+    }
+  }
+}
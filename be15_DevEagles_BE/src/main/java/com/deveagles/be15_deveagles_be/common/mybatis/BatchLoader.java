@@ -0,0 +1,57 @@
+package com.deveagles.be15_deveagles_be.common.mybatis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 목록 조회 결과에 자식 데이터를 한 번에 붙이는 도구.
+ *
+ * <p>행마다 자식 목록을 따로 조회(N+1)하는 대신, 페이지의 키를 모아 {@code WHERE key IN (...)} 로 한 번 조회하고 메모리에서 행별로
+ * 나눈다. 키가 {@link #MAX_KEYS_PER_QUERY} 개를 넘으면 나누어 조회한다. 매퍼 쪽 조회 쿼리는 {@code <foreach>} 로 키 목록을 받고
+ * 결과에 키 컬럼을 포함해야 한다.
+ */
+public final class BatchLoader {
+
+  public static final int MAX_KEYS_PER_QUERY = 1000;
+
+  private BatchLoader() {}
+
+  /**
+   * @param parents 목록 조회 결과
+   * @param parentKey 행의 키
+   * @param loader 키 목록으로 자식을 조회하는 매퍼 메서드
+   * @param childKey 자식이 속한 행의 키
+   * @param setter 행에 자식 목록을 설정. 자식이 없는 행에는 빈 목록을 설정한다.
+   */
+  public static <P, K, C> void attach(
+      List<P> parents,
+      Function<P, K> parentKey,
+      Function<List<K>, List<C>> loader,
+      Function<C, K> childKey,
+      BiConsumer<P, List<C>> setter) {
+
+    if (parents.isEmpty()) {
+      return;
+    }
+
+    List<K> keys = parents.stream().map(parentKey).filter(Objects::nonNull).distinct().toList();
+
+    Map<K, List<C>> childrenByKey = new HashMap<>();
+    for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_QUERY) {
+      List<K> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, keys.size()));
+      for (C child : loader.apply(chunk)) {
+        childrenByKey.computeIfAbsent(childKey.apply(child), key -> new ArrayList<>()).add(child);
+      }
+    }
+
+    for (P parent : parents) {
+      K key = parentKey.apply(parent);
+      setter.accept(parent, key != null ? childrenByKey.getOrDefault(key, List.of()) : List.of());
+    }
+  }
+}
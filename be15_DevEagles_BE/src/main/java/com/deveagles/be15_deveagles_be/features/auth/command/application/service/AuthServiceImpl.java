@@ -3,6 +3,7 @@ package com.deveagles.be15_deveagles_be.features.auth.command.application.servic
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
+import com.deveagles.be15_deveagles_be.common.jwt.TokenBlacklistCache;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.CheckEmailRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.EmailVerifyRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.LoginRequest;
@@ -106,6 +107,9 @@ public class AuthServiceImpl implements AuthService {
 
     long remainTime = jwtTokenProvider.getRemainingExpiration(accessToken);
     redisTemplate.opsForValue().set("BL:" + accessToken, "logout", Duration.ofMillis(remainTime));
+    // 모든 인스턴스의 블랙리스트 사본에 즉시 반영
+    redisTemplate.convertAndSend(
+        TokenBlacklistCache.CHANNEL, TokenBlacklistCache.toMessage(accessToken, remainTime));
   }
 
   @Override
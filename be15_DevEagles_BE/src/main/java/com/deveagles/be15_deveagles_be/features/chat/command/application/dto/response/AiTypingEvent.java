@@ -0,0 +1,4 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response;
+
+/** AI 응답 생성 중 여부 (/sub/chatroom/{roomId}/typing 으로 전송) */
+public record AiTypingEvent(String chatroomId, boolean typing) {}
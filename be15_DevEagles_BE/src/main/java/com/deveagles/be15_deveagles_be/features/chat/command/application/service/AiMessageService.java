@@ -1,16 +1,20 @@
 package com.deveagles.be15_deveagles_be.features.chat.command.application.service;
 
-import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
-import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.AiTypingEvent;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
 import com.deveagles.be15_deveagles_be.features.chat.config.WebClientConfig.*;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,47 +22,107 @@ import org.springframework.http.MediaType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * AI 상담 응답 처리.
+ *
+ * <p>호출 스레드(STOMP inbound)는 입력을 채팅방 버퍼에 넣고 바로 반환한다. 짧은 시간 안에 이어진 입력은 한 번의 Webhook 호출로 합치고, 채팅방당
+ * 호출은 한 번에 하나, 매장당 동시 호출 수는 제한한다. 응답을 기다리는 동안 입력 중 이벤트를 보내며, 시간 제한을 넘기면 응답 없이 종료한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiMessageService {
 
-  private final ChatRoomRepository chatRoomRepository;
+  private static final Long UNKNOWN_SHOP_ID = -1L;
+
   private final ChatMessageRepository chatMessageRepository;
   private final SimpMessagingTemplate messagingTemplate;
   private final WebClient webClient;
 
+  private final Map<String, RoomBuffer> roomBuffers = new ConcurrentHashMap<>();
+  private final Map<Long, ShopSlots> shopSlots = new ConcurrentHashMap<>();
+
   @Value("${webhook.ai-url}") // .env에서 관리
   private String aiWebhookUrl;
 
-  public void handleAiResponse(String roomId, String userInput) {
-    ChatRoom chatRoom =
-        chatRoomRepository
-            .findById(roomId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.CHATROOM_NOT_FOUND));
+  @Value("${chat.ai.timeout-seconds:30}")
+  private long timeoutSeconds = 30;
 
-    String aiOutput;
-    try {
-      aiOutput =
-          webClient
-              .post()
-              .uri(aiWebhookUrl)
-              .contentType(MediaType.APPLICATION_JSON)
-              .bodyValue(
-                  Map.of(
-                      "sessionId", roomId,
-                      "chatInput", userInput,
-                      "action", "sendMessage"))
-              .retrieve()
-              .bodyToMono(JsonNode.class)
-              .map(json -> json.get("output").asText())
-              .block();
-    } catch (Exception e) {
-      log.error("[AI] Webhook 호출 실패", e);
-      return;
-    }
+  @Value("${chat.ai.max-concurrent-per-shop:2}")
+  private int maxConcurrentPerShop = 2;
+
+  // 마지막 입력 후 이 시간 동안 추가 입력이 없으면 호출
+  @Value("${chat.ai.coalesce-window-millis:800}")
+  private long coalesceWindowMillis = 800;
 
+  // 입력이 계속 이어져도 첫 입력 후 이 시간이 지나면 호출
+  @Value("${chat.ai.coalesce-max-wait-millis:3000}")
+  private long coalesceMaxWaitMillis = 3000;
+
+  /**
+   * 고객 메시지를 AI 응답 대기열에 넣는다. Webhook 호출과 응답 저장/전송은 비동기로 처리된다.
+   *
+   * @param chatRoom 메시지가 저장된 채팅방
+   * @param userInput 고객 입력
+   */
+  public void handleAiResponse(ChatRoom chatRoom, String userInput) {
+    Long shopId =
+        chatRoom.getParticipant() != null && chatRoom.getParticipant().getShopId() != null
+            ? chatRoom.getParticipant().getShopId()
+            : UNKNOWN_SHOP_ID;
+
+    roomBuffers.compute(
+        chatRoom.getId(),
+        (roomId, buffer) -> {
+          RoomBuffer target = buffer != null ? buffer : new RoomBuffer(roomId, shopId);
+          target.add(userInput);
+          return target;
+        });
+  }
+
+  private void requestReply(RoomBuffer buffer, String input) {
+    shopSlots
+        .computeIfAbsent(buffer.shopId, id -> new ShopSlots())
+        .acquire(() -> callWebhook(buffer, input));
+  }
+
+  private void callWebhook(RoomBuffer buffer, String input) {
+    String roomId = buffer.roomId;
+    sendTyping(roomId, true);
+
+    Mono.defer(
+            () ->
+                webClient
+                    .post()
+                    .uri(aiWebhookUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(
+                        Map.of(
+                            "sessionId", roomId,
+                            "chatInput", input,
+                            "action", "sendMessage"))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class))
+        .timeout(Duration.ofSeconds(timeoutSeconds))
+        .map(json -> json.get("output").asText())
+        // Mongo 저장은 블로킹이므로 별도 스케줄러에서 수행
+        .publishOn(Schedulers.boundedElastic())
+        .doOnNext(output -> saveAndSend(roomId, output))
+        .doFinally(
+            signal -> {
+              sendTyping(roomId, false);
+              shopSlots.get(buffer.shopId).release();
+              buffer.complete();
+            })
+        .subscribe(
+            output -> {}, e -> log.error("[AI] Webhook 호출 실패 - roomId: {}", roomId, e));
+  }
+
+  private void saveAndSend(String roomId, String aiOutput) {
     ChatMessage message =
         ChatMessage.builder()
             .chatroomId(roomId)
@@ -73,4 +137,110 @@ public class AiMessageService {
     ChatMessageResponse response = ChatMessageResponse.from(message);
     messagingTemplate.convertAndSend("/sub/chatroom/" + roomId, response);
   }
+
+  private void sendTyping(String roomId, boolean typing) {
+    try {
+      messagingTemplate.convertAndSend(
+          "/sub/chatroom/" + roomId + "/typing", new AiTypingEvent(roomId, typing));
+    } catch (Exception e) {
+      log.warn("[AI] 입력 중 이벤트 전송 실패 - roomId: {}, 오류: {}", roomId, e.getMessage());
+    }
+  }
+
+  /** 채팅방별 입력 버퍼. 호출 중에 들어온 입력은 호출이 끝난 뒤 한 번에 보낸다. */
+  private final class RoomBuffer {
+
+    private final String roomId;
+    private final Long shopId;
+    private final List<String> inputs = new ArrayList<>();
+    private Disposable timer;
+    private long firstInputAt;
+    private boolean inFlight;
+
+    private RoomBuffer(String roomId, Long shopId) {
+      this.roomId = roomId;
+      this.shopId = shopId;
+    }
+
+    private synchronized void add(String input) {
+      inputs.add(input);
+      if (firstInputAt == 0) {
+        firstInputAt = System.currentTimeMillis();
+      }
+      if (!inFlight) {
+        schedule();
+      }
+    }
+
+    private synchronized boolean isIdle() {
+      return !inFlight && inputs.isEmpty();
+    }
+
+    private void schedule() {
+      if (timer != null) {
+        timer.dispose();
+      }
+      long waited = System.currentTimeMillis() - firstInputAt;
+      long delay = Math.max(0, Math.min(coalesceWindowMillis, coalesceMaxWaitMillis - waited));
+      timer = Mono.delay(Duration.ofMillis(delay)).subscribe(tick -> fire());
+    }
+
+    private void fire() {
+      String input;
+      synchronized (this) {
+        if (inFlight || inputs.isEmpty()) {
+          return;
+        }
+        input = String.join("\n", inputs);
+        inputs.clear();
+        firstInputAt = 0;
+        timer = null;
+        inFlight = true;
+      }
+      requestReply(this, input);
+    }
+
+    private void complete() {
+      synchronized (this) {
+        inFlight = false;
+        if (!inputs.isEmpty()) {
+          schedule();
+          return;
+        }
+      }
+      roomBuffers.computeIfPresent(
+          roomId, (id, buffer) -> buffer == this && buffer.isIdle() ? null : buffer);
+    }
+  }
+
+  /** 매장별 동시 호출 제한. 한도를 넘은 호출은 앞선 호출이 끝날 때까지 대기한다. */
+  private final class ShopSlots {
+
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private int inFlight;
+
+    private void acquire(Runnable task) {
+      synchronized (this) {
+        if (inFlight >= maxConcurrentPerShop) {
+          waiting.add(task);
+          return;
+        }
+        inFlight++;
+      }
+      task.run();
+    }
+
+    private void release() {
+      Runnable next;
+      synchronized (this) {
+        next = waiting.poll();
+        if (next == null) {
+          inFlight--;
+        }
+      }
+      if (next != null) {
+        next.run();
+      }
+    }
+  }
 }
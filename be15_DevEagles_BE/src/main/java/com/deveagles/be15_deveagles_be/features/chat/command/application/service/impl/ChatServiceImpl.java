@@ -61,7 +61,7 @@ public class ChatServiceImpl implements ChatService {
     // WebSocket 브로커 전송
     messagingTemplate.convertAndSend("/sub/chatroom/" + chatRoom.getId(), response);
     if (chatRoom.isAiActive()) {
-      aiMessageService.handleAiResponse(chatRoom.getId(), request.getContent());
+      aiMessageService.handleAiResponse(chatRoom, request.getContent());
     }
     return response;
   }
@@ -0,0 +1,196 @@
+package com.deveagles.be15_deveagles_be.features.chat.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * Redis 를 통해 서버 인스턴스 간 STOMP 메시지를 중계하는 브로커 채널 인터셉터 ({@code chat.broker.mode=redis}).
+ *
+ * <p>이 인스턴스에서 {@code /sub} 로 보낸 메시지는 로컬 심플 브로커로 그대로 전달하고, 같은 내용을 목적지(채팅방)별 Redis 채널로 발행한다. 각
+ * 인스턴스는 로컬 구독자가 있는 목적지의 채널만 구독하므로 채팅방 단위로만 메시지가 퍼진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatBrokerRelay implements ChannelInterceptor, MessageListener {
+
+  private static final String DESTINATION_PREFIX = "/sub/";
+  private static final String CHANNEL_PREFIX = "CHAT_BROKER:";
+  // 다른 인스턴스에서 중계된 메시지 표시 (다시 발행하지 않음)
+  private static final String RELAYED_HEADER = "relayed";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  // 목적지별 로컬 구독 수
+  private final Map<String, Integer> subscriptionCounts = new ConcurrentHashMap<>();
+  // 세션별 구독 ID -> 목적지
+  private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+  public RedisChatBrokerRelay(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Lazy SimpMessagingTemplate messagingTemplate,
+      ObjectMapper objectMapper) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.messagingTemplate = messagingTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  /** 브로커 채널로 들어온 메시지를 다른 인스턴스로 발행한다. 로컬 전달은 그대로 진행한다. */
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    if (destination == null
+        || !destination.startsWith(DESTINATION_PREFIX)
+        || message.getHeaders().containsKey(RELAYED_HEADER)
+        || !(message.getPayload() instanceof byte[] payload)) {
+      return message;
+    }
+
+    MimeType contentType = SimpMessageHeaderAccessor.getContentType(message.getHeaders());
+    try {
+      String body =
+          objectMapper.writeValueAsString(
+              new RelayedMessage(
+                  nodeId,
+                  destination,
+                  contentType != null ? contentType.toString() : null,
+                  payload));
+      redisTemplate.convertAndSend(CHANNEL_PREFIX + destination, body);
+    } catch (Exception e) {
+      log.warn("채팅 메시지 중계 발행 실패 - destination: {}, 오류: {}", destination, e.getMessage());
+    }
+    return message;
+  }
+
+  /** 다른 인스턴스에서 발행한 메시지를 로컬 구독자에게 전달한다. */
+  @Override
+  public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+    RelayedMessage relayed;
+    try {
+      relayed = objectMapper.readValue(message.getBody(), RelayedMessage.class);
+    } catch (IOException e) {
+      log.warn("채팅 중계 메시지 해석 실패: {}", e.getMessage());
+      return;
+    }
+    if (nodeId.equals(relayed.origin())) {
+      return;
+    }
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(relayed.destination());
+    if (relayed.contentType() != null) {
+      accessor.setContentType(MimeTypeUtils.parseMimeType(relayed.contentType()));
+    }
+    accessor.setHeader(RELAYED_HEADER, true);
+    accessor.setLeaveMutable(true);
+
+    messagingTemplate.send(
+        relayed.destination(),
+        MessageBuilder.createMessage(relayed.payload(), accessor.getMessageHeaders()));
+  }
+
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    if (destination == null
+        || !destination.startsWith(DESTINATION_PREFIX)
+        || accessor.getSessionId() == null
+        || accessor.getSubscriptionId() == null) {
+      return;
+    }
+
+    sessionSubscriptions
+        .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+        .put(accessor.getSubscriptionId(), destination);
+    retain(destination);
+  }
+
+  @EventListener
+  public void onUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+      return;
+    }
+
+    Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+    if (subscriptions != null) {
+      String destination = subscriptions.remove(accessor.getSubscriptionId());
+      if (destination != null) {
+        release(destination);
+      }
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+    if (subscriptions != null) {
+      subscriptions.values().forEach(this::release);
+    }
+  }
+
+  int getSubscriptionCount(String destination) {
+    return subscriptionCounts.getOrDefault(destination, 0);
+  }
+
+  // 첫 로컬 구독자가 생기면 해당 목적지 채널 구독
+  private void retain(String destination) {
+    subscriptionCounts.compute(
+        destination,
+        (key, count) -> {
+          if (count == null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + key));
+            return 1;
+          }
+          return count + 1;
+        });
+  }
+
+  // 마지막 로컬 구독자가 떠나면 해당 목적지 채널 구독 해제
+  private void release(String destination) {
+    subscriptionCounts.computeIfPresent(
+        destination,
+        (key, count) -> {
+          if (count <= 1) {
+            listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + key));
+            return null;
+          }
+          return count - 1;
+        });
+  }
+
+  /** Redis 채널로 주고받는 STOMP 메시지. payload 는 이미 변환된 메시지 본문이다. */
+  record RelayedMessage(String origin, String destination, String contentType, byte[] payload) {}
+}
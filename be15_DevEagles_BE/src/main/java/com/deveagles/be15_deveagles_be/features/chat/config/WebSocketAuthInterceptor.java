@@ -34,7 +34,6 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
       log.info("📩 WebSocket CONNECT 요청 도착");
 
       String token = extractTokenFromHeaders(accessor);
-      log.info("📩 헤더에서 추출한 토큰: {}", token);
 
       if (!StringUtils.hasText(token) || !jwtTokenProvider.validateToken(token)) {
         throw new BusinessException(ErrorCode.WEBSOCKET_INVALID_TOKEN);
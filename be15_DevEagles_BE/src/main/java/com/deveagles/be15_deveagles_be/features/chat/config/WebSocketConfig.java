@@ -1,19 +1,68 @@
 package com.deveagles.be15_deveagles_be.features.chat.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/**
+ * STOMP 채팅 설정.
+ *
+ * <p>{@code chat.broker.mode} 로 브로커 방식을 고른다.
+ *
+ * <ul>
+ *   <li>{@code simple}: 인스턴스 내장 브로커 (단일 인스턴스용)
+ *   <li>{@code redis}: 내장 브로커 + {@link RedisChatBrokerRelay} 로 인스턴스 간 중계
+ *   <li>{@code relay}: 외부 STOMP 브로커(ActiveMQ 등)로 중계
+ * </ul>
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+  private final ObjectProvider<RedisChatBrokerRelay> redisChatBrokerRelay;
+
+  @Value("${chat.broker.mode:simple}")
+  private String brokerMode = "simple";
+
+  @Value("${chat.broker.relay.host:localhost}")
+  private String relayHost = "localhost";
+
+  @Value("${chat.broker.relay.port:61613}")
+  private int relayPort = 61613;
+
+  @Value("${chat.broker.relay.login:guest}")
+  private String relayLogin = "guest";
+
+  @Value("${chat.broker.relay.passcode:guest}")
+  private String relayPasscode = "guest";
+
+  @Value("${chat.websocket.outbound-core-pool-size:8}")
+  private int outboundCorePoolSize = 8;
+
+  @Value("${chat.websocket.outbound-max-pool-size:32}")
+  private int outboundMaxPoolSize = 32;
+
+  @Value("${chat.websocket.outbound-queue-capacity:1000}")
+  private int outboundQueueCapacity = 1000;
+
+  // 느린 클라이언트: 전송 시간 또는 버퍼 한도를 넘으면 세션 종료
+  @Value("${chat.websocket.send-time-limit-millis:10000}")
+  private int sendTimeLimitMillis = 10000;
+
+  @Value("${chat.websocket.send-buffer-size-limit:524288}")
+  private int sendBufferSizeLimit = 512 * 1024;
+
+  @Value("${chat.websocket.message-size-limit:65536}")
+  private int messageSizeLimit = 64 * 1024;
 
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -22,7 +71,20 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
-    registry.enableSimpleBroker("/sub");
+    if ("relay".equalsIgnoreCase(brokerMode)) {
+      registry
+          .enableStompBrokerRelay("/sub")
+          .setRelayHost(relayHost)
+          .setRelayPort(relayPort)
+          .setClientLogin(relayLogin)
+          .setClientPasscode(relayPasscode)
+          .setSystemLogin(relayLogin)
+          .setSystemPasscode(relayPasscode);
+    } else {
+      registry.enableSimpleBroker("/sub");
+      redisChatBrokerRelay.ifAvailable(
+          relay -> registry.configureBrokerChannel().interceptors(relay));
+    }
     registry.setApplicationDestinationPrefixes("/pub");
   }
 
@@ -30,4 +92,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   public void configureClientInboundChannel(ChannelRegistration registration) {
     registration.interceptors(webSocketAuthInterceptor);
   }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration
+        .taskExecutor()
+        .corePoolSize(outboundCorePoolSize)
+        .maxPoolSize(outboundMaxPoolSize)
+        .queueCapacity(outboundQueueCapacity);
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration
+        .setSendTimeLimit(sendTimeLimitMillis)
+        .setSendBufferSizeLimit(sendBufferSizeLimit)
+        .setMessageSizeLimit(messageSizeLimit);
+  }
 }
@@ -0,0 +1,243 @@
+package com.deveagles.be15_deveagles_be.features.coupons.application.command;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
+import com.deveagles.be15_deveagles_be.features.coupons.domain.service.CouponCodeGenerator;
+import com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository.CouponJdbcRepository;
+import com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository.CouponJpaRepository;
+import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.response.CouponIssueJobResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 일괄 발급.
+ *
+ * <p>같은 조건의 개인 코드 쿠폰을 대량으로 발급한다. 요청은 작업으로 등록해 바로 돌려주고, 전용 스레드가 묶음 단위로 처리한다. 묶음마다 메모리에서
+ * 겹치지 않는 코드를 만들고 이미 있는 코드를 한 번에 확인해 바꾼 뒤 JDBC batch 로 저장하므로, 고유 제약 위반으로 중간에 멈추지 않는다. 확인과 저장
+ * 사이에 다른 요청이 같은 코드를 쓰면 그 묶음만 새 코드로 다시 저장한다.
+ *
+ * <p>진행 상태는 Redis 에 남겨 어느 인스턴스에서나 조회할 수 있다. 실패하면 그때까지 저장한 묶음은 그대로 두고 발급 수를 기록한다.
+ */
+@Slf4j
+@Service
+public class CouponBulkIssueService {
+
+  private static final String JOB_KEY_PREFIX = "COUPON_ISSUE_JOB:";
+  private static final int MAX_CODES_PER_QUERY = 1000;
+  private static final int MAX_CODE_ATTEMPTS = 10;
+
+  private final CouponJpaRepository couponJpaRepository;
+  private final CouponJdbcRepository couponJdbcRepository;
+  private final CouponCodeGenerator couponCodeGenerator;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final AtomicInteger pendingJobs = new AtomicInteger();
+  private ExecutorService executor;
+
+  @Value("${coupon.bulk-issue.chunk-size:1000}")
+  private int chunkSize = 1000;
+
+  @Value("${coupon.bulk-issue.max-pending-jobs:10}")
+  private int maxPendingJobs = 10;
+
+  @Value("${coupon.bulk-issue.max-chunk-attempts:3}")
+  private int maxChunkAttempts = 3;
+
+  @Value("${coupon.bulk-issue.job-ttl-hours:24}")
+  private long jobTtlHours = 24;
+
+  public CouponBulkIssueService(
+      CouponJpaRepository couponJpaRepository,
+      CouponJdbcRepository couponJdbcRepository,
+      CouponCodeGenerator couponCodeGenerator,
+      RedisTemplate<String, String> redisTemplate,
+      ObjectMapper objectMapper) {
+    this.couponJpaRepository = couponJpaRepository;
+    this.couponJdbcRepository = couponJdbcRepository;
+    this.couponCodeGenerator = couponCodeGenerator;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  @PostConstruct
+  public void start() {
+    executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "coupon-bulk-issuer");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  public CouponIssueJobResponse startBulkIssue(Long shopId, BulkIssueCouponRequest request) {
+    if (pendingJobs.incrementAndGet() > maxPendingJobs) {
+      pendingJobs.decrementAndGet();
+      throw new BusinessException(ErrorCode.COUPON_ISSUE_QUEUE_FULL);
+    }
+
+    Coupon template =
+        Coupon.builder()
+            .couponTitle(request.getCouponTitle())
+            .shopId(shopId)
+            .staffId(request.getStaffId())
+            .primaryItemId(request.getPrimaryItemId())
+            .secondaryItemId(request.getSecondaryItemId())
+            .discountRate(request.getDiscountRate())
+            .expirationDate(request.getExpirationDate())
+            .isActive(request.getIsActive())
+            .build();
+    CouponIssueJobResponse job =
+        CouponIssueJobResponse.queued(
+            UUID.randomUUID().toString(), shopId, request.getQuantity());
+    saveJob(job);
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              issue(job, template);
+            } finally {
+              pendingJobs.decrementAndGet();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      pendingJobs.decrementAndGet();
+      throw new BusinessException(ErrorCode.COUPON_ISSUE_QUEUE_FULL);
+    }
+
+    log.info(
+        "쿠폰 일괄 발급 등록 - 작업ID: {}, 매장ID: {}, 수량: {}", job.jobId(), shopId, job.requested());
+    return job;
+  }
+
+  public CouponIssueJobResponse getJob(String jobId, Long shopId) {
+    CouponIssueJobResponse job = readJob(jobId);
+    if (job == null || !job.shopId().equals(shopId)) {
+      throw new BusinessException(ErrorCode.COUPON_ISSUE_JOB_NOT_FOUND);
+    }
+    return job;
+  }
+
+  void issue(CouponIssueJobResponse job, Coupon template) {
+    CouponIssueJobResponse current = job.running(0);
+    saveJob(current);
+    long startedAt = System.currentTimeMillis();
+
+    try {
+      int issued = 0;
+      while (issued < job.requested()) {
+        int size = Math.min(chunkSize, job.requested() - issued);
+        insertChunk(template, size);
+        issued += size;
+        current = current.running(issued);
+        saveJob(current);
+      }
+      saveJob(current.completed());
+      log.info(
+          "쿠폰 일괄 발급 완료 - 작업ID: {}, 발급: {}장, 소요: {}ms",
+          job.jobId(),
+          issued,
+          System.currentTimeMillis() - startedAt);
+    } catch (Exception e) {
+      log.error(
+          "쿠폰 일괄 발급 실패 - 작업ID: {}, 발급: {}/{}장, 오류: {}",
+          job.jobId(),
+          current.issued(),
+          job.requested(),
+          e.getMessage(),
+          e);
+      saveJob(current.failed(e.getMessage()));
+    }
+  }
+
+  private void insertChunk(Coupon template, int size) {
+    for (int attempt = 1; ; attempt++) {
+      List<String> codes = freshCouponCodes(size);
+      try {
+        couponJdbcRepository.insertAll(template, codes);
+        return;
+      } catch (DuplicateKeyException e) {
+        // 확인 뒤 다른 요청이 같은 코드를 저장한 경우. 묶음 전체가 롤백되었으므로 새 코드로 다시 저장한다
+        if (attempt >= maxChunkAttempts) {
+          throw e;
+        }
+        log.warn("쿠폰 일괄 발급 코드 충돌 - {}번째 시도, 새 코드로 재시도", attempt);
+      }
+    }
+  }
+
+  /** 서로 겹치지 않고 아직 쓰이지 않은 코드 size 개 */
+  List<String> freshCouponCodes(int size) {
+    Set<String> codes = couponCodeGenerator.generateCouponCodes(size);
+    for (int attempt = 1; attempt <= MAX_CODE_ATTEMPTS; attempt++) {
+      List<String> existing = findExistingCodes(codes);
+      if (existing.isEmpty()) {
+        return new ArrayList<>(codes);
+      }
+
+      existing.forEach(codes::remove);
+      while (codes.size() < size) {
+        codes.addAll(couponCodeGenerator.generateCouponCodes(size - codes.size()));
+      }
+    }
+    throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "쿠폰 코드 생성에 실패했습니다");
+  }
+
+  private List<String> findExistingCodes(Set<String> codes) {
+    List<String> all = new ArrayList<>(codes);
+    List<String> existing = new ArrayList<>();
+    for (int from = 0; from < all.size(); from += MAX_CODES_PER_QUERY) {
+      existing.addAll(
+          couponJpaRepository.findExistingCouponCodes(
+              all.subList(from, Math.min(from + MAX_CODES_PER_QUERY, all.size()))));
+    }
+    return existing;
+  }
+
+  private void saveJob(CouponIssueJobResponse job) {
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(
+              JOB_KEY_PREFIX + job.jobId(),
+              objectMapper.writeValueAsString(job),
+              Duration.ofHours(jobTtlHours));
+    } catch (Exception e) {
+      log.warn("쿠폰 일괄 발급 상태 저장 실패 - 작업ID: {}, 오류: {}", job.jobId(), e.getMessage());
+    }
+  }
+
+  private CouponIssueJobResponse readJob(String jobId) {
+    try {
+      String json = redisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+      return json != null ? objectMapper.readValue(json, CouponIssueJobResponse.class) : null;
+    } catch (Exception e) {
+      log.warn("쿠폰 일괄 발급 상태 조회 실패 - 작업ID: {}, 오류: {}", jobId, e.getMessage());
+      return null;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.deveagles.be15_deveagles_be.features.coupons.application.command;
 
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.coupons.application.validation.support.CouponCodeCache;
 import com.deveagles.be15_deveagles_be.features.coupons.common.CouponDto;
 import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
 import com.deveagles.be15_deveagles_be.features.coupons.domain.service.CouponCodeGenerator;
@@ -20,6 +21,7 @@ public class CouponCommandServiceImpl implements CouponCommandService {
 
   private final CouponJpaRepository couponJpaRepository;
   private final CouponCodeGenerator couponCodeGenerator;
+  private final CouponCodeCache couponCodeCache;
 
   @Override
   public CouponDto createCoupon(CreateCouponRequest command) {
@@ -88,6 +90,7 @@ public class CouponCommandServiceImpl implements CouponCommandService {
 
     coupon.softDelete();
     couponJpaRepository.save(coupon);
+    couponCodeCache.evict(coupon.getCouponCode());
     log.info("쿠폰 삭제 완료 - ID: {}, 매장ID: {}", command.getId(), command.getShopId());
   }
 
@@ -118,6 +121,7 @@ public class CouponCommandServiceImpl implements CouponCommandService {
     }
 
     Coupon savedCoupon = couponJpaRepository.save(coupon);
+    couponCodeCache.evict(savedCoupon.getCouponCode());
     return CouponDto.from(savedCoupon);
   }
 }
@@ -1,11 +1,11 @@
 package com.deveagles.be15_deveagles_be.features.coupons.application.validation;
 
+import com.deveagles.be15_deveagles_be.features.coupons.application.validation.support.CouponCodeCache;
+import com.deveagles.be15_deveagles_be.features.coupons.application.validation.support.CouponCodeCache.CachedCoupon;
 import com.deveagles.be15_deveagles_be.features.coupons.common.CouponResponseFactory;
 import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
-import com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository.CouponJpaRepository;
 import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.request.CouponApplicationRequest;
 import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.response.CouponValidationResponse;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,20 +17,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class CouponValidationService {
 
-  private final CouponJpaRepository couponJpaRepository;
+  private final CouponCodeCache couponCodeCache;
   private final CouponResponseFactory couponResponseFactory;
 
   public CouponValidationResponse validateForSale(CouponApplicationRequest request) {
     log.info("쿠폰 검증 시작 - 코드: {}, 매장ID: {}", request.getCouponCode(), request.getShopId());
 
-    Optional<Coupon> couponOpt =
-        couponJpaRepository.findByCouponCodeAndDeletedAtIsNull(request.getCouponCode());
+    CachedCoupon cached = couponCodeCache.get(request.getCouponCode());
 
-    if (couponOpt.isEmpty()) {
+    if (cached == null) {
       return couponResponseFactory.createInvalidResponse("쿠폰을 찾을 수 없습니다");
     }
 
-    Coupon coupon = couponOpt.get();
+    Coupon coupon = cached.toCoupon();
 
     if (!coupon.isUsableForShop(request.getShopId())) {
       return couponResponseFactory.createInvalidResponse("해당 매장에서 사용할 수 없는 쿠폰입니다");
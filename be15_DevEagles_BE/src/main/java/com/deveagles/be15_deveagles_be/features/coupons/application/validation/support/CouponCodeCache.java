@@ -0,0 +1,86 @@
+package com.deveagles.be15_deveagles_be.features.coupons.application.validation.support;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
+import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
+import com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository.CouponJpaRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 코드별 쿠폰 캐시. 삭제되지 않은 쿠폰만 담는다.
+ *
+ * <p>없는 코드는 캐시하지 않아 새로 발급한 쿠폰이 바로 보인다. 만료 여부는 꺼낸 뒤 판단하므로 만료일이 지나도 무효화하지 않는다. 쿠폰을 삭제하거나
+ * 활성 상태를 바꾸면 {@link #evict} 한다.
+ */
+@Component
+public class CouponCodeCache extends ReferenceCache<String, CouponCodeCache.CachedCoupon> {
+
+  private final CouponJpaRepository couponJpaRepository;
+
+  public CouponCodeCache(ReferenceCacheRegistry registry, CouponJpaRepository couponJpaRepository) {
+    super("coupon-code", registry, new TypeReference<>() {});
+    this.couponJpaRepository = couponJpaRepository;
+  }
+
+  @Override
+  protected CachedCoupon load(String couponCode) {
+    return couponJpaRepository
+        .findByCouponCodeAndDeletedAtIsNull(couponCode)
+        .map(CachedCoupon::from)
+        .orElse(null);
+  }
+
+  @Override
+  protected boolean isCacheable(CachedCoupon coupon) {
+    return coupon != null;
+  }
+
+  public record CachedCoupon(
+      Long id,
+      String couponCode,
+      String couponTitle,
+      Long shopId,
+      Long staffId,
+      Long primaryItemId,
+      Long secondaryItemId,
+      Integer discountRate,
+      LocalDate expirationDate,
+      Boolean isActive,
+      LocalDateTime createdAt) {
+
+    public static CachedCoupon from(Coupon coupon) {
+      return new CachedCoupon(
+          coupon.getId(),
+          coupon.getCouponCode(),
+          coupon.getCouponTitle(),
+          coupon.getShopId(),
+          coupon.getStaffId(),
+          coupon.getPrimaryItemId(),
+          coupon.getSecondaryItemId(),
+          coupon.getDiscountRate(),
+          coupon.getExpirationDate(),
+          coupon.getIsActive(),
+          coupon.getCreatedAt());
+    }
+
+    /** 영속성 컨텍스트에 속하지 않는 쿠폰 */
+    public Coupon toCoupon() {
+      return Coupon.builder()
+          .id(id)
+          .couponCode(couponCode)
+          .couponTitle(couponTitle)
+          .shopId(shopId)
+          .staffId(staffId)
+          .primaryItemId(primaryItemId)
+          .secondaryItemId(secondaryItemId)
+          .discountRate(discountRate)
+          .expirationDate(expirationDate)
+          .isActive(isActive)
+          .createdAt(createdAt)
+          .build();
+    }
+  }
+}
@@ -3,6 +3,8 @@ package com.deveagles.be15_deveagles_be.features.coupons.domain.service;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -26,6 +28,16 @@ public class CouponCodeGenerator {
     return customPrefix + dateStr + randomCode;
   }
 
+  /** 서로 다른 쿠폰 코드 count 개. 같은 날짜의 코드끼리 겹치지 않도록 메모리에서 중복을 걸러 채운다. */
+  public Set<String> generateCouponCodes(int count) {
+    String prefix = PREFIX + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyMMdd"));
+    Set<String> codes = new LinkedHashSet<>(count * 2);
+    while (codes.size() < count) {
+      codes.add(prefix + generateSecureRandomString(8));
+    }
+    return codes;
+  }
+
   public String generateShortCouponCode() {
     String randomCode = generateSecureRandomString(10);
     return PREFIX + randomCode;
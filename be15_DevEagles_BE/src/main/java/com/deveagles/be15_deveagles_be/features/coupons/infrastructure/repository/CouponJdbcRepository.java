@@ -0,0 +1,54 @@
+package com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository;
+
+import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 쿠폰 일괄 저장.
+ *
+ * <p>같은 조건의 쿠폰을 코드만 바꿔 JDBC batch 로 저장한다. 한 번 호출이 한 트랜잭션이며, 코드 하나라도 겹치면 전체가 롤백된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponJdbcRepository {
+
+  private static final String INSERT_COUPON =
+      "INSERT INTO coupon (coupon_code, coupon_title, shop_id, staff_id, primary_item_id,"
+          + " secondary_item_id, discount_rate, expiration_date, is_active, created_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void insertAll(Coupon template, List<String> couponCodes) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        INSERT_COUPON,
+        couponCodes,
+        couponCodes.size(),
+        (ps, couponCode) -> {
+          ps.setString(1, couponCode);
+          ps.setString(2, template.getCouponTitle());
+          ps.setLong(3, template.getShopId());
+          ps.setObject(4, template.getStaffId(), Types.BIGINT);
+          ps.setLong(5, template.getPrimaryItemId());
+          ps.setObject(6, template.getSecondaryItemId(), Types.BIGINT);
+          ps.setInt(7, template.getDiscountRate());
+          ps.setDate(
+              8,
+              template.getExpirationDate() != null
+                  ? Date.valueOf(template.getExpirationDate())
+                  : null);
+          ps.setBoolean(9, template.getIsActive());
+          ps.setTimestamp(10, now);
+        });
+  }
+}
@@ -1,6 +1,8 @@
 package com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository;
 
 import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,4 +21,8 @@ public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
   @Query(
       "SELECT COUNT(c) > 0 FROM Coupon c WHERE c.couponCode = :couponCode AND c.deletedAt IS NULL")
   boolean existsByCouponCodeAndNotDeleted(@Param("couponCode") String couponCode);
+
+  // 고유 제약은 삭제된 쿠폰의 코드도 포함하므로 삭제 여부와 관계없이 찾는다
+  @Query("SELECT c.couponCode FROM Coupon c WHERE c.couponCode IN :couponCodes")
+  List<String> findExistingCouponCodes(@Param("couponCodes") Collection<String> couponCodes);
 }
@@ -6,12 +6,15 @@ import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.coupons.application.command.BulkIssueCouponRequest;
+import com.deveagles.be15_deveagles_be.features.coupons.application.command.CouponBulkIssueService;
 import com.deveagles.be15_deveagles_be.features.coupons.application.command.CouponCommandService;
 import com.deveagles.be15_deveagles_be.features.coupons.application.command.CreateCouponRequest;
 import com.deveagles.be15_deveagles_be.features.coupons.application.query.CouponQueryService;
 import com.deveagles.be15_deveagles_be.features.coupons.application.query.CouponSearchQuery;
 import com.deveagles.be15_deveagles_be.features.coupons.common.CouponDto;
 import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.request.DeleteCouponRequest;
+import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.response.CouponIssueJobResponse;
 import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.response.CouponResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,6 +43,7 @@ public class CouponController {
 
   private final CouponCommandService couponCommandService;
   private final CouponQueryService couponQueryService;
+  private final CouponBulkIssueService couponBulkIssueService;
 
   @Operation(summary = "쿠폰 생성", description = "새로운 쿠폰을 생성합니다. 쿠폰 코드는 자동으로 생성됩니다.")
   @ApiResponses({
@@ -66,6 +70,53 @@ public class CouponController {
     return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(couponDto));
   }
 
+  @Operation(
+      summary = "쿠폰 일괄 발급",
+      description = "같은 조건의 개인 코드 쿠폰을 지정한 수량만큼 발급합니다. 작업으로 등록되며 진행 상태는 작업 ID로 조회합니다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "202",
+        description = "일괄 발급 작업 등록",
+        content = @Content(schema = @Schema(implementation = CouponIssueJobResponse.class))),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 요청 데이터"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "429",
+        description = "대기 중인 작업이 많음")
+  })
+  @PostMapping("/bulk")
+  public ResponseEntity<ApiResponse<CouponIssueJobResponse>> bulkIssueCoupons(
+      @AuthenticationPrincipal CustomUser user,
+      @Parameter(description = "일괄 발급 정보", required = true) @Valid @RequestBody
+          BulkIssueCouponRequest command) {
+    log.info(
+        "쿠폰 일괄 발급 요청 - 쿠폰명: {}, 수량: {}, 매장ID: {}",
+        command.getCouponTitle(),
+        command.getQuantity(),
+        user.getShopId());
+
+    CouponIssueJobResponse job = couponBulkIssueService.startBulkIssue(user.getShopId(), command);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(job));
+  }
+
+  @Operation(summary = "쿠폰 일괄 발급 진행 상태", description = "일괄 발급 작업의 상태와 발급된 수량을 조회합니다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "작업 조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "작업을 찾을 수 없음")
+  })
+  @GetMapping("/bulk/{jobId}")
+  public ResponseEntity<ApiResponse<CouponIssueJobResponse>> getBulkIssueJob(
+      @AuthenticationPrincipal CustomUser user,
+      @Parameter(description = "작업 ID", required = true) @PathVariable String jobId) {
+    return ResponseEntity.ok(
+        ApiResponse.success(couponBulkIssueService.getJob(jobId, user.getShopId())));
+  }
+
   @Operation(summary = "쿠폰 삭제", description = "쿠폰을 소프트 삭제합니다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -0,0 +1,42 @@
+package com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+/** 쿠폰 일괄 발급 작업의 진행 상태 */
+public record CouponIssueJobResponse(
+    String jobId,
+    Long shopId,
+    Status status,
+    int requested,
+    int issued,
+    String failureReason,
+    LocalDateTime requestedAt,
+    LocalDateTime finishedAt) {
+
+  public enum Status {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  public static CouponIssueJobResponse queued(String jobId, Long shopId, int requested) {
+    return new CouponIssueJobResponse(
+        jobId, shopId, Status.QUEUED, requested, 0, null, LocalDateTime.now(), null);
+  }
+
+  public CouponIssueJobResponse running(int issued) {
+    return new CouponIssueJobResponse(
+        jobId, shopId, Status.RUNNING, requested, issued, null, requestedAt, null);
+  }
+
+  public CouponIssueJobResponse completed() {
+    return new CouponIssueJobResponse(
+        jobId, shopId, Status.COMPLETED, requested, issued, null, requestedAt, LocalDateTime.now());
+  }
+
+  public CouponIssueJobResponse failed(String reason) {
+    return new CouponIssueJobResponse(
+        jobId, shopId, Status.FAILED, requested, issued, reason, requestedAt, LocalDateTime.now());
+  }
+}
@@ -0,0 +1,79 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.SegmentByCustomer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentByCustomerRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Change;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** 고객 청크 단위로 생명주기 세그먼트 변경분만 반영한다. 청크마다 별도 트랜잭션으로 커밋된다. */
+@Service
+@RequiredArgsConstructor
+public class CustomerSegmentChunkWriter {
+
+  private final SegmentByCustomerRepository segmentByCustomerRepository;
+  private final CustomerAudienceIndex customerAudienceIndex;
+
+  /**
+   * @param shopId 청크 고객들의 매장 ID (고객 대상 색인 반영용)
+   * @param targetSegmentIds 고객 ID → 새로 계산된 생명주기 세그먼트 ID
+   * @param lifecycleSegmentIds 생명주기 세그먼트 ID 전체 (이탈위험 등 다른 세그먼트는 건드리지 않음)
+   * @return 세그먼트가 변경된 고객 수
+   */
+  @Transactional
+  public int applyChunk(
+      Long shopId, Map<Long, Long> targetSegmentIds, Collection<Long> lifecycleSegmentIds) {
+    if (targetSegmentIds.isEmpty()) {
+      return 0;
+    }
+
+    Map<Long, Set<Long>> currentSegmentIds = new HashMap<>();
+    for (SegmentByCustomer assignment :
+        segmentByCustomerRepository.findByCustomerIdInAndSegmentIdIn(
+            targetSegmentIds.keySet(), lifecycleSegmentIds)) {
+      currentSegmentIds
+          .computeIfAbsent(assignment.getCustomerId(), id -> new HashSet<>())
+          .add(assignment.getSegmentId());
+    }
+
+    List<Long> changedCustomerIds = new ArrayList<>();
+    List<SegmentByCustomer> newAssignments = new ArrayList<>();
+    List<Change> audienceChanges = new ArrayList<>();
+    targetSegmentIds.forEach(
+        (customerId, segmentId) -> {
+          Set<Long> current = currentSegmentIds.getOrDefault(customerId, Set.of());
+          if (current.size() == 1 && Objects.equals(current.iterator().next(), segmentId)) {
+            return;
+          }
+          if (!current.isEmpty()) {
+            changedCustomerIds.add(customerId);
+            current.forEach(
+                removed ->
+                    audienceChanges.add(Change.segment(shopId, customerId, removed, false)));
+          }
+          newAssignments.add(
+              SegmentByCustomer.builder().customerId(customerId).segmentId(segmentId).build());
+          audienceChanges.add(Change.segment(shopId, customerId, segmentId, true));
+        });
+
+    if (!changedCustomerIds.isEmpty()) {
+      segmentByCustomerRepository.deleteByCustomerIdInAndSegmentIdIn(
+          changedCustomerIds, lifecycleSegmentIds);
+    }
+    if (!newAssignments.isEmpty()) {
+      segmentByCustomerRepository.saveAll(newAssignments);
+    }
+    customerAudienceIndex.record(audienceChanges);
+    return newAssignments.size();
+  }
+}
@@ -2,19 +2,24 @@ package com.deveagles.be15_deveagles_be.features.customers.command.application.s
 
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Segment;
-import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.SegmentByCustomer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
-import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentByCustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentRepository;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +28,8 @@ public class CustomerSegmentUpdateService {
 
   private final CustomerRepository customerRepository;
   private final SegmentRepository segmentRepository;
-  private final SegmentByCustomerRepository segmentByCustomerRepository;
+  private final CustomerSegmentChunkWriter customerSegmentChunkWriter;
+  private final RedisTemplate<String, String> redisTemplate;
 
   private static final String NEW_SEGMENT = "NEW";
   private static final String GROWING_SEGMENT = "GROWING";
@@ -38,107 +44,192 @@ public class CustomerSegmentUpdateService {
   private static final String GROWING_DELAYED_SEGMENT = "GROWING_DELAYED";
   private static final String LOYAL_DELAYED_SEGMENT = "LOYAL_DELAYED";
 
-  private static final int BATCH_SIZE = 1000;
+  // 매장별 진행 위치(마지막 처리 고객 ID) 체크포인트
+  private static final String CHECKPOINT_KEY_PREFIX = "SEGMENT_UPDATE:";
+  private static final String CHECKPOINT_DONE = "DONE";
+  private static final Duration CHECKPOINT_TTL = Duration.ofDays(2);
 
-  @Transactional
+  @Value("${customer.segment.update.chunk-size:1000}")
+  private int chunkSize = 1000;
+
+  @Value("${customer.segment.update.worker-count:4}")
+  private int workerCount = 4;
+
+  /**
+   * 전체 고객 생명주기 세그먼트 재계산.
+   *
+   * <p>매장 단위로 워커 풀에 분배하고, 매장 내에서는 고객 ID 키셋 페이지 단위로 조회 · 계산 · 반영(청크별 커밋)한다. 변경된 고객의 할당만 교체하므로
+   * 실행 중에도 세그먼트 화면이 비지 않으며, 중단 후 같은 날 다시 실행하면 체크포인트 이후부터 이어서 처리한다.
+   */
   public void updateAllCustomerSegments() {
-    log.info("고객 세그먼트 업데이트 시작 (최적화된 일괄삭제 방식)");
+    LocalDate runDate = LocalDate.now();
+    ReferenceDates referenceDates = ReferenceDates.of(runDate);
+    log.info("고객 세그먼트 업데이트 시작 - 기준일: {}", runDate);
 
     // 1. 생명주기 세그먼트 정보 로드
     Map<String, Segment> lifecycleSegmentsMap =
         segmentRepository.findLifecycleSegments().stream()
             .collect(Collectors.toMap(s -> s.getSegmentTag().toUpperCase(), s -> s));
+    List<Long> lifecycleSegmentIds =
+        lifecycleSegmentsMap.values().stream().map(Segment::getId).toList();
+
+    // 2. 매장 단위로 워커 풀에 분배
+    List<Long> shopIds = customerRepository.findAllShopIds();
+    log.info("처리할 매장 수: {}", shopIds.size());
+
+    AtomicLong processedCustomers = new AtomicLong();
+    AtomicLong changedCustomers = new AtomicLong();
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, workerCount));
+    try {
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (Long shopId : shopIds) {
+        futures.add(
+            CompletableFuture.runAsync(
+                () ->
+                    updateShopCustomerSegments(
+                        shopId,
+                        runDate,
+                        referenceDates,
+                        lifecycleSegmentsMap,
+                        lifecycleSegmentIds,
+                        processedCustomers,
+                        changedCustomers),
+                executor));
+      }
 
-    // 2. 기존 라이프사이클 세그먼트 일괄 삭제 (이탈위험 세그먼트는 보호됨)
-    log.info("기존 라이프사이클 세그먼트 일괄 삭제 시작");
-    segmentByCustomerRepository.deleteAllLifecycleSegments();
-    log.info("기존 라이프사이클 세그먼트 일괄 삭제 완료");
-
-    // 3. 전체 고객 수 조회
-    long totalCustomers = customerRepository.count();
-    log.info("처리할 총 고객 수: {}", totalCustomers);
+      List<Long> failedShopIds = new ArrayList<>();
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          futures.get(i).join();
+        } catch (Exception e) {
+          failedShopIds.add(shopIds.get(i));
+          log.error("매장 {} 세그먼트 업데이트 실패: {}", shopIds.get(i), e.getMessage(), e);
+        }
+      }
 
-    // 4. 청크 단위로 고객 처리하여 새 세그먼트 할당
-    List<SegmentByCustomer> newAssignments = new ArrayList<>();
-    int processedCustomers = 0;
-    int page = 0;
+      log.info(
+          "고객 세그먼트 업데이트 완료. 처리된 고객 수: {}, 변경된 고객 수: {}, 실패 매장: {}",
+          processedCustomers.get(),
+          changedCustomers.get(),
+          failedShopIds);
+    } finally {
+      executor.shutdown();
+    }
+  }
 
-    while (processedCustomers < totalCustomers) {
-      // 페이지 단위로 고객 조회
-      List<Customer> customerChunk = customerRepository.findAllWithPagination(page, BATCH_SIZE);
+  private void updateShopCustomerSegments(
+      Long shopId,
+      LocalDate runDate,
+      ReferenceDates referenceDates,
+      Map<String, Segment> lifecycleSegmentsMap,
+      List<Long> lifecycleSegmentIds,
+      AtomicLong processedCustomers,
+      AtomicLong changedCustomers) {
+    String checkpointKey = CHECKPOINT_KEY_PREFIX + runDate;
+    String checkpoint =
+        (String) redisTemplate.opsForHash().get(checkpointKey, String.valueOf(shopId));
+    if (CHECKPOINT_DONE.equals(checkpoint)) {
+      log.debug("매장 {} 는 이미 처리 완료되어 건너뜀", shopId);
+      return;
+    }
+    long lastCustomerId = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
 
+    while (true) {
+      // 고객 ID 키셋 페이지 조회
+      List<Customer> customerChunk =
+          customerRepository.findChunkByShopId(shopId, lastCustomerId, chunkSize);
       if (customerChunk.isEmpty()) {
         break;
       }
 
-      // 청크 내 고객들의 새 세그먼트 계산 및 할당 준비
+      // 청크 내 고객들의 새 세그먼트 계산
+      Map<Long, Long> targetSegmentIds = new LinkedHashMap<>();
       for (Customer customer : customerChunk) {
-        String newSegmentTag = determineCustomerSegment(customer);
+        String newSegmentTag = determineCustomerSegment(customer, referenceDates);
         Segment newSegment = lifecycleSegmentsMap.get(newSegmentTag);
 
         if (newSegment == null) {
           log.warn("정의되지 않은 세그먼트 태그: {}", newSegmentTag);
           continue;
         }
-
-        // 새 세그먼트 할당 목록에 추가
-        newAssignments.add(
-            SegmentByCustomer.builder()
-                .customerId(customer.getId())
-                .segmentId(newSegment.getId())
-                .build());
+        targetSegmentIds.put(customer.getId(), newSegment.getId());
       }
 
-      processedCustomers += customerChunk.size();
-      page++;
+      // 변경분만 반영 (청크 단위 커밋)
+      int changed =
+          customerSegmentChunkWriter.applyChunk(shopId, targetSegmentIds, lifecycleSegmentIds);
 
-      // 배치 크기만큼 쌓이면 DB 일괄 삽입 수행
-      if (newAssignments.size() >= BATCH_SIZE) {
-        segmentByCustomerRepository.saveAll(newAssignments);
-        log.info("{}개의 신규 세그먼트 할당 추가", newAssignments.size());
-        newAssignments.clear();
-      }
+      lastCustomerId = customerChunk.get(customerChunk.size() - 1).getId();
+      saveCheckpoint(checkpointKey, shopId, String.valueOf(lastCustomerId));
 
-      log.info("진행 상황: {}/{} 고객 처리 완료", processedCustomers, totalCustomers);
-    }
+      processedCustomers.addAndGet(customerChunk.size());
+      changedCustomers.addAndGet(changed);
+      log.debug(
+          "매장 {} 진행 상황: 마지막 고객 ID {}, 청크 {}명 중 {}명 변경",
+          shopId,
+          lastCustomerId,
+          customerChunk.size(),
+          changed);
 
-    // 5. 남은 배치 처리
-    if (!newAssignments.isEmpty()) {
-      segmentByCustomerRepository.saveAll(newAssignments);
-      log.info("{}개의 신규 세그먼트 할당 추가 (최종)", newAssignments.size());
+      if (customerChunk.size() < chunkSize) {
+        break;
+      }
     }
 
-    log.info("고객 세그먼트 업데이트 완료. 처리된 고객 수: {}", processedCustomers);
+    saveCheckpoint(checkpointKey, shopId, CHECKPOINT_DONE);
+  }
+
+  private void saveCheckpoint(String checkpointKey, Long shopId, String value) {
+    redisTemplate.opsForHash().put(checkpointKey, String.valueOf(shopId), value);
+    redisTemplate.expire(checkpointKey, CHECKPOINT_TTL);
+  }
+
+  /** 세그먼트 판정 기준일. 실행 시작 시 한 번만 계산해 모든 고객에게 동일하게 적용한다. */
+  record ReferenceDates(
+      LocalDate thirtyDaysAgo,
+      LocalDate sixtyDaysAgo,
+      LocalDate ninetyDaysAgo,
+      LocalDate threeMonthsAgo,
+      LocalDate sixMonthsAgo) {
+
+    static ReferenceDates of(LocalDate today) {
+      return new ReferenceDates(
+          today.minusDays(30),
+          today.minusDays(60),
+          today.minusDays(90),
+          today.minusMonths(3),
+          today.minusMonths(6));
+    }
   }
 
-  private String determineCustomerSegment(Customer customer) {
+  private String determineCustomerSegment(Customer customer, ReferenceDates dates) {
     // 1순위: 휴면 고객 (6개월 이상 미방문)
-    if (isDormantCustomer(customer)) {
+    if (isDormantCustomer(customer, dates)) {
       return DORMANT_SEGMENT;
     }
 
     // 2순위: 신규 고객 재활성화 필요 (신규 고객 90일 이상 미방문)
-    if (isReactivationNeeded(customer)) {
+    if (isReactivationNeeded(customer, dates)) {
       return REACTIVATION_NEEDED_SEGMENT;
     }
 
     // 3순위: 신규 고객 이탈 위험 (신규 고객 60일 이상 미방문)
-    if (isNewAtRisk(customer)) {
+    if (isNewAtRisk(customer, dates)) {
       return NEW_AT_RISK_SEGMENT;
     }
 
     // 4순위: 충성 고객 방문 지연 (충성 고객이면서 90일 미방문)
-    if (isLoyalDelayed(customer)) {
+    if (isLoyalDelayed(customer, dates)) {
       return LOYAL_DELAYED_SEGMENT;
     }
 
     // 5순위: 성장 고객 방문 지연 (성장 고객이면서 90일 미방문)
-    if (isGrowingDelayed(customer)) {
+    if (isGrowingDelayed(customer, dates)) {
       return GROWING_DELAYED_SEGMENT;
     }
 
     // 6순위: 신규 고객 팔로업 필요 (가입 후 30일 이후)
-    if (isNewFollowupNeeded(customer)) {
+    if (isNewFollowupNeeded(customer, dates)) {
       return NEW_FOLLOWUP_SEGMENT;
     }
 
@@ -148,17 +239,17 @@ public class CustomerSegmentUpdateService {
     }
 
     // 8순위: 충성 고객 (방문 10회 이상 + 최근 활동)
-    if (isLoyalCustomer(customer)) {
+    if (isLoyalCustomer(customer, dates)) {
       return LOYAL_SEGMENT;
     }
 
     // 9순위: 성장 고객 (방문 3~9회 + 최근 활동)
-    if (isGrowingCustomer(customer)) {
+    if (isGrowingCustomer(customer, dates)) {
       return GROWING_SEGMENT;
     }
 
     // 10순위: 신규 고객 (첫 방문 후 30일 이내, 방문 3회 미만)
-    if (isNewCustomer(customer)) {
+    if (isNewCustomer(customer, dates)) {
       return NEW_SEGMENT;
     }
 
@@ -166,22 +257,20 @@ public class CustomerSegmentUpdateService {
     return NEW_SEGMENT;
   }
 
-  private boolean isDormantCustomer(Customer customer) {
+  private boolean isDormantCustomer(Customer customer, ReferenceDates dates) {
     if (customer.getRecentVisitDate() == null) {
       return false;
     }
-    LocalDate sixMonthsAgo = LocalDate.now().minusMonths(6);
-    return customer.getRecentVisitDate().isBefore(sixMonthsAgo);
+    return customer.getRecentVisitDate().isBefore(dates.sixMonthsAgo());
   }
 
-  private boolean isNewCustomer(Customer customer) {
+  private boolean isNewCustomer(Customer customer, ReferenceDates dates) {
     if (customer.getCreatedAt() == null || customer.getVisitCount() == null) {
       return false;
     }
 
-    LocalDate thirtyDaysAgo = LocalDate.now().minusDays(30);
     LocalDate customerCreatedDate = customer.getCreatedAt().toLocalDate();
-    boolean isWithinThirtyDays = customerCreatedDate.isAfter(thirtyDaysAgo);
+    boolean isWithinThirtyDays = customerCreatedDate.isAfter(dates.thirtyDaysAgo());
     boolean hasLessThanThreeVisits = customer.getVisitCount() < 3;
 
     return isWithinThirtyDays && hasLessThanThreeVisits;
@@ -198,54 +287,51 @@ public class CustomerSegmentUpdateService {
     return hasHighRevenue && hasRegularVisits;
   }
 
-  private boolean isLoyalCustomer(Customer customer) {
+  private boolean isLoyalCustomer(Customer customer, ReferenceDates dates) {
     if (customer.getVisitCount() == null) {
       return false;
     }
 
     boolean hasFrequentVisits = customer.getVisitCount() >= 10;
-    boolean hasRecentActivity = isRecentlyActive(customer);
+    boolean hasRecentActivity = isRecentlyActive(customer, dates);
 
     return hasFrequentVisits && hasRecentActivity;
   }
 
-  private boolean isGrowingCustomer(Customer customer) {
+  private boolean isGrowingCustomer(Customer customer, ReferenceDates dates) {
     if (customer.getVisitCount() == null) {
       return false;
     }
 
     boolean hasModerateVisits = customer.getVisitCount() >= 3 && customer.getVisitCount() < 10;
-    boolean hasRecentActivity = isRecentlyActive(customer);
+    boolean hasRecentActivity = isRecentlyActive(customer, dates);
 
     return hasModerateVisits && hasRecentActivity;
   }
 
-  private boolean isRecentlyActive(Customer customer) {
+  private boolean isRecentlyActive(Customer customer, ReferenceDates dates) {
     if (customer.getRecentVisitDate() == null) {
       return false;
     }
-    LocalDate threeMonthsAgo = LocalDate.now().minusMonths(3);
-    return customer.getRecentVisitDate().isAfter(threeMonthsAgo);
+    return customer.getRecentVisitDate().isAfter(dates.threeMonthsAgo());
   }
 
-  private boolean isNewFollowupNeeded(Customer customer) {
+  private boolean isNewFollowupNeeded(Customer customer, ReferenceDates dates) {
     if (customer.getCreatedAt() == null || customer.getVisitCount() == null) {
       return false;
     }
 
     LocalDate customerCreatedDate = customer.getCreatedAt().toLocalDate();
-    LocalDate thirtyDaysAgo = LocalDate.now().minusDays(30);
-    LocalDate sixtyDaysAgo = LocalDate.now().minusDays(60);
 
     // 가입 후 30일 이후이면서 60일 이전, 방문 3회 미만
-    boolean isAfterThirtyDays = customerCreatedDate.isBefore(thirtyDaysAgo);
-    boolean isBeforeSixtyDays = customerCreatedDate.isAfter(sixtyDaysAgo);
+    boolean isAfterThirtyDays = customerCreatedDate.isBefore(dates.thirtyDaysAgo());
+    boolean isBeforeSixtyDays = customerCreatedDate.isAfter(dates.sixtyDaysAgo());
     boolean hasLessThanThreeVisits = customer.getVisitCount() < 3;
 
     return isAfterThirtyDays && isBeforeSixtyDays && hasLessThanThreeVisits;
   }
 
-  private boolean isNewAtRisk(Customer customer) {
+  private boolean isNewAtRisk(Customer customer, ReferenceDates dates) {
     if (customer.getCreatedAt() == null
         || customer.getRecentVisitDate() == null
         || customer.getVisitCount() == null) {
@@ -253,19 +339,17 @@ public class CustomerSegmentUpdateService {
     }
 
     LocalDate customerCreatedDate = customer.getCreatedAt().toLocalDate();
-    LocalDate sixtyDaysAgo = LocalDate.now().minusDays(60);
-    LocalDate ninetyDaysAgo = LocalDate.now().minusDays(90);
-    LocalDate sixtyDaysAgoFromToday = LocalDate.now().minusDays(60);
 
     // 신규 고객이면서 60일 이상 미방문
-    boolean isNewCustomerByAge = customerCreatedDate.isAfter(ninetyDaysAgo); // 신규 고객 (90일 이내 가입)
-    boolean hasNotVisitedFor60Days = customer.getRecentVisitDate().isBefore(sixtyDaysAgoFromToday);
+    boolean isNewCustomerByAge =
+        customerCreatedDate.isAfter(dates.ninetyDaysAgo()); // 신규 고객 (90일 이내 가입)
+    boolean hasNotVisitedFor60Days = customer.getRecentVisitDate().isBefore(dates.sixtyDaysAgo());
     boolean hasLessThanThreeVisits = customer.getVisitCount() < 3;
 
     return isNewCustomerByAge && hasNotVisitedFor60Days && hasLessThanThreeVisits;
   }
 
-  private boolean isReactivationNeeded(Customer customer) {
+  private boolean isReactivationNeeded(Customer customer, ReferenceDates dates) {
     if (customer.getCreatedAt() == null
         || customer.getRecentVisitDate() == null
         || customer.getVisitCount() == null) {
@@ -273,18 +357,18 @@ public class CustomerSegmentUpdateService {
     }
 
     LocalDate customerCreatedDate = customer.getCreatedAt().toLocalDate();
-    LocalDate ninetyDaysAgo = LocalDate.now().minusDays(90);
-    LocalDate ninetyDaysAgoFromToday = LocalDate.now().minusDays(90);
 
     // 신규 고객이면서 90일 이상 미방문
-    boolean isNewCustomerByAge = customerCreatedDate.isAfter(ninetyDaysAgo); // 신규 고객 (90일 이내 가입)
-    boolean hasNotVisitedFor90Days = customer.getRecentVisitDate().isBefore(ninetyDaysAgoFromToday);
+    boolean isNewCustomerByAge =
+        customerCreatedDate.isAfter(dates.ninetyDaysAgo()); // 신규 고객 (90일 이내 가입)
+    boolean hasNotVisitedFor90Days =
+        customer.getRecentVisitDate().isBefore(dates.ninetyDaysAgo());
     boolean hasLessThanThreeVisits = customer.getVisitCount() < 3;
 
     return isNewCustomerByAge && hasNotVisitedFor90Days && hasLessThanThreeVisits;
   }
 
-  private boolean isGrowingDelayed(Customer customer) {
+  private boolean isGrowingDelayed(Customer customer, ReferenceDates dates) {
     if (customer.getVisitCount() == null || customer.getRecentVisitDate() == null) {
       return false;
     }
@@ -294,13 +378,13 @@ public class CustomerSegmentUpdateService {
         customer.getVisitCount() >= 3 && customer.getVisitCount() < 10;
 
     // 90일 이상 미방문
-    LocalDate ninetyDaysAgo = LocalDate.now().minusDays(90);
-    boolean hasNotVisitedFor90Days = customer.getRecentVisitDate().isBefore(ninetyDaysAgo);
+    boolean hasNotVisitedFor90Days =
+        customer.getRecentVisitDate().isBefore(dates.ninetyDaysAgo());
 
     return isGrowingCustomerByVisits && hasNotVisitedFor90Days;
   }
 
-  private boolean isLoyalDelayed(Customer customer) {
+  private boolean isLoyalDelayed(Customer customer, ReferenceDates dates) {
     if (customer.getVisitCount() == null || customer.getRecentVisitDate() == null) {
       return false;
     }
@@ -309,8 +393,8 @@ public class CustomerSegmentUpdateService {
     boolean isLoyalCustomerByVisits = customer.getVisitCount() >= 10;
 
     // 90일 이상 미방문
-    LocalDate ninetyDaysAgo = LocalDate.now().minusDays(90);
-    boolean hasNotVisitedFor90Days = customer.getRecentVisitDate().isBefore(ninetyDaysAgo);
+    boolean hasNotVisitedFor90Days =
+        customer.getRecentVisitDate().isBefore(dates.ninetyDaysAgo());
 
     return isLoyalCustomerByVisits && hasNotVisitedFor90Days;
   }
@@ -0,0 +1,47 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/** 검색 인덱스에 반영할 고객 변경. 고객 변경과 같은 트랜잭션에서 쌓고, 색인 후 지운다. */
+@Entity
+@Table(name = "customer_index_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CustomerIndexOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "outbox_id")
+  private Long id;
+
+  @Column(name = "customer_id", nullable = false)
+  private Long customerId;
+
+  @Column(name = "shop_id", nullable = false)
+  private Long shopId;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  public static CustomerIndexOutbox of(Customer customer) {
+    return CustomerIndexOutbox.builder()
+        .customerId(customer.getId())
+        .shopId(customer.getShopId())
+        .build();
+  }
+}
@@ -0,0 +1,13 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.domain.repository;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerIndexOutbox;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CustomerIndexOutboxRepository extends JpaRepository<CustomerIndexOutbox, Long> {
+
+  @Query("SELECT o FROM CustomerIndexOutbox o ORDER BY o.id ASC")
+  List<CustomerIndexOutbox> findOldest(Pageable pageable);
+}
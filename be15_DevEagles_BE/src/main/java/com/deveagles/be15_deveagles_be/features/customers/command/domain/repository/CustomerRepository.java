@@ -25,4 +25,9 @@ public interface CustomerRepository {
   long count();
 
   List<Customer> findAllWithPagination(int page, int size);
+
+  List<Long> findAllShopIds();
+
+  /** 고객 ID 기준 키셋 페이지 조회 (lastCustomerId 보다 큰 ID 부터 size 건) */
+  List<Customer> findChunkByShopId(Long shopId, Long lastCustomerId, int size);
 }
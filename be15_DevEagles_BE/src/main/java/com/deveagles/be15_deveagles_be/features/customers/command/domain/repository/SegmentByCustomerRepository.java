@@ -1,6 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.customers.command.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.SegmentByCustomer;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -59,6 +60,17 @@ public interface SegmentByCustomerRepository
           + "WHERE sbc.customerId = :customerId AND s.segmentTag IN ('new', 'growing', 'loyal', 'vip', 'inactive')")
   List<SegmentByCustomer> findLifecycleSegmentsByCustomerId(@Param("customerId") Long customerId);
 
+  List<SegmentByCustomer> findByCustomerIdInAndSegmentIdIn(
+      Collection<Long> customerIds, Collection<Long> segmentIds);
+
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query(
+      "DELETE FROM SegmentByCustomer sbc WHERE sbc.customerId IN :customerIds "
+          + "AND sbc.segmentId IN :segmentIds")
+  void deleteByCustomerIdInAndSegmentIdIn(
+      @Param("customerIds") Collection<Long> customerIds,
+      @Param("segmentIds") Collection<Long> segmentIds);
+
   @Modifying
   @Query(
       "DELETE FROM SegmentByCustomer sbc WHERE sbc.segmentId IN "
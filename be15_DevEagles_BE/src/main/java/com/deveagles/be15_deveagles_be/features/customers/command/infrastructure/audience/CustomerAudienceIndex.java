@@ -0,0 +1,378 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience;
+
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomer.customer;
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QSegmentByCustomer.segmentByCustomer;
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QTagByCustomer.tagByCustomer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 매장별 고객 대상(세그먼트, 태그, 등급) 색인.
+ *
+ * <p>매장의 활성 고객과 세그먼트/태그/등급 소속을 한 번에 읽어 {@link CustomerBitmap} 으로 들고 있고, 대상 조건 조합과 인원 수 계산은 엔티티를
+ * 읽지 않고 비트맵 연산으로 처리한다. 소속을 바꾸는 서비스가 {@link #record} 로 변경을 남기면 커밋 후 바뀌는 비트맵만 복사해 고친 뒤 교체하고,
+ * Redis 채널로 다른 인스턴스에도 같은 변경을 보낸다. 메시지를 놓쳐도 일정 시간이 지나면 매장 색인을 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class CustomerAudienceIndex implements MessageListener {
+
+  public static final String CHANNEL = "CUSTOMER_AUDIENCE_CHANGED";
+  private static final Long ALL = 0L;
+
+  private final JPAQueryFactory queryFactory;
+  private final ObjectMapper objectMapper;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  // 자기가 보낸 메시지는 이미 반영했으므로 건너뛴다
+  private final String instanceId = UUID.randomUUID().toString();
+  private final Map<Long, ShopAudience> shops = new ConcurrentHashMap<>();
+  // 매장별로 변경마다 증가. 읽는 도중 그 매장의 변경이 있었으면 읽은 결과를 색인에 넣지 않는다.
+  private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  @Value("${customer-audience.ttl-seconds:1800}")
+  private long ttlSeconds = 1800;
+
+  @Value("${customer-audience.max-shops:2000}")
+  private int maxShops = 2000;
+
+  public CustomerAudienceIndex(
+      JPAQueryFactory queryFactory,
+      ObjectMapper objectMapper,
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.queryFactory = queryFactory;
+    this.objectMapper = objectMapper;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /** 매장의 삭제되지 않은 고객 전체 */
+  public CustomerBitmap customers(Long shopId) {
+    return load(shopId).get(Dimension.CUSTOMER, ALL);
+  }
+
+  /** 매장에서 해당 세그먼트/태그/등급에 속한 고객. 반환한 비트맵은 바꾸지 않는다. */
+  public CustomerBitmap members(Long shopId, Dimension dimension, Long key) {
+    return load(shopId).get(dimension, dimension == Dimension.CUSTOMER ? ALL : key);
+  }
+
+  public void record(Change change) {
+    record(List.of(change));
+  }
+
+  /** 소속 변경을 남긴다. 트랜잭션 안이면 커밋 후 반영한다. */
+  public void record(List<Change> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              applyAndPublish(changes);
+            }
+          });
+      return;
+    }
+    applyAndPublish(changes);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      ChangeMessage changeMessage =
+          objectMapper.readValue(
+              new String(message.getBody(), StandardCharsets.UTF_8), ChangeMessage.class);
+      if (!instanceId.equals(changeMessage.source())) {
+        apply(changeMessage.changes());
+      }
+    } catch (Exception e) {
+      log.warn("고객 대상 색인 변경 메시지 처리 실패: {}", e.getMessage());
+    }
+  }
+
+  void apply(List<Change> changes) {
+    Map<ShopAudience, List<Change>> byShop = new LinkedHashMap<>();
+    for (Change change : changes) {
+      Long shopId = change.shopId() != null ? change.shopId() : findShopId(change.customerId());
+      if (shopId == null) {
+        // 고객이 있는 매장을 모르면 읽고 있는 모든 매장의 결과를 버린다
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        continue;
+      }
+      generationOf(shopId).incrementAndGet();
+      ShopAudience shop = shops.get(shopId);
+      // 아직 읽지 않은 매장은 처음 조회할 때 DB 에서 읽으므로 반영할 필요가 없다
+      if (shop != null) {
+        byShop.computeIfAbsent(shop, key -> new ArrayList<>()).add(change);
+      }
+    }
+    byShop.forEach(ShopAudience::apply);
+  }
+
+  long generation(Long shopId) {
+    return generationOf(shopId).get();
+  }
+
+  private AtomicLong generationOf(Long shopId) {
+    return generations.computeIfAbsent(shopId, id -> new AtomicLong());
+  }
+
+  private void applyAndPublish(List<Change> changes) {
+    apply(changes);
+    try {
+      redisTemplate.convertAndSend(
+          CHANNEL, objectMapper.writeValueAsString(new ChangeMessage(instanceId, changes)));
+    } catch (Exception e) {
+      log.warn("고객 대상 색인 변경 전파 실패: {}", e.getMessage());
+    }
+  }
+
+  private Long findShopId(Long customerId) {
+    for (Map.Entry<Long, ShopAudience> entry : shops.entrySet()) {
+      if (entry.getValue().get(Dimension.CUSTOMER, ALL).contains(customerId)) {
+        return entry.getKey();
+      }
+    }
+    return null;
+  }
+
+  private ShopAudience load(Long shopId) {
+    ShopAudience cached = shops.get(shopId);
+    if (cached != null && cached.loadedAt + ttlSeconds * 1000 > System.currentTimeMillis()) {
+      return cached;
+    }
+
+    long startedAt = System.currentTimeMillis();
+    long loadedGeneration = generation(shopId);
+    ShopAudience loaded = new ShopAudience(startedAt);
+
+    for (Tuple row :
+        queryFactory
+            .select(customer.id, customer.customerGradeId)
+            .from(customer)
+            .where(customer.shopId.eq(shopId), customer.deletedAt.isNull())
+            .fetch()) {
+      Long customerId = row.get(customer.id);
+      loaded.put(Dimension.CUSTOMER, ALL, customerId);
+      Long gradeId = row.get(customer.customerGradeId);
+      if (gradeId != null) {
+        loaded.put(Dimension.GRADE, gradeId, customerId);
+      }
+    }
+    for (Tuple row :
+        queryFactory
+            .select(segmentByCustomer.segmentId, segmentByCustomer.customerId)
+            .from(segmentByCustomer)
+            .join(customer)
+            .on(customer.id.eq(segmentByCustomer.customerId))
+            .where(customer.shopId.eq(shopId), customer.deletedAt.isNull())
+            .fetch()) {
+      loaded.put(
+          Dimension.SEGMENT,
+          row.get(segmentByCustomer.segmentId),
+          row.get(segmentByCustomer.customerId));
+    }
+    for (Tuple row :
+        queryFactory
+            .select(tagByCustomer.tagId, tagByCustomer.customerId)
+            .from(tagByCustomer)
+            .join(customer)
+            .on(customer.id.eq(tagByCustomer.customerId))
+            .where(customer.shopId.eq(shopId), customer.deletedAt.isNull())
+            .fetch()) {
+      loaded.put(Dimension.TAG, row.get(tagByCustomer.tagId), row.get(tagByCustomer.customerId));
+    }
+
+    log.info(
+        "고객 대상 색인 적재: 매장={}, 고객={}, {}ms",
+        shopId,
+        loaded.get(Dimension.CUSTOMER, ALL).cardinality(),
+        System.currentTimeMillis() - startedAt);
+
+    if (shops.size() >= maxShops) {
+      long expiredBefore = System.currentTimeMillis() - ttlSeconds * 1000;
+      shops.values().removeIf(shop -> shop.loadedAt <= expiredBefore);
+    }
+    if (generation(shopId) == loadedGeneration && shops.size() < maxShops) {
+      shops.put(shopId, loaded);
+    }
+    return loaded;
+  }
+
+  public enum Dimension {
+    CUSTOMER,
+    SEGMENT,
+    TAG,
+    GRADE
+  }
+
+  /**
+   * 소속 변경. shopId 를 모르면 null 로 두고 색인에 올라온 매장 중 고객이 있는 매장에 반영한다.
+   *
+   * <p>고객(CUSTOMER)을 빼면 모든 소속에서 빠진다. 등급은 고객당 하나라 새 등급을 넣으면 다른 등급에서 빠지며, key 가 null 이면 등급만 빠진다.
+   */
+  public record Change(
+      Long shopId, Long customerId, Dimension dimension, Long key, boolean added) {
+
+    public static Change customer(Long shopId, Long customerId, boolean active) {
+      return new Change(shopId, customerId, Dimension.CUSTOMER, ALL, active);
+    }
+
+    public static Change segment(Long shopId, Long customerId, Long segmentId, boolean added) {
+      return new Change(shopId, customerId, Dimension.SEGMENT, segmentId, added);
+    }
+
+    public static Change tag(Long shopId, Long customerId, Long tagId, boolean added) {
+      return new Change(shopId, customerId, Dimension.TAG, tagId, added);
+    }
+
+    public static Change grade(Long shopId, Long customerId, Long gradeId) {
+      return new Change(shopId, customerId, Dimension.GRADE, gradeId, true);
+    }
+  }
+
+  record ChangeMessage(String source, List<Change> changes) {}
+
+  /**
+   * 한 매장의 소속별 비트맵. 공개한 비트맵은 바꾸지 않고, 변경은 바뀌는 비트맵만 한 번씩 복사해 고친 뒤 교체한다. 읽는 쪽은 잠금 없이 이전 또는 새
+   * 비트맵을 본다.
+   */
+  static final class ShopAudience {
+
+    private final Map<Dimension, Map<Long, CustomerBitmap>> members =
+        new EnumMap<>(Dimension.class);
+    private final long loadedAt;
+
+    ShopAudience(long loadedAt) {
+      this.loadedAt = loadedAt;
+      for (Dimension dimension : Dimension.values()) {
+        members.put(dimension, new ConcurrentHashMap<>());
+      }
+    }
+
+    CustomerBitmap get(Dimension dimension, Long key) {
+      CustomerBitmap bitmap = key == null ? null : members.get(dimension).get(key);
+      return bitmap == null ? CustomerBitmap.empty() : bitmap;
+    }
+
+    // 적재 중(공개 전)에만 쓴다
+    void put(Dimension dimension, Long key, Long customerId) {
+      members.get(dimension).computeIfAbsent(key, id -> new CustomerBitmap()).add(customerId);
+    }
+
+    synchronized void apply(List<Change> changes) {
+      Map<Dimension, Map<Long, CustomerBitmap>> working = new EnumMap<>(Dimension.class);
+      for (Change change : changes) {
+        Long customerId = change.customerId();
+        switch (change.dimension()) {
+          case CUSTOMER -> {
+            if (change.added()) {
+              writable(working, Dimension.CUSTOMER, ALL).add(customerId);
+            } else {
+              for (Dimension dimension : Dimension.values()) {
+                for (Long key : keys(working, dimension)) {
+                  removeIfPresent(working, dimension, key, customerId);
+                }
+              }
+            }
+          }
+          case GRADE -> {
+            for (Long key : keys(working, Dimension.GRADE)) {
+              if (!key.equals(change.key())) {
+                removeIfPresent(working, Dimension.GRADE, key, customerId);
+              }
+            }
+            if (change.key() != null) {
+              writable(working, Dimension.GRADE, change.key()).add(customerId);
+            }
+          }
+          default -> {
+            if (change.added()) {
+              writable(working, change.dimension(), change.key()).add(customerId);
+            } else {
+              removeIfPresent(working, change.dimension(), change.key(), customerId);
+            }
+          }
+        }
+      }
+
+      working.forEach(
+          (dimension, bitmaps) ->
+              bitmaps.forEach(
+                  (key, bitmap) -> {
+                    if (bitmap.isEmpty()) {
+                      members.get(dimension).remove(key);
+                    } else {
+                      members.get(dimension).put(key, bitmap);
+                    }
+                  }));
+    }
+
+    private Set<Long> keys(Map<Dimension, Map<Long, CustomerBitmap>> working, Dimension dimension) {
+      Set<Long> keys = new HashSet<>(members.get(dimension).keySet());
+      keys.addAll(working.getOrDefault(dimension, Map.of()).keySet());
+      return keys;
+    }
+
+    private void removeIfPresent(
+        Map<Dimension, Map<Long, CustomerBitmap>> working,
+        Dimension dimension,
+        Long key,
+        Long customerId) {
+      Map<Long, CustomerBitmap> changed = working.get(dimension);
+      CustomerBitmap current = changed != null ? changed.get(key) : null;
+      if (current == null) {
+        current = get(dimension, key);
+      }
+      if (current.contains(customerId)) {
+        writable(working, dimension, key).remove(customerId);
+      }
+    }
+
+    private CustomerBitmap writable(
+        Map<Dimension, Map<Long, CustomerBitmap>> working, Dimension dimension, Long key) {
+      return working
+          .computeIfAbsent(dimension, ignored -> new HashMap<>())
+          .computeIfAbsent(
+              key,
+              ignored -> {
+                CustomerBitmap published = members.get(dimension).get(key);
+                return published == null ? new CustomerBitmap() : published.copy();
+              });
+    }
+  }
+}
@@ -0,0 +1,399 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 고객 ID 집합을 담는 압축 비트맵 (Roaring 방식).
+ *
+ * <p>ID 의 상위 16비트로 묶음을 나누고, 묶음마다 원소가 적으면 정렬된 char 배열로, 많으면 65536 비트 비트맵으로 담는다. 교집합, 합집합,
+ * 차집합은 묶음 단위로 계산해 새 비트맵으로 반환하며 피연산자는 바꾸지 않는다. 값을 바꾸는 {@link #add}/{@link #remove} 는 색인 안에서만
+ * 쓰고, 한 번 공개한 비트맵은 바꾸지 않는다.
+ */
+public final class CustomerBitmap {
+
+  private static final long MAX_ID = 0xFFFFFFFFL;
+
+  private final TreeMap<Integer, Container> containers;
+
+  CustomerBitmap() {
+    this(new TreeMap<>());
+  }
+
+  private CustomerBitmap(TreeMap<Integer, Container> containers) {
+    this.containers = containers;
+  }
+
+  public static CustomerBitmap empty() {
+    return new CustomerBitmap();
+  }
+
+  public static CustomerBitmap of(Collection<Long> customerIds) {
+    CustomerBitmap bitmap = new CustomerBitmap();
+    customerIds.forEach(bitmap::add);
+    return bitmap;
+  }
+
+  public boolean contains(long customerId) {
+    if (customerId < 0 || customerId > MAX_ID) {
+      return false;
+    }
+    Container container = containers.get(high(customerId));
+    return container != null && container.contains(low(customerId));
+  }
+
+  public long cardinality() {
+    long cardinality = 0;
+    for (Container container : containers.values()) {
+      cardinality += container.cardinality;
+    }
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return containers.isEmpty();
+  }
+
+  public CustomerBitmap and(CustomerBitmap other) {
+    TreeMap<Integer, Container> result = new TreeMap<>();
+    CustomerBitmap smaller = containers.size() <= other.containers.size() ? this : other;
+    CustomerBitmap larger = smaller == this ? other : this;
+    for (Map.Entry<Integer, Container> entry : smaller.containers.entrySet()) {
+      Container matched = larger.containers.get(entry.getKey());
+      if (matched != null) {
+        putIfNotEmpty(result, entry.getKey(), Container.and(entry.getValue(), matched));
+      }
+    }
+    return new CustomerBitmap(result);
+  }
+
+  public CustomerBitmap or(CustomerBitmap other) {
+    TreeMap<Integer, Container> result = new TreeMap<>();
+    containers.forEach((key, container) -> result.put(key, container.copy()));
+    other.containers.forEach(
+        (key, container) -> {
+          Container existing = result.get(key);
+          result.put(key, existing == null ? container.copy() : Container.or(existing, container));
+        });
+    return new CustomerBitmap(result);
+  }
+
+  /** 이 집합에서 other 에 있는 고객을 뺀 집합 */
+  public CustomerBitmap andNot(CustomerBitmap other) {
+    TreeMap<Integer, Container> result = new TreeMap<>();
+    containers.forEach(
+        (key, container) -> {
+          Container excluded = other.containers.get(key);
+          putIfNotEmpty(
+              result,
+              key,
+              excluded == null ? container.copy() : Container.andNot(container, excluded));
+        });
+    return new CustomerBitmap(result);
+  }
+
+  public CustomerBitmap copy() {
+    TreeMap<Integer, Container> result = new TreeMap<>();
+    containers.forEach((key, container) -> result.put(key, container.copy()));
+    return new CustomerBitmap(result);
+  }
+
+  /** 오름차순 고객 ID */
+  public List<Long> toList() {
+    return toList(Integer.MAX_VALUE);
+  }
+
+  /** 오름차순 고객 ID 를 최대 limit 개까지 */
+  public List<Long> toList(int limit) {
+    List<Long> customerIds = new ArrayList<>((int) Math.min(limit, cardinality()));
+    Iterator<Map.Entry<Integer, Container>> iterator = containers.entrySet().iterator();
+    while (iterator.hasNext() && customerIds.size() < limit) {
+      Map.Entry<Integer, Container> entry = iterator.next();
+      entry.getValue().collect((long) entry.getKey() << 16, customerIds, limit);
+    }
+    return customerIds;
+  }
+
+  boolean add(long customerId) {
+    checkRange(customerId);
+    return containers
+        .computeIfAbsent(high(customerId), key -> new Container())
+        .add(low(customerId));
+  }
+
+  boolean remove(long customerId) {
+    if (customerId < 0 || customerId > MAX_ID) {
+      return false;
+    }
+    int key = high(customerId);
+    Container container = containers.get(key);
+    if (container == null || !container.remove(low(customerId))) {
+      return false;
+    }
+    if (container.cardinality == 0) {
+      containers.remove(key);
+    }
+    return true;
+  }
+
+  private static void putIfNotEmpty(
+      TreeMap<Integer, Container> result, int key, Container container) {
+    if (container != null) {
+      result.put(key, container);
+    }
+  }
+
+  private static void checkRange(long customerId) {
+    if (customerId < 0 || customerId > MAX_ID) {
+      throw new IllegalArgumentException("비트맵에 담을 수 없는 고객 ID: " + customerId);
+    }
+  }
+
+  private static int high(long customerId) {
+    return (int) (customerId >>> 16);
+  }
+
+  private static char low(long customerId) {
+    return (char) customerId;
+  }
+
+  /** 상위 16비트가 같은 ID 묶음. 원소가 ARRAY_MAX 이하면 정렬 배열, 넘으면 비트맵 */
+  private static final class Container {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] values;
+    private long[] words;
+    private int cardinality;
+
+    private Container() {
+      this.values = new char[4];
+    }
+
+    private static Container ofValues(char[] values, int cardinality) {
+      Container container = new Container();
+      container.values = values;
+      container.cardinality = cardinality;
+      return container;
+    }
+
+    // 비트맵에서 원소 수를 세어 적으면 배열로 바꾼다. 비었으면 null
+    private static Container ofWords(long[] words) {
+      int cardinality = 0;
+      for (long word : words) {
+        cardinality += Long.bitCount(word);
+      }
+      if (cardinality == 0) {
+        return null;
+      }
+      Container container = new Container();
+      container.words = words;
+      container.values = null;
+      container.cardinality = cardinality;
+      if (cardinality <= ARRAY_MAX) {
+        container.toArray();
+      }
+      return container;
+    }
+
+    static Container and(Container a, Container b) {
+      if (a.words == null) {
+        return a.filter(b, true);
+      }
+      if (b.words == null) {
+        return b.filter(a, true);
+      }
+      long[] words = new long[WORDS];
+      for (int i = 0; i < WORDS; i++) {
+        words[i] = a.words[i] & b.words[i];
+      }
+      return ofWords(words);
+    }
+
+    static Container or(Container a, Container b) {
+      if (a.words == null && b.words == null) {
+        char[] merged = new char[a.cardinality + b.cardinality];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.cardinality && j < b.cardinality) {
+          char left = a.values[i];
+          char right = b.values[j];
+          if (left == right) {
+            i++;
+            j++;
+          } else if (left < right) {
+            i++;
+          } else {
+            j++;
+          }
+          merged[size++] = left <= right ? left : right;
+        }
+        while (i < a.cardinality) {
+          merged[size++] = a.values[i++];
+        }
+        while (j < b.cardinality) {
+          merged[size++] = b.values[j++];
+        }
+        Container container = ofValues(merged, size);
+        if (size > ARRAY_MAX) {
+          container.toBitmap();
+        }
+        return container;
+      }
+      Container bitmap = a.words != null ? a : b;
+      Container other = bitmap == a ? b : a;
+      long[] words = bitmap.words.clone();
+      if (other.words != null) {
+        for (int i = 0; i < WORDS; i++) {
+          words[i] |= other.words[i];
+        }
+      } else {
+        for (int i = 0; i < other.cardinality; i++) {
+          words[other.values[i] >>> 6] |= 1L << other.values[i];
+        }
+      }
+      return ofWords(words);
+    }
+
+    static Container andNot(Container a, Container b) {
+      if (a.words == null) {
+        return a.filter(b, false);
+      }
+      long[] words = a.words.clone();
+      if (b.words != null) {
+        for (int i = 0; i < WORDS; i++) {
+          words[i] &= ~b.words[i];
+        }
+      } else {
+        for (int i = 0; i < b.cardinality; i++) {
+          words[b.values[i] >>> 6] &= ~(1L << b.values[i]);
+        }
+      }
+      return ofWords(words);
+    }
+
+    boolean contains(char value) {
+      if (words != null) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+      }
+      return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    boolean add(char value) {
+      if (words != null) {
+        long bit = 1L << value;
+        if ((words[value >>> 6] & bit) != 0) {
+          return false;
+        }
+        words[value >>> 6] |= bit;
+        cardinality++;
+        return true;
+      }
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) {
+        return false;
+      }
+      if (cardinality == ARRAY_MAX) {
+        toBitmap();
+        return add(value);
+      }
+      int insertAt = -index - 1;
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values, Math.max(4, Math.min(ARRAY_MAX, values.length * 2)));
+      }
+      System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+      values[insertAt] = value;
+      cardinality++;
+      return true;
+    }
+
+    boolean remove(char value) {
+      if (words != null) {
+        long bit = 1L << value;
+        if ((words[value >>> 6] & bit) == 0) {
+          return false;
+        }
+        words[value >>> 6] &= ~bit;
+        cardinality--;
+        // 경계에서 추가/삭제가 반복될 때 변환이 반복되지 않도록 절반 아래로 줄었을 때만 배열로 바꾼다
+        if (cardinality <= ARRAY_MAX / 2) {
+          toArray();
+        }
+        return true;
+      }
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index < 0) {
+        return false;
+      }
+      System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+      cardinality--;
+      return true;
+    }
+
+    Container copy() {
+      Container container = new Container();
+      container.cardinality = cardinality;
+      container.values = values == null ? null : Arrays.copyOf(values, cardinality);
+      container.words = words == null ? null : words.clone();
+      return container;
+    }
+
+    void collect(long base, List<Long> target, int limit) {
+      if (words == null) {
+        for (int i = 0; i < cardinality && target.size() < limit; i++) {
+          target.add(base | values[i]);
+        }
+        return;
+      }
+      for (int i = 0; i < WORDS && target.size() < limit; i++) {
+        long word = words[i];
+        while (word != 0 && target.size() < limit) {
+          target.add(base | ((long) i << 6) | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+
+    // 배열 원소 중 other 에 있는(keep=true) 또는 없는(keep=false) 것만 남긴다. 비었으면 null
+    private Container filter(Container other, boolean keep) {
+      char[] filtered = new char[cardinality];
+      int size = 0;
+      for (int i = 0; i < cardinality; i++) {
+        if (other.contains(values[i]) == keep) {
+          filtered[size++] = values[i];
+        }
+      }
+      return size == 0 ? null : ofValues(filtered, size);
+    }
+
+    private void toBitmap() {
+      long[] bitmap = new long[WORDS];
+      for (int i = 0; i < cardinality; i++) {
+        bitmap[values[i] >>> 6] |= 1L << values[i];
+      }
+      words = bitmap;
+      values = null;
+    }
+
+    private void toArray() {
+      char[] array = new char[Math.max(cardinality, 4)];
+      int size = 0;
+      for (int i = 0; i < WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          array[size++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      values = array;
+      words = null;
+    }
+  }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CustomerJpaRepository extends JpaRepository<Customer, Long> {
 
@@ -24,6 +25,24 @@ public interface CustomerJpaRepository extends JpaRepository<Customer, Long> {
   @Query("SELECT DISTINCT c.shopId FROM Customer c WHERE c.deletedAt IS NULL")
   List<Long> findDistinctShopIds();
 
+  @Query("SELECT DISTINCT c.shopId FROM Customer c")
+  List<Long> findAllShopIds();
+
+  @Query("SELECT c FROM Customer c WHERE c.shopId = :shopId AND c.id > :lastId ORDER BY c.id ASC")
+  List<Customer> findByShopIdAndIdGreaterThan(
+      @Param("shopId") Long shopId, @Param("lastId") Long lastId, Pageable pageable);
+
+  long countByDeletedAtIsNull();
+
+  @Query("SELECT c FROM Customer c WHERE c.deletedAt IS NULL AND c.id > :lastId ORDER BY c.id ASC")
+  List<Customer> findActiveByIdGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
+
+  @Query(
+      "SELECT c FROM Customer c WHERE c.shopId = :shopId AND c.deletedAt IS NULL"
+          + " AND c.id > :lastId ORDER BY c.id ASC")
+  List<Customer> findActiveByShopIdAndIdGreaterThan(
+      @Param("shopId") Long shopId, @Param("lastId") Long lastId, Pageable pageable);
+
   List<Customer> findByShopIdAndCustomerNameInAndDeletedAtIsNull(
       Long shopId, List<String> customerNames);
 }
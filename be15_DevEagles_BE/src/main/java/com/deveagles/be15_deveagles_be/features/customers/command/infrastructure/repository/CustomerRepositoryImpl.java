@@ -65,4 +65,15 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     Pageable pageable = PageRequest.of(page, size);
     return jpaRepository.findAll(pageable).getContent();
   }
+
+  @Override
+  public List<Long> findAllShopIds() {
+    return jpaRepository.findAllShopIds();
+  }
+
+  @Override
+  public List<Customer> findChunkByShopId(Long shopId, Long lastCustomerId, int size) {
+    return jpaRepository.findByShopIdAndIdGreaterThan(
+        shopId, lastCustomerId, PageRequest.of(0, size));
+  }
 }
@@ -0,0 +1,43 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** 고객 검색 문서 생성. 등급 이름은 캐시에서 찾고, 없는 것만 고객 묶음마다 한 번에 읽는다. */
+@Component
+@RequiredArgsConstructor
+public class CustomerDocumentAssembler {
+
+  private final CustomerJpaRepository customerJpaRepository;
+  private final CustomerGradeNameCache customerGradeNameCache;
+
+  /** 삭제(soft delete)된 고객도 deletedAt 을 담아 만든다. DB 에 없는 고객은 결과에서 빠진다. */
+  public List<CustomerDocument> load(Collection<Long> customerIds) {
+    if (customerIds.isEmpty()) {
+      return List.of();
+    }
+    return toDocuments(customerJpaRepository.findAllById(customerIds));
+  }
+
+  public List<CustomerDocument> toDocuments(List<Customer> customers) {
+    Set<Long> gradeIds =
+        customers.stream()
+            .map(Customer::getCustomerGradeId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    Map<Long, String> gradeNames = customerGradeNameCache.getAll(gradeIds);
+
+    return customers.stream()
+        .map(cust -> CustomerDocument.of(cust, gradeNames.get(cust.getCustomerGradeId())))
+        .toList();
+  }
+}
@@ -0,0 +1,43 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search;
+
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomerGrade.customerGrade;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/** 고객 등급 ID 별 등급 이름 캐시. 등급 이름을 바꾸거나 등급을 지우면 {@link #evict} 한다. */
+@Component
+public class CustomerGradeNameCache extends ReferenceCache<Long, String> {
+
+  private final JPAQueryFactory queryFactory;
+
+  public CustomerGradeNameCache(ReferenceCacheRegistry registry, JPAQueryFactory queryFactory) {
+    super("customer-grade-name", registry, new TypeReference<>() {});
+    this.queryFactory = queryFactory;
+  }
+
+  @Override
+  protected String load(Long gradeId) {
+    return loadAll(Set.of(gradeId)).get(gradeId);
+  }
+
+  @Override
+  protected Map<Long, String> loadAll(Set<Long> gradeIds) {
+    return queryFactory
+        .select(customerGrade.id, customerGrade.customerGradeName)
+        .from(customerGrade)
+        .where(customerGrade.id.in(gradeIds))
+        .fetch()
+        .stream()
+        .collect(
+            Collectors.toMap(
+                tuple -> tuple.get(customerGrade.id),
+                tuple -> tuple.get(customerGrade.customerGradeName)));
+  }
+}
@@ -0,0 +1,251 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search.CustomerSearchIndex.RebuildIndex;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.ReindexStatus;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 검색 재색인.
+ *
+ * <p>고객을 ID 순 keyset 으로 큰 묶음씩 읽어 bulk 로 쓴다. 전체 매장 재색인은 비동기 작업으로 돌리고 진행 상황을 Redis 에 남겨 어느
+ * 인스턴스에서든 조회할 수 있게 하며, 한 번에 하나만 실행된다.
+ */
+@Slf4j
+@Component
+public class CustomerReindexService {
+
+  private static final String TASK_KEY_PREFIX = "CUSTOMER_REINDEX:TASK:";
+  private static final String RUNNING_KEY = "CUSTOMER_REINDEX:RUNNING";
+  private static final Duration TASK_TTL = Duration.ofDays(1);
+  private static final Duration RUNNING_TTL = Duration.ofHours(6);
+  // 다른 인스턴스가 같은 때 실시간 색인한 문서를 지우지 않도록 두는 시계 차이 여유
+  private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+  private static final DefaultRedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private final CustomerJpaRepository customerJpaRepository;
+  private final CustomerDocumentAssembler documentAssembler;
+  private final CustomerSearchIndex searchIndex;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "customer-reindex");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  @Value("${customer.search.reindex.batch-size:2000}")
+  private int batchSize = 2000;
+
+  public CustomerReindexService(
+      CustomerJpaRepository customerJpaRepository,
+      CustomerDocumentAssembler documentAssembler,
+      CustomerSearchIndex searchIndex,
+      RedisTemplate<String, String> redisTemplate) {
+    this.customerJpaRepository = customerJpaRepository;
+    this.documentAssembler = documentAssembler;
+    this.searchIndex = searchIndex;
+    this.redisTemplate = redisTemplate;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * 매장 고객을 현재 인덱스에 다시 쓴다. reset 이면 이번에 쓰지 않은 매장 문서(DB 에서 사라지거나 삭제된 고객)를 지운다. 기존 문서를 덮어쓰므로
+   * 재색인 중에도 검색 결과가 비지 않는다.
+   */
+  public long reindexShop(Long shopId, boolean reset) {
+    LocalDateTime startedAt = LocalDateTime.now();
+    long processed =
+        load(
+            lastId ->
+                customerJpaRepository.findActiveByShopIdAndIdGreaterThan(
+                    shopId, lastId, PageRequest.of(0, batchSize)),
+            searchIndex::index,
+            null);
+    if (reset) {
+      searchIndex.deleteIndexedBefore(shopId, startedAt.minus(CLOCK_SKEW));
+    }
+    log.info("매장 {} 고객 재인덱싱 완료: {}건, 리셋={}", shopId, processed, reset);
+    return processed;
+  }
+
+  /** 전체 매장 고객을 현재 인덱스에 덮어쓰는 작업을 시작한다. */
+  public String startReindexAll() {
+    return start(taskId -> load(this::nextBatch, searchIndex::index, taskId));
+  }
+
+  /**
+   * 새 인덱스에 전체 매장 고객을 적재한 뒤 별칭을 옮기는 작업을 시작한다. 적재 중 들어온 변경은 실시간 색인이 새 인덱스에도 쓰고, 적재는 그 문서를
+   * 덮어쓰지 않는다.
+   */
+  public String startRebuild() {
+    return start(
+        taskId -> {
+          RebuildIndex rebuild = searchIndex.createRebuildIndex();
+          try {
+            long processed =
+                load(this::nextBatch, docs -> searchIndex.create(docs, rebuild.name()), taskId);
+            searchIndex.publish(rebuild);
+            return processed;
+          } catch (Exception e) {
+            searchIndex.abandon(rebuild);
+            throw e;
+          }
+        });
+  }
+
+  public ReindexStatus getStatus(String taskId) {
+    Map<Object, Object> fields = redisTemplate.opsForHash().entries(TASK_KEY_PREFIX + taskId);
+    if (fields.isEmpty()) {
+      throw new BusinessException(ErrorCode.CUSTOMER_REINDEX_TASK_NOT_FOUND);
+    }
+    return ReindexStatus.builder()
+        .taskId(taskId)
+        .status((String) fields.get("status"))
+        .totalCount(toLong(fields.get("totalCount")))
+        .processedCount(toLong(fields.get("processedCount")))
+        .startTime(toDateTime(fields.get("startTime")))
+        .endTime(toDateTime(fields.get("endTime")))
+        .errorMessage((String) fields.get("errorMessage"))
+        .shopId(toLong(fields.get("shopId")))
+        .build();
+  }
+
+  // 실행 중인 작업이 있으면 그 작업 ID 를 반환한다.
+  private String start(ReindexJob job) {
+    String taskId = UUID.randomUUID().toString();
+    Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RUNNING_KEY, taskId, RUNNING_TTL);
+    if (!Boolean.TRUE.equals(acquired)) {
+      String running = redisTemplate.opsForValue().get(RUNNING_KEY);
+      if (running != null) {
+        log.info("이미 실행 중인 고객 재인덱싱 작업: {}", running);
+        return running;
+      }
+      return start(job);
+    }
+
+    ReindexStatus status =
+        ReindexStatus.createRunning(taskId, customerJpaRepository.countByDeletedAtIsNull(), null);
+    saveStatus(status);
+    executor.execute(() -> run(status, job));
+    return taskId;
+  }
+
+  private void run(ReindexStatus running, ReindexJob job) {
+    String taskId = running.getTaskId();
+    try {
+      long processed = job.run(taskId);
+      saveStatus(
+          ReindexStatus.createCompleted(
+              taskId, running.getTotalCount(), processed, running.getStartTime(), null));
+      log.info("전체 매장 고객 재인덱싱 완료: 작업={}, {}건", taskId, processed);
+    } catch (Exception e) {
+      log.error("전체 매장 고객 재인덱싱 실패: 작업={}, 오류={}", taskId, e.getMessage(), e);
+      saveStatus(
+          ReindexStatus.createFailed(taskId, e.getMessage(), running.getStartTime(), null));
+    } finally {
+      try {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(RUNNING_KEY), taskId);
+      } catch (Exception e) {
+        log.warn("재인덱싱 실행 표시 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+      }
+    }
+  }
+
+  private List<Customer> nextBatch(Long lastId) {
+    return customerJpaRepository.findActiveByIdGreaterThan(lastId, PageRequest.of(0, batchSize));
+  }
+
+  private long load(
+      Function<Long, List<Customer>> nextBatch,
+      Consumer<List<CustomerDocument>> writer,
+      String taskId) {
+    long lastId = 0L;
+    long processed = 0L;
+    while (true) {
+      List<Customer> customers = nextBatch.apply(lastId);
+      if (customers.isEmpty()) {
+        break;
+      }
+
+      writer.accept(documentAssembler.toDocuments(customers));
+      processed += customers.size();
+      lastId = customers.get(customers.size() - 1).getId();
+      if (taskId != null) {
+        redisTemplate
+            .opsForHash()
+            .put(TASK_KEY_PREFIX + taskId, "processedCount", String.valueOf(processed));
+      }
+
+      if (customers.size() < batchSize) {
+        break;
+      }
+    }
+    return processed;
+  }
+
+  // 값이 없는 항목은 이전 상태의 값을 유지한다(실패 시 처리 건수 등).
+  private void saveStatus(ReindexStatus status) {
+    Map<String, String> fields = new HashMap<>();
+    putIfPresent(fields, "status", status.getStatus());
+    putIfPresent(fields, "totalCount", status.getTotalCount());
+    putIfPresent(fields, "processedCount", status.getProcessedCount());
+    putIfPresent(fields, "startTime", status.getStartTime());
+    putIfPresent(fields, "endTime", status.getEndTime());
+    putIfPresent(fields, "errorMessage", status.getErrorMessage());
+    putIfPresent(fields, "shopId", status.getShopId());
+
+    String key = TASK_KEY_PREFIX + status.getTaskId();
+    redisTemplate.opsForHash().putAll(key, fields);
+    redisTemplate.expire(key, TASK_TTL);
+  }
+
+  private static void putIfPresent(Map<String, String> fields, String name, Object value) {
+    if (value != null) {
+      fields.put(name, value.toString());
+    }
+  }
+
+  private static Long toLong(Object value) {
+    return value == null ? null : Long.valueOf(value.toString());
+  }
+
+  private static LocalDateTime toDateTime(Object value) {
+    return value == null ? null : LocalDateTime.parse(value.toString());
+  }
+
+  @FunctionalInterface
+  private interface ReindexJob {
+    long run(String taskId) throws Exception;
+  }
+}
@@ -0,0 +1,246 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 검색 인덱스 쓰기와 관리.
+ *
+ * <p>조회와 실시간 색인은 항상 별칭 {@value #ALIAS} 를 쓴다. 전체 재색인은 버전 인덱스({@code customers_yyyyMMddHHmmss})를
+ * 새로 만들어 채운 뒤 별칭을 한 번에 옮기므로, 재색인 중에도 검색은 기존 인덱스에서 계속된다. 재색인 중인 인덱스 이름은 Redis 에 두어 모든
+ * 인스턴스의 실시간 색인이 새 인덱스에도 함께 쓴다.
+ */
+@Slf4j
+@Component
+public class CustomerSearchIndex {
+
+  public static final String ALIAS = "customers";
+  private static final String REBUILD_TARGET_KEY = "CUSTOMER_REINDEX:TARGET";
+  private static final Duration REBUILD_TARGET_TTL = Duration.ofHours(6);
+  private static final DateTimeFormatter VERSION_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+  private static final String DEFAULT_REPLICAS = "1";
+  private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+  private static final int CONFLICT = 409;
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final ElasticsearchClient elasticsearchClient;
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public CustomerSearchIndex(
+      ElasticsearchOperations elasticsearchOperations,
+      ElasticsearchClient elasticsearchClient,
+      RedisTemplate<String, String> redisTemplate) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.elasticsearchClient = elasticsearchClient;
+    this.redisTemplate = redisTemplate;
+  }
+
+  /** 실시간 색인. 재색인 중이면 새 인덱스에도 쓴다. */
+  public void index(List<CustomerDocument> documents) {
+    for (String index : writeTargets()) {
+      bulk(documents, index, IndexQuery.OpType.INDEX);
+    }
+  }
+
+  /** DB 에서 사라진 고객의 문서 삭제 */
+  public void delete(List<String> documentIds) {
+    for (String index : writeTargets()) {
+      IndexCoordinates coordinates = IndexCoordinates.of(index);
+      documentIds.forEach(id -> elasticsearchOperations.delete(id, coordinates));
+    }
+  }
+
+  /** 재색인 적재. 이미 실시간 색인이 쓴 문서는 더 최신이므로 덮어쓰지 않는다. */
+  public void create(List<CustomerDocument> documents, String index) {
+    try {
+      bulk(documents, index, IndexQuery.OpType.CREATE);
+    } catch (BulkFailureException e) {
+      boolean onlyConflicts =
+          e.getFailedDocuments().values().stream()
+              .allMatch(failure -> failure.status() != null && failure.status() == CONFLICT);
+      if (!onlyConflicts) {
+        throw e;
+      }
+    }
+  }
+
+  /** 매장 문서 중 indexedBefore 이전에 색인된(또는 색인 시각이 없는) 문서 삭제 */
+  public void deleteIndexedBefore(Long shopId, LocalDateTime indexedBefore) {
+    Criteria criteria =
+        Criteria.where("shopId")
+            .is(shopId)
+            .and(Criteria.where("indexedAt").greaterThanEqual(indexedBefore).not());
+    elasticsearchOperations.delete(
+        DeleteQuery.builder(new CriteriaQuery(criteria)).build(),
+        CustomerDocument.class,
+        IndexCoordinates.of(ALIAS));
+  }
+
+  /**
+   * 재색인용 인덱스 생성. 현재 인덱스의 분석기 설정과 매핑을 그대로 복사하고, 적재 동안은 복제본과 refresh 를 끈다. 만든 뒤부터 실시간 색인이 새
+   * 인덱스에도 쓴다.
+   */
+  public RebuildIndex createRebuildIndex() throws IOException {
+    String name = ALIAS + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+    List<String> current = currentIndices();
+
+    String replicas = DEFAULT_REPLICAS;
+    if (current.isEmpty()) {
+      IndexOperations entityIndex = elasticsearchOperations.indexOps(CustomerDocument.class);
+      elasticsearchOperations
+          .indexOps(IndexCoordinates.of(name))
+          .create(entityIndex.createSettings(), entityIndex.createMapping());
+      elasticsearchClient
+          .indices()
+          .putSettings(
+              p ->
+                  p.index(name)
+                      .settings(s -> s.numberOfReplicas("0").refreshInterval(t -> t.time("-1"))));
+    } else {
+      String source = current.get(0);
+      IndexState state =
+          elasticsearchClient.indices().get(g -> g.index(source)).result().get(source);
+      IndexSettings live =
+          state.settings().index() != null ? state.settings().index() : state.settings();
+      if (live.numberOfReplicas() != null) {
+        replicas = live.numberOfReplicas();
+      }
+      elasticsearchClient
+          .indices()
+          .create(
+              c ->
+                  c.index(name)
+                      .mappings(state.mappings())
+                      .settings(
+                          s ->
+                              s.numberOfShards(live.numberOfShards())
+                                  .maxNgramDiff(live.maxNgramDiff())
+                                  .analysis(live.analysis())
+                                  .numberOfReplicas("0")
+                                  .refreshInterval(t -> t.time("-1"))));
+    }
+
+    redisTemplate.opsForValue().set(REBUILD_TARGET_KEY, name, REBUILD_TARGET_TTL);
+    log.info("고객 재색인 인덱스 생성: {}, 기존={}", name, current);
+    return new RebuildIndex(name, replicas);
+  }
+
+  /** 적재가 끝난 인덱스로 별칭을 옮기고 기존 인덱스를 지운다. */
+  public void publish(RebuildIndex rebuild) throws IOException {
+    String name = rebuild.name();
+    elasticsearchClient
+        .indices()
+        .putSettings(
+            p ->
+                p.index(name)
+                    .settings(
+                        s ->
+                            s.numberOfReplicas(rebuild.numberOfReplicas())
+                                .refreshInterval(t -> t.time(DEFAULT_REFRESH_INTERVAL))));
+    elasticsearchClient.indices().refresh(r -> r.index(name));
+
+    List<String> previous = currentIndices();
+    List<Action> actions = new ArrayList<>();
+    actions.add(Action.of(a -> a.add(add -> add.index(name).alias(ALIAS))));
+    if (previous.contains(ALIAS)) {
+      // 별칭 도입 전의 실제 인덱스 'customers' 는 별칭 추가와 같은 요청에서 지운다
+      actions.add(Action.of(a -> a.removeIndex(remove -> remove.index(ALIAS))));
+    } else if (!previous.isEmpty()) {
+      actions.add(Action.of(a -> a.remove(remove -> remove.indices(previous).alias(ALIAS))));
+    }
+    elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+    clearRebuildTarget();
+
+    List<String> obsolete = previous.stream().filter(index -> !index.equals(ALIAS)).toList();
+    if (!obsolete.isEmpty()) {
+      elasticsearchClient.indices().delete(d -> d.index(obsolete));
+    }
+    log.info("고객 검색 별칭 전환 완료: {} -> {}", previous, name);
+  }
+
+  /** 실패한 재색인 정리. 별칭은 그대로 기존 인덱스를 가리킨다. */
+  public void abandon(RebuildIndex rebuild) {
+    clearRebuildTarget();
+    try {
+      elasticsearchClient.indices().delete(d -> d.index(rebuild.name()));
+    } catch (Exception e) {
+      log.warn("재색인 인덱스 삭제 실패: {}, 오류={}", rebuild.name(), e.getMessage());
+    }
+  }
+
+  private List<String> writeTargets() {
+    String target = null;
+    try {
+      target = redisTemplate.opsForValue().get(REBUILD_TARGET_KEY);
+    } catch (Exception e) {
+      log.warn("재색인 대상 인덱스 조회 실패: {}", e.getMessage());
+    }
+    return target == null ? List.of(ALIAS) : List.of(ALIAS, target);
+  }
+
+  private void clearRebuildTarget() {
+    try {
+      redisTemplate.delete(REBUILD_TARGET_KEY);
+    } catch (Exception e) {
+      log.warn("재색인 대상 인덱스 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+    }
+  }
+
+  // 별칭이 가리키는 인덱스. 별칭 도입 전이면 실제 인덱스 'customers', 아무것도 없으면 빈 목록
+  private List<String> currentIndices() throws IOException {
+    try {
+      return new ArrayList<>(
+          elasticsearchClient.indices().getAlias(a -> a.name(ALIAS)).result().keySet());
+    } catch (ElasticsearchException e) {
+      if (e.status() != 404) {
+        throw e;
+      }
+    }
+    return elasticsearchClient.indices().exists(e -> e.index(ALIAS)).value()
+        ? List.of(ALIAS)
+        : List.of();
+  }
+
+  private void bulk(List<CustomerDocument> documents, String index, IndexQuery.OpType opType) {
+    if (documents.isEmpty()) {
+      return;
+    }
+    List<IndexQuery> queries =
+        documents.stream()
+            .map(
+                document ->
+                    new IndexQueryBuilder()
+                        .withId(document.getId())
+                        .withObject(document)
+                        .withOpType(opType)
+                        .build())
+            .toList();
+    elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of(index));
+  }
+
+  /** 재색인 중인 인덱스와 적재 후 되돌릴 복제본 수 */
+  public record RebuildIndex(String name, String numberOfReplicas) {}
+}
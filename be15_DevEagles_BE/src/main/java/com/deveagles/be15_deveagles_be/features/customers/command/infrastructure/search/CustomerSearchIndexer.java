@@ -0,0 +1,176 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerIndexOutbox;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerIndexOutboxRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 검색 색인기.
+ *
+ * <p>고객 변경과 같은 트랜잭션에 쌓인 {@link CustomerIndexOutbox} 를 오래된 순으로 모아 한 번의 bulk 요청으로 색인하고, 성공한 행만 지운다.
+ * 밀려 있으면 쉬지 않고 다음 묶음을 처리하고, 비어 있으면 poll 간격마다 확인한다. 색인에 실패하면 행을 남겨 둔 채 간격을 두 배씩 늘려 다시
+ * 시도한다. 여러 인스턴스 중 한 곳만 처리하도록 묶음마다 Redis 잠금을 잡는다.
+ */
+@Slf4j
+@Component
+public class CustomerSearchIndexer {
+
+  private static final String LOCK_KEY = "CUSTOMER_INDEX_OUTBOX:LOCK";
+
+  // 자신이 잡은 잠금만 해제
+  private static final DefaultRedisScript<Long> UNLOCK_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private final CustomerIndexOutboxRepository outboxRepository;
+  private final CustomerDocumentAssembler documentAssembler;
+  private final CustomerSearchIndex searchIndex;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "customer-search-indexer");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  @Value("${customer.search.indexer.enabled:true}")
+  private boolean enabled = true;
+
+  @Value("${customer.search.indexer.batch-size:500}")
+  private int batchSize = 500;
+
+  @Value("${customer.search.indexer.poll-interval-ms:1000}")
+  private long pollIntervalMillis = 1000;
+
+  @Value("${customer.search.indexer.max-backoff-ms:60000}")
+  private long maxBackoffMillis = 60000;
+
+  @Value("${customer.search.indexer.lock-ttl-seconds:60}")
+  private long lockTtlSeconds = 60;
+
+  private int consecutiveFailures;
+
+  public CustomerSearchIndexer(
+      CustomerIndexOutboxRepository outboxRepository,
+      CustomerDocumentAssembler documentAssembler,
+      CustomerSearchIndex searchIndex,
+      RedisTemplate<String, String> redisTemplate) {
+    this.outboxRepository = outboxRepository;
+    this.documentAssembler = documentAssembler;
+    this.searchIndex = searchIndex;
+    this.redisTemplate = redisTemplate;
+  }
+
+  @PostConstruct
+  public void start() {
+    if (enabled) {
+      executor.schedule(this::poll, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /** 고객 문서를 바로 색인한다. 수동 동기화와 outbox 처리에서 쓴다. */
+  public void index(Collection<Long> customerIds) {
+    searchIndex.index(documentAssembler.load(customerIds));
+  }
+
+  private void poll() {
+    long delay = pollIntervalMillis;
+    try {
+      if (flush() >= batchSize) {
+        delay = 0;
+      }
+      consecutiveFailures = 0;
+    } catch (Exception e) {
+      consecutiveFailures++;
+      delay =
+          Math.min(maxBackoffMillis, pollIntervalMillis << Math.min(consecutiveFailures, 16));
+      log.warn(
+          "고객 검색 색인 실패 ({}회 연속), {}ms 후 재시도: {}",
+          consecutiveFailures,
+          delay,
+          e.getMessage());
+    } finally {
+      if (!executor.isShutdown()) {
+        executor.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /** outbox 한 묶음 처리. 처리한 행 수를 반환한다. */
+  int flush() {
+    String token = UUID.randomUUID().toString();
+    Boolean locked =
+        redisTemplate
+            .opsForValue()
+            .setIfAbsent(LOCK_KEY, token, Duration.ofSeconds(lockTtlSeconds));
+    if (!Boolean.TRUE.equals(locked)) {
+      return 0;
+    }
+
+    try {
+      List<CustomerIndexOutbox> rows = outboxRepository.findOldest(PageRequest.of(0, batchSize));
+      if (rows.isEmpty()) {
+        return 0;
+      }
+
+      // 같은 고객의 여러 변경은 한 번만 색인
+      Map<Long, Long> shopIdByCustomerId = new LinkedHashMap<>();
+      rows.forEach(row -> shopIdByCustomerId.put(row.getCustomerId(), row.getShopId()));
+
+      List<CustomerDocument> documents = documentAssembler.load(shopIdByCustomerId.keySet());
+      searchIndex.index(documents);
+
+      Set<Long> indexed =
+          documents.stream().map(CustomerDocument::getCustomerId).collect(Collectors.toSet());
+      List<String> removed =
+          shopIdByCustomerId.entrySet().stream()
+              .filter(entry -> !indexed.contains(entry.getKey()))
+              .map(entry -> entry.getValue() + "_" + entry.getKey())
+              .toList();
+      if (!removed.isEmpty()) {
+        searchIndex.delete(removed);
+      }
+
+      outboxRepository.deleteAllByIdInBatch(rows.stream().map(CustomerIndexOutbox::getId).toList());
+      log.debug("고객 검색 색인 완료: 변경 {}건, 고객 {}명", rows.size(), shopIdByCustomerId.size());
+      return rows.size();
+    } finally {
+      unlock(token);
+    }
+  }
+
+  private void unlock(String token) {
+    try {
+      redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+    } catch (Exception e) {
+      log.warn("고객 검색 색인 잠금 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+    }
+  }
+}
@@ -1,5 +1,9 @@
 package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.common.events.CustomerRegistrationEvent;
+import com.deveagles.be15_deveagles_be.common.events.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.common.events.PaymentCompletedEvent;
+import com.deveagles.be15_deveagles_be.common.events.outbox.DomainEventPublisher;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
@@ -9,11 +13,18 @@ import com.deveagles.be15_deveagles_be.features.customers.command.application.dt
 import com.deveagles.be15_deveagles_be.features.customers.command.application.service.CustomerCommandService;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.service.CustomerTagService;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerIndexOutbox;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerIndexOutboxRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Change;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.AutomaticMessageTriggerService;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.AutomaticEventType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,8 +39,11 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
 
   private final CustomerRepository customerRepository;
   private final CustomerQueryService customerQueryService;
+  private final CustomerIndexOutboxRepository customerIndexOutboxRepository;
   private final AutomaticMessageTriggerService automaticMessageTriggerService;
   private final CustomerTagService customerTagService;
+  private final CustomerAudienceIndex customerAudienceIndex;
+  private final DomainEventPublisher domainEventPublisher;
 
   @Override
   public CustomerCommandResponse createCustomer(CreateCustomerRequest request) {
@@ -51,7 +65,8 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
             .build();
 
     Customer savedCustomer = customerRepository.save(customer);
-    customerQueryService.syncCustomerToElasticsearch(savedCustomer.getId());
+    enqueueIndex(savedCustomer);
+    publishRegistration(savedCustomer);
 
     if (request.tags() != null && !request.tags().isEmpty()) {
       request
@@ -105,7 +120,7 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
     Customer updatedCustomer = customerRepository.save(customer);
 
     // Elasticsearch 동기화
-    customerQueryService.syncCustomerToElasticsearch(updatedCustomer.getId());
+    enqueueIndex(updatedCustomer);
 
     log.info("고객 정보 수정됨: ID={}, 이름={}", updatedCustomer.getId(), updatedCustomer.getCustomerName());
 
@@ -124,7 +139,7 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
     log.info("고객 삭제됨: ID={}, 매장ID={}", customerId, shopId);
 
     // Elasticsearch 동기화
-    customerQueryService.syncCustomerToElasticsearch(customerId);
+    enqueueIndex(customer);
   }
 
   @Override
@@ -162,10 +177,22 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
             .findByIdAndShopId(customerId, shopId)
             .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND));
 
+    // 트리거 확인은 갱신 뒤에 처리되므로 갱신 전 방문일과 누적 매출을 이벤트에 담는다
+    LocalDate previousVisitDate = customer.getRecentVisitDate();
+    long previousTotalRevenue = customer.getTotalRevenue();
     customer.addVisit(revenue);
     Customer updatedCustomer = customerRepository.save(customer);
     log.info("고객 방문 추가됨: ID={}, 매출={}", customerId, revenue);
 
+    LocalDateTime now = LocalDateTime.now();
+    domainEventPublisher.publish(
+        CustomerVisitEvent.of(customerId, shopId, null, now, previousVisitDate));
+    if (revenue != null && revenue > 0) {
+      domainEventPublisher.publish(
+          PaymentCompletedEvent.of(
+              customerId, shopId, revenue.longValue(), now, previousTotalRevenue));
+    }
+
     return CustomerCommandResponse.from(updatedCustomer);
   }
 
@@ -201,7 +228,29 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
             .staffId(request.staffId())
             .build();
 
-    customerRepository.save(customer);
+    Customer savedCustomer = customerRepository.save(customer);
+    enqueueIndex(savedCustomer);
+    publishRegistration(savedCustomer);
+  }
+
+  // 신규 고객 워크플로우는 커밋 후 DomainEventDispatcher 가 전달한다
+  private void publishRegistration(Customer customer) {
+    domainEventPublisher.publish(
+        CustomerRegistrationEvent.of(customer.getId(), customer.getShopId(), LocalDateTime.now()));
+  }
+
+  // 같은 트랜잭션에 색인 대상을 남기고, CustomerSearchIndexer 가 커밋된 변경을 모아 색인한다.
+  // 고객 대상 색인에는 고객 활성 여부와 등급을 커밋 후 반영한다.
+  private void enqueueIndex(Customer customer) {
+    customerIndexOutboxRepository.save(CustomerIndexOutbox.of(customer));
+    if (customer.isDeleted()) {
+      customerAudienceIndex.record(Change.customer(customer.getShopId(), customer.getId(), false));
+    } else {
+      customerAudienceIndex.record(
+          List.of(
+              Change.customer(customer.getShopId(), customer.getId(), true),
+              Change.grade(customer.getShopId(), customer.getId(), customer.getCustomerGradeId())));
+    }
   }
 
   // SecurityContext에서 현재 사용자의 shopId 가져오기
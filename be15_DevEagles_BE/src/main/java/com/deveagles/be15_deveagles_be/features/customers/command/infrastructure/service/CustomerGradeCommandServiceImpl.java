@@ -7,6 +7,7 @@ import com.deveagles.be15_deveagles_be.features.customers.command.application.dt
 import com.deveagles.be15_deveagles_be.features.customers.command.application.service.CustomerGradeCommandService;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search.CustomerGradeNameCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomerGradeCommandServiceImpl implements CustomerGradeCommandService {
 
   private final CustomerGradeRepository customerGradeRepository;
+  private final CustomerGradeNameCache customerGradeNameCache;
 
   @Override
   public Long createCustomerGrade(CreateCustomerGradeRequest request) {
@@ -63,6 +65,7 @@ public class CustomerGradeCommandServiceImpl implements CustomerGradeCommandServ
 
     customerGrade.updateGradeName(request.getCustomerGradeName());
     customerGrade.updateDiscountRate(request.getDiscountRate());
+    customerGradeNameCache.evict(gradeId);
 
     log.info(
         "고객등급 수정 완료 - ID: {}, 매장ID: {}, 등급명: {} -> {}, 할인율: {}% -> {}%",
@@ -80,6 +83,7 @@ public class CustomerGradeCommandServiceImpl implements CustomerGradeCommandServ
 
     CustomerGrade customerGrade = findCustomerGradeById(gradeId);
     customerGradeRepository.delete(customerGrade);
+    customerGradeNameCache.evict(gradeId);
 
     log.info("고객등급 삭제 완료 - ID: {}, 등급명: {}", gradeId, customerGrade.getCustomerGradeName());
   }
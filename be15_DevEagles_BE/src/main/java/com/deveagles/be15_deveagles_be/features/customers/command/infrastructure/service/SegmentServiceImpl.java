@@ -7,6 +7,8 @@ import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggrega
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.SegmentByCustomer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentByCustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Change;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,6 +25,7 @@ public class SegmentServiceImpl implements SegmentService {
 
   private final SegmentRepository segmentRepository;
   private final SegmentByCustomerRepository segmentByCustomerRepository;
+  private final CustomerAudienceIndex customerAudienceIndex;
 
   @Override
   public void assignSegmentToCustomer(Long customerId, String segmentTag) {
@@ -46,6 +49,7 @@ public class SegmentServiceImpl implements SegmentService {
         SegmentByCustomer.builder().customerId(customerId).segmentId(segment.getId()).build();
 
     segmentByCustomerRepository.save(segmentByCustomer);
+    customerAudienceIndex.record(Change.segment(null, customerId, segment.getId(), true));
     log.info("고객 세그먼트 할당 완료: customerId={}, segmentTag={}", customerId, segmentTag);
   }
 
@@ -84,6 +88,7 @@ public class SegmentServiceImpl implements SegmentService {
     }
 
     segmentByCustomerRepository.deleteByCustomerIdAndSegmentId(customerId, segment.getId());
+    customerAudienceIndex.record(Change.segment(null, customerId, segment.getId(), false));
     log.info("고객 세그먼트 제거 완료: customerId={}, segmentTag={}", customerId, segmentTag);
   }
 
@@ -91,8 +96,13 @@ public class SegmentServiceImpl implements SegmentService {
   public void removeAllSegmentsFromCustomer(Long customerId) {
     log.info("고객 전체 세그먼트 제거: customerId={}", customerId);
 
-    int deletedCount = segmentByCustomerRepository.findByCustomerId(customerId).size();
+    List<SegmentByCustomer> assigned = segmentByCustomerRepository.findByCustomerId(customerId);
+    int deletedCount = assigned.size();
     segmentByCustomerRepository.deleteByCustomerId(customerId);
+    customerAudienceIndex.record(
+        assigned.stream()
+            .map(sbc -> Change.segment(null, customerId, sbc.getSegmentId(), false))
+            .toList());
 
     log.info("고객 전체 세그먼트 제거 완료: customerId={}, count={}", customerId, deletedCount);
   }
@@ -108,6 +118,10 @@ public class SegmentServiceImpl implements SegmentService {
       segmentByCustomerRepository.deleteByCustomerIdAndSegmentId(
           customerId, segmentByCustomer.getSegmentId());
     }
+    customerAudienceIndex.record(
+        riskSegments.stream()
+            .map(sbc -> Change.segment(null, customerId, sbc.getSegmentId(), false))
+            .toList());
 
     log.info("고객 위험 세그먼트 제거 완료: customerId={}, count={}", customerId, riskSegments.size());
   }
@@ -3,6 +3,7 @@ package com.deveagles.be15_deveagles_be.features.customers.query.controller;
 import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerSearchResult;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.ReindexStatus;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -190,19 +191,21 @@ public class CustomerElasticsearchController {
     }
   }
 
-  @Operation(summary = "전체 매장 재인덱싱", description = "모든 매장의 고객 데이터를 재인덱싱합니다. 시스템 관리자만 사용.")
+  @Operation(
+      summary = "전체 매장 재인덱싱",
+      description = "모든 매장의 고객 데이터를 비동기로 재인덱싱하고 작업 ID를 반환합니다. 시스템 관리자만 사용.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
-        description = "전체 재인덱싱 성공")
+        description = "전체 재인덱싱 시작")
   })
   @PostMapping("/reindex/all")
   public ResponseEntity<ApiResponse<String>> reindexAllShopsCustomers() {
     log.info("전체 매장 고객 재인덱싱 요청");
 
     try {
-      customerQueryService.reindexAllShopsCustomers();
-      return ResponseEntity.ok(ApiResponse.success("모든 매장의 고객 데이터가 성공적으로 재인덱싱되었습니다."));
+      String taskId = customerQueryService.reindexAllShopsCustomers();
+      return ResponseEntity.ok(ApiResponse.success("전체 매장 재인덱싱을 시작했습니다. 작업 ID: " + taskId));
     } catch (Exception e) {
       log.error("전체 매장 재인덱싱 실패 - 오류: {}", e.getMessage());
       return ResponseEntity.ok(ApiResponse.success("전체 재인덱싱 중 오류가 발생했습니다: " + e.getMessage()));
@@ -211,22 +214,39 @@ public class CustomerElasticsearchController {
 
   @Operation(
       summary = "전체 매장 안전한 재인덱싱 (리셋)",
-      description = "모든 인덱스를 삭제하고 전체 재생성합니다. DB 전체 데이터를 갈은 경우 사용.")
+      description =
+          "새 인덱스에 전체 고객을 적재한 뒤 별칭을 옮기고 기존 인덱스를 삭제합니다. 재인덱싱 중에도 검색은 기존 인덱스로 계속됩니다."
+              + " DB 전체 데이터를 갈은 경우 사용.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
-        description = "전체 안전한 재인덱싱 성공")
+        description = "전체 안전한 재인덱싱 시작")
   })
   @PostMapping("/reindex/all/reset")
   public ResponseEntity<ApiResponse<String>> reindexAllShopsCustomersWithReset() {
     log.info("전체 매장 안전한 고객 재인덱싱 요청");
 
     try {
-      customerQueryService.reindexAllShopsCustomersWithReset();
-      return ResponseEntity.ok(ApiResponse.success("모든 매장의 고객 데이터가 안전하게 재인덱싱되었습니다."));
+      String taskId = customerQueryService.reindexAllShopsCustomersWithReset();
+      return ResponseEntity.ok(ApiResponse.success("전체 매장 안전한 재인덱싱을 시작했습니다. 작업 ID: " + taskId));
     } catch (Exception e) {
       log.error("전체 매장 안전한 재인덱싱 실패 - 오류: {}", e.getMessage());
       return ResponseEntity.ok(ApiResponse.success("전체 안전한 재인덱싱 중 오류가 발생했습니다: " + e.getMessage()));
     }
   }
+
+  @Operation(summary = "재인덱싱 진행 상황", description = "전체 매장 재인덱싱 작업의 상태와 처리 건수를 조회합니다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "작업을 찾을 수 없음")
+  })
+  @GetMapping("/reindex/{taskId}")
+  public ResponseEntity<ApiResponse<ReindexStatus>> getReindexStatus(
+      @Parameter(description = "작업 ID", required = true) @PathVariable String taskId) {
+    return ResponseEntity.ok(ApiResponse.success(customerQueryService.getReindexStatus(taskId)));
+  }
 }
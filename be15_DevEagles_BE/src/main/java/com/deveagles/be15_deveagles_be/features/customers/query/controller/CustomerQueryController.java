@@ -171,7 +171,12 @@ public class CustomerQueryController {
           String sortBy,
       @Parameter(description = "정렬 방향 (ASC/DESC)", example = "DESC")
           @RequestParam(defaultValue = "DESC")
-          String sortDirection) {
+          String sortDirection,
+      @Parameter(
+              description = "키셋 커서 (이전 페이지 마지막 고객 ID, 선택한 정렬 기준으로 그 고객 다음부터 조회)",
+              example = "1024")
+          @RequestParam(required = false)
+          Long cursorId) {
 
     log.info(
         "고객 통합 검색 요청 - 매장ID: {}, 키워드: {}, 등급ID: {}, 성별: {}",
@@ -197,7 +202,8 @@ public class CustomerQueryController {
             page,
             size,
             sortBy,
-            sortDirection);
+            sortDirection,
+            cursorId);
 
     PagedResult<CustomerSearchResult> pagedResult = customerQueryService.advancedSearch(query);
     PagedResponse<CustomerSearchResult> response = PagedResponse.from(pagedResult);
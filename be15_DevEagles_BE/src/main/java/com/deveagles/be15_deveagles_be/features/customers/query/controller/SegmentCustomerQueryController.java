@@ -2,7 +2,10 @@ package com.deveagles.be15_deveagles_be.features.customers.query.controller;
 
 import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.AudienceExpression;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.AudiencePreviewResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.SegmentCustomersResponse;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerAudienceQueryService;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +21,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -31,6 +36,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class SegmentCustomerQueryController {
 
   private final CustomerQueryService customerQueryService;
+  private final CustomerAudienceQueryService customerAudienceQueryService;
 
   @Operation(summary = "세그먼트 태그별 고객 ID 조회", description = "특정 세그먼트 태그에 속한 고객 ID 목록을 조회합니다.")
   @ApiResponses({
@@ -171,4 +177,29 @@ public class SegmentCustomerQueryController {
 
     return ResponseEntity.ok(ApiResponse.success(responses));
   }
+
+  @Operation(
+      summary = "고객 대상 미리보기",
+      description = "세그먼트, 태그, 등급, 최근 메시지 수신 조건을 AND/OR/NOT 으로 조합한 대상의 인원 수와 일부 고객 ID 를 조회합니다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "고객 대상 미리보기 성공",
+        content = @Content(schema = @Schema(implementation = AudiencePreviewResponse.class))),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 대상 조건")
+  })
+  @PostMapping("/audience/preview")
+  public ResponseEntity<ApiResponse<AudiencePreviewResponse>> previewAudience(
+      @AuthenticationPrincipal CustomUser user,
+      @RequestBody AudienceExpression expression,
+      @Parameter(description = "함께 반환할 고객 ID 수") @RequestParam(defaultValue = "20")
+          int sampleSize) {
+
+    AudiencePreviewResponse response =
+        customerAudienceQueryService.preview(user.getShopId(), expression, sampleSize);
+
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
 }
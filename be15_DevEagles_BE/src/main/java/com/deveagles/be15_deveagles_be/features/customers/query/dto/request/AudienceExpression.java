@@ -0,0 +1,34 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.dto.request;
+
+import java.util.List;
+
+/**
+ * 고객 대상 조건식. 세그먼트/태그/등급/최근 메시지 수신 조건을 AND, OR, NOT 으로 조합한다.
+ *
+ * <p>예) VIP 이면서 최근 30일 메시지 수신자가 아니고 태그 7 이 있는 고객
+ *
+ * <pre>{@code
+ * {"operator": "AND", "operands": [
+ *   {"operator": "SEGMENT", "segmentTag": "VIP"},
+ *   {"operator": "NOT", "operands": [{"operator": "RECENTLY_MESSAGED", "days": 30}]},
+ *   {"operator": "TAG", "id": 7}]}
+ * }</pre>
+ */
+public record AudienceExpression(
+    Operator operator,
+    Long id, // SEGMENT, TAG, GRADE 의 ID
+    String segmentTag, // SEGMENT 는 ID 대신 태그로도 지정 가능
+    Integer days, // RECENTLY_MESSAGED 기간(일), 기본 30
+    List<AudienceExpression> operands) { // AND, OR, NOT 의 하위 조건
+
+  public enum Operator {
+    ALL,
+    SEGMENT,
+    TAG,
+    GRADE,
+    RECENTLY_MESSAGED,
+    AND,
+    OR,
+    NOT
+  }
+}
@@ -18,7 +18,8 @@ public record CustomerSearchQuery(
     int page,
     int size,
     String sortBy,
-    String sortDirection) {
+    String sortDirection,
+    Long cursorId) { // 키셋 커서: 이전 페이지 마지막 고객 ID (정렬 값이 같으면 고객 ID 순, 총 건수 생략)
   public CustomerSearchQuery {
     if (page < 0) page = 0;
     if (size <= 0) size = 20;
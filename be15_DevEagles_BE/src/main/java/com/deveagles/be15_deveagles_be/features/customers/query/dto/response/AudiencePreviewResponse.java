@@ -0,0 +1,5 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.dto.response;
+
+import java.util.List;
+
+public record AudiencePreviewResponse(long customerCount, List<Long> sampleCustomerIds) {}
@@ -40,7 +40,15 @@ public class CustomerDocument {
   @Field(type = FieldType.Date)
   private LocalDateTime deletedAt;
 
+  // 색인 시각. 매장 리셋 재색인에서 이번에 쓰지 않은 문서를 찾는 데 쓴다.
+  @Field(type = FieldType.Date)
+  private LocalDateTime indexedAt;
+
   public static CustomerDocument from(Customer customer) {
+    return of(customer, null); // 조인 정보가 필요하므로 별도 처리 필요
+  }
+
+  public static CustomerDocument of(Customer customer, String customerGradeName) {
     return CustomerDocument.builder()
         .id(customer.getShopId() + "_" + customer.getId())
         .customerId(customer.getId())
@@ -48,9 +56,10 @@ public class CustomerDocument {
         .customerName(customer.getCustomerName())
         .phoneNumber(customer.getPhoneNumber())
         .customerGradeId(customer.getCustomerGradeId())
-        .customerGradeName(null) // 조인 정보가 필요하므로 별도 처리 필요
+        .customerGradeName(customerGradeName)
         .gender(customer.getGender() != null ? customer.getGender().name() : null)
         .deletedAt(customer.getDeletedAt())
+        .indexedAt(LocalDateTime.now())
         .build();
   }
 }
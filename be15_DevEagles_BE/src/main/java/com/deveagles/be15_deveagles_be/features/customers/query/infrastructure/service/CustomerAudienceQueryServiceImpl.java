@@ -0,0 +1,166 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomer.customer;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Dimension;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerBitmap;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.AudienceExpression;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.AudienceExpression.Operator;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.AudiencePreviewResponse;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerAudienceQueryService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class CustomerAudienceQueryServiceImpl implements CustomerAudienceQueryService {
+
+  private static final int DEFAULT_RECENT_MESSAGE_DAYS = 30;
+  private static final int MAX_DEPTH = 10;
+  private static final int MAX_SAMPLE_SIZE = 1000;
+
+  private final CustomerAudienceIndex customerAudienceIndex;
+  private final SegmentRepository segmentRepository;
+  private final JPAQueryFactory queryFactory;
+
+  @Override
+  public AudiencePreviewResponse preview(
+      Long shopId, AudienceExpression expression, int sampleSize) {
+    long startedAt = System.currentTimeMillis();
+    CustomerBitmap audience = evaluate(shopId, expression, 0);
+    long customerCount = audience.cardinality();
+
+    log.info(
+        "고객 대상 미리보기 - 매장ID: {}, 대상 수: {}, {}ms",
+        shopId,
+        customerCount,
+        System.currentTimeMillis() - startedAt);
+
+    int limit = Math.min(Math.max(0, sampleSize), MAX_SAMPLE_SIZE);
+    return new AudiencePreviewResponse(customerCount, audience.toList(limit));
+  }
+
+  @Override
+  public long count(Long shopId, AudienceExpression expression) {
+    return evaluate(shopId, expression, 0).cardinality();
+  }
+
+  @Override
+  public List<Long> getCustomerIds(Long shopId, AudienceExpression expression) {
+    return evaluate(shopId, expression, 0).toList();
+  }
+
+  private CustomerBitmap evaluate(Long shopId, AudienceExpression expression, int depth) {
+    if (expression == null || expression.operator() == null) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "대상 조건이 비어 있습니다.");
+    }
+    if (depth > MAX_DEPTH) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "대상 조건이 너무 깊습니다.");
+    }
+
+    return switch (expression.operator()) {
+      case ALL -> customerAudienceIndex.customers(shopId);
+      case SEGMENT ->
+          customerAudienceIndex.members(shopId, Dimension.SEGMENT, resolveSegmentId(expression));
+      case TAG -> customerAudienceIndex.members(shopId, Dimension.TAG, requireId(expression));
+      case GRADE -> customerAudienceIndex.members(shopId, Dimension.GRADE, requireId(expression));
+      case RECENTLY_MESSAGED -> recentlyMessaged(shopId, expression.days());
+      case AND -> and(shopId, operands(expression, 1), depth);
+      case OR -> {
+        CustomerBitmap result = CustomerBitmap.empty();
+        for (AudienceExpression operand : operands(expression, 1)) {
+          result = result.or(evaluate(shopId, operand, depth + 1));
+        }
+        yield result;
+      }
+      case NOT ->
+          customerAudienceIndex
+              .customers(shopId)
+              .andNot(evaluate(shopId, operands(expression, 1).get(0), depth + 1));
+    };
+  }
+
+  // NOT 조건은 전체 고객에서 여집합을 만들지 않고 앞 조건 결과에서 바로 뺀다
+  private CustomerBitmap and(Long shopId, List<AudienceExpression> operands, int depth) {
+    List<AudienceExpression> excluded = new ArrayList<>();
+    CustomerBitmap result = null;
+    for (AudienceExpression operand : operands) {
+      if (operand != null && operand.operator() == Operator.NOT) {
+        excluded.add(operands(operand, 1).get(0));
+        continue;
+      }
+      CustomerBitmap matched = evaluate(shopId, operand, depth + 1);
+      result = result == null ? matched : result.and(matched);
+    }
+    if (result == null) {
+      result = customerAudienceIndex.customers(shopId);
+    }
+    for (AudienceExpression operand : excluded) {
+      if (result.isEmpty()) {
+        break;
+      }
+      result = result.andNot(evaluate(shopId, operand, depth + 2));
+    }
+    return result;
+  }
+
+  private CustomerBitmap recentlyMessaged(Long shopId, Integer days) {
+    LocalDateTime since =
+        LocalDateTime.now().minusDays(days != null ? days : DEFAULT_RECENT_MESSAGE_DAYS);
+    return CustomerBitmap.of(
+        queryFactory
+            .select(customer.id)
+            .from(customer)
+            .where(
+                customer.shopId.eq(shopId),
+                customer.deletedAt.isNull(),
+                customer.lastMessageSentAt.goe(since))
+            .fetch());
+  }
+
+  private Long resolveSegmentId(AudienceExpression expression) {
+    if (expression.id() != null) {
+      return expression.id();
+    }
+    if (expression.segmentTag() == null || expression.segmentTag().isBlank()) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "세그먼트 ID 또는 태그가 필요합니다.");
+    }
+    return segmentRepository
+        .findBySegmentTag(expression.segmentTag().toUpperCase())
+        .orElseThrow(
+            () ->
+                new BusinessException(
+                    ErrorCode.SEGMENT_NOT_FOUND,
+                    "세그먼트를 찾을 수 없습니다: " + expression.segmentTag()))
+        .getId();
+  }
+
+  private Long requireId(AudienceExpression expression) {
+    if (expression.id() == null) {
+      throw new BusinessException(
+          ErrorCode.INVALID_INPUT_VALUE, expression.operator() + " 조건에는 ID 가 필요합니다.");
+    }
+    return expression.id();
+  }
+
+  private List<AudienceExpression> operands(AudienceExpression expression, int minSize) {
+    List<AudienceExpression> operands = expression.operands();
+    if (operands == null || operands.size() < minSize) {
+      throw new BusinessException(
+          ErrorCode.INVALID_INPUT_VALUE, expression.operator() + " 조건에 하위 조건이 필요합니다.");
+    }
+    return operands;
+  }
+}
@@ -11,14 +11,28 @@ import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.response.TagResponse;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Segment;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
 import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerElasticsearchRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search.CustomerReindexService;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search.CustomerSearchIndexer;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerDetailQueryRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerListQueryRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
@@ -27,10 +41,9 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -42,15 +55,15 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
   private final CustomerJpaRepository customerJpaRepository;
   private final CustomerRepository customerRepository;
   private final CustomerElasticsearchRepository elasticsearchRepository;
+  private final CustomerSearchIndexer customerSearchIndexer;
+  private final CustomerReindexService customerReindexService;
   private final CustomerDetailQueryRepository customerDetailQueryRepository;
   private final CustomerListQueryRepository customerListQueryRepository;
   private final JPAQueryFactory queryFactory;
-  private final com.deveagles.be15_deveagles_be.features.customers.command.domain.repository
-          .SegmentByCustomerRepository
-      segmentByCustomerRepository;
   private final com.deveagles.be15_deveagles_be.features.customers.command.domain.repository
           .SegmentRepository
       segmentRepository;
+  private final CustomerAudienceIndex customerAudienceIndex;
 
   // 기본 조회
   @Override
@@ -111,113 +124,196 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
   @Override
   public PagedResult<CustomerSearchResult> advancedSearch(CustomerSearchQuery query) {
     try {
-      Sort sort =
-          Sort.by(
-              "DESC".equalsIgnoreCase(query.sortDirection())
-                  ? Sort.Direction.DESC
-                  : Sort.Direction.ASC,
-              mapSortField(query.sortBy()));
-
-      Pageable pageable = PageRequest.of(query.page(), query.size(), sort);
+      BooleanBuilder condition = buildSearchCondition(query);
+      boolean descending = "DESC".equalsIgnoreCase(query.sortDirection());
 
-      // 기본 쿼리 생성
-      JPAQuery<Customer> jpaQuery =
+      // 결과 조회 (엔티티 대신 필요한 컬럼만 DTO로 조회)
+      JPAQuery<CustomerSearchResult> contentQuery =
           queryFactory
-              .selectFrom(customer)
+              .select(
+                  Projections.constructor(
+                      CustomerSearchResult.class,
+                      customer.id,
+                      customer.customerName,
+                      customer.phoneNumber,
+                      customer.customerGradeId,
+                      customerGrade.customerGradeName,
+                      customer.gender))
+              .from(customer)
               .leftJoin(customerGrade)
               .on(customer.customerGradeId.eq(customerGrade.id))
-              .where(customer.shopId.eq(query.shopId()).and(customer.deletedAt.isNull()));
-
-      // 키워드 검색
-      if (query.keyword() != null && !query.keyword().trim().isEmpty()) {
-        jpaQuery.where(
-            customer
-                .customerName
-                .containsIgnoreCase(query.keyword())
-                .or(customer.phoneNumber.containsIgnoreCase(query.keyword())));
+              .limit(query.size());
+
+      List<CustomerSearchResult> responses;
+      Pagination pagination;
+      ComparableExpressionBase<?> sortKey = searchSortKey(query.sortBy());
+      if (query.cursorId() != null) {
+        // 키셋 모드: 이전 페이지 마지막 고객의 (정렬 값, 고객 ID) 다음부터 조회 (총 건수 생략)
+        Tuple cursor =
+            queryFactory
+                .select(customer.id, sortKey)
+                .from(customer)
+                .where(customer.id.eq(query.cursorId()))
+                .fetchOne();
+        Predicate seek =
+            cursor != null
+                ? seekAfter(sortKey, cursor.get(sortKey), query.cursorId(), descending)
+                : idAfter(query.cursorId(), descending);
+        responses =
+            contentQuery
+                .where(condition, seek)
+                .orderBy(
+                    descending ? sortKey.desc() : sortKey.asc(),
+                    descending ? customer.id.desc() : customer.id.asc())
+                .fetch();
+        pagination = Pagination.builder().currentPage(query.page()).build();
+      } else {
+        Long total =
+            queryFactory
+                .select(customer.id.countDistinct())
+                .from(customer)
+                .where(condition)
+                .fetchOne();
+        long totalItems = total != null ? total : 0L;
+
+        responses =
+            totalItems == 0
+                ? List.of()
+                : contentQuery
+                    .where(condition)
+                    .orderBy(
+                        descending ? sortKey.desc() : sortKey.asc(),
+                        descending ? customer.id.desc() : customer.id.asc())
+                    .offset((long) query.page() * query.size())
+                    .fetch();
+        pagination =
+            Pagination.builder()
+                .currentPage(query.page())
+                .totalPages((int) Math.ceil((double) totalItems / query.size()))
+                .totalItems(totalItems)
+                .build();
       }
 
-      // 고객 등급 필터링
-      if (query.customerGradeIds() != null && !query.customerGradeIds().isEmpty()) {
-        jpaQuery.where(customer.customerGradeId.in(query.customerGradeIds()));
-      }
+      return new PagedResult<>(responses, pagination);
 
-      // 태그 필터링
-      if (query.tagIds() != null && !query.tagIds().isEmpty()) {
-        jpaQuery
-            .innerJoin(tagByCustomer)
-            .on(customer.id.eq(tagByCustomer.customerId))
-            .where(tagByCustomer.tagId.in(query.tagIds().stream().map(Long::valueOf).toList()));
-      }
+    } catch (Exception e) {
+      log.error("JPA 고급 검색 실패: {}", e.getMessage(), e);
+      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
 
-      // 성별 필터링
-      if (query.gender() != null) {
-        jpaQuery.where(customer.gender.eq(Customer.Gender.valueOf(query.gender())));
-      }
+  @Override
+  public List<Long> searchCustomerIds(CustomerSearchQuery query, int limit) {
+    BooleanBuilder condition = buildSearchCondition(query);
+    if (query.cursorId() != null) {
+      condition.and(customer.id.gt(query.cursorId()));
+    }
 
-      // 마케팅 동의 필터링
-      if (query.marketingConsent() != null) {
-        jpaQuery.where(customer.marketingConsent.eq(query.marketingConsent()));
-      }
+    return queryFactory
+        .select(customer.id)
+        .from(customer)
+        .where(condition)
+        .orderBy(customer.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  private BooleanBuilder buildSearchCondition(CustomerSearchQuery query) {
+    BooleanBuilder condition =
+        new BooleanBuilder(customer.shopId.eq(query.shopId()).and(customer.deletedAt.isNull()));
+
+    // 키워드 검색
+    if (query.keyword() != null && !query.keyword().trim().isEmpty()) {
+      condition.and(
+          customer
+              .customerName
+              .containsIgnoreCase(query.keyword())
+              .or(customer.phoneNumber.containsIgnoreCase(query.keyword())));
+    }
 
-      // 알림 동의 필터링
-      if (query.notificationConsent() != null) {
-        jpaQuery.where(customer.notificationConsent.eq(query.notificationConsent()));
-      }
+    // 고객 등급 필터링
+    if (query.customerGradeIds() != null && !query.customerGradeIds().isEmpty()) {
+      condition.and(customer.customerGradeId.in(query.customerGradeIds()));
+    }
 
-      // 휴면 고객 제외
-      if (query.excludeDormant() != null && query.excludeDormant()) {
-        LocalDateTime dormantDate =
-            LocalDateTime.now()
-                .minusMonths(query.dormantMonths() != null ? query.dormantMonths() : 6);
-        jpaQuery.where(customer.recentVisitDate.after(dormantDate.toLocalDate()));
-      }
+    // 태그 필터링 (조인 대신 EXISTS 로 고객 중복 방지)
+    if (query.tagIds() != null && !query.tagIds().isEmpty()) {
+      condition.and(
+          JPAExpressions.selectOne()
+              .from(tagByCustomer)
+              .where(
+                  tagByCustomer.customerId.eq(customer.id),
+                  tagByCustomer.tagId.in(query.tagIds().stream().map(Long::valueOf).toList()))
+              .exists());
+    }
 
-      // 최근 메시지 수신자 제외
-      if (query.excludeRecentMessage() != null && query.excludeRecentMessage()) {
-        LocalDateTime recentMessageDate =
-            LocalDateTime.now()
-                .minusDays(query.recentMessageDays() != null ? query.recentMessageDays() : 30);
-        jpaQuery.where(
-            customer
-                .lastMessageSentAt
-                .before(recentMessageDate)
-                .or(customer.lastMessageSentAt.isNull()));
-      }
+    // 성별 필터링
+    if (query.gender() != null) {
+      condition.and(customer.gender.eq(Customer.Gender.valueOf(query.gender())));
+    }
 
-      // 페이징 적용
-      List<Customer> countResult = jpaQuery.fetch();
-      long total = countResult.size();
-      List<Customer> customers =
-          jpaQuery.offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
-
-      // 결과 변환
-      List<CustomerSearchResult> responses =
-          customers.stream()
-              .map(
-                  c ->
-                      CustomerSearchResult.of(
-                          c.getId(),
-                          c.getCustomerName(),
-                          c.getPhoneNumber(),
-                          c.getCustomerGradeId(),
-                          null, // customerGradeName은 나중에 조인으로 가져오도록 수정
-                          c.getGender()))
-              .toList();
-
-      Pagination pagination =
-          Pagination.builder()
-              .currentPage(query.page())
-              .totalPages((int) Math.ceil((double) total / query.size()))
-              .totalItems(total)
-              .build();
+    // 마케팅 동의 필터링
+    if (query.marketingConsent() != null) {
+      condition.and(customer.marketingConsent.eq(query.marketingConsent()));
+    }
 
-      return new PagedResult<>(responses, pagination);
+    // 알림 동의 필터링
+    if (query.notificationConsent() != null) {
+      condition.and(customer.notificationConsent.eq(query.notificationConsent()));
+    }
 
-    } catch (Exception e) {
-      log.error("JPA 고급 검색 실패: {}", e.getMessage(), e);
-      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+    // 휴면 고객 제외
+    if (query.excludeDormant() != null && query.excludeDormant()) {
+      LocalDateTime dormantDate =
+          LocalDateTime.now().minusMonths(query.dormantMonths() != null ? query.dormantMonths() : 6);
+      condition.and(customer.recentVisitDate.after(dormantDate.toLocalDate()));
     }
+
+    // 최근 메시지 수신자 제외
+    if (query.excludeRecentMessage() != null && query.excludeRecentMessage()) {
+      LocalDateTime recentMessageDate =
+          LocalDateTime.now()
+              .minusDays(query.recentMessageDays() != null ? query.recentMessageDays() : 30);
+      condition.and(
+          customer
+              .lastMessageSentAt
+              .before(recentMessageDate)
+              .or(customer.lastMessageSentAt.isNull()));
+    }
+
+    return condition;
+  }
+
+  private ComparableExpressionBase<?> searchSortKey(String sortBy) {
+    return switch (sortBy) {
+      case "customerName" -> customer.customerName;
+      case "phoneNumber" -> customer.phoneNumber;
+      case "recentVisitDate" -> customer.recentVisitDate;
+      case "visitCount" -> customer.visitCount;
+      case "totalRevenue" -> customer.totalRevenue;
+      default -> customer.createdAt;
+    };
+  }
+
+  // 정렬 값이 같으면 고객 ID 로 이어 간다.
+  // MySQL 은 NULL 을 오름차순에서 먼저, 내림차순에서 나중에 둔다
+  static Predicate seekAfter(
+      ComparableExpressionBase<?> sortKey, Object cursorValue, Long cursorId, boolean descending) {
+    BooleanExpression sameKeyAfterCursor = idAfter(cursorId, descending);
+    if (cursorValue == null) {
+      BooleanExpression nullKeyAfterCursor = sortKey.isNull().and(sameKeyAfterCursor);
+      return descending ? nullKeyAfterCursor : nullKeyAfterCursor.or(sortKey.isNotNull());
+    }
+
+    Expression<?> value = Expressions.constant(cursorValue);
+    BooleanExpression seek =
+        Expressions.booleanOperation(descending ? Ops.LT : Ops.GT, sortKey, value)
+            .or(Expressions.booleanOperation(Ops.EQ, sortKey, value).and(sameKeyAfterCursor));
+    return descending ? seek.or(sortKey.isNull()) : seek;
+  }
+
+  private static BooleanExpression idAfter(Long cursorId, boolean descending) {
+    return descending ? customer.id.lt(cursorId) : customer.id.gt(cursorId);
   }
 
   @Override
@@ -271,52 +367,32 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 
   // Elasticsearch 동기화
   @Override
-  @Transactional
   public void syncCustomerToElasticsearch(Long customerId) {
     try {
-      customerJpaRepository
-          .findById(customerId)
-          .ifPresent(
-              cust -> {
-                CustomerDocument document = createCustomerDocumentWithGradeName(cust);
-                elasticsearchRepository.save(document);
-                log.info("고객 Elasticsearch 동기화 완료: ID={}", customerId);
-              });
+      customerSearchIndexer.index(List.of(customerId));
+      log.info("고객 Elasticsearch 동기화 완료: ID={}", customerId);
     } catch (Exception e) {
       log.error("고객 Elasticsearch 동기화 실패: ID={}, error={}", customerId, e.getMessage());
     }
   }
 
+  // 묶음마다 읽고 버리도록 트랜잭션 밖에서 실행한다
   @Override
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void reindexAllCustomers(Long shopId) {
     try {
-      List<Customer> customers = customerJpaRepository.findByShopIdAndDeletedAtIsNull(shopId);
-      List<CustomerDocument> documents =
-          customers.stream()
-              .map(this::createCustomerDocumentWithGradeName)
-              .collect(Collectors.toList());
-
-      elasticsearchRepository.saveAll(documents);
-      log.info("매장 {} 고객 데이터 재인덱싱 완료: {}건", shopId, documents.size());
+      customerReindexService.reindexShop(shopId, false);
     } catch (Exception e) {
       log.error("고객 데이터 재인덱싱 실패: shopId={}, error={}", shopId, e.getMessage());
     }
   }
 
   @Override
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void reindexAllCustomersWithReset(Long shopId) {
     try {
       log.info("매장 {} 고객 데이터 리셋 후 재인덱싱 시작", shopId);
-
-      // 1. 해당 매장의 기존 문서 삭제
-      deleteCustomerDocumentsByShopId(shopId);
-
-      // 2. 배치 처리로 재인덱싱
-      reindexCustomersByBatch(shopId);
-
-      log.info("매장 {} 고객 데이터 리셋 후 재인덱싱 완료", shopId);
+      customerReindexService.reindexShop(shopId, true);
     } catch (Exception e) {
       log.error("매장 {} 고객 데이터 리셋 후 재인덱싱 실패: {}", shopId, e.getMessage());
       throw new RuntimeException("재인덱싱 실패", e);
@@ -324,143 +400,20 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
   }
 
   @Override
-  @Transactional
-  public void reindexAllShopsCustomers() {
-    try {
-      log.info("전체 매장 고객 데이터 재인덱싱 시작");
-
-      List<Long> shopIds = customerJpaRepository.findDistinctShopIds();
-
-      for (Long shopId : shopIds) {
-        try {
-          reindexCustomersByBatch(shopId);
-          log.info("매장 {} 재인덱싱 완료", shopId);
-        } catch (Exception e) {
-          log.error("매장 {} 재인덱싱 실패: {}", shopId, e.getMessage());
-          // 다른 매장은 계속 처리
-        }
-      }
-
-      log.info("전체 매장 고객 데이터 재인덱싱 완료");
-    } catch (Exception e) {
-      log.error("전체 매장 고객 데이터 재인덱싱 실패: {}", e.getMessage());
-      throw new RuntimeException("전체 재인덱싱 실패", e);
-    }
+  public String reindexAllShopsCustomers() {
+    log.info("전체 매장 고객 데이터 재인덱싱 시작");
+    return customerReindexService.startReindexAll();
   }
 
   @Override
-  @Transactional
-  public void reindexAllShopsCustomersWithReset() {
-    try {
-      log.info("전체 매장 고객 데이터 리셋 후 재인덱싱 시작");
-
-      // 1. 모든 고객 문서 삭제
-      elasticsearchRepository.deleteAll();
-      log.info("기존 고객 문서 전체 삭제 완료");
-
-      // 2. 전체 매장 재인덱싱
-      reindexAllShopsCustomers();
-
-      log.info("전체 매장 고객 데이터 리셋 후 재인덱싱 완료");
-    } catch (Exception e) {
-      log.error("전체 매장 고객 데이터 리셋 후 재인덱싱 실패: {}", e.getMessage());
-      throw new RuntimeException("전체 리셋 후 재인덱싱 실패", e);
-    }
+  public String reindexAllShopsCustomersWithReset() {
+    log.info("전체 매장 고객 데이터 새 인덱스로 재인덱싱 시작");
+    return customerReindexService.startRebuild();
   }
 
   @Override
   public ReindexStatus getReindexStatus(String taskId) {
-    return ReindexStatus.createCompleted(taskId, 0L, 0L, LocalDateTime.now(), null);
-  }
-
-  // 배치 처리를 위한 private 메서드들
-  private void deleteCustomerDocumentsByShopId(Long shopId) {
-    try {
-      List<CustomerDocument> existingDocs =
-          elasticsearchRepository
-              .findByShopIdAndDeletedAtIsNull(shopId, PageRequest.of(0, Integer.MAX_VALUE))
-              .getContent();
-
-      if (!existingDocs.isEmpty()) {
-        elasticsearchRepository.deleteAll(existingDocs);
-        log.info("매장 {} 기존 고객 문서 {}건 삭제 완료", shopId, existingDocs.size());
-      }
-    } catch (Exception e) {
-      log.error("매장 {} 기존 고객 문서 삭제 실패: {}", shopId, e.getMessage());
-    }
-  }
-
-  private void reindexCustomersByBatch(Long shopId) {
-    final int BATCH_SIZE = 1000;
-    int page = 0;
-
-    while (true) {
-      Pageable pageable = PageRequest.of(page, BATCH_SIZE);
-      List<Customer> customers =
-          customerJpaRepository.findByShopIdAndDeletedAtIsNull(shopId, pageable);
-
-      if (customers.isEmpty()) {
-        break;
-      }
-
-      Set<Long> gradeIds =
-          customers.stream()
-              .map(Customer::getCustomerGradeId)
-              .filter(Objects::nonNull)
-              .collect(Collectors.toSet());
-
-      Map<Long, String> gradeNameMap = loadGradeNames(gradeIds);
-
-      List<CustomerDocument> documents =
-          customers.stream()
-              .map(cust -> createCustomerDocumentWithGradeMap(cust, gradeNameMap))
-              .collect(Collectors.toList());
-
-      elasticsearchRepository.saveAll(documents);
-      log.info("매장 {} 배치 {} 처리 완료: {}건", shopId, page + 1, documents.size());
-
-      page++;
-
-      if (customers.size() < BATCH_SIZE) {
-        break;
-      }
-    }
-  }
-
-  // Grade 정보를 배치로 로드하는 최적화된 메서드
-  private Map<Long, String> loadGradeNames(Set<Long> gradeIds) {
-    if (gradeIds.isEmpty()) {
-      return Collections.emptyMap();
-    }
-
-    return queryFactory
-        .select(customerGrade.id, customerGrade.customerGradeName)
-        .from(customerGrade)
-        .where(customerGrade.id.in(gradeIds))
-        .fetch()
-        .stream()
-        .collect(
-            Collectors.toMap(
-                tuple -> tuple.get(customerGrade.id),
-                tuple -> tuple.get(customerGrade.customerGradeName)));
-  }
-
-  // 최적화된 CustomerDocument 생성 메서드
-  private CustomerDocument createCustomerDocumentWithGradeMap(
-      Customer cust, Map<Long, String> gradeNameMap) {
-    String gradeName = gradeNameMap.get(cust.getCustomerGradeId());
-
-    return CustomerDocument.builder()
-        .id(cust.getShopId() + "_" + cust.getId())
-        .customerId(cust.getId())
-        .shopId(cust.getShopId())
-        .customerName(cust.getCustomerName())
-        .phoneNumber(cust.getPhoneNumber())
-        .customerGradeId(cust.getCustomerGradeId())
-        .customerGradeName(gradeName)
-        .gender(cust.getGender() != null ? cust.getGender().name() : null)
-        .deletedAt(cust.getDeletedAt())
-        .build();
+    return customerReindexService.getStatus(taskId);
   }
 
   @Override
@@ -470,28 +423,6 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
         .map(cust -> new CustomerIdResponse(cust.getId()));
   }
 
-  // 기존 메서드는 개별 동기화에서만 사용
-  private CustomerDocument createCustomerDocumentWithGradeName(Customer cust) {
-    String gradeName =
-        queryFactory
-            .select(customerGrade.customerGradeName)
-            .from(customerGrade)
-            .where(customerGrade.id.eq(cust.getCustomerGradeId()))
-            .fetchOne();
-
-    return CustomerDocument.builder()
-        .id(cust.getShopId() + "_" + cust.getId())
-        .customerId(cust.getId())
-        .shopId(cust.getShopId())
-        .customerName(cust.getCustomerName())
-        .phoneNumber(cust.getPhoneNumber())
-        .customerGradeId(cust.getCustomerGradeId())
-        .customerGradeName(gradeName)
-        .gender(cust.getGender() != null ? cust.getGender().name() : null)
-        .deletedAt(cust.getDeletedAt())
-        .build();
-  }
-
   // Private helper methods
   private void validateCustomerExists(Long customerId, Long shopId) {
     if (customerRepository.findByIdAndShopId(customerId, shopId).isEmpty()) {
@@ -535,14 +466,6 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
         .collect(Collectors.toList());
   }
 
-  private String mapSortField(String sortBy) {
-    return switch (sortBy) {
-      case "customerName" -> "customerName.keyword";
-      case "phoneNumber" -> "phoneNumber";
-      default -> "customerName.keyword";
-    };
-  }
-
   @Override
   public List<String> getCustomerPhoneNumbers(List<Long> customerIds) {
     List<Customer> customers = customerJpaRepository.findAllById(customerIds);
@@ -554,6 +477,20 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
     return customers.stream().map(Customer::getPhoneNumber).toList();
   }
 
+  @Override
+  public Map<Long, String> getCustomerPhoneNumberMap(Collection<Long> customerIds) {
+    if (customerIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    // 존재하지 않는 고객은 결과에서 빠지며, 호출 측에서 실패 처리한다
+    Map<Long, String> phoneNumberMap = new HashMap<>();
+    for (Customer found : customerJpaRepository.findAllById(customerIds)) {
+      phoneNumberMap.put(found.getId(), found.getPhoneNumber());
+    }
+    return phoneNumberMap;
+  }
+
   @Override
   public SegmentCustomersResponse getCustomersBySegmentTag(String segmentTag, Long shopId) {
     log.info("세그먼트 태그별 고객 조회: {}, 매장ID: {}", segmentTag, shopId);
@@ -567,11 +504,8 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
                     new BusinessException(
                         ErrorCode.SEGMENT_NOT_FOUND, "세그먼트를 찾을 수 없습니다: " + segmentTag));
 
-    // 해당 세그먼트의 고객 ID 목록 조회
-    List<Long> allCustomerIds = segmentByCustomerRepository.findCustomerIdsBySegmentTag(segmentTag);
-
-    // shopId로 필터링된 고객 ID 목록
-    List<Long> filteredCustomerIds = filterCustomerIdsByShopId(allCustomerIds, shopId);
+    // 매장 고객 대상 색인에서 세그먼트 소속 고객 ID 목록 조회
+    List<Long> filteredCustomerIds = findSegmentCustomerIds(segment.getId(), shopId);
 
     log.info("세그먼트 '{}' 고객 수 (매장 {}): {}", segmentTag, shopId, filteredCustomerIds.size());
 
@@ -592,11 +526,8 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
                     new BusinessException(
                         ErrorCode.SEGMENT_NOT_FOUND, "세그먼트를 찾을 수 없습니다: " + segmentId));
 
-    // 해당 세그먼트의 고객 ID 목록 조회
-    List<Long> allCustomerIds = segmentByCustomerRepository.findCustomerIdsBySegmentId(segmentId);
-
-    // shopId로 필터링된 고객 ID 목록
-    List<Long> filteredCustomerIds = filterCustomerIdsByShopId(allCustomerIds, shopId);
+    // 매장 고객 대상 색인에서 세그먼트 소속 고객 ID 목록 조회
+    List<Long> filteredCustomerIds = findSegmentCustomerIds(segment.getId(), shopId);
 
     log.info(
         "세그먼트 '{}' 고객 수 (매장 {}): {}", segment.getSegmentTag(), shopId, filteredCustomerIds.size());
@@ -612,45 +543,40 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 
     // 세그먼트 정보들 조회
     var segments = segmentRepository.findBySegmentTagIn(segmentTags);
-    Map<String, String> segmentTitleMap =
+    Map<String, Segment> segmentMap =
         segments.stream()
             .collect(
                 Collectors.toMap(
-                    segment -> segment.getSegmentTag(), segment -> segment.getSegmentTitle()));
+                    segment -> segment.getSegmentTag(),
+                    segment -> segment,
+                    (first, second) -> first));
 
     // 각 세그먼트별 고객 ID 조회
     return segmentTags.stream()
         .map(
             segmentTag -> {
-              String segmentTitle = segmentTitleMap.get(segmentTag);
-              if (segmentTitle == null) {
+              Segment segment = segmentMap.get(segmentTag);
+              if (segment == null) {
                 log.warn("세그먼트를 찾을 수 없습니다: {}", segmentTag);
                 return SegmentCustomersResponse.of(
                     segmentTag, "Unknown Segment", Collections.emptyList());
               }
 
-              List<Long> allCustomerIds =
-                  segmentByCustomerRepository.findCustomerIdsBySegmentTag(segmentTag);
-
-              // shopId로 필터링된 고객 ID 목록
-              List<Long> filteredCustomerIds = filterCustomerIdsByShopId(allCustomerIds, shopId);
+              List<Long> filteredCustomerIds = findSegmentCustomerIds(segment.getId(), shopId);
 
               log.info(
                   "세그먼트 '{}' 고객 수 (매장 {}): {}", segmentTag, shopId, filteredCustomerIds.size());
 
-              return SegmentCustomersResponse.of(segmentTag, segmentTitle, filteredCustomerIds);
+              return SegmentCustomersResponse.of(
+                  segmentTag, segment.getSegmentTitle(), filteredCustomerIds);
             })
         .collect(Collectors.toList());
   }
 
-  private List<Long> filterCustomerIdsByShopId(List<Long> customerIds, Long shopId) {
-    if (customerIds.isEmpty()) {
-      return customerIds;
-    }
-
-    return customerJpaRepository.findAllById(customerIds).stream()
-        .filter(customer -> Objects.equals(customer.getShopId(), shopId))
-        .map(Customer::getId)
+  // 다른 매장 고객을 엔티티로 읽어 걸러내지 않고 매장별 비트맵에서 바로 꺼낸다
+  private List<Long> findSegmentCustomerIds(Long segmentId, Long shopId) {
+    return customerAudienceIndex
+        .members(shopId, CustomerAudienceIndex.Dimension.SEGMENT, segmentId)
         .toList();
   }
 
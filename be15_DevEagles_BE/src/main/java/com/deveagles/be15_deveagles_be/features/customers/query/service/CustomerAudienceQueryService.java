@@ -0,0 +1,15 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.service;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.AudienceExpression;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.AudiencePreviewResponse;
+import java.util.List;
+
+public interface CustomerAudienceQueryService {
+
+  // 대상 인원 수와 앞쪽 고객 ID 일부
+  AudiencePreviewResponse preview(Long shopId, AudienceExpression expression, int sampleSize);
+
+  long count(Long shopId, AudienceExpression expression);
+
+  List<Long> getCustomerIds(Long shopId, AudienceExpression expression);
+}
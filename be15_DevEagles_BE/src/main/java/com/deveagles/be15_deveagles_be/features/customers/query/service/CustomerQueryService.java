@@ -4,7 +4,9 @@ import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.response.TagResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.*;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +35,9 @@ public interface CustomerQueryService {
 
   PagedResult<CustomerSearchResult> advancedSearch(CustomerSearchQuery query);
 
+  // 대상 고객 ID 청크 조회 (cursorId 이후, 고객 ID 오름차순)
+  List<Long> searchCustomerIds(CustomerSearchQuery query, int limit);
+
   List<String> autocomplete(String prefix, Long shopId);
 
   long countByKeyword(String keyword, Long shopId);
@@ -48,14 +53,18 @@ public interface CustomerQueryService {
   // 추가: 안전한 재인덱싱 메서드들
   void reindexAllCustomersWithReset(Long shopId);
 
-  void reindexAllShopsCustomers();
+  // 비동기 작업 ID 반환. 진행 상황은 getReindexStatus 로 조회
+  String reindexAllShopsCustomers();
 
-  void reindexAllShopsCustomersWithReset();
+  // 새 인덱스에 적재한 뒤 별칭을 옮긴다
+  String reindexAllShopsCustomersWithReset();
 
   ReindexStatus getReindexStatus(String taskId);
 
   List<String> getCustomerPhoneNumbers(List<Long> customerIds);
 
+  Map<Long, String> getCustomerPhoneNumberMap(Collection<Long> customerIds);
+
   Optional<CustomerIdResponse> findCustomerIdByPhoneNumber(String phoneNumber, Long shopId);
 
   // 세그먼트별 고객 조회
@@ -8,6 +8,8 @@ import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.P
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
+import com.deveagles.be15_deveagles_be.features.items.query.service.support.PrimaryItemCatalogCache;
+import com.deveagles.be15_deveagles_be.features.items.query.service.support.SecondaryItemCatalogCache;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.Shop;
 import com.deveagles.be15_deveagles_be.features.shops.command.repository.ShopRepository;
 import java.time.LocalDateTime;
@@ -23,6 +25,8 @@ public class PrimaryItemCommandServiceImpl implements PrimaryItemCommandService
   private final PrimaryItemRepository primaryItemRepository;
   private final SecondaryItemRepository secondaryItemRepository;
   private final ShopRepository shopRepository;
+  private final PrimaryItemCatalogCache primaryItemCatalogCache;
+  private final SecondaryItemCatalogCache secondaryItemCatalogCache;
 
   @Override
   public void registerPrimaryItem(PrimaryItemRequest request) {
@@ -59,6 +63,7 @@ public class PrimaryItemCommandServiceImpl implements PrimaryItemCommandService
             .build();
 
     primaryItemRepository.save(primaryItem);
+    primaryItemCatalogCache.evict(shop.getShopId());
   }
 
   @Override
@@ -96,6 +101,7 @@ public class PrimaryItemCommandServiceImpl implements PrimaryItemCommandService
     primaryItem.updatePrimaryItem(request.getPrimaryItemName(), request.getCategory());
 
     primaryItemRepository.save(primaryItem);
+    primaryItemCatalogCache.evict(request.getShopId());
   }
 
   @Override
@@ -118,5 +124,9 @@ public class PrimaryItemCommandServiceImpl implements PrimaryItemCommandService
     // 4. PrimaryItem soft delete
     item.setDeletedAt();
     primaryItemRepository.save(item);
+
+    Long shopId = item.getShopId().getShopId();
+    primaryItemCatalogCache.evict(shopId);
+    secondaryItemCatalogCache.evict(shopId);
   }
 }
@@ -9,6 +9,7 @@ import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.P
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
+import com.deveagles.be15_deveagles_be.features.items.query.service.support.SecondaryItemCatalogCache;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ public class SecondaryItemCommandServiceImpl implements SecondaryItemCommandServ
 
   private final PrimaryItemRepository primaryItemRepository;
   private final SecondaryItemRepository secondaryItemRepository;
+  private final SecondaryItemCatalogCache secondaryItemCatalogCache;
 
   @Override
   public void registerSecondaryItem(SecondaryItemRegistRequest request) {
@@ -55,6 +57,7 @@ public class SecondaryItemCommandServiceImpl implements SecondaryItemCommandServ
             .build();
 
     secondaryItemRepository.save(secondaryItem);
+    evictCatalog(primaryItem);
   }
 
   @Override
@@ -98,6 +101,7 @@ public class SecondaryItemCommandServiceImpl implements SecondaryItemCommandServ
 
     // 저장
     secondaryItemRepository.save(secondaryItem);
+    evictCatalog(primaryItem);
   }
 
   @Override
@@ -109,5 +113,11 @@ public class SecondaryItemCommandServiceImpl implements SecondaryItemCommandServ
 
     item.setDeletedAt();
     secondaryItemRepository.save(item);
+    primaryItemRepository.findById(item.getPrimaryItemId()).ifPresent(this::evictCatalog);
+  }
+
+  // 2차 상품 목록은 매장 단위로 캐시된다
+  private void evictCatalog(PrimaryItem primaryItem) {
+    secondaryItemCatalogCache.evict(primaryItem.getShopId().getShopId());
   }
 }
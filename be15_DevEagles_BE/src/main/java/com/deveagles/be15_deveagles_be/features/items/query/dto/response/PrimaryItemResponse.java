@@ -2,11 +2,15 @@ package com.deveagles.be15_deveagles_be.features.items.query.dto.response;
 
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.Category;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.PrimaryItem;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PrimaryItemResponse {
   private Long primaryItemId;
   private String primaryItemName;
@@ -1,11 +1,16 @@
 package com.deveagles.be15_deveagles_be.features.items.query.dto.response;
 
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class SecondaryItemResponse {
 
   private Long primaryItemId;
@@ -13,6 +18,8 @@ public class SecondaryItemResponse {
   private String secondaryItemName;
   private Integer secondaryItemPrice;
   private Integer timeTaken;
+  // 게터 isActive() 가 만드는 JSON 이름(active) 그대로 캐시에서 다시 읽는다
+  @JsonProperty("active")
   private boolean isActive;
 
   public static SecondaryItemResponse from(SecondaryItem item) {
@@ -0,0 +1,29 @@
+package com.deveagles.be15_deveagles_be.features.items.query.service.support;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
+import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
+import com.deveagles.be15_deveagles_be.features.items.query.dto.response.PrimaryItemResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/** 매장별 1차 상품 목록 캐시. 1차 상품을 등록, 수정, 삭제하면 {@link #evict} 한다. */
+@Component
+public class PrimaryItemCatalogCache extends ReferenceCache<Long, List<PrimaryItemResponse>> {
+
+  private final PrimaryItemRepository primaryItemRepository;
+
+  public PrimaryItemCatalogCache(
+      ReferenceCacheRegistry registry, PrimaryItemRepository primaryItemRepository) {
+    super("primary-items", registry, new TypeReference<>() {});
+    this.primaryItemRepository = primaryItemRepository;
+  }
+
+  @Override
+  protected List<PrimaryItemResponse> load(Long shopId) {
+    return primaryItemRepository.findAllByShopId(shopId).stream()
+        .map(PrimaryItemResponse::from)
+        .toList();
+  }
+}
@@ -0,0 +1,32 @@
+package com.deveagles.be15_deveagles_be.features.items.query.service.support;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
+import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
+import com.deveagles.be15_deveagles_be.features.items.query.dto.response.SecondaryItemResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장별 2차 상품 목록 캐시. 판매 중지된 상품도 담으며, 판매 중인 상품 목록은 여기서 걸러 만든다. 2차 상품을 등록, 수정, 삭제하거나 1차 상품을
+ * 삭제하면 {@link #evict} 한다.
+ */
+@Component
+public class SecondaryItemCatalogCache extends ReferenceCache<Long, List<SecondaryItemResponse>> {
+
+  private final SecondaryItemRepository secondaryItemRepository;
+
+  public SecondaryItemCatalogCache(
+      ReferenceCacheRegistry registry, SecondaryItemRepository secondaryItemRepository) {
+    super("secondary-items", registry, new TypeReference<>() {});
+    this.secondaryItemRepository = secondaryItemRepository;
+  }
+
+  @Override
+  protected List<SecondaryItemResponse> load(Long shopId) {
+    return secondaryItemRepository.findAllByShopId(shopId).stream()
+        .map(SecondaryItemResponse::from)
+        .toList();
+  }
+}
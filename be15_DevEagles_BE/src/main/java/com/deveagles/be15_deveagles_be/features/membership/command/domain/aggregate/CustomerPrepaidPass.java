@@ -41,14 +41,4 @@ public class CustomerPrepaidPass {
 
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
-
-  public void useAmount(int amount) {
-    this.remainingAmount -= amount;
-    this.modifiedAt = LocalDateTime.now();
-  }
-
-  public void restoreAmount(int amount) {
-    this.remainingAmount += amount;
-    this.modifiedAt = LocalDateTime.now();
-  }
 }
@@ -41,14 +41,4 @@ public class CustomerSessionPass {
 
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
-
-  public void useCount(int count) {
-    this.remainingCount -= count;
-    this.modifiedAt = LocalDateTime.now();
-  }
-
-  public void restoreCount(int amount) {
-    this.remainingCount += amount;
-    this.modifiedAt = LocalDateTime.now();
-  }
 }
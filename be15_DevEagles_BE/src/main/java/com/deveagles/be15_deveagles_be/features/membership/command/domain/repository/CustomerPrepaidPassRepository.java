@@ -2,6 +2,9 @@ package com.deveagles.be15_deveagles_be.features.membership.command.domain.repos
 
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerPrepaidPass;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CustomerPrepaidPassRepository {
   CustomerPrepaidPass save(CustomerPrepaidPass customerPrepaidPass);
@@ -9,4 +12,32 @@ public interface CustomerPrepaidPassRepository {
   Optional<CustomerPrepaidPass> findById(Long customerPrepaidPassId);
 
   Optional<CustomerPrepaidPass> findByCustomerId(Long customerId);
+
+  @Query(
+      "SELECT p.remainingAmount FROM CustomerPrepaidPass p "
+          + "WHERE p.customerPrepaidPassId = :customerPrepaidPassId AND p.deletedAt IS NULL")
+  Optional<Integer> findRemainingAmountById(
+      @Param("customerPrepaidPassId") Long customerPrepaidPassId);
+
+  /**
+   * 잔액이 충분할 때만 차감한다. 조회 후 수정하지 않고 한 문장으로 처리하므로 동시에 결제해도 잔액이 음수가 되지 않는다.
+   *
+   * @return 차감된 행 수. 잔액이 부족하거나 선불권이 없으면 0
+   */
+  @Modifying
+  @Query(
+      "UPDATE CustomerPrepaidPass p SET p.remainingAmount = p.remainingAmount - :amount, "
+          + "p.modifiedAt = CURRENT_TIMESTAMP "
+          + "WHERE p.customerPrepaidPassId = :customerPrepaidPassId AND p.deletedAt IS NULL "
+          + "AND p.remainingAmount >= :amount")
+  int deductAmount(
+      @Param("customerPrepaidPassId") Long customerPrepaidPassId, @Param("amount") int amount);
+
+  @Modifying
+  @Query(
+      "UPDATE CustomerPrepaidPass p SET p.remainingAmount = p.remainingAmount + :amount, "
+          + "p.modifiedAt = CURRENT_TIMESTAMP "
+          + "WHERE p.customerPrepaidPassId = :customerPrepaidPassId")
+  int restoreAmount(
+      @Param("customerPrepaidPassId") Long customerPrepaidPassId, @Param("amount") int amount);
 }
@@ -2,6 +2,9 @@ package com.deveagles.be15_deveagles_be.features.membership.command.domain.repos
 
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerSessionPass;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CustomerSessionPassRepository {
   CustomerSessionPass save(CustomerSessionPass customerSessionPass);
@@ -9,4 +12,32 @@ public interface CustomerSessionPassRepository {
   Optional<CustomerSessionPass> findById(Long customerSessionPassId);
 
   Optional<CustomerSessionPass> findByCustomerId(Long customerId);
+
+  @Query(
+      "SELECT p.remainingCount FROM CustomerSessionPass p "
+          + "WHERE p.customerSessionPassId = :customerSessionPassId AND p.deletedAt IS NULL")
+  Optional<Integer> findRemainingCountById(
+      @Param("customerSessionPassId") Long customerSessionPassId);
+
+  /**
+   * 잔여 횟수가 충분할 때만 차감한다.
+   *
+   * @return 차감된 행 수. 잔여 횟수가 부족하거나 횟수권이 없으면 0
+   */
+  @Modifying
+  @Query(
+      "UPDATE CustomerSessionPass p SET p.remainingCount = p.remainingCount - :count, "
+          + "p.modifiedAt = CURRENT_TIMESTAMP "
+          + "WHERE p.customerSessionPassId = :customerSessionPassId AND p.deletedAt IS NULL "
+          + "AND p.remainingCount >= :count")
+  int deductCount(
+      @Param("customerSessionPassId") Long customerSessionPassId, @Param("count") int count);
+
+  @Modifying
+  @Query(
+      "UPDATE CustomerSessionPass p SET p.remainingCount = p.remainingCount + :count, "
+          + "p.modifiedAt = CURRENT_TIMESTAMP "
+          + "WHERE p.customerSessionPassId = :customerSessionPassId")
+  int restoreCount(
+      @Param("customerSessionPassId") Long customerSessionPassId, @Param("count") int count);
 }
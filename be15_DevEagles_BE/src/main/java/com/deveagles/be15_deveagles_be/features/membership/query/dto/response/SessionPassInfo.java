@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.membership.query.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.Date;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,6 +8,9 @@ import lombok.Getter;
 @Getter
 @Builder
 public class SessionPassInfo {
+  // 목록 일괄 조회 시 고객별로 나누기 위한 키
+  @JsonIgnore private Long customerId;
+
   private String sessionPassName;
   private String secondaryItemName;
   private Integer remainingCount;
@@ -15,7 +15,8 @@ public interface CustomerMembershipMapper {
 
   long countAllCustomerMemberships(Long shopId);
 
-  List<SessionPassInfo> findSessionPassesByCustomerId(Long customerId);
+  List<SessionPassInfo> findSessionPassesByCustomerIds(
+      @Param("customerIds") List<Long> customerIds);
 
   // 필터 조회용
   List<CustomerMembershipResponse> findCustomerMemberships(
@@ -32,7 +33,8 @@ public interface CustomerMembershipMapper {
       @Param("request") CustomerExpiringPrepaidPassFilterRequest request,
       @Param("offset") int offset);
 
-  List<PrepaidPassInfo> findExpiringPrepaidPassesByCustomerId(Long customerId);
+  List<PrepaidPassInfo> findExpiringPrepaidPassesByCustomerIds(
+      @Param("customerIds") List<Long> customerIds);
 
   long countExpiringPrepaidPassCustomers(
       @Param("shopId") Long shopId,
@@ -44,7 +46,8 @@ public interface CustomerMembershipMapper {
       @Param("request") CustomerExpiringSessionPassFilterRequest request,
       @Param("offset") int offset);
 
-  List<SessionPassInfo> findExpiringSessionPassesByCustomerId(Long customerId);
+  List<SessionPassInfo> findExpiringSessionPassesByCustomerIds(
+      @Param("customerIds") List<Long> customerIds);
 
   long countExpiringSessionPassCustomers(
       @Param("shopId") Long shopId,
@@ -1,6 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.membership.query.service.impl;
 
 import com.deveagles.be15_deveagles_be.common.dto.Pagination;
+import com.deveagles.be15_deveagles_be.common.mybatis.BatchLoader;
 import com.deveagles.be15_deveagles_be.features.membership.query.dto.request.CustomerExpiringPrepaidPassFilterRequest;
 import com.deveagles.be15_deveagles_be.features.membership.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.membership.query.mapper.CustomerMembershipMapper;
@@ -24,11 +25,13 @@ public class CustomerExpiringPrepaidPassQueryServiceImpl
     List<CustomerExpiringPrepaidPassResponse> list =
         customerMembershipMapper.findExpiringPrepaidPassCustomers(shopId, request, offset);
 
-    for (CustomerExpiringPrepaidPassResponse customer : list) {
-      List<PrepaidPassInfo> prepaidPasses =
-          customerMembershipMapper.findExpiringPrepaidPassesByCustomerId(customer.getCustomerId());
-      customer.setPrepaidPasses(prepaidPasses);
-    }
+    // 고객별 선불권 일괄 조회
+    BatchLoader.attach(
+        list,
+        CustomerExpiringPrepaidPassResponse::getCustomerId,
+        customerMembershipMapper::findExpiringPrepaidPassesByCustomerIds,
+        PrepaidPassInfo::getCustomerId,
+        CustomerExpiringPrepaidPassResponse::setPrepaidPasses);
 
     long totalItems = customerMembershipMapper.countExpiringPrepaidPassCustomers(shopId, request);
 
@@ -1,6 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.membership.query.service.impl;
 
 import com.deveagles.be15_deveagles_be.common.dto.Pagination;
+import com.deveagles.be15_deveagles_be.common.mybatis.BatchLoader;
 import com.deveagles.be15_deveagles_be.features.membership.query.dto.request.CustomerExpiringSessionPassFilterRequest;
 import com.deveagles.be15_deveagles_be.features.membership.query.dto.response.CustomerExpiringSessionPassResponse;
 import com.deveagles.be15_deveagles_be.features.membership.query.dto.response.CustomerExpiringSessionPassResult;
@@ -27,11 +28,13 @@ public class CustomerExpiringSessionPassQueryServiceImpl
     List<CustomerExpiringSessionPassResponse> list =
         customerMembershipMapper.findExpiringSessionPassCustomers(shopId, request, offset);
 
-    for (CustomerExpiringSessionPassResponse customer : list) {
-      List<SessionPassInfo> sessionPasses =
-          customerMembershipMapper.findExpiringSessionPassesByCustomerId(customer.getCustomerId());
-      customer.setSessionPasses(sessionPasses);
-    }
+    // 고객별 횟수권 일괄 조회
+    BatchLoader.attach(
+        list,
+        CustomerExpiringSessionPassResponse::getCustomerId,
+        customerMembershipMapper::findExpiringSessionPassesByCustomerIds,
+        SessionPassInfo::getCustomerId,
+        CustomerExpiringSessionPassResponse::setSessionPasses);
 
     long totalItems = customerMembershipMapper.countExpiringSessionPassCustomers(shopId, request);
 
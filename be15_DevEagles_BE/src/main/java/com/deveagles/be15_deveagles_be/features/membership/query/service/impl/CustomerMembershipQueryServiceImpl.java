@@ -1,6 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.membership.query.service.impl;
 
 import com.deveagles.be15_deveagles_be.common.dto.Pagination;
+import com.deveagles.be15_deveagles_be.common.mybatis.BatchLoader;
 import com.deveagles.be15_deveagles_be.features.membership.query.dto.request.CustomerMemebershipFilterRequest;
 import com.deveagles.be15_deveagles_be.features.membership.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.membership.query.mapper.CustomerMembershipMapper;
@@ -22,12 +23,8 @@ public class CustomerMembershipQueryServiceImpl implements CustomerMembershipQue
     List<CustomerMembershipResponse> list =
         customerMembershipMapper.findAllCustomerMemberships(shopId, offset, size);
 
-    // 고객별 session pass 추가 조회
-    for (CustomerMembershipResponse customer : list) {
-      List<SessionPassInfo> sessionPasses =
-          customerMembershipMapper.findSessionPassesByCustomerId(customer.getCustomerId());
-      customer.setSessionPasses(sessionPasses);
-    }
+    // 고객별 session pass 일괄 조회
+    attachSessionPasses(list);
 
     long totalItems = customerMembershipMapper.countAllCustomerMemberships(shopId);
 
@@ -49,11 +46,8 @@ public class CustomerMembershipQueryServiceImpl implements CustomerMembershipQue
     List<CustomerMembershipResponse> list =
         customerMembershipMapper.findCustomerMemberships(shopId, filter, offset);
 
-    for (CustomerMembershipResponse customer : list) {
-      List<SessionPassInfo> sessionPasses =
-          customerMembershipMapper.findSessionPassesByCustomerId(customer.getCustomerId());
-      customer.setSessionPasses(sessionPasses);
-    }
+    // 고객별 session pass 일괄 조회
+    attachSessionPasses(list);
 
     long totalItems = customerMembershipMapper.countCustomerMemberships(shopId, filter);
 
@@ -67,6 +61,15 @@ public class CustomerMembershipQueryServiceImpl implements CustomerMembershipQue
     return CustomerMembershipResult.builder().list(list).pagination(pagination).build();
   }
 
+  private void attachSessionPasses(List<CustomerMembershipResponse> list) {
+    BatchLoader.attach(
+        list,
+        CustomerMembershipResponse::getCustomerId,
+        customerMembershipMapper::findSessionPassesByCustomerIds,
+        SessionPassInfo::getCustomerId,
+        CustomerMembershipResponse::setSessionPasses);
+  }
+
   @Override
   public List<CustomerPrepaidPassDetailInfo> getPrepaidPassDetailsByCustomerId(Long customerId) {
     return customerMembershipMapper.findPrepaidPassDetailsByCustomerId(customerId);
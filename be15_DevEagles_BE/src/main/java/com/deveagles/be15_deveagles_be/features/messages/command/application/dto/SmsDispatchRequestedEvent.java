@@ -0,0 +1,3 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.dto;
+
+public record SmsDispatchRequestedEvent(Long shopId, int messageCount) {}
@@ -0,0 +1,3 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.dto;
+
+public record SmsDispatchUnit(Long messageId, String phoneNumber, String content) {}
@@ -0,0 +1,99 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.CustomerTemplateVariable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 번 파싱해 둔 메시지 템플릿.
+ *
+ * <p>본문을 고정 문자열과 {@code #{변수}} 조각 목록으로 나눠 두고, 치환은 조각을 차례로 이어 붙이는 한 번의 순회로 끝낸다. 값이 주어지지 않은
+ * 변수(예: 발송 후 채우는 {@code #{프로필링크}})는 원문 그대로 남긴다.
+ */
+public final class CompiledTemplate {
+
+  private static final String OPEN = "#{";
+  private static final char CLOSE = '}';
+
+  private final String source;
+  private final List<Segment> segments;
+  private final Set<CustomerTemplateVariable> customerVariables;
+  private final int literalLength;
+
+  private CompiledTemplate(String source, List<Segment> segments) {
+    this.source = source;
+    this.segments = segments;
+    Set<CustomerTemplateVariable> variables = EnumSet.noneOf(CustomerTemplateVariable.class);
+    int length = 0;
+    for (Segment segment : segments) {
+      if (segment.variable()) {
+        CustomerTemplateVariable variable = CustomerTemplateVariable.fromName(segment.text());
+        if (variable != null) {
+          variables.add(variable);
+        }
+      } else {
+        length += segment.text().length();
+      }
+    }
+    this.customerVariables = Collections.unmodifiableSet(variables);
+    this.literalLength = length;
+  }
+
+  public static CompiledTemplate compile(String source) {
+    List<Segment> segments = new ArrayList<>();
+    int from = 0;
+    while (from < source.length()) {
+      int open = source.indexOf(OPEN, from);
+      int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+      if (close < 0) {
+        segments.add(new Segment(source.substring(from), false));
+        break;
+      }
+      if (open > from) {
+        segments.add(new Segment(source.substring(from, open), false));
+      }
+      segments.add(new Segment(source.substring(open + OPEN.length(), close), true));
+      from = close + 1;
+    }
+    return new CompiledTemplate(source, List.copyOf(segments));
+  }
+
+  public String getSource() {
+    return source;
+  }
+
+  /** 본문에 쓰인 고객 변수 */
+  public Set<CustomerTemplateVariable> getCustomerVariables() {
+    return customerVariables;
+  }
+
+  /** 치환할 변수가 없는 본문 */
+  public boolean isConstant() {
+    return segments.stream().noneMatch(Segment::variable);
+  }
+
+  /** 값이 null 인 변수는 빈 문자열로, 값이 없는 변수는 원문 그대로 둔다. */
+  public String render(Map<String, String> values) {
+    if (values == null || isConstant()) {
+      return source;
+    }
+    StringBuilder builder = new StringBuilder(literalLength + segments.size() * 8);
+    for (Segment segment : segments) {
+      if (!segment.variable()) {
+        builder.append(segment.text());
+      } else if (values.containsKey(segment.text())) {
+        String value = values.get(segment.text());
+        builder.append(value != null ? value : "");
+      } else {
+        builder.append(OPEN).append(segment.text()).append(CLOSE);
+      }
+    }
+    return builder.toString();
+  }
+
+  private record Segment(String text, boolean variable) {}
+}
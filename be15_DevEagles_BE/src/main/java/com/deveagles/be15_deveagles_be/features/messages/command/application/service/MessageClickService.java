@@ -1,7 +1,13 @@
 package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
 
+import java.util.List;
+import java.util.Map;
+
 public interface MessageClickService {
   String createTrackableLink(Long messageId, String originalUrl);
 
+  // 발송 한 번의 링크를 한 번에 저장. 메시지 ID 별 추적 URL 반환
+  Map<Long, String> createTrackableLinks(List<Long> messageIds, String originalUrl);
+
   String registerClickAndGetRedirectUrl(String token);
 }
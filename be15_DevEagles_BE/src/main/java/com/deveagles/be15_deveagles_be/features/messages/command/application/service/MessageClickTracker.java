@@ -0,0 +1,272 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLink;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLinkLog;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.MessageClickJdbcRepository;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageClickLinkLogRepository;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageClickLinkRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 추적 링크 토큰 조회와 클릭 기록.
+ *
+ * <p>발송 시 만든 토큰은 커밋 후 Redis 에 원본 URL 로 올려 두고, 리다이렉트는 로컬 캐시와 Redis 에서 바로 찾는다. 클릭은 Redis 해시에 토큰별 첫
+ * 클릭 시각만 남기고, 전용 스레드가 주기적으로 모아 링크 ID 조회, 기존 기록 확인, 저장을 묶음 단위로 한 번씩 수행한다. 캠페인 직후 클릭이 몰려도 요청마다
+ * DB 커넥션을 잡지 않는다.
+ */
+@Slf4j
+@Component
+public class MessageClickTracker {
+
+  private static final String LINK_KEY_PREFIX = "MESSAGE_LINK:";
+  private static final String PENDING_KEY = "MESSAGE_CLICK:PENDING";
+  private static final String FLUSHING_KEY = "MESSAGE_CLICK:FLUSHING";
+  private static final String FLUSH_LOCK_KEY = "MESSAGE_CLICK:FLUSH_LOCK";
+  private static final int REGISTER_CHUNK_SIZE = 1000;
+  private static final int QUERY_CHUNK_SIZE = 1000;
+
+  // ARGV: [만료 ms, 값1, 값2, ...]
+  private static final DefaultRedisScript<Long> REGISTER_SCRIPT =
+      new DefaultRedisScript<>(
+          "for i = 1, #KEYS do redis.call('set', KEYS[i], ARGV[i + 1], 'PX', ARGV[1]) end "
+              + "return #KEYS",
+          Long.class);
+
+  // 이전에 실패한 묶음이 남아 있으면 그것부터, 없으면 쌓인 클릭을 처리용 키로 옮긴다.
+  private static final DefaultRedisScript<Long> TAKE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('exists', KEYS[2]) == 1 then return 1 end "
+              + "if redis.call('exists', KEYS[1]) == 1 then "
+              + "redis.call('rename', KEYS[1], KEYS[2]) return 1 end "
+              + "return 0",
+          Long.class);
+
+  private static final DefaultRedisScript<Long> UNLOCK_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final MessageClickLinkRepository linkRepository;
+  private final MessageClickLinkLogRepository logRepository;
+  private final MessageClickJdbcRepository messageClickJdbcRepository;
+  private final ScheduledExecutorService flusher =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "message-click-flusher");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  // 같은 토큰의 반복 클릭(미리보기, 새로고침)용 로컬 캐시
+  private final Map<String, String> recentLinks = new ConcurrentHashMap<>();
+
+  @Value("${message.click.link-ttl-days:30}")
+  private long linkTtlDays = 30;
+
+  @Value("${message.click.flush-interval-ms:5000}")
+  private long flushIntervalMillis = 5000;
+
+  @Value("${message.click.near-cache-size:10000}")
+  private int nearCacheSize = 10000;
+
+  public MessageClickTracker(
+      RedisTemplate<String, String> redisTemplate,
+      MessageClickLinkRepository linkRepository,
+      MessageClickLinkLogRepository logRepository,
+      MessageClickJdbcRepository messageClickJdbcRepository) {
+    this.redisTemplate = redisTemplate;
+    this.linkRepository = linkRepository;
+    this.logRepository = logRepository;
+    this.messageClickJdbcRepository = messageClickJdbcRepository;
+  }
+
+  @PostConstruct
+  public void start() {
+    flusher.scheduleWithFixedDelay(
+        this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flusher.shutdownNow();
+  }
+
+  /** 새 링크를 Redis 에 올린다. 트랜잭션 안이면 커밋된 뒤에 올린다. */
+  public void registerLinks(List<MessageClickLink> links) {
+    if (links.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      putLinks(links);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            putLinks(links);
+          }
+        });
+  }
+
+  /** 토큰의 원본 URL. 캐시에 없거나 Redis 를 쓸 수 없으면 null */
+  public String resolve(String token) {
+    String url = recentLinks.get(token);
+    if (url != null) {
+      return url;
+    }
+    try {
+      url = redisTemplate.opsForValue().get(LINK_KEY_PREFIX + token);
+    } catch (Exception e) {
+      log.warn("추적 링크 조회 실패, DB 에서 조회: {}", e.getMessage());
+      return null;
+    }
+    if (url != null) {
+      rememberLocally(token, url);
+    }
+    return url;
+  }
+
+  /** DB 에서 찾은 링크를 캐시에 다시 올린다. */
+  public void remember(String token, String url) {
+    rememberLocally(token, url);
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(LINK_KEY_PREFIX + token, url, Duration.ofDays(linkTtlDays));
+    } catch (Exception e) {
+      log.warn("추적 링크 캐시 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  /** 클릭을 쌓아 둔다. 같은 토큰은 첫 클릭 시각만 남는다. Redis 를 쓸 수 없으면 false */
+  public boolean recordClick(String token) {
+    try {
+      redisTemplate
+          .opsForHash()
+          .putIfAbsent(PENDING_KEY, token, String.valueOf(System.currentTimeMillis()));
+      return true;
+    } catch (Exception e) {
+      log.warn("클릭 기록 실패, DB 에 바로 기록: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      int flushed = flush();
+      if (flushed > 0) {
+        log.info("링크 클릭 기록 반영 - {}건", flushed);
+      }
+    } catch (Exception e) {
+      log.warn("링크 클릭 기록 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+    }
+  }
+
+  /** 쌓인 클릭을 DB 에 반영한다. 반영한 클릭 수를 반환한다. */
+  int flush() {
+    String token = UUID.randomUUID().toString();
+    Boolean locked =
+        redisTemplate
+            .opsForValue()
+            .setIfAbsent(FLUSH_LOCK_KEY, token, Duration.ofMillis(flushIntervalMillis * 12));
+    if (!Boolean.TRUE.equals(locked)) {
+      return 0;
+    }
+
+    try {
+      Long taken = redisTemplate.execute(TAKE_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY));
+      if (taken == null || taken == 0L) {
+        return 0;
+      }
+
+      Map<Object, Object> clicks = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+      List<String> tokens = clicks.keySet().stream().map(Object::toString).toList();
+      List<MessageClickLinkLog> logs = new ArrayList<>();
+      for (int from = 0; from < tokens.size(); from += QUERY_CHUNK_SIZE) {
+        List<MessageClickLink> links =
+            linkRepository.findByShortTokenIn(
+                tokens.subList(from, Math.min(tokens.size(), from + QUERY_CHUNK_SIZE)));
+        if (links.isEmpty()) {
+          continue;
+        }
+        // 반영 도중 실패해 다시 처리하는 경우나 Redis 장애 중 바로 기록된 클릭은 건너뛴다
+        Set<Long> logged =
+            new HashSet<>(
+                logRepository.findLoggedLinkIds(
+                    links.stream().map(MessageClickLink::getId).toList()));
+        for (MessageClickLink link : links) {
+          if (logged.add(link.getId())) {
+            logs.add(
+                MessageClickLinkLog.create(
+                    link.getId(), toDateTime(clicks.get(link.getShortToken()))));
+          }
+        }
+      }
+
+      messageClickJdbcRepository.insertClickLogs(logs);
+      redisTemplate.delete(FLUSHING_KEY);
+      return logs.size();
+    } finally {
+      try {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+      } catch (Exception e) {
+        log.warn("클릭 반영 잠금 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+      }
+    }
+  }
+
+  private void putLinks(List<MessageClickLink> links) {
+    String ttlMillis = String.valueOf(Duration.ofDays(linkTtlDays).toMillis());
+    try {
+      for (int from = 0; from < links.size(); from += REGISTER_CHUNK_SIZE) {
+        List<MessageClickLink> chunk =
+            links.subList(from, Math.min(links.size(), from + REGISTER_CHUNK_SIZE));
+        List<String> keys = chunk.stream().map(l -> LINK_KEY_PREFIX + l.getShortToken()).toList();
+        List<String> args = new ArrayList<>(chunk.size() + 1);
+        args.add(ttlMillis);
+        chunk.forEach(l -> args.add(l.getOriginalUrl()));
+        redisTemplate.execute(REGISTER_SCRIPT, keys, args.toArray());
+      }
+    } catch (Exception e) {
+      // 올리지 못한 링크는 첫 클릭 때 DB 에서 찾아 다시 올린다
+      log.warn("추적 링크 캐시 등록 실패: {}건, 오류={}", links.size(), e.getMessage());
+    }
+  }
+
+  private void rememberLocally(String token, String url) {
+    if (recentLinks.size() >= nearCacheSize) {
+      recentLinks.clear();
+    }
+    recentLinks.put(token, url);
+  }
+
+  private static LocalDateTime toDateTime(Object epochMillis) {
+    return LocalDateTime.ofInstant(
+        Instant.ofEpochMilli(Long.parseLong(epochMillis.toString())), ZoneId.systemDefault());
+  }
+}
@@ -3,8 +3,11 @@ package com.deveagles.be15_deveagles_be.features.messages.command.application.se
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.SmsRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface MessageCommandService {
   List<MessageSendResult> sendSms(Long shopId, SmsRequest smsRequest);
@@ -13,6 +16,15 @@ public interface MessageCommandService {
 
   void markSmsAsSent(Collection<Long> smsIds);
 
+  List<Sms> claimDispatchBatch(LocalDateTime now, int size);
+
+  void completeDispatch(
+      Collection<Long> sentIds,
+      Collection<Long> failedIds,
+      Map<LocalDateTime, List<Long>> retryIdsByNextAttemptAt);
+
+  int recoverExpiredClaims(LocalDateTime claimedBefore, int maxAttempts);
+
   void updateReservationMessage(
       UpdateReservationRequest updateReservationRequest, Long shopId, Long messageId);
 
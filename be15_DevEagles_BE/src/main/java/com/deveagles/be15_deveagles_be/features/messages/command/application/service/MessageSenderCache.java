@@ -0,0 +1,36 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장별 문자 발신 설정 캐시. 메시지 설정이 없는 매장은 null.
+ *
+ * <p>발송 요청과 디스패처가 매번 읽는 발신번호만 담는다. 포인트처럼 자주 바뀌는 값은 담지 않으며, 설정을 만들거나 바꾸면 {@link
+ * #evict} 한다.
+ */
+@Component
+public class MessageSenderCache extends ReferenceCache<Long, MessageSenderCache.Sender> {
+
+  private final MessageSettingRepository messageSettingRepository;
+
+  public MessageSenderCache(
+      ReferenceCacheRegistry registry, MessageSettingRepository messageSettingRepository) {
+    super("message-sender", registry, new TypeReference<>() {});
+    this.messageSettingRepository = messageSettingRepository;
+  }
+
+  @Override
+  protected Sender load(Long shopId) {
+    return messageSettingRepository
+        .findByShopId(shopId)
+        .map(settings -> new Sender(settings.getSenderNumber()))
+        .orElse(null);
+  }
+
+  /** 발신번호. 아직 등록하지 않았으면 null */
+  public record Sender(String senderNumber) {}
+}
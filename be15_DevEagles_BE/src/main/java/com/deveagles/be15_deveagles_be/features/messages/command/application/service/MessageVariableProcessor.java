@@ -2,31 +2,47 @@ package com.deveagles.be15_deveagles_be.features.messages.command.application.se
 
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
-import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
-import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.CustomerTemplateVariable;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageRecipientQueryRepository;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 메시지 템플릿 변수 치환.
+ *
+ * <p>템플릿은 한 번 파싱한 {@link CompiledTemplate} 을 템플릿 ID 별로 캐시해 두고, 본문이 바뀌면 다시 파싱한다. 여러 고객에게 보낼 때는
+ * 템플릿에 쓰인 고객 변수의 컬럼만 한 번의 쿼리로 읽어 고객별로 한 번씩 치환한다.
+ */
 @Component
-@RequiredArgsConstructor
 public class MessageVariableProcessor {
 
-  private final CustomerQueryService customerQueryService;
+  private final MessageRecipientQueryRepository recipientQueryRepository;
+  private final Map<Long, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+  @Value("${message.template.cache-size:1000}")
+  private int templateCacheSize = 1000;
+
+  public MessageVariableProcessor(MessageRecipientQueryRepository recipientQueryRepository) {
+    this.recipientQueryRepository = recipientQueryRepository;
+  }
 
   public Map<String, String> buildPayload(
       Long customerId, Long shopId, Map<String, String> externalPayload) {
-    CustomerDetailResponse customer =
-        customerQueryService
-            .getCustomerDetail(customerId, shopId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND));
+    Map<String, String> values =
+        recipientQueryRepository
+            .findTemplateValues(
+                shopId, List.of(customerId), EnumSet.allOf(CustomerTemplateVariable.class))
+            .get(customerId);
+    if (values == null) {
+      throw new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND);
+    }
 
-    Map<String, String> payload = new HashMap<>();
-    payload.put("고객명", customer.getCustomerName());
+    Map<String, String> payload = new HashMap<>(values);
 
     // 외부에서 예약일, 취소일 등 들어오면 그걸 merge해서 사용
     if (externalPayload != null) {
@@ -39,20 +55,60 @@ public class MessageVariableProcessor {
   // 템플릿 메시지 치환 - payload 주어졌을 때 바로 치환
   public String resolveVariables(String content, Map<String, String> payload) {
     if (content == null || payload == null) return content;
+    return CompiledTemplate.compile(content).render(payload);
+  }
 
-    System.out.println("🔍 템플릿 content = " + content);
-    for (Map.Entry<String, String> entry : payload.entrySet()) {
-      String key = "#{" + entry.getKey() + "}";
-      String value = Optional.ofNullable(entry.getValue()).orElse("");
-      System.out.println("→ 바꾸려는 key = '" + key + "'");
-      System.out.println("→ 바꿀 값 = '" + value + "'");
-      content = content.replace(key, value);
+  /**
+   * 고객별 치환 결과. payload 가 있으면 모든 고객에게 같은 값으로 치환하고, 없으면 템플릿에 쓰인 고객 변수를 한 번에 조회해 채운다.
+   *
+   * @throws BusinessException 매장에 없는 고객이 있을 때
+   */
+  public Map<Long, String> renderAll(
+      Long shopId,
+      Long templateId,
+      String content,
+      List<Long> customerIds,
+      Map<String, String> payload) {
+    Map<Long, String> rendered = new HashMap<>(customerIds.size() * 2);
+    if (content == null) {
+      customerIds.forEach(customerId -> rendered.put(customerId, null));
+      return rendered;
     }
 
-    return content;
+    CompiledTemplate template = compile(templateId, content);
+    if (payload != null) {
+      String resolved = template.render(payload);
+      customerIds.forEach(customerId -> rendered.put(customerId, resolved));
+      return rendered;
+    }
+
+    Map<Long, Map<String, String>> values =
+        recipientQueryRepository.findTemplateValues(
+            shopId, customerIds, template.getCustomerVariables());
+    for (Long customerId : customerIds) {
+      Map<String, String> customerValues = values.get(customerId);
+      if (customerValues == null) {
+        throw new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND);
+      }
+      rendered.put(customerId, template.render(customerValues));
+    }
+    return rendered;
   }
 
-  private String format(LocalDateTime time) {
-    return time != null ? time.format(DateTimeFormatter.ofPattern("yyyy.MM.dd")) : "";
+  CompiledTemplate compile(Long templateId, String content) {
+    if (templateId == null) {
+      return CompiledTemplate.compile(content);
+    }
+    CompiledTemplate cached = compiledTemplates.get(templateId);
+    // 템플릿이 수정됐거나 발송 화면에서 본문을 고친 경우 다시 파싱
+    if (cached != null && cached.getSource().equals(content)) {
+      return cached;
+    }
+    CompiledTemplate compiled = CompiledTemplate.compile(content);
+    if (compiledTemplates.size() >= templateCacheSize) {
+      compiledTemplates.clear();
+    }
+    compiledTemplates.put(templateId, compiled);
+    return compiled;
   }
 }
@@ -0,0 +1,253 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsDispatchUnit;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.CoolSmsClient;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발송 대기(PENDING) 문자를 배치 단위로 점유해 CoolSMS 로 발송하는 디스패처.
+ *
+ * <p>요청 스레드와 DB 커넥션은 저장까지만 사용하고, 실제 발송은 전용 스레드에서 수행한다. 매장별로 순차 발송하면서 초당 발송량을 제한하고, 매장 간에는
+ * 제한된 크기의 발송 풀에서 병렬로 처리한다. 결과는 배치마다 한 번에 반영한다.
+ *
+ * <p>재시도는 메모리가 아니라 문자 행에 남긴다. 접수되지 않은 수신자만 다음 시도 시각과 함께 대기 상태로 돌리고, 시도 한도에 닿으면 실패로 둔다. 점유한 채
+ * 인스턴스가 내려가 점유 기한이 지난 발송 중 문자는 처리 시작 시 다시 대기 상태로 회수한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SmsDispatcher {
+
+  private final MessageCommandService messageCommandService;
+  private final CustomerQueryService customerQueryService;
+  private final MessageSenderCache messageSenderCache;
+  private final CoolSmsClient coolSmsClient;
+
+  // 한 번의 CoolSMS 호출에 담는 메시지 수
+  @Value("${sms.dispatch.batch-size:1000}")
+  private int batchSize = 1000;
+
+  @Value("${sms.dispatch.worker-count:4}")
+  private int workerCount = 4;
+
+  // 매장별 초당 최대 발송 건수 (0 이하면 제한 없음)
+  @Value("${sms.dispatch.per-shop-rate-per-second:500}")
+  private int perShopRatePerSecond = 500;
+
+  @Value("${sms.dispatch.max-attempts:3}")
+  private int maxAttempts = 3;
+
+  @Value("${sms.dispatch.backoff-millis:60000}")
+  private long backoffMillis = 60000;
+
+  // 점유 후 이 시간이 지나도 결과가 반영되지 않으면 처리가 중단된 것으로 본다
+  @Value("${sms.dispatch.claim-lease-seconds:600}")
+  private long claimLeaseSeconds = 600;
+
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+  private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+
+  private ExecutorService drainExecutor;
+  private ExecutorService senderPool;
+
+  @PostConstruct
+  public void init() {
+    this.drainExecutor = Executors.newSingleThreadExecutor();
+    this.senderPool = Executors.newFixedThreadPool(Math.max(1, workerCount));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    drainExecutor.shutdown();
+    senderPool.shutdown();
+  }
+
+  /** 발송 대기 문자 처리를 비동기로 요청한다. 처리 중에 들어온 요청은 현재 처리가 끝난 뒤 한 번으로 합쳐 수행한다. */
+  public void requestDispatch() {
+    drainRequested.set(true);
+    if (draining.compareAndSet(false, true)) {
+      drainExecutor.execute(this::drainLoop);
+    }
+  }
+
+  private void drainLoop() {
+    try {
+      while (drainRequested.getAndSet(false)) {
+        try {
+          int dispatched = dispatchDue();
+          if (dispatched > 0) {
+            log.info("문자 발송 처리 완료 - {}건", dispatched);
+          }
+        } catch (Exception e) {
+          log.error("문자 발송 처리 중 오류 발생", e);
+        }
+      }
+    } finally {
+      draining.set(false);
+      // 플래그 해제 직전에 들어온 요청 처리
+      if (drainRequested.get() && draining.compareAndSet(false, true)) {
+        drainExecutor.execute(this::drainLoop);
+      }
+    }
+  }
+
+  private int dispatchDue() {
+    messageCommandService.recoverExpiredClaims(
+        LocalDateTime.now().minusSeconds(claimLeaseSeconds), maxAttempts);
+
+    int claimSize = batchSize * Math.max(1, workerCount);
+    int dispatched = 0;
+
+    while (true) {
+      List<Sms> claimed = messageCommandService.claimDispatchBatch(LocalDateTime.now(), claimSize);
+      if (claimed.isEmpty()) {
+        break;
+      }
+
+      dispatchClaimed(claimed);
+      dispatched += claimed.size();
+
+      if (claimed.size() < claimSize) {
+        break;
+      }
+    }
+    return dispatched;
+  }
+
+  void dispatchClaimed(List<Sms> claimed) {
+    // 1. 고객 전화번호 매핑
+    List<Long> customerIds = claimed.stream().map(Sms::getCustomerId).distinct().toList();
+    Map<Long, String> phoneNumberMap = customerQueryService.getCustomerPhoneNumberMap(customerIds);
+
+    Queue<Long> sentIds = new ConcurrentLinkedQueue<>();
+    Queue<Long> failedIds = new ConcurrentLinkedQueue<>();
+    Queue<Long> rejectedIds = new ConcurrentLinkedQueue<>();
+
+    // 2. 매장별 그룹핑 후 발송 풀에 분배
+    Map<Long, List<Sms>> byShop = claimed.stream().collect(Collectors.groupingBy(Sms::getShopId));
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (Map.Entry<Long, List<Sms>> entry : byShop.entrySet()) {
+      Long shopId = entry.getKey();
+      List<Sms> shopMessages = entry.getValue();
+
+      Optional<String> senderNumber =
+          Optional.ofNullable(messageSenderCache.get(shopId))
+              .map(MessageSenderCache.Sender::senderNumber);
+      if (senderNumber.isEmpty()) {
+        log.warn("매장 {} 의 발신번호 설정이 없어 {}건 발송 실패 처리", shopId, shopMessages.size());
+        shopMessages.forEach(sms -> failedIds.add(sms.getMessageId()));
+        continue;
+      }
+
+      List<SmsDispatchUnit> units = new ArrayList<>();
+      for (Sms sms : shopMessages) {
+        String phoneNumber = phoneNumberMap.get(sms.getCustomerId());
+        if (phoneNumber == null) {
+          failedIds.add(sms.getMessageId());
+          continue;
+        }
+        units.add(new SmsDispatchUnit(sms.getMessageId(), phoneNumber, sms.getMessageContent()));
+      }
+
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> sendShopMessages(shopId, senderNumber.get(), units, sentIds, rejectedIds),
+              senderPool));
+    }
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    // 3. 접수되지 않은 수신자는 시도 한도 안에서만 다시 대기시킨다
+    Map<Long, Integer> attemptById =
+        claimed.stream()
+            .collect(Collectors.toMap(Sms::getMessageId, sms -> sms.getDispatchAttempts() + 1));
+    LocalDateTime now = LocalDateTime.now();
+    Map<LocalDateTime, List<Long>> retryIdsByNextAttemptAt = new HashMap<>();
+    for (Long messageId : rejectedIds) {
+      int attempt = attemptById.get(messageId);
+      if (attempt >= maxAttempts) {
+        failedIds.add(messageId);
+        continue;
+      }
+      LocalDateTime nextAttemptAt =
+          now.plus(backoffMillis << Math.min(attempt - 1, 16), ChronoUnit.MILLIS);
+      retryIdsByNextAttemptAt
+          .computeIfAbsent(nextAttemptAt, key -> new ArrayList<>())
+          .add(messageId);
+    }
+
+    // 4. 결과 일괄 반영
+    messageCommandService.completeDispatch(
+        new ArrayList<>(sentIds), new ArrayList<>(failedIds), retryIdsByNextAttemptAt);
+  }
+
+  private void sendShopMessages(
+      Long shopId,
+      String senderNumber,
+      List<SmsDispatchUnit> units,
+      Queue<Long> sentIds,
+      Queue<Long> rejectedIds) {
+    for (int from = 0; from < units.size(); from += batchSize) {
+      List<SmsDispatchUnit> batch = units.subList(from, Math.min(from + batchSize, units.size()));
+      long startedAt = System.currentTimeMillis();
+
+      try {
+        // 접수된 수신자만 발송 완료로 두고, 거절된 수신자만 다시 시도한다
+        for (MessageSendResult result : coolSmsClient.sendBatch(senderNumber, batch)) {
+          (result.success() ? sentIds : rejectedIds).add(result.messageId());
+        }
+      } catch (Exception e) {
+        // 수신자별 결과를 받지 못했으므로 묶음 전체를 다시 시도한다
+        log.warn("매장 {} 문자 {}건 발송 요청 실패 - {}", shopId, batch.size(), e.getMessage());
+        batch.forEach(unit -> rejectedIds.add(unit.messageId()));
+      }
+
+      throttle(batch.size(), startedAt);
+    }
+  }
+
+  // 매장별 초당 발송량 제한
+  private void throttle(int sentCount, long startedAt) {
+    if (perShopRatePerSecond <= 0) {
+      return;
+    }
+    long minimumMillis = sentCount * 1000L / perShopRatePerSecond;
+    long elapsed = System.currentTimeMillis() - startedAt;
+    if (elapsed < minimumMillis) {
+      sleep(minimumMillis - elapsed);
+    }
+  }
+
+  private boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -1,27 +1,23 @@
 package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
 
-/*
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsDispatchRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SmsSendEventListener {
 
-  private final CoolSmsClient coolSmsClient;
-  private final MessageCommandService messageCommandService;
+  private final SmsDispatcher smsDispatcher;
 
-  @Async
+  // 대기 상태 문자가 커밋된 뒤에만 발송을 요청 (롤백된 요청은 발송되지 않음)
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-  public void handle(SmsGroupSendEvent event) {
-    List<String> failedNumbers =
-        coolSmsClient.sendMany(event.sender(), event.content(), event.units());
-
-    Set<Long> failedMessageIds =
-        event.units().stream()
-            .filter(unit -> failedNumbers.contains(unit.phoneNumber()))
-            .map(SmsSendUnit::messageId)
-            .collect(Collectors.toSet());
-
-    messageCommandService.markSmsAsFailed(failedMessageIds);
+  public void handle(SmsDispatchRequestedEvent event) {
+    log.debug("문자 발송 요청 수신 - 매장: {}, 건수: {}", event.shopId(), event.messageCount());
+    smsDispatcher.requestDispatch();
   }
 }
-*/
@@ -3,10 +3,16 @@ package com.deveagles.be15_deveagles_be.features.messages.command.application.se
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageClickService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageClickTracker;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLink;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLinkLog;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.MessageClickJdbcRepository;
 import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageClickLinkLogRepository;
 import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageClickLinkRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +24,8 @@ public class MessageClickServiceImpl implements MessageClickService {
 
   private final MessageClickLinkRepository linkRepository;
   private final MessageClickLinkLogRepository logRepository;
+  private final MessageClickJdbcRepository messageClickJdbcRepository;
+  private final MessageClickTracker messageClickTracker;
 
   @Value("${app.tracking.base-url}")
   private String baseTrackingUrl;
@@ -26,26 +34,48 @@ public class MessageClickServiceImpl implements MessageClickService {
 
   @Override
   public String createTrackableLink(Long messageId, String originalUrl) {
-    String token = UUID.randomUUID().toString().replace("-", "");
-    linkRepository.save(
-        MessageClickLink.builder()
-            .shortToken(token)
-            .originalUrl(originalUrl)
-            .messageId(messageId)
-            .build());
-    return baseTrackingUrl + TRACK_PATH + token;
+    return createTrackableLinks(List.of(messageId), originalUrl).get(messageId);
+  }
+
+  @Override
+  public Map<Long, String> createTrackableLinks(List<Long> messageIds, String originalUrl) {
+    List<MessageClickLink> links = new ArrayList<>(messageIds.size());
+    Map<Long, String> trackingUrls = new LinkedHashMap<>();
+    for (Long messageId : messageIds) {
+      String token = UUID.randomUUID().toString().replace("-", "");
+      links.add(
+          MessageClickLink.builder()
+              .shortToken(token)
+              .originalUrl(originalUrl)
+              .messageId(messageId)
+              .build());
+      trackingUrls.put(messageId, baseTrackingUrl + TRACK_PATH + token);
+    }
+
+    messageClickJdbcRepository.insertLinks(links);
+    messageClickTracker.registerLinks(links);
+    return trackingUrls;
   }
 
   @Override
   public String registerClickAndGetRedirectUrl(String token) {
-    MessageClickLink link =
-        linkRepository
-            .findByShortToken(token)
-            .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_LINK));
+    String originalUrl = messageClickTracker.resolve(token);
+    if (originalUrl == null) {
+      MessageClickLink link =
+          linkRepository
+              .findByShortToken(token)
+              .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_LINK));
+      originalUrl = link.getOriginalUrl();
+      messageClickTracker.remember(token, originalUrl);
+    }
 
-    if (!logRepository.existsByMessageLinkId(link.getId())) {
-      logRepository.save(MessageClickLinkLog.create(link.getId()));
+    if (!messageClickTracker.recordClick(token)) {
+      // Redis 장애 시에는 바로 기록
+      linkRepository
+          .findByShortToken(token)
+          .filter(link -> !logRepository.existsByMessageLinkId(link.getId()))
+          .ifPresent(link -> logRepository.save(MessageClickLinkLog.create(link.getId())));
     }
-    return link.getOriginalUrl();
+    return originalUrl;
   }
 }
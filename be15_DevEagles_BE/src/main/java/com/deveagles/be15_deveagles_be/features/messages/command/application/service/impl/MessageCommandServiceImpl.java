@@ -3,18 +3,18 @@ package com.deveagles.be15_deveagles_be.features.messages.command.application.se
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsDispatchRequestedEvent;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendUnit;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.SmsRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageClickService;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageCommandService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSenderCache;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageVariableProcessor;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageDeliveryStatus;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSendingType;
-import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSettings;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
-import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.SmsRepository;
 import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.CoolSmsClient;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandService;
@@ -22,23 +22,26 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MessageCommandServiceImpl implements MessageCommandService {
   private final ShopCommandService shopCommandService;
   private final CustomerQueryService customerQueryService;
-  private final MessageSettingRepository messageSettingRepository;
+  private final MessageSenderCache messageSenderCache;
   private final CoolSmsClient coolSmsClient;
   private final SmsRepository smsRepository;
   private final MessageVariableProcessor messageVariableProcessor;
   private final MessageClickService messageClickService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -51,62 +54,47 @@ public class MessageCommandServiceImpl implements MessageCommandService {
     // 1. 고객 ID 원본 리스트
     List<Long> customerIds = smsRequest.customerIds();
 
-    // 2. 중복 제거된 ID로 전화번호 조회 (성공/실패 여부 판단용)
+    // 2. 중복 제거 (전화번호는 발송 시점에 디스패처가 조회)
     List<Long> distinctCustomerIds = customerIds.stream().distinct().toList();
-    List<String> phoneNumbers = customerQueryService.getCustomerPhoneNumbers(distinctCustomerIds);
 
-    // 3. 메시지 설정 조회 (발신번호 등)
-    MessageSettings settings =
-        messageSettingRepository
-            .findByShopId(shopId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_SETTINGS_NOT_FOUND));
-    String senderNumber = settings.getSenderNumber();
+    // 3. 메시지 설정 존재 확인 (발신번호는 발송 시점에 디스패처가 조회)
+    if (messageSenderCache.get(shopId) == null) {
+      throw new BusinessException(ErrorCode.MESSAGE_SETTINGS_NOT_FOUND);
+    }
 
-    // 4. Sms 리스트 생성 (치환 포함)
+    // 4. Sms 리스트 생성 (템플릿은 한 번 파싱하고 고객 변수는 한 번에 조회해 치환)
+    Map<Long, String> resolvedContents =
+        messageVariableProcessor.renderAll(
+            shopId,
+            smsRequest.templateId(),
+            smsRequest.messageContent(),
+            distinctCustomerIds,
+            smsRequest.payload());
     List<Sms> smsList =
-        IntStream.range(0, distinctCustomerIds.size())
-            .mapToObj(
-                i -> {
-                  Long customerId = distinctCustomerIds.get(i);
-
-                  Map<String, String> payload =
-                      Optional.ofNullable(smsRequest.payload())
-                          .orElseGet(
-                              () ->
-                                  messageVariableProcessor.buildPayload(customerId, shopId, null));
-
-                  String resolvedContent =
-                      messageVariableProcessor.resolveVariables(
-                          smsRequest.messageContent(), payload);
+        distinctCustomerIds.stream()
+            .map(
+                customerId -> {
+                  String resolvedContent = resolvedContents.get(customerId);
 
                   // 자동 판단: #{프로필링크} 포함 여부로 hasLink 결정
                   boolean hasLink = resolvedContent != null && resolvedContent.contains("#{프로필링크}");
 
-                  Sms.SmsBuilder builder =
-                      Sms.builder()
-                          .shopId(shopId)
-                          .customerId(customerId)
-                          .messageContent(resolvedContent)
-                          .messageKind(smsRequest.messageKind())
-                          .messageType(smsRequest.messageType())
-                          .messageSendingType(smsRequest.messageSendingType())
-                          .messageDeliveryStatus(
-                              isReservation
-                                  ? MessageDeliveryStatus.PENDING
-                                  : MessageDeliveryStatus.SENT)
-                          .scheduledAt(scheduledAt)
-                          .templateId(smsRequest.templateId())
-                          .hasLink(hasLink)
-                          .customerGradeId(smsRequest.customerGradeId())
-                          .tagId(smsRequest.tagId())
-                          .couponId(smsRequest.couponId())
-                          .workflowId(smsRequest.workflowId());
-
-                  if (!isReservation) {
-                    builder.sentAt(now);
-                  }
-
-                  return builder.build();
+                  return Sms.builder()
+                      .shopId(shopId)
+                      .customerId(customerId)
+                      .messageContent(resolvedContent)
+                      .messageKind(smsRequest.messageKind())
+                      .messageType(smsRequest.messageType())
+                      .messageSendingType(smsRequest.messageSendingType())
+                      .messageDeliveryStatus(MessageDeliveryStatus.PENDING)
+                      .scheduledAt(scheduledAt)
+                      .templateId(smsRequest.templateId())
+                      .hasLink(hasLink)
+                      .customerGradeId(smsRequest.customerGradeId())
+                      .tagId(smsRequest.tagId())
+                      .couponId(smsRequest.couponId())
+                      .workflowId(smsRequest.workflowId())
+                      .build();
                 })
             .toList();
 
@@ -114,37 +102,31 @@ public class MessageCommandServiceImpl implements MessageCommandService {
     List<Sms> saved = smsRepository.saveAll(smsList);
     smsRepository.flush();
 
-    // 6. 링크 생성 후 콘텐츠 업데이트
-    for (Sms sms : saved) {
-      String content = sms.getMessageContent();
-      if (Boolean.TRUE.equals(sms.getHasLink())
-          && content != null
-          && content.contains("#{프로필링크}")) {
-        String originalUrl = "http://localhost:5173/p/" + shopId;
-        String trackableUrl =
-            messageClickService.createTrackableLink(sms.getMessageId(), originalUrl);
-        sms.updateContent(content.replace("#{프로필링크}", "\n" + trackableUrl + "\n"));
+    // 6. 링크를 한 번에 생성한 뒤 콘텐츠 업데이트
+    List<Sms> linked =
+        saved.stream()
+            .filter(sms -> Boolean.TRUE.equals(sms.getHasLink()))
+            .filter(sms -> sms.getMessageContent() != null)
+            .filter(sms -> sms.getMessageContent().contains("#{프로필링크}"))
+            .toList();
+    if (!linked.isEmpty()) {
+      String originalUrl = "http://localhost:5173/p/" + shopId;
+      Map<Long, String> trackableUrls =
+          messageClickService.createTrackableLinks(
+              linked.stream().map(Sms::getMessageId).toList(), originalUrl);
+      for (Sms sms : linked) {
+        String trackableUrl = trackableUrls.get(sms.getMessageId());
+        sms.updateContent(
+            sms.getMessageContent().replace("#{프로필링크}", "\n" + trackableUrl + "\n"));
       }
     }
 
-    // 7. 즉시 발송이면 CoolSMS 호출
+    // 7. 즉시 발송이면 커밋 이후 디스패처가 비동기로 발송 (대기 상태로 저장된 행을 배치 단위로 처리)
     if (!isReservation) {
-      List<SmsSendUnit> units =
-          IntStream.range(0, saved.size())
-              .mapToObj(i -> new SmsSendUnit(saved.get(i).getMessageId(), phoneNumbers.get(i)))
-              .toList();
-
-      List<MessageSendResult> results =
-          coolSmsClient.sendMany(senderNumber, saved.get(0).getMessageContent(), units);
-
-      List<Long> failedIds =
-          results.stream().filter(r -> !r.success()).map(MessageSendResult::messageId).toList();
-
-      if (!failedIds.isEmpty()) {
-        markSmsAsFailed(failedIds);
-      }
-
-      return results;
+      eventPublisher.publishEvent(new SmsDispatchRequestedEvent(shopId, saved.size()));
+      return saved.stream()
+          .map(s -> new MessageSendResult(true, "발송 요청 완료", s.getMessageId()))
+          .toList();
     }
 
     // 예약 발송이면 결과 생성하여 반환
@@ -167,11 +149,11 @@ public class MessageCommandServiceImpl implements MessageCommandService {
       throw new BusinessException(ErrorCode.INVALID_MESSAGE_RESEND_CONDITION);
     }
 
-    MessageSettings settings =
-        messageSettingRepository
-            .findByShopId(shopId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_SETTINGS_NOT_FOUND));
-    String senderNumber = settings.getSenderNumber();
+    MessageSenderCache.Sender sender = messageSenderCache.get(shopId);
+    if (sender == null) {
+      throw new BusinessException(ErrorCode.MESSAGE_SETTINGS_NOT_FOUND);
+    }
+    String senderNumber = sender.senderNumber();
 
     List<String> phoneNumbers =
         customerQueryService.getCustomerPhoneNumbers(List.of(sms.getCustomerId()));
@@ -258,6 +240,60 @@ public class MessageCommandServiceImpl implements MessageCommandService {
     smsRepository.saveAll(sentMessages);
   }
 
+  @Override
+  @Transactional
+  public List<Sms> claimDispatchBatch(LocalDateTime now, int size) {
+    List<Sms> targets =
+        smsRepository.findDispatchTargets(
+            MessageDeliveryStatus.PENDING, now, PageRequest.of(0, size));
+    if (targets.isEmpty()) {
+      return targets;
+    }
+
+    List<Long> ids = targets.stream().map(Sms::getMessageId).toList();
+    smsRepository.claimForDispatch(
+        ids, MessageDeliveryStatus.PENDING, MessageDeliveryStatus.SENDING, now);
+    return targets;
+  }
+
+  @Override
+  @Transactional
+  public void completeDispatch(
+      Collection<Long> sentIds,
+      Collection<Long> failedIds,
+      Map<LocalDateTime, List<Long>> retryIdsByNextAttemptAt) {
+    if (!sentIds.isEmpty()) {
+      smsRepository.updateDeliveryStatusWithSentAt(
+          sentIds, MessageDeliveryStatus.SENDING, MessageDeliveryStatus.SENT, LocalDateTime.now());
+    }
+    if (!failedIds.isEmpty()) {
+      smsRepository.updateDeliveryStatus(
+          failedIds, MessageDeliveryStatus.SENDING, MessageDeliveryStatus.FAIL);
+    }
+    retryIdsByNextAttemptAt.forEach(
+        (nextAttemptAt, ids) ->
+            smsRepository.requeueForDispatch(
+                ids, MessageDeliveryStatus.SENDING, MessageDeliveryStatus.PENDING, nextAttemptAt));
+  }
+
+  @Override
+  @Transactional
+  public int recoverExpiredClaims(LocalDateTime claimedBefore, int maxAttempts) {
+    int requeued =
+        smsRepository.requeueExpiredClaims(
+            MessageDeliveryStatus.SENDING,
+            MessageDeliveryStatus.PENDING,
+            claimedBefore,
+            maxAttempts);
+    int failed =
+        smsRepository.failExpiredClaims(
+            MessageDeliveryStatus.SENDING, MessageDeliveryStatus.FAIL, claimedBefore, maxAttempts);
+    if (requeued + failed > 0) {
+      log.warn("점유 기한이 지난 발송 중 문자 회수 - 재대기: {}건, 실패: {}건", requeued, failed);
+    }
+    return requeued + failed;
+  }
+
   private LocalDateTime resolveScheduledAt(SmsRequest request, LocalDateTime now) {
     if (request.messageSendingType() == MessageSendingType.RESERVATION
         && request.scheduledAt() == null) {
@@ -4,6 +4,7 @@ import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.MessageSettingRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSettingResponse;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSenderCache;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSettingsCommandService;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSettings;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MessageSettingsCommandServiceImpl implements MessageSettingsCommandService {
   private final MessageSettingRepository messageSettingRepository;
   private final ShopCommandServiceImpl shopCommandServiceImpl;
+  private final MessageSenderCache messageSenderCache;
 
   @Override
   public Long createDefault(Long shopId) {
@@ -33,7 +35,9 @@ public class MessageSettingsCommandServiceImpl implements MessageSettingsCommand
             .point(0L)
             .build();
 
-    return messageSettingRepository.save(settings).getShopId();
+    Long savedShopId = messageSettingRepository.save(settings).getShopId();
+    messageSenderCache.evict(savedShopId);
+    return savedShopId;
   }
 
   @Override
@@ -60,5 +64,6 @@ public class MessageSettingsCommandServiceImpl implements MessageSettingsCommand
     if (request.getPoint() != null && request.getPoint() > 0) {
       settings.addPoint(request.getPoint());
     }
+    messageSenderCache.evict(shopId);
   }
 }
@@ -0,0 +1,30 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 메시지 템플릿에서 고객 정보로 채우는 변수 */
+@Getter
+@RequiredArgsConstructor
+public enum CustomerTemplateVariable {
+  CUSTOMER_NAME("고객명"),
+  CUSTOMER_GRADE("고객등급"),
+  VISIT_COUNT("방문횟수"),
+  RECENT_VISIT_DATE("최근방문일");
+
+  private static final Map<String, CustomerTemplateVariable> BY_NAME =
+      Arrays.stream(values())
+          .collect(
+              Collectors.toMap(CustomerTemplateVariable::getVariableName, Function.identity()));
+
+  private final String variableName;
+
+  /** 고객 변수가 아니면 null */
+  public static CustomerTemplateVariable fromName(String variableName) {
+    return BY_NAME.get(variableName);
+  }
+}
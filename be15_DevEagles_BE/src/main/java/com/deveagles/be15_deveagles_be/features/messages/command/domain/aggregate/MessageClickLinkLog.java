@@ -24,10 +24,11 @@ public class MessageClickLinkLog {
   private LocalDateTime readAt;
 
   public static MessageClickLinkLog create(Long messageLinkId) {
-    return MessageClickLinkLog.builder()
-        .messageLinkId(messageLinkId)
-        .readAt(LocalDateTime.now())
-        .build();
+    return create(messageLinkId, LocalDateTime.now());
+  }
+
+  public static MessageClickLinkLog create(Long messageLinkId, LocalDateTime readAt) {
+    return MessageClickLinkLog.builder().messageLinkId(messageLinkId).readAt(readAt).build();
   }
 
   public boolean isFrom(Long targetMessageLinkId) {
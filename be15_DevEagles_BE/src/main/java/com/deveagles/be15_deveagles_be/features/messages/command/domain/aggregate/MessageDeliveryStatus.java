@@ -2,6 +2,7 @@ package com.deveagles.be15_deveagles_be.features.messages.command.domain.aggrega
 
 public enum MessageDeliveryStatus {
   PENDING, // 전송 대기
+  SENDING, // 발송 처리 중 (디스패처가 점유)
   SENT, // 전송 완료
   FAIL, // 전송 실패
   CANCELLED // 사용자에 의해 예약 취소
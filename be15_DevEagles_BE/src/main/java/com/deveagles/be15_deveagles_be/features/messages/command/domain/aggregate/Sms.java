@@ -74,11 +74,28 @@ public class Sms {
   @Column(name = "workflow_id", nullable = true)
   private Long workflowId;
 
+  // 디스패처가 점유한 횟수 (재시도 한도 판단)
+  @Builder.Default
+  @Column(name = "dispatch_attempts", nullable = false)
+  private Integer dispatchAttempts = 0;
+
+  // 발송 중(SENDING)으로 점유한 시각. 점유 기한이 지나면 다시 대기 상태로 돌린다
+  @Column(name = "claimed_at")
+  private LocalDateTime claimedAt;
+
+  // 재시도 대기 중이면 다음 발송 가능 시각
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+
   public void markAsSent() {
     this.sentAt = LocalDateTime.now();
     this.messageDeliveryStatus = MessageDeliveryStatus.SENT;
   }
 
+  public void markAsSending() {
+    this.messageDeliveryStatus = MessageDeliveryStatus.SENDING;
+  }
+
   public void markAsFailed() {
     this.messageDeliveryStatus = MessageDeliveryStatus.FAIL;
   }
@@ -3,10 +3,19 @@ package com.deveagles.be15_deveagles_be.features.messages.command.domain.reposit
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageDeliveryStatus;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSendingType;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface SmsRepository extends JpaRepository<Sms, Long> {
 
@@ -16,4 +25,85 @@ public interface SmsRepository extends JpaRepository<Sms, Long> {
       MessageDeliveryStatus messageDeliveryStatus);
 
   Optional<Sms> findByMessageIdAndShopId(Long messageId, Long shopId);
+
+  // 발송 시각이 지난 대기 메시지를 잠금 경합 없이 점유 (다른 디스패처가 잡은 행은 건너뜀)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query(
+      "SELECT s FROM Sms s WHERE s.messageDeliveryStatus = :status "
+          + "AND s.scheduledAt <= :now "
+          + "AND (s.nextAttemptAt IS NULL OR s.nextAttemptAt <= :now) "
+          + "ORDER BY s.messageId ASC")
+  List<Sms> findDispatchTargets(
+      @Param("status") MessageDeliveryStatus status,
+      @Param("now") LocalDateTime now,
+      Pageable pageable);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "UPDATE Sms s SET s.messageDeliveryStatus = :to "
+          + "WHERE s.messageId IN :ids AND s.messageDeliveryStatus = :from")
+  int updateDeliveryStatus(
+      @Param("ids") Collection<Long> ids,
+      @Param("from") MessageDeliveryStatus from,
+      @Param("to") MessageDeliveryStatus to);
+
+  // 점유: 발송 중으로 바꾸면서 점유 시각과 시도 횟수를 남긴다
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "UPDATE Sms s SET s.messageDeliveryStatus = :to, s.claimedAt = :claimedAt, "
+          + "s.dispatchAttempts = s.dispatchAttempts + 1 "
+          + "WHERE s.messageId IN :ids AND s.messageDeliveryStatus = :from")
+  int claimForDispatch(
+      @Param("ids") Collection<Long> ids,
+      @Param("from") MessageDeliveryStatus from,
+      @Param("to") MessageDeliveryStatus to,
+      @Param("claimedAt") LocalDateTime claimedAt);
+
+  // 재시도: 발송 중인 메시지를 다음 시도 시각과 함께 대기 상태로 돌린다
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "UPDATE Sms s SET s.messageDeliveryStatus = :to, s.claimedAt = NULL, "
+          + "s.nextAttemptAt = :nextAttemptAt "
+          + "WHERE s.messageId IN :ids AND s.messageDeliveryStatus = :from")
+  int requeueForDispatch(
+      @Param("ids") Collection<Long> ids,
+      @Param("from") MessageDeliveryStatus from,
+      @Param("to") MessageDeliveryStatus to,
+      @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+  // 점유 기한이 지난 발송 중 메시지 회수. 시도 한도 미만은 대기로, 이상은 실패로 바꾼다
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "UPDATE Sms s SET s.messageDeliveryStatus = :to, s.claimedAt = NULL "
+          + "WHERE s.messageDeliveryStatus = :from "
+          + "AND (s.claimedAt IS NULL OR s.claimedAt < :claimedBefore) "
+          + "AND s.dispatchAttempts < :maxAttempts")
+  int requeueExpiredClaims(
+      @Param("from") MessageDeliveryStatus from,
+      @Param("to") MessageDeliveryStatus to,
+      @Param("claimedBefore") LocalDateTime claimedBefore,
+      @Param("maxAttempts") int maxAttempts);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "UPDATE Sms s SET s.messageDeliveryStatus = :to "
+          + "WHERE s.messageDeliveryStatus = :from "
+          + "AND (s.claimedAt IS NULL OR s.claimedAt < :claimedBefore) "
+          + "AND s.dispatchAttempts >= :maxAttempts")
+  int failExpiredClaims(
+      @Param("from") MessageDeliveryStatus from,
+      @Param("to") MessageDeliveryStatus to,
+      @Param("claimedBefore") LocalDateTime claimedBefore,
+      @Param("maxAttempts") int maxAttempts);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "UPDATE Sms s SET s.messageDeliveryStatus = :to, s.sentAt = :sentAt "
+          + "WHERE s.messageId IN :ids AND s.messageDeliveryStatus = :from")
+  int updateDeliveryStatusWithSentAt(
+      @Param("ids") Collection<Long> ids,
+      @Param("from") MessageDeliveryStatus from,
+      @Param("to") MessageDeliveryStatus to,
+      @Param("sentAt") LocalDateTime sentAt);
 }
@@ -1,9 +1,12 @@
 package com.deveagles.be15_deveagles_be.features.messages.command.infrastructure;
 
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsDispatchUnit;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendUnit;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
 import jakarta.annotation.PostConstruct;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import net.nurigo.sdk.NurigoApp;
 import net.nurigo.sdk.message.model.FailedMessage;
@@ -32,6 +35,27 @@ public class CoolSmsClient {
   }
 
   public List<MessageSendResult> sendMany(String sender, String content, List<SmsSendUnit> units) {
+    try {
+      return sendBatch(
+          sender,
+          units.stream()
+              .map(unit -> new SmsDispatchUnit(unit.messageId(), unit.phoneNumber(), content))
+              .toList());
+
+    } catch (Exception e) {
+      log.error("CoolSMS sendMany 예외", e);
+      String message = e.getMessage() != null ? e.getMessage() : "알 수 없는 예외 발생";
+
+      // 예외 시 모든 메시지를 실패 처리
+      return units.stream()
+          .map(unit -> new MessageSendResult(false, "예외 발생: " + message, unit.messageId()))
+          .toList();
+    }
+  }
+
+  /** 메시지별 본문으로 한 번에 발송한다. 호출 측에서 재시도할 수 있도록 예외는 그대로 던진다. */
+  public List<MessageSendResult> sendBatch(String sender, List<SmsDispatchUnit> units)
+      throws Exception {
     List<Message> messages =
         units.stream()
             .map(
@@ -39,37 +63,28 @@ public class CoolSmsClient {
                   Message message = new Message();
                   message.setFrom(sender);
                   message.setTo(unit.phoneNumber());
-                  message.setText(content);
+                  message.setText(unit.content());
                   return message;
                 })
             .toList();
 
-    try {
-      // 동기 호출
-      MultipleDetailMessageSentResponse response = messageService.send(messages, false, true);
-
-      // 실패한 번호 리스트 추출
-      List<String> failedNumbers =
-          response.getFailedMessageList().stream().map(FailedMessage::getTo).toList();
+    // 동기 호출
+    MultipleDetailMessageSentResponse response = messageService.send(messages, false, true);
 
-      // 각 유닛에 대해 결과 생성
-      return units.stream()
-          .map(
-              unit -> {
-                boolean isSuccess = !failedNumbers.contains(unit.phoneNumber());
-                return new MessageSendResult(
-                    isSuccess, isSuccess ? "발송 성공" : "발송 실패", unit.messageId());
-              })
-          .toList();
+    // 실패한 번호 집합 추출 (유닛별 조회를 상수 시간으로)
+    Set<String> failedNumbers =
+        response.getFailedMessageList().stream()
+            .map(FailedMessage::getTo)
+            .collect(Collectors.toSet());
 
-    } catch (Exception e) {
-      log.error("CoolSMS sendMany 예외", e);
-      String message = e.getMessage() != null ? e.getMessage() : "알 수 없는 예외 발생";
-
-      // 예외 시 모든 메시지를 실패 처리
-      return units.stream()
-          .map(unit -> new MessageSendResult(false, "예외 발생: " + message, unit.messageId()))
-          .toList();
-    }
+    // 각 유닛에 대해 결과 생성
+    return units.stream()
+        .map(
+            unit -> {
+              boolean isSuccess = !failedNumbers.contains(unit.phoneNumber());
+              return new MessageSendResult(
+                  isSuccess, isSuccess ? "발송 성공" : "발송 실패", unit.messageId());
+            })
+        .toList();
   }
 }
@@ -0,0 +1,62 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.infrastructure;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLink;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLinkLog;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 추적 링크/클릭 기록 일괄 저장.
+ *
+ * <p>IDENTITY 키 엔티티는 Hibernate 가 insert 를 묶지 않으므로, 발송 한 번의 링크나 모아 둔 클릭은 JDBC batch 로 저장한다. 호출한 쪽의
+ * 트랜잭션에 함께 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageClickJdbcRepository {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final String INSERT_LINK =
+      "INSERT INTO message_click_link (short_token, original_url, created_at, message_id)"
+          + " VALUES (?, ?, ?, ?)";
+  private static final String INSERT_CLICK_LOG =
+      "INSERT INTO message_click_link_log (message_link_id, read_at) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertLinks(List<MessageClickLink> links) {
+    if (links.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        INSERT_LINK,
+        links,
+        BATCH_SIZE,
+        (ps, link) -> {
+          ps.setString(1, link.getShortToken());
+          ps.setString(2, link.getOriginalUrl());
+          ps.setTimestamp(3, now);
+          ps.setLong(4, link.getMessageId());
+        });
+  }
+
+  public void insertClickLogs(List<MessageClickLinkLog> logs) {
+    if (logs.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        INSERT_CLICK_LOG,
+        logs,
+        BATCH_SIZE,
+        (ps, click) -> {
+          ps.setLong(1, click.getMessageLinkId());
+          ps.setTimestamp(2, Timestamp.valueOf(click.getReadAt()));
+        });
+  }
+}
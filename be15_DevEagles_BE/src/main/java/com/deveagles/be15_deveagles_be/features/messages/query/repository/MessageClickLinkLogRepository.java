@@ -1,8 +1,17 @@
 package com.deveagles.be15_deveagles_be.features.messages.query.repository;
 
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLinkLog;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MessageClickLinkLogRepository extends JpaRepository<MessageClickLinkLog, Long> {
   boolean existsByMessageLinkId(Long messageLinkId);
+
+  @Query(
+      "SELECT DISTINCT l.messageLinkId FROM MessageClickLinkLog l"
+          + " WHERE l.messageLinkId IN :messageLinkIds")
+  List<Long> findLoggedLinkIds(@Param("messageLinkIds") Collection<Long> messageLinkIds);
 }
@@ -1,9 +1,13 @@
 package com.deveagles.be15_deveagles_be.features.messages.query.repository;
 
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLink;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface MessageClickLinkRepository extends JpaRepository<MessageClickLink, Long> {
   Optional<MessageClickLink> findByShortToken(String token);
+
+  List<MessageClickLink> findByShortTokenIn(Collection<String> tokens);
 }
@@ -0,0 +1,13 @@
+package com.deveagles.be15_deveagles_be.features.messages.query.repository;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.CustomerTemplateVariable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface MessageRecipientQueryRepository {
+
+  /** 고객 ID 별 템플릿 변수 값. 요청한 변수의 컬럼만 읽으며, 매장에 없는 고객은 결과에서 빠진다. */
+  Map<Long, Map<String, String>> findTemplateValues(
+      Long shopId, Collection<Long> customerIds, Set<CustomerTemplateVariable> variables);
+}
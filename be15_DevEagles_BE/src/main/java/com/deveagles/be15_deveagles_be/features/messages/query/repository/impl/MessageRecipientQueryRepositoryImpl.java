@@ -0,0 +1,82 @@
+package com.deveagles.be15_deveagles_be.features.messages.query.repository.impl;
+
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomer.customer;
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomerGrade.customerGrade;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.CustomerTemplateVariable;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageRecipientQueryRepository;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MessageRecipientQueryRepositoryImpl implements MessageRecipientQueryRepository {
+
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
+  private final JPAQueryFactory queryFactory;
+
+  @Override
+  public Map<Long, Map<String, String>> findTemplateValues(
+      Long shopId, Collection<Long> customerIds, Set<CustomerTemplateVariable> variables) {
+    if (customerIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<CustomerTemplateVariable, Expression<?>> columns =
+        new EnumMap<>(CustomerTemplateVariable.class);
+    for (CustomerTemplateVariable variable : variables) {
+      columns.put(variable, column(variable));
+    }
+    List<Expression<?>> select = new ArrayList<>();
+    select.add(customer.id);
+    select.addAll(columns.values());
+
+    JPAQuery<Tuple> query =
+        queryFactory.select(select.toArray(new Expression<?>[0])).from(customer);
+    if (variables.contains(CustomerTemplateVariable.CUSTOMER_GRADE)) {
+      query.leftJoin(customerGrade).on(customer.customerGradeId.eq(customerGrade.id));
+    }
+    List<Tuple> rows =
+        query.where(customer.shopId.eq(shopId).and(customer.id.in(customerIds))).fetch();
+
+    Map<Long, Map<String, String>> result = new HashMap<>(rows.size() * 2);
+    for (Tuple row : rows) {
+      Map<String, String> values = new HashMap<>(columns.size() * 2);
+      columns.forEach(
+          (variable, column) -> values.put(variable.getVariableName(), format(row.get(column))));
+      result.put(row.get(customer.id), values);
+    }
+    return result;
+  }
+
+  private static Expression<?> column(CustomerTemplateVariable variable) {
+    return switch (variable) {
+      case CUSTOMER_NAME -> customer.customerName;
+      case CUSTOMER_GRADE -> customerGrade.customerGradeName;
+      case VISIT_COUNT -> customer.visitCount;
+      case RECENT_VISIT_DATE -> customer.recentVisitDate;
+    };
+  }
+
+  private static String format(Object value) {
+    if (value == null) {
+      return null;
+    }
+    return value instanceof LocalDate date ? date.format(DATE_FORMAT) : value.toString();
+  }
+}
@@ -11,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -29,7 +30,9 @@ public class NotificationController {
 
   @Operation(summary = "알림 구독", description = "로그인한 사용자가 실시간 알림을 구독합니다. (SSE)")
   @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-  public SseEmitter subscribe(@RequestParam("token") String token) {
+  public SseEmitter subscribe(
+      @RequestParam("token") String token,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
     try {
       if (!jwtTokenProvider.validateToken(token)) {
         throw new JwtException("유효하지 않거나 만료된 토큰입니다.");
@@ -43,7 +46,7 @@ public class NotificationController {
       }
       Long shopId = Long.parseLong(shopIdStr);
 
-      return notificationSseService.subscribe(shopId);
+      return notificationSseService.subscribe(shopId, lastEventId);
 
     } catch (JwtException e) {
       log.warn("SSE 구독 실패: 유효하지 않은 토큰입니다. reason: {}", e.getMessage());
@@ -1,71 +1,345 @@
 package com.deveagles.be15_deveagles_be.features.notifications.command.application.service;
 
 import com.deveagles.be15_deveagles_be.features.notifications.query.application.dto.NotificationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
 
+/**
+ * 실시간 알림(SSE) 구독 관리 및 전송 서비스.
+ *
+ * <p>알림은 Redis 채널로 발행되어 모든 서버 인스턴스가 수신하고, 각 인스턴스는 자신이 가진 연결에만 전달한다. 매장당 여러 연결(탭, 기기)을 유지하며,
+ * 연결마다 크기가 제한된 전송 대기열을 두어 느린 클라이언트가 다른 연결의 전송을 막지 않게 한다. 최근 알림은 매장별로 짧게 보관해 재연결 시
+ * {@code Last-Event-ID} 이후 알림을 다시 보내준다.
+ */
 @Slf4j
 @Service
-public class NotificationSseService {
+public class NotificationSseService implements MessageListener {
 
   // SSE 타임아웃 시간 (1시간)
   private static final Long SSE_TIMEOUT = 1000L * 60 * 60;
-  // 동시성 문제를 해결하기 위해 ConcurrentHashMap 사용
-  private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+  // 모든 서버 인스턴스가 구독하는 알림 채널
+  static final String CHANNEL = "notifications";
+  // 매장별 알림 이벤트 ID 시퀀스
+  private static final String SEQUENCE_KEY_PREFIX = "NOTIFICATION_SEQ:";
+  // 매장별 재전송용 최근 알림 (score = 이벤트 ID)
+  private static final String REPLAY_KEY_PREFIX = "NOTIFICATION_REPLAY:";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+
+  // 매장별 연결 목록 (오래된 연결이 앞쪽)
+  private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+
+  @Value("${notification.sse.max-connections-per-shop:20}")
+  private int maxConnectionsPerShop = 20;
+
+  // 연결별 전송 대기열 크기 (초과 시 연결을 끊고 재연결 시 재전송으로 복구)
+  @Value("${notification.sse.queue-capacity:100}")
+  private int queueCapacity = 100;
+
+  @Value("${notification.sse.heartbeat-seconds:25}")
+  private long heartbeatSeconds = 25;
+
+  @Value("${notification.sse.replay-size:100}")
+  private int replaySize = 100;
+
+  @Value("${notification.sse.replay-ttl-minutes:10}")
+  private long replayTtlMinutes = 10;
+
+  @Value("${notification.sse.sender-count:4}")
+  private int senderCount = 4;
+
+  private ExecutorService senderPool;
+  private ScheduledExecutorService heartbeatScheduler;
+
+  public NotificationSseService(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      ObjectMapper objectMapper) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.objectMapper = objectMapper;
+  }
+
+  @PostConstruct
+  public void init() {
+    this.senderPool = Executors.newFixedThreadPool(Math.max(1, senderCount));
+    this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+    heartbeatScheduler.scheduleAtFixedRate(
+        this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeatScheduler.shutdownNow();
+    senderPool.shutdown();
+    connections.values().forEach(list -> list.forEach(c -> c.emitter.complete()));
+  }
+
+  public SseEmitter subscribe(Long shopId) {
+    return subscribe(shopId, null);
+  }
 
   /**
-   * 사용자가 구독을 시작하면, SseEmitter를 생성하고 저장합니다.
+   * 사용자가 구독을 시작하면, SseEmitter를 생성하고 등록합니다. 재연결이면 마지막으로 받은 이벤트 이후의 알림을 다시 보냅니다.
    *
    * @param shopId 구독하는 사용자의 매장 ID
+   * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (없으면 null)
    * @return 생성된 SseEmitter 객체
    */
-  public SseEmitter subscribe(Long shopId) {
-    SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-    emitters.put(shopId, emitter);
+  public SseEmitter subscribe(Long shopId, String lastEventId) {
+    Connection connection = new Connection(shopId, new SseEmitter(SSE_TIMEOUT));
+    SseEmitter emitter = connection.emitter;
 
-    // 연결이 종료되거나 타임아웃되면 emitters 맵에서 제거
-    emitter.onCompletion(() -> emitters.remove(shopId));
-    emitter.onTimeout(() -> emitters.remove(shopId));
+    // 연결이 종료되거나 타임아웃되면 목록에서 제거
+    emitter.onCompletion(() -> close(connection));
+    emitter.onTimeout(() -> close(connection));
     emitter.onError(
         e -> {
-          log.error("SSE Emitter error for shopId: {}", shopId, e);
-          emitters.remove(shopId);
+          log.debug("SSE Emitter error for shopId: {}", shopId, e);
+          close(connection);
         });
 
-    // 연결 직후, 더미 데이터를 보내 연결이 수립되었음을 클라이언트에게 알림
-    sendToClient(emitter, "connect", "SSE 연결이 성공적으로 완료되었습니다. (shopId: " + shopId + ")");
+    register(connection);
+
+    // 연결 직후, 더미 데이터를 보내 연결이 수립되었음을 클라이언트에게 알림 (이벤트 ID 없음)
+    connection.enqueue(
+        SseEmitter.event()
+            .name("connect")
+            .data("SSE 연결이 성공적으로 완료되었습니다. (shopId: " + shopId + ")"));
 
+    connection.finishReplay(loadReplay(shopId, lastEventId));
     return emitter;
   }
 
   /**
-   * 특정 매장(사용자)에게 알림을 보냅니다.
+   * 특정 매장(사용자)에게 알림을 보냅니다. 모든 서버 인스턴스로 발행되어 해당 매장의 모든 연결에 전달됩니다.
    *
    * @param shopId 알림을 받을 매장의 ID
    * @param notification 저장된 알림 객체
    */
   public void send(Long shopId, NotificationResponse notification) {
-    if (emitters.containsKey(shopId)) {
-      SseEmitter emitter = emitters.get(shopId);
-      sendToClient(emitter, "notification", notification);
+    try {
+      String data = objectMapper.writeValueAsString(notification);
+      Long eventId = redisTemplate.opsForValue().increment(SEQUENCE_KEY_PREFIX + shopId);
+      String message =
+          objectMapper.writeValueAsString(new NotificationEnvelope(shopId, eventId, data));
+
+      String replayKey = REPLAY_KEY_PREFIX + shopId;
+      ZSetOperations<String, String> replay = redisTemplate.opsForZSet();
+      replay.add(replayKey, message, eventId);
+      replay.removeRange(replayKey, 0, -(replaySize + 1L));
+      redisTemplate.expire(replayKey, Duration.ofMinutes(replayTtlMinutes));
+
+      redisTemplate.convertAndSend(CHANNEL, message);
+    } catch (Exception e) {
+      log.error("SSE 알림 발행 중 오류 발생 - shopId: {}", shopId, e);
     }
   }
 
-  /** 클라이언트에게 실제 데이터를 전송하는 헬퍼 메서드 */
-  private void sendToClient(SseEmitter emitter, String eventName, Object data) {
+  /** Redis 채널로 수신한 알림을 이 인스턴스의 연결에 전달합니다. */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
     try {
-      emitter.send(
-          SseEmitter.event()
-              .id(String.valueOf(System.currentTimeMillis())) // 이벤트 ID
-              .name(eventName) // 클라이언트가 수신할 이벤트 이름
-              .data(data)); // 실제 전송할 데이터 (JSON으로 변환됨)
+      NotificationEnvelope envelope =
+          objectMapper.readValue(message.getBody(), NotificationEnvelope.class);
+      List<Connection> shopConnections = connections.get(envelope.shopId());
+      if (shopConnections != null) {
+        shopConnections.forEach(connection -> connection.deliver(envelope));
+      }
     } catch (IOException e) {
-      log.error("SSE 데이터 전송 중 오류 발생: {}", e.getMessage());
-      emitter.complete(); // 오류 발생 시 연결 종료
+      log.warn("SSE 알림 메시지 해석 실패: {}", e.getMessage());
+    }
+  }
+
+  int getConnectionCount(Long shopId) {
+    List<Connection> shopConnections = connections.get(shopId);
+    return shopConnections == null ? 0 : shopConnections.size();
+  }
+
+  private List<NotificationEnvelope> loadReplay(Long shopId, String lastEventId) {
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return List.of();
+    }
+
+    long after;
+    try {
+      after = Long.parseLong(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      return List.of();
+    }
+
+    try {
+      Set<String> messages =
+          redisTemplate
+              .opsForZSet()
+              .rangeByScore(REPLAY_KEY_PREFIX + shopId, after + 1, Double.POSITIVE_INFINITY);
+      if (messages == null || messages.isEmpty()) {
+        return List.of();
+      }
+
+      List<NotificationEnvelope> replay = new ArrayList<>(messages.size());
+      for (String message : messages) {
+        replay.add(objectMapper.readValue(message, NotificationEnvelope.class));
+      }
+      return replay;
+    } catch (Exception e) {
+      log.warn("SSE 알림 재전송 목록 조회 실패 - shopId: {}, 오류: {}", shopId, e.getMessage());
+      return List.of();
+    }
+  }
+
+  private void register(Connection connection) {
+    List<Connection> evicted = new ArrayList<>();
+    connections.compute(
+        connection.shopId,
+        (shopId, list) -> {
+          List<Connection> shopConnections = list != null ? list : new CopyOnWriteArrayList<>();
+          shopConnections.add(connection);
+          while (shopConnections.size() > maxConnectionsPerShop) {
+            evicted.add(shopConnections.remove(0));
+          }
+          return shopConnections;
+        });
+
+    // 매장당 연결 수를 넘으면 가장 오래된 연결부터 종료
+    evicted.forEach(
+        old -> {
+          old.closed = true;
+          old.emitter.complete();
+        });
+  }
+
+  private void close(Connection connection) {
+    connection.closed = true;
+    connection.queue.clear();
+    connections.computeIfPresent(
+        connection.shopId,
+        (shopId, list) -> {
+          list.remove(connection);
+          return list.isEmpty() ? null : list;
+        });
+  }
+
+  private void sendHeartbeats() {
+    connections
+        .values()
+        .forEach(list -> list.forEach(c -> c.enqueue(SseEmitter.event().comment("heartbeat"))));
+  }
+
+  /** Redis 채널로 주고받는 알림 메시지. data 는 직렬화된 {@link NotificationResponse} 입니다. */
+  record NotificationEnvelope(Long shopId, long eventId, String data) {}
+
+  /** 클라이언트 연결 하나. 전송은 연결마다 한 스레드씩만 수행되도록 대기열을 통해 직렬화한다. */
+  private final class Connection {
+
+    private final Long shopId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEventBuilder> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    // 재전송이 끝나기 전에 도착한 알림 (this 로 동기화)
+    private final List<NotificationEnvelope> pending = new ArrayList<>();
+    private boolean replayed;
+    private long replayedUpTo;
+
+    private volatile boolean closed;
+
+    private Connection(Long shopId, SseEmitter emitter) {
+      this.shopId = shopId;
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    private synchronized void deliver(NotificationEnvelope envelope) {
+      if (!replayed) {
+        pending.add(envelope);
+        return;
+      }
+      // 재전송으로 이미 보낸 알림은 건너뜀
+      if (envelope.eventId() > replayedUpTo) {
+        enqueue(toEvent(envelope));
+      }
+    }
+
+    private synchronized void finishReplay(List<NotificationEnvelope> replay) {
+      for (NotificationEnvelope envelope : replay) {
+        enqueue(toEvent(envelope));
+        replayedUpTo = Math.max(replayedUpTo, envelope.eventId());
+      }
+      replayed = true;
+      pending.forEach(this::deliver);
+      pending.clear();
+    }
+
+    private void enqueue(SseEventBuilder event) {
+      if (closed) {
+        return;
+      }
+      if (!queue.offer(event)) {
+        log.warn("SSE 전송 대기열 초과로 연결 종료 - shopId: {}", shopId);
+        close(this);
+        emitter.complete();
+        return;
+      }
+      if (draining.compareAndSet(false, true)) {
+        senderPool.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        SseEventBuilder event;
+        while (!closed && (event = queue.poll()) != null) {
+          emitter.send(event);
+        }
+      } catch (IOException | IllegalStateException e) {
+        log.debug("SSE 데이터 전송 실패로 연결 종료 - shopId: {}, 오류: {}", shopId, e.getMessage());
+        close(this);
+      } finally {
+        draining.set(false);
+        // 플래그 해제 직전에 들어온 이벤트 처리
+        if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+          senderPool.execute(this::drain);
+        }
+      }
+    }
+
+    private SseEventBuilder toEvent(NotificationEnvelope envelope) {
+      return SseEmitter.event()
+          .id(String.valueOf(envelope.eventId()))
+          .name("notification")
+          .data(envelope.data(), MediaType.APPLICATION_JSON);
     }
   }
 }
@@ -1,5 +1,8 @@
 package com.deveagles.be15_deveagles_be.features.sales.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.events.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.common.events.PaymentCompletedEvent;
+import com.deveagles.be15_deveagles_be.common.events.outbox.DomainEventPublisher;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
@@ -18,7 +21,12 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.ItemSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.sales.command.infrastructure.repository.SalesJdbcRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import jakarta.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +46,9 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
   private final CustomerMembershipHistoryRepository customerMembershipHistoryRepository;
   private final CustomerQueryService customerQueryService;
   private final AutomaticMessageTriggerService automaticMessageTriggerService;
+  private final SalesRollupCommandService salesRollupCommandService;
+  private final DomainEventPublisher domainEventPublisher;
+  private final SalesJdbcRepository salesJdbcRepository;
 
   @Transactional
   @Override
@@ -95,33 +106,45 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
             .build();
     salesRepository.save(sales);
 
-    // 2. Payments 저장 및 패스 차감
-    for (PaymentsInfo p : request.getPayments()) {
-      Payments payment =
-          Payments.builder()
-              .salesId(sales.getSalesId())
-              .paymentsMethod(p.getPaymentsMethod())
-              .amount(p.getAmount())
-              .build();
-      paymentsRepository.save(payment);
+    // 2. 패스를 모두 차감한 뒤 Payments · 회원권 이력을 종류별로 한 번에 저장
+    List<PaymentsInfo> paymentInfos = request.getPayments();
+    List<Integer> balances = new ArrayList<>(paymentInfos.size());
+    for (PaymentsInfo p : paymentInfos) {
+      balances.add(
+          switch (p.getPaymentsMethod()) {
+            case PREPAID_PASS -> deductPrepaidAmount(p.getCustomerPrepaidPassId(), p.getAmount());
+            case SESSION_PASS -> deductSessionCount(p.getCustomerSessionPassId(), usedCount(p));
+            default -> null;
+          });
+    }
 
-      Long savedPaymentsId = payment.getPaymentsId(); // 저장된 결제 ID
+    List<Long> paymentsIds =
+        salesJdbcRepository.insertPayments(
+            paymentInfos.stream()
+                .map(
+                    p ->
+                        Payments.builder()
+                            .salesId(sales.getSalesId())
+                            .paymentsMethod(p.getPaymentsMethod())
+                            .amount(p.getAmount())
+                            .build())
+                .toList());
+
+    List<CustomerMembershipHistory> histories = new ArrayList<>();
+    for (int i = 0; i < paymentInfos.size(); i++) {
+      PaymentsInfo p = paymentInfos.get(i);
+      Long savedPaymentsId = paymentsIds.get(i); // 저장된 결제 ID
+      int balanceAfter = balances.get(i) != null ? balances.get(i) : 0;
 
       switch (p.getPaymentsMethod()) {
         case PREPAID_PASS -> {
-          var pass =
-              customerPrepaidPassRepository
-                  .findById(p.getCustomerPrepaidPassId())
-                  .orElseThrow(
-                      () -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-
-          pass.useAmount(p.getAmount());
-
-          customerMembershipHistoryRepository.save(
+          histories.add(
               CustomerMembershipHistory.builder()
                   .salesId(sales.getSalesId())
                   .paymentsId(savedPaymentsId)
-                  .customerPrepaidPassId(pass.getCustomerPrepaidPassId())
+                  .customerPrepaidPassId(p.getCustomerPrepaidPassId())
+                  .usedAmount(p.getAmount())
+                  .balanceAfter(balanceAfter)
                   .build());
 
           //  자동발신 트리거
@@ -133,28 +156,20 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
                 Map<String, String> payload =
                     Map.of(
                         "고객명", customer.getCustomerName(),
-                        "선불권금액", String.valueOf(pass.getRemainingAmount()));
+                        "선불권금액", String.valueOf(balanceAfter));
                 automaticMessageTriggerService.triggerAutomaticSend(
                     customer, AutomaticEventType.PREPAID_USED, payload);
               });
         }
 
         case SESSION_PASS -> {
-          var pass =
-              customerSessionPassRepository
-                  .findById(p.getCustomerSessionPassId())
-                  .orElseThrow(
-                      () -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
-
-          int useCount = p.getUsedCount() != null ? p.getUsedCount() : 1;
-          pass.useCount(useCount);
-
-          customerMembershipHistoryRepository.save(
+          histories.add(
               CustomerMembershipHistory.builder()
                   .salesId(sales.getSalesId())
                   .paymentsId(savedPaymentsId)
-                  .customerSessionPassId(pass.getCustomerSessionPassId())
-                  .usedCount(useCount)
+                  .customerSessionPassId(p.getCustomerSessionPassId())
+                  .usedCount(usedCount(p))
+                  .balanceAfter(balanceAfter)
                   .build());
 
           Optional<CustomerDetailResponse> optionalCustomer =
@@ -164,33 +179,59 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
                 Map<String, String> payload =
                     Map.of(
                         "고객명", customer.getCustomerName(),
-                        "횟수권횟수", String.valueOf(pass.getRemainingCount()));
+                        "횟수권횟수", String.valueOf(balanceAfter));
                 automaticMessageTriggerService.triggerAutomaticSend(
                     customer, AutomaticEventType.SESSION_PASS_USED, payload);
               });
         }
       }
     }
-    // 3. item_sales 저장
-    for (ItemSalesRequest.ItemInfo item : request.getItems()) {
-      itemSalesRepository.save(
-          ItemSales.builder()
-              .salesId(sales.getSalesId())
-              .secondaryItemId(item.getSecondaryItemId())
-              .quantity(item.getQuantity())
-              .discountRate(item.getDiscountRate())
-              .couponId(item.getCouponId())
-              .build());
-    }
+    salesJdbcRepository.insertMembershipHistories(histories);
+
+    // 3. item_sales 일괄 저장
+    salesJdbcRepository.insertItemSales(
+        request.getItems().stream()
+            .map(
+                item ->
+                    ItemSales.builder()
+                        .salesId(sales.getSalesId())
+                        .secondaryItemId(item.getSecondaryItemId())
+                        .quantity(item.getQuantity())
+                        .discountRate(item.getDiscountRate())
+                        .couponId(item.getCouponId())
+                        .build())
+            .toList());
 
     // 4. 고객 정보 갱신
     Customer customer =
         customerRepository
             .findById(request.getCustomerId())
             .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND));
+    // 트리거 확인은 갱신 뒤에 처리되므로 갱신 전 방문일과 누적 매출을 이벤트에 담는다
+    LocalDate previousVisitDate = customer.getRecentVisitDate();
+    long previousTotalRevenue = customer.getTotalRevenue();
     customer.incrementVisitCount();
     customer.addRevenue(request.getTotalAmount());
     customer.updateRecentVisitDate(request.getSalesDate().toLocalDate());
+
+    // 5. 일별 매출 집계 갱신
+    salesRollupCommandService.refresh(sales.getShopId(), sales.getSalesDate());
+
+    // 6. 방문 · 결제 워크플로우 트리거는 커밋 후 요청 스레드 밖에서 처리
+    domainEventPublisher.publish(
+        CustomerVisitEvent.of(
+            sales.getCustomerId(),
+            sales.getShopId(),
+            null,
+            sales.getSalesDate(),
+            previousVisitDate));
+    domainEventPublisher.publish(
+        PaymentCompletedEvent.of(
+            sales.getCustomerId(),
+            sales.getShopId(),
+            (long) sales.getTotalAmount(),
+            sales.getSalesDate(),
+            previousTotalRevenue));
   }
 
   @Transactional
@@ -202,42 +243,12 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
             .findById(salesId)
             .orElseThrow(() -> new BusinessException(ErrorCode.SALES_NOT_FOUND));
 
-    // 1-1. 수정 전 총금액을 로컬 변수에 저장
+    // 1-1. 수정 전 총금액과 매출일을 로컬 변수에 저장
     int oldTotalAmount = sales.getTotalAmount();
+    LocalDateTime oldSalesDate = sales.getSalesDate();
 
-    // 2. 기존 Payments 조회 및 soft delete + 패스 복원
-    List<Payments> oldPayments = paymentsRepository.findAllBySalesId(salesId);
-
-    for (Payments old : oldPayments) {
-      old.softDelete();
-
-      // customer_membership_history 기반으로 어떤 패스를 썼는지 확인
-      customerMembershipHistoryRepository
-          .findBySalesIdAndPaymentsId(salesId, old.getPaymentsId())
-          .ifPresent(
-              history -> {
-                if (history.getCustomerPrepaidPassId() != null) {
-                  var pass =
-                      customerPrepaidPassRepository
-                          .findById(history.getCustomerPrepaidPassId())
-                          .orElseThrow(
-                              () -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-                  pass.restoreAmount(old.getAmount());
-                }
-
-                if (history.getCustomerSessionPassId() != null) {
-                  var pass =
-                      customerSessionPassRepository
-                          .findById(history.getCustomerSessionPassId())
-                          .orElseThrow(
-                              () -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
-                  pass.restoreCount(history.getUsedCount());
-                }
-
-                // history도 soft delete
-                history.softDelete();
-              });
-    }
+    // 2. 기존 Payments soft delete + 패스 복원 (복원 내역은 원장에 추가)
+    cancelPayments(salesId);
 
     // 3. Sales 필드 수정
     sales.updateSales(
@@ -266,26 +277,19 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
       Long customerSessionPassId = null;
 
       int usedCount = 0;
+      Integer usedAmount = null;
+      Integer balanceAfter = null;
       switch (p.getPaymentsMethod()) {
         case PREPAID_PASS -> {
-          var pass =
-              customerPrepaidPassRepository
-                  .findById(p.getCustomerPrepaidPassId())
-                  .orElseThrow(
-                      () -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-          pass.useAmount(p.getAmount());
-          customerPrepaidPassId = pass.getCustomerPrepaidPassId();
+          customerPrepaidPassId = p.getCustomerPrepaidPassId();
+          usedAmount = p.getAmount();
+          balanceAfter = deductPrepaidAmount(customerPrepaidPassId, usedAmount);
         }
 
         case SESSION_PASS -> {
-          var pass =
-              customerSessionPassRepository
-                  .findById(p.getCustomerSessionPassId())
-                  .orElseThrow(
-                      () -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
+          customerSessionPassId = p.getCustomerSessionPassId();
           usedCount = p.getUsedCount() != null ? p.getUsedCount() : 1;
-          pass.useCount(usedCount);
-          customerSessionPassId = pass.getCustomerSessionPassId();
+          balanceAfter = deductSessionCount(customerSessionPassId, usedCount);
         }
       }
 
@@ -296,6 +300,8 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
               .customerPrepaidPassId(customerPrepaidPassId)
               .customerSessionPassId(customerSessionPassId)
               .usedCount(usedCount)
+              .usedAmount(usedAmount)
+              .balanceAfter(balanceAfter)
               .build());
     }
 
@@ -322,6 +328,10 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
     int amountDifference = request.getTotalAmount() - oldTotalAmount;
     customer.addRevenue(amountDifference);
     customer.updateRecentVisitDate(request.getSalesDate().toLocalDate());
+
+    // 7. 일별 매출 집계 갱신 (수정 전 · 후 매출일)
+    salesRollupCommandService.refresh(sales.getShopId(), oldSalesDate);
+    salesRollupCommandService.refresh(sales.getShopId(), sales.getSalesDate());
   }
 
   @Transactional
@@ -339,41 +349,8 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
 
     int oldTotalAmount = sales.getTotalAmount();
 
-    // 2. 기존 Payments 조회 및 soft delete + 패스 복원
-    List<Payments> oldPayments = paymentsRepository.findAllBySalesId(salesId);
-
-    for (Payments old : oldPayments) {
-      old.softDelete();
-
-      customerMembershipHistoryRepository
-          .findBySalesIdAndPaymentsId(salesId, old.getPaymentsId())
-          .ifPresent(
-              history -> {
-                if (history.getCustomerPrepaidPassId() != null) {
-                  var pass =
-                      customerPrepaidPassRepository
-                          .findById(history.getCustomerPrepaidPassId())
-                          .orElseThrow(
-                              () -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-                  pass.restoreAmount(old.getAmount());
-                }
-
-                if (history.getCustomerSessionPassId() != null) {
-                  var pass =
-                      customerSessionPassRepository
-                          .findById(history.getCustomerSessionPassId())
-                          .orElseThrow(
-                              () -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
-                  Integer usedCount = history.getUsedCount();
-                  if (usedCount == null) {
-                    throw new BusinessException(ErrorCode.INVALID_MEMBERSHIP_HISTORY);
-                  }
-                  pass.restoreCount(usedCount);
-                }
-
-                history.softDelete();
-              });
-    }
+    // 2. 기존 Payments soft delete + 패스 복원 (복원 내역은 원장에 추가)
+    cancelPayments(salesId);
 
     // 3. Sales 환불 처리
     sales.setRefunded(true);
@@ -384,5 +361,114 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
             .findById(sales.getCustomerId())
             .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND));
     customer.subtractRevenue(oldTotalAmount);
+
+    // 5. 일별 매출 집계 갱신
+    salesRollupCommandService.refresh(sales.getShopId(), sales.getSalesDate());
+  }
+
+  private static int usedCount(PaymentsInfo payment) {
+    return payment.getUsedCount() != null ? payment.getUsedCount() : 1;
+  }
+
+  /**
+   * 선불권 잔액을 조건부 UPDATE 한 번으로 차감한다. 회원권 엔티티를 읽어 수정하지 않으므로 여러 단말에서 같은 선불권으로 동시에 결제해도 잔액을 넘어
+   * 차감되지 않는다.
+   *
+   * @return 차감 후 잔액
+   */
+  private int deductPrepaidAmount(Long customerPrepaidPassId, int amount) {
+    if (customerPrepaidPassRepository.deductAmount(customerPrepaidPassId, amount) == 0) {
+      // 차감 실패 사유 구분: 선불권이 있으면 잔액 부족
+      customerPrepaidPassRepository
+          .findRemainingAmountById(customerPrepaidPassId)
+          .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
+      throw new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_INSUFFICIENT_BALANCE);
+    }
+    // 같은 트랜잭션이 행 잠금을 갖고 있으므로 방금 차감한 결과가 조회된다.
+    return customerPrepaidPassRepository
+        .findRemainingAmountById(customerPrepaidPassId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
+  }
+
+  /**
+   * 횟수권 잔여 횟수를 조건부 UPDATE 한 번으로 차감한다.
+   *
+   * @return 차감 후 잔여 횟수
+   */
+  private int deductSessionCount(Long customerSessionPassId, int count) {
+    if (customerSessionPassRepository.deductCount(customerSessionPassId, count) == 0) {
+      customerSessionPassRepository
+          .findRemainingCountById(customerSessionPassId)
+          .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
+      throw new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_INSUFFICIENT_COUNT);
+    }
+    return customerSessionPassRepository
+        .findRemainingCountById(customerSessionPassId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
+  }
+
+  /** 매출의 결제를 취소하고 사용한 회원권을 복원한다. 이미 취소된 결제는 다시 복원하지 않는다. */
+  private void cancelPayments(Long salesId) {
+    List<CustomerMembershipHistory> compensations = new ArrayList<>();
+    for (Payments old : paymentsRepository.findAllBySalesId(salesId)) {
+      if (old.getDeletedAt() != null) {
+        continue;
+      }
+      old.softDelete();
+
+      // customer_membership_history 기반으로 어떤 패스를 썼는지 확인
+      customerMembershipHistoryRepository
+          .findBySalesIdAndPaymentsId(salesId, old.getPaymentsId())
+          .ifPresent(history -> compensations.add(restoreMembership(salesId, history, old)));
+    }
+    salesJdbcRepository.insertMembershipHistories(compensations);
+  }
+
+  /**
+   * 이력에 기록된 만큼 회원권을 되돌리고 복원 내역을 반환한다. 원장은 추가만 하므로 원 이력은 그대로 두고, 사용량을 음수로 기록한 보정 이력과 복원 후 잔액을
+   * 남긴다.
+   */
+  private CustomerMembershipHistory restoreMembership(
+      Long salesId, CustomerMembershipHistory history, Payments old) {
+    Integer restoredAmount = null;
+    Integer restoredCount = history.getUsedCount();
+    Integer balanceAfter = null;
+
+    if (history.getCustomerPrepaidPassId() != null) {
+      // 차감 금액이 기록되기 전의 이력은 결제 금액으로 복원
+      restoredAmount = history.getUsedAmount() != null ? history.getUsedAmount() : old.getAmount();
+      Long passId = history.getCustomerPrepaidPassId();
+      if (customerPrepaidPassRepository.restoreAmount(passId, restoredAmount) == 0) {
+        throw new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND);
+      }
+      balanceAfter =
+          customerPrepaidPassRepository
+              .findRemainingAmountById(passId)
+              .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
+    }
+
+    if (history.getCustomerSessionPassId() != null) {
+      if (restoredCount == null) {
+        throw new BusinessException(ErrorCode.INVALID_MEMBERSHIP_HISTORY);
+      }
+      Long passId = history.getCustomerSessionPassId();
+      if (customerSessionPassRepository.restoreCount(passId, restoredCount) == 0) {
+        throw new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND);
+      }
+      balanceAfter =
+          customerSessionPassRepository
+              .findRemainingCountById(passId)
+              .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
+    }
+
+    return CustomerMembershipHistory.builder()
+        .salesId(salesId)
+        .paymentsId(old.getPaymentsId())
+        .customerPrepaidPassId(history.getCustomerPrepaidPassId())
+        .customerSessionPassId(history.getCustomerSessionPassId())
+        .usedCount(restoredCount != null ? -restoredCount : null)
+        .usedAmount(restoredAmount != null ? -restoredAmount : null)
+        .balanceAfter(balanceAfter)
+        .build();
   }
 }
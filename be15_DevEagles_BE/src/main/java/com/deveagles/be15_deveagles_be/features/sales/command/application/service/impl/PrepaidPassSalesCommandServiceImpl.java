@@ -16,7 +16,9 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.S
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PrepaidPassSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -32,6 +34,7 @@ public class PrepaidPassSalesCommandServiceImpl implements PrepaidPassSalesComma
   private final SalesRepository salesRepository;
   private final PaymentsRepository paymentsRepository;
   private final CustomerPrepaidPassCommandService customerPrepaidPassCommandService;
+  private final SalesRollupCommandService salesRollupCommandService;
 
   @Transactional
   @Override
@@ -111,6 +114,8 @@ public class PrepaidPassSalesCommandServiceImpl implements PrepaidPassSalesComma
     passRequest.setExpirationDate(expirationDate);
 
     customerPrepaidPassCommandService.registCustomerPrepaidPass(passRequest);
+
+    salesRollupCommandService.refresh(sales.getShopId(), sales.getSalesDate());
   }
 
   private Date calculateExpirationDate(int period, ExpirationPeriodType type) {
@@ -147,6 +152,9 @@ public class PrepaidPassSalesCommandServiceImpl implements PrepaidPassSalesComma
             .findById(salesId)
             .orElseThrow(() -> new BusinessException(ErrorCode.SALES_NOT_FOUND));
 
+    Long previousShopId = sales.getShopId();
+    LocalDateTime previousSalesDate = sales.getSalesDate();
+
     sales.update(
         request.getShopId(),
         request.getCustomerId(),
@@ -179,5 +187,8 @@ public class PrepaidPassSalesCommandServiceImpl implements PrepaidPassSalesComma
                         .build())
             .toList();
     payments.forEach(paymentsRepository::save);
+
+    salesRollupCommandService.refresh(previousShopId, previousSalesDate);
+    salesRollupCommandService.refresh(sales.getShopId(), sales.getSalesDate());
   }
 }
@@ -5,6 +5,7 @@ import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.service.SalesCommandService;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Sales;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 public class SalesCommandServiceImpl implements SalesCommandService {
 
   private final SalesRepository salesRepository;
+  private final SalesRollupCommandService salesRollupCommandService;
 
   @Transactional
   @Override
@@ -28,6 +30,7 @@ public class SalesCommandServiceImpl implements SalesCommandService {
     }
 
     sales.setRefunded(true);
+    salesRollupCommandService.refresh(sales.getShopId(), sales.getSalesDate());
   }
 
   @Transactional
@@ -16,7 +16,9 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.S
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SessionPassSalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -32,6 +34,7 @@ public class SessionPassSalesCommandServiceImpl implements SessionPassSalesComma
   private final SalesRepository salesRepository;
   private final PaymentsRepository paymentsRepository;
   private final CustomerSessionPassCommandService customerSessionPassCommandService;
+  private final SalesRollupCommandService salesRollupCommandService;
 
   @Transactional
   @Override
@@ -109,6 +112,8 @@ public class SessionPassSalesCommandServiceImpl implements SessionPassSalesComma
     passRequest.setExpirationDate(expirationDate);
 
     customerSessionPassCommandService.registCustomerSessionPass(passRequest);
+
+    salesRollupCommandService.refresh(sales.getShopId(), sales.getSalesDate());
   }
 
   private Date calculateExpirationDate(int period, ExpirationPeriodType type) {
@@ -146,6 +151,9 @@ public class SessionPassSalesCommandServiceImpl implements SessionPassSalesComma
             .findById(salesId)
             .orElseThrow(() -> new BusinessException(ErrorCode.SALES_NOT_FOUND));
 
+    Long previousShopId = sales.getShopId();
+    LocalDateTime previousSalesDate = sales.getSalesDate();
+
     sales.update(
         request.getShopId(),
         request.getCustomerId(),
@@ -180,5 +188,8 @@ public class SessionPassSalesCommandServiceImpl implements SessionPassSalesComma
                         .build())
             .toList();
     payments.forEach(paymentsRepository::save);
+
+    salesRollupCommandService.refresh(previousShopId, previousSalesDate);
+    salesRollupCommandService.refresh(sales.getShopId(), sales.getSalesDate());
   }
 }
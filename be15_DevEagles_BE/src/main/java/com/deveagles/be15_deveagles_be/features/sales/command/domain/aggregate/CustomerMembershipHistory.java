@@ -29,9 +29,18 @@ public class CustomerMembershipHistory {
   @Column(name = "customer_session_pass_id")
   private Long customerSessionPassId;
 
+  /** 횟수권 차감 횟수 (결제 취소로 복원한 보정 이력은 음수) */
   @Column(name = "used_count")
   private Integer usedCount;
 
+  /** 선불권 차감 금액 (결제 취소로 복원한 보정 이력은 음수) */
+  @Column(name = "used_amount")
+  private Integer usedAmount;
+
+  /** 차감 또는 복원 직후 회원권 잔액(선불권) 또는 잔여 횟수(횟수권) */
+  @Column(name = "balance_after")
+  private Integer balanceAfter;
+
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
@@ -40,8 +49,4 @@ public class CustomerMembershipHistory {
 
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
-
-  public void softDelete() {
-    this.deletedAt = LocalDateTime.now();
-  }
 }
@@ -0,0 +1,134 @@
+package com.deveagles.be15_deveagles_be.features.sales.command.infrastructure.repository;
+
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.CustomerMembershipHistory;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.ItemSales;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Payments;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 매출 하위 행(결제, 회원권 사용 이력, 상품 매출) 일괄 저장.
+ *
+ * <p>IDENTITY 키 엔티티는 Hibernate 가 insert 를 묶지 않으므로, 매출 한 건의 하위 행은 종류별로 JDBC batch 한 번에 저장한다. 이력이 결제
+ * ID 를 참조하므로 결제는 생성된 키를 입력 순서대로 돌려준다. 호출한 쪽의 트랜잭션에 함께 참여하며, 저장한 행은 영속성 컨텍스트에 올라가지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesJdbcRepository {
+
+  private static final String INSERT_PAYMENT =
+      "INSERT INTO payments (sales_id, payments_method, amount, created_at) VALUES (?, ?, ?, ?)";
+  private static final String INSERT_MEMBERSHIP_HISTORY =
+      "INSERT INTO customer_membership_history (sales_id, payments_id, customer_prepaid_pass_id,"
+          + " customer_session_pass_id, used_count, used_amount, balance_after, created_at,"
+          + " modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_ITEM_SALES =
+      "INSERT INTO item_sales (secondary_item_id, sales_id, quantity, discount_rate, coupon_id,"
+          + " created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** 결제를 저장하고 생성된 결제 ID 를 입력 순서대로 반환한다. */
+  public List<Long> insertPayments(List<Payments> payments) {
+    if (payments.isEmpty()) {
+      return List.of();
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(INSERT_PAYMENT, new String[] {"payments_id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Payments payment = payments.get(i);
+            ps.setLong(1, payment.getSalesId());
+            ps.setString(2, payment.getPaymentsMethod().name());
+            setInteger(ps, 3, payment.getAmount());
+            ps.setTimestamp(4, now);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return payments.size();
+          }
+        },
+        keyHolder);
+
+    List<Map<String, Object>> keys = keyHolder.getKeyList();
+    if (keys.size() != payments.size()) {
+      throw new IllegalStateException(
+          "결제 ID 생성 결과가 저장 건수와 다릅니다: " + keys.size() + "/" + payments.size());
+    }
+    return keys.stream().map(key -> ((Number) key.values().iterator().next()).longValue()).toList();
+  }
+
+  public void insertMembershipHistories(List<CustomerMembershipHistory> histories) {
+    if (histories.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        INSERT_MEMBERSHIP_HISTORY,
+        histories,
+        histories.size(),
+        (ps, history) -> {
+          ps.setLong(1, history.getSalesId());
+          ps.setLong(2, history.getPaymentsId());
+          setLong(ps, 3, history.getCustomerPrepaidPassId());
+          setLong(ps, 4, history.getCustomerSessionPassId());
+          setInteger(ps, 5, history.getUsedCount());
+          setInteger(ps, 6, history.getUsedAmount());
+          setInteger(ps, 7, history.getBalanceAfter());
+          ps.setTimestamp(8, now);
+          ps.setTimestamp(9, now);
+        });
+  }
+
+  public void insertItemSales(List<ItemSales> itemSales) {
+    if (itemSales.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        INSERT_ITEM_SALES,
+        itemSales,
+        itemSales.size(),
+        (ps, item) -> {
+          ps.setLong(1, item.getSecondaryItemId());
+          ps.setLong(2, item.getSalesId());
+          setInteger(ps, 3, item.getQuantity());
+          setInteger(ps, 4, item.getDiscountRate());
+          setLong(ps, 5, item.getCouponId());
+          ps.setTimestamp(6, now);
+          ps.setTimestamp(7, now);
+        });
+  }
+
+  private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.BIGINT);
+    } else {
+      ps.setLong(index, value);
+    }
+  }
+
+  private static void setInteger(PreparedStatement ps, int index, Integer value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.INTEGER);
+    } else {
+      ps.setInt(index, value);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
 
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.*;
@@ -10,6 +11,7 @@ import com.deveagles.be15_deveagles_be.features.schedules.command.domain.reposit
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.RegularLeaveRepository;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class LeaveCommandService {
 
   private final LeaveRepository leaveRepository;
   private final RegularLeaveRepository regularLeaveRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public Long createLeave(Long shopId, CreateLeaveRequest request) {
@@ -30,7 +33,10 @@ public class LeaveCommandService {
             .leaveAt(request.leaveAt())
             .leaveMemo(request.leaveMemo())
             .build();
-    return leaveRepository.save(leave).getLeaveId();
+    Long leaveId = leaveRepository.save(leave).getLeaveId();
+    eventPublisher.publishEvent(
+        ScheduleChangedEvent.ofDate(shopId, request.staffId(), request.leaveAt()));
+    return leaveId;
   }
 
   @Transactional
@@ -40,7 +46,12 @@ public class LeaveCommandService {
             .findById(leaveId)
             .orElseThrow(() -> new BusinessException(ErrorCode.LEAVE_NOT_FOUND));
 
+    ScheduleChangedEvent before =
+        ScheduleChangedEvent.ofDate(shopId, leave.getStaffId(), leave.getLeaveAt());
     leave.update(request.leaveTitle(), request.leaveAt(), request.leaveMemo());
+    eventPublisher.publishEvent(before);
+    eventPublisher.publishEvent(
+        ScheduleChangedEvent.ofDate(shopId, leave.getStaffId(), leave.getLeaveAt()));
   }
 
   @Transactional
@@ -62,7 +73,9 @@ public class LeaveCommandService {
             .regularLeaveMemo(request.regularLeaveMemo())
             .build();
 
-    return regularLeaveRepository.save(regularLeave).getRegularLeaveId();
+    Long regularLeaveId = regularLeaveRepository.save(regularLeave).getRegularLeaveId();
+    eventPublisher.publishEvent(ScheduleChangedEvent.ofStaff(shopId, request.staffId()));
+    return regularLeaveId;
   }
 
   @Transactional
@@ -78,6 +91,7 @@ public class LeaveCommandService {
         request.monthlyLeave(),
         request.weeklyLeave(),
         request.regularLeaveMemo());
+    eventPublisher.publishEvent(ScheduleChangedEvent.ofStaff(shopId, regularLeave.getStaffId()));
   }
 
   @Transactional
@@ -104,6 +118,10 @@ public class LeaveCommandService {
         throw new BusinessException(ErrorCode.LEAVE_NOT_FOUND);
       }
       leaveRepository.deleteAllInBatch(leaves);
+      leaves.forEach(
+          leave ->
+              eventPublisher.publishEvent(
+                  ScheduleChangedEvent.ofDate(shopId, leave.getStaffId(), leave.getLeaveAt())));
     }
 
     if (!regularLeaveIds.isEmpty()) {
@@ -112,6 +130,10 @@ public class LeaveCommandService {
         throw new BusinessException(ErrorCode.REGULAR_LEAVE_NOT_FOUND);
       }
       regularLeaveRepository.deleteAllInBatch(regularLeaves);
+      regularLeaves.forEach(
+          regularLeave ->
+              eventPublisher.publishEvent(
+                  ScheduleChangedEvent.ofStaff(shopId, regularLeave.getStaffId())));
     }
   }
 
@@ -147,6 +169,8 @@ public class LeaveCommandService {
       }
       default -> throw new BusinessException(ErrorCode.INVALID_SCHEDULE_TYPE);
     }
+    // 삭제한 휴무의 직원을 읽지 않으므로 매장 전체를 무효화
+    eventPublisher.publishEvent(ScheduleChangedEvent.ofShop(shopId));
 
     switch (toType) {
       case LEAVE -> createLeave(shopId, request.leaveRequest());
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
 
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.CreatePlanRequest;
@@ -15,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class PlanCommandService {
 
   private final PlanRepository planRepository;
   private final RegularPlanRepository regularPlanRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public Long createPlan(Long shopId, CreatePlanRequest request) {
     if (request.planStartAt().isAfter(request.planEndAt())) {
@@ -39,7 +42,11 @@ public class PlanCommandService {
             .planStartAt(request.planStartAt())
             .planEndAt(request.planEndAt())
             .build();
-    return planRepository.save(plan).getPlanId();
+    Long planId = planRepository.save(plan).getPlanId();
+    eventPublisher.publishEvent(
+        ScheduleChangedEvent.ofPeriod(
+            shopId, request.staffId(), request.planStartAt(), request.planEndAt()));
+    return planId;
   }
 
   public Long createRegularPlan(Long shopId, CreateRegularPlanRequest request) {
@@ -63,7 +70,9 @@ public class PlanCommandService {
             .regularPlanStartAt(request.regularPlanStartAt())
             .regularPlanEndAt(request.regularPlanEndAt())
             .build();
-    return regularPlanRepository.save(regularPlan).getRegularPlanId();
+    Long regularPlanId = regularPlanRepository.save(regularPlan).getRegularPlanId();
+    eventPublisher.publishEvent(ScheduleChangedEvent.ofStaff(shopId, request.staffId()));
+    return regularPlanId;
   }
 
   // 일정 (단기, 정기) 다건 삭제
@@ -91,6 +100,11 @@ public class PlanCommandService {
         throw new BusinessException(ErrorCode.PLAN_NOT_FOUND);
       }
       planRepository.deleteAllInBatch(plans);
+      plans.forEach(
+          plan ->
+              eventPublisher.publishEvent(
+                  ScheduleChangedEvent.ofPeriod(
+                      shopId, plan.getStaffId(), plan.getPlanStartAt(), plan.getPlanEndAt())));
     }
 
     if (!regularPlanIds.isEmpty()) {
@@ -99,6 +113,10 @@ public class PlanCommandService {
         throw new BusinessException(ErrorCode.REGULAR_PLAN_NOT_FOUND);
       }
       regularPlanRepository.deleteAllInBatch(regularPlans);
+      regularPlans.forEach(
+          regularPlan ->
+              eventPublisher.publishEvent(
+                  ScheduleChangedEvent.ofStaff(shopId, regularPlan.getStaffId())));
     }
   }
 
@@ -114,8 +132,15 @@ public class PlanCommandService {
     }
 
     // 값 수정
+    ScheduleChangedEvent before =
+        ScheduleChangedEvent.ofPeriod(
+            shopId, plan.getStaffId(), plan.getPlanStartAt(), plan.getPlanEndAt());
     plan.update(
         request.planTitle(), request.planMemo(), request.planStartAt(), request.planEndAt());
+    eventPublisher.publishEvent(before);
+    eventPublisher.publishEvent(
+        ScheduleChangedEvent.ofPeriod(
+            shopId, plan.getStaffId(), plan.getPlanStartAt(), plan.getPlanEndAt()));
   }
 
   @Transactional
@@ -143,6 +168,7 @@ public class PlanCommandService {
         request.regularPlanMemo(),
         request.regularPlanStartAt(),
         request.regularPlanEndAt());
+    eventPublisher.publishEvent(ScheduleChangedEvent.ofStaff(shopId, regularPlan.getStaffId()));
   }
 
   @Transactional
@@ -177,6 +203,8 @@ public class PlanCommandService {
       }
       default -> throw new BusinessException(ErrorCode.INVALID_SCHEDULE_TYPE);
     }
+    // 삭제한 일정의 직원을 읽지 않으므로 매장 전체를 무효화
+    eventPublisher.publishEvent(ScheduleChangedEvent.ofShop(shopId));
 
     switch (toType) {
       case PLAN -> createPlan(shopId, request.planRequest());
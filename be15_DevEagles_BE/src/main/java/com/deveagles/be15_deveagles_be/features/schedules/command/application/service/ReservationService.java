@@ -1,6 +1,8 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
 
 import com.deveagles.be15_deveagles_be.common.events.ReservationCreatedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.outbox.DomainEventPublisher;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
@@ -18,11 +20,13 @@ import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggrega
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationDetailRepository;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.infrastructure.repository.ReservationDetailJdbcRepository;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -38,6 +42,9 @@ public class ReservationService {
   private final ApplicationEventPublisher eventPublisher;
   private final AutomaticMessageTriggerService automaticMessageTriggerService;
   private final MessageVariableProcessor messageVariableProcessor;
+  private final ReservationSlotClaimer reservationSlotClaimer;
+  private final DomainEventPublisher domainEventPublisher;
+  private final ReservationDetailJdbcRepository reservationDetailJdbcRepository;
 
   @Transactional
   public Long createReservation(CreateReservationRequest request) {
@@ -68,21 +75,22 @@ public class ReservationService {
             .reservationEndAt(request.reservationEndAt())
             .build();
 
+    // 운영 시간, 휴무, 일정, 다른 예약과 겹치지 않는지 확인하고 시간을 선점
+    reservationSlotClaimer.claimOpenSlot(
+        request.shopId(),
+        request.staffId(),
+        request.reservationStartAt(),
+        request.reservationEndAt());
     reservationRepository.save(reservation);
 
-    // 3. 시술 항목 저장
-    for (Long secondaryItemId : request.secondaryItemIds()) {
-      ReservationDetail detail =
-          ReservationDetail.builder()
-              .reservationId(reservation.getReservationId())
-              .secondaryItemId(secondaryItemId)
-              .build();
-      reservationDetailRepository.save(detail);
-    }
+    // 3. 시술 항목 일괄 저장
+    reservationDetailJdbcRepository.insertAll(
+        reservation.getReservationId(), request.secondaryItemIds());
 
-    ReservationCreatedEvent event =
-        new ReservationCreatedEvent(reservation.getShopId(), request.customerName());
-    eventPublisher.publishEvent(event);
+    // 예약 알림은 커밋 후 요청 스레드 밖에서 보낸다
+    domainEventPublisher.publish(
+        ReservationCreatedEvent.of(reservation.getShopId(), customerId, request.customerName()));
+    publishScheduleChanged(reservation);
 
     return reservation.getReservationId();
   }
@@ -103,16 +111,13 @@ public class ReservationService {
             .reservationEndAt(request.reservationEndAt())
             .build();
 
+    reservationSlotClaimer.claim(
+        request.staffId(), request.reservationStartAt(), request.reservationEndAt(), null);
     reservationRepository.save(reservation);
+    publishScheduleChanged(reservation);
 
-    for (Long secondaryItemId : request.secondaryItemIds()) {
-      ReservationDetail detail =
-          ReservationDetail.builder()
-              .reservationId(reservation.getReservationId())
-              .secondaryItemId(secondaryItemId)
-              .build();
-      reservationDetailRepository.save(detail);
-    }
+    reservationDetailJdbcRepository.insertAll(
+        reservation.getReservationId(), request.secondaryItemIds());
     // 자동발신 처리
     if (customerId != null) {
       Optional<CustomerDetailResponse> optionalCustomer =
@@ -151,14 +156,38 @@ public class ReservationService {
     }
     // 이전 상태/시간 백업
     ReservationStatusName prevStatus = reservation.getReservationStatusName();
+    Long prevStaffId = reservation.getStaffId();
+    LocalDateTime prevStartAt = reservation.getReservationStartAt();
+    LocalDateTime prevEndAt = reservation.getReservationEndAt();
+
+    ReservationStatusName requestedStatus =
+        ReservationStatusName.valueOf(request.reservationStatusName());
+    boolean moved =
+        !Objects.equals(prevStaffId, request.staffId())
+            || !Objects.equals(prevStartAt, request.reservationStartAt())
+            || !Objects.equals(prevEndAt, request.reservationEndAt());
+    if (requestedStatus.occupiesSlot() && (moved || !occupies(prevStatus))) {
+      reservationSlotClaimer.claim(
+          request.staffId(),
+          request.reservationStartAt(),
+          request.reservationEndAt(),
+          reservation);
+    }
+
     reservation.update(
         request.staffId(),
-        ReservationStatusName.valueOf(request.reservationStatusName()),
+        requestedStatus,
         request.staffMemo(),
         request.reservationMemo(),
         request.reservationStartAt(),
         request.reservationEndAt());
 
+    if (moved) {
+      eventPublisher.publishEvent(
+          ScheduleChangedEvent.ofPeriod(shopId, prevStaffId, prevStartAt, prevEndAt));
+    }
+    publishScheduleChanged(reservation);
+
     ReservationStatusName newStatus = reservation.getReservationStatusName();
     Long customerId = reservation.getCustomerId();
     if (customerId != null) {
@@ -216,6 +245,7 @@ public class ReservationService {
     }
 
     reservation.setDeletedAt(LocalDateTime.now());
+    publishScheduleChanged(reservation);
   }
 
   @Transactional
@@ -235,8 +265,17 @@ public class ReservationService {
         throw new BusinessException(ErrorCode.MODIFY_NOT_ALLOWED_FOR_PAID_RESERVATION);
       }
       ReservationStatusName prevStatus = reservation.getReservationStatusName();
+      // 취소된 예약을 되살리면 그 사이 다른 예약이 들어왔는지 확인
+      if (!occupies(prevStatus) && occupies(request.reservationStatusName())) {
+        reservationSlotClaimer.claim(
+            reservation.getStaffId(),
+            reservation.getReservationStartAt(),
+            reservation.getReservationEndAt(),
+            reservation);
+      }
       reservation.changeStatus(request.reservationStatusName());
       ReservationStatusName newStatus = reservation.getReservationStatusName();
+      publishScheduleChanged(reservation);
 
       // 고객 ID가 없는 경우 자동발신 스킵
       Long customerId = reservation.getCustomerId();
@@ -280,4 +319,18 @@ public class ReservationService {
       }
     }
   }
+
+  // 예약 가능 시간, 캘린더 캐시 무효화 (커밋 후 반영)
+  private void publishScheduleChanged(Reservation reservation) {
+    eventPublisher.publishEvent(
+        ScheduleChangedEvent.ofPeriod(
+            reservation.getShopId(),
+            reservation.getStaffId(),
+            reservation.getReservationStartAt(),
+            reservation.getReservationEndAt()));
+  }
+
+  private static boolean occupies(ReservationStatusName status) {
+    return status == null || status.occupiesSlot();
+  }
 }
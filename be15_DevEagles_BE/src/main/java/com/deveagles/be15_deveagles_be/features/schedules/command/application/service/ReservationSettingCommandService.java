@@ -1,11 +1,13 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
 
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationSettingRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationSetting;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationSettingId;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationSettingRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CustomerReservationSettingCache;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandService;
 import java.util.List;
 import java.util.Objects;
@@ -13,6 +15,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReservationSettingCommandService {
   private final ReservationSettingRepository reservationSettingRepository;
   private final ShopCommandService shopCommandService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CustomerReservationSettingCache customerReservationSettingCache;
 
   @Transactional
   public void updateReservationSettings(
@@ -76,5 +81,7 @@ public class ReservationSettingCommandService {
 
               shopCommandService.updateReservationTerm(shopId, term);
             });
+    customerReservationSettingCache.evictShop(shopId);
+    eventPublisher.publishEvent(ScheduleChangedEvent.ofShop(shopId));
   }
 }
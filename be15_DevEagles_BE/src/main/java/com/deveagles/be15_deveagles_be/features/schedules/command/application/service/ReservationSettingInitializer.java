@@ -5,6 +5,7 @@ import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationSetting;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationSettingId;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationSettingRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CustomerReservationSettingCache;
 import java.time.LocalTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class ReservationSettingInitializer {
 
   private final ReservationSettingRepository reservationSettingRepository;
+  private final CustomerReservationSettingCache customerReservationSettingCache;
 
   public void initDefault(Long shopId) {
     List<ReservationSetting> existing = reservationSettingRepository.findAllByShopId(shopId);
@@ -34,5 +36,6 @@ public class ReservationSettingInitializer {
 
       reservationSettingRepository.save(setting);
     }
+    customerReservationSettingCache.evictShop(shopId);
   }
 }
@@ -0,0 +1,204 @@
+package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Reservation;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.AvailabilityQueryService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 예약 시간 선점.
+ *
+ * <p>직원/날짜마다 하루 1440 분을 비트로 둔 Redis 키에, 예약 구간의 비트가 모두 비어 있을 때만 한 번에 켠다(Lua). 동시에 들어온 겹치는 예약 중 하나만
+ * 선점에 성공하고, 선점한 요청만 DB 에서 이미 저장된 예약과 겹치는지 확인한다. 롤백되면 바로 풀고, 커밋되면 만료 시간까지 유지해 커밋 전에 시작된 다른
+ * 트랜잭션이 스냅샷 때문에 새 예약을 보지 못하는 경우도 막는다. 직원 전체를 잠그지 않으므로 겹치지 않는 예약은 서로 기다리지 않는다.
+ *
+ * <p>시간을 차지하던 예약을 옮길 때는 자신이 이전 구간에 켜 둔 비트가 아직 남아 있을 수 있으므로, 같은 스크립트 안에서 이전 구간을 먼저 끄고 새 구간을
+ * 확인한다. 충돌하면 이전 구간을 다시 켜 두고, 선점 뒤 롤백되면 새 구간만 푼다. 이전 구간은 이미 커밋된 예약이라 DB 확인으로 보호된다. 취소된 예약은
+ * 이전 구간의 비트를 갖고 있지 않고 그 비트는 아직 커밋되지 않은 다른 예약의 것일 수 있으므로, 되살릴 때는 비우지 않고 새 예약처럼 선점한다.
+ */
+@Slf4j
+@Component
+public class ReservationSlotClaimer {
+
+  private static final String KEY_PREFIX = "RESERVATION_SLOT:";
+  private static final int MINUTES_PER_DAY = 24 * 60;
+
+  // KEYS: 선점할 날짜별 키 n 개, 이어서 비울 이전 구간의 날짜별 키
+  // ARGV: [만료 ms, n, 키1 시작 분, 키1 끝 분, 키2 시작 분, ...]
+  private static final DefaultRedisScript<Long> CLAIM_SCRIPT =
+      new DefaultRedisScript<>(
+          "local n = tonumber(ARGV[2]) "
+              + "local function fill(from, to, bit) "
+              + "for k = from, to do "
+              + "for i = tonumber(ARGV[2 * k + 1]), tonumber(ARGV[2 * k + 2]) - 1 do "
+              + "redis.call('setbit', KEYS[k], i, bit) end end end "
+              + "fill(n + 1, #KEYS, 0) "
+              + "for k = 1, n do "
+              + "for i = tonumber(ARGV[2 * k + 1]), tonumber(ARGV[2 * k + 2]) - 1 do "
+              + "if redis.call('getbit', KEYS[k], i) == 1 then "
+              + "fill(n + 1, #KEYS, 1) return 0 end end end "
+              + "fill(1, n, 1) "
+              + "for k = 1, n do redis.call('pexpire', KEYS[k], ARGV[1]) end "
+              + "return 1",
+          Long.class);
+
+  // KEYS: 날짜별 키, ARGV: [키1 시작 분, 키1 끝 분, 키2 시작 분, ...]
+  private static final DefaultRedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "for k = 1, #KEYS do "
+              + "for i = tonumber(ARGV[2 * k - 1]), tonumber(ARGV[2 * k]) - 1 do "
+              + "redis.call('setbit', KEYS[k], i, 0) end end "
+              + "return 1",
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ReservationRepository reservationRepository;
+  private final AvailabilityQueryService availabilityQueryService;
+
+  @Value("${reservation.slot-claim.ttl-seconds:60}")
+  private long claimTtlSeconds = 60;
+
+  public ReservationSlotClaimer(
+      RedisTemplate<String, String> redisTemplate,
+      ReservationRepository reservationRepository,
+      AvailabilityQueryService availabilityQueryService) {
+    this.redisTemplate = redisTemplate;
+    this.reservationRepository = reservationRepository;
+    this.availabilityQueryService = availabilityQueryService;
+  }
+
+  /** 고객 예약. 운영 시간, 점심시간, 휴무, 일정까지 확인한 뒤 선점한다. */
+  public void claimOpenSlot(Long shopId, Long staffId, LocalDateTime startAt, LocalDateTime endAt) {
+    validateRange(startAt, endAt);
+    if (!availabilityQueryService.isBookable(shopId, staffId, startAt, endAt)) {
+      throw new BusinessException(ErrorCode.RESERVATION_TIME_UNAVAILABLE);
+    }
+    claim(staffId, startAt, endAt, null);
+  }
+
+  /**
+   * 매장 등록/수정 예약. 다른 예약과 겹치지 않는지만 확인하고 선점한다.
+   *
+   * @param previous 수정 중인 예약 자신(변경 전 상태). 겹침 확인에서 제외하고, 시간을 차지하던 상태면 이전 구간의 선점을
+   *     비운다. 새 예약이면 null
+   */
+  public void claim(
+      Long staffId, LocalDateTime startAt, LocalDateTime endAt, Reservation previous) {
+    validateRange(startAt, endAt);
+
+    List<String> keys = new ArrayList<>();
+    List<String> ranges = new ArrayList<>();
+    addDays(staffId, startAt, endAt, keys, ranges);
+    int claimKeyCount = keys.size();
+    if (previous != null && occupiesSlot(previous)) {
+      addDays(
+          previous.getStaffId(),
+          previous.getReservationStartAt(),
+          previous.getReservationEndAt(),
+          keys,
+          ranges);
+    }
+
+    if (tryClaim(keys, claimKeyCount, ranges)) {
+      releaseOnRollback(
+          List.copyOf(keys.subList(0, claimKeyCount)),
+          List.copyOf(ranges.subList(0, 2 * claimKeyCount)));
+    }
+
+    if (reservationRepository.existsOverlapping(
+        staffId,
+        startAt,
+        endAt,
+        previous != null ? previous.getReservationId() : null,
+        ReservationStatusName.cancelledStatuses())) {
+      throw new BusinessException(ErrorCode.RESERVATION_TIME_CONFLICT);
+    }
+  }
+
+  private static boolean occupiesSlot(Reservation reservation) {
+    ReservationStatusName status = reservation.getReservationStatusName();
+    return status == null || status.occupiesSlot();
+  }
+
+  // 구간이 걸친 날짜마다 키와 [시작 분, 끝 분] 을 더한다.
+  private static void addDays(
+      Long staffId,
+      LocalDateTime startAt,
+      LocalDateTime endAt,
+      List<String> keys,
+      List<String> ranges) {
+    LocalDate date = startAt.toLocalDate();
+    while (date.atStartOfDay().isBefore(endAt)) {
+      LocalDateTime dayStart = date.atStartOfDay();
+      keys.add(KEY_PREFIX + staffId + ":" + date);
+      ranges.add(String.valueOf(minuteOf(dayStart, startAt)));
+      ranges.add(String.valueOf(minuteOf(dayStart, endAt)));
+      date = date.plusDays(1);
+    }
+  }
+
+  // Redis 장애 시에는 DB 확인만으로 진행한다.
+  private boolean tryClaim(List<String> keys, int claimKeyCount, List<String> ranges) {
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(Duration.ofSeconds(claimTtlSeconds).toMillis()));
+    args.add(String.valueOf(claimKeyCount));
+    args.addAll(ranges);
+    Long claimed;
+    try {
+      claimed = redisTemplate.execute(CLAIM_SCRIPT, keys, args.toArray());
+    } catch (Exception e) {
+      log.warn("예약 시간 선점 실패, DB 확인만 진행: {}", e.getMessage());
+      return false;
+    }
+    if (claimed == null || claimed == 0L) {
+      throw new BusinessException(ErrorCode.RESERVATION_TIME_CONFLICT);
+    }
+    return true;
+  }
+
+  private void releaseOnRollback(List<String> keys, List<String> ranges) {
+    // 트랜잭션 밖이면 만료 시간까지 유지
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+              return;
+            }
+            try {
+              redisTemplate.execute(RELEASE_SCRIPT, keys, ranges.toArray());
+            } catch (Exception e) {
+              log.warn("예약 시간 선점 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+            }
+          }
+        });
+  }
+
+  private static void validateRange(LocalDateTime startAt, LocalDateTime endAt) {
+    if (startAt == null || endAt == null || !startAt.isBefore(endAt)) {
+      throw new BusinessException(ErrorCode.INVALID_RESERVATION_TIME_RANGE);
+    }
+  }
+
+  private static long minuteOf(LocalDateTime dayStart, LocalDateTime at) {
+    long minutes = Duration.between(dayStart, at).toMinutes();
+    return Math.max(0, Math.min(MINUTES_PER_DAY, minutes));
+  }
+}
@@ -1,10 +1,25 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ReservationStatusName {
   CONFIRMED,
   PENDING,
   NO_SHOW,
   CBC,
   CBS,
-  PAID
+  PAID;
+
+  private static final Set<ReservationStatusName> CANCELLED = EnumSet.of(CBC, CBS);
+
+  /** 고객 취소(CBC), 매장 취소(CBS) */
+  public static Set<ReservationStatusName> cancelledStatuses() {
+    return CANCELLED;
+  }
+
+  /** 취소된 예약은 직원의 시간을 차지하지 않는다. */
+  public boolean occupiesSlot() {
+    return !CANCELLED.contains(this);
+  }
 }
@@ -1,6 +1,25 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Reservation;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {}
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+  /** 직원의 [startAt, endAt) 와 겹치는 유효한 예약이 있는지 확인한다. excludeId 는 수정 중인 예약 자신. */
+  @Query(
+      "SELECT COUNT(r) > 0 FROM Reservation r WHERE r.staffId = :staffId "
+          + "AND r.deletedAt IS NULL AND r.reservationStatusName NOT IN :cancelledStatuses "
+          + "AND r.reservationStartAt < :endAt AND r.reservationEndAt > :startAt "
+          + "AND (:excludeId IS NULL OR r.reservationId <> :excludeId)")
+  boolean existsOverlapping(
+      @Param("staffId") Long staffId,
+      @Param("startAt") LocalDateTime startAt,
+      @Param("endAt") LocalDateTime endAt,
+      @Param("excludeId") Long excludeId,
+      @Param("cancelledStatuses") Collection<ReservationStatusName> cancelledStatuses);
+}
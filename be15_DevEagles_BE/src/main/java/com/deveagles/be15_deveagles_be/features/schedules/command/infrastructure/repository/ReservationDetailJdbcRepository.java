@@ -0,0 +1,36 @@
+package com.deveagles.be15_deveagles_be.features.schedules.command.infrastructure.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 예약 시술 항목 일괄 저장.
+ *
+ * <p>IDENTITY 키 엔티티는 Hibernate 가 insert 를 묶지 않으므로, 예약 한 건의 시술 항목은 JDBC batch 한 번에 저장한다. 호출한 쪽의
+ * 트랜잭션에 함께 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationDetailJdbcRepository {
+
+  private static final String INSERT_DETAIL =
+      "INSERT INTO reservation_detail (reservation_id, secondary_item_id) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertAll(Long reservationId, List<Long> secondaryItemIds) {
+    if (secondaryItemIds == null || secondaryItemIds.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        INSERT_DETAIL,
+        secondaryItemIds,
+        secondaryItemIds.size(),
+        (ps, secondaryItemId) -> {
+          ps.setLong(1, reservationId);
+          ps.setLong(2, secondaryItemId);
+        });
+  }
+}
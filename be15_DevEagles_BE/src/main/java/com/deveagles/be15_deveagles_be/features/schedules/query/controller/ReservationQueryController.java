@@ -5,14 +5,18 @@ import com.deveagles.be15_deveagles_be.common.dto.PagedResponse;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.request.BookedTimeRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.request.ReservationSearchRequest;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.AvailableSlotResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.BookedTimeResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationDetailResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationListResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationSearchResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.StaffAvailableSlotsResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.AvailabilityQueryService;
 import com.deveagles.be15_deveagles_be.features.schedules.query.service.ReservationQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class ReservationQueryController {
 
   private final ReservationQueryService reservationQueryService;
+  private final AvailabilityQueryService availabilityQueryService;
 
   @Operation(
       summary = "직원의 예약된 시간 조회",
@@ -39,6 +44,30 @@ public class ReservationQueryController {
     return ResponseEntity.ok(ApiResponse.success(data));
   }
 
+  @Operation(
+      summary = "직원의 예약 가능 시간 조회",
+      description = "운영 시간, 점심시간, 휴무, 일정, 예약을 반영해 시술 시간 동안 비어 있는 시작 시각을 조회합니다.")
+  @GetMapping("/staff/{staffId}/available-slots")
+  public ApiResponse<StaffAvailableSlotsResponse> getAvailableSlots(
+      @PathVariable Long staffId,
+      @RequestParam Long shopId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestParam int durationMinutes) {
+    return ApiResponse.success(
+        availabilityQueryService.getAvailableSlots(shopId, staffId, date, durationMinutes));
+  }
+
+  @Operation(summary = "가장 빠른 예약 가능 시간 조회", description = "직원 구분 없이 가장 이른 예약 가능 시간을 조회합니다.")
+  @GetMapping("/available-slots")
+  public ApiResponse<List<AvailableSlotResponse>> findFirstAvailableSlots(
+      @RequestParam Long shopId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam int durationMinutes,
+      @RequestParam(defaultValue = "10") int limit) {
+    return ApiResponse.success(
+        availabilityQueryService.findFirstAvailableSlots(shopId, from, durationMinutes, limit));
+  }
+
   @Operation(summary = "예약 신청 목록 조회", description = "매장의 PENDING 상태 예약 신청 목록을 조회합니다.")
   @GetMapping("/requests")
   public ApiResponse<PagedResponse<ReservationListResponse>> findReservationRequests(
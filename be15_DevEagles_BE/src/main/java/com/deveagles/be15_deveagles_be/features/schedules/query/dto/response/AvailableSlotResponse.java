@@ -0,0 +1,5 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import java.time.LocalDateTime;
+
+public record AvailableSlotResponse(Long staffId, LocalDateTime startAt, LocalDateTime endAt) {}
@@ -0,0 +1,6 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import java.time.LocalDateTime;
+
+/** 직원이 예약을 받을 수 없는 구간 (예약, 단기 일정, 정기 일정) */
+public record BusyInterval(Long staffId, LocalDateTime startAt, LocalDateTime endAt) {}
@@ -0,0 +1,32 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ScheduleType;
+
+/** 주간 캘린더 캐시용 정기 일정/휴무 규칙 */
+public record CalendarRegularRow(
+    Long staffId,
+    Long id,
+    ScheduleType scheduleType,
+    String title,
+    String staffName,
+    String memo,
+    String staffColor,
+    String weeklyRepeatDay,
+    Integer monthlyRepeatDay,
+    String startTime,
+    String endTime) {
+
+  public CalendarRegularResponse toResponse() {
+    return new CalendarRegularResponse(
+        id,
+        scheduleType,
+        title,
+        staffName,
+        memo,
+        staffColor,
+        weeklyRepeatDay,
+        monthlyRepeatDay,
+        startTime,
+        endTime);
+  }
+}
@@ -0,0 +1,52 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ScheduleType;
+import java.time.LocalDateTime;
+
+/** 주간 캘린더 캐시용 예약/단기 일정/단기 휴무. 담당 직원으로 걸러낼 수 있게 staffId 를 함께 둔다. */
+public record CalendarScheduleRow(
+    Long staffId,
+    Long id,
+    ScheduleType scheduleType,
+    String title,
+    LocalDateTime startAt,
+    LocalDateTime endAt,
+    String staffName,
+    String memo,
+    String status,
+    String items,
+    String staffColor,
+    String customerName) {
+
+  public CalendarScheduleRow withItems(String items) {
+    return new CalendarScheduleRow(
+        staffId,
+        id,
+        scheduleType,
+        title,
+        startAt,
+        endAt,
+        staffName,
+        memo,
+        status,
+        items,
+        staffColor,
+        customerName);
+  }
+
+  public CalendarScheduleResponse toResponse() {
+    return CalendarScheduleResponse.builder()
+        .id(id)
+        .scheduleType(scheduleType)
+        .title(title)
+        .startAt(startAt)
+        .endAt(endAt)
+        .staffName(staffName)
+        .memo(memo)
+        .status(status)
+        .items(items)
+        .staffColor(staffColor)
+        .customerName(customerName)
+        .build();
+  }
+}
@@ -0,0 +1,3 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+public record ReservationItemName(Long reservationId, String itemName) {}
@@ -0,0 +1,8 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record StaffAvailableSlotsResponse(
+    Long staffId, LocalDate date, int slotMinutes, List<LocalTime> startTimes) {}
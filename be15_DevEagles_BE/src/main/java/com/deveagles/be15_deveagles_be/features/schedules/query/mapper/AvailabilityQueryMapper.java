@@ -0,0 +1,38 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.mapper;
+
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.BusyInterval;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface AvailabilityQueryMapper {
+
+  /** 요일(월=1 ~ 일=7)의 운영 시간과 예약 단위. 휴무 요일이면 null */
+  CustomerReservationSettingResponse findDayFrame(
+      @Param("shopId") Long shopId, @Param("dayOfWeek") int dayOfWeek);
+
+  /** 예약을 받을 수 있는(퇴사하지 않은) 직원 */
+  List<Long> findBookableStaffIds(@Param("shopId") Long shopId);
+
+  /** 날짜에 단기/정기 휴무가 있는 직원 */
+  List<Long> findStaffIdsOnLeave(
+      @Param("shopId") Long shopId,
+      @Param("staffIds") List<Long> staffIds,
+      @Param("date") LocalDate date,
+      @Param("weekday") String weekday,
+      @Param("dayOfMonth") int dayOfMonth);
+
+  /** [dayStart, dayEnd) 와 겹치는 예약, 단기 일정과 그날의 정기 일정 */
+  List<BusyInterval> findBusyIntervals(
+      @Param("shopId") Long shopId,
+      @Param("staffIds") List<Long> staffIds,
+      @Param("date") LocalDate date,
+      @Param("dayStart") LocalDateTime dayStart,
+      @Param("dayEnd") LocalDateTime dayEnd,
+      @Param("weekday") String weekday,
+      @Param("dayOfMonth") int dayOfMonth);
+}
@@ -3,7 +3,11 @@ package com.deveagles.be15_deveagles_be.features.schedules.query.mapper;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.request.CalendarRegularRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.request.CalendarScheduleRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRegularResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRegularRow;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarScheduleResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarScheduleRow;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationItemName;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -15,4 +19,16 @@ public interface CalendarScheduleQueryMapper {
 
   List<CalendarRegularResponse> findRegularSchedules(
       @Param("shopId") Long shopId, @Param("request") CalendarRegularRequest request);
+
+  /** [from, to) 에 시작하는 예약, 단기 일정, 단기 휴무. 시술 항목은 따로 조회한다. */
+  List<CalendarScheduleRow> findWeekSchedules(
+      @Param("shopId") Long shopId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  List<ReservationItemName> findReservationItemNames(
+      @Param("reservationIds") List<Long> reservationIds);
+
+  /** 매장의 정기 일정과 정기 휴무 규칙 */
+  List<CalendarRegularRow> findRegularRules(@Param("shopId") Long shopId);
 }
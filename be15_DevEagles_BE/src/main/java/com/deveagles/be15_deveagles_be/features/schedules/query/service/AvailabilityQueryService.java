@@ -0,0 +1,205 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.DayOfWeekEnum;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.AvailableSlotResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.BusyInterval;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.StaffAvailableSlotsResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.AvailabilityQueryMapper;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.AvailabilityCache;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.AvailabilityCache.DayEntry;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.StaffDaySlots;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 직원별 예약 가능 시간 조회.
+ *
+ * <p>예약 설정(요일별 운영/점심 시간), 매장 예약 단위, 예약, 단기/정기 일정, 단기/정기 휴무를 합쳐 직원의 하루를 {@link StaffDaySlots}
+ * 비트맵으로 만든다. 매장의 하루는 직원 수와 관계없이 네 번의 조회로 계산하고, {@link AvailabilityCache} 에 두어 반복 조회에는 DB 를 읽지
+ * 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvailabilityQueryService {
+
+  private static final int DEFAULT_SLOT_MINUTES = 30;
+  private static final int MAX_FIRST_SLOTS = 100;
+
+  private final AvailabilityQueryMapper availabilityQueryMapper;
+  private final AvailabilityCache availabilityCache;
+
+  @Value("${reservation.availability.search-days:14}")
+  private int searchDays = 14;
+
+  /** 직원의 하루 중 durationMinutes 동안 예약할 수 있는 시작 시각 */
+  public StaffAvailableSlotsResponse getAvailableSlots(
+      Long shopId, Long staffId, LocalDate date, int durationMinutes) {
+    validateDuration(durationMinutes);
+
+    DayEntry day = loadDay(shopId, date);
+    StaffDaySlots slots = staffSlots(shopId, date, day, staffId);
+    return new StaffAvailableSlotsResponse(
+        staffId,
+        date,
+        slots.getSlotMinutes(),
+        upcoming(date, slots.freeStartTimes(durationMinutes)));
+  }
+
+  /** fromDate 부터 가장 이른 예약 가능 시간을 직원 구분 없이 limit 개까지 */
+  public List<AvailableSlotResponse> findFirstAvailableSlots(
+      Long shopId, LocalDate fromDate, int durationMinutes, int limit) {
+    validateDuration(durationMinutes);
+    int size = Math.max(1, Math.min(limit, MAX_FIRST_SLOTS));
+
+    List<AvailableSlotResponse> result = new ArrayList<>();
+    for (int offset = 0; offset < searchDays && result.size() < size; offset++) {
+      LocalDate date = fromDate.plusDays(offset);
+      DayEntry day = loadDay(shopId, date);
+
+      List<AvailableSlotResponse> daySlots = new ArrayList<>();
+      for (Long staffId : day.getStaffIds()) {
+        StaffDaySlots slots = staffSlots(shopId, date, day, staffId);
+        for (LocalTime start : upcoming(date, slots.freeStartTimes(durationMinutes))) {
+          LocalDateTime startAt = date.atTime(start);
+          daySlots.add(
+              new AvailableSlotResponse(staffId, startAt, startAt.plusMinutes(durationMinutes)));
+        }
+      }
+      daySlots.sort(
+          Comparator.comparing(AvailableSlotResponse::startAt)
+              .thenComparing(AvailableSlotResponse::staffId));
+      result.addAll(daySlots.subList(0, Math.min(daySlots.size(), size - result.size())));
+    }
+    return result;
+  }
+
+  /**
+   * 고객 예약 시점의 확인. 캐시를 거치지 않고 해당 직원의 하루를 다시 계산해 [startAt, endAt) 가 운영 시간 안이며 점심시간, 휴무, 일정, 다른
+   * 예약과 겹치지 않는지 본다.
+   */
+  public boolean isBookable(Long shopId, Long staffId, LocalDateTime startAt, LocalDateTime endAt) {
+    LocalDate date = startAt.toLocalDate();
+    CustomerReservationSettingResponse frame =
+        availabilityQueryMapper.findDayFrame(shopId, date.getDayOfWeek().getValue());
+    if (!availabilityQueryMapper.findBookableStaffIds(shopId).contains(staffId)) {
+      return false;
+    }
+    return buildSlots(shopId, date, frame, List.of(staffId)).get(staffId).isFree(startAt, endAt);
+  }
+
+  private DayEntry loadDay(Long shopId, LocalDate date) {
+    DayEntry cached = availabilityCache.get(shopId, date);
+    if (cached != null) {
+      return cached;
+    }
+
+    long generation = availabilityCache.generation(shopId);
+    CustomerReservationSettingResponse frame =
+        availabilityQueryMapper.findDayFrame(shopId, date.getDayOfWeek().getValue());
+    List<Long> staffIds = availabilityQueryMapper.findBookableStaffIds(shopId);
+    return availabilityCache.put(
+        shopId, date, frame, staffIds, buildSlots(shopId, date, frame, staffIds), generation);
+  }
+
+  // 일정 변경으로 지워진 직원은 그 직원만 다시 계산한다.
+  private StaffDaySlots staffSlots(Long shopId, LocalDate date, DayEntry day, Long staffId) {
+    if (!day.getStaffIds().contains(staffId)) {
+      return StaffDaySlots.closed(date, slotMinutes(day.getFrame()));
+    }
+    StaffDaySlots slots = day.getSlots(staffId);
+    if (slots == null) {
+      long generation = availabilityCache.generation(shopId);
+      slots = buildSlots(shopId, date, day.getFrame(), List.of(staffId)).get(staffId);
+      availabilityCache.putSlots(shopId, day, staffId, slots, generation);
+    }
+    return slots;
+  }
+
+  private Map<Long, StaffDaySlots> buildSlots(
+      Long shopId, LocalDate date, CustomerReservationSettingResponse frame, List<Long> staffIds) {
+
+    Map<Long, StaffDaySlots> result = new HashMap<>();
+    if (staffIds.isEmpty()) {
+      return result;
+    }
+    int slotMinutes = slotMinutes(frame);
+    if (frame == null) {
+      // 휴무 요일
+      staffIds.forEach(staffId -> result.put(staffId, StaffDaySlots.closed(date, slotMinutes)));
+      return result;
+    }
+
+    String weekday = DayOfWeekEnum.values()[date.getDayOfWeek().getValue() - 1].name();
+    Set<Long> onLeave =
+        new HashSet<>(
+            availabilityQueryMapper.findStaffIdsOnLeave(
+                shopId, staffIds, date, weekday, date.getDayOfMonth()));
+    Map<Long, List<BusyInterval>> busyByStaff =
+        availabilityQueryMapper
+            .findBusyIntervals(
+                shopId,
+                staffIds,
+                date,
+                date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay(),
+                weekday,
+                date.getDayOfMonth())
+            .stream()
+            .collect(Collectors.groupingBy(BusyInterval::staffId));
+
+    for (Long staffId : staffIds) {
+      result.put(
+          staffId,
+          onLeave.contains(staffId)
+              ? StaffDaySlots.closed(date, slotMinutes)
+              : StaffDaySlots.open(
+                  date,
+                  slotMinutes,
+                  frame.availableStartTime(),
+                  frame.availableEndTime(),
+                  frame.lunchStartTime(),
+                  frame.lunchEndTime(),
+                  busyByStaff.getOrDefault(staffId, List.of())));
+    }
+    return result;
+  }
+
+  private int slotMinutes(CustomerReservationSettingResponse frame) {
+    return frame != null && frame.reservationTerm() > 0
+        ? frame.reservationTerm()
+        : DEFAULT_SLOT_MINUTES;
+  }
+
+  // 오늘이면 이미 지난 시각은 뺀다.
+  private List<LocalTime> upcoming(LocalDate date, List<LocalTime> startTimes) {
+    LocalDateTime now = LocalDateTime.now();
+    if (date.isAfter(now.toLocalDate())) {
+      return startTimes;
+    }
+    if (date.isBefore(now.toLocalDate())) {
+      return List.of();
+    }
+    return startTimes.stream().filter(time -> time.isAfter(now.toLocalTime())).toList();
+  }
+
+  private void validateDuration(int durationMinutes) {
+    if (durationMinutes <= 0) {
+      throw new BusinessException(ErrorCode.INVALID_RESERVATION_TIME_RANGE);
+    }
+  }
+}
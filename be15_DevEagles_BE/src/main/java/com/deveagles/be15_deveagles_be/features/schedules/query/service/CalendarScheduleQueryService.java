@@ -1,30 +1,79 @@
 package com.deveagles.be15_deveagles_be.features.schedules.query.service;
 
+import com.deveagles.be15_deveagles_be.common.mybatis.BatchLoader;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ScheduleType;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.request.CalendarRegularRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.request.CalendarScheduleRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRegularResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRegularRow;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRenderedResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarScheduleResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarScheduleRow;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationItemName;
 import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.CalendarScheduleQueryMapper;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CalendarWeek;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CalendarWeek.RegularOccurrence;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CalendarWeekCache;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
 public class CalendarScheduleQueryService {
 
+  private static final Set<String> SCHEDULE_TYPES = Set.of("RESERVATION", "PLAN", "LEAVE");
+
   private final CalendarScheduleQueryMapper calendarScheduleQueryMapper;
+  private final CalendarWeekCache calendarWeekCache;
+
+  // 월 보기(최대 6주)까지 주간 캐시로 처리하고, 더 긴 기간은 바로 조회한다.
+  @Value("${calendar.week-cache.max-weeks-per-request:6}")
+  private int maxWeeksPerRequest = 6;
 
+  /**
+   * 기간 내 예약/일정/휴무.
+   *
+   * <p>고객/시술 검색어가 없으면 매장의 주간 캘린더 캐시에서 종류와 담당자로 걸러 반환한다. 검색어가 있으면 DB 에서 바로 조회한다.
+   */
   public List<CalendarScheduleResponse> findSchedules(
       Long shopId, CalendarScheduleRequest request) {
-    return calendarScheduleQueryMapper.findSchedules(shopId, request);
+    LocalDateTime from = request.from();
+    LocalDateTime to = request.to();
+    if (from == null
+        || to == null
+        || StringUtils.hasText(request.customerKeyword())
+        || StringUtils.hasText(request.itemKeyword())
+        || !isCacheable(from.toLocalDate(), to.toLocalDate())) {
+      return calendarScheduleQueryMapper.findSchedules(shopId, request);
+    }
+
+    String scheduleType = request.scheduleType();
+    return loadWeeks(shopId, from.toLocalDate(), to.toLocalDate()).stream()
+        .flatMap(week -> week.schedules().stream())
+        .filter(
+            row ->
+                !SCHEDULE_TYPES.contains(scheduleType)
+                    || row.scheduleType().name().equals(scheduleType))
+        .filter(row -> request.staffId() == null || request.staffId().equals(row.staffId()))
+        .filter(row -> !row.startAt().isBefore(from) && !row.startAt().isAfter(to))
+        .sorted(Comparator.comparing(CalendarScheduleRow::startAt))
+        .map(CalendarScheduleRow::toResponse)
+        .toList();
   }
 
   private static final Map<String, DayOfWeek> WEEKDAY_ABBR_MAP =
@@ -81,9 +130,100 @@ public class CalendarScheduleQueryService {
 
   public List<CalendarRenderedResponse> getExpandedRegularSchedules(
       Long shopId, CalendarRegularRequest request) {
-    List<CalendarRegularResponse> regulars =
-        calendarScheduleQueryMapper.findRegularSchedules(shopId, request);
+    LocalDate from = request.from();
+    LocalDate to = request.to();
+    if (from == null || to == null || !isCacheable(from, to)) {
+      List<CalendarRegularResponse> regulars =
+          calendarScheduleQueryMapper.findRegularSchedules(shopId, request);
+
+      return expandRegularSchedules(regulars, from, to);
+    }
+
+    return loadWeeks(shopId, from, to).stream()
+        .flatMap(week -> week.regulars().stream())
+        .filter(
+            occurrence ->
+                request.staffId() == null || request.staffId().equals(occurrence.staffId()))
+        .map(RegularOccurrence::schedule)
+        .filter(schedule -> schedule.scheduleType() == request.scheduleType())
+        .filter(
+            schedule -> {
+              LocalDate date = schedule.startAt().toLocalDate();
+              return !date.isBefore(from) && !date.isAfter(to);
+            })
+        .sorted(Comparator.comparing(CalendarRenderedResponse::startAt))
+        .toList();
+  }
+
+  private boolean isCacheable(LocalDate from, LocalDate to) {
+    return !to.isBefore(from)
+        && ChronoUnit.WEEKS.between(weekStart(from), weekStart(to)) < maxWeeksPerRequest;
+  }
+
+  private List<CalendarWeek> loadWeeks(Long shopId, LocalDate from, LocalDate to) {
+    List<CalendarWeek> weeks = new ArrayList<>();
+    for (LocalDate week = weekStart(from); !week.isAfter(to); week = week.plusWeeks(1)) {
+      weeks.add(loadWeek(shopId, week));
+    }
+    return weeks;
+  }
+
+  // 매장의 한 주를 필터 없이 읽어 캐시에 둔다. 예약, 일정, 휴무 한 번, 시술 항목 한 번, 정기 규칙 한 번.
+  private CalendarWeek loadWeek(Long shopId, LocalDate weekStart) {
+    CalendarWeek cached = calendarWeekCache.get(shopId, weekStart);
+    if (cached != null) {
+      return cached;
+    }
+
+    long generation = calendarWeekCache.generation(shopId);
+    List<CalendarScheduleRow> schedules =
+        withItems(
+            calendarScheduleQueryMapper.findWeekSchedules(
+                shopId, weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay()));
+
+    List<RegularOccurrence> regulars = new ArrayList<>();
+    for (CalendarRegularRow rule : calendarScheduleQueryMapper.findRegularRules(shopId)) {
+      for (CalendarRenderedResponse occurrence :
+          expandRegularSchedules(List.of(rule.toResponse()), weekStart, weekStart.plusDays(6))) {
+        regulars.add(new RegularOccurrence(rule.staffId(), occurrence));
+      }
+    }
+
+    return calendarWeekCache.put(
+        shopId, new CalendarWeek(weekStart, schedules, regulars), generation);
+  }
+
+  // 예약별 시술명을 이름순으로 ", " 로 잇는다. 시술이 없으면 null
+  private List<CalendarScheduleRow> withItems(List<CalendarScheduleRow> schedules) {
+    List<CalendarScheduleRow> reservations =
+        schedules.stream().filter(row -> row.scheduleType() == ScheduleType.RESERVATION).toList();
+
+    Map<Long, String> itemsByReservation = new HashMap<>();
+    BatchLoader.attach(
+        reservations,
+        CalendarScheduleRow::id,
+        calendarScheduleQueryMapper::findReservationItemNames,
+        ReservationItemName::reservationId,
+        (row, items) -> {
+          if (!items.isEmpty()) {
+            itemsByReservation.put(
+                row.id(),
+                items.stream()
+                    .map(ReservationItemName::itemName)
+                    .collect(Collectors.joining(", ")));
+          }
+        });
+
+    return schedules.stream()
+        .map(
+            row ->
+                row.scheduleType() == ScheduleType.RESERVATION
+                    ? row.withItems(itemsByReservation.get(row.id()))
+                    : row)
+        .toList();
+  }
 
-    return expandRegularSchedules(regulars, request.from(), request.to());
+  private static LocalDate weekStart(LocalDate date) {
+    return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
   }
 }
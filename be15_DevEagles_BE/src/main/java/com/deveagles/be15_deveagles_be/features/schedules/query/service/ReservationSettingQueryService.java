@@ -5,6 +5,7 @@ import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationSettingResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.ReservationSettingMapper;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CustomerReservationSettingCache;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ReservationSettingQueryService {
   private final ReservationSettingMapper reservationSettingMapper;
+  private final CustomerReservationSettingCache customerReservationSettingCache;
 
   public List<ReservationSettingResponse> getReservationSettings(Long shopId) {
     List<ReservationSettingResponse> settings =
@@ -28,6 +30,6 @@ public class ReservationSettingQueryService {
 
   public CustomerReservationSettingResponse getReservationSetting(Long shopId, LocalDate date) {
     int dayOfWeek = date.getDayOfWeek().getValue(); // 월=1 ~ 일=7
-    return reservationSettingMapper.findCustomerReservationSetting(shopId, dayOfWeek);
+    return customerReservationSettingCache.get(shopId, dayOfWeek);
   }
 }
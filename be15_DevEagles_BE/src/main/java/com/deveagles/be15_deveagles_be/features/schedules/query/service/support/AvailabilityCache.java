@@ -0,0 +1,203 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service.support;
+
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장/날짜별 직원 예약 가능 슬롯 캐시.
+ *
+ * <p>일정이 바뀌면({@link ScheduleChangedEvent}) 커밋 후 해당 직원/날짜의 슬롯만 지우고, 다음 조회에서 그 직원만 다시 계산한다. 다른 서버
+ * 인스턴스에는 Redis 채널로 같은 변경을 알리며, {@link CalendarWeekCache} 도 이 채널을 함께 구독한다. 채널 메시지를 놓쳐도 항목은 일정 시간이
+ * 지나면 새로 읽는다.
+ */
+@Slf4j
+@Component
+public class AvailabilityCache implements MessageListener {
+
+  public static final String CHANNEL = "SCHEDULE_CHANGED";
+  private static final String ALL = "-";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final Map<ShopDay, DayEntry> entries = new ConcurrentHashMap<>();
+  // 매장별로 무효화마다 증가. 읽는 도중 그 매장의 무효화가 있었으면 읽은 결과를 캐시에 넣지 않는다.
+  private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  @Value("${reservation.availability.cache-ttl-seconds:300}")
+  private long ttlSeconds = 300;
+
+  @Value("${reservation.availability.max-cached-days:20000}")
+  private int maxCachedDays = 20000;
+
+  public AvailabilityCache(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /** DB 에서 읽기 전에 가져 두고 {@link #put}, {@link #putSlots} 에 넘긴다. */
+  public long generation(Long shopId) {
+    return generationOf(shopId).get();
+  }
+
+  /** 유효한 매장/날짜 항목. 없거나 오래되었으면 null */
+  public DayEntry get(Long shopId, LocalDate date) {
+    ShopDay key = new ShopDay(shopId, date);
+    DayEntry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.loadedAt + ttlSeconds * 1000 <= System.currentTimeMillis()) {
+      entries.remove(key, entry);
+      return null;
+    }
+    return entry;
+  }
+
+  public DayEntry put(
+      Long shopId,
+      LocalDate date,
+      CustomerReservationSettingResponse frame,
+      List<Long> staffIds,
+      Map<Long, StaffDaySlots> slots,
+      long loadedGeneration) {
+    if (entries.size() >= maxCachedDays) {
+      evictExpired();
+    }
+    DayEntry entry = new DayEntry(frame, staffIds, System.currentTimeMillis());
+    entry.slotsByStaff.putAll(slots);
+    if (generation(shopId) == loadedGeneration && entries.size() < maxCachedDays) {
+      entries.put(new ShopDay(shopId, date), entry);
+    }
+    return entry;
+  }
+
+  /** 무효화로 지워진 직원 슬롯을 다시 계산해 넣는다. */
+  public void putSlots(
+      Long shopId, DayEntry entry, Long staffId, StaffDaySlots slots, long loadedGeneration) {
+    if (generation(shopId) == loadedGeneration) {
+      entry.slotsByStaff.put(staffId, slots);
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onScheduleChanged(ScheduleChangedEvent event) {
+    evict(event);
+    try {
+      redisTemplate.convertAndSend(CHANNEL, toMessage(event));
+    } catch (Exception e) {
+      log.warn("예약 가능 시간 캐시 무효화 전파 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      evict(fromMessage(body));
+    } catch (RuntimeException e) {
+      log.warn("예약 가능 시간 캐시 메시지 형식 오류: {}", body);
+    }
+  }
+
+  void evict(ScheduleChangedEvent event) {
+    generationOf(event.shopId()).incrementAndGet();
+    entries.entrySet().removeIf(
+        e -> {
+          ShopDay key = e.getKey();
+          if (!key.shopId().equals(event.shopId()) || !event.covers(key.date())) {
+            return false;
+          }
+          if (event.staffId() == null) {
+            return true;
+          }
+          // 해당 직원의 슬롯만 지우고 나머지 직원은 그대로 둔다
+          e.getValue().slotsByStaff.remove(event.staffId());
+          return false;
+        });
+  }
+
+  private AtomicLong generationOf(Long shopId) {
+    return generations.computeIfAbsent(shopId, id -> new AtomicLong());
+  }
+
+  private void evictExpired() {
+    long expiredBefore = System.currentTimeMillis() - ttlSeconds * 1000;
+    entries.values().removeIf(entry -> entry.loadedAt <= expiredBefore);
+  }
+
+  // {shopId}:{staffId}:{from}:{to}, 비어 있는 값은 '-'
+  static String toMessage(ScheduleChangedEvent event) {
+    return event.shopId()
+        + ":"
+        + orAll(event.staffId())
+        + ":"
+        + orAll(event.fromDate())
+        + ":"
+        + orAll(event.toDate());
+  }
+
+  static ScheduleChangedEvent fromMessage(String body) {
+    String[] parts = body.split(":");
+    return new ScheduleChangedEvent(
+        Long.valueOf(parts[0]),
+        ALL.equals(parts[1]) ? null : Long.valueOf(parts[1]),
+        ALL.equals(parts[2]) ? null : LocalDate.parse(parts[2]),
+        ALL.equals(parts[3]) ? null : LocalDate.parse(parts[3]));
+  }
+
+  private static String orAll(Object value) {
+    return value == null ? ALL : value.toString();
+  }
+
+  private record ShopDay(Long shopId, LocalDate date) {}
+
+  /** 매장의 하루. 운영 시간(휴무 요일이면 null)과 직원 목록, 계산된 직원별 슬롯 */
+  public static class DayEntry {
+    private final CustomerReservationSettingResponse frame;
+    private final List<Long> staffIds;
+    private final long loadedAt;
+    private final Map<Long, StaffDaySlots> slotsByStaff = new ConcurrentHashMap<>();
+
+    private DayEntry(CustomerReservationSettingResponse frame, List<Long> staffIds, long loadedAt) {
+      this.frame = frame;
+      this.staffIds = staffIds;
+      this.loadedAt = loadedAt;
+    }
+
+    public CustomerReservationSettingResponse getFrame() {
+      return frame;
+    }
+
+    public List<Long> getStaffIds() {
+      return staffIds;
+    }
+
+    public StaffDaySlots getSlots(Long staffId) {
+      return slotsByStaff.get(staffId);
+    }
+  }
+}
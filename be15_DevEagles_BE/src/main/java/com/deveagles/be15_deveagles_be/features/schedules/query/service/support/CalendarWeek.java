@@ -0,0 +1,18 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service.support;
+
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRenderedResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarScheduleRow;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매장의 한 주(월요일부터 7일) 캘린더.
+ *
+ * @param schedules 그 주에 시작하는 예약, 단기 일정, 단기 휴무
+ * @param regulars 그 주로 펼친 정기 일정, 정기 휴무
+ */
+public record CalendarWeek(
+    LocalDate weekStart, List<CalendarScheduleRow> schedules, List<RegularOccurrence> regulars) {
+
+  public record RegularOccurrence(Long staffId, CalendarRenderedResponse schedule) {}
+}
@@ -0,0 +1,114 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service.support;
+
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장/주별 캘린더 캐시.
+ *
+ * <p>일정이 바뀌면({@link ScheduleChangedEvent}) 커밋 후 변경 기간과 겹치는 주만 지운다. 다른 서버 인스턴스의 변경은 {@link
+ * AvailabilityCache} 가 보내는 같은 채널의 메시지로 받는다. 직원 이름/색상, 고객 이름처럼 이벤트가 없는 변경은 일정 시간이 지나면 반영된다.
+ */
+@Slf4j
+@Component
+public class CalendarWeekCache implements MessageListener {
+
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final Map<ShopWeek, Entry> entries = new ConcurrentHashMap<>();
+  // 매장별로 무효화마다 증가. 읽는 도중 그 매장의 무효화가 있었으면 읽은 결과를 캐시에 넣지 않는다.
+  private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  @Value("${calendar.week-cache.ttl-seconds:300}")
+  private long ttlSeconds = 300;
+
+  @Value("${calendar.week-cache.max-weeks:5000}")
+  private int maxWeeks = 5000;
+
+  public CalendarWeekCache(RedisMessageListenerContainer listenerContainer) {
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(AvailabilityCache.CHANNEL));
+  }
+
+  /** DB 에서 읽기 전에 가져 두고 {@link #put} 에 넘긴다. */
+  public long generation(Long shopId) {
+    return generationOf(shopId).get();
+  }
+
+  /** 유효한 매장/주 캘린더. 없거나 오래되었으면 null */
+  public CalendarWeek get(Long shopId, LocalDate weekStart) {
+    ShopWeek key = new ShopWeek(shopId, weekStart);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.loadedAt() + ttlSeconds * 1000 <= System.currentTimeMillis()) {
+      entries.remove(key, entry);
+      return null;
+    }
+    return entry.week();
+  }
+
+  public CalendarWeek put(Long shopId, CalendarWeek week, long loadedGeneration) {
+    if (entries.size() >= maxWeeks) {
+      long expiredBefore = System.currentTimeMillis() - ttlSeconds * 1000;
+      entries.values().removeIf(entry -> entry.loadedAt() <= expiredBefore);
+    }
+    if (generation(shopId) == loadedGeneration && entries.size() < maxWeeks) {
+      entries.put(
+          new ShopWeek(shopId, week.weekStart()), new Entry(week, System.currentTimeMillis()));
+    }
+    return week;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onScheduleChanged(ScheduleChangedEvent event) {
+    evict(event);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      evict(AvailabilityCache.fromMessage(body));
+    } catch (RuntimeException e) {
+      log.warn("캘린더 캐시 메시지 형식 오류: {}", body);
+    }
+  }
+
+  void evict(ScheduleChangedEvent event) {
+    generationOf(event.shopId()).incrementAndGet();
+    entries.keySet().removeIf(key -> key.shopId().equals(event.shopId()) && overlaps(key, event));
+  }
+
+  private AtomicLong generationOf(Long shopId) {
+    return generations.computeIfAbsent(shopId, id -> new AtomicLong());
+  }
+
+  private static boolean overlaps(ShopWeek key, ScheduleChangedEvent event) {
+    LocalDate weekEnd = key.weekStart().plusDays(6);
+    return (event.fromDate() == null || !weekEnd.isBefore(event.fromDate()))
+        && (event.toDate() == null || !key.weekStart().isAfter(event.toDate()));
+  }
+
+  private record ShopWeek(Long shopId, LocalDate weekStart) {}
+
+  private record Entry(CalendarWeek week, long loadedAt) {}
+}
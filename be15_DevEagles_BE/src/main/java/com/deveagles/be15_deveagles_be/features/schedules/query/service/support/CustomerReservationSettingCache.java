@@ -0,0 +1,54 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service.support;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.ReservationSettingMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 예약 화면용 매장/요일별 운영 시간 캐시. 운영하지 않는 요일은 null.
+ *
+ * <p>예약 설정을 바꾸거나 초기화하면 {@link #evictShop} 으로 매장의 모든 요일을 지운다.
+ */
+@Component
+public class CustomerReservationSettingCache
+    extends ReferenceCache<
+        CustomerReservationSettingCache.ShopDayOfWeek, CustomerReservationSettingResponse> {
+
+  private final ReservationSettingMapper reservationSettingMapper;
+
+  public CustomerReservationSettingCache(
+      ReferenceCacheRegistry registry, ReservationSettingMapper reservationSettingMapper) {
+    super("customer-reservation-setting", registry, new TypeReference<>() {});
+    this.reservationSettingMapper = reservationSettingMapper;
+  }
+
+  /** 월=1 ~ 일=7 */
+  public CustomerReservationSettingResponse get(Long shopId, int dayOfWeek) {
+    return get(new ShopDayOfWeek(shopId, dayOfWeek));
+  }
+
+  public void evictShop(Long shopId) {
+    evict(
+        Arrays.stream(DayOfWeek.values())
+            .map(day -> new ShopDayOfWeek(shopId, day.getValue()))
+            .toList());
+  }
+
+  @Override
+  protected CustomerReservationSettingResponse load(ShopDayOfWeek key) {
+    return reservationSettingMapper.findCustomerReservationSetting(key.shopId(), key.dayOfWeek());
+  }
+
+  /** 캐시 키. 문자열 형식은 {@code 매장ID:요일} */
+  public record ShopDayOfWeek(Long shopId, int dayOfWeek) {
+    @Override
+    public String toString() {
+      return shopId + ":" + dayOfWeek;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service.support;
+
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.BusyInterval;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 직원 한 명의 하루 예약 가능 슬롯 비트맵.
+ *
+ * <p>하루를 예약 단위(분)로 나누고, i 번째 비트가 [i * 단위, (i + 1) * 단위) 구간의 예약 가능 여부를 나타낸다. 운영 시간 안의 슬롯만 켜고 점심시간과
+ * 예약/일정 구간을 끈다. 만든 뒤에는 바뀌지 않으므로 캐시에서 여러 요청이 함께 읽어도 된다.
+ */
+public final class StaffDaySlots {
+
+  private static final int MINUTES_PER_DAY = 24 * 60;
+
+  private final LocalDate date;
+  private final int slotMinutes;
+  private final BitSet free;
+
+  private StaffDaySlots(LocalDate date, int slotMinutes, BitSet free) {
+    this.date = date;
+    this.slotMinutes = slotMinutes;
+    this.free = free;
+  }
+
+  public static StaffDaySlots closed(LocalDate date, int slotMinutes) {
+    return new StaffDaySlots(date, slotMinutes, new BitSet());
+  }
+
+  /**
+   * 운영 시간에서 점심시간과 바쁜 구간을 뺀 슬롯.
+   *
+   * @param busyIntervals 해당 직원의 예약, 단기 일정, 정기 일정
+   */
+  public static StaffDaySlots open(
+      LocalDate date,
+      int slotMinutes,
+      LocalTime openAt,
+      LocalTime closeAt,
+      LocalTime lunchStart,
+      LocalTime lunchEnd,
+      Collection<BusyInterval> busyIntervals) {
+
+    BitSet free = new BitSet(MINUTES_PER_DAY / slotMinutes);
+    int firstSlot = ceilDiv(openAt.toSecondOfDay() / 60, slotMinutes);
+    int endSlot = minuteOfDay(closeAt) / slotMinutes;
+    if (firstSlot < endSlot) {
+      free.set(firstSlot, endSlot);
+    }
+
+    StaffDaySlots slots = new StaffDaySlots(date, slotMinutes, free);
+    if (lunchStart != null && lunchEnd != null) {
+      slots.clear(date.atTime(lunchStart), date.atTime(lunchEnd));
+    }
+    for (BusyInterval busy : busyIntervals) {
+      slots.clear(busy.startAt(), busy.endAt());
+    }
+    return slots;
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  public int getSlotMinutes() {
+    return slotMinutes;
+  }
+
+  /** durationMinutes 동안 연속으로 비어 있는 시작 시각 */
+  public List<LocalTime> freeStartTimes(int durationMinutes) {
+    int needed = Math.max(1, ceilDiv(durationMinutes, slotMinutes));
+    List<LocalTime> result = new ArrayList<>();
+
+    int runStart = free.nextSetBit(0);
+    while (runStart >= 0) {
+      int runEnd = free.nextClearBit(runStart);
+      for (int slot = runStart; slot + needed <= runEnd; slot++) {
+        result.add(LocalTime.ofSecondOfDay((long) slot * slotMinutes * 60));
+      }
+      runStart = free.nextSetBit(runEnd);
+    }
+    return result;
+  }
+
+  /** [startAt, endAt) 가 모두 이 날의 빈 슬롯 안에 있는지 */
+  public boolean isFree(LocalDateTime startAt, LocalDateTime endAt) {
+    if (!startAt.isBefore(endAt)
+        || !startAt.toLocalDate().equals(date)
+        || endAt.isAfter(date.plusDays(1).atStartOfDay())) {
+      return false;
+    }
+    int fromSlot = clampMinute(startAt) / slotMinutes;
+    int toSlot = ceilDiv(clampMinute(endAt), slotMinutes);
+    return free.nextClearBit(fromSlot) >= toSlot;
+  }
+
+  private void clear(LocalDateTime startAt, LocalDateTime endAt) {
+    if (startAt == null || endAt == null || !startAt.isBefore(endAt)) {
+      return;
+    }
+    int fromSlot = clampMinute(startAt) / slotMinutes;
+    int toSlot = ceilDiv(clampMinute(endAt), slotMinutes);
+    if (fromSlot < toSlot) {
+      free.clear(fromSlot, toSlot);
+    }
+  }
+
+  // 이 날의 0시 기준 분. 전날이면 0, 다음 날이면 하루 끝
+  private int clampMinute(LocalDateTime dateTime) {
+    long minutes = Duration.between(date.atStartOfDay(), dateTime).toMinutes();
+    return (int) Math.max(0, Math.min(MINUTES_PER_DAY, minutes));
+  }
+
+  // 00:00 종료는 자정까지로 본다
+  private static int minuteOfDay(LocalTime time) {
+    int minute = time.toSecondOfDay() / 60;
+    return minute == 0 ? MINUTES_PER_DAY : minute;
+  }
+
+  private static int ceilDiv(int value, int divisor) {
+    return -Math.floorDiv(-value, divisor);
+  }
+}
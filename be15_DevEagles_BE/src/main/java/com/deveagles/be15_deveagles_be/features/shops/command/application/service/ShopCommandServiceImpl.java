@@ -9,6 +9,7 @@ import com.deveagles.be15_deveagles_be.features.shops.command.application.dto.re
 import com.deveagles.be15_deveagles_be.features.shops.command.application.dto.request.ValidBizNumberRequest;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.dto.response.GetIndustryResponse;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.dto.response.GetShopResponse;
+import com.deveagles.be15_deveagles_be.features.shops.command.application.service.support.ShopExistenceCache;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.Industry;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.SNS;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.SNSType;
@@ -33,6 +34,7 @@ public class ShopCommandServiceImpl implements ShopCommandService {
   private final IndustryRepository industryRepository;
   private final SnsRepository snsRepository;
   private final ReservationSettingInitializer reservationSettingInitializer;
+  private final ShopExistenceCache shopExistenceCache;
 
   @Override
   public Shop shopRegist(ShopCreateRequest request) {
@@ -78,7 +80,7 @@ public class ShopCommandServiceImpl implements ShopCommandService {
 
   @Override
   public void validateShopExists(Long shopId) {
-    if (!shopRepository.existsById(shopId)) {
+    if (!shopExistenceCache.get(shopId)) {
       throw new BusinessException(ErrorCode.SHOP_NOT_FOUNT);
     }
   }
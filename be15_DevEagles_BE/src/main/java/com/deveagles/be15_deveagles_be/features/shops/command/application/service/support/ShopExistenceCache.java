@@ -0,0 +1,33 @@
+package com.deveagles.be15_deveagles_be.features.shops.command.application.service.support;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
+import com.deveagles.be15_deveagles_be.features.shops.command.repository.ShopRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 존재 여부 캐시.
+ *
+ * <p>매장은 삭제되지 않으므로 존재하는 매장만 캐시하고 무효화하지 않는다. 없는 매장은 캐시하지 않아 새로 등록된 매장이 바로 보인다.
+ */
+@Component
+public class ShopExistenceCache extends ReferenceCache<Long, Boolean> {
+
+  private final ShopRepository shopRepository;
+
+  public ShopExistenceCache(ReferenceCacheRegistry registry, ShopRepository shopRepository) {
+    super("shop-exists", registry, new TypeReference<>() {});
+    this.shopRepository = shopRepository;
+  }
+
+  @Override
+  protected Boolean load(Long shopId) {
+    return shopRepository.existsById(shopId);
+  }
+
+  @Override
+  protected boolean isCacheable(Boolean exists) {
+    return Boolean.TRUE.equals(exists);
+  }
+}
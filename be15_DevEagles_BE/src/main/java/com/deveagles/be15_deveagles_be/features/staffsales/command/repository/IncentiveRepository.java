@@ -17,18 +17,10 @@ public interface IncentiveRepository extends JpaRepository<Incentive, Long> {
     FROM Incentive i
     JOIN Shop s ON s.shopId = i.shopId
     WHERE i.shopId = :shopId
-      AND i.type = :type
       AND i.isActive = true
       AND (s.incentiveStatus = true)
-      AND (
-        :staffId IS NULL AND i.staffId IS NULL
-        OR :staffId IS NOT NULL AND (i.staffId IS NULL OR i.staffId = :staffId)
-      )
   """)
-  List<Incentive> findActiveIncentivesByShopIdAndType(
-      @Param("shopId") Long shopId,
-      @Param("type") ProductType type,
-      @Param("staffId") Long staffId);
+  List<Incentive> findActiveIncentivesByShopId(@Param("shopId") Long shopId);
 
   List<Incentive> findByShopId(Long shopId);
 
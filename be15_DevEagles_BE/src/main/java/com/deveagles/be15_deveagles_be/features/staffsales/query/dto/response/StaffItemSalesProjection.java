@@ -0,0 +1,16 @@
+package com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response;
+
+import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StaffItemSalesProjection {
+  private Long staffId;
+  private Category category;
+  private Long primaryItemId;
+  private String primaryItemName;
+  private String secondaryItemName;
+  private Long salesId;
+}
@@ -12,5 +12,5 @@ public interface SalesTargetQueryRepository {
 
   List<SalesTarget> findAppliedTargets(Long shopId, Year year, Month month);
 
-  int findTargetAmountByItemsOrMembership(Long shopId, Long staffId, boolean isItems, YearMonth ym);
+  List<SalesTarget> findTargetsInMonths(Long shopId, List<YearMonth> yearMonthList);
 }
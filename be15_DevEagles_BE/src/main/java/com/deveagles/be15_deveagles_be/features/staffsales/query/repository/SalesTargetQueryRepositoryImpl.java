@@ -51,36 +51,14 @@ public class SalesTargetQueryRepositoryImpl implements SalesTargetQueryRepositor
   }
 
   @Override
-  public int findTargetAmountByItemsOrMembership(
-      Long shopId, Long staffId, boolean isItems, YearMonth yearMonth) {
+  public List<SalesTarget> findTargetsInMonths(Long shopId, List<YearMonth> yearMonthList) {
     QSalesTarget q = QSalesTarget.salesTarget;
 
-    BooleanExpression baseCondition =
-        q.shopId
-            .eq(shopId)
-            .and(q.staffId.eq(staffId))
-            .and(q.targetYear.eq(yearMonth.getYear()))
-            .and(q.targetMonth.eq(yearMonth.getMonthValue()));
-
-    BooleanExpression typeCondition = isItems ? q.items.isTrue() : q.membership.isTrue();
-
-    Integer result =
-        queryFactory.select(q.sales).from(q).where(baseCondition.and(typeCondition)).fetchOne();
-
-    // fallback: 개별 설정 없을 경우 일괄 설정 조회
-    if (result == null) {
-      BooleanExpression bulkCondition =
-          q.shopId
-              .eq(shopId)
-              .and(q.staffId.isNull()) // BULK
-              .and(q.targetYear.eq(yearMonth.getYear()))
-              .and(q.targetMonth.eq(yearMonth.getMonthValue()))
-              .and(q.applyStatus.isTrue());
-
-      result =
-          queryFactory.select(q.sales).from(q).where(bulkCondition.and(typeCondition)).fetchOne();
+    BooleanBuilder dateCondition = new BooleanBuilder();
+    for (YearMonth ym : yearMonthList) {
+      dateCondition.or(q.targetYear.eq(ym.getYear()).and(q.targetMonth.eq(ym.getMonthValue())));
     }
 
-    return result != null ? result : 0;
+    return queryFactory.selectFrom(q).where(q.shopId.eq(shopId).and(dateCondition)).fetch();
   }
 }
@@ -1,19 +1,17 @@
 package com.deveagles.be15_deveagles_be.features.staffsales.query.repository;
 
-import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
-import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.StaffPaymentsDetailSalesResponse;
-import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.StaffPaymentsSalesResponse;
-import java.time.LocalDate;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.StaffItemSalesProjection;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.StaffSalesFacts;
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface StaffSalesQueryRepository {
-  List<StaffPaymentsSalesResponse> getSalesByStaff(
-      boolean isDetail, Long shopId, Long staffId, LocalDateTime startDate, LocalDateTime endDate);
 
-  List<StaffPaymentsDetailSalesResponse> getDetailSalesByStaff(
-      Long staffId, Long shopId, LocalDateTime startDate, LocalDateTime endDate);
+  /** 직원들의 기간 내 매출을 매출 건 단위로 한 번에 집계한다. 직원 수와 관계없이 조회 횟수는 일정하다. */
+  StaffSalesFacts findSalesFacts(
+      Long shopId, List<Long> staffIds, LocalDateTime startDate, LocalDateTime endDate);
 
-  int getTargetTotalSales(
-      Long shopId, Long staffId, ProductType productType, LocalDate startDate, LocalDate endDate);
+  /** 직원들의 시술/상품 매출을 품목 단위로 조회한다. */
+  List<StaffItemSalesProjection> findItemSalesRows(
+      Long shopId, List<Long> staffIds, LocalDateTime startDate, LocalDateTime endDate);
 }
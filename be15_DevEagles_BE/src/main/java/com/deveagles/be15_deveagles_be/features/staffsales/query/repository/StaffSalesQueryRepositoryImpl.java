@@ -5,12 +5,12 @@ import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.Q
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.QSecondaryItem;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.*;
 import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
-import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
-import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.SalesCalculator;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.StaffItemSalesProjection;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.StaffSalesFacts;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
@@ -21,399 +21,180 @@ import org.springframework.stereotype.Repository;
 public class StaffSalesQueryRepositoryImpl implements StaffSalesQueryRepository {
 
   private final JPAQueryFactory queryFactory;
-  private final SalesCalculator salesCalculator;
 
   @Override
-  public List<StaffPaymentsSalesResponse> getSalesByStaff(
-      boolean isDetail, Long shopId, Long staffId, LocalDateTime startDate, LocalDateTime endDate) {
+  public StaffSalesFacts findSalesFacts(
+      Long shopId, List<Long> staffIds, LocalDateTime startDate, LocalDateTime endDate) {
 
-    List<StaffPaymentsSalesResponse> result = new ArrayList<>();
-
-    if (!isDetail) {
-      result.add(
-          buildSalesResponse(
-              "SERVICE",
-              getSalesIdsByCategory(shopId, staffId, startDate, endDate, Category.SERVICE),
-              true,
-              shopId,
-              staffId,
-              ProductType.SERVICE));
-
-      result.add(
-          buildSalesResponse(
-              "PRODUCT",
-              getSalesIdsByCategory(shopId, staffId, startDate, endDate, Category.PRODUCT),
-              true,
-              shopId,
-              staffId,
-              ProductType.PRODUCT));
+    StaffSalesFacts facts = new StaffSalesFacts();
+    if (staffIds.isEmpty()) {
+      return facts;
     }
 
-    // SESSION_PASS
-    result.add(
-        buildSalesResponse(
-            "SESSION_PASS",
-            getSessionPassSalesIds(staffId, startDate, endDate),
-            false,
-            shopId,
-            staffId,
-            ProductType.SESSION_PASS));
-
-    // PREPAID_PASS
-    result.add(
-        buildSalesResponse(
-            "PREPAID_PASS",
-            getPrepaidPassSalesIds(staffId, startDate, endDate),
-            false,
-            shopId,
-            staffId,
-            ProductType.PREPAID_PASS));
-
-    return result;
-  }
-
-  private StaffPaymentsSalesResponse buildSalesResponse(
-      String category,
-      List<Long> salesIds,
-      boolean couponApplicable,
-      Long shopId,
-      Long staffId,
-      ProductType productType) {
-
     QSales sales = QSales.sales;
     QItemSales itemSales = QItemSales.itemSales;
+    QSecondaryItem secondaryItem = QSecondaryItem.secondaryItem;
+    QPrimaryItem primaryItem = QPrimaryItem.primaryItem;
+    QSessionPassSales sessionPassSales = QSessionPassSales.sessionPassSales;
+    QPrepaidPassSales prepaidPassSales = QPrepaidPassSales.prepaidPassSales;
     QPayments payments = QPayments.payments;
 
-    // 결제 수단별 실매출 조회
-    List<StaffNetSalesProjection> projectionList =
-        queryFactory
-            .select(
-                Projections.constructor(
-                    StaffNetSalesProjection.class,
-                    payments.paymentsMethod.stringValue(),
-                    payments.amount.sum()))
-            .from(payments)
-            .where(
-                payments.salesId.in(salesIds),
-                payments.paymentsMethod.notIn(
-                    PaymentsMethod.PREPAID_PASS, PaymentsMethod.SESSION_PASS),
-                payments.deletedAt.isNull())
-            .groupBy(payments.paymentsMethod)
-            .fetch();
-
-    Map<PaymentsMethod, Integer> rateMap =
-        salesCalculator.getEffectiveIncentiveRates(shopId, staffId, productType);
-
-    List<StaffNetSalesResponse> netSalesList =
-        projectionList.stream()
-            .map(
-                p -> {
-                  PaymentsMethod method = PaymentsMethod.valueOf(p.getPayments());
-                  int amount = p.getAmount();
-                  int rate = rateMap.getOrDefault(method, 0);
-                  int incentiveAmount = (int) Math.floor(amount * rate / 100.0);
+    BooleanExpression scope = salesScope(shopId, staffIds, startDate, endDate);
 
-                  return StaffNetSalesResponse.builder()
-                      .paymentsMethod(method)
-                      .amount(amount)
-                      .incentiveAmount(incentiveAmount)
-                      .build();
-                })
-            .toList();
-
-    // 할인 공제
-    Integer discountSum =
+    // 시술/상품 매출 분류
+    List<Tuple> itemSalesList =
         queryFactory
-            .select(sales.discountAmount.sum())
+            .select(sales.salesId, sales.staffId, sales.discountAmount, primaryItem.category)
             .from(sales)
-            .where(sales.salesId.in(salesIds), sales.discountAmount.isNotNull())
-            .fetchOne();
-
-    // 쿠폰 공제
-    Integer couponSum = 0;
-    if (couponApplicable) {
-      couponSum =
-          Optional.ofNullable(
-                  queryFactory
-                      .select(itemSales.count())
-                      .from(itemSales)
-                      .where(itemSales.salesId.in(salesIds), itemSales.couponId.isNotNull())
-                      .fetchOne())
-              .map(Long::intValue)
-              .orElse(0);
+            .join(itemSales)
+            .on(itemSales.salesId.eq(sales.salesId))
+            .join(secondaryItem)
+            .on(itemSales.secondaryItemId.eq(secondaryItem.secondaryItemId))
+            .join(primaryItem)
+            .on(secondaryItem.primaryItemId.eq(primaryItem.primaryItemId))
+            .where(scope)
+            .distinct()
+            .fetch();
+    for (Tuple tuple : itemSalesList) {
+      facts.addSale(
+          tuple.get(sales.salesId),
+          tuple.get(sales.staffId),
+          ProductType.valueOf(tuple.get(primaryItem.category).name()),
+          tuple.get(sales.discountAmount));
     }
 
-    // 선불권 공제
-    Integer prepaidSum =
-        queryFactory
-            .select(payments.amount.sum())
-            .from(payments)
-            .where(
-                payments.salesId.in(salesIds),
-                payments.paymentsMethod.eq(PaymentsMethod.PREPAID_PASS))
-            .fetchOne();
-
-    // 공제 항목 리스트
-    List<StaffSalesDeductionsResponse> deductionList =
-        List.of(
-            StaffSalesDeductionsResponse.builder()
-                .deduction("DISCOUNT")
-                .amount(Optional.ofNullable(discountSum).orElse(0))
-                .build(),
-            StaffSalesDeductionsResponse.builder().deduction("COUPON").amount(couponSum).build(),
-            StaffSalesDeductionsResponse.builder()
-                .deduction("PREPAID")
-                .amount(Optional.ofNullable(prepaidSum).orElse(0))
-                .build());
-
-    // 총계 계산
-    int grossSalesTotal =
-        netSalesList.stream().mapToInt(n -> Optional.ofNullable(n.getAmount()).orElse(0)).sum();
-
-    int deductionTotal =
-        deductionList.stream().mapToInt(d -> Optional.ofNullable(d.getAmount()).orElse(0)).sum();
-
-    int netSalesTotal = grossSalesTotal - deductionTotal;
-
-    int incentiveTotal =
-        netSalesList.stream()
-            .mapToInt(n -> Optional.ofNullable(n.getIncentiveAmount()).orElse(0))
-            .sum();
-
-    return StaffPaymentsSalesResponse.builder()
-        .category(category)
-        .netSalesList(netSalesList)
-        .deductionList(deductionList)
-        .grossSalesTotal(grossSalesTotal)
-        .deductionTotal(deductionTotal)
-        .netSalesTotal(netSalesTotal)
-        .incentiveTotal(incentiveTotal)
-        .build();
-  }
-
-  private List<Long> getSalesIdsByCategory(
-      Long shopId, Long staffId, LocalDateTime start, LocalDateTime end, Category category) {
-    QSales sales = QSales.sales;
-    QItemSales itemSales = QItemSales.itemSales;
-    QSecondaryItem secondaryItem = QSecondaryItem.secondaryItem;
-    QPrimaryItem primaryItem = QPrimaryItem.primaryItem;
-
-    return queryFactory
-        .select(sales.salesId)
-        .from(sales)
-        .join(itemSales)
-        .on(itemSales.salesId.eq(sales.salesId))
-        .join(secondaryItem)
-        .on(itemSales.secondaryItemId.eq(secondaryItem.secondaryItemId))
-        .join(primaryItem)
-        .on(secondaryItem.primaryItemId.eq(primaryItem.primaryItemId))
-        .where(
-            sales.staffId.eq(staffId),
-            sales.shopId.eq(shopId),
-            sales.salesDate.between(start, end),
-            primaryItem.category.eq(category),
-            sales.deletedAt.isNull(),
-            sales.isRefunded.eq(Boolean.FALSE))
-        .distinct()
-        .fetch();
-  }
-
-  private List<Long> getSessionPassSalesIds(Long staffId, LocalDateTime start, LocalDateTime end) {
-    QSales sales = QSales.sales;
-    QSessionPassSales sessionPassSales = QSessionPassSales.sessionPassSales;
-
-    return queryFactory
-        .select(sales.salesId)
+    // 횟수권 매출
+    queryFactory
+        .select(sales.salesId, sales.staffId, sales.discountAmount)
         .from(sales)
         .join(sessionPassSales)
         .on(sessionPassSales.salesId.eq(sales.salesId))
-        .where(
-            sales.staffId.eq(staffId),
-            sales.salesDate.between(start, end),
-            sales.deletedAt.isNull(),
-            sales.isRefunded.eq(Boolean.FALSE))
+        .where(scope)
         .distinct()
-        .fetch();
-  }
-
-  private List<Long> getPrepaidPassSalesIds(Long staffId, LocalDateTime start, LocalDateTime end) {
-    QSales sales = QSales.sales;
-    QPrepaidPassSales prepaidPassSales = QPrepaidPassSales.prepaidPassSales;
-
-    return queryFactory
-        .select(sales.salesId)
+        .fetch()
+        .forEach(
+            tuple ->
+                facts.addSale(
+                    tuple.get(sales.salesId),
+                    tuple.get(sales.staffId),
+                    ProductType.SESSION_PASS,
+                    tuple.get(sales.discountAmount)));
+
+    // 선불권 매출
+    queryFactory
+        .select(sales.salesId, sales.staffId, sales.discountAmount)
         .from(sales)
         .join(prepaidPassSales)
         .on(prepaidPassSales.salesId.eq(sales.salesId))
-        .where(
-            sales.staffId.eq(staffId),
-            sales.salesDate.between(start, end),
-            sales.deletedAt.isNull(),
-            sales.isRefunded.eq(Boolean.FALSE))
+        .where(scope)
         .distinct()
-        .fetch();
-  }
-
-  @Override
-  public List<StaffPaymentsDetailSalesResponse> getDetailSalesByStaff(
-      Long staffId, Long shopId, LocalDateTime startDate, LocalDateTime endDate) {
-
-    List<StaffPaymentsDetailSalesResponse> result = new ArrayList<>();
+        .fetch()
+        .forEach(
+            tuple ->
+                facts.addSale(
+                    tuple.get(sales.salesId),
+                    tuple.get(sales.staffId),
+                    ProductType.PREPAID_PASS,
+                    tuple.get(sales.discountAmount)));
+
+    // 매출 건 x 결제 수단별 실매출 (회원권 차감 결제 제외)
+    queryFactory
+        .select(payments.salesId, payments.paymentsMethod, payments.amount.sum())
+        .from(payments)
+        .join(sales)
+        .on(payments.salesId.eq(sales.salesId))
+        .where(
+            scope,
+            payments.paymentsMethod.notIn(PaymentsMethod.PREPAID_PASS, PaymentsMethod.SESSION_PASS),
+            payments.deletedAt.isNull())
+        .groupBy(payments.salesId, payments.paymentsMethod)
+        .fetch()
+        .forEach(
+            tuple ->
+                facts.addPayment(
+                    tuple.get(payments.salesId),
+                    tuple.get(payments.paymentsMethod),
+                    tuple.get(payments.amount.sum())));
 
-    result.addAll(getSalesDetailByCategory(staffId, shopId, startDate, endDate, Category.SERVICE));
-    result.addAll(getSalesDetailByCategory(staffId, shopId, startDate, endDate, Category.PRODUCT));
+    // 선불권 공제
+    queryFactory
+        .select(payments.salesId, payments.amount.sum())
+        .from(payments)
+        .join(sales)
+        .on(payments.salesId.eq(sales.salesId))
+        .where(scope, payments.paymentsMethod.eq(PaymentsMethod.PREPAID_PASS))
+        .groupBy(payments.salesId)
+        .fetch()
+        .forEach(
+            tuple ->
+                facts.addPrepaidDeduction(
+                    tuple.get(payments.salesId), tuple.get(payments.amount.sum())));
 
-    return result;
+    // 쿠폰 공제
+    queryFactory
+        .select(itemSales.salesId, itemSales.count())
+        .from(itemSales)
+        .join(sales)
+        .on(itemSales.salesId.eq(sales.salesId))
+        .where(scope, itemSales.couponId.isNotNull())
+        .groupBy(itemSales.salesId)
+        .fetch()
+        .forEach(
+            tuple ->
+                facts.addCouponCount(tuple.get(itemSales.salesId), tuple.get(itemSales.count())));
+
+    return facts;
   }
 
   @Override
-  public int getTargetTotalSales(
-      Long shopId, Long staffId, ProductType type, LocalDate startDate, LocalDate endDate) {
-    LocalDateTime start = startDate.atStartOfDay();
-    LocalDateTime end = endDate.atTime(23, 59, 59);
+  public List<StaffItemSalesProjection> findItemSalesRows(
+      Long shopId, List<Long> staffIds, LocalDateTime startDate, LocalDateTime endDate) {
 
-    // salesId 조회
-    List<Long> salesIds;
-    boolean couponApplicable;
-    switch (type) {
-      case SERVICE -> {
-        salesIds = getSalesIdsByCategory(shopId, staffId, start, end, Category.SERVICE);
-        couponApplicable = true;
-      }
-      case PRODUCT -> {
-        salesIds = getSalesIdsByCategory(shopId, staffId, start, end, Category.PRODUCT);
-        couponApplicable = true;
-      }
-      case SESSION_PASS -> {
-        salesIds = getSessionPassSalesIds(staffId, start, end);
-        couponApplicable = false;
-      }
-      case PREPAID_PASS -> {
-        salesIds = getPrepaidPassSalesIds(staffId, start, end);
-        couponApplicable = false;
-      }
-      default -> {
-        return 0;
-      }
+    if (staffIds.isEmpty()) {
+      return List.of();
     }
 
-    if (salesIds.isEmpty()) {
-      return 0;
-    }
-
-    StaffPaymentsSalesResponse salesData =
-        buildSalesResponse(type.name(), salesIds, couponApplicable, shopId, staffId, type);
-
-    return salesData.getGrossSalesTotal();
-  }
-
-  private List<StaffPaymentsDetailSalesResponse> getSalesDetailByCategory(
-      Long staffId,
-      Long shopId,
-      LocalDateTime startDate,
-      LocalDateTime endDate,
-      Category category) {
-
     QSales sales = QSales.sales;
     QItemSales itemSales = QItemSales.itemSales;
     QPrimaryItem primary = QPrimaryItem.primaryItem;
     QSecondaryItem secondary = QSecondaryItem.secondaryItem;
 
-    List<Tuple> salesGroup =
-        queryFactory
-            .select(
+    return queryFactory
+        .select(
+            Projections.constructor(
+                StaffItemSalesProjection.class,
+                sales.staffId,
+                primary.category,
                 primary.primaryItemId,
                 primary.primaryItemName,
-                secondary.secondaryItemId,
                 secondary.secondaryItemName,
-                itemSales.salesId)
-            .from(itemSales)
-            .join(secondary)
-            .on(itemSales.secondaryItemId.eq(secondary.secondaryItemId))
-            .join(secondary.primaryItem, primary)
-            .join(sales)
-            .on(itemSales.salesId.eq(sales.salesId))
-            .where(
-                itemSales.deletedAt.isNull(),
-                secondary.deletedAt.isNull(),
-                primary.deletedAt.isNull(),
-                sales.staffId.eq(staffId),
-                sales.shopId.eq(shopId),
-                sales.salesDate.between(startDate, endDate),
-                sales.isRefunded.eq(Boolean.FALSE),
-                sales.deletedAt.isNull(),
-                primary.category.eq(category))
-            .fetch();
-
-    Map<Long, Map<String, List<Long>>> grouped = new LinkedHashMap<>();
-
-    Map<Long, String> primaryNameMap = new HashMap<>();
-    for (Tuple tuple : salesGroup) {
-      Long primaryId = tuple.get(primary.primaryItemId);
-      String primaryName = tuple.get(primary.primaryItemName);
-      String secondaryName = tuple.get(secondary.secondaryItemName);
-      Long salesId = tuple.get(itemSales.salesId);
-
-      primaryNameMap.putIfAbsent(primaryId, primaryName);
-
-      grouped
-          .computeIfAbsent(primaryId, k -> new LinkedHashMap<>())
-          .computeIfAbsent(secondaryName, k -> new ArrayList<>())
-          .add(salesId);
-    }
-
-    List<StaffPaymentsDetailSalesResponse> result = new ArrayList<>();
-
-    List<StaffPrimarySalesResponse> primaryList =
-        grouped.entrySet().stream()
-            .map(
-                primaryEntry -> {
-                  Long primaryId = primaryEntry.getKey();
-                  String primaryName = primaryNameMap.get(primaryId);
-                  List<StaffSecondarySalesResponse> secondaryList =
-                      primaryEntry.getValue().entrySet().stream()
-                          .map(
-                              secondaryEntry -> {
-                                List<Long> salesIds = secondaryEntry.getValue();
-
-                                StaffPaymentsSalesResponse saleData =
-                                    buildSalesResponse(
-                                        category.name(),
-                                        salesIds,
-                                        true,
-                                        shopId,
-                                        staffId,
-                                        ProductType.valueOf(category.name()));
-
-                                return StaffSecondarySalesResponse.builder()
-                                    .secondaryItemName(secondaryEntry.getKey())
-                                    .netSalesList(saleData.getNetSalesList())
-                                    .deductionList(saleData.getDeductionList())
-                                    .incentiveTotal(
-                                        saleData.getNetSalesList().stream()
-                                            .mapToInt(StaffNetSalesResponse::getIncentiveAmount)
-                                            .sum())
-                                    .netSalesTotal(saleData.getNetSalesTotal())
-                                    .deductionTotal(saleData.getDeductionTotal())
-                                    .grossSalesTotal(saleData.getGrossSalesTotal())
-                                    .build();
-                              })
-                          .toList();
-
-                  return StaffPrimarySalesResponse.builder()
-                      .primaryItemId(primaryEntry.getKey())
-                      .primaryItemName(primaryName)
-                      .secondaryList(secondaryList)
-                      .build();
-                })
-            .toList();
+                itemSales.salesId))
+        .from(itemSales)
+        .join(secondary)
+        .on(itemSales.secondaryItemId.eq(secondary.secondaryItemId))
+        .join(secondary.primaryItem, primary)
+        .join(sales)
+        .on(itemSales.salesId.eq(sales.salesId))
+        .where(
+            itemSales.deletedAt.isNull(),
+            secondary.deletedAt.isNull(),
+            primary.deletedAt.isNull(),
+            primary.category.in(Category.SERVICE, Category.PRODUCT),
+            salesScope(shopId, staffIds, startDate, endDate))
+        .orderBy(primary.primaryItemId.asc(), secondary.secondaryItemId.asc())
+        .fetch();
+  }
 
-    result.add(
-        StaffPaymentsDetailSalesResponse.builder()
-            .category(category.name())
-            .primaryList(primaryList)
-            .build());
+  private BooleanExpression salesScope(
+      Long shopId, List<Long> staffIds, LocalDateTime startDate, LocalDateTime endDate) {
+    QSales sales = QSales.sales;
 
-    return result;
+    return sales
+        .shopId
+        .eq(shopId)
+        .and(sales.staffId.in(staffIds))
+        .and(sales.salesDate.between(startDate, endDate))
+        .and(sales.deletedAt.isNull())
+        .and(sales.isRefunded.eq(Boolean.FALSE));
   }
 }
@@ -1,14 +1,17 @@
 package com.deveagles.be15_deveagles_be.features.staffsales.query.service.impl;
 
-import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.SearchMode;
 import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.SalesTarget;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.request.GetStaffSalesListRequest;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.SalesTargetQueryRepository;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.StaffSalesQueryRepository;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.service.StaffSalesQueryService;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.IncentiveRateTable;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.SalesCalculator;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.StaffSalesAggregator;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.StaffSalesFacts;
 import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.Staff;
 import com.deveagles.be15_deveagles_be.features.users.command.repository.UserRepository;
 import java.time.LocalDate;
@@ -16,6 +19,8 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -40,95 +45,23 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
     // 2. 재직 중인 직원 리스트 조회
     List<Staff> staffList = userRepository.findByShopIdAndLeftDateIsNull(shopId);
 
-    // 3. 직원별 매출 데이터 생성
+    // 3. 매출/인센티브율을 한 번에 읽어 직원별 매출 데이터 생성
+    StaffSalesAggregator aggregator =
+        loadAggregator(shopId, staffIds(staffList), startDate, endDate);
+
     List<StaffSalesListResponse> result =
         staffList.stream()
             .map(
-                staff -> {
-                  List<StaffPaymentsSalesResponse> paymentsSalesList =
-                      staffSalesQueryRepository
-                          .getSalesByStaff(false, shopId, staff.getStaffId(), startDate, endDate)
-                          .stream()
-                          .map(
-                              response -> {
-
-                                // 인센티브율 맵 조회
-                                ProductType type = ProductType.valueOf(response.getCategory());
-                                Map<PaymentsMethod, Integer> incentiveRateMap =
-                                    salesCalculator.getEffectiveIncentiveRates(
-                                        shopId, staff.getStaffId(), type);
-
-                                // 실매출 리스트 계산 (PREPAID 제외)
-                                List<StaffNetSalesResponse> netSalesList =
-                                    response.getNetSalesList().stream()
-                                        .filter(
-                                            net ->
-                                                net.getPaymentsMethod()
-                                                    != PaymentsMethod.PREPAID_PASS)
-                                        .map(
-                                            net -> {
-                                              int amount =
-                                                  Optional.ofNullable(net.getAmount()).orElse(0);
-                                              int rate =
-                                                  incentiveRateMap.getOrDefault(
-                                                      net.getPaymentsMethod(), 0);
-                                              int incentiveAmount =
-                                                  (int) Math.floor(amount * (rate / 100.0));
-                                              return StaffNetSalesResponse.builder()
-                                                  .paymentsMethod(net.getPaymentsMethod())
-                                                  .amount(amount)
-                                                  .incentiveAmount(incentiveAmount)
-                                                  .build();
-                                            })
-                                        .toList();
-
-                                // 총 인센티브 합계
-                                int incentiveTotal =
-                                    netSalesList.stream()
-                                        .mapToInt(
-                                            net ->
-                                                Optional.ofNullable(net.getIncentiveAmount())
-                                                    .orElse(0))
-                                        .sum();
-
-                                // 총영업액 = 결제 금액 총합
-                                int grossSalesTotal =
-                                    netSalesList.stream()
-                                        .mapToInt(
-                                            net -> Optional.ofNullable(net.getAmount()).orElse(0))
-                                        .sum();
-
-                                // 공제액 계산
-                                int deductionTotal =
-                                    response.getDeductionList().stream()
-                                        .mapToInt(d -> Optional.ofNullable(d.getAmount()).orElse(0))
-                                        .sum();
-
-                                // 실매출 = 총영업액 - 공제액
-                                int netSalesTotal = grossSalesTotal - deductionTotal;
-
-                                return StaffPaymentsSalesResponse.builder()
-                                    .category(response.getCategory())
-                                    .netSalesList(netSalesList)
-                                    .deductionList(response.getDeductionList())
-                                    .incentiveTotal(incentiveTotal)
-                                    .grossSalesTotal(grossSalesTotal)
-                                    .deductionTotal(deductionTotal)
-                                    .netSalesTotal(netSalesTotal)
-                                    .build();
-                              })
-                          .toList();
-
-                  return StaffSalesListResponse.builder()
-                      .staffId(staff.getStaffId())
-                      .staffName(staff.getStaffName())
-                      .paymentsSalesList(paymentsSalesList)
-                      .build();
-                })
+                staff ->
+                    StaffSalesListResponse.builder()
+                        .staffId(staff.getStaffId())
+                        .staffName(staff.getStaffName())
+                        .paymentsSalesList(aggregator.getSalesByStaff(false, staff.getStaffId()))
+                        .build())
             .toList();
 
     // 4. 전체 요약 계산
-    StaffSalesSummaryResponse summary = salesCalculator.calculateSummary(shopId, result);
+    StaffSalesSummaryResponse summary = salesCalculator.calculateSummary(result);
 
     return StaffSalesListResult.builder().staffSalesList(result).totalSummary(summary).build();
   }
@@ -144,18 +77,24 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
     // 2. 직원 리스트 조회
     List<Staff> staffList = userRepository.findByShopIdAndLeftDateIsNull(shopId);
 
-    // 3. 직원별 매출 데이터 조회
+    // 3. 매출/품목 매출을 한 번에 읽어 직원별 매출 데이터 생성
+    List<Long> staffIds = staffIds(staffList);
+    StaffSalesAggregator aggregator = loadAggregator(shopId, staffIds, startDate, endDate);
+    Map<Long, List<StaffItemSalesProjection>> itemSalesByStaff =
+        staffSalesQueryRepository.findItemSalesRows(shopId, staffIds, startDate, endDate).stream()
+            .collect(Collectors.groupingBy(StaffItemSalesProjection::getStaffId));
+
     List<StaffDetailSalesListResponse> result =
         staffList.stream()
             .map(
                 staff -> {
                   List<StaffPaymentsDetailSalesResponse> detailSales =
-                      staffSalesQueryRepository.getDetailSalesByStaff(
-                          staff.getStaffId(), shopId, startDate, endDate);
+                      aggregator.getDetailSales(
+                          staff.getStaffId(),
+                          itemSalesByStaff.getOrDefault(staff.getStaffId(), List.of()));
 
                   List<StaffPaymentsSalesResponse> sales =
-                      staffSalesQueryRepository.getSalesByStaff(
-                          true, shopId, staff.getStaffId(), startDate, endDate);
+                      aggregator.getSalesByStaff(true, staff.getStaffId());
 
                   // 직원 요약 정보
                   StaffSalesSummaryResponse summary =
@@ -194,12 +133,21 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
             ? request.endDate()
             : YearMonth.from(request.startDate()).atEndOfMonth();
 
-    if (!hasAnyTargetForShop(shopId, startDate, endDate)) {
+    // 기간 내 목표(개별/일괄)를 한 번에 조회
+    List<YearMonth> months = getYearMonthsBetween(startDate, endDate);
+    List<SalesTarget> targets = salesTargetQueryRepository.findTargetsInMonths(shopId, months);
+    if (targets.isEmpty()) {
       return null;
     }
 
     List<Staff> staffList = userRepository.findAllByShopId(shopId);
 
+    // 실적은 총영업액 기준이므로 인센티브율은 읽지 않음
+    StaffSalesFacts facts =
+        staffSalesQueryRepository.findSalesFacts(
+            shopId, staffIds(staffList), startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
+    StaffSalesAggregator aggregator = new StaffSalesAggregator(facts, IncentiveRateTable.empty());
+
     List<StaffSalesTargetResponse> staffResponse =
         staffList.stream()
             .map(
@@ -209,9 +157,25 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
                   List<StaffProductTargetSalesResponse> targetList =
                       List.of(
                           buildCombinedTargetResponse(
-                              shopId, staffId, true, "상품", startDate, endDate, request),
+                              aggregator,
+                              targets,
+                              staffId,
+                              true,
+                              "상품",
+                              months,
+                              startDate,
+                              endDate,
+                              request),
                           buildCombinedTargetResponse(
-                              shopId, staffId, false, "회원권", startDate, endDate, request));
+                              aggregator,
+                              targets,
+                              staffId,
+                              false,
+                              "회원권",
+                              months,
+                              startDate,
+                              endDate,
+                              request));
 
                   int totalTarget =
                       targetList.stream()
@@ -239,15 +203,16 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
   }
 
   private StaffProductTargetSalesResponse buildCombinedTargetResponse(
-      Long shopId,
+      StaffSalesAggregator aggregator,
+      List<SalesTarget> targets,
       Long staffId,
       boolean isItems,
       String label,
+      List<YearMonth> months,
       LocalDate startDate,
       LocalDate endDate,
       GetStaffSalesListRequest request) {
 
-    List<YearMonth> months = getYearMonthsBetween(startDate, endDate);
     int totalAdjustedTarget = 0;
 
     for (YearMonth ym : months) {
@@ -258,9 +223,7 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
       LocalDate overlapEnd = endDate.isBefore(monthEnd) ? endDate : monthEnd;
       int includedDays = (int) ChronoUnit.DAYS.between(overlapStart, overlapEnd) + 1;
 
-      int monthlyTarget =
-          salesTargetQueryRepository.findTargetAmountByItemsOrMembership(
-              shopId, staffId, isItems, ym);
+      int monthlyTarget = findMonthlyTarget(targets, staffId, isItems, ym);
 
       int adjustedTarget =
           salesCalculator.calculateAdjustedTarget(
@@ -272,11 +235,8 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
     ProductType type1 = isItems ? ProductType.SERVICE : ProductType.SESSION_PASS;
     ProductType type2 = isItems ? ProductType.PRODUCT : ProductType.PREPAID_PASS;
 
-    int actualSales1 =
-        staffSalesQueryRepository.getTargetTotalSales(shopId, staffId, type1, startDate, endDate);
-    int actualSales2 =
-        staffSalesQueryRepository.getTargetTotalSales(shopId, staffId, type2, startDate, endDate);
-    int totalActualSales = actualSales1 + actualSales2;
+    int totalActualSales =
+        aggregator.getGrossSales(staffId, type1) + aggregator.getGrossSales(staffId, type2);
 
     double achievement =
         salesCalculator.calculateAchievementRate(totalActualSales, totalAdjustedTarget);
@@ -289,6 +249,40 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
         .build();
   }
 
+  // 직원 개별 목표가 없으면 매장 일괄 목표 적용
+  private int findMonthlyTarget(
+      List<SalesTarget> targets, Long staffId, boolean isItems, YearMonth ym) {
+    Predicate<SalesTarget> sameMonthAndType =
+        target ->
+            target.getTargetYear() == ym.getYear()
+                && target.getTargetMonth() == ym.getMonthValue()
+                && (isItems ? target.isItems() : target.isMembership());
+
+    return targets.stream()
+        .filter(sameMonthAndType)
+        .filter(target -> staffId.equals(target.getStaffId()))
+        .findFirst()
+        .or(
+            () ->
+                targets.stream()
+                    .filter(sameMonthAndType)
+                    .filter(target -> target.getStaffId() == null && target.isApplyStatus())
+                    .findFirst())
+        .map(SalesTarget::getSales)
+        .orElse(0);
+  }
+
+  private StaffSalesAggregator loadAggregator(
+      Long shopId, List<Long> staffIds, LocalDateTime startDate, LocalDateTime endDate) {
+    StaffSalesFacts facts =
+        staffSalesQueryRepository.findSalesFacts(shopId, staffIds, startDate, endDate);
+    return new StaffSalesAggregator(facts, salesCalculator.loadIncentiveRateTable(shopId));
+  }
+
+  private List<Long> staffIds(List<Staff> staffList) {
+    return staffList.stream().map(Staff::getStaffId).toList();
+  }
+
   private List<YearMonth> getYearMonthsBetween(LocalDate startDate, LocalDate endDate) {
     List<YearMonth> months = new ArrayList<>();
     YearMonth current = YearMonth.from(startDate);
@@ -325,22 +319,4 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
   private int getPeriodDays(LocalDate start, LocalDate end) {
     return (int) ChronoUnit.DAYS.between(start, end) + 1;
   }
-
-  private boolean hasAnyTargetForShop(Long shopId, LocalDate startDate, LocalDate endDate) {
-    List<YearMonth> yearMonthList = getYearMonthsInRange(startDate, endDate);
-    return salesTargetQueryRepository.existsTargetForShopInMonths(shopId, yearMonthList);
-  }
-
-  private List<YearMonth> getYearMonthsInRange(LocalDate startDate, LocalDate endDate) {
-    List<YearMonth> result = new ArrayList<>();
-    YearMonth start = YearMonth.from(startDate);
-    YearMonth end = YearMonth.from(endDate);
-
-    while (!start.isAfter(end)) {
-      result.add(start);
-      start = start.plusMonths(1);
-    }
-
-    return result;
-  }
 }
@@ -0,0 +1,53 @@
+package com.deveagles.be15_deveagles_be.features.staffsales.query.service.support;
+
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.Incentive;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 매장의 활성 인센티브율. 한 번 읽어 두고 직원/분류/결제 수단별 적용 비율을 메모리에서 찾는다. */
+public class IncentiveRateTable {
+
+  private static final IncentiveRateTable EMPTY = new IncentiveRateTable();
+
+  // 공통 설정: 분류 -> 결제 수단 -> 비율
+  private final Map<ProductType, Map<PaymentsMethod, Integer>> commonRates =
+      new EnumMap<>(ProductType.class);
+  // 직원별 설정: 직원 ID -> 분류 -> 결제 수단 -> 비율
+  private final Map<Long, Map<ProductType, Map<PaymentsMethod, Integer>>> staffRates =
+      new HashMap<>();
+
+  private IncentiveRateTable() {}
+
+  public static IncentiveRateTable of(List<Incentive> incentives) {
+    IncentiveRateTable table = new IncentiveRateTable();
+    for (Incentive incentive : incentives) {
+      Map<ProductType, Map<PaymentsMethod, Integer>> target =
+          incentive.getStaffId() == null
+              ? table.commonRates
+              : table.staffRates.computeIfAbsent(
+                  incentive.getStaffId(), id -> new EnumMap<>(ProductType.class));
+      target
+          .computeIfAbsent(incentive.getType(), type -> new EnumMap<>(PaymentsMethod.class))
+          .put(incentive.getPaymentsMethod(), incentive.getIncentive());
+    }
+    return table;
+  }
+
+  public static IncentiveRateTable empty() {
+    return EMPTY;
+  }
+
+  /** 직원별 설정이 있으면 우선 적용하고, 없으면 공통 설정을 적용한다. */
+  public int rateOf(Long staffId, ProductType type, PaymentsMethod method) {
+    Integer staffRate =
+        staffRates.getOrDefault(staffId, Map.of()).getOrDefault(type, Map.of()).get(method);
+    if (staffRate != null) {
+      return staffRate;
+    }
+    return commonRates.getOrDefault(type, Map.of()).getOrDefault(method, 0);
+  }
+}
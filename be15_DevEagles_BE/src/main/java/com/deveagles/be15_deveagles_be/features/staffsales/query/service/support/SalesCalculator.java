@@ -2,15 +2,11 @@ package com.deveagles.be15_deveagles_be.features.staffsales.query.service.suppor
 
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.SearchMode;
-import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.Incentive;
-import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
 import com.deveagles.be15_deveagles_be.features.staffsales.command.repository.IncentiveRepository;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -21,8 +17,12 @@ public class SalesCalculator {
 
   private final IncentiveRepository incentiveRepository;
 
-  public StaffSalesSummaryResponse calculateSummary(
-      Long shopId, List<StaffSalesListResponse> staffSalesList) {
+  /** 매장의 활성 인센티브율을 한 번에 읽는다. 매장 인센티브가 꺼져 있으면 비어 있다. */
+  public IncentiveRateTable loadIncentiveRateTable(Long shopId) {
+    return IncentiveRateTable.of(incentiveRepository.findActiveIncentivesByShopId(shopId));
+  }
+
+  public StaffSalesSummaryResponse calculateSummary(List<StaffSalesListResponse> staffSalesList) {
 
     int totalGrossSales = 0;
     int totalNetSales = 0;
@@ -33,11 +33,7 @@ public class SalesCalculator {
     int totalIncentiveAmount = 0;
 
     for (StaffSalesListResponse staff : staffSalesList) {
-      Long staffId = staff.getStaffId();
-
       for (StaffPaymentsSalesResponse payment : staff.getPaymentsSalesList()) {
-        ProductType type = ProductType.valueOf(payment.getCategory());
-
         // 총영업액 / 실매출 / 공제 합산
         totalGrossSales += payment.getGrossSalesTotal();
         totalNetSales += payment.getNetSalesTotal();
@@ -53,8 +49,7 @@ public class SalesCalculator {
         }
 
         // 인센티브 합산
-        int incentive = calculateTotalIncentive(shopId, staffId, type, payment.getNetSalesList());
-        totalIncentiveAmount += incentive;
+        totalIncentiveAmount += payment.getIncentiveTotal();
       }
     }
 
@@ -97,23 +92,6 @@ public class SalesCalculator {
         .build();
   }
 
-  // 인센티브 계산
-  public int calculateTotalIncentive(
-      Long shopId, Long staffId, ProductType type, List<StaffNetSalesResponse> netSalesList) {
-
-    Map<PaymentsMethod, Integer> rateMap = getEffectiveIncentiveRates(shopId, staffId, type);
-
-    return netSalesList.stream()
-        .mapToInt(
-            net -> {
-              PaymentsMethod method = net.getPaymentsMethod();
-              int amount = Optional.ofNullable(net.getAmount()).orElse(0);
-              int rate = rateMap.getOrDefault(method, 0);
-              return calculateIncentive(amount, rate);
-            })
-        .sum();
-  }
-
   public int calculateIncentive(int amount, int rate) {
     return BigDecimal.valueOf(amount)
         .multiply(BigDecimal.valueOf(rate))
@@ -121,27 +99,6 @@ public class SalesCalculator {
         .intValue();
   }
 
-  public Map<PaymentsMethod, Integer> getEffectiveIncentiveRates(
-      Long shopId, Long staffId, ProductType type) {
-
-    List<Incentive> incentives =
-        incentiveRepository.findActiveIncentivesByShopIdAndType(shopId, type, staffId);
-
-    Map<PaymentsMethod, Integer> rateMap = new EnumMap<>(PaymentsMethod.class);
-
-    incentives.stream()
-        .filter(incentive -> incentive.getStaffId() == null)
-        .forEach(incentive -> rateMap.put(incentive.getPaymentsMethod(), incentive.getIncentive()));
-
-    if (staffId != null) {
-      incentives.stream()
-          .filter(incentive -> staffId.equals(incentive.getStaffId()))
-          .forEach(
-              incentive -> rateMap.put(incentive.getPaymentsMethod(), incentive.getIncentive()));
-    }
-    return rateMap;
-  }
-
   public int calculateAdjustedTarget(
       SearchMode mode, int monthlyTarget, int monthDays, int periodDays) {
     if (mode == SearchMode.MONTH) {
@@ -0,0 +1,176 @@
+package com.deveagles.be15_deveagles_be.features.staffsales.query.service.support;
+
+import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.Category;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.StaffSalesFacts.SaleFact;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link StaffSalesFacts} 와 매장 인센티브율로 직원 매출 응답을 조립한다.
+ *
+ * <p>직원 수나 분류 수와 관계없이 추가 조회 없이 메모리에서만 계산한다.
+ */
+@RequiredArgsConstructor
+public class StaffSalesAggregator {
+
+  private final StaffSalesFacts facts;
+  private final IncentiveRateTable rates;
+
+  /**
+   * 직원의 분류별 매출.
+   *
+   * @param isDetail 상세 화면 여부. 상세 화면은 시술/상품을 품목별로 따로 보여주므로 회원권만 반환한다.
+   */
+  public List<StaffPaymentsSalesResponse> getSalesByStaff(boolean isDetail, Long staffId) {
+    List<StaffPaymentsSalesResponse> result = new ArrayList<>();
+
+    if (!isDetail) {
+      result.add(summarize(staffId, ProductType.SERVICE));
+      result.add(summarize(staffId, ProductType.PRODUCT));
+    }
+    result.add(summarize(staffId, ProductType.SESSION_PASS));
+    result.add(summarize(staffId, ProductType.PREPAID_PASS));
+
+    return result;
+  }
+
+  /** 목표 매출 대비 실적에 쓰이는 분류별 총영업액 */
+  public int getGrossSales(Long staffId, ProductType type) {
+    return summarize(staffId, type).getGrossSalesTotal();
+  }
+
+  /** 직원의 시술/상품 매출을 1차 → 2차 품목별로 묶는다. */
+  public List<StaffPaymentsDetailSalesResponse> getDetailSales(
+      Long staffId, List<StaffItemSalesProjection> itemSalesRows) {
+
+    List<StaffPaymentsDetailSalesResponse> result = new ArrayList<>();
+    for (Category category : List.of(Category.SERVICE, Category.PRODUCT)) {
+      ProductType type = ProductType.valueOf(category.name());
+
+      // 1차 품목 -> 2차 품목명 -> 매출 ID
+      Map<Long, Map<String, Set<Long>>> grouped = new LinkedHashMap<>();
+      Map<Long, String> primaryNameMap = new HashMap<>();
+      for (StaffItemSalesProjection row : itemSalesRows) {
+        if (row.getCategory() != category) {
+          continue;
+        }
+        primaryNameMap.putIfAbsent(row.getPrimaryItemId(), row.getPrimaryItemName());
+        grouped
+            .computeIfAbsent(row.getPrimaryItemId(), k -> new LinkedHashMap<>())
+            .computeIfAbsent(row.getSecondaryItemName(), k -> new LinkedHashSet<>())
+            .add(row.getSalesId());
+      }
+
+      List<StaffPrimarySalesResponse> primaryList =
+          grouped.entrySet().stream()
+              .map(
+                  primaryEntry ->
+                      StaffPrimarySalesResponse.builder()
+                          .primaryItemId(primaryEntry.getKey())
+                          .primaryItemName(primaryNameMap.get(primaryEntry.getKey()))
+                          .secondaryList(
+                              primaryEntry.getValue().entrySet().stream()
+                                  .map(
+                                      secondaryEntry ->
+                                          toSecondary(
+                                              secondaryEntry.getKey(),
+                                              summarize(
+                                                  staffId, type, secondaryEntry.getValue())))
+                                  .toList())
+                          .build())
+              .toList();
+
+      result.add(
+          StaffPaymentsDetailSalesResponse.builder()
+              .category(category.name())
+              .primaryList(primaryList)
+              .build());
+    }
+    return result;
+  }
+
+  private StaffPaymentsSalesResponse summarize(Long staffId, ProductType type) {
+    return summarize(staffId, type, facts.getSalesIds(staffId, type));
+  }
+
+  private StaffPaymentsSalesResponse summarize(
+      Long staffId, ProductType type, Collection<Long> salesIds) {
+
+    // 쿠폰 공제는 시술/상품에만 적용
+    boolean couponApplicable = type == ProductType.SERVICE || type == ProductType.PRODUCT;
+
+    Map<PaymentsMethod, Integer> amountMap = new EnumMap<>(PaymentsMethod.class);
+    int discountSum = 0;
+    int couponSum = 0;
+    int prepaidSum = 0;
+    for (Long salesId : salesIds) {
+      SaleFact sale = facts.getSale(salesId);
+      if (sale == null) {
+        continue;
+      }
+      sale.getPayments().forEach((method, amount) -> amountMap.merge(method, amount, Integer::sum));
+      discountSum += sale.getDiscountAmount();
+      prepaidSum += sale.getPrepaidAmount();
+      if (couponApplicable) {
+        couponSum += sale.getCouponCount();
+      }
+    }
+
+    // 결제 수단별 실매출
+    List<StaffNetSalesResponse> netSalesList =
+        amountMap.entrySet().stream()
+            .map(
+                entry -> {
+                  int amount = entry.getValue();
+                  int rate = rates.rateOf(staffId, type, entry.getKey());
+                  return StaffNetSalesResponse.builder()
+                      .paymentsMethod(entry.getKey())
+                      .amount(amount)
+                      .incentiveAmount((int) Math.floor((long) amount * rate / 100.0))
+                      .build();
+                })
+            .toList();
+
+    // 공제 항목 리스트
+    List<StaffSalesDeductionsResponse> deductionList =
+        List.of(
+            deduction("DISCOUNT", discountSum),
+            deduction("COUPON", couponSum),
+            deduction("PREPAID", prepaidSum));
+
+    int grossSalesTotal = netSalesList.stream().mapToInt(StaffNetSalesResponse::getAmount).sum();
+    int deductionTotal = discountSum + couponSum + prepaidSum;
+    int incentiveTotal =
+        netSalesList.stream().mapToInt(StaffNetSalesResponse::getIncentiveAmount).sum();
+
+    return StaffPaymentsSalesResponse.builder()
+        .category(type.name())
+        .netSalesList(netSalesList)
+        .deductionList(deductionList)
+        .grossSalesTotal(grossSalesTotal)
+        .deductionTotal(deductionTotal)
+        .netSalesTotal(grossSalesTotal - deductionTotal)
+        .incentiveTotal(incentiveTotal)
+        .build();
+  }
+
+  private StaffSalesDeductionsResponse deduction(String deduction, int amount) {
+    return StaffSalesDeductionsResponse.builder().deduction(deduction).amount(amount).build();
+  }
+
+  private StaffSecondarySalesResponse toSecondary(
+      String secondaryItemName, StaffPaymentsSalesResponse saleData) {
+    return StaffSecondarySalesResponse.builder()
+        .secondaryItemName(secondaryItemName)
+        .netSalesList(saleData.getNetSalesList())
+        .deductionList(saleData.getDeductionList())
+        .incentiveTotal(saleData.getIncentiveTotal())
+        .netSalesTotal(saleData.getNetSalesTotal())
+        .deductionTotal(saleData.getDeductionTotal())
+        .grossSalesTotal(saleData.getGrossSalesTotal())
+        .build();
+  }
+}
@@ -0,0 +1,72 @@
+package com.deveagles.be15_deveagles_be.features.staffsales.query.service.support;
+
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 조회 기간 동안 직원 매출의 매출 건별 집계값.
+ *
+ * <p>리포트마다 고정된 횟수의 그룹 쿼리로 채워지며, 화면별 응답은 {@link StaffSalesAggregator} 가 메모리에서 조립한다.
+ */
+public class StaffSalesFacts {
+
+  // 매출 ID -> 건별 집계
+  private final Map<Long, SaleFact> sales = new HashMap<>();
+  // 직원 ID -> 분류 -> 매출 ID
+  private final Map<Long, Map<ProductType, Set<Long>>> salesIdsByStaff = new HashMap<>();
+
+  public void addSale(Long salesId, Long staffId, ProductType type, Integer discountAmount) {
+    fact(salesId).discountAmount = discountAmount != null ? discountAmount : 0;
+    salesIdsByStaff
+        .computeIfAbsent(staffId, id -> new EnumMap<>(ProductType.class))
+        .computeIfAbsent(type, t -> new LinkedHashSet<>())
+        .add(salesId);
+  }
+
+  public void addPayment(Long salesId, PaymentsMethod method, Integer amount) {
+    if (amount != null) {
+      fact(salesId).payments.merge(method, amount, Integer::sum);
+    }
+  }
+
+  public void addPrepaidDeduction(Long salesId, Integer amount) {
+    if (amount != null) {
+      fact(salesId).prepaidAmount += amount;
+    }
+  }
+
+  public void addCouponCount(Long salesId, Long count) {
+    if (count != null) {
+      fact(salesId).couponCount += count.intValue();
+    }
+  }
+
+  public Set<Long> getSalesIds(Long staffId, ProductType type) {
+    return salesIdsByStaff
+        .getOrDefault(staffId, Collections.emptyMap())
+        .getOrDefault(type, Set.of());
+  }
+
+  public SaleFact getSale(Long salesId) {
+    return sales.get(salesId);
+  }
+
+  private SaleFact fact(Long salesId) {
+    return sales.computeIfAbsent(salesId, id -> new SaleFact());
+  }
+
+  @Getter
+  public static class SaleFact {
+    private final Map<PaymentsMethod, Integer> payments = new EnumMap<>(PaymentsMethod.class);
+    private int discountAmount;
+    private int couponCount;
+    private int prepaidAmount;
+  }
+}
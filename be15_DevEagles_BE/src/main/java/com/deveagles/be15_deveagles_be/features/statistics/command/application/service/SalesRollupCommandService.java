@@ -0,0 +1,13 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.application.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface SalesRollupCommandService {
+
+  /** 매출 등록 · 수정 · 환불 시 해당 매장의 영업일을 커밋 후 재집계 대상으로 등록한다. */
+  void refresh(Long shopId, LocalDateTime salesDate);
+
+  /** 기간 전체 집계를 원본 매출 테이블로부터 재생성한다. (초기 적재 및 보정용) */
+  void rebuild(Long shopId, LocalDate fromDay, LocalDate toDay);
+}
@@ -0,0 +1,133 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.application.service.impl;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailyCategorySalesRollup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailyPrimaryItemSalesRollup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailyCategorySalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailyItemSalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailyItemSalesRollupRepository.SalesItemGroup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailyPrimaryItemSalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailySalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.infrastructure.rollup.SalesRollupDirtyDays;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupCommandServiceImpl implements SalesRollupCommandService {
+
+  private final DailySalesRollupRepository dailySalesRollupRepository;
+  private final DailyItemSalesRollupRepository dailyItemSalesRollupRepository;
+  private final DailyPrimaryItemSalesRollupRepository dailyPrimaryItemSalesRollupRepository;
+  private final DailyCategorySalesRollupRepository dailyCategorySalesRollupRepository;
+  private final SalesRollupDirtyDays salesRollupDirtyDays;
+
+  @Override
+  public void refresh(Long shopId, LocalDateTime salesDate) {
+    if (shopId == null || salesDate == null) {
+      return;
+    }
+    LocalDate salesDay = salesDate.toLocalDate();
+
+    // 매출 트랜잭션 안에서 집계 행을 잠그지 않도록 커밋 뒤 재집계 대상으로만 등록한다
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              salesRollupDirtyDays.mark(shopId, salesDay);
+            }
+          });
+    } else {
+      salesRollupDirtyDays.mark(shopId, salesDay);
+    }
+  }
+
+  @Override
+  @Transactional
+  public void rebuild(Long shopId, LocalDate fromDay, LocalDate toDay) {
+    // 매장-일자 단위로 삭제 후 재집계하므로 환불 · 수정 · 소급 등록 모두 같은 경로로 반영된다.
+    dailySalesRollupRepository.deleteByShopIdAndSalesDayBetween(shopId, fromDay, toDay);
+    dailyItemSalesRollupRepository.deleteByShopIdAndSalesDayBetween(shopId, fromDay, toDay);
+    dailyPrimaryItemSalesRollupRepository.deleteByShopIdAndSalesDayBetween(shopId, fromDay, toDay);
+    dailyCategorySalesRollupRepository.deleteByShopIdAndSalesDayBetween(shopId, fromDay, toDay);
+
+    int salesRows =
+        dailySalesRollupRepository.insertAggregatedFromSales(
+            shopId, fromDay.atStartOfDay(), toDay.plusDays(1).atStartOfDay());
+    int itemRows =
+        dailyItemSalesRollupRepository.insertAggregatedFromSales(
+            shopId, fromDay.atStartOfDay(), toDay.plusDays(1).atStartOfDay());
+    for (LocalDate day = fromDay; !day.isAfter(toDay); day = day.plusDays(1)) {
+      rebuildGroupCounts(shopId, day);
+    }
+
+    log.debug(
+        "매출 집계 갱신 - shopId: {}, 기간: {} ~ {}, sales rows: {}, item rows: {}",
+        shopId,
+        fromDay,
+        toDay,
+        salesRows,
+        itemRows);
+  }
+
+  // 2차 상품별 건수를 더하면 여러 상품을 담은 매출이 중복되므로, 1차 상품 · 카테고리 단위 건수는 매출 ID 를 모아 따로 센다
+  private void rebuildGroupCounts(Long shopId, LocalDate day) {
+    List<SalesItemGroup> groups =
+        dailyItemSalesRollupRepository.findSalesItemGroups(
+            shopId, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    if (groups.isEmpty()) {
+      return;
+    }
+
+    Map<List<Object>, Set<Long>> salesByPrimaryItem = new HashMap<>();
+    Map<List<Object>, Set<Long>> salesByCategory = new HashMap<>();
+    for (SalesItemGroup group : groups) {
+      salesByPrimaryItem
+          .computeIfAbsent(
+              List.of(group.getPrimaryItemId(), group.getGender()), k -> new HashSet<>())
+          .add(group.getSalesId());
+      salesByCategory
+          .computeIfAbsent(List.of(group.getCategory(), group.getGender()), k -> new HashSet<>())
+          .add(group.getSalesId());
+    }
+
+    List<DailyPrimaryItemSalesRollup> primaryItemRows = new ArrayList<>();
+    salesByPrimaryItem.forEach(
+        (key, salesIds) ->
+            primaryItemRows.add(
+                DailyPrimaryItemSalesRollup.builder()
+                    .shopId(shopId)
+                    .salesDay(day)
+                    .primaryItemId((Long) key.get(0))
+                    .gender((String) key.get(1))
+                    .transactionCount((long) salesIds.size())
+                    .build()));
+    List<DailyCategorySalesRollup> categoryRows = new ArrayList<>();
+    salesByCategory.forEach(
+        (key, salesIds) ->
+            categoryRows.add(
+                DailyCategorySalesRollup.builder()
+                    .shopId(shopId)
+                    .salesDay(day)
+                    .category((String) key.get(0))
+                    .gender((String) key.get(1))
+                    .transactionCount((long) salesIds.size())
+                    .build()));
+    dailyPrimaryItemSalesRollupRepository.saveAll(primaryItemRows);
+    dailyCategorySalesRollupRepository.saveAll(categoryRows);
+  }
+}
@@ -0,0 +1,75 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장 · 일자 · 카테고리 · 고객 성별 단위 거래 건수 집계 (환불 제외)
+ *
+ * <p>한 매출에 같은 카테고리의 상품이 여럿 있어도 한 건으로 센다. 카테고리 단위 통계의 거래 건수는 여기서 읽는다.
+ */
+@Entity
+@Table(name = "daily_category_sales_rollup")
+@IdClass(DailyCategorySalesRollup.DailyCategorySalesRollupId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyCategorySalesRollup {
+
+  @Id
+  @Column(name = "shop_id")
+  private Long shopId;
+
+  @Id
+  @Column(name = "sales_day")
+  private LocalDate salesDay;
+
+  @Id
+  @Column(name = "category", length = 20)
+  private String category;
+
+  @Id
+  @Column(name = "gender", length = 7)
+  private String gender;
+
+  @Column(name = "transaction_count", nullable = false)
+  private Long transactionCount;
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DailyCategorySalesRollupId implements Serializable {
+    private Long shopId;
+    private LocalDate salesDay;
+    private String category;
+    private String gender;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      DailyCategorySalesRollupId that = (DailyCategorySalesRollupId) o;
+      return Objects.equals(shopId, that.shopId)
+          && Objects.equals(salesDay, that.salesDay)
+          && Objects.equals(category, that.category)
+          && Objects.equals(gender, that.gender);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(shopId, salesDay, category, gender);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 매장 · 일자 · 2차 상품 · 고객 성별 단위 상품 매출 집계 (item_sales 기준, 환불 제외) */
+@Entity
+@Table(name = "daily_item_sales_rollup")
+@IdClass(DailyItemSalesRollup.DailyItemSalesRollupId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyItemSalesRollup {
+
+  @Id
+  @Column(name = "shop_id")
+  private Long shopId;
+
+  @Id
+  @Column(name = "sales_day")
+  private LocalDate salesDay;
+
+  @Id
+  @Column(name = "secondary_item_id")
+  private Long secondaryItemId;
+
+  @Id
+  @Column(name = "gender", length = 7)
+  private String gender;
+
+  @Column(name = "sales_amount", nullable = false)
+  private Long salesAmount;
+
+  @Column(name = "discount_amount", nullable = false)
+  private Long discountAmount;
+
+  @Column(name = "coupon_discount_amount", nullable = false)
+  private Long couponDiscountAmount;
+
+  @Column(name = "transaction_count", nullable = false)
+  private Long transactionCount;
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DailyItemSalesRollupId implements Serializable {
+    private Long shopId;
+    private LocalDate salesDay;
+    private Long secondaryItemId;
+    private String gender;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      DailyItemSalesRollupId that = (DailyItemSalesRollupId) o;
+      return Objects.equals(shopId, that.shopId)
+          && Objects.equals(salesDay, that.salesDay)
+          && Objects.equals(secondaryItemId, that.secondaryItemId)
+          && Objects.equals(gender, that.gender);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(shopId, salesDay, secondaryItemId, gender);
+    }
+  }
+}
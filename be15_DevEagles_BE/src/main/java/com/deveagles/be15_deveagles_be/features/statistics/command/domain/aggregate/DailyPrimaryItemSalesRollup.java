@@ -0,0 +1,76 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장 · 일자 · 1차 상품 · 고객 성별 단위 거래 건수 집계 (환불 제외)
+ *
+ * <p>한 매출에 같은 1차 상품의 2차 상품이 여럿 있어도 한 건으로 센다. 2차 상품 집계의 건수를 더하면 중복되므로 1차 상품 단위 통계의 거래 건수는 여기서
+ * 읽는다.
+ */
+@Entity
+@Table(name = "daily_primary_item_sales_rollup")
+@IdClass(DailyPrimaryItemSalesRollup.DailyPrimaryItemSalesRollupId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyPrimaryItemSalesRollup {
+
+  @Id
+  @Column(name = "shop_id")
+  private Long shopId;
+
+  @Id
+  @Column(name = "sales_day")
+  private LocalDate salesDay;
+
+  @Id
+  @Column(name = "primary_item_id")
+  private Long primaryItemId;
+
+  @Id
+  @Column(name = "gender", length = 7)
+  private String gender;
+
+  @Column(name = "transaction_count", nullable = false)
+  private Long transactionCount;
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DailyPrimaryItemSalesRollupId implements Serializable {
+    private Long shopId;
+    private LocalDate salesDay;
+    private Long primaryItemId;
+    private String gender;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      DailyPrimaryItemSalesRollupId that = (DailyPrimaryItemSalesRollupId) o;
+      return Objects.equals(shopId, that.shopId)
+          && Objects.equals(salesDay, that.salesDay)
+          && Objects.equals(primaryItemId, that.primaryItemId)
+          && Objects.equals(gender, that.gender);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(shopId, salesDay, primaryItemId, gender);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 매장 · 일자 · 고객 성별 단위 매출 집계 (sales 기준, 환불 제외) */
+@Entity
+@Table(name = "daily_sales_rollup")
+@IdClass(DailySalesRollup.DailySalesRollupId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailySalesRollup {
+
+  @Id
+  @Column(name = "shop_id")
+  private Long shopId;
+
+  @Id
+  @Column(name = "sales_day")
+  private LocalDate salesDay;
+
+  @Id
+  @Column(name = "gender", length = 7)
+  private String gender;
+
+  @Column(name = "total_amount", nullable = false)
+  private Long totalAmount;
+
+  @Column(name = "discount_amount", nullable = false)
+  private Long discountAmount;
+
+  @Column(name = "transaction_count", nullable = false)
+  private Long transactionCount;
+
+  /** 상품(item_sales)이 하나 이상 포함된 거래 건수 */
+  @Column(name = "item_transaction_count", nullable = false)
+  private Long itemTransactionCount;
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DailySalesRollupId implements Serializable {
+    private Long shopId;
+    private LocalDate salesDay;
+    private String gender;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      DailySalesRollupId that = (DailySalesRollupId) o;
+      return Objects.equals(shopId, that.shopId)
+          && Objects.equals(salesDay, that.salesDay)
+          && Objects.equals(gender, that.gender);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(shopId, salesDay, gender);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailyItemSalesRollup;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyItemSalesRollupRepository
+    extends JpaRepository<DailyItemSalesRollup, DailyItemSalesRollup.DailyItemSalesRollupId> {
+
+  @Modifying
+  @Query(
+      "DELETE FROM DailyItemSalesRollup r WHERE r.shopId = :shopId "
+          + "AND r.salesDay BETWEEN :fromDay AND :toDay")
+  int deleteByShopIdAndSalesDayBetween(
+      @Param("shopId") Long shopId,
+      @Param("fromDay") LocalDate fromDay,
+      @Param("toDay") LocalDate toDay);
+
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO daily_item_sales_rollup
+            (shop_id, sales_day, secondary_item_id, gender, sales_amount,
+             discount_amount, coupon_discount_amount, transaction_count)
+          SELECT s.shop_id,
+                 DATE(s.sales_date),
+                 i.secondary_item_id,
+                 COALESCE(c.gender, 'UNKNOWN'),
+                 COALESCE(SUM(i.quantity * si.secondary_item_price), 0),
+                 COALESCE(SUM(CASE WHEN s.total_amount > 0 THEN
+                   CAST((i.quantity * si.secondary_item_price * s.discount_amount)
+                        / s.total_amount AS SIGNED) ELSE 0 END), 0),
+                 COALESCE(SUM(CASE WHEN s.total_amount > 0 AND i.coupon_id IS NOT NULL THEN
+                   CAST((i.quantity * si.secondary_item_price * s.discount_amount)
+                        / s.total_amount AS SIGNED) ELSE 0 END), 0),
+                 COUNT(DISTINCT s.sales_id)
+          FROM sales s
+          JOIN item_sales i ON i.sales_id = s.sales_id
+          JOIN secondary_item si ON si.secondary_item_id = i.secondary_item_id
+          JOIN primary_item p ON p.primary_item_id = si.primary_item_id
+          LEFT JOIN customer c ON c.customer_id = s.customer_id
+          WHERE s.shop_id = :shopId
+            AND s.sales_date >= :startAt
+            AND s.sales_date < :endAt
+            AND s.is_refunded = false
+          GROUP BY s.shop_id, DATE(s.sales_date), i.secondary_item_id,
+                   COALESCE(c.gender, 'UNKNOWN')
+          """,
+      nativeQuery = true)
+  int insertAggregatedFromSales(
+      @Param("shopId") Long shopId,
+      @Param("startAt") LocalDateTime startAt,
+      @Param("endAt") LocalDateTime endAt);
+
+  /** 매출마다 포함된 1차 상품과 카테고리. 상위 단위의 거래 건수를 매출 중복 없이 세는 데 쓴다. */
+  @Query(
+      value =
+          """
+          SELECT DISTINCT s.sales_id AS salesId,
+                 COALESCE(c.gender, 'UNKNOWN') AS gender,
+                 p.primary_item_id AS primaryItemId,
+                 p.category AS category
+          FROM sales s
+          JOIN item_sales i ON i.sales_id = s.sales_id
+          JOIN secondary_item si ON si.secondary_item_id = i.secondary_item_id
+          JOIN primary_item p ON p.primary_item_id = si.primary_item_id
+          LEFT JOIN customer c ON c.customer_id = s.customer_id
+          WHERE s.shop_id = :shopId
+            AND s.sales_date >= :startAt
+            AND s.sales_date < :endAt
+            AND s.is_refunded = false
+          """,
+      nativeQuery = true)
+  List<SalesItemGroup> findSalesItemGroups(
+      @Param("shopId") Long shopId,
+      @Param("startAt") LocalDateTime startAt,
+      @Param("endAt") LocalDateTime endAt);
+
+  interface SalesItemGroup {
+    Long getSalesId();
+
+    String getGender();
+
+    Long getPrimaryItemId();
+
+    String getCategory();
+  }
+}
@@ -0,0 +1,22 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailyPrimaryItemSalesRollup;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyPrimaryItemSalesRollupRepository
+    extends JpaRepository<
+        DailyPrimaryItemSalesRollup, DailyPrimaryItemSalesRollup.DailyPrimaryItemSalesRollupId> {
+
+  @Modifying
+  @Query(
+      "DELETE FROM DailyPrimaryItemSalesRollup r WHERE r.shopId = :shopId "
+          + "AND r.salesDay BETWEEN :fromDay AND :toDay")
+  int deleteByShopIdAndSalesDayBetween(
+      @Param("shopId") Long shopId,
+      @Param("fromDay") LocalDate fromDay,
+      @Param("toDay") LocalDate toDay);
+}
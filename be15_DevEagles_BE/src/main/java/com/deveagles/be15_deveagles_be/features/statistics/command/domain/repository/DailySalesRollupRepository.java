@@ -0,0 +1,63 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailySalesRollup;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailySalesRollupRepository
+    extends JpaRepository<DailySalesRollup, DailySalesRollup.DailySalesRollupId> {
+
+  @Modifying
+  @Query(
+      "DELETE FROM DailySalesRollup r WHERE r.shopId = :shopId "
+          + "AND r.salesDay BETWEEN :fromDay AND :toDay")
+  int deleteByShopIdAndSalesDayBetween(
+      @Param("shopId") Long shopId,
+      @Param("fromDay") LocalDate fromDay,
+      @Param("toDay") LocalDate toDay);
+
+  @Query(
+      value =
+          "SELECT DISTINCT s.shop_id FROM sales s "
+              + "WHERE s.sales_date >= :startAt AND s.sales_date < :endAt",
+      nativeQuery = true)
+  List<Long> findShopIdsWithSalesBetween(
+      @Param("startAt") LocalDateTime startAt, @Param("endAt") LocalDateTime endAt);
+
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO daily_sales_rollup
+            (shop_id, sales_day, gender, total_amount, discount_amount,
+             transaction_count, item_transaction_count)
+          SELECT s.shop_id,
+                 DATE(s.sales_date),
+                 COALESCE(c.gender, 'UNKNOWN'),
+                 COALESCE(SUM(s.total_amount), 0),
+                 COALESCE(SUM(s.discount_amount), 0),
+                 COUNT(*),
+                 SUM(CASE WHEN EXISTS (
+                       SELECT 1 FROM item_sales i
+                       JOIN secondary_item si ON si.secondary_item_id = i.secondary_item_id
+                       JOIN primary_item p ON p.primary_item_id = si.primary_item_id
+                       WHERE i.sales_id = s.sales_id) THEN 1 ELSE 0 END)
+          FROM sales s
+          LEFT JOIN customer c ON c.customer_id = s.customer_id
+          WHERE s.shop_id = :shopId
+            AND s.sales_date >= :startAt
+            AND s.sales_date < :endAt
+            AND s.is_refunded = false
+          GROUP BY s.shop_id, DATE(s.sales_date), COALESCE(c.gender, 'UNKNOWN')
+          """,
+      nativeQuery = true)
+  int insertAggregatedFromSales(
+      @Param("shopId") Long shopId,
+      @Param("startAt") LocalDateTime startAt,
+      @Param("endAt") LocalDateTime endAt);
+}
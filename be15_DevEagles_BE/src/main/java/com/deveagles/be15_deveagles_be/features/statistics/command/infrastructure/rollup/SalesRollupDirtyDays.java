@@ -0,0 +1,68 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.infrastructure.rollup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다시 집계해야 하는 매장-일자 목록.
+ *
+ * <p>Redis set 에 {@code 매장ID:일자} 로 담아 같은 매장-일자의 여러 변경을 한 번의 재집계로 합친다. 꺼내기는 {@code SPOP} 이므로 여러
+ * 인스턴스가 같은 항목을 동시에 가져가지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupDirtyDays {
+
+  private static final String DIRTY_KEY = "SALES_ROLLUP:DIRTY";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public void mark(Long shopId, LocalDate salesDay) {
+    markAll(List.of(new ShopDay(shopId, salesDay)));
+  }
+
+  public void markAll(Collection<ShopDay> shopDays) {
+    if (shopDays.isEmpty()) {
+      return;
+    }
+    try {
+      redisTemplate
+          .opsForSet()
+          .add(DIRTY_KEY, shopDays.stream().map(ShopDay::toMember).toArray(String[]::new));
+    } catch (Exception e) {
+      // 놓친 일자는 매일 밤 대사 작업이 다시 집계한다
+      log.warn("매출 집계 대상 등록 실패 - {}건, 오류: {}", shopDays.size(), e.getMessage());
+    }
+  }
+
+  /** 최대 limit 개를 꺼낸다. 꺼낸 항목은 처리에 실패하면 {@link #markAll} 로 되돌려야 한다. */
+  public List<ShopDay> pop(int limit) {
+    List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, limit);
+    List<ShopDay> shopDays = new ArrayList<>();
+    if (members != null) {
+      members.forEach(member -> shopDays.add(ShopDay.fromMember(member)));
+    }
+    return shopDays;
+  }
+
+  public record ShopDay(Long shopId, LocalDate salesDay) {
+
+    String toMember() {
+      return shopId + ":" + salesDay;
+    }
+
+    static ShopDay fromMember(String member) {
+      int separator = member.indexOf(':');
+      return new ShopDay(
+          Long.valueOf(member.substring(0, separator)),
+          LocalDate.parse(member.substring(separator + 1)));
+    }
+  }
+}
@@ -0,0 +1,217 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.infrastructure.rollup;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailySalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.infrastructure.rollup.SalesRollupDirtyDays.ShopDay;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매출 집계 재계산기.
+ *
+ * <p>매출 트랜잭션이 커밋 뒤 등록한 매장-일자를 모아 매장-일자마다 별도 트랜잭션으로 재집계한다. 집계 행 잠금이 결제 트랜잭션과 겹치지 않고, 같은
+ * 매장-일자의 연속된 결제는 한 번의 재집계로 합쳐진다. 여러 인스턴스 중 한 곳만 처리하도록 묶음마다 Redis 잠금을 잡는다.
+ *
+ * <p>등록을 놓친 일자는 매일 새벽 전날 매출이 있는 매장-일자를 다시 등록해 보정한다. 배포 직후 과거 집계는 {@code
+ * statistics.rollup.backfill-from} 을 지정해 그 날짜부터 등록하거나, 매장별로 {@link #backfill} 을 호출해 채운다.
+ */
+@Slf4j
+@Component
+public class SalesRollupRefresher {
+
+  private static final String LOCK_KEY = "SALES_ROLLUP:LOCK";
+
+  // 자신이 잡은 잠금만 해제
+  private static final DefaultRedisScript<Long> UNLOCK_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private final SalesRollupCommandService salesRollupCommandService;
+  private final SalesRollupDirtyDays salesRollupDirtyDays;
+  private final DailySalesRollupRepository dailySalesRollupRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "sales-rollup-refresher");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  @Value("${statistics.rollup.enabled:true}")
+  private boolean enabled = true;
+
+  @Value("${statistics.rollup.batch-size:50}")
+  private int batchSize = 50;
+
+  @Value("${statistics.rollup.poll-interval-ms:2000}")
+  private long pollIntervalMillis = 2000;
+
+  @Value("${statistics.rollup.max-backoff-ms:60000}")
+  private long maxBackoffMillis = 60000;
+
+  @Value("${statistics.rollup.lock-ttl-seconds:60}")
+  private long lockTtlSeconds = 60;
+
+  @Value("${statistics.rollup.reconcile-days:2}")
+  private int reconcileDays = 2;
+
+  @Value("${statistics.rollup.backfill-from:}")
+  private String backfillFrom = "";
+
+  private int consecutiveFailures;
+
+  public SalesRollupRefresher(
+      SalesRollupCommandService salesRollupCommandService,
+      SalesRollupDirtyDays salesRollupDirtyDays,
+      DailySalesRollupRepository dailySalesRollupRepository,
+      RedisTemplate<String, String> redisTemplate) {
+    this.salesRollupCommandService = salesRollupCommandService;
+    this.salesRollupDirtyDays = salesRollupDirtyDays;
+    this.dailySalesRollupRepository = dailySalesRollupRepository;
+    this.redisTemplate = redisTemplate;
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    if (!backfillFrom.isBlank()) {
+      executor.execute(
+          () -> {
+            try {
+              markSalesDays(LocalDate.parse(backfillFrom), LocalDate.now());
+            } catch (Exception e) {
+              log.error("매출 집계 백필 등록 실패 - 시작일: {}, 오류: {}", backfillFrom, e.getMessage(), e);
+            }
+          });
+    }
+    executor.schedule(this::poll, pollIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /** 한 매장의 기간 집계를 일자마다 별도 트랜잭션으로 다시 만든다. 처리한 일수를 반환한다. */
+  public int backfill(Long shopId, LocalDate fromDay, LocalDate toDay) {
+    int days = 0;
+    for (LocalDate day = fromDay; !day.isAfter(toDay); day = day.plusDays(1)) {
+      salesRollupCommandService.rebuild(shopId, day, day);
+      days++;
+    }
+    log.info("매출 집계 백필 완료 - 매장ID: {}, 기간: {} ~ {}", shopId, fromDay, toDay);
+    return days;
+  }
+
+  /** 등록을 놓친 일자 보정. 전날까지 reconcileDays 일의 매출이 있는 매장-일자를 다시 등록한다. */
+  @Scheduled(cron = "${statistics.rollup.reconcile-cron:0 30 3 * * *}")
+  public void reconcile() {
+    if (enabled) {
+      LocalDate yesterday = LocalDate.now().minusDays(1);
+      markSalesDays(yesterday.minusDays(reconcileDays - 1L), yesterday);
+    }
+  }
+
+  /** 기간 중 매출이 있는 모든 매장-일자를 재집계 대상으로 등록한다. */
+  void markSalesDays(LocalDate fromDay, LocalDate toDay) {
+    int marked = 0;
+    for (LocalDate day = fromDay; !day.isAfter(toDay); day = day.plusDays(1)) {
+      LocalDate salesDay = day;
+      List<ShopDay> shopDays =
+          dailySalesRollupRepository
+              .findShopIdsWithSalesBetween(
+                  salesDay.atStartOfDay(), salesDay.plusDays(1).atStartOfDay())
+              .stream()
+              .map(shopId -> new ShopDay(shopId, salesDay))
+              .toList();
+      salesRollupDirtyDays.markAll(shopDays);
+      marked += shopDays.size();
+    }
+    log.info("매출 집계 대상 일괄 등록 - 기간: {} ~ {}, {}건", fromDay, toDay, marked);
+  }
+
+  private void poll() {
+    long delay = pollIntervalMillis;
+    try {
+      if (flush() >= batchSize) {
+        delay = 0;
+      }
+      consecutiveFailures = 0;
+    } catch (Exception e) {
+      consecutiveFailures++;
+      delay =
+          Math.min(maxBackoffMillis, pollIntervalMillis << Math.min(consecutiveFailures, 16));
+      log.warn(
+          "매출 집계 재계산 실패 ({}회 연속), {}ms 후 재시도: {}",
+          consecutiveFailures,
+          delay,
+          e.getMessage());
+    } finally {
+      if (!executor.isShutdown()) {
+        executor.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /** 등록된 매장-일자 한 묶음을 재집계한다. 꺼낸 항목 수를 반환하고, 실패한 항목은 되돌린 뒤 예외를 던진다. */
+  int flush() {
+    String token = UUID.randomUUID().toString();
+    Boolean locked =
+        redisTemplate
+            .opsForValue()
+            .setIfAbsent(LOCK_KEY, token, Duration.ofSeconds(lockTtlSeconds));
+    if (!Boolean.TRUE.equals(locked)) {
+      return 0;
+    }
+
+    try {
+      List<ShopDay> shopDays = salesRollupDirtyDays.pop(batchSize);
+      List<ShopDay> failed = new ArrayList<>();
+      RuntimeException lastError = null;
+      for (ShopDay shopDay : shopDays) {
+        try {
+          salesRollupCommandService.rebuild(
+              shopDay.shopId(), shopDay.salesDay(), shopDay.salesDay());
+        } catch (RuntimeException e) {
+          failed.add(shopDay);
+          lastError = e;
+        }
+      }
+
+      if (lastError != null) {
+        salesRollupDirtyDays.markAll(failed);
+        throw lastError;
+      }
+      return shopDays.size();
+    } finally {
+      unlock(token);
+    }
+  }
+
+  private void unlock(String token) {
+    try {
+      redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+    } catch (Exception e) {
+      log.warn("매출 집계 잠금 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.deveagles.be15_deveagles_be.features.statistics.query.controller;
 
 import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.statistics.command.infrastructure.rollup.SalesRollupRefresher;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.AdvancedSalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.DailyVisitorStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
@@ -35,6 +36,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsController {
 
   private final StatisticsQueryService statisticsQueryService;
+  private final SalesRollupRefresher salesRollupRefresher;
 
   @GetMapping("/sales")
   @Operation(summary = "매출 통계 조회", description = "기간별 매출 통계를 조회합니다.")
@@ -68,6 +70,16 @@ public class StatisticsController {
     return ResponseEntity.ok(ApiResponse.success(summary));
   }
 
+  @PostMapping("/sales/rollup/rebuild")
+  @Operation(summary = "매출 집계 재생성", description = "기간의 일별 매출 집계를 원본 매출로부터 다시 만듭니다.")
+  public ResponseEntity<ApiResponse<Integer>> rebuildSalesRollup(
+      @AuthenticationPrincipal CustomUser customUser,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    int days = salesRollupRefresher.backfill(customUser.getShopId(), startDate, endDate);
+    return ResponseEntity.ok(ApiResponse.success(days));
+  }
+
   @GetMapping("/sales/primary-item-daily-trend")
   @Operation(summary = "1차 상품별 일별 매출추이 조회", description = "1차 상품별 일별 매출 추이를 조회합니다.")
   public ResponseEntity<ApiResponse<List<AdvancedSalesStatisticsResponse>>>
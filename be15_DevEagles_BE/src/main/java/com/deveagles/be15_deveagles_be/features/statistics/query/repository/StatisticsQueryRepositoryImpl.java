@@ -8,6 +8,10 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Q
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.QReservation;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.QReservationSetting;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.QDailyCategorySalesRollup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.QDailyItemSalesRollup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.QDailyPrimaryItemSalesRollup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.QDailySalesRollup;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.AdvancedSalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.DailyVisitorStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
@@ -17,9 +21,12 @@ import com.deveagles.be15_deveagles_be.features.statistics.query.dto.Reservation
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsRequest;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DatePath;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -29,7 +36,13 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,43 +61,79 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   private final QCustomer customer = QCustomer.customer;
   private final QReservation reservation = QReservation.reservation;
   private final QReservationSetting reservationSetting = QReservationSetting.reservationSetting;
+  private final QDailySalesRollup dailySalesRollup = QDailySalesRollup.dailySalesRollup;
+  private final QDailyItemSalesRollup dailyItemSalesRollup =
+      QDailyItemSalesRollup.dailyItemSalesRollup;
+  private final QDailyPrimaryItemSalesRollup dailyPrimaryItemSalesRollup =
+      QDailyPrimaryItemSalesRollup.dailyPrimaryItemSalesRollup;
+  private final QDailyCategorySalesRollup dailyCategorySalesRollup =
+      QDailyCategorySalesRollup.dailyCategorySalesRollup;
 
   @Override
   public List<SalesStatisticsResponse> findSalesStatisticsByPeriod(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    return queryFactory
-        .select(
-            sales.salesDate.year(),
-            sales.salesDate.month(),
-            sales.salesDate.dayOfMonth(),
-            sales.totalAmount.sum().coalesce(0),
-            sales.count())
-        .from(sales)
-        .where(
-            sales
-                .shopId
-                .eq(shopId)
-                .and(
-                    sales.salesDate.between(
-                        startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
-                .and(sales.isRefunded.isFalse()))
-        .groupBy(sales.salesDate.year(), sales.salesDate.month(), sales.salesDate.dayOfMonth())
-        .orderBy(
-            sales.salesDate.year().asc(),
-            sales.salesDate.month().asc(),
-            sales.salesDate.dayOfMonth().asc())
-        .fetch()
-        .stream()
+    SalesDateRange range = new SalesDateRange(startDate, endDate);
+    Map<LocalDate, long[]> daily = new TreeMap<>();
+
+    // 마감된 영업일은 일별 집계 테이블에서 조회
+    SalesDateRange closed = range.closedPart();
+    if (!closed.isEmpty()) {
+      queryFactory
+          .select(
+              dailySalesRollup.salesDay,
+              dailySalesRollup.totalAmount.sum().coalesce(0L),
+              dailySalesRollup.transactionCount.sum().coalesce(0L))
+          .from(dailySalesRollup)
+          .where(
+              dailySalesRollup.shopId.eq(shopId),
+              dailySalesRollup.salesDay.between(closed.from(), closed.to()))
+          .groupBy(dailySalesRollup.salesDay)
+          .fetch()
+          .forEach(
+              tuple ->
+                  accumulate(
+                      daily,
+                      tuple.get(0, LocalDate.class),
+                      tuple.get(1, Long.class),
+                      tuple.get(2, Long.class)));
+    }
+
+    // 당일(및 이후) 매출은 원본 테이블에서 조회
+    SalesDateRange live = range.livePart();
+    if (!live.isEmpty()) {
+      queryFactory
+          .select(
+              sales.salesDate.year(),
+              sales.salesDate.month(),
+              sales.salesDate.dayOfMonth(),
+              sales.totalAmount.sum().coalesce(0),
+              sales.count())
+          .from(sales)
+          .where(
+              sales.shopId.eq(shopId),
+              salesDateBetween(live),
+              sales.isRefunded.isFalse())
+          .groupBy(sales.salesDate.year(), sales.salesDate.month(), sales.salesDate.dayOfMonth())
+          .fetch()
+          .forEach(
+              tuple ->
+                  accumulate(
+                      daily,
+                      LocalDate.of(
+                          tuple.get(0, Integer.class),
+                          tuple.get(1, Integer.class),
+                          tuple.get(2, Integer.class)),
+                      tuple.get(3, Integer.class).longValue(),
+                      tuple.get(4, Long.class)));
+    }
+
+    return daily.entrySet().stream()
         .map(
-            tuple ->
+            entry ->
                 SalesStatisticsResponse.builder()
-                    .date(
-                        LocalDate.of(
-                            tuple.get(0, Integer.class),
-                            tuple.get(1, Integer.class),
-                            tuple.get(2, Integer.class)))
-                    .totalSalesAmount(tuple.get(3, Integer.class).longValue())
-                    .totalTransactions(tuple.get(4, Long.class))
+                    .date(entry.getKey())
+                    .totalSalesAmount(entry.getValue()[0])
+                    .totalTransactions(entry.getValue()[1])
                     .build())
         .collect(Collectors.toList());
   }
@@ -109,38 +158,80 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
     }
   }
 
-  /** 시간 기반 통계 - sales 테이블만 사용하여 정확한 집계 */
+  /**
+   * 시간 기반 통계 - 마감된 영업일은 daily_sales_rollup, 당일은 sales 테이블에서 집계 후 그룹 키 기준으로 병합
+   */
   private List<AdvancedSalesStatisticsResponse> getTimeBasedStatistics(
       Long shopId, StatisticsRequest request, StatisticsRequest.GroupBy groupBy) {
+    SalesDateRange range = resolveTimeRange(request);
+
+    List<AdvancedSalesStatisticsResponse> merged = new ArrayList<>();
+    SalesDateRange closed = range.closedPart();
+    if (!closed.isEmpty()) {
+      merged.addAll(getRollupTimeBasedStatistics(shopId, closed, groupBy));
+    }
+    SalesDateRange live = range.livePart();
+    if (!live.isEmpty()) {
+      merged.addAll(getRawTimeBasedStatistics(shopId, live, groupBy));
+    }
+
+    List<AdvancedSalesStatisticsResponse> results = mergeByGroupKey(merged);
+    results.sort(Comparator.comparing(AdvancedSalesStatisticsResponse::getDate));
+    return results;
+  }
+
+  private List<AdvancedSalesStatisticsResponse> getRollupTimeBasedStatistics(
+      Long shopId, SalesDateRange range, StatisticsRequest.GroupBy groupBy) {
+    StringExpression groupKey =
+        timeGroupKey(
+            groupBy,
+            dailySalesRollup.salesDay.dayOfMonth(),
+            dailySalesRollup.salesDay.week(),
+            dailySalesRollup.salesDay.month(),
+            dailySalesRollup.salesDay.year());
+
+    return queryFactory
+        .select(
+            groupKey,
+            dailySalesRollup.totalAmount.sum().coalesce(0L),
+            dailySalesRollup.transactionCount.sum().coalesce(0L),
+            dailySalesRollup.discountAmount.sum().coalesce(0L))
+        .from(dailySalesRollup)
+        .where(
+            dailySalesRollup.shopId.eq(shopId),
+            rollupDayBetween(dailySalesRollup.salesDay, range))
+        .groupBy(groupKey)
+        .fetch()
+        .stream()
+        .map(
+            tuple ->
+                AdvancedSalesStatisticsResponse.builder()
+                    .date(tuple.get(0, String.class))
+                    .totalSalesAmount(tuple.get(1, Long.class))
+                    .totalTransactions(tuple.get(2, Long.class))
+                    .totalDiscountAmount(tuple.get(3, Long.class))
+                    .totalCouponDiscountAmount(0L)
+                    .build())
+        .collect(Collectors.toList());
+  }
+
+  /** 시간 기반 통계 - sales 테이블만 사용하여 정확한 집계 */
+  private List<AdvancedSalesStatisticsResponse> getRawTimeBasedStatistics(
+      Long shopId, SalesDateRange range, StatisticsRequest.GroupBy groupBy) {
     // WHERE 조건 구성
     List<BooleanExpression> whereClauses = new ArrayList<>();
     whereClauses.add(sales.shopId.eq(shopId));
     whereClauses.add(sales.isRefunded.isFalse());
-    handleTimeRange(request, whereClauses);
+    addIfPresent(whereClauses, salesDateBetween(range));
 
     // 그룹화 키 설정
-    StringExpression groupKey;
-    switch (groupBy) {
-      case DAY:
-        groupKey = sales.salesDate.dayOfMonth().stringValue();
-        break;
-      case WEEK:
-        // 연도-주차 형태로 반환 (YYYY-WW)
-        groupKey =
-            Expressions.stringTemplate(
-                "CONCAT({0}, '-', LPAD({1}, 2, '0'))",
-                sales.salesDate.year().stringValue(), sales.salesDate.week().stringValue());
-        break;
-      case MONTH:
-        // 연도-월 형태로 반환 (YYYY-MM)
-        groupKey =
-            Expressions.stringTemplate(
-                "CONCAT({0}, '-', LPAD({1}, 2, '0'))",
-                sales.salesDate.year().stringValue(), sales.salesDate.month().stringValue());
-        break;
-      default:
-        throw new IllegalArgumentException("Invalid time groupBy: " + groupBy);
-    }
+    StringExpression groupKey =
+        timeGroupKey(
+            groupBy,
+            sales.salesDate.dayOfMonth(),
+            sales.salesDate.week(),
+            sales.salesDate.month(),
+            sales.salesDate.year());
 
     return queryFactory
         .select(
@@ -171,9 +262,255 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
         .collect(Collectors.toList());
   }
 
-  /** 상품/카테고리 기반 통계 - JOIN 사용하여 상품별 실제 금액 계산 */
+  private StringExpression timeGroupKey(
+      StatisticsRequest.GroupBy groupBy,
+      NumberExpression<Integer> dayOfMonth,
+      NumberExpression<Integer> week,
+      NumberExpression<Integer> month,
+      NumberExpression<Integer> year) {
+    switch (groupBy) {
+      case DAY:
+        return dayOfMonth.stringValue();
+      case WEEK:
+        // 연도-주차 형태로 반환 (YYYY-WW)
+        return Expressions.stringTemplate(
+            "CONCAT({0}, '-', LPAD({1}, 2, '0'))", year.stringValue(), week.stringValue());
+      case MONTH:
+        // 연도-월 형태로 반환 (YYYY-MM)
+        return Expressions.stringTemplate(
+            "CONCAT({0}, '-', LPAD({1}, 2, '0'))", year.stringValue(), month.stringValue());
+      default:
+        throw new IllegalArgumentException("Invalid time groupBy: " + groupBy);
+    }
+  }
+
+  /**
+   * 상품/카테고리 기반 통계 - 마감된 영업일은 daily_item_sales_rollup, 당일은 원본 테이블 JOIN 결과를 그룹 키 기준으로 병합
+   */
   private List<AdvancedSalesStatisticsResponse> getItemBasedStatistics(
       Long shopId, StatisticsRequest request, StatisticsRequest.GroupBy groupBy) {
+    SalesDateRange range = resolveTimeRange(request);
+
+    List<AdvancedSalesStatisticsResponse> merged = new ArrayList<>();
+    SalesDateRange closed = range.closedPart();
+    if (!closed.isEmpty()) {
+      merged.addAll(getRollupItemBasedStatistics(shopId, request, closed, groupBy));
+    }
+    SalesDateRange live = range.livePart();
+    if (!live.isEmpty()) {
+      merged.addAll(getRawItemBasedStatistics(shopId, request, live, groupBy));
+    }
+    return mergeByGroupKey(merged);
+  }
+
+  private List<AdvancedSalesStatisticsResponse> getRollupItemBasedStatistics(
+      Long shopId,
+      StatisticsRequest request,
+      SalesDateRange range,
+      StatisticsRequest.GroupBy groupBy) {
+    List<BooleanExpression> whereClauses = new ArrayList<>();
+    whereClauses.add(dailyItemSalesRollup.shopId.eq(shopId));
+    addIfPresent(whereClauses, rollupDayBetween(dailyItemSalesRollup.salesDay, range));
+
+    if (request.getGender() != null && groupBy == StatisticsRequest.GroupBy.GENDER) {
+      whereClauses.add(dailyItemSalesRollup.gender.eq(request.getGender()));
+    }
+    addItemFilters(request, whereClauses);
+
+    StringExpression groupKey;
+    switch (groupBy) {
+      case GENDER:
+        groupKey = dailyItemSalesRollup.gender;
+        break;
+      case CATEGORY:
+        groupKey = primaryItem.category.stringValue().coalesce("UNKNOWN");
+        break;
+      case PRIMARY_ITEM:
+        groupKey = primaryItem.primaryItemName.coalesce("UNKNOWN");
+        break;
+      case SECONDARY_ITEM:
+        groupKey = secondaryItem.secondaryItemName.coalesce("UNKNOWN");
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported groupBy: " + groupBy);
+    }
+
+    List<AdvancedSalesStatisticsResponse> results =
+        queryFactory
+            .select(
+                groupKey,
+                dailyItemSalesRollup.salesAmount.sum().coalesce(0L),
+                dailyItemSalesRollup.transactionCount.sum().coalesce(0L),
+                dailyItemSalesRollup.discountAmount.sum().coalesce(0L),
+                dailyItemSalesRollup.couponDiscountAmount.sum().coalesce(0L))
+            .from(dailyItemSalesRollup)
+            .join(secondaryItem)
+            .on(dailyItemSalesRollup.secondaryItemId.eq(secondaryItem.secondaryItemId))
+            .join(primaryItem)
+            .on(secondaryItem.primaryItemId.eq(primaryItem.primaryItemId))
+            .where(whereClauses.toArray(new BooleanExpression[0]))
+            .groupBy(groupKey)
+            .fetch()
+            .stream()
+            .map(
+                tuple ->
+                    itemBasedResponse(
+                        groupBy,
+                        tuple.get(0, String.class),
+                        tuple.get(1, Long.class),
+                        tuple.get(2, Long.class),
+                        tuple.get(3, Long.class),
+                        tuple.get(4, Long.class)))
+            .collect(Collectors.toList());
+
+    // 2차 상품 단위 건수를 더하면 여러 상품을 담은 매출이 중복되므로, 그룹과 필터 중 더 세부적인 단위의 매출 건수 집계를 쓴다
+    Map<String, Long> transactions =
+        rollupTransactionCounts(shopId, request, range, groupBy, countLevel(request, groupBy));
+    if (transactions == null) {
+      return results;
+    }
+    return results.stream()
+        .map(
+            response -> {
+              String key = groupKeyOf(response, groupBy);
+              return itemBasedResponse(
+                  groupBy,
+                  key,
+                  response.getTotalSalesAmount(),
+                  transactions.getOrDefault(key, response.getTotalTransactions()),
+                  response.getTotalDiscountAmount(),
+                  response.getTotalCouponDiscountAmount());
+            })
+        .collect(Collectors.toList());
+  }
+
+  /** 거래 건수를 셀 집계 단위. 그룹 단위와 필터 단위 중 더 세부적인 쪽이며, 그 단위에서는 그룹마다 집계 키가 하나뿐이라 건수를 더해도 중복되지 않는다. */
+  private enum CountLevel {
+    SALES,
+    CATEGORY,
+    PRIMARY_ITEM,
+    SECONDARY_ITEM
+  }
+
+  private CountLevel countLevel(StatisticsRequest request, StatisticsRequest.GroupBy groupBy) {
+    CountLevel filterLevel =
+        request.getSecondaryItemId() != null
+            ? CountLevel.SECONDARY_ITEM
+            : request.getPrimaryItemId() != null
+                ? CountLevel.PRIMARY_ITEM
+                : request.getCategoryId() != null ? CountLevel.CATEGORY : CountLevel.SALES;
+    CountLevel groupLevel =
+        switch (groupBy) {
+          case CATEGORY -> CountLevel.CATEGORY;
+          case PRIMARY_ITEM -> CountLevel.PRIMARY_ITEM;
+          case SECONDARY_ITEM -> CountLevel.SECONDARY_ITEM;
+          default -> CountLevel.SALES;
+        };
+    return filterLevel.compareTo(groupLevel) > 0 ? filterLevel : groupLevel;
+  }
+
+  /** 집계 단위별 매출 건수를 그룹 키로 조회. 2차 상품 단위는 상품 집계의 건수가 그대로 맞으므로 null */
+  private Map<String, Long> rollupTransactionCounts(
+      Long shopId,
+      StatisticsRequest request,
+      SalesDateRange range,
+      StatisticsRequest.GroupBy groupBy,
+      CountLevel level) {
+    boolean genderFiltered =
+        request.getGender() != null && groupBy == StatisticsRequest.GroupBy.GENDER;
+    List<BooleanExpression> whereClauses = new ArrayList<>();
+    JPAQuery<Tuple> query;
+    switch (level) {
+      case SALES -> {
+        whereClauses.add(dailySalesRollup.shopId.eq(shopId));
+        addIfPresent(whereClauses, rollupDayBetween(dailySalesRollup.salesDay, range));
+        if (genderFiltered) {
+          whereClauses.add(dailySalesRollup.gender.eq(request.getGender()));
+        }
+        query =
+            queryFactory
+                .select(
+                    dailySalesRollup.gender,
+                    dailySalesRollup.itemTransactionCount.sum().coalesce(0L))
+                .from(dailySalesRollup)
+                .groupBy(dailySalesRollup.gender);
+      }
+      case CATEGORY -> {
+        whereClauses.add(dailyCategorySalesRollup.shopId.eq(shopId));
+        addIfPresent(whereClauses, rollupDayBetween(dailyCategorySalesRollup.salesDay, range));
+        if (genderFiltered) {
+          whereClauses.add(dailyCategorySalesRollup.gender.eq(request.getGender()));
+        }
+        if (request.getCategoryId() != null) {
+          whereClauses.add(
+              dailyCategorySalesRollup.category.eq(request.getCategoryId().toString()));
+        }
+        StringExpression groupKey =
+            groupBy == StatisticsRequest.GroupBy.GENDER
+                ? dailyCategorySalesRollup.gender
+                : dailyCategorySalesRollup.category;
+        query =
+            queryFactory
+                .select(groupKey, dailyCategorySalesRollup.transactionCount.sum().coalesce(0L))
+                .from(dailyCategorySalesRollup)
+                .groupBy(groupKey);
+      }
+      case PRIMARY_ITEM -> {
+        whereClauses.add(dailyPrimaryItemSalesRollup.shopId.eq(shopId));
+        addIfPresent(whereClauses, rollupDayBetween(dailyPrimaryItemSalesRollup.salesDay, range));
+        if (genderFiltered) {
+          whereClauses.add(dailyPrimaryItemSalesRollup.gender.eq(request.getGender()));
+        }
+        if (request.getCategoryId() != null) {
+          whereClauses.add(
+              primaryItem.category.stringValue().eq(request.getCategoryId().toString()));
+        }
+        if (request.getPrimaryItemId() != null) {
+          whereClauses.add(primaryItem.primaryItemId.eq(request.getPrimaryItemId()));
+        }
+        StringExpression groupKey =
+            switch (groupBy) {
+              case GENDER -> dailyPrimaryItemSalesRollup.gender;
+              case CATEGORY -> primaryItem.category.stringValue().coalesce("UNKNOWN");
+              default -> primaryItem.primaryItemName.coalesce("UNKNOWN");
+            };
+        query =
+            queryFactory
+                .select(groupKey, dailyPrimaryItemSalesRollup.transactionCount.sum().coalesce(0L))
+                .from(dailyPrimaryItemSalesRollup)
+                .join(primaryItem)
+                .on(dailyPrimaryItemSalesRollup.primaryItemId.eq(primaryItem.primaryItemId))
+                .groupBy(groupKey);
+      }
+      default -> {
+        return null;
+      }
+    }
+
+    Map<String, Long> transactions = new HashMap<>();
+    query
+        .where(whereClauses.toArray(new BooleanExpression[0]))
+        .fetch()
+        .forEach(tuple -> transactions.put(tuple.get(0, String.class), tuple.get(1, Long.class)));
+    return transactions;
+  }
+
+  private String groupKeyOf(
+      AdvancedSalesStatisticsResponse response, StatisticsRequest.GroupBy groupBy) {
+    return switch (groupBy) {
+      case GENDER -> response.getGender();
+      case CATEGORY -> response.getCategory();
+      case PRIMARY_ITEM -> response.getPrimaryItemName();
+      default -> response.getSecondaryItemName();
+    };
+  }
+
+  /** 상품/카테고리 기반 통계 - JOIN 사용하여 상품별 실제 금액 계산 */
+  private List<AdvancedSalesStatisticsResponse> getRawItemBasedStatistics(
+      Long shopId,
+      StatisticsRequest request,
+      SalesDateRange range,
+      StatisticsRequest.GroupBy groupBy) {
     JPAQuery<?> query = queryFactory.from(sales);
 
     query.leftJoin(itemSales).on(sales.salesId.eq(itemSales.salesId));
@@ -192,21 +529,13 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
     whereClauses.add(secondaryItem.secondaryItemId.isNotNull());
     whereClauses.add(primaryItem.primaryItemId.isNotNull());
 
-    handleTimeRange(request, whereClauses);
+    addIfPresent(whereClauses, salesDateBetween(range));
 
     if (request.getGender() != null && groupBy == StatisticsRequest.GroupBy.GENDER) {
       whereClauses.add(
           customer.gender.isNotNull().and(customer.gender.stringValue().eq(request.getGender())));
     }
-    if (request.getCategoryId() != null) {
-      whereClauses.add(primaryItem.category.stringValue().eq(request.getCategoryId().toString()));
-    }
-    if (request.getPrimaryItemId() != null) {
-      whereClauses.add(primaryItem.primaryItemId.eq(request.getPrimaryItemId()));
-    }
-    if (request.getSecondaryItemId() != null) {
-      whereClauses.add(secondaryItem.secondaryItemId.eq(request.getSecondaryItemId()));
-    }
+    addItemFilters(request, whereClauses);
 
     query.where(whereClauses.toArray(new BooleanExpression[0]));
 
@@ -260,86 +589,186 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
         .stream()
         .map(
             tuple ->
-                AdvancedSalesStatisticsResponse.builder()
-                    .date(null)
-                    .gender(
-                        groupBy == StatisticsRequest.GroupBy.GENDER
-                            ? tuple.get(0, String.class)
-                            : null)
-                    .category(
-                        groupBy == StatisticsRequest.GroupBy.CATEGORY
-                            ? tuple.get(0, String.class)
-                            : null)
-                    .primaryItemName(
-                        groupBy == StatisticsRequest.GroupBy.PRIMARY_ITEM
-                            ? tuple.get(0, String.class)
-                            : null)
-                    .secondaryItemName(
-                        groupBy == StatisticsRequest.GroupBy.SECONDARY_ITEM
-                            ? tuple.get(0, String.class)
-                            : null)
-                    .totalSalesAmount(tuple.get(1, Integer.class).longValue())
-                    .totalTransactions(tuple.get(2, Long.class))
-                    .totalDiscountAmount(tuple.get(3, Integer.class).longValue())
-                    .totalCouponDiscountAmount(tuple.get(4, Integer.class).longValue())
-                    .build())
+                itemBasedResponse(
+                    groupBy,
+                    tuple.get(0, String.class),
+                    tuple.get(1, Integer.class).longValue(),
+                    tuple.get(2, Long.class),
+                    tuple.get(3, Integer.class).longValue(),
+                    tuple.get(4, Integer.class).longValue()))
         .collect(Collectors.toList());
   }
 
-  private void handleTimeRange(StatisticsRequest request, List<BooleanExpression> whereClauses) {
+  /** 카테고리/상품 필터 조건을 추가하고, 하나라도 추가되었는지 반환 */
+  private boolean addItemFilters(StatisticsRequest request, List<BooleanExpression> whereClauses) {
+    boolean filtered = false;
+    if (request.getCategoryId() != null) {
+      whereClauses.add(primaryItem.category.stringValue().eq(request.getCategoryId().toString()));
+      filtered = true;
+    }
+    if (request.getPrimaryItemId() != null) {
+      whereClauses.add(primaryItem.primaryItemId.eq(request.getPrimaryItemId()));
+      filtered = true;
+    }
+    if (request.getSecondaryItemId() != null) {
+      whereClauses.add(secondaryItem.secondaryItemId.eq(request.getSecondaryItemId()));
+      filtered = true;
+    }
+    return filtered;
+  }
+
+  private AdvancedSalesStatisticsResponse itemBasedResponse(
+      StatisticsRequest.GroupBy groupBy,
+      String key,
+      long totalSalesAmount,
+      long totalTransactions,
+      long totalDiscountAmount,
+      long totalCouponDiscountAmount) {
+    return AdvancedSalesStatisticsResponse.builder()
+        .date(null)
+        .gender(groupBy == StatisticsRequest.GroupBy.GENDER ? key : null)
+        .category(groupBy == StatisticsRequest.GroupBy.CATEGORY ? key : null)
+        .primaryItemName(groupBy == StatisticsRequest.GroupBy.PRIMARY_ITEM ? key : null)
+        .secondaryItemName(groupBy == StatisticsRequest.GroupBy.SECONDARY_ITEM ? key : null)
+        .totalSalesAmount(totalSalesAmount)
+        .totalTransactions(totalTransactions)
+        .totalDiscountAmount(totalDiscountAmount)
+        .totalCouponDiscountAmount(totalCouponDiscountAmount)
+        .build();
+  }
+
+  /** 집계 테이블 결과와 당일 원본 결과를 동일한 그룹 키끼리 합산 */
+  private List<AdvancedSalesStatisticsResponse> mergeByGroupKey(
+      List<AdvancedSalesStatisticsResponse> responses) {
+    Map<List<String>, AdvancedSalesStatisticsResponse> merged = new LinkedHashMap<>();
+    for (AdvancedSalesStatisticsResponse response : responses) {
+      List<String> key =
+          Arrays.asList(
+              response.getDate(),
+              response.getGender(),
+              response.getCategory(),
+              response.getPrimaryItemName(),
+              response.getSecondaryItemName());
+      merged.merge(
+          key,
+          response,
+          (left, right) ->
+              AdvancedSalesStatisticsResponse.builder()
+                  .date(left.getDate())
+                  .gender(left.getGender())
+                  .category(left.getCategory())
+                  .primaryItemName(left.getPrimaryItemName())
+                  .secondaryItemName(left.getSecondaryItemName())
+                  .totalSalesAmount(left.getTotalSalesAmount() + right.getTotalSalesAmount())
+                  .totalTransactions(left.getTotalTransactions() + right.getTotalTransactions())
+                  .totalDiscountAmount(
+                      left.getTotalDiscountAmount() + right.getTotalDiscountAmount())
+                  .totalCouponDiscountAmount(
+                      left.getTotalCouponDiscountAmount() + right.getTotalCouponDiscountAmount())
+                  .build());
+    }
+    return new ArrayList<>(merged.values());
+  }
+
+  private SalesDateRange resolveTimeRange(StatisticsRequest request) {
     LocalDate now = LocalDate.now();
-    if (request.getTimeRange() != null) {
-      switch (request.getTimeRange()) {
-        case LAST_WEEK:
-          whereClauses.add(
-              sales.salesDate.between(now.minusWeeks(1).atStartOfDay(), now.atTime(LocalTime.MAX)));
-          break;
-        case LAST_MONTH:
-          whereClauses.add(
-              sales.salesDate.between(
-                  now.minusMonths(1).atStartOfDay(), now.atTime(LocalTime.MAX)));
-          break;
-        case LAST_6_MONTHS:
-          whereClauses.add(
-              sales.salesDate.between(
-                  now.minusMonths(6).atStartOfDay(), now.atTime(LocalTime.MAX)));
-          break;
-        case LAST_YEAR:
-          whereClauses.add(
-              sales.salesDate.between(now.minusYears(1).atStartOfDay(), now.atTime(LocalTime.MAX)));
-          break;
-        case CUSTOM:
-          if (request.getStartDate() != null && request.getEndDate() != null) {
-            whereClauses.add(
-                sales.salesDate.between(
-                    request.getStartDate().atStartOfDay(),
-                    request.getEndDate().atTime(LocalTime.MAX)));
-          }
-          break;
-      }
+    if (request.getTimeRange() == null) {
+      return new SalesDateRange(null, null);
     }
+    switch (request.getTimeRange()) {
+      case LAST_WEEK:
+        return new SalesDateRange(now.minusWeeks(1), now);
+      case LAST_MONTH:
+        return new SalesDateRange(now.minusMonths(1), now);
+      case LAST_6_MONTHS:
+        return new SalesDateRange(now.minusMonths(6), now);
+      case LAST_YEAR:
+        return new SalesDateRange(now.minusYears(1), now);
+      case CUSTOM:
+        if (request.getStartDate() != null && request.getEndDate() != null) {
+          return new SalesDateRange(request.getStartDate(), request.getEndDate());
+        }
+        return new SalesDateRange(null, null);
+      default:
+        return new SalesDateRange(null, null);
+    }
+  }
+
+  private BooleanExpression salesDateBetween(SalesDateRange range) {
+    if (range.from() != null && range.to() != null) {
+      return sales.salesDate.between(range.from().atStartOfDay(), range.to().atTime(LocalTime.MAX));
+    }
+    if (range.from() != null) {
+      return sales.salesDate.goe(range.from().atStartOfDay());
+    }
+    if (range.to() != null) {
+      return sales.salesDate.loe(range.to().atTime(LocalTime.MAX));
+    }
+    return null;
+  }
+
+  private BooleanExpression rollupDayBetween(DatePath<LocalDate> salesDay, SalesDateRange range) {
+    if (range.from() != null && range.to() != null) {
+      return salesDay.between(range.from(), range.to());
+    }
+    if (range.from() != null) {
+      return salesDay.goe(range.from());
+    }
+    if (range.to() != null) {
+      return salesDay.loe(range.to());
+    }
+    return null;
+  }
+
+  private void addIfPresent(List<BooleanExpression> whereClauses, BooleanExpression expression) {
+    if (expression != null) {
+      whereClauses.add(expression);
+    }
+  }
+
+  private void accumulate(
+      Map<LocalDate, long[]> daily, LocalDate date, long amount, long transactions) {
+    long[] totals = daily.computeIfAbsent(date, key -> new long[2]);
+    totals[0] += amount;
+    totals[1] += transactions;
   }
 
   @Override
   public SalesSummaryResponse findSalesSummary(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    // Get total sales and transaction count for the period
-    var basicStats =
-        queryFactory
-            .select(sales.totalAmount.sum().coalesce(0), sales.count())
-            .from(sales)
-            .where(
-                sales
-                    .shopId
-                    .eq(shopId)
-                    .and(
-                        sales.salesDate.between(
-                            startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
-                    .and(sales.isRefunded.isFalse()))
-            .fetchOne();
+    SalesDateRange range = new SalesDateRange(startDate, endDate);
+    long totalSales = 0L;
+    long totalTransactions = 0L;
+
+    // 마감된 영업일 합계
+    SalesDateRange closed = range.closedPart();
+    if (!closed.isEmpty()) {
+      var rollupStats =
+          queryFactory
+              .select(
+                  dailySalesRollup.totalAmount.sum().coalesce(0L),
+                  dailySalesRollup.transactionCount.sum().coalesce(0L))
+              .from(dailySalesRollup)
+              .where(
+                  dailySalesRollup.shopId.eq(shopId),
+                  dailySalesRollup.salesDay.between(closed.from(), closed.to()))
+              .fetchOne();
+      totalSales += rollupStats.get(0, Long.class);
+      totalTransactions += rollupStats.get(1, Long.class);
+    }
 
-    Long totalSales = basicStats.get(0, Integer.class).longValue();
-    Long totalTransactions = basicStats.get(1, Long.class);
+    // 당일 합계
+    SalesDateRange live = range.livePart();
+    if (!live.isEmpty()) {
+      var basicStats =
+          queryFactory
+              .select(sales.totalAmount.sum().coalesce(0), sales.count())
+              .from(sales)
+              .where(sales.shopId.eq(shopId), salesDateBetween(live), sales.isRefunded.isFalse())
+              .fetchOne();
+      totalSales += basicStats.get(0, Integer.class).longValue();
+      totalTransactions += basicStats.get(1, Long.class);
+    }
 
     // Calculate daily average
     long daysBetween = startDate.until(endDate).getDays() + 1;
@@ -359,6 +788,26 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
         .build();
   }
 
+  /**
+   * 조회 기간. 전날까지(마감된 영업일)는 집계 테이블에서, 당일 이후는 원본 테이블에서 읽는다. from/to 가 null 이면 해당 방향으로 제한이 없다.
+   */
+  private record SalesDateRange(LocalDate from, LocalDate to) {
+
+    SalesDateRange closedPart() {
+      LocalDate yesterday = LocalDate.now().minusDays(1);
+      return new SalesDateRange(from, to == null || to.isAfter(yesterday) ? yesterday : to);
+    }
+
+    SalesDateRange livePart() {
+      LocalDate today = LocalDate.now();
+      return new SalesDateRange(from == null || from.isBefore(today) ? today : from, to);
+    }
+
+    boolean isEmpty() {
+      return from != null && to != null && from.isAfter(to);
+    }
+  }
+
   @Override
   public List<ReservationStatisticsResponse> findReservationStatisticsByPeriod(
       Long shopId, LocalDate startDate, LocalDate endDate) {
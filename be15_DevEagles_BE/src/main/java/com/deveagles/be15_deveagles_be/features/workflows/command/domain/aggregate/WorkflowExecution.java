@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,6 +25,9 @@ import org.hibernate.type.SqlTypes;
 @Builder
 public class WorkflowExecution {
 
+  // 중단된 실행을 이어서 처리할 수 있는 최대 경과 시간
+  private static final Duration RESUMABLE_WINDOW = Duration.ofHours(12);
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   @Column(name = "execution_id")
@@ -62,6 +66,13 @@ public class WorkflowExecution {
   @Column(name = "execution_details", columnDefinition = "json")
   private String executionDetails; // 실행 세부 정보 JSON
 
+  @Column(name = "last_customer_id")
+  private Long lastCustomerId; // 청크 체크포인트: 마지막으로 처리한 고객 ID
+
+  @Column(name = "processed_chunk_count")
+  @Builder.Default
+  private Integer processedChunkCount = 0;
+
   @Column(name = "started_at")
   private LocalDateTime startedAt;
 
@@ -103,6 +114,28 @@ public class WorkflowExecution {
     this.targetCount = targetCount;
   }
 
+  public void recordChunk(
+      Long lastCustomerId, int chunkTargetCount, int chunkSuccessCount, int chunkFailureCount) {
+    this.lastCustomerId = lastCustomerId;
+    this.processedChunkCount = (processedChunkCount != null ? processedChunkCount : 0) + 1;
+    this.targetCount = (targetCount != null ? targetCount : 0) + chunkTargetCount;
+    this.successCount = (successCount != null ? successCount : 0) + chunkSuccessCount;
+    this.failureCount = (failureCount != null ? failureCount : 0) + chunkFailureCount;
+  }
+
+  public void updateExecutionDetails(String executionDetails) {
+    this.executionDetails = executionDetails;
+  }
+
+  public boolean isRunning() {
+    return "RUNNING".equals(executionStatus);
+  }
+
+  /** 중단된 실행 중 체크포인트부터 이어서 처리할 수 있는 실행인지 확인한다. */
+  public boolean isResumable(LocalDateTime now) {
+    return isRunning() && startedAt != null && startedAt.isAfter(now.minus(RESUMABLE_WINDOW));
+  }
+
   public boolean isCompleted() {
     return "SUCCESS".equals(executionStatus)
         || "FAILED".equals(executionStatus)
@@ -27,6 +27,8 @@ public interface WorkflowExecutionRepository {
 
   Optional<WorkflowExecution> findLatestByWorkflowId(Long workflowId);
 
+  Optional<WorkflowExecution> findLatestRunningByWorkflowId(Long workflowId);
+
   long countByWorkflowId(Long workflowId);
 
   long countSuccessfulByWorkflowId(Long workflowId);
@@ -22,6 +22,9 @@ public interface WorkflowExecutionJpaDataRepository extends JpaRepository<Workfl
 
   Optional<WorkflowExecution> findFirstByWorkflowIdOrderByCreatedAtDesc(Long workflowId);
 
+  Optional<WorkflowExecution> findFirstByWorkflowIdAndExecutionStatusOrderByCreatedAtDesc(
+      Long workflowId, String executionStatus);
+
   long countByWorkflowId(Long workflowId);
 
   long countByWorkflowIdAndExecutionStatus(Long workflowId, String status);
@@ -65,6 +65,12 @@ public class WorkflowExecutionJpaRepository implements WorkflowExecutionReposito
     return dataRepository.findFirstByWorkflowIdOrderByCreatedAtDesc(workflowId);
   }
 
+  @Override
+  public Optional<WorkflowExecution> findLatestRunningByWorkflowId(Long workflowId) {
+    return dataRepository.findFirstByWorkflowIdAndExecutionStatusOrderByCreatedAtDesc(
+        workflowId, "RUNNING");
+  }
+
   @Override
   public long countByWorkflowId(Long workflowId) {
     return dataRepository.countByWorkflowId(workflowId);
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.workflows.command.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.common.events.WorkflowChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.workflows.command.application.dto.request.CreateWorkflowCommand;
@@ -14,6 +15,7 @@ import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.Trig
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
   private final WorkflowRepository workflowRepository;
   private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public Long createWorkflow(CreateWorkflowCommand command) {
@@ -34,6 +37,7 @@ public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
     Workflow workflow = buildWorkflowFromCommand(command);
     Workflow savedWorkflow = workflowRepository.save(workflow);
+    eventPublisher.publishEvent(new WorkflowChangedEvent(savedWorkflow.getShopId()));
 
     log.info("워크플로우 생성 완료: ID={}, 제목={}", savedWorkflow.getId(), savedWorkflow.getTitle());
     return savedWorkflow.getId();
@@ -55,6 +59,7 @@ public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
     updateWorkflowFromCommand(workflow, command);
     workflowRepository.save(workflow);
+    eventPublisher.publishEvent(new WorkflowChangedEvent(workflow.getShopId()));
 
     log.info("워크플로우 수정 완료: ID={}, 새 제목={}", workflow.getId(), workflow.getTitle());
   }
@@ -69,6 +74,7 @@ public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
     workflow.softDelete();
     workflowRepository.save(workflow);
+    eventPublisher.publishEvent(new WorkflowChangedEvent(workflow.getShopId()));
 
     log.info("워크플로우 삭제 완료: ID={}", workflow.getId());
   }
@@ -83,6 +89,7 @@ public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
     workflow.toggleStatus();
     workflowRepository.save(workflow);
+    eventPublisher.publishEvent(new WorkflowChangedEvent(workflow.getShopId()));
 
     log.info("워크플로우 상태 토글 완료: ID={}, 새 상태={}", workflow.getId(), workflow.getIsActive());
   }
@@ -7,6 +7,19 @@ import java.util.List;
 
 public interface ActionExecutorService {
 
+  /** 트리거된 단건 실행. 발송 중 예외는 삼키지 않고 그대로 전파한다. */
   ActionExecutionResult executeAction(
       Workflow workflow, List<Long> targetCustomerIds, WorkflowExecution execution);
+
+  /** 발송이 실패해 롤백된 트리거 실행을 새 트랜잭션에서 실패로 기록한다. */
+  void recordFailedAction(
+      Workflow workflow, List<Long> targetCustomerIds, WorkflowExecution execution, String reason);
+
+  /** 청크 발송과 체크포인트를 한 트랜잭션으로 처리한다. 발송 중 예외는 청크를 롤백한 뒤 그대로 전파한다. */
+  ActionExecutionResult executeChunk(
+      Workflow workflow, List<Long> chunkCustomerIds, WorkflowExecution execution);
+
+  /** 발송이 실패해 롤백된 청크를 별도 트랜잭션에서 전원 실패로 기록하고 체크포인트를 넘긴다. */
+  ActionExecutionResult recordFailedChunk(
+      Workflow workflow, List<Long> chunkCustomerIds, WorkflowExecution execution);
 }
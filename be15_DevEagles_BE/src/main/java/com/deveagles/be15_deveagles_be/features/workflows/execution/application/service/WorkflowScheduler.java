@@ -7,4 +7,6 @@ public interface WorkflowScheduler {
   void checkDailyTriggers();
 
   void checkPeriodicTriggers();
+
+  void resumeUnfinishedExecutions();
 }
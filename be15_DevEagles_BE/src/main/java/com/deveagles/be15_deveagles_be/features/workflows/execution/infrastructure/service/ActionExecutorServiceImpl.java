@@ -3,22 +3,30 @@ package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastruct
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.ActionConfig;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.ActionType;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.ActionExecutorService;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService.ActionExecutionResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ActionExecutorServiceImpl implements ActionExecutorService {
 
+  private final WorkflowRepository workflowRepository;
   private final WorkflowExecutionRepository workflowExecutionRepository;
   private final ObjectMapper objectMapper;
   private final MessageServiceAdapter messageService;
@@ -26,62 +34,155 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
   private final NotificationServiceAdapter notificationService;
 
   @Override
+  @Transactional
   public ActionExecutionResult executeAction(
       Workflow workflow, List<Long> targetCustomerIds, WorkflowExecution execution) {
+    // executeChunk 와 같은 이유로 발송 중 예외는 잡지 않는다. 호출 측 트랜잭션을 롤백시키고
+    // recordFailedAction 으로 실패를 기록한다.
+    return dispatch(workflow, targetCustomerIds);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void recordFailedAction(
+      Workflow workflow, List<Long> targetCustomerIds, WorkflowExecution execution, String reason) {
+    execution.start();
+    execution.setTargetCount(targetCustomerIds.size());
+    execution.updateCounts(0, targetCustomerIds.size());
+    execution.fail(reason);
+    workflow.recordExecution(false);
+
+    workflowRepository.save(workflow);
+    workflowExecutionRepository.save(execution);
+  }
+
+  @Override
+  @Transactional
+  public ActionExecutionResult executeChunk(
+      Workflow workflow, List<Long> chunkCustomerIds, WorkflowExecution execution) {
+    // 시스템 알림은 대상 고객과 무관하므로 실행당 첫 청크에서만 발송
+    boolean notificationAlreadySent =
+        ActionType.SYSTEM_NOTIFICATION.getCode().equals(workflow.getActionType())
+            && execution.getProcessedChunkCount() != null
+            && execution.getProcessedChunkCount() > 0;
+
+    // 발송 중 예외는 잡지 않는다. 잡으면 트랜잭션이 rollback-only 로 남아 커밋이 실패하므로
+    // 청크 전체를 롤백시키고 호출 측이 recordFailedChunk 로 실패를 기록한다.
+    ActionExecutionResult result =
+        notificationAlreadySent
+            ? new ActionExecutionResult(0, 0)
+            : dispatch(workflow, chunkCustomerIds);
+
+    // 발송 요청과 체크포인트를 같은 트랜잭션으로 커밋 (재시작 시 처리된 청크는 재발송하지 않음)
+    return checkpoint(workflow, chunkCustomerIds, execution, result);
+  }
+
+  @Override
+  @Transactional
+  public ActionExecutionResult recordFailedChunk(
+      Workflow workflow, List<Long> chunkCustomerIds, WorkflowExecution execution) {
+    return checkpoint(
+        workflow,
+        chunkCustomerIds,
+        execution,
+        new ActionExecutionResult(0, chunkCustomerIds.size()));
+  }
+
+  private ActionExecutionResult checkpoint(
+      Workflow workflow,
+      List<Long> chunkCustomerIds,
+      WorkflowExecution execution,
+      ActionExecutionResult result) {
+    Long lastCustomerId = chunkCustomerIds.get(chunkCustomerIds.size() - 1);
+    execution.recordChunk(
+        lastCustomerId,
+        chunkCustomerIds.size(),
+        result.getSuccessCount(),
+        result.getFailureCount());
+    execution.updateExecutionDetails(
+        appendChunkDetail(execution.getExecutionDetails(), execution, chunkCustomerIds, result));
+    workflowExecutionRepository.save(execution);
+
+    log.info(
+        "워크플로우 청크 처리 완료: 워크플로우 ID={}, 청크 {}번, 대상={}, 성공={}, 실패={}, 마지막 고객 ID={}",
+        workflow.getId(),
+        execution.getProcessedChunkCount(),
+        chunkCustomerIds.size(),
+        result.getSuccessCount(),
+        result.getFailureCount(),
+        lastCustomerId);
+    return result;
+  }
+
+  private ActionExecutionResult dispatch(Workflow workflow, List<Long> targetCustomerIds) {
     log.info(
         "액션 실행 시작: 워크플로우 ID={}, 대상 고객 {}명, 액션 타입={}",
         workflow.getId(),
         targetCustomerIds.size(),
         workflow.getActionType());
 
+    ActionConfig actionConfig;
     try {
-      ActionConfig actionConfig = parseActionConfig(workflow.getActionConfig());
-      ActionType actionType = ActionType.fromCode(workflow.getActionType());
+      actionConfig = parseActionConfig(workflow.getActionConfig());
+    } catch (JsonProcessingException e) {
+      log.error("액션 설정을 읽을 수 없습니다: 워크플로우 ID={}, 오류={}", workflow.getId(), e.getMessage());
+      return new ActionExecutionResult(0, targetCustomerIds.size());
+    }
+    ActionType actionType = ActionType.fromCode(workflow.getActionType());
 
-      if (!actionConfig.isValid(actionType)) {
-        log.error(
-            "액션 설정이 유효하지 않습니다: 워크플로우 ID={}, 액션 타입={}", workflow.getId(), workflow.getActionType());
-        return new ActionExecutionResult(0, targetCustomerIds.size());
-      }
-
-      switch (actionType) {
-        case MESSAGE_ONLY:
-          return executeMessageOnlyAction(actionConfig, targetCustomerIds, workflow);
-        case COUPON_MESSAGE:
-          return executeCouponMessageAction(actionConfig, targetCustomerIds, workflow);
-        case SYSTEM_NOTIFICATION:
-          return executeSystemNotificationAction(actionConfig, targetCustomerIds, workflow);
-        default:
-          log.error("지원하지 않는 액션 타입: {}", workflow.getActionType());
-          return new ActionExecutionResult(0, targetCustomerIds.size());
-      }
-
-    } catch (Exception e) {
-      log.error("액션 실행 중 오류 발생: 워크플로우 ID={}, 오류={}", workflow.getId(), e.getMessage(), e);
+    if (!actionConfig.isValid(actionType)) {
+      log.error(
+          "액션 설정이 유효하지 않습니다: 워크플로우 ID={}, 액션 타입={}", workflow.getId(), workflow.getActionType());
       return new ActionExecutionResult(0, targetCustomerIds.size());
     }
+
+    switch (actionType) {
+      case MESSAGE_ONLY:
+        return executeMessageOnlyAction(actionConfig, targetCustomerIds, workflow);
+      case COUPON_MESSAGE:
+        return executeCouponMessageAction(actionConfig, targetCustomerIds, workflow);
+      case SYSTEM_NOTIFICATION:
+        return executeSystemNotificationAction(actionConfig, targetCustomerIds, workflow);
+      default:
+        log.error("지원하지 않는 액션 타입: {}", workflow.getActionType());
+        return new ActionExecutionResult(0, targetCustomerIds.size());
+    }
+  }
+
+  private String appendChunkDetail(
+      String executionDetails,
+      WorkflowExecution execution,
+      List<Long> chunkCustomerIds,
+      ActionExecutionResult result) {
+    try {
+      List<Map<String, Object>> chunks =
+          executionDetails == null || executionDetails.isBlank()
+              ? new ArrayList<>()
+              : objectMapper.readValue(
+                  executionDetails, new TypeReference<List<Map<String, Object>>>() {});
+
+      Map<String, Object> chunk = new LinkedHashMap<>();
+      chunk.put("chunk", execution.getProcessedChunkCount());
+      chunk.put("firstCustomerId", chunkCustomerIds.get(0));
+      chunk.put("lastCustomerId", execution.getLastCustomerId());
+      chunk.put("targetCount", chunkCustomerIds.size());
+      chunk.put("successCount", result.getSuccessCount());
+      chunk.put("failureCount", result.getFailureCount());
+      chunks.add(chunk);
+
+      return objectMapper.writeValueAsString(chunks);
+    } catch (JsonProcessingException e) {
+      log.warn("청크 실행 세부 정보 기록 실패: 실행 ID={}, 오류={}", execution.getId(), e.getMessage());
+      return executionDetails;
+    }
   }
 
   private ActionExecutionResult executeMessageOnlyAction(
       ActionConfig actionConfig, List<Long> customerIds, Workflow workflow) {
     log.info("메시지 전용 액션 실행: 템플릿 ID={}", actionConfig.getMessageTemplateId());
 
-    int successCount = 0;
-    int failureCount = 0;
-
-    for (Long customerId : customerIds) {
-      try {
-        boolean success = executeSmsAction(customerId, actionConfig, workflow.getShopId());
-        if (success) {
-          successCount++;
-        } else {
-          failureCount++;
-        }
-      } catch (Exception e) {
-        log.error("메시지 발송 실패: 고객 ID={}, 오류={}", customerId, e.getMessage());
-        failureCount++;
-      }
-    }
+    int successCount = executeSmsAction(customerIds, actionConfig, workflow.getShopId());
+    int failureCount = customerIds.size() - successCount;
 
     log.info("메시지 전용 액션 완료: 성공={}, 실패={}", successCount, failureCount);
     return new ActionExecutionResult(successCount, failureCount);
@@ -94,27 +195,13 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         actionConfig.getCouponId(),
         actionConfig.getMessageTemplateId());
 
-    int successCount = 0;
-    int failureCount = 0;
-
     if (!isValidCoupon(actionConfig.getCouponId(), workflow.getShopId())) {
       log.error("유효하지 않은 쿠폰: 쿠폰 ID={}, 매장 ID={}", actionConfig.getCouponId(), workflow.getShopId());
       return new ActionExecutionResult(0, customerIds.size());
     }
 
-    for (Long customerId : customerIds) {
-      try {
-        boolean success = executeAlimtalkAction(customerId, actionConfig, workflow.getShopId());
-        if (success) {
-          successCount++;
-        } else {
-          failureCount++;
-        }
-      } catch (Exception e) {
-        log.error("쿠폰+메시지 발송 실패: 고객 ID={}, 오류={}", customerId, e.getMessage());
-        failureCount++;
-      }
-    }
+    int successCount = executeAlimtalkAction(customerIds, actionConfig, workflow.getShopId());
+    int failureCount = customerIds.size() - successCount;
 
     log.info("쿠폰+메시지 액션 완료: 성공={}, 실패={}", successCount, failureCount);
     return new ActionExecutionResult(successCount, failureCount);
@@ -124,43 +211,38 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
       ActionConfig actionConfig, List<Long> customerIds, Workflow workflow) {
     log.info("시스템 알림 액션 실행: 제목={}", actionConfig.getNotificationTitle());
 
-    try {
-      boolean success = executeNotificationAction(actionConfig, workflow.getShopId());
-      if (success) {
-        log.info("시스템 알림 발송 완료");
-        return new ActionExecutionResult(1, 0);
-      } else {
-        log.error("시스템 알림 발송 실패");
-        return new ActionExecutionResult(0, 1);
-      }
-    } catch (Exception e) {
-      log.error("시스템 알림 발송 중 오류: {}", e.getMessage());
+    boolean success = executeNotificationAction(actionConfig, workflow.getShopId());
+    if (success) {
+      log.info("시스템 알림 발송 완료");
+      return new ActionExecutionResult(1, 0);
+    } else {
+      log.error("시스템 알림 발송 실패");
       return new ActionExecutionResult(0, 1);
     }
   }
 
-  private boolean executeSmsAction(Long customerId, ActionConfig action, Long shopId) {
+  private int executeSmsAction(List<Long> customerIds, ActionConfig action, Long shopId) {
     String templateId = action.getMessageTemplateId();
 
     if (templateId == null) {
-      log.warn("SMS 액션에 templateId가 없습니다. customerId: {}, shopId: {}", customerId, shopId);
-      return false;
+      log.warn("SMS 액션에 templateId가 없습니다. 고객 {}명, shopId: {}", customerIds.size(), shopId);
+      return 0;
     }
 
-    return messageService.sendMessage(customerId, shopId, templateId, action.getSendTime());
+    return messageService.sendMessages(customerIds, shopId, templateId, action.getSendTime());
   }
 
-  private boolean executeAlimtalkAction(Long customerId, ActionConfig action, Long shopId) {
+  private int executeAlimtalkAction(List<Long> customerIds, ActionConfig action, Long shopId) {
     String templateId = action.getMessageTemplateId();
     String couponId = action.getCouponId();
 
     if (templateId == null) {
-      log.warn("알림톡 액션에 templateId가 없습니다. customerId: {}, shopId: {}", customerId, shopId);
-      return false;
+      log.warn("알림톡 액션에 templateId가 없습니다. 고객 {}명, shopId: {}", customerIds.size(), shopId);
+      return 0;
     }
 
-    return messageService.sendCouponMessage(
-        customerId, shopId, templateId, couponId, action.getSendTime());
+    return messageService.sendCouponMessages(
+        customerIds, shopId, templateId, couponId, action.getSendTime());
   }
 
   private boolean executeNotificationAction(ActionConfig action, Long shopId) {
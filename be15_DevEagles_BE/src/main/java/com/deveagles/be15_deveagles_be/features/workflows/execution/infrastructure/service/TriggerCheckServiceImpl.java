@@ -1,13 +1,16 @@
 package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.common.events.CustomerRegistrationEvent;
+import com.deveagles.be15_deveagles_be.common.events.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.common.events.PaymentCompletedEvent;
+import com.deveagles.be15_deveagles_be.common.events.outbox.DomainEventDeduplicator;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
-import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.TriggerConfig;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.WorkflowTriggerIndex.TriggerEntry;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -24,42 +27,44 @@ public class TriggerCheckServiceImpl implements TriggerCheckService {
 
   private final WorkflowRepository workflowRepository;
   private final WorkflowExecutionService workflowExecutionService;
-  private final ObjectMapper objectMapper;
+  private final WorkflowTriggerIndex workflowTriggerIndex;
   private final CustomerQueryService customerQueryService;
+  private final DomainEventDeduplicator domainEventDeduplicator;
 
   @EventListener
   @Override
   public void onCustomerVisit(CustomerVisitEvent event) {
-    log.debug("고객 방문 이벤트 처리: 고객 ID={}, 매장 ID={}", event.getCustomerId(), event.getShopId());
+    log.debug("고객 방문 이벤트 처리: 고객 ID={}, 매장 ID={}", event.customerId(), event.shopId());
 
-    try {
-      checkVisitCycleTriggers(event);
-      checkBirthdayTriggers(event);
+    // 방문 주기는 이벤트에 담긴 이전 방문일로 확인한다(고객 정보는 이미 이번 방문으로 갱신됨)
+    checkVisitCycleTriggers(workflowTriggerIndex.find(event.shopId(), "visit-cycle"), event);
 
-    } catch (Exception e) {
-      log.error("고객 방문 트리거 처리 중 오류: 고객 ID={}, 오류={}", event.getCustomerId(), e.getMessage(), e);
+    List<TriggerEntry> birthdayTriggers = workflowTriggerIndex.find(event.shopId(), "birthday");
+    if (birthdayTriggers.isEmpty()) {
+      return;
     }
+
+    Optional<CustomerDetailResponse> customerOpt =
+        customerQueryService.getCustomerDetail(event.customerId(), event.shopId());
+    if (customerOpt.isEmpty()) {
+      log.warn("고객 정보를 찾을 수 없습니다. customerId: {}", event.customerId());
+      return;
+    }
+    checkBirthdayTriggers(birthdayTriggers, customerOpt.get(), event);
   }
 
   @EventListener
   @Override
   public void onCustomerRegistration(CustomerRegistrationEvent event) {
-    log.debug("고객 등록 이벤트 처리: 고객 ID={}, 매장 ID={}", event.getCustomerId(), event.getShopId());
-
-    try {
-      List<Workflow> newCustomerWorkflows =
-          workflowRepository.findByTriggerTypeAndShopId("new-customer-followup", event.getShopId());
-
-      for (Workflow workflow : newCustomerWorkflows) {
-        if (workflow.canExecute()) {
-          log.info(
-              "신규 고객 팔로업 워크플로우 실행: 워크플로우 ID={}, 고객 ID={}", workflow.getId(), event.getCustomerId());
-          workflowExecutionService.executeTriggeredWorkflow(workflow, event.getCustomerId());
-        }
-      }
-
-    } catch (Exception e) {
-      log.error("고객 등록 트리거 처리 중 오류: 고객 ID={}, 오류={}", event.getCustomerId(), e.getMessage(), e);
+    log.debug("고객 등록 이벤트 처리: 고객 ID={}, 매장 ID={}", event.customerId(), event.shopId());
+
+    for (TriggerEntry trigger :
+        workflowTriggerIndex.find(event.shopId(), "new-customer-followup")) {
+      log.info(
+          "신규 고객 팔로업 워크플로우 실행: 워크플로우 ID={}, 고객 ID={}",
+          trigger.workflowId(),
+          event.customerId());
+      execute(trigger, event.eventId(), event.customerId());
     }
   }
 
@@ -68,135 +73,89 @@ public class TriggerCheckServiceImpl implements TriggerCheckService {
   public void onPaymentCompleted(PaymentCompletedEvent event) {
     log.debug(
         "결제 완료 이벤트 처리: 고객 ID={}, 매장 ID={}, 금액={}",
-        event.getCustomerId(),
-        event.getShopId(),
-        event.getAmount());
+        event.customerId(),
+        event.shopId(),
+        event.amount());
 
-    try {
-      checkAmountMilestoneTriggers(event);
-
-    } catch (Exception e) {
-      log.error("결제 완료 트리거 처리 중 오류: 고객 ID={}, 오류={}", event.getCustomerId(), e.getMessage(), e);
-    }
+    checkAmountMilestoneTriggers(event);
   }
 
-  private void checkVisitCycleTriggers(CustomerVisitEvent event) {
-    List<Workflow> visitCycleWorkflows =
-        workflowRepository.findByTriggerTypeAndShopId("visit-cycle", event.getShopId());
-
-    for (Workflow workflow : visitCycleWorkflows) {
-      if (!workflow.canExecute()) continue;
-
-      try {
-        TriggerConfig triggerConfig = parseTriggerConfig(workflow.getTriggerConfig());
-
-        // 고객 정보 조회하여 실제 방문 패턴 확인
-        Optional<CustomerDetailResponse> customerOpt =
-            customerQueryService.getCustomerDetail(event.getCustomerId(), event.getShopId());
-        if (customerOpt.isEmpty()) {
-          log.warn("고객 정보를 찾을 수 없습니다. customerId: {}", event.getCustomerId());
-          continue;
-        }
-
-        CustomerDetailResponse customer = customerOpt.get();
-        boolean shouldTrigger = checkVisitCycle(customer, triggerConfig.getVisitCycleDays());
-
-        if (shouldTrigger) {
-          log.info(
-              "방문 주기 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 방문 횟수={}회",
-              workflow.getId(),
-              event.getCustomerId(),
-              customer.getVisitCount());
-          workflowExecutionService.executeTriggeredWorkflow(workflow, event.getCustomerId());
-        }
-
-      } catch (Exception e) {
-        log.error("방문 주기 트리거 체크 중 오류: 워크플로우 ID={}, 오류={}", workflow.getId(), e.getMessage());
+  private void checkVisitCycleTriggers(List<TriggerEntry> triggers, CustomerVisitEvent event) {
+    for (TriggerEntry trigger : triggers) {
+      boolean shouldTrigger = checkVisitCycle(event, trigger.triggerConfig().getVisitCycleDays());
+
+      if (shouldTrigger) {
+        log.info(
+            "방문 주기 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 이전 방문일={}",
+            trigger.workflowId(),
+            event.customerId(),
+            event.previousVisitDate());
+        execute(trigger, event.eventId(), event.customerId());
       }
     }
   }
 
-  private void checkBirthdayTriggers(CustomerVisitEvent event) {
-    List<Workflow> birthdayWorkflows =
-        workflowRepository.findByTriggerTypeAndShopId("birthday", event.getShopId());
-
-    for (Workflow workflow : birthdayWorkflows) {
-      if (!workflow.canExecute()) continue;
-
-      try {
-        TriggerConfig triggerConfig = parseTriggerConfig(workflow.getTriggerConfig());
-
-        // 고객 정보 조회하여 생일 확인
-        Optional<CustomerDetailResponse> customerOpt =
-            customerQueryService.getCustomerDetail(event.getCustomerId(), event.getShopId());
-        if (customerOpt.isEmpty() || customerOpt.get().getBirthdate() == null) {
-          continue;
-        }
-
-        CustomerDetailResponse customer = customerOpt.get();
-        boolean shouldTrigger =
-            checkBirthdayApproaching(
-                customer.getBirthdate(), triggerConfig.getBirthdayDaysBefore());
-
-        if (shouldTrigger) {
-          log.info(
-              "생일 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 생일={}",
-              workflow.getId(),
-              event.getCustomerId(),
-              customer.getBirthdate());
-          workflowExecutionService.executeTriggeredWorkflow(workflow, event.getCustomerId());
-        }
-
-      } catch (Exception e) {
-        log.error("생일 트리거 체크 중 오류: 워크플로우 ID={}, 오류={}", workflow.getId(), e.getMessage());
+  private void checkBirthdayTriggers(
+      List<TriggerEntry> triggers, CustomerDetailResponse customer, CustomerVisitEvent event) {
+    if (customer.getBirthdate() == null) {
+      return;
+    }
+
+    for (TriggerEntry trigger : triggers) {
+      boolean shouldTrigger =
+          checkBirthdayApproaching(
+              customer.getBirthdate(), trigger.triggerConfig().getBirthdayDaysBefore());
+
+      if (shouldTrigger) {
+        log.info(
+            "생일 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 생일={}",
+            trigger.workflowId(),
+            event.customerId(),
+            customer.getBirthdate());
+        execute(trigger, event.eventId(), event.customerId());
       }
     }
   }
 
   private void checkAmountMilestoneTriggers(PaymentCompletedEvent event) {
-    List<Workflow> amountWorkflows =
-        workflowRepository.findByTriggerTypeAndShopId("amount-milestone", event.getShopId());
-
-    for (Workflow workflow : amountWorkflows) {
-      if (!workflow.canExecute()) continue;
-
-      try {
-        TriggerConfig triggerConfig = parseTriggerConfig(workflow.getTriggerConfig());
-
-        // 고객 정보 조회하여 누적 매출 확인
-        Optional<CustomerDetailResponse> customerOpt =
-            customerQueryService.getCustomerDetail(event.getCustomerId(), event.getShopId());
-        if (customerOpt.isEmpty()) {
-          continue;
-        }
-
-        CustomerDetailResponse customer = customerOpt.get();
-        boolean shouldTrigger =
-            checkAmountMilestone(customer.getTotalRevenue(), triggerConfig.getAmountMilestone());
-
-        if (shouldTrigger) {
-          log.info(
-              "누적 금액 마일스톤 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 누적매출={}원",
-              workflow.getId(),
-              event.getCustomerId(),
-              customer.getTotalRevenue());
-          workflowExecutionService.executeTriggeredWorkflow(workflow, event.getCustomerId());
-        }
-
-      } catch (Exception e) {
-        log.error("누적 금액 마일스톤 트리거 체크 중 오류: 워크플로우 ID={}, 오류={}", workflow.getId(), e.getMessage());
+    for (TriggerEntry trigger : workflowTriggerIndex.find(event.shopId(), "amount-milestone")) {
+      boolean shouldTrigger =
+          checkAmountMilestone(event, trigger.triggerConfig().getAmountMilestone());
+
+      if (shouldTrigger) {
+        log.info(
+            "누적 금액 마일스톤 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 누적매출={}원",
+            trigger.workflowId(),
+            event.customerId(),
+            event.totalRevenue());
+        execute(trigger, event.eventId(), event.customerId());
       }
     }
   }
 
-  private boolean checkVisitCycle(CustomerDetailResponse customer, Integer cycleDays) {
-    if (cycleDays == null || customer.getRecentVisitDate() == null) {
+  // 조건을 만족한 워크플로우만 최신 상태로 다시 읽어 실행한다(실행 통계를 덮어쓰지 않도록)
+  // 다시 전달된 이벤트로는 이미 실행한 워크플로우를 또 실행하지 않는다. 실패는 전달기로 던져 다시 전달받는다.
+  private void execute(TriggerEntry trigger, String eventId, Long customerId) {
+    domainEventDeduplicator.handleOnce(
+        "workflow-" + trigger.workflowId(),
+        eventId,
+        () ->
+            workflowRepository
+                .findById(trigger.workflowId())
+                .filter(Workflow::canExecute)
+                .ifPresent(
+                    workflow ->
+                        workflowExecutionService.executeTriggeredWorkflow(workflow, customerId)));
+  }
+
+  private boolean checkVisitCycle(CustomerVisitEvent event, Integer cycleDays) {
+    if (cycleDays == null || event.previousVisitDate() == null || event.visitTime() == null) {
       return false;
     }
 
-    // 최근 방문일로부터 설정된 주기가 지났는지 확인
+    // 이전 방문일로부터 이번 방문까지 설정된 주기가 지났는지 확인
     long daysSinceLastVisit =
-        ChronoUnit.DAYS.between(customer.getRecentVisitDate(), LocalDate.now());
+        ChronoUnit.DAYS.between(event.previousVisitDate(), event.visitTime().toLocalDate());
 
     // 설정된 주기와 일치하거나 조금 지났을 때 트리거 (±1일 허용)
     return Math.abs(daysSinceLastVisit - cycleDays) <= 1;
@@ -219,24 +178,13 @@ public class TriggerCheckServiceImpl implements TriggerCheckService {
     return daysUntilBirthday == daysBefore;
   }
 
-  private boolean checkAmountMilestone(Integer totalRevenue, Long amountMilestone) {
+  private boolean checkAmountMilestone(PaymentCompletedEvent event, Long amountMilestone) {
+    Long totalRevenue = event.totalRevenue();
     if (amountMilestone == null || totalRevenue == null) {
       return false;
     }
 
-    // 누적 매출이 마일스톤에 도달했는지 확인
-    return totalRevenue >= amountMilestone;
-  }
-
-  private TriggerConfig parseTriggerConfig(String triggerConfigJson) {
-    try {
-      if (triggerConfigJson == null || triggerConfigJson.trim().isEmpty()) {
-        return TriggerConfig.builder().build();
-      }
-      return objectMapper.readValue(triggerConfigJson, TriggerConfig.class);
-    } catch (Exception e) {
-      log.error("트리거 설정 파싱 오류: {}, JSON={}", e.getMessage(), triggerConfigJson);
-      return TriggerConfig.builder().build();
-    }
+    // 이번 결제로 마일스톤을 넘어섰을 때만 실행 (이후 결제마다 다시 실행하지 않음)
+    return event.previousTotalRevenue() < amountMilestone && amountMilestone <= totalRevenue;
   }
 }
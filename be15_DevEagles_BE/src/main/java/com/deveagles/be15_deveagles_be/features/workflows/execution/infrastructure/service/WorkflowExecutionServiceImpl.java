@@ -15,16 +15,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
 
   private final WorkflowRepository workflowRepository;
@@ -33,6 +33,14 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
   private final ActionExecutorService actionExecutorService;
   private final ObjectMapper objectMapper;
 
+  @Value("${workflow.execution.chunk-size:500}")
+  private int chunkSize = 500;
+
+  /**
+   * 대상 고객 전체를 고객 ID 순 청크로 조회해 청크마다 한 번의 일괄 발송으로 처리한다.
+   *
+   * <p>청크 처리와 체크포인트(마지막 고객 ID)는 청크 단위로 커밋되므로, 실행 도중 중단되더라도 다음 실행에서 체크포인트 이후 고객부터 이어서 처리한다.
+   */
   @Override
   public void executeWorkflow(Workflow workflow) {
     log.info("워크플로우 실행 시작: ID={}, 제목={}", workflow.getId(), workflow.getTitle());
@@ -46,32 +54,50 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
       return;
     }
 
-    WorkflowExecution execution = createExecution(workflow);
+    WorkflowExecution execution = resumeOrCreateExecution(workflow);
 
     try {
-      execution.start();
-      workflowExecutionRepository.save(execution);
-
-      List<Long> targetCustomerIds = filterTargetCustomerIds(workflow);
+      Long cursor = execution.getLastCustomerId();
+
+      while (true) {
+        List<Long> chunk =
+            customerQueryService.searchCustomerIds(buildSearchQuery(workflow, cursor), chunkSize);
+        if (chunk.isEmpty()) {
+          break;
+        }
+
+        try {
+          actionExecutorService.executeChunk(workflow, chunk, execution);
+        } catch (Exception e) {
+          // 발송이 실패한 청크는 롤백됐으므로 커밋된 상태에 전원 실패로 기록하고 다음 청크로 넘어간다
+          log.warn(
+              "워크플로우 청크 발송 실패: 워크플로우 ID={}, 고객 {} ~ {}, 오류={}",
+              workflow.getId(),
+              chunk.get(0),
+              chunk.get(chunk.size() - 1),
+              e.getMessage());
+          execution = workflowExecutionRepository.findById(execution.getId()).orElse(execution);
+          actionExecutorService.recordFailedChunk(workflow, chunk, execution);
+        }
+        cursor = chunk.get(chunk.size() - 1);
+
+        if (chunk.size() < chunkSize) {
+          break;
+        }
+      }
 
-      if (targetCustomerIds.isEmpty()) {
+      if (execution.getTargetCount() == null || execution.getTargetCount() == 0) {
         log.info("대상 고객이 없어 워크플로우 실행을 건너뜁니다: ID={}", workflow.getId());
-        execution.complete();
         execution.updateCounts(0, 0);
+        execution.setTargetCount(0);
+        execution.complete();
         workflowExecutionRepository.save(execution);
         return;
       }
 
-      log.info("대상 고객 {}명에 대해 워크플로우 실행: ID={}", targetCustomerIds.size(), workflow.getId());
-      execution.setTargetCount(targetCustomerIds.size());
-
-      ActionExecutionResult result =
-          actionExecutorService.executeAction(workflow, targetCustomerIds, execution);
-
-      execution.updateCounts(result.getSuccessCount(), result.getFailureCount());
       execution.complete();
 
-      workflow.recordExecution(result.getSuccessCount() > 0);
+      workflow.recordExecution(execution.getSuccessCount() > 0);
 
       scheduleNextExecution(workflow);
 
@@ -79,22 +105,56 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
       workflowExecutionRepository.save(execution);
 
       log.info(
-          "워크플로우 실행 완료: ID={}, 성공={}, 실패={}",
+          "워크플로우 실행 완료: ID={}, 대상={}, 청크={}, 성공={}, 실패={}",
           workflow.getId(),
-          result.getSuccessCount(),
-          result.getFailureCount());
+          execution.getTargetCount(),
+          execution.getProcessedChunkCount(),
+          execution.getSuccessCount(),
+          execution.getFailureCount());
 
     } catch (Exception e) {
       log.error("워크플로우 실행 중 오류 발생: ID={}, 오류={}", workflow.getId(), e.getMessage(), e);
-      execution.fail(e.getMessage());
+      // 롤백된 청크가 반영되지 않도록 마지막으로 커밋된 상태 기준으로 실패 처리
+      WorkflowExecution committed =
+          workflowExecutionRepository.findById(execution.getId()).orElse(execution);
+      committed.fail(e.getMessage());
       workflow.recordExecution(false);
 
       workflowRepository.save(workflow);
-      workflowExecutionRepository.save(execution);
+      workflowExecutionRepository.save(committed);
+    }
+  }
+
+  private WorkflowExecution resumeOrCreateExecution(Workflow workflow) {
+    Optional<WorkflowExecution> running =
+        workflowExecutionRepository.findLatestRunningByWorkflowId(workflow.getId());
+
+    if (running.isPresent()) {
+      WorkflowExecution previous = running.get();
+      if (previous.isResumable(LocalDateTime.now())) {
+        log.info(
+            "중단된 워크플로우 실행을 이어서 처리합니다: 실행 ID={}, 마지막 고객 ID={}",
+            previous.getId(),
+            previous.getLastCustomerId());
+        return previous;
+      }
+      previous.fail("실행이 중단된 후 재개 가능 시간이 지났습니다.");
+      workflowExecutionRepository.save(previous);
     }
+
+    WorkflowExecution execution = createExecution(workflow);
+    execution.start();
+    return workflowExecutionRepository.save(execution);
   }
 
+  /**
+   * 트리거된 워크플로우를 한 트랜잭션으로 실행한다.
+   *
+   * <p>발송이 실패하면 트랜잭션이 rollback-only 가 되어 실행 기록을 같은 트랜잭션에 남길 수 없으므로, 실패는 새 트랜잭션에서 기록하고 예외를 그대로
+   * 던져 이 트랜잭션을 롤백시킨다. 이벤트 전달기가 예외를 받아 나중에 다시 전달한다.
+   */
   @Override
+  @Transactional
   public void executeTriggeredWorkflow(Workflow workflow, Long customerId) {
     log.info("트리거된 워크플로우 실행: ID={}, 고객ID={}", workflow.getId(), customerId);
 
@@ -104,33 +164,29 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
     }
 
     WorkflowExecution execution = createExecution(workflow);
+    execution.start();
+    workflowExecutionRepository.save(execution);
 
+    ActionExecutionResult result;
     try {
-      execution.start();
-      workflowExecutionRepository.save(execution);
-
-      ActionExecutionResult result =
-          actionExecutorService.executeAction(workflow, List.of(customerId), execution);
-
-      execution.updateCounts(result.getSuccessCount(), result.getFailureCount());
-      execution.complete();
-      execution.setTargetCount(1);
-
-      workflow.recordExecution(result.getSuccessCount() > 0);
+      result = actionExecutorService.executeAction(workflow, List.of(customerId), execution);
+    } catch (RuntimeException e) {
+      log.error("트리거된 워크플로우 실행 중 오류: ID={}, 오류={}", workflow.getId(), e.getMessage(), e);
+      actionExecutorService.recordFailedAction(
+          workflow, List.of(customerId), createExecution(workflow), e.getMessage());
+      throw e;
+    }
 
-      workflowRepository.save(workflow);
-      workflowExecutionRepository.save(execution);
+    execution.updateCounts(result.getSuccessCount(), result.getFailureCount());
+    execution.complete();
+    execution.setTargetCount(1);
 
-      log.info("트리거된 워크플로우 실행 완료: ID={}, 성공={}", workflow.getId(), result.getSuccessCount());
+    workflow.recordExecution(result.getSuccessCount() > 0);
 
-    } catch (Exception e) {
-      log.error("트리거된 워크플로우 실행 중 오류: ID={}, 오류={}", workflow.getId(), e.getMessage(), e);
-      execution.fail(e.getMessage());
-      workflow.recordExecution(false);
+    workflowRepository.save(workflow);
+    workflowExecutionRepository.save(execution);
 
-      workflowRepository.save(workflow);
-      workflowExecutionRepository.save(execution);
-    }
+    log.info("트리거된 워크플로우 실행 완료: ID={}, 성공={}", workflow.getId(), result.getSuccessCount());
   }
 
   private WorkflowExecution createExecution(Workflow workflow) {
@@ -160,14 +216,7 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
     }
   }
 
-  private List<Long> filterTargetCustomerIds(Workflow workflow) {
-    CustomerSearchQuery query = buildSearchQuery(workflow);
-    return customerQueryService.advancedSearch(query).getContent().stream()
-        .map(result -> result.customerId())
-        .collect(Collectors.toList());
-  }
-
-  private CustomerSearchQuery buildSearchQuery(Workflow workflow) {
+  private CustomerSearchQuery buildSearchQuery(Workflow workflow, Long cursorId) {
     List<Long> customerGradeIds = parseCustomerGrades(workflow.getTargetCustomerGrades());
     List<String> tagIds = parseTags(workflow.getTargetTags());
 
@@ -184,10 +233,11 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
         workflow.getExcludeRecentMessageReceivers(),
         workflow.getRecentMessagePeriodDays(),
         false, // 삭제된 고객 제외
-        0, // 페이지
-        1000, // 최대 1000명
-        "createdAt",
-        "DESC");
+        0, // 페이지 (키셋 조회이므로 사용하지 않음)
+        100, // 페이지 크기 (청크 크기는 searchCustomerIds 에서 지정)
+        "id",
+        "ASC",
+        cursorId);
   }
 
   private List<Long> parseCustomerGrades(String json) {
@@ -0,0 +1,170 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 서버 인스턴스 간 워크플로우 실행 임대(lease) 관리.
+ *
+ * <p>워크플로우 ID 와 실행 슬롯(예: 예약 시각, 실행 일자)을 키로 Redis 에 선점 기록을 남겨, 같은 슬롯은 클러스터 전체에서 한 번만 실행되도록 한다.
+ * 함께 워크플로우별 실행 표시를 남겨 같은 워크플로우는 슬롯이 달라도 동시에 한 곳에서만 실행된다. 실행 중에는 주기적으로 두 키의 만료 시간을 연장하고,
+ * 실행이 끝나면 실행 표시만 지우고 슬롯 기록은 만료까지 남겨 같은 슬롯이 다른 노드에서 다시 실행되지 않게 한다. 노드가 비정상 종료되면 실행 표시가
+ * 만료되고, 스케줄러가 남은 실행을 체크포인트부터 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class WorkflowLeaseManager {
+
+  private static final String LEASE_KEY_PREFIX = "WORKFLOW_LEASE:";
+
+  // 실행 중인 같은 워크플로우가 없을 때만 슬롯을 선점하고 실행 표시를 남긴다
+  private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('exists', KEYS[1]) == 1 then return 0 end "
+              + "if redis.call('set', KEYS[2], ARGV[1], 'NX', 'PX', ARGV[2]) then "
+              + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end "
+              + "return 0",
+          Long.class);
+
+  // 자신이 보유한 임대만 연장
+  private static final DefaultRedisScript<Long> RENEW_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "redis.call('pexpire', KEYS[2], ARGV[2]) "
+              + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+          Long.class);
+
+  // 자신이 남긴 실행 표시만 해제
+  private static final DefaultRedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ScheduledExecutorService renewer =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "workflow-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private final String nodeId = resolveNodeId();
+
+  @Value("${workflow.scheduler.lease-ttl-seconds:600}")
+  private long leaseTtlSeconds = 600;
+
+  public WorkflowLeaseManager(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    renewer.shutdownNow();
+  }
+
+  /** 워크플로우 실행 슬롯 임대를 시도한다. 다른 노드가 이미 선점했거나 같은 워크플로우가 실행 중이면 빈 값을 반환한다. */
+  public Optional<Lease> tryAcquire(Long workflowId, String slot) {
+    String runningKey = runningKey(workflowId);
+    String slotKey = LEASE_KEY_PREFIX + workflowId + ":" + slot;
+    Duration ttl = Duration.ofSeconds(leaseTtlSeconds);
+
+    Long acquired =
+        redisTemplate.execute(
+            ACQUIRE_SCRIPT, List.of(runningKey, slotKey), nodeId, String.valueOf(ttl.toMillis()));
+    if (acquired == null || acquired == 0L) {
+      log.debug("다른 노드가 실행 중이거나 이미 실행된 워크플로우 슬롯: {}", slotKey);
+      return Optional.empty();
+    }
+
+    long renewIntervalMillis = Math.max(1000L, ttl.toMillis() / 3);
+    Lease lease = new Lease(slotKey, () -> release(runningKey));
+    lease.renewal =
+        renewer.scheduleAtFixedRate(
+            () -> renew(lease, runningKey, ttl),
+            renewIntervalMillis,
+            renewIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    return Optional.of(lease);
+  }
+
+  /** 워크플로우가 어느 노드에서든 실행 중인지 확인한다. 노드가 종료돼 임대가 만료되면 false 가 된다. */
+  public boolean isRunning(Long workflowId) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(runningKey(workflowId)));
+  }
+
+  private void renew(Lease lease, String runningKey, Duration ttl) {
+    try {
+      Long renewed =
+          redisTemplate.execute(
+              RENEW_SCRIPT,
+              List.of(runningKey, lease.getKey()),
+              nodeId,
+              String.valueOf(ttl.toMillis()));
+      if (renewed == null || renewed == 0L) {
+        // 만료돼 다른 노드로 넘어간 임대는 더 연장하지 않는다
+        log.warn("워크플로우 임대 연장 실패 (다른 노드로 넘어갔을 수 있음): {}", lease.getKey());
+        lease.renewal.cancel(false);
+      }
+    } catch (Exception e) {
+      log.warn("워크플로우 임대 연장 중 오류: {}, 오류={}", lease.getKey(), e.getMessage());
+    }
+  }
+
+  private void release(String runningKey) {
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(runningKey), nodeId);
+    } catch (Exception e) {
+      log.warn("워크플로우 실행 표시 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+    }
+  }
+
+  private static String runningKey(Long workflowId) {
+    return LEASE_KEY_PREFIX + workflowId + ":RUNNING";
+  }
+
+  private static String resolveNodeId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      host = "unknown";
+    }
+    return host + "-" + UUID.randomUUID();
+  }
+
+  /** 보유 중인 임대. 닫으면 연장을 멈추고 실행 표시를 지우며, 남은 만료 시간 동안 같은 슬롯의 재실행을 막는다. */
+  public static class Lease implements AutoCloseable {
+    private final String key;
+    private final Runnable onClose;
+    private volatile ScheduledFuture<?> renewal;
+
+    private Lease(String key, Runnable onClose) {
+      this.key = key;
+      this.onClose = onClose;
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public void close() {
+      renewal.cancel(false);
+      onClose.run();
+    }
+  }
+}
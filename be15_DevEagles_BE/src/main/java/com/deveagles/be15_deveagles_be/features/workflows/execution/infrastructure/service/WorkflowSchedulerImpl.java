@@ -1,13 +1,30 @@
 package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
 
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowScheduler;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.WorkflowLeaseManager.Lease;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +34,25 @@ import org.springframework.stereotype.Component;
 public class WorkflowSchedulerImpl implements WorkflowScheduler {
 
   private final WorkflowRepository workflowRepository;
+  private final WorkflowExecutionRepository workflowExecutionRepository;
   private final WorkflowExecutionService workflowExecutionService;
+  private final WorkflowLeaseManager workflowLeaseManager;
+
+  // 동시에 처리할 매장 수 (같은 매장의 워크플로우는 순차 실행)
+  @Value("${workflow.scheduler.worker-count:4}")
+  private int workerCount = 4;
+
+  private ExecutorService shopExecutor;
+
+  @PostConstruct
+  public void init() {
+    this.shopExecutor = Executors.newFixedThreadPool(Math.max(1, workerCount));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    shopExecutor.shutdown();
+  }
 
   @Scheduled(fixedDelay = 60000)
   @Override
@@ -35,14 +70,8 @@ public class WorkflowSchedulerImpl implements WorkflowScheduler {
 
       log.info("{}개의 스케줄된 워크플로우를 실행합니다.", scheduledWorkflows.size());
 
-      for (Workflow workflow : scheduledWorkflows) {
-        try {
-          log.info("워크플로우 실행 시작: ID={}, 제목={}", workflow.getId(), workflow.getTitle());
-          workflowExecutionService.executeWorkflow(workflow);
-        } catch (Exception e) {
-          log.error("워크플로우 실행 중 오류 발생: ID={}, 오류={}", workflow.getId(), e.getMessage(), e);
-        }
-      }
+      // 예약 시각을 슬롯으로 사용 (실행 후 다음 예약 시각으로 바뀌므로 같은 예약은 한 번만 실행)
+      executeByShop(scheduledWorkflows, workflow -> "scheduled:" + workflow.getNextScheduledAt());
 
     } catch (Exception e) {
       log.error("스케줄된 워크플로우 체크 중 오류 발생: {}", e.getMessage(), e);
@@ -55,20 +84,12 @@ public class WorkflowSchedulerImpl implements WorkflowScheduler {
     log.info("일일 트리거 체크 시작");
 
     try {
-      List<Workflow> birthdayWorkflows = workflowRepository.findByTriggerType("birthday");
-      for (Workflow workflow : birthdayWorkflows) {
-        if (workflow.canExecute()) {
-          workflowExecutionService.executeWorkflow(workflow);
-        }
-      }
+      List<Workflow> dailyWorkflows = new ArrayList<>();
+      dailyWorkflows.addAll(workflowRepository.findByTriggerType("birthday"));
+      dailyWorkflows.addAll(workflowRepository.findByTriggerType("first-visit-anniversary"));
 
-      List<Workflow> anniversaryWorkflows =
-          workflowRepository.findByTriggerType("first-visit-anniversary");
-      for (Workflow workflow : anniversaryWorkflows) {
-        if (workflow.canExecute()) {
-          workflowExecutionService.executeWorkflow(workflow);
-        }
-      }
+      String slot = "daily:" + LocalDate.now();
+      executeByShop(executable(dailyWorkflows), workflow -> slot);
 
       log.info("일일 트리거 체크 완료");
 
@@ -83,19 +104,12 @@ public class WorkflowSchedulerImpl implements WorkflowScheduler {
     log.debug("주기적 트리거 체크 시작");
 
     try {
-      List<Workflow> visitCycleWorkflows = workflowRepository.findByTriggerType("visit-cycle");
-      for (Workflow workflow : visitCycleWorkflows) {
-        if (workflow.canExecute()) {
-          workflowExecutionService.executeWorkflow(workflow);
-        }
-      }
+      List<Workflow> periodicWorkflows = new ArrayList<>();
+      periodicWorkflows.addAll(workflowRepository.findByTriggerType("visit-cycle"));
+      periodicWorkflows.addAll(workflowRepository.findByTriggerType("churn-risk-high"));
 
-      List<Workflow> churnRiskWorkflows = workflowRepository.findByTriggerType("churn-risk-high");
-      for (Workflow workflow : churnRiskWorkflows) {
-        if (workflow.canExecute()) {
-          workflowExecutionService.executeWorkflow(workflow);
-        }
-      }
+      String slot = "periodic:" + LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+      executeByShop(executable(periodicWorkflows), workflow -> slot);
 
       log.debug("주기적 트리거 체크 완료");
 
@@ -103,4 +117,83 @@ public class WorkflowSchedulerImpl implements WorkflowScheduler {
       log.error("주기적 트리거 체크 중 오류 발생: {}", e.getMessage(), e);
     }
   }
+
+  /**
+   * 노드가 종료돼 끝나지 못한 실행을 이어서 처리한다. 일일 · 주기 트리거는 같은 슬롯이 다시 오지 않으므로, 실행 표시가 만료된 실행을 찾아 체크포인트부터
+   * 재개한다.
+   */
+  @Scheduled(fixedDelayString = "${workflow.scheduler.resume-interval-ms:300000}")
+  @Override
+  public void resumeUnfinishedExecutions() {
+    try {
+      LocalDateTime now = LocalDateTime.now();
+      // 워크플로우별 가장 최근 실행 (실행 서비스도 가장 최근 실행을 이어받는다)
+      Map<Long, Long> executionIdByWorkflowId = new LinkedHashMap<>();
+      for (WorkflowExecution execution : workflowExecutionRepository.findRunningExecutions()) {
+        if (execution.isResumable(now)
+            && !workflowLeaseManager.isRunning(execution.getWorkflowId())) {
+          executionIdByWorkflowId.merge(execution.getWorkflowId(), execution.getId(), Math::max);
+        }
+      }
+      if (executionIdByWorkflowId.isEmpty()) {
+        return;
+      }
+
+      List<Workflow> unfinished =
+          executable(
+              executionIdByWorkflowId.keySet().stream()
+                  .map(workflowRepository::findById)
+                  .flatMap(Optional::stream)
+                  .toList());
+      log.info("중단된 워크플로우 실행 {}건을 이어서 처리합니다.", unfinished.size());
+
+      // 실행 ID 를 슬롯으로 사용해 여러 노드가 같은 실행을 동시에 재개하지 않게 한다
+      executeByShop(
+          unfinished, workflow -> "resume:" + executionIdByWorkflowId.get(workflow.getId()));
+
+    } catch (Exception e) {
+      log.error("중단된 워크플로우 실행 재개 중 오류 발생: {}", e.getMessage(), e);
+    }
+  }
+
+  private List<Workflow> executable(List<Workflow> workflows) {
+    return workflows.stream().filter(Workflow::canExecute).toList();
+  }
+
+  /**
+   * 매장별로 묶어 제한된 워커 풀에서 병렬 실행한다. 각 워크플로우는 슬롯 임대를 얻은 노드에서만 실행되므로 여러 인스턴스가 같은 워크플로우를 중복 실행하지
+   * 않는다.
+   */
+  private void executeByShop(List<Workflow> workflows, Function<Workflow, String> slotOf) {
+    Map<Long, List<Workflow>> byShop =
+        workflows.stream()
+            .collect(
+                Collectors.groupingBy(
+                    Workflow::getShopId, LinkedHashMap::new, Collectors.toList()));
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (List<Workflow> shopWorkflows : byShop.values()) {
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> shopWorkflows.forEach(workflow -> executeWithLease(workflow, slotOf)),
+              shopExecutor));
+    }
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+  }
+
+  private void executeWithLease(Workflow workflow, Function<Workflow, String> slotOf) {
+    Optional<Lease> lease =
+        workflowLeaseManager.tryAcquire(workflow.getId(), slotOf.apply(workflow));
+    if (lease.isEmpty()) {
+      return;
+    }
+
+    try (Lease acquired = lease.get()) {
+      log.info("워크플로우 실행 시작: ID={}, 제목={}", workflow.getId(), workflow.getTitle());
+      workflowExecutionService.executeWorkflow(workflow);
+    } catch (Exception e) {
+      log.error("워크플로우 실행 중 오류 발생: ID={}, 오류={}", workflow.getId(), e.getMessage(), e);
+    }
+  }
 }
@@ -0,0 +1,155 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import com.deveagles.be15_deveagles_be.common.events.WorkflowChangedEvent;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.TriggerConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장/트리거 종류별 활성 워크플로우 색인.
+ *
+ * <p>매장의 활성 워크플로우를 한 번에 읽어 트리거 설정 JSON 을 미리 파싱해 두고, 이벤트마다 DB 와 JSON 파싱 없이 대상 워크플로우를 찾는다.
+ * 워크플로우가 바뀌면({@link WorkflowChangedEvent}) 커밋 후 해당 매장 색인을 지우고 Redis 채널로 다른 서버 인스턴스에도 알린다. 메시지를
+ * 놓쳐도 일정 시간이 지나면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class WorkflowTriggerIndex implements MessageListener {
+
+  public static final String CHANNEL = "WORKFLOW_CHANGED";
+
+  private final WorkflowRepository workflowRepository;
+  private final ObjectMapper objectMapper;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final Map<Long, ShopTriggers> entries = new ConcurrentHashMap<>();
+  // 매장별로 무효화마다 증가. 읽는 도중 그 매장의 무효화가 있었으면 읽은 결과를 캐시에 넣지 않는다.
+  private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  @Value("${workflow.trigger-index.ttl-seconds:600}")
+  private long ttlSeconds = 600;
+
+  @Value("${workflow.trigger-index.max-shops:10000}")
+  private int maxShops = 10000;
+
+  public WorkflowTriggerIndex(
+      WorkflowRepository workflowRepository,
+      ObjectMapper objectMapper,
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.workflowRepository = workflowRepository;
+    this.objectMapper = objectMapper;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /** 매장의 해당 트리거 종류 활성 워크플로우 */
+  public List<TriggerEntry> find(Long shopId, String triggerType) {
+    return load(shopId).byTriggerType().getOrDefault(triggerType, List.of());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onWorkflowChanged(WorkflowChangedEvent event) {
+    evict(event.shopId());
+    try {
+      redisTemplate.convertAndSend(CHANNEL, String.valueOf(event.shopId()));
+    } catch (Exception e) {
+      log.warn("워크플로우 트리거 색인 무효화 전파 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      evict(Long.valueOf(body));
+    } catch (NumberFormatException e) {
+      log.warn("워크플로우 트리거 색인 메시지 형식 오류: {}", body);
+    }
+  }
+
+  void evict(Long shopId) {
+    generationOf(shopId).incrementAndGet();
+    entries.remove(shopId);
+  }
+
+  long generation(Long shopId) {
+    return generationOf(shopId).get();
+  }
+
+  private AtomicLong generationOf(Long shopId) {
+    return generations.computeIfAbsent(shopId, id -> new AtomicLong());
+  }
+
+  private ShopTriggers load(Long shopId) {
+    ShopTriggers cached = entries.get(shopId);
+    if (cached != null && cached.loadedAt() + ttlSeconds * 1000 > System.currentTimeMillis()) {
+      return cached;
+    }
+
+    long loadedGeneration = generation(shopId);
+    Map<String, List<TriggerEntry>> byTriggerType = new HashMap<>();
+    for (Workflow workflow : workflowRepository.findAllByShopIdAndIsActiveTrue(shopId)) {
+      if (workflow.getTriggerType() == null) {
+        continue;
+      }
+      TriggerEntry entry =
+          new TriggerEntry(workflow.getId(), parseTriggerConfig(workflow.getTriggerConfig()));
+      byTriggerType
+          .computeIfAbsent(workflow.getTriggerType(), type -> new ArrayList<>())
+          .add(entry);
+    }
+    byTriggerType.replaceAll((type, list) -> List.copyOf(list));
+
+    ShopTriggers loaded = new ShopTriggers(Map.copyOf(byTriggerType), System.currentTimeMillis());
+    if (entries.size() >= maxShops) {
+      long expiredBefore = System.currentTimeMillis() - ttlSeconds * 1000;
+      entries.values().removeIf(shop -> shop.loadedAt() <= expiredBefore);
+    }
+    if (generation(shopId) == loadedGeneration && entries.size() < maxShops) {
+      entries.put(shopId, loaded);
+    }
+    return loaded;
+  }
+
+  private TriggerConfig parseTriggerConfig(String triggerConfigJson) {
+    try {
+      if (triggerConfigJson == null || triggerConfigJson.trim().isEmpty()) {
+        return TriggerConfig.builder().build();
+      }
+      return objectMapper.readValue(triggerConfigJson, TriggerConfig.class);
+    } catch (Exception e) {
+      log.error("트리거 설정 파싱 오류: {}, JSON={}", e.getMessage(), triggerConfigJson);
+      return TriggerConfig.builder().build();
+    }
+  }
+
+  /** 트리거 조건 확인용 워크플로우 ID 와 파싱된 설정 */
+  public record TriggerEntry(Long workflowId, TriggerConfig triggerConfig) {}
+
+  private record ShopTriggers(Map<String, List<TriggerEntry>> byTriggerType, long loadedAt) {}
+}
@@ -0,0 +1,10 @@
+-- 고객 검색 색인 아웃박스 (ddl-auto 는 none 이므로 배포 전에 직접 적용한다)
+--
+-- 색인기는 outbox_id 순으로 꺼내 처리한 행을 지우므로 기본 키 외의 인덱스는 두지 않는다.
+
+CREATE TABLE IF NOT EXISTS customer_index_outbox (
+  outbox_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+  customer_id BIGINT   NOT NULL,
+  shop_id     BIGINT   NOT NULL,
+  created_at  DATETIME NOT NULL
+);
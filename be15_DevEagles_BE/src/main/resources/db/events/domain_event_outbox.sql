@@ -0,0 +1,18 @@
+-- 도메인 이벤트 아웃박스 (ddl-auto 는 none 이므로 배포 전에 직접 적용한다)
+
+CREATE TABLE IF NOT EXISTS domain_event_outbox (
+  outbox_id       BIGINT AUTO_INCREMENT PRIMARY KEY,
+  event_id        VARCHAR(36)  NOT NULL,
+  event_type      VARCHAR(100) NOT NULL,
+  shop_id         BIGINT       NOT NULL,
+  customer_id     BIGINT       NULL,
+  payload         JSON         NOT NULL,
+  attempts        INT          NOT NULL DEFAULT 0,
+  next_attempt_at DATETIME     NULL,
+  last_error      VARCHAR(500) NULL,
+  created_at      DATETIME     NOT NULL
+);
+
+-- findPending 이 재시도 한도와 다음 시도 시각으로 좁히고, 같은 고객의 앞선 대기 행을 찾는다
+CREATE INDEX IF NOT EXISTS idx_domain_event_outbox_pending
+  ON domain_event_outbox (attempts, next_attempt_at, customer_id, outbox_id);
@@ -0,0 +1,10 @@
+-- 문자 발송 점유 기한과 재시도 횟수 (ddl-auto 는 none 이므로 배포 전에 직접 적용한다)
+
+ALTER TABLE sms
+  ADD COLUMN dispatch_attempts INT      NOT NULL DEFAULT 0,
+  ADD COLUMN claimed_at        DATETIME NULL,
+  ADD COLUMN next_attempt_at   DATETIME NULL;
+
+-- 발송 대상 점유와 점유 기한 회수가 상태로 먼저 좁힌다
+CREATE INDEX IF NOT EXISTS idx_sms_delivery_status_scheduled_at
+  ON sms (message_delivery_status, scheduled_at);
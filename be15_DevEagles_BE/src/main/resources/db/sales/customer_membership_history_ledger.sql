@@ -0,0 +1,7 @@
+-- 회원권 차감 이력의 차감 금액과 차감 후 잔액 (ddl-auto 는 none 이므로 배포 전에 직접 적용한다)
+--
+-- 결제 취소로 복원한 보정 이력은 used_amount 가 음수다. 기존 이력은 두 값 모두 NULL 로 남는다.
+
+ALTER TABLE customer_membership_history
+  ADD COLUMN used_amount   INT NULL,
+  ADD COLUMN balance_after INT NULL;
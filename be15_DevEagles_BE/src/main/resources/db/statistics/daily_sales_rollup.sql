@@ -0,0 +1,50 @@
+-- 일별 매출 집계 (ddl-auto 는 none 이므로 배포 전에 직접 적용한다)
+--
+-- 적용 뒤 과거 집계는 statistics.rollup.backfill-from=YYYY-MM-DD 로 한 번 기동해 채운다.
+-- 매장 하나만 다시 만들 때는 POST /statistics/sales/rollup/rebuild?startDate=&endDate= 를 호출한다.
+
+CREATE TABLE IF NOT EXISTS daily_sales_rollup (
+  shop_id                BIGINT     NOT NULL,
+  sales_day              DATE       NOT NULL,
+  gender                 VARCHAR(7) NOT NULL,
+  total_amount           BIGINT     NOT NULL DEFAULT 0,
+  discount_amount        BIGINT     NOT NULL DEFAULT 0,
+  transaction_count      BIGINT     NOT NULL DEFAULT 0,
+  item_transaction_count BIGINT     NOT NULL DEFAULT 0,
+  PRIMARY KEY (shop_id, sales_day, gender)
+);
+
+CREATE TABLE IF NOT EXISTS daily_item_sales_rollup (
+  shop_id                BIGINT     NOT NULL,
+  sales_day              DATE       NOT NULL,
+  secondary_item_id      BIGINT     NOT NULL,
+  gender                 VARCHAR(7) NOT NULL,
+  sales_amount           BIGINT     NOT NULL DEFAULT 0,
+  discount_amount        BIGINT     NOT NULL DEFAULT 0,
+  coupon_discount_amount BIGINT     NOT NULL DEFAULT 0,
+  transaction_count      BIGINT     NOT NULL DEFAULT 0,
+  PRIMARY KEY (shop_id, sales_day, secondary_item_id, gender)
+);
+
+-- 1차 상품 · 카테고리 단위 거래 건수. 한 매출에 같은 1차 상품(카테고리)의 상품이 여럿 있어도 한 건으로 센다.
+-- 추가한 뒤에는 기존 기간도 backfill-from 으로 다시 채워야 해당 단위의 거래 건수가 원본 조회와 같아진다.
+CREATE TABLE IF NOT EXISTS daily_primary_item_sales_rollup (
+  shop_id           BIGINT     NOT NULL,
+  sales_day         DATE       NOT NULL,
+  primary_item_id   BIGINT     NOT NULL,
+  gender            VARCHAR(7) NOT NULL,
+  transaction_count BIGINT     NOT NULL DEFAULT 0,
+  PRIMARY KEY (shop_id, sales_day, primary_item_id, gender)
+);
+
+CREATE TABLE IF NOT EXISTS daily_category_sales_rollup (
+  shop_id           BIGINT      NOT NULL,
+  sales_day         DATE        NOT NULL,
+  category          VARCHAR(20) NOT NULL,
+  gender            VARCHAR(7)  NOT NULL,
+  transaction_count BIGINT      NOT NULL DEFAULT 0,
+  PRIMARY KEY (shop_id, sales_day, category, gender)
+);
+
+-- 재집계와 백필이 매장 · 기간으로 원본을 읽는다
+CREATE INDEX IF NOT EXISTS idx_sales_shop_sales_date ON sales (shop_id, sales_date);
@@ -0,0 +1,203 @@
+package com.deveagles.be15_deveagles_be.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("참조 캐시 테스트")
+class ReferenceCacheTest {
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+  @Mock private RedisMessageListenerContainer listenerContainer;
+
+  private NameCache cache;
+
+  @BeforeEach
+  void setUp() {
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    ReferenceCacheRegistry registry =
+        new ReferenceCacheRegistry(redisTemplate, listenerContainer, new ObjectMapper());
+    cache = new NameCache(registry, Map.of(1L, "VIP", 2L, "GOLD", 9L, "SKIP"));
+    cache.register();
+  }
+
+  @Test
+  @DisplayName("DB 에서 읽은 값은 Redis 에 올리고 다음 조회는 로컬에서 찾는다")
+  void get_loadsOnceAndCachesLocally() {
+    assertThat(cache.get(1L)).isEqualTo("VIP");
+    assertThat(cache.get(1L)).isEqualTo("VIP");
+
+    assertThat(cache.loadedKeys).containsExactly(1L);
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            eq(List.of("REFERENCE_CACHE:names:1", "REFERENCE_CACHE_VERSION:names:1")),
+            eq(""),
+            eq("\"VIP\""),
+            eq("3600"));
+    assertThat(cache.stats().localHits()).isEqualTo(1);
+    assertThat(cache.stats().loads()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Redis 에 있는 값은 DB 에서 읽지 않는다. 값이 없는 것도 캐시된다")
+  void get_usesRedisValueIncludingNull() {
+    given(valueOperations.get("REFERENCE_CACHE:names:3")).willReturn("null");
+
+    assertThat(cache.get(3L)).isNull();
+    assertThat(cache.get(3L)).isNull();
+
+    assertThat(cache.loadedKeys).isEmpty();
+    assertThat(cache.stats().redisHits()).isEqualTo(1);
+    assertThat(cache.stats().hitRatio()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("여러 키 조회는 캐시에 없는 키만 한 번에 읽는다")
+  void getAll_loadsOnlyMissingKeysInOneCall() {
+    cache.get(1L);
+    given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList(null, null));
+
+    Map<Long, String> names = cache.getAll(List.of(1L, 2L, 3L));
+
+    assertThat(names).containsEntry(1L, "VIP").containsEntry(2L, "GOLD").containsEntry(3L, null);
+    assertThat(cache.loadCalls).isEqualTo(2);
+    assertThat(cache.loadedKeys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  @DisplayName("무효화하면 Redis 값을 지우고 다른 인스턴스에 알리며 다음 조회는 다시 읽는다")
+  void evict_deletesSharedValueAndPublishes() {
+    cache.get(1L);
+
+    cache.evict(1L);
+    cache.get(1L);
+
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            eq(List.of("REFERENCE_CACHE:names:1", "REFERENCE_CACHE_VERSION:names:1")),
+            eq("3600"));
+    verify(redisTemplate).convertAndSend(ReferenceCacheRegistry.CHANNEL, "names\n1");
+    assertThat(cache.loadedKeys).containsExactly(1L, 1L);
+    assertThat(cache.stats().invalidations()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시하지 않는 값은 Redis 에 올리지 않는다")
+  void get_skipsUncacheableValue() {
+    cache.get(9L);
+    cache.get(9L);
+
+    verify(redisTemplate, never())
+        .execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString());
+    assertThat(cache.loadedKeys).containsExactly(9L, 9L);
+  }
+
+  @Test
+  @DisplayName("읽기 전에 가져온 버전이 그대로일 때만 Redis 에 올린다")
+  void get_storesWithVersionReadBeforeLoad() {
+    given(valueOperations.get("REFERENCE_CACHE_VERSION:names:1")).willReturn("4");
+
+    cache.get(1L);
+
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            eq(List.of("REFERENCE_CACHE:names:1", "REFERENCE_CACHE_VERSION:names:1")),
+            eq("4"),
+            eq("\"VIP\""),
+            eq("3600"));
+  }
+
+  @Test
+  @DisplayName("읽는 도중 무효화되면 읽은 값을 Redis 와 로컬에 올리지 않는다")
+  void get_skipsStoreWhenInvalidatedDuringLoad() {
+    cache.onLoad = () -> cache.evict(1L);
+
+    cache.get(1L);
+    cache.onLoad = () -> {};
+    cache.get(1L);
+
+    verify(redisTemplate, times(1))
+        .execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString());
+    assertThat(cache.loadedKeys).containsExactly(1L, 1L);
+  }
+
+  @Test
+  @DisplayName("버전을 읽지 못하면 Redis 에 올리지 않고 로컬에만 둔다")
+  void get_keepsLocalOnlyWhenVersionUnavailable() {
+    given(valueOperations.get("REFERENCE_CACHE_VERSION:names:1"))
+        .willThrow(new QueryTimeoutException("redis timeout"));
+
+    assertThat(cache.get(1L)).isEqualTo("VIP");
+    assertThat(cache.get(1L)).isEqualTo("VIP");
+
+    verify(redisTemplate, never())
+        .execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString());
+    assertThat(cache.loadedKeys).containsExactly(1L);
+  }
+
+  private static class NameCache extends ReferenceCache<Long, String> {
+
+    private final Map<Long, String> source;
+    private final List<Long> loadedKeys = new ArrayList<>();
+    private int loadCalls;
+    private Runnable onLoad = () -> {};
+
+    NameCache(ReferenceCacheRegistry registry, Map<Long, String> source) {
+      super("names", registry, new TypeReference<>() {});
+      this.source = source;
+    }
+
+    @Override
+    protected String load(Long key) {
+      loadCalls++;
+      loadedKeys.add(key);
+      onLoad.run();
+      return source.get(key);
+    }
+
+    @Override
+    protected Map<Long, String> loadAll(Set<Long> keys) {
+      loadCalls++;
+      loadedKeys.addAll(keys);
+      return keys.stream()
+          .filter(source::containsKey)
+          .collect(Collectors.toMap(key -> key, source::get));
+    }
+
+    @Override
+    protected boolean isCacheable(String value) {
+      return !"SKIP".equals(value);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.deveagles.be15_deveagles_be.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("복제 지연 확인 테스트")
+class ReplicaLagMonitorTest {
+
+  private static final String STATUS_SQL = "SHOW SLAVE STATUS";
+
+  @Mock private DataSource replica;
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private ReplicaLagMonitor lagMonitor;
+
+  @BeforeEach
+  void setUp() {
+    lagMonitor = new ReplicaLagMonitor(replica, 3, 2000);
+    ReflectionTestUtils.setField(lagMonitor, "jdbcTemplate", jdbcTemplate);
+  }
+
+  private Map<String, Object> status(Object lag) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("Seconds_Behind_Master", lag);
+    return row;
+  }
+
+  @Test
+  @DisplayName("복제 지연이 한도 이하면 복제본을 쓸 수 있다")
+  void check_lagWithinLimit_available() {
+    // given
+    given(jdbcTemplate.queryForList(STATUS_SQL)).willReturn(List.of(status(2L)));
+
+    // when
+    lagMonitor.check();
+
+    // then
+    assertThat(lagMonitor.isAvailable()).isTrue();
+  }
+
+  @Test
+  @DisplayName("복제 지연이 한도를 넘거나 복제가 멈추면 복제본을 쓰지 않는다")
+  void check_lagOverLimitOrStopped_unavailable() {
+    // given
+    given(jdbcTemplate.queryForList(STATUS_SQL))
+        .willReturn(List.of(status(5L)))
+        .willReturn(List.of(status(null)));
+
+    // when & then
+    lagMonitor.check();
+    assertThat(lagMonitor.isAvailable()).isFalse();
+    lagMonitor.check();
+    assertThat(lagMonitor.isAvailable()).isFalse();
+  }
+
+  @Test
+  @DisplayName("복제 상태가 비어 있으면 복제 설정이 없는 서버로 보고 복제본을 쓰지 않는다")
+  void check_emptyStatus_unavailable() {
+    // given
+    given(jdbcTemplate.queryForList(STATUS_SQL))
+        .willReturn(List.of(status(0L)))
+        .willReturn(List.of());
+
+    // when
+    lagMonitor.check();
+    lagMonitor.check();
+
+    // then
+    assertThat(lagMonitor.isAvailable()).isFalse();
+  }
+
+  @Test
+  @DisplayName("복제 상태 확인에 실패하면 복제본을 쓰지 않는다")
+  void check_failure_unavailable() {
+    // given
+    given(jdbcTemplate.queryForList(STATUS_SQL))
+        .willThrow(new QueryTimeoutException("replica timeout"));
+
+    // when
+    lagMonitor.check();
+
+    // then
+    assertThat(lagMonitor.isAvailable()).isFalse();
+  }
+}
@@ -0,0 +1,153 @@
+package com.deveagles.be15_deveagles_be.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import javax.sql.DataSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("읽기 복제본 라우팅 테스트")
+class ReplicaRoutingDataSourceTest {
+
+  @Mock private DataSource primary;
+  @Mock private DataSource replica;
+  @Mock private ReplicaLagMonitor lagMonitor;
+  @Mock private ReplicaStickiness stickiness;
+
+  private ReplicaRoutingDataSource routing;
+
+  @BeforeEach
+  void setUp() {
+    routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, stickiness);
+    lenient().when(stickiness.inRequest()).thenReturn(true);
+    lenient().when(lagMonitor.isAvailable()).thenReturn(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clear();
+    TransactionSynchronizationManager.unbindResourceIfPossible(
+        ReplicaRoutingDataSource.class.getName() + ".WRITE");
+  }
+
+  private void beginTransaction(boolean readOnly) {
+    TransactionSynchronizationManager.initSynchronization();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+  }
+
+  private void endTransaction() {
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    TransactionSynchronizationManager.clear();
+  }
+
+  @Test
+  @DisplayName("요청 안의 읽기 전용 트랜잭션은 복제본을 쓴다")
+  void readOnlyTransaction_routesToReplica() {
+    beginTransaction(true);
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceType.REPLICA);
+  }
+
+  @Test
+  @DisplayName("쓰기 직후에는 읽기 전용 트랜잭션도 원본을 쓴다")
+  void readOnlyTransaction_stickyAfterWrite_routesToPrimary() {
+    beginTransaction(true);
+    given(stickiness.isSticky()).willReturn(true);
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+  }
+
+  @Test
+  @DisplayName("복제 지연이 한도를 넘으면 원본을 쓴다")
+  void readOnlyTransaction_replicaLagging_routesToPrimary() {
+    beginTransaction(true);
+    given(lagMonitor.isAvailable()).willReturn(false);
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+  }
+
+  @Test
+  @DisplayName("요청 밖의 작업은 읽기 전용이어도 원본을 쓴다")
+  void readOnlyTransaction_outsideRequest_routesToPrimary() {
+    beginTransaction(true);
+    given(stickiness.inRequest()).willReturn(false);
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+  }
+
+  @Test
+  @DisplayName("쓰기 트랜잭션은 원본을 쓰고 커밋 후 쓰기를 기록한다")
+  void writeTransaction_routesToPrimaryAndMarksWrittenAfterCommit() {
+    beginTransaction(false);
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    then(stickiness).should(never()).markWritten();
+
+    // 커넥션을 여러 번 얻어도 동기화는 한 번만 등록한다
+    assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    then(stickiness).should().markWritten();
+  }
+
+  @Test
+  @DisplayName("한 요청에서 읽기 전용 트랜잭션 뒤에 이어지는 쓰기 트랜잭션은 원본을 쓴다")
+  void readThenWriteTransactionInOneRequest_writeRoutesToPrimary() {
+    // given
+    beginTransaction(true);
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceType.REPLICA);
+    endTransaction();
+
+    // when
+    beginTransaction(false);
+    Object writeKey = routing.determineCurrentLookupKey();
+
+    // then
+    assertThat(writeKey).isEqualTo(DataSourceType.PRIMARY);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    then(stickiness).should().markWritten();
+  }
+
+  @Test
+  @DisplayName("트랜잭션 밖에서는 MyBatis 조회 매퍼만 복제본을 쓴다")
+  void outsideTransaction_onlyQueryMappersRouteToReplica() throws Throwable {
+    ReplicaQueryInterceptor interceptor = new ReplicaQueryInterceptor(stickiness);
+
+    assertThat(interceptor.intercept(select("sales.query.mapper.SalesMapper.findSales")))
+        .isEqualTo(DataSourceType.REPLICA);
+    assertThat(interceptor.intercept(select("sales.command.mapper.SalesMapper.findSales")))
+        .isEqualTo(DataSourceType.PRIMARY);
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+  }
+
+  // 실행 시점에 고른 데이터소스를 결과로 돌려주는 조회
+  private Invocation select(String statementId) throws Throwable {
+    MappedStatement statement = mock(MappedStatement.class);
+    given(statement.getId()).willReturn("com.deveagles.be15_deveagles_be.features." + statementId);
+    given(statement.getSqlCommandType()).willReturn(SqlCommandType.SELECT);
+    Invocation invocation = mock(Invocation.class);
+    given(invocation.getArgs()).willReturn(new Object[] {statement});
+    given(invocation.proceed()).willAnswer(inv -> routing.determineCurrentLookupKey());
+    return invocation;
+  }
+}
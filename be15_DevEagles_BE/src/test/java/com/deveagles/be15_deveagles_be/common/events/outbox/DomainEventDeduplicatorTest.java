@@ -0,0 +1,131 @@
+package com.deveagles.be15_deveagles_be.common.events.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("도메인 이벤트 중복 처리 방지 테스트")
+class DomainEventDeduplicatorTest {
+
+  private static final String KEY = "DOMAIN_EVENT_HANDLED:consumer:event-1";
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private DomainEventDeduplicator deduplicator;
+  private final AtomicInteger runs = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    deduplicator = new DomainEventDeduplicator(redisTemplate);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+  }
+
+  private void givenClaim(boolean first) {
+    given(valueOperations.setIfAbsent(eq(KEY), eq("0"), any(Duration.class))).willReturn(first);
+  }
+
+  @Test
+  @DisplayName("작업이 성공한 뒤에 처리 완료 기록을 남긴다")
+  void handleOnce_marksAfterSuccess() {
+    // given
+    givenClaim(true);
+
+    // when
+    boolean handled = deduplicator.handleOnce("consumer", "event-1", runs::incrementAndGet);
+
+    // then
+    assertThat(handled).isTrue();
+    assertThat(runs).hasValue(1);
+    then(valueOperations).should().set(KEY, "1", Duration.ofHours(72));
+  }
+
+  @Test
+  @DisplayName("이미 처리했거나 처리 중인 이벤트는 실행하지 않는다")
+  void handleOnce_skipsHandledEvent() {
+    // given
+    givenClaim(false);
+
+    // when
+    boolean handled = deduplicator.handleOnce("consumer", "event-1", runs::incrementAndGet);
+
+    // then
+    assertThat(handled).isFalse();
+    assertThat(runs).hasValue(0);
+  }
+
+  @Test
+  @DisplayName("작업이 실패하면 기록을 지우고 예외를 그대로 던져 다시 처리할 수 있게 한다")
+  void handleOnce_releasesOnFailure() {
+    // given
+    givenClaim(true);
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                deduplicator.handleOnce(
+                    "consumer",
+                    "event-1",
+                    () -> {
+                      throw new IllegalStateException("알림 저장 실패");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    then(redisTemplate).should().delete(KEY);
+    then(valueOperations).should(never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안이면 커밋된 뒤에 처리 완료로 기록하고, 롤백되면 기록을 지운다")
+  void handleOnce_inTransaction_marksOnCommitOnly() {
+    // given
+    givenClaim(true);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      deduplicator.handleOnce("consumer", "event-1", runs::incrementAndGet);
+
+      // then
+      then(valueOperations).should(never()).set(anyString(), anyString(), any(Duration.class));
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    then(redisTemplate).should().delete(KEY);
+    then(valueOperations).should(never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Redis 를 쓸 수 없으면 이벤트를 놓치지 않도록 실행한다")
+  void handleOnce_redisFailure_runs() {
+    // given
+    given(valueOperations.setIfAbsent(eq(KEY), eq("0"), any(Duration.class)))
+        .willThrow(new IllegalStateException("redis down"));
+
+    // when
+    boolean handled = deduplicator.handleOnce("consumer", "event-1", runs::incrementAndGet);
+
+    // then
+    assertThat(handled).isTrue();
+    assertThat(runs).hasValue(1);
+  }
+}
@@ -0,0 +1,181 @@
+package com.deveagles.be15_deveagles_be.common.events.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.deveagles.be15_deveagles_be.common.events.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.common.events.DomainEvent;
+import com.deveagles.be15_deveagles_be.common.events.PaymentCompletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("도메인 이벤트 전달기 테스트")
+class DomainEventDispatcherTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+  @Mock private DomainEventOutboxRepository outboxRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private DomainEventDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    dispatcher =
+        new DomainEventDispatcher(outboxRepository, eventPublisher, objectMapper, redisTemplate);
+    ReflectionTestUtils.setField(dispatcher, "enabled", false);
+    dispatcher.start();
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    lenient()
+        .when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    dispatcher.shutdown();
+  }
+
+  private DomainEventOutbox row(Long id, DomainEvent event) throws Exception {
+    return DomainEventOutbox.builder()
+        .id(id)
+        .eventId(event.eventId())
+        .eventType(event.getClass().getSimpleName())
+        .shopId(event.shopId())
+        .customerId(event.customerId())
+        .payload(objectMapper.writeValueAsString(event))
+        .build();
+  }
+
+  @Test
+  @DisplayName("같은 고객의 이벤트는 쌓인 순서대로 전달하고 전달한 행을 지운다")
+  void flush_deliversInOrderAndDeletes() throws Exception {
+    // given
+    CustomerVisitEvent visit = CustomerVisitEvent.of(10L, 1L, null, NOW, null);
+    PaymentCompletedEvent payment = PaymentCompletedEvent.of(10L, 1L, 9000L, NOW, 0L);
+    given(outboxRepository.findPending(anyInt(), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(row(1L, visit), row(2L, payment)));
+
+    // when
+    int processed = dispatcher.flush();
+
+    // then
+    assertThat(processed).isEqualTo(2);
+    ArgumentCaptor<Object> delivered = ArgumentCaptor.forClass(Object.class);
+    then(eventPublisher).should(times(2)).publishEvent(delivered.capture());
+    assertThat(delivered.getAllValues()).containsExactly(visit, payment);
+    then(outboxRepository).should().deleteAllByIdInBatch(List.of(1L, 2L));
+    then(outboxRepository).should(never()).saveAll(any());
+  }
+
+  @Test
+  @DisplayName("전달에 실패하면 그 고객의 뒤 이벤트는 미루고 다른 고객 이벤트는 전달한다")
+  void flush_failureHoldsBackSameCustomerOnly() throws Exception {
+    // given
+    CustomerVisitEvent failing = CustomerVisitEvent.of(10L, 1L, null, NOW, null);
+    PaymentCompletedEvent heldBack = PaymentCompletedEvent.of(10L, 1L, 9000L, NOW, 0L);
+    CustomerVisitEvent other = CustomerVisitEvent.of(11L, 1L, null, NOW, null);
+    DomainEventOutbox failingRow = row(1L, failing);
+    given(outboxRepository.findPending(anyInt(), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(failingRow, row(2L, heldBack), row(3L, other)));
+    lenient()
+        .doThrow(new IllegalStateException("일시 오류"))
+        .when(eventPublisher)
+        .publishEvent(failing);
+
+    // when
+    int processed = dispatcher.flush();
+
+    // then
+    assertThat(processed).isEqualTo(2);
+    then(eventPublisher).should(never()).publishEvent(heldBack);
+    then(eventPublisher).should().publishEvent(other);
+    then(outboxRepository).should().deleteAllByIdInBatch(List.of(3L));
+
+    ArgumentCaptor<List<DomainEventOutbox>> failed = ArgumentCaptor.forClass(List.class);
+    then(outboxRepository).should().saveAll(failed.capture());
+    assertThat(failed.getValue()).containsExactly(failingRow);
+    assertThat(failingRow.getAttempts()).isEqualTo(1);
+    assertThat(failingRow.getLastError()).isEqualTo("일시 오류");
+    assertThat(failingRow.getNextAttemptAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("재시도를 기다리는 이벤트가 있으면 그 고객의 이벤트는 전달하지 않는다")
+  void flush_waitingRowHoldsBackCustomer() throws Exception {
+    // given
+    DomainEventOutbox waiting = row(1L, CustomerVisitEvent.of(10L, 1L, null, NOW, null));
+    waiting.fail("일시 오류", LocalDateTime.now().plusMinutes(1));
+    given(outboxRepository.findPending(anyInt(), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(waiting));
+
+    // when
+    int processed = dispatcher.flush();
+
+    // then
+    assertThat(processed).isZero();
+    then(eventPublisher).should(never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  @DisplayName("지금 전달할 수 있는 행만 현재 시각으로 조회한다")
+  void flush_queriesWithCurrentTime() throws Exception {
+    // given
+    LocalDateTime before = LocalDateTime.now();
+    given(outboxRepository.findPending(anyInt(), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of());
+
+    // when
+    dispatcher.flush();
+
+    // then
+    ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+    then(outboxRepository).should().findPending(eq(10), now.capture(), any(Pageable.class));
+    assertThat(now.getValue()).isBetween(before, LocalDateTime.now());
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 처리 중이면 outbox 를 읽지 않는다")
+  void flush_skipsWhenLocked() throws Exception {
+    // given
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(false);
+
+    // when
+    int processed = dispatcher.flush();
+
+    // then
+    assertThat(processed).isZero();
+    then(outboxRepository)
+        .should(never())
+        .findPending(anyInt(), any(LocalDateTime.class), any(Pageable.class));
+  }
+}
@@ -0,0 +1,122 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.StaffStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JWT 인증 필터 테스트")
+class JwtAuthenticationFilterTest {
+
+  @Mock private JwtTokenProvider jwtTokenProvider;
+  @Mock private UserDetailsService userDetailsService;
+  @Mock private FilterChain filterChain;
+  @InjectMocks private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private MockHttpServletRequest requestWithToken() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer access-token");
+    return request;
+  }
+
+  @Test
+  @DisplayName("서명된 claims 만으로 사용자 정보를 구성하고 DB 를 조회하지 않는다")
+  void doFilter_buildsPrincipalFromClaims() throws Exception {
+    // given
+    Claims claims =
+        Jwts.claims()
+            .subject("owner01")
+            .add("type", "access")
+            .add("shopId", "1")
+            .add("userId", "7")
+            .add("userStatus", "OWNER")
+            .add("staffName", "김원장")
+            .add("grade", "원장")
+            .build();
+    given(jwtTokenProvider.parseVerifiedClaims("access-token")).willReturn(claims);
+    given(jwtTokenProvider.isAccessTokenBlacklisted("access-token")).willReturn(false);
+    MockHttpServletRequest request = requestWithToken();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+    // then
+    CustomUser principal =
+        (CustomUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    assertThat(principal.getShopId()).isEqualTo(1L);
+    assertThat(principal.getUserId()).isEqualTo(7L);
+    assertThat(principal.getUsername()).isEqualTo("owner01");
+    assertThat(principal.getStaffStatus()).isEqualTo(StaffStatus.OWNER);
+    assertThat(principal.getStaffName()).isEqualTo("김원장");
+    then(userDetailsService).should(never()).loadUserByUsername(anyString());
+    then(filterChain).should().doFilter(request, response);
+  }
+
+  @Test
+  @DisplayName("필요한 claim 이 없는 이전 토큰은 DB 에서 사용자 정보를 조회한다")
+  void doFilter_fallsBackToUserDetailsService() throws Exception {
+    // given
+    Claims claims = Jwts.claims().subject("owner01").add("type", "access").build();
+    CustomUser loaded =
+        CustomUser.builder()
+            .shopId(1L)
+            .userId(7L)
+            .username("owner01")
+            .staffStatus(StaffStatus.OWNER)
+            .build();
+    given(jwtTokenProvider.parseVerifiedClaims("access-token")).willReturn(claims);
+    given(jwtTokenProvider.isAccessTokenBlacklisted("access-token")).willReturn(false);
+    given(userDetailsService.loadUserByUsername("owner01")).willReturn(loaded);
+
+    // when
+    jwtAuthenticationFilter.doFilterInternal(
+        requestWithToken(), new MockHttpServletResponse(), filterChain);
+
+    // then
+    assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+        .isSameAs(loaded);
+  }
+
+  @Test
+  @DisplayName("블랙리스트 토큰은 사용자 정보를 만들지 않고 거부한다")
+  void doFilter_rejectsBlacklistedToken() throws Exception {
+    // given
+    Claims claims = Jwts.claims().subject("owner01").add("type", "access").build();
+    given(jwtTokenProvider.parseVerifiedClaims("access-token")).willReturn(claims);
+    given(jwtTokenProvider.isAccessTokenBlacklisted("access-token")).willReturn(true);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    jwtAuthenticationFilter.doFilterInternal(requestWithToken(), response, filterChain);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(401);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    then(filterChain).shouldHaveNoInteractions();
+  }
+}
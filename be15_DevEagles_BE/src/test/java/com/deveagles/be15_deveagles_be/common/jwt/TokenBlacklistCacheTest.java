@@ -0,0 +1,111 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("토큰 블랙리스트 로컬 캐시 테스트")
+class TokenBlacklistCacheTest {
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private RedisMessageListenerContainer listenerContainer;
+  @Mock private Cursor<String> cursor;
+  @InjectMocks private TokenBlacklistCache tokenBlacklistCache;
+
+  private void givenScannedKeys(String... keys) {
+    List<String> remaining = new ArrayList<>(List.of(keys));
+    given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+    given(cursor.hasNext()).willAnswer(invocation -> !remaining.isEmpty());
+    if (keys.length > 0) {
+      given(cursor.next()).willAnswer(invocation -> remaining.remove(0));
+    }
+  }
+
+  private void publish(String token, long remainMillis) {
+    String body = TokenBlacklistCache.toMessage(token, remainMillis);
+    tokenBlacklistCache.onMessage(
+        new DefaultMessage(
+            TokenBlacklistCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8)),
+        null);
+  }
+
+  @Test
+  @DisplayName("첫 동기화 전에는 Redis 를 직접 조회한다")
+  void isBlacklisted_beforeSync_readsRedis() {
+    // given
+    given(redisTemplate.hasKey("BL:token")).willReturn(true);
+
+    // when & then
+    assertThat(tokenBlacklistCache.isBlacklisted("token")).isTrue();
+  }
+
+  @Test
+  @DisplayName("동기화 뒤에는 로컬 사본으로 판별하고 채널로 받은 토큰을 즉시 반영한다")
+  void isBlacklisted_afterSync_usesLocalCopy() {
+    // given
+    givenScannedKeys();
+    tokenBlacklistCache.sync();
+
+    // when
+    publish("logged-out", 60_000);
+    publish("expired", -1);
+
+    // then
+    assertThat(tokenBlacklistCache.isBlacklisted("logged-out")).isTrue();
+    assertThat(tokenBlacklistCache.isBlacklisted("expired")).isFalse();
+    assertThat(tokenBlacklistCache.isBlacklisted("active")).isFalse();
+    then(redisTemplate).should(never()).hasKey(anyString());
+  }
+
+  @Test
+  @DisplayName("재동기화는 남은 만료 시간을 키마다 왕복하지 않고 파이프라인으로 조회한다")
+  void sync_pipelinesTtlLookups() throws Exception {
+    // given
+    givenScannedKeys("BL:first", "BL:gone");
+    given(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(List.of(60_000L, -2L));
+
+    // when
+    tokenBlacklistCache.sync();
+
+    // then
+    assertThat(tokenBlacklistCache.isBlacklisted("first")).isTrue();
+    assertThat(tokenBlacklistCache.isBlacklisted("gone")).isFalse();
+    then(redisTemplate).should(never()).getExpire(anyString(), any(TimeUnit.class));
+
+    ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+    then(redisTemplate).should().executePipelined(callback.capture());
+    RedisConnection connection = mock(RedisConnection.class);
+    RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+    given(connection.keyCommands()).willReturn(keyCommands);
+    callback.getValue().doInRedis(connection);
+    then(keyCommands).should().pTtl("BL:first".getBytes(StandardCharsets.UTF_8));
+    then(keyCommands).should().pTtl("BL:gone".getBytes(StandardCharsets.UTF_8));
+  }
+}
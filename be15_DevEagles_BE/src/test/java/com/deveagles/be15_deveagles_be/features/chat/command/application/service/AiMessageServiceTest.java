@@ -5,15 +5,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.AiTypingEvent;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,8 +30,6 @@ class AiMessageServiceTest {
 
   @InjectMocks private AiMessageService aiMessageService;
 
-  @Mock private ChatRoomRepository chatRoomRepository;
-
   @Mock private ChatMessageRepository chatMessageRepository;
 
   @Mock private SimpMessagingTemplate messagingTemplate;
@@ -49,9 +47,9 @@ class AiMessageServiceTest {
   @BeforeEach
   void setUp() {
     aiMessageService =
-        new AiMessageService(
-            chatRoomRepository, chatMessageRepository, messagingTemplate, webClient);
+        new AiMessageService(chatMessageRepository, messagingTemplate, webClient);
     ReflectionTestUtils.setField(aiMessageService, "aiWebhookUrl", "http://mocked.url");
+    ReflectionTestUtils.setField(aiMessageService, "coalesceWindowMillis", 0L);
   }
 
   @Test
@@ -68,8 +66,6 @@ class AiMessageServiceTest {
             .createdAt(LocalDateTime.now())
             .build();
 
-    when(chatRoomRepository.findById(roomId)).thenReturn(Optional.of(chatRoom));
-
     // mocking WebClient fluent chain
     when(webClient.post()).thenReturn(requestBodyUriSpec);
     when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
@@ -84,13 +80,51 @@ class AiMessageServiceTest {
         .thenAnswer(invocation -> invocation.getArgument(0));
 
     // when
-    aiMessageService.handleAiResponse(roomId, input);
+    aiMessageService.handleAiResponse(chatRoom, input);
 
-    // then
-    verify(chatRoomRepository, times(1)).findById(roomId);
+    // then (응답은 비동기로 처리됨)
+    verify(messagingTemplate, timeout(1000))
+        .convertAndSend(eq("/sub/chatroom/" + roomId), any(ChatMessageResponse.class));
     verify(webClient, times(1)).post();
     verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
-    verify(messagingTemplate, times(1))
-        .convertAndSend(eq("/sub/chatroom/" + roomId), any(ChatMessageResponse.class));
+    verify(messagingTemplate, timeout(1000).times(2))
+        .convertAndSend(eq("/sub/chatroom/" + roomId + "/typing"), any(AiTypingEvent.class));
+  }
+
+  @Test
+  void handleAiResponse_coalescesRapidMessages() {
+    // given
+    String roomId = "room456";
+    ReflectionTestUtils.setField(aiMessageService, "coalesceWindowMillis", 300L);
+
+    ChatRoom chatRoom =
+        ChatRoom.builder()
+            .id(roomId)
+            .isAiActive(true)
+            .participant(ChatRoom.Participant.builder().id(1L).name("고객").shopId(1L).build())
+            .createdAt(LocalDateTime.now())
+            .build();
+
+    when(webClient.post()).thenReturn(requestBodyUriSpec);
+    when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+    when(requestBodySpec.contentType(any())).thenReturn(requestBodySpec);
+    when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+    when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+    when(responseSpec.bodyToMono(JsonNode.class))
+        .thenReturn(Mono.just(new ObjectMapper().createObjectNode().put("output", "네, 확인했습니다.")));
+
+    // when
+    aiMessageService.handleAiResponse(chatRoom, "예약하고 싶어요");
+    aiMessageService.handleAiResponse(chatRoom, "내일 오후 3시요");
+
+    // then
+    verify(chatMessageRepository, timeout(2000)).save(any(ChatMessage.class));
+    verify(webClient, times(1)).post();
+    verify(requestBodySpec)
+        .bodyValue(
+            Map.of(
+                "sessionId", roomId,
+                "chatInput", "예약하고 싶어요\n내일 오후 3시요",
+                "action", "sendMessage"));
   }
 }
@@ -83,7 +83,7 @@ class ChatServiceImplTest {
     verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
     verify(messagingTemplate, times(1))
         .convertAndSend(eq("/sub/chatroom/" + roomId), any(Object.class));
-    verify(aiMessageService, times(1)).handleAiResponse(roomId, "안녕하세요");
+    verify(aiMessageService, times(1)).handleAiResponse(chatRoom, "안녕하세요");
   }
 
   @Test
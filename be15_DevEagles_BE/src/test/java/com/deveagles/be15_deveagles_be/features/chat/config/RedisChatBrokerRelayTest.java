@@ -0,0 +1,132 @@
+package com.deveagles.be15_deveagles_be.features.chat.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+@ExtendWith(MockitoExtension.class)
+class RedisChatBrokerRelayTest {
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private RedisMessageListenerContainer listenerContainer;
+  @Mock private SimpMessagingTemplate messagingTemplate;
+  @Mock private MessageChannel channel;
+
+  private RedisChatBrokerRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay =
+        new RedisChatBrokerRelay(
+            redisTemplate, listenerContainer, messagingTemplate, new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("채팅방으로 보낸 메시지는 로컬로 전달하면서 Redis 채널로 발행한다")
+  void preSend_publishes_and_keeps_local_delivery() {
+    // given
+    Message<byte[]> message = brokerMessage("/sub/chatroom/room-1", false);
+
+    // when
+    Message<?> result = relay.preSend(message, channel);
+
+    // then
+    assertThat(result).isSameAs(message);
+    verify(redisTemplate).convertAndSend(eq("CHAT_BROKER:/sub/chatroom/room-1"), anyString());
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스에서 중계된 메시지는 다시 발행하지 않는다")
+  void preSend_skips_relayed_message() {
+    // given
+    Message<byte[]> message = brokerMessage("/sub/chatroom/room-1", true);
+
+    // when
+    relay.preSend(message, channel);
+
+    // then
+    verify(redisTemplate, never()).convertAndSend(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("채팅방 첫 구독 시에만 채널을 구독하고 마지막 연결이 끊기면 해제한다")
+  void subscription_reference_counting() {
+    // given
+    String destination = "/sub/chatroom/room-1";
+    ChannelTopic topic = new ChannelTopic("CHAT_BROKER:" + destination);
+
+    // when
+    relay.onSubscribe(subscribeEvent("session-1", "sub-0", destination));
+    relay.onSubscribe(subscribeEvent("session-2", "sub-0", destination));
+
+    // then
+    assertThat(relay.getSubscriptionCount(destination)).isEqualTo(2);
+    verify(listenerContainer, times(1)).addMessageListener(relay, topic);
+
+    // when
+    relay.onDisconnect(disconnectEvent("session-1"));
+    relay.onDisconnect(disconnectEvent("session-2"));
+
+    // then
+    assertThat(relay.getSubscriptionCount(destination)).isZero();
+    verify(listenerContainer, times(1)).removeMessageListener(relay, topic);
+  }
+
+  private Message<byte[]> brokerMessage(String destination, boolean relayed) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(destination);
+    if (relayed) {
+      accessor.setHeader("relayed", true);
+    }
+    return MessageBuilder.createMessage(
+        "{\"content\":\"안녕하세요\"}".getBytes(StandardCharsets.UTF_8),
+        accessor.getMessageHeaders());
+  }
+
+  private SessionSubscribeEvent subscribeEvent(
+      String sessionId, String subscriptionId, String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setSessionId(sessionId);
+    accessor.setSubscriptionId(subscriptionId);
+    accessor.setDestination(destination);
+    return new SessionSubscribeEvent(
+        this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+  }
+
+  private SessionDisconnectEvent disconnectEvent(String sessionId) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+    accessor.setSessionId(sessionId);
+    return new SessionDisconnectEvent(
+        this,
+        MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+        sessionId,
+        CloseStatus.NORMAL);
+  }
+}
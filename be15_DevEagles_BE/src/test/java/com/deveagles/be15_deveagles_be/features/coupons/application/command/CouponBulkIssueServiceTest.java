@@ -0,0 +1,185 @@
+package com.deveagles.be15_deveagles_be.features.coupons.application.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
+import com.deveagles.be15_deveagles_be.features.coupons.domain.service.CouponCodeGenerator;
+import com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository.CouponJdbcRepository;
+import com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository.CouponJpaRepository;
+import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.response.CouponIssueJobResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿠폰 일괄 발급 테스트")
+class CouponBulkIssueServiceTest {
+
+  @Mock private CouponJpaRepository couponJpaRepository;
+  @Mock private CouponJdbcRepository couponJdbcRepository;
+  @Mock private CouponCodeGenerator couponCodeGenerator;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private CouponBulkIssueService service;
+
+  private final Coupon template =
+      Coupon.builder()
+          .couponTitle("명절 쿠폰")
+          .shopId(1L)
+          .primaryItemId(100L)
+          .discountRate(10)
+          .isActive(true)
+          .build();
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new CouponBulkIssueService(
+            couponJpaRepository,
+            couponJdbcRepository,
+            couponCodeGenerator,
+            redisTemplate,
+            objectMapper);
+    ReflectionTestUtils.setField(service, "chunkSize", 2);
+  }
+
+  private static Set<String> codes(String... codes) {
+    return new LinkedHashSet<>(List.of(codes));
+  }
+
+  @Test
+  @DisplayName("이미 쓰인 코드는 새 코드로 바꿔 채운다")
+  void freshCouponCodes_replacesExistingCodes() {
+    // given
+    given(couponCodeGenerator.generateCouponCodes(3)).willReturn(codes("A", "B", "C"));
+    given(couponCodeGenerator.generateCouponCodes(1)).willReturn(codes("D"));
+    given(couponJpaRepository.findExistingCouponCodes(anyCollection()))
+        .willReturn(List.of("B"))
+        .willReturn(List.of());
+
+    // when
+    List<String> fresh = service.freshCouponCodes(3);
+
+    // then
+    assertThat(fresh).containsExactly("A", "C", "D");
+  }
+
+  @Test
+  @DisplayName("계속 겹치면 코드 생성을 포기한다")
+  void freshCouponCodes_givesUpAfterRepeatedCollisions() {
+    // given
+    given(couponCodeGenerator.generateCouponCodes(1)).willAnswer(inv -> codes("A"));
+    given(couponJpaRepository.findExistingCouponCodes(anyCollection())).willReturn(List.of("A"));
+
+    // then
+    assertThatThrownBy(() -> service.freshCouponCodes(1))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  @DisplayName("묶음 단위로 저장하고 진행 상태를 남긴 뒤 완료로 표시한다")
+  void issue_insertsInChunksAndRecordsProgress() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(couponCodeGenerator.generateCouponCodes(2))
+        .willReturn(codes("A", "B"))
+        .willReturn(codes("C", "D"));
+    given(couponCodeGenerator.generateCouponCodes(1)).willReturn(codes("E"));
+    given(couponJpaRepository.findExistingCouponCodes(anyCollection())).willReturn(List.of());
+    CouponIssueJobResponse job = CouponIssueJobResponse.queued("job-1", 1L, 5);
+
+    // when
+    service.issue(job, template);
+
+    // then
+    then(couponJdbcRepository).should().insertAll(template, List.of("A", "B"));
+    then(couponJdbcRepository).should().insertAll(template, List.of("C", "D"));
+    then(couponJdbcRepository).should().insertAll(template, List.of("E"));
+
+    ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+    then(valueOperations).should(times(5)).set(anyString(), saved.capture(), any(Duration.class));
+    List<CouponIssueJobResponse> states =
+        saved.getAllValues().stream().map(this::readJob).toList();
+    assertThat(states).extracting(CouponIssueJobResponse::issued).containsExactly(0, 2, 4, 5, 5);
+    assertThat(states.get(4).status()).isEqualTo(CouponIssueJobResponse.Status.COMPLETED);
+  }
+
+  @Test
+  @DisplayName("저장 중 코드가 겹치면 그 묶음만 새 코드로 다시 저장한다")
+  void issue_retriesChunkOnDuplicateKey() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(couponCodeGenerator.generateCouponCodes(2))
+        .willReturn(codes("A", "B"))
+        .willReturn(codes("C", "D"));
+    given(couponJpaRepository.findExistingCouponCodes(anyCollection())).willReturn(List.of());
+    lenient()
+        .doThrow(new DuplicateKeyException("coupon_code"))
+        .when(couponJdbcRepository)
+        .insertAll(template, List.of("A", "B"));
+
+    // when
+    service.issue(CouponIssueJobResponse.queued("job-1", 1L, 2), template);
+
+    // then
+    then(couponJdbcRepository).should(times(2)).insertAll(any(Coupon.class), anyList());
+    then(couponJdbcRepository).should().insertAll(template, List.of("C", "D"));
+    ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+    then(valueOperations).should(times(3)).set(anyString(), saved.capture(), any(Duration.class));
+    assertThat(readJob(saved.getValue()).status())
+        .isEqualTo(CouponIssueJobResponse.Status.COMPLETED);
+  }
+
+  @Test
+  @DisplayName("다른 매장의 작업은 조회할 수 없다")
+  void getJob_otherShop_notFound() throws Exception {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.get("COUPON_ISSUE_JOB:job-1"))
+        .willReturn(
+            objectMapper.writeValueAsString(CouponIssueJobResponse.queued("job-1", 1L, 10)));
+
+    // then
+    assertThat(service.getJob("job-1", 1L).requested()).isEqualTo(10);
+    assertThatThrownBy(() -> service.getJob("job-1", 2L))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.COUPON_ISSUE_JOB_NOT_FOUND);
+  }
+
+  private CouponIssueJobResponse readJob(String json) {
+    try {
+      return objectMapper.readValue(json, CouponIssueJobResponse.class);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.times;
 
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.coupons.application.validation.support.CouponCodeCache;
 import com.deveagles.be15_deveagles_be.features.coupons.common.CouponDto;
 import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
 import com.deveagles.be15_deveagles_be.features.coupons.domain.service.CouponCodeGenerator;
@@ -34,6 +35,8 @@ class CouponCommandServiceImplTest {
 
   @Mock private CouponCodeGenerator couponCodeGenerator;
 
+  @Mock private CouponCodeCache couponCodeCache;
+
   @InjectMocks private CouponCommandServiceImpl couponCommandService;
 
   private CreateCouponRequest createCommand;
@@ -134,6 +137,7 @@ class CouponCommandServiceImplTest {
     // Then
     then(couponJpaRepository).should(times(1)).findByIdAndShopIdAndDeletedAtIsNull(1L, null);
     then(couponJpaRepository).should(times(1)).save(any(Coupon.class));
+    then(couponCodeCache).should().evict(coupon.getCouponCode());
   }
 
   @Test
@@ -216,6 +220,7 @@ class CouponCommandServiceImplTest {
 
     then(couponJpaRepository).should(times(1)).findByIdAndShopIdAndDeletedAtIsNull(1L, 1L);
     then(couponJpaRepository).should(times(1)).save(any(Coupon.class));
+    then(couponCodeCache).should().evict("CP241201ABCD1234");
   }
 
   @Test
@@ -1,16 +1,19 @@
 package com.deveagles.be15_deveagles_be.features.coupons.application.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
+import com.deveagles.be15_deveagles_be.features.coupons.application.validation.support.CouponCodeCache;
+import com.deveagles.be15_deveagles_be.features.coupons.application.validation.support.CouponCodeCache.CachedCoupon;
 import com.deveagles.be15_deveagles_be.features.coupons.common.CouponResponseFactory;
 import com.deveagles.be15_deveagles_be.features.coupons.domain.entity.Coupon;
-import com.deveagles.be15_deveagles_be.features.coupons.infrastructure.repository.CouponJpaRepository;
 import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.request.CouponApplicationRequest;
 import com.deveagles.be15_deveagles_be.features.coupons.presentation.dto.response.CouponValidationResponse;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("CouponValidationService 단위 테스트")
 class CouponValidationServiceTest {
 
-  @Mock private CouponJpaRepository couponJpaRepository;
+  @Mock private CouponCodeCache couponCodeCache;
   @Mock private CouponResponseFactory couponResponseFactory;
 
   @InjectMocks private CouponValidationService couponValidationService;
@@ -65,9 +68,9 @@ class CouponValidationServiceTest {
     // Given
     CouponValidationResponse expectedResponse =
         new CouponValidationResponse(true, null, validCoupon);
-    given(couponJpaRepository.findByCouponCodeAndDeletedAtIsNull("CP241201ABCD1234"))
-        .willReturn(Optional.of(validCoupon));
-    given(couponResponseFactory.createValidResponse(validCoupon)).willReturn(expectedResponse);
+    given(couponCodeCache.get("CP241201ABCD1234")).willReturn(CachedCoupon.from(validCoupon));
+    given(couponResponseFactory.createValidResponse(any(Coupon.class)))
+        .willReturn(expectedResponse);
 
     // When
     CouponValidationResponse result = couponValidationService.validateForSale(request);
@@ -76,6 +79,10 @@ class CouponValidationServiceTest {
     assertThat(result.isValid()).isTrue();
     assertThat(result.getCoupon()).isEqualTo(validCoupon);
     assertThat(result.getErrorMessage()).isNull();
+    // 캐시한 값으로 다시 만든 쿠폰을 넘긴다
+    then(couponResponseFactory)
+        .should()
+        .createValidResponse(argThat(coupon -> coupon.getId().equals(1L)));
   }
 
   @Test
@@ -84,8 +91,7 @@ class CouponValidationServiceTest {
     // Given
     CouponValidationResponse expectedResponse =
         new CouponValidationResponse(false, "쿠폰을 찾을 수 없습니다", null);
-    given(couponJpaRepository.findByCouponCodeAndDeletedAtIsNull("CP241201ABCD1234"))
-        .willReturn(Optional.empty());
+    given(couponCodeCache.get("CP241201ABCD1234")).willReturn(null);
     given(couponResponseFactory.createInvalidResponse("쿠폰을 찾을 수 없습니다"))
         .willReturn(expectedResponse);
 
@@ -113,8 +119,7 @@ class CouponValidationServiceTest {
 
     CouponValidationResponse expectedResponse =
         new CouponValidationResponse(false, "해당 매장에서 사용할 수 없는 쿠폰입니다", null);
-    given(couponJpaRepository.findByCouponCodeAndDeletedAtIsNull("CP241201ABCD1234"))
-        .willReturn(Optional.of(validCoupon));
+    given(couponCodeCache.get("CP241201ABCD1234")).willReturn(CachedCoupon.from(validCoupon));
     given(couponResponseFactory.createInvalidResponse("해당 매장에서 사용할 수 없는 쿠폰입니다"))
         .willReturn(expectedResponse);
 
@@ -157,9 +162,9 @@ class CouponValidationServiceTest {
 
     CouponValidationResponse expectedResponse =
         new CouponValidationResponse(true, null, allStaffCoupon);
-    given(couponJpaRepository.findByCouponCodeAndDeletedAtIsNull("CP241201ABCD1234"))
-        .willReturn(Optional.of(allStaffCoupon));
-    given(couponResponseFactory.createValidResponse(allStaffCoupon)).willReturn(expectedResponse);
+    given(couponCodeCache.get("CP241201ABCD1234")).willReturn(CachedCoupon.from(allStaffCoupon));
+    given(couponResponseFactory.createValidResponse(any(Coupon.class)))
+        .willReturn(expectedResponse);
 
     // When
     CouponValidationResponse result = couponValidationService.validateForSale(anyStaffRequest);
@@ -199,9 +204,9 @@ class CouponValidationServiceTest {
 
     CouponValidationResponse expectedResponse =
         new CouponValidationResponse(true, null, primaryItemOnlyCoupon);
-    given(couponJpaRepository.findByCouponCodeAndDeletedAtIsNull("CP241201ABCD1234"))
-        .willReturn(Optional.of(primaryItemOnlyCoupon));
-    given(couponResponseFactory.createValidResponse(primaryItemOnlyCoupon))
+    given(couponCodeCache.get("CP241201ABCD1234"))
+        .willReturn(CachedCoupon.from(primaryItemOnlyCoupon));
+    given(couponResponseFactory.createValidResponse(any(Coupon.class)))
         .willReturn(expectedResponse);
 
     // When
@@ -227,8 +232,7 @@ class CouponValidationServiceTest {
 
     CouponValidationResponse expectedResponse =
         new CouponValidationResponse(false, "해당 상품에 적용할 수 없는 쿠폰입니다", null);
-    given(couponJpaRepository.findByCouponCodeAndDeletedAtIsNull("CP241201ABCD1234"))
-        .willReturn(Optional.of(validCoupon));
+    given(couponCodeCache.get("CP241201ABCD1234")).willReturn(CachedCoupon.from(validCoupon));
     given(couponResponseFactory.createInvalidResponse("해당 상품에 적용할 수 없는 쿠폰입니다"))
         .willReturn(expectedResponse);
 
@@ -261,8 +265,7 @@ class CouponValidationServiceTest {
 
     CouponValidationResponse expectedResponse =
         new CouponValidationResponse(false, "만료된 쿠폰입니다", null);
-    given(couponJpaRepository.findByCouponCodeAndDeletedAtIsNull("CP241201ABCD1234"))
-        .willReturn(Optional.of(expiredCoupon));
+    given(couponCodeCache.get("CP241201ABCD1234")).willReturn(CachedCoupon.from(expiredCoupon));
     given(couponResponseFactory.createInvalidResponse("만료된 쿠폰입니다")).willReturn(expectedResponse);
 
     // When
@@ -294,8 +297,7 @@ class CouponValidationServiceTest {
 
     CouponValidationResponse expectedResponse =
         new CouponValidationResponse(false, "비활성화된 쿠폰입니다", null);
-    given(couponJpaRepository.findByCouponCodeAndDeletedAtIsNull("CP241201ABCD1234"))
-        .willReturn(Optional.of(inactiveCoupon));
+    given(couponCodeCache.get("CP241201ABCD1234")).willReturn(CachedCoupon.from(inactiveCoupon));
     given(couponResponseFactory.createInvalidResponse("비활성화된 쿠폰입니다")).willReturn(expectedResponse);
 
     // When
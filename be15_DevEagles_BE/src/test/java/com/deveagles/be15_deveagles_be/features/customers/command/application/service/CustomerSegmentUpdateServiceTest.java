@@ -1,17 +1,21 @@
 package com.deveagles.be15_deveagles_be.features.customers.command.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Segment;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
-import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentByCustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentRepository;
 import java.lang.reflect.Method;
 import java.time.LocalDate;
@@ -19,14 +23,18 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("고객 세그먼트 업데이트 서비스 테스트")
@@ -34,7 +42,9 @@ class CustomerSegmentUpdateServiceTest {
 
   @Mock private CustomerRepository customerRepository;
   @Mock private SegmentRepository segmentRepository;
-  @Mock private SegmentByCustomerRepository segmentByCustomerRepository;
+  @Mock private CustomerSegmentChunkWriter customerSegmentChunkWriter;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private HashOperations<String, Object, Object> hashOperations;
 
   @InjectMocks private CustomerSegmentUpdateService customerSegmentUpdateService;
 
@@ -97,23 +107,24 @@ class CustomerSegmentUpdateServiceTest {
         .build();
   }
 
+  private List<Segment> lifecycleSegments() {
+    return Arrays.asList(
+        newSegment,
+        growingSegment,
+        loyalSegment,
+        vipSegment,
+        dormantSegment,
+        newFollowupSegment,
+        newAtRiskSegment,
+        reactivationNeededSegment,
+        growingDelayedSegment,
+        loyalDelayedSegment);
+  }
+
   @Test
-  @DisplayName("고객 세그먼트 전체 업데이트가 성공적으로 실행된다")
+  @DisplayName("고객 세그먼트 전체 업데이트가 매장별 키셋 청크 단위로 실행된다")
   void updateAllCustomerSegments_Success() {
     // given
-    List<Segment> lifecycleSegments =
-        Arrays.asList(
-            newSegment,
-            growingSegment,
-            loyalSegment,
-            vipSegment,
-            dormantSegment,
-            newFollowupSegment,
-            newAtRiskSegment,
-            reactivationNeededSegment,
-            growingDelayedSegment,
-            loyalDelayedSegment);
-
     Customer customer1 =
         createCustomer(
             1L, LocalDateTime.now().minusDays(10), LocalDate.now().minusDays(1), 1, 50000);
@@ -121,25 +132,46 @@ class CustomerSegmentUpdateServiceTest {
         createCustomer(
             2L, LocalDateTime.now().minusDays(50), LocalDate.now().minusDays(2), 5, 200000);
 
-    List<Customer> customers = Arrays.asList(customer1, customer2);
+    given(segmentRepository.findLifecycleSegments()).willReturn(lifecycleSegments());
+    given(customerRepository.findAllShopIds()).willReturn(List.of(1L));
+    given(customerRepository.findChunkByShopId(eq(1L), eq(0L), anyInt()))
+        .willReturn(Arrays.asList(customer1, customer2));
+    given(redisTemplate.opsForHash()).willReturn(hashOperations);
+    given(customerSegmentChunkWriter.applyChunk(eq(1L), anyMap(), anyCollection())).willReturn(2);
 
-    given(segmentRepository.findLifecycleSegments()).willReturn(lifecycleSegments);
-    given(customerRepository.count()).willReturn(2L);
-    given(customerRepository.findAllWithPagination(anyInt(), anyInt()))
-        .willReturn(customers)
-        .willReturn(Collections.emptyList());
+    // when
+    customerSegmentUpdateService.updateAllCustomerSegments();
 
-    doNothing().when(segmentByCustomerRepository).deleteAllLifecycleSegments();
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+    then(customerSegmentChunkWriter)
+        .should()
+        .applyChunk(eq(1L), captor.capture(), anyCollection());
+    assertThat(captor.getValue()).containsOnlyKeys(1L, 2L);
+    then(hashOperations).should().put(anyString(), eq("1"), eq("2"));
+    then(hashOperations).should().put(anyString(), eq("1"), eq("DONE"));
+  }
+
+  @Test
+  @DisplayName("체크포인트가 있으면 마지막 처리 고객 이후부터 이어서 처리한다")
+  void updateAllCustomerSegments_ResumeFromCheckpoint() {
+    // given
+    given(segmentRepository.findLifecycleSegments()).willReturn(lifecycleSegments());
+    given(customerRepository.findAllShopIds()).willReturn(List.of(1L, 2L));
+    given(redisTemplate.opsForHash()).willReturn(hashOperations);
+    given(hashOperations.get(anyString(), eq("1"))).willReturn("DONE");
+    given(hashOperations.get(anyString(), eq("2"))).willReturn("100");
+    given(customerRepository.findChunkByShopId(eq(2L), eq(100L), anyInt()))
+        .willReturn(Collections.emptyList());
 
     // when
     customerSegmentUpdateService.updateAllCustomerSegments();
 
     // then
-    then(segmentRepository).should().findLifecycleSegments();
-    then(segmentByCustomerRepository).should().deleteAllLifecycleSegments();
-    then(customerRepository).should().count();
-    then(customerRepository).should(times(1)).findAllWithPagination(anyInt(), anyInt());
-    then(segmentByCustomerRepository).should().saveAll(anyList());
+    then(customerRepository).should(never()).findChunkByShopId(eq(1L), anyLong(), anyInt());
+    then(customerRepository).should(times(1)).findChunkByShopId(eq(2L), eq(100L), anyInt());
+    then(customerSegmentChunkWriter).should(never()).applyChunk(any(), any(), any());
   }
 
   @Nested
@@ -314,9 +346,15 @@ class CustomerSegmentUpdateServiceTest {
     private String callDetermineCustomerSegment(Customer customer) throws Exception {
       Method method =
           CustomerSegmentUpdateService.class.getDeclaredMethod(
-              "determineCustomerSegment", Customer.class);
+              "determineCustomerSegment",
+              Customer.class,
+              CustomerSegmentUpdateService.ReferenceDates.class);
       method.setAccessible(true);
-      return (String) method.invoke(customerSegmentUpdateService, customer);
+      return (String)
+          method.invoke(
+              customerSegmentUpdateService,
+              customer,
+              CustomerSegmentUpdateService.ReferenceDates.of(LocalDate.now()));
     }
   }
 
@@ -420,10 +458,21 @@ class CustomerSegmentUpdateServiceTest {
     }
 
     private boolean callBooleanMethod(String methodName, Customer customer) throws Exception {
+      if ("isVipCustomer".equals(methodName)) {
+        Method method =
+            CustomerSegmentUpdateService.class.getDeclaredMethod(methodName, Customer.class);
+        method.setAccessible(true);
+        return (Boolean) method.invoke(customerSegmentUpdateService, customer);
+      }
       Method method =
-          CustomerSegmentUpdateService.class.getDeclaredMethod(methodName, Customer.class);
+          CustomerSegmentUpdateService.class.getDeclaredMethod(
+              methodName, Customer.class, CustomerSegmentUpdateService.ReferenceDates.class);
       method.setAccessible(true);
-      return (Boolean) method.invoke(customerSegmentUpdateService, customer);
+      return (Boolean)
+          method.invoke(
+              customerSegmentUpdateService,
+              customer,
+              CustomerSegmentUpdateService.ReferenceDates.of(LocalDate.now()));
     }
   }
 
@@ -479,9 +528,15 @@ class CustomerSegmentUpdateServiceTest {
     private String callDetermineCustomerSegment(Customer customer) throws Exception {
       Method method =
           CustomerSegmentUpdateService.class.getDeclaredMethod(
-              "determineCustomerSegment", Customer.class);
+              "determineCustomerSegment",
+              Customer.class,
+              CustomerSegmentUpdateService.ReferenceDates.class);
       method.setAccessible(true);
-      return (String) method.invoke(customerSegmentUpdateService, customer);
+      return (String)
+          method.invoke(
+              customerSegmentUpdateService,
+              customer,
+              CustomerSegmentUpdateService.ReferenceDates.of(LocalDate.now()));
     }
   }
 }
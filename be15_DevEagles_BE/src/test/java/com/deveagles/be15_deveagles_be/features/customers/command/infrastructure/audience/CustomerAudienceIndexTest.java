@@ -0,0 +1,84 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Change;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Dimension;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.ShopAudience;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("고객 대상 색인 테스트")
+class CustomerAudienceIndexTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final Long ALL = 0L;
+
+  private ShopAudience shopWith(Long customerId, Long gradeId, Long segmentId, Long tagId) {
+    ShopAudience shop = new ShopAudience(System.currentTimeMillis());
+    shop.put(Dimension.CUSTOMER, ALL, customerId);
+    shop.put(Dimension.GRADE, gradeId, customerId);
+    shop.put(Dimension.SEGMENT, segmentId, customerId);
+    shop.put(Dimension.TAG, tagId, customerId);
+    return shop;
+  }
+
+  @Test
+  @DisplayName("고객을 빼면 모든 소속에서 빠지고 이전에 공개한 비트맵은 바뀌지 않는다")
+  void apply_removeCustomer_clearsAllMemberships() {
+    // given
+    ShopAudience shop = shopWith(10L, 1L, 5L, 7L);
+    shop.put(Dimension.CUSTOMER, ALL, 11L);
+    shop.put(Dimension.SEGMENT, 5L, 11L);
+    CustomerBitmap publishedSegment = shop.get(Dimension.SEGMENT, 5L);
+
+    // when
+    shop.apply(List.of(Change.customer(SHOP_ID, 10L, false)));
+
+    // then
+    assertThat(shop.get(Dimension.CUSTOMER, ALL).toList()).containsExactly(11L);
+    assertThat(shop.get(Dimension.SEGMENT, 5L).toList()).containsExactly(11L);
+    assertThat(shop.get(Dimension.GRADE, 1L).isEmpty()).isTrue();
+    assertThat(shop.get(Dimension.TAG, 7L).isEmpty()).isTrue();
+    assertThat(publishedSegment.toList()).containsExactly(10L, 11L);
+  }
+
+  @Test
+  @DisplayName("새 등급을 넣으면 이전 등급에서 빠지고, 등급이 없으면 모든 등급에서 빠진다")
+  void apply_gradeSwitch_movesCustomer() {
+    // given
+    ShopAudience shop = shopWith(10L, 1L, 5L, 7L);
+
+    // when
+    shop.apply(List.of(Change.grade(SHOP_ID, 10L, 2L)));
+
+    // then
+    assertThat(shop.get(Dimension.GRADE, 1L).isEmpty()).isTrue();
+    assertThat(shop.get(Dimension.GRADE, 2L).toList()).containsExactly(10L);
+
+    // when
+    shop.apply(List.of(Change.grade(SHOP_ID, 10L, null)));
+
+    // then
+    assertThat(shop.get(Dimension.GRADE, 2L).isEmpty()).isTrue();
+    assertThat(shop.get(Dimension.SEGMENT, 5L).toList()).containsExactly(10L);
+  }
+
+  @Test
+  @DisplayName("변경은 바뀐 매장의 세대만 올린다")
+  void apply_bumpsOnlyChangedShopGeneration() {
+    // given
+    CustomerAudienceIndex index = new CustomerAudienceIndex(null, new ObjectMapper(), null, null);
+    long shop1 = index.generation(1L);
+    long shop2 = index.generation(2L);
+
+    // when
+    index.apply(List.of(Change.tag(2L, 10L, 7L, true)));
+
+    // then
+    assertThat(index.generation(1L)).isEqualTo(shop1);
+    assertThat(index.generation(2L)).isEqualTo(shop2 + 1);
+  }
+}
@@ -0,0 +1,111 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("고객 비트맵 테스트")
+class CustomerBitmapTest {
+
+  @Test
+  @DisplayName("묶음이 다른 ID 를 추가, 조회, 삭제한다")
+  void addContainsRemove() {
+    CustomerBitmap bitmap = new CustomerBitmap();
+
+    assertThat(bitmap.add(1L)).isTrue();
+    assertThat(bitmap.add(70_000L)).isTrue();
+    assertThat(bitmap.add(4_294_967_295L)).isTrue();
+    assertThat(bitmap.add(1L)).isFalse();
+
+    assertThat(bitmap.contains(70_000L)).isTrue();
+    assertThat(bitmap.contains(2L)).isFalse();
+    assertThat(bitmap.cardinality()).isEqualTo(3);
+
+    assertThat(bitmap.remove(70_000L)).isTrue();
+    assertThat(bitmap.remove(70_000L)).isFalse();
+    assertThat(bitmap.toList()).containsExactly(1L, 4_294_967_295L);
+  }
+
+  @Test
+  @DisplayName("담을 수 없는 ID 는 거부한다")
+  void add_rejectsOutOfRangeId() {
+    CustomerBitmap bitmap = new CustomerBitmap();
+
+    assertThatThrownBy(() -> bitmap.add(-1L)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> bitmap.add(1L << 32)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(bitmap.contains(-1L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("배열과 비트맵 묶음이 섞여도 집합 연산 결과가 같다")
+  void setOperations_matchTreeSet() {
+    Random random = new Random(42);
+    // 한 묶음에 많이(비트맵), 다른 묶음에 적게(배열) 들어가도록 범위를 나눈다
+    TreeSet<Long> left = randomIds(random, 0, 20_000, 200_000, 300);
+    TreeSet<Long> right = randomIds(random, 0, 15_000, 200_000, 500);
+    CustomerBitmap leftBitmap = CustomerBitmap.of(left);
+    CustomerBitmap rightBitmap = CustomerBitmap.of(right);
+
+    TreeSet<Long> and = new TreeSet<>(left);
+    and.retainAll(right);
+    TreeSet<Long> or = new TreeSet<>(left);
+    or.addAll(right);
+    TreeSet<Long> andNot = new TreeSet<>(left);
+    andNot.removeAll(right);
+
+    assertThat(leftBitmap.and(rightBitmap).toList()).containsExactlyElementsOf(and);
+    assertThat(leftBitmap.or(rightBitmap).toList()).containsExactlyElementsOf(or);
+    assertThat(leftBitmap.andNot(rightBitmap).toList()).containsExactlyElementsOf(andNot);
+    assertThat(leftBitmap.and(rightBitmap).cardinality()).isEqualTo(and.size());
+    // 피연산자는 바뀌지 않는다
+    assertThat(leftBitmap.toList()).containsExactlyElementsOf(left);
+  }
+
+  @Test
+  @DisplayName("비트맵 묶음에서 많이 지우면 배열로 돌아가도 원소가 유지된다")
+  void remove_convertsBackToArray() {
+    CustomerBitmap bitmap = new CustomerBitmap();
+    for (long id = 0; id < 6000; id++) {
+      bitmap.add(id);
+    }
+    for (long id = 0; id < 5000; id++) {
+      bitmap.remove(id);
+    }
+
+    assertThat(bitmap.cardinality()).isEqualTo(1000);
+    assertThat(bitmap.contains(5000L)).isTrue();
+    assertThat(bitmap.contains(4999L)).isFalse();
+    assertThat(bitmap.toList(3)).containsExactly(5000L, 5001L, 5002L);
+  }
+
+  @Test
+  @DisplayName("복사본을 바꿔도 원본은 그대로다")
+  void copy_isIndependent() {
+    CustomerBitmap original = CustomerBitmap.of(List.of(1L, 2L));
+    CustomerBitmap copy = original.copy();
+
+    copy.add(3L);
+    copy.remove(1L);
+
+    assertThat(original.toList()).containsExactly(1L, 2L);
+    assertThat(copy.toList()).containsExactly(2L, 3L);
+  }
+
+  private TreeSet<Long> randomIds(
+      Random random, long denseFrom, int denseCount, long sparseFrom, int sparseCount) {
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < denseCount; i++) {
+      ids.add(denseFrom + random.nextInt(65_536));
+    }
+    for (int i = 0; i < sparseCount; i++) {
+      ids.add(sparseFrom + random.nextInt(65_536));
+    }
+    return new TreeSet<>(ids);
+  }
+}
@@ -0,0 +1,131 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerIndexOutbox;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerIndexOutboxRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("고객 검색 색인기 테스트")
+class CustomerSearchIndexerTest {
+
+  @Mock private CustomerIndexOutboxRepository outboxRepository;
+  @Mock private CustomerDocumentAssembler documentAssembler;
+  @Mock private CustomerSearchIndex searchIndex;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private CustomerSearchIndexer indexer;
+
+  @BeforeEach
+  void setUp() {
+    indexer =
+        new CustomerSearchIndexer(outboxRepository, documentAssembler, searchIndex, redisTemplate);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    lenient()
+        .when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(true);
+  }
+
+  private CustomerIndexOutbox row(Long id, Long customerId) {
+    return CustomerIndexOutbox.builder().id(id).customerId(customerId).shopId(1L).build();
+  }
+
+  private CustomerDocument document(Long customerId) {
+    return CustomerDocument.builder()
+        .id("1_" + customerId)
+        .customerId(customerId)
+        .shopId(1L)
+        .build();
+  }
+
+  @Test
+  @DisplayName("같은 고객의 변경은 한 번만 색인하고 처리한 행을 지운다")
+  void flush_indexesOncePerCustomer() {
+    // given
+    given(outboxRepository.findOldest(any(Pageable.class)))
+        .willReturn(List.of(row(1L, 10L), row(2L, 11L), row(3L, 10L)));
+    given(documentAssembler.load(Set.of(10L, 11L)))
+        .willReturn(List.of(document(10L), document(11L)));
+
+    // when
+    int processed = indexer.flush();
+
+    // then
+    assertThat(processed).isEqualTo(3);
+    ArgumentCaptor<List<CustomerDocument>> indexed = ArgumentCaptor.forClass(List.class);
+    then(searchIndex).should().index(indexed.capture());
+    assertThat(indexed.getValue())
+        .extracting(CustomerDocument::getCustomerId)
+        .containsExactly(10L, 11L);
+    then(searchIndex).should(never()).delete(anyList());
+    then(outboxRepository).should().deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+  }
+
+  @Test
+  @DisplayName("DB 에 없는 고객은 문서를 지운다")
+  void flush_deletesMissingCustomer() {
+    // given
+    given(outboxRepository.findOldest(any(Pageable.class))).willReturn(List.of(row(1L, 10L)));
+    given(documentAssembler.load(Set.of(10L))).willReturn(List.of());
+
+    // when
+    indexer.flush();
+
+    // then
+    then(searchIndex).should().delete(List.of("1_10"));
+    then(outboxRepository).should().deleteAllByIdInBatch(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("색인에 실패하면 행을 남겨 다시 시도한다")
+  void flush_keepsRowsOnFailure() {
+    // given
+    given(outboxRepository.findOldest(any(Pageable.class))).willReturn(List.of(row(1L, 10L)));
+    given(documentAssembler.load(Set.of(10L))).willReturn(List.of(document(10L)));
+    doThrow(new IllegalStateException("bulk 실패")).when(searchIndex).index(anyList());
+
+    // when & then
+    assertThatThrownBy(() -> indexer.flush()).isInstanceOf(IllegalStateException.class);
+    then(outboxRepository).should(never()).deleteAllByIdInBatch(any());
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 처리 중이면 건너뛴다")
+  void flush_skipsWhenLocked() {
+    // given
+    given(valueOperations.setIfAbsent(eq("CUSTOMER_INDEX_OUTBOX:LOCK"), anyString(), any()))
+        .willReturn(false);
+
+    // when
+    int processed = indexer.flush();
+
+    // then
+    assertThat(processed).isZero();
+    then(outboxRepository).shouldHaveNoInteractions();
+  }
+}
@@ -14,6 +14,10 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.deveagles.be15_deveagles_be.common.events.CustomerRegistrationEvent;
+import com.deveagles.be15_deveagles_be.common.events.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.common.events.PaymentCompletedEvent;
+import com.deveagles.be15_deveagles_be.common.events.outbox.DomainEventPublisher;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
@@ -21,7 +25,11 @@ import com.deveagles.be15_deveagles_be.features.customers.command.application.dt
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.request.UpdateCustomerRequest;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.response.CustomerCommandResponse;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerIndexOutbox;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerIndexOutboxRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Change;
 import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
@@ -53,7 +61,10 @@ class CustomerCommandServiceImplTest {
   @Mock private CustomerRepository customerRepository;
   @Mock private CustomerQueryService customerQueryService;
   @Mock private CustomerJpaRepository customerJpaRepository;
+  @Mock private CustomerIndexOutboxRepository customerIndexOutboxRepository;
   @Mock private AutomaticMessageTriggerService automaticMessageTriggerService;
+  @Mock private CustomerAudienceIndex customerAudienceIndex;
+  @Mock private DomainEventPublisher domainEventPublisher;
   @InjectMocks private CustomerCommandServiceImpl customerCommandService;
 
   @BeforeEach
@@ -147,6 +158,8 @@ class CustomerCommandServiceImplTest {
       assertThat(response.notificationConsent()).isEqualTo(request.notificationConsent());
 
       then(customerRepository).should().save(any(Customer.class));
+      then(customerIndexOutboxRepository).should().save(any(CustomerIndexOutbox.class));
+      then(domainEventPublisher).should().publish(any(CustomerRegistrationEvent.class));
       verify(automaticMessageTriggerService)
           .triggerAutomaticSend(any(), eq(AutomaticEventType.NEW_CUSTOMER), isNull());
     }
@@ -346,6 +359,14 @@ class CustomerCommandServiceImplTest {
     then(customerRepository).should().findByIdAndShopId(customerId, shopId);
     then(customerRepository).should().save(existingCustomer);
     assertThat(existingCustomer.isDeleted()).isTrue();
+
+    ArgumentCaptor<CustomerIndexOutbox> outbox = ArgumentCaptor.forClass(CustomerIndexOutbox.class);
+    then(customerIndexOutboxRepository).should().save(outbox.capture());
+    assertThat(outbox.getValue().getShopId()).isEqualTo(existingCustomer.getShopId());
+    then(customerAudienceIndex)
+        .should()
+        .record(Change.customer(existingCustomer.getShopId(), existingCustomer.getId(), false));
+    then(customerQueryService).shouldHaveNoInteractions();
   }
 
   @Test
@@ -425,6 +446,8 @@ class CustomerCommandServiceImplTest {
 
     then(customerRepository).should().findByIdAndShopId(customerId, shopId);
     then(customerRepository).should().save(existingCustomer);
+    then(domainEventPublisher).should().publish(any(CustomerVisitEvent.class));
+    then(domainEventPublisher).should().publish(any(PaymentCompletedEvent.class));
   }
 
   @Test
@@ -534,6 +557,8 @@ class CustomerCommandServiceImplTest {
             null);
 
     ArgumentCaptor<Customer> customerCaptor = ArgumentCaptor.forClass(Customer.class);
+    given(customerRepository.save(any(Customer.class)))
+        .willAnswer(invocation -> invocation.getArgument(0));
 
     // when
     customerCommandService.createUnknownCustomer(shopId, request);
@@ -12,6 +12,7 @@ import com.deveagles.be15_deveagles_be.features.customers.command.application.dt
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.request.UpdateCustomerGradeRequest;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.search.CustomerGradeNameCache;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CustomerGradeCommandServiceImplTest {
 
   @Mock private CustomerGradeRepository customerGradeRepository;
+  @Mock private CustomerGradeNameCache customerGradeNameCache;
 
   @InjectMocks private CustomerGradeCommandServiceImpl customerGradeCommandService;
 
@@ -112,6 +114,7 @@ class CustomerGradeCommandServiceImplTest {
     // then
     then(customerGradeRepository).should().findByIdAndShopId(gradeId, shopId);
     then(customerGradeRepository).should().existsByCustomerGradeNameAndShopId(newGradeName, shopId);
+    then(customerGradeNameCache).should().evict(gradeId);
   }
 
   @Test
@@ -220,6 +223,7 @@ class CustomerGradeCommandServiceImplTest {
     // then
     then(customerGradeRepository).should().findById(gradeId);
     then(customerGradeRepository).should().delete(existingGrade);
+    then(customerGradeNameCache).should().evict(gradeId);
   }
 
   @Test
@@ -12,6 +12,8 @@ import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggrega
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.TagByCustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.TagRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Change;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -29,6 +31,7 @@ class CustomerTagServiceImplTest {
   @Mock private TagByCustomerRepository tagByCustomerRepository;
   @Mock private CustomerRepository customerRepository;
   @Mock private TagRepository tagRepository;
+  @Mock private CustomerAudienceIndex customerAudienceIndex;
 
   @InjectMocks private CustomerTagServiceImpl customerTagService;
 
@@ -55,6 +58,7 @@ class CustomerTagServiceImplTest {
     then(tagRepository).should().existsByIdAndShopId(tagId, shopId);
     then(tagByCustomerRepository).should().existsByCustomerIdAndTagId(customerId, tagId);
     then(tagByCustomerRepository).should().save(any(TagByCustomer.class));
+    then(customerAudienceIndex).should().record(Change.tag(shopId, customerId, tagId, true));
   }
 
   @Test
@@ -148,6 +152,7 @@ class CustomerTagServiceImplTest {
     then(customerRepository).should().findByIdAndShopId(customerId, shopId);
     then(tagByCustomerRepository).should().existsByCustomerIdAndTagId(customerId, tagId);
     then(tagByCustomerRepository).should().deleteByCustomerIdAndTagId(customerId, tagId);
+    then(customerAudienceIndex).should().record(Change.tag(shopId, customerId, tagId, false));
   }
 
   @Test
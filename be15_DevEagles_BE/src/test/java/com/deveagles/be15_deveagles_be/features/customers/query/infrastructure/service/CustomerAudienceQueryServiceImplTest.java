@@ -0,0 +1,110 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Segment;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Dimension;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerBitmap;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.AudienceExpression;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.AudienceExpression.Operator;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.AudiencePreviewResponse;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("고객 대상 쿼리 서비스 테스트")
+class CustomerAudienceQueryServiceImplTest {
+
+  private static final Long SHOP_ID = 1L;
+
+  @Mock private CustomerAudienceIndex customerAudienceIndex;
+  @Mock private SegmentRepository segmentRepository;
+  @Mock private JPAQueryFactory queryFactory;
+
+  @InjectMocks private CustomerAudienceQueryServiceImpl customerAudienceQueryService;
+
+  @Test
+  @DisplayName("세그먼트 AND NOT 태그 조건의 인원 수와 일부 고객 ID 를 반환한다")
+  void preview_andNot() {
+    // given
+    given(segmentRepository.findBySegmentTag("VIP"))
+        .willReturn(Optional.of(Segment.builder().id(10L).segmentTag("VIP").build()));
+    given(customerAudienceIndex.members(SHOP_ID, Dimension.SEGMENT, 10L))
+        .willReturn(CustomerBitmap.of(List.of(1L, 2L, 3L, 4L)));
+    given(customerAudienceIndex.members(SHOP_ID, Dimension.TAG, 7L))
+        .willReturn(CustomerBitmap.of(List.of(2L)));
+
+    AudienceExpression expression =
+        and(
+            new AudienceExpression(Operator.SEGMENT, null, "vip", null, null),
+            not(leaf(Operator.TAG, 7L)));
+
+    // when
+    AudiencePreviewResponse response = customerAudienceQueryService.preview(SHOP_ID, expression, 2);
+
+    // then
+    assertThat(response.customerCount()).isEqualTo(3);
+    assertThat(response.sampleCustomerIds()).containsExactly(1L, 3L);
+    then(customerAudienceIndex).should(never()).customers(SHOP_ID);
+  }
+
+  @Test
+  @DisplayName("OR 는 합집합, 단독 NOT 은 매장 전체 고객에서 뺀다")
+  void getCustomerIds_orAndNot() {
+    // given
+    given(customerAudienceIndex.customers(SHOP_ID))
+        .willReturn(CustomerBitmap.of(List.of(1L, 2L, 3L, 4L, 5L)));
+    given(customerAudienceIndex.members(SHOP_ID, Dimension.GRADE, 1L))
+        .willReturn(CustomerBitmap.of(List.of(1L)));
+    given(customerAudienceIndex.members(SHOP_ID, Dimension.GRADE, 2L))
+        .willReturn(CustomerBitmap.of(List.of(4L)));
+
+    AudienceExpression expression = not(or(leaf(Operator.GRADE, 1L), leaf(Operator.GRADE, 2L)));
+
+    // when
+    List<Long> customerIds = customerAudienceQueryService.getCustomerIds(SHOP_ID, expression);
+
+    // then
+    assertThat(customerIds).containsExactly(2L, 3L, 5L);
+  }
+
+  @Test
+  @DisplayName("ID 가 없는 태그 조건은 거부한다")
+  void count_rejectsTagWithoutId() {
+    AudienceExpression expression = leaf(Operator.TAG, null);
+
+    assertThatThrownBy(() -> customerAudienceQueryService.count(SHOP_ID, expression))
+        .isInstanceOf(BusinessException.class)
+        .hasMessageContaining("ID 가 필요합니다");
+  }
+
+  private AudienceExpression leaf(Operator operator, Long id) {
+    return new AudienceExpression(operator, id, null, null, null);
+  }
+
+  private AudienceExpression and(AudienceExpression... operands) {
+    return new AudienceExpression(Operator.AND, null, null, null, List.of(operands));
+  }
+
+  private AudienceExpression or(AudienceExpression... operands) {
+    return new AudienceExpression(Operator.OR, null, null, null, List.of(operands));
+  }
+
+  private AudienceExpression not(AudienceExpression operand) {
+    return new AudienceExpression(Operator.NOT, null, null, null, List.of(operand));
+  }
+}
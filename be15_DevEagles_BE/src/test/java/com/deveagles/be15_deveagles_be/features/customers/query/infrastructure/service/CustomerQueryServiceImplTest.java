@@ -1,22 +1,33 @@
 package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
 
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomer.customer;
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomerGrade.customerGrade;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 
+import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
-import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentByCustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.SegmentRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerAudienceIndex.Dimension;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.audience.CustomerBitmap;
 import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerElasticsearchRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerDetailQueryRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerListQueryRepository;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
@@ -28,6 +39,8 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -48,8 +61,19 @@ class CustomerQueryServiceImplTest {
   @Mock private JPAQueryFactory queryFactory;
   @Mock private JPAQuery<Tuple> jpaQuery;
   @Mock private JPAQuery<String> jpaStringQuery;
+
+  @Mock(answer = Answers.RETURNS_SELF)
+  private JPAQuery<CustomerSearchResult> contentQuery;
+
+  @Mock(answer = Answers.RETURNS_SELF)
+  private JPAQuery<Long> countQuery;
+
+  @Mock(answer = Answers.RETURNS_SELF)
+  private JPAQuery<Tuple> cursorQuery;
+
+  @Mock private Tuple cursorRow;
   @Mock private SegmentRepository segmentRepository;
-  @Mock private SegmentByCustomerRepository segmentByCustomerRepository;
+  @Mock private CustomerAudienceIndex customerAudienceIndex;
 
   @InjectMocks private CustomerQueryServiceImpl customerQueryService;
 
@@ -461,14 +485,10 @@ class CustomerQueryServiceImplTest {
     String segmentTitle = "VIP 고객";
 
     var segment = createTestSegment(segmentId, segmentTag, segmentTitle);
-    List<Long> allCustomerIds = List.of(1L, 2L, 3L);
-    List<Customer> shopCustomers =
-        List.of(createTestCustomerWithId(1L, shopId), createTestCustomerWithId(2L, shopId));
 
     given(segmentRepository.findBySegmentTag(segmentTag)).willReturn(Optional.of(segment));
-    given(segmentByCustomerRepository.findCustomerIdsBySegmentTag(segmentTag))
-        .willReturn(allCustomerIds);
-    given(customerJpaRepository.findAllById(allCustomerIds)).willReturn(shopCustomers);
+    given(customerAudienceIndex.members(shopId, Dimension.SEGMENT, segmentId))
+        .willReturn(CustomerBitmap.of(List.of(2L, 1L)));
 
     // when
     SegmentCustomersResponse response =
@@ -481,8 +501,7 @@ class CustomerQueryServiceImplTest {
     assertThat(response.customerIds()).containsExactly(1L, 2L);
 
     then(segmentRepository).should().findBySegmentTag(segmentTag);
-    then(segmentByCustomerRepository).should().findCustomerIdsBySegmentTag(segmentTag);
-    then(customerJpaRepository).should().findAllById(allCustomerIds);
+    then(customerJpaRepository).shouldHaveNoInteractions();
   }
 
   @Test
@@ -512,14 +531,10 @@ class CustomerQueryServiceImplTest {
     String segmentTitle = "충성 고객";
 
     var segment = createTestSegment(segmentId, segmentTag, segmentTitle);
-    List<Long> allCustomerIds = List.of(1L, 2L, 3L);
-    List<Customer> shopCustomers =
-        List.of(createTestCustomerWithId(1L, shopId), createTestCustomerWithId(3L, shopId));
 
     given(segmentRepository.findById(segmentId)).willReturn(Optional.of(segment));
-    given(segmentByCustomerRepository.findCustomerIdsBySegmentId(segmentId))
-        .willReturn(allCustomerIds);
-    given(customerJpaRepository.findAllById(allCustomerIds)).willReturn(shopCustomers);
+    given(customerAudienceIndex.members(shopId, Dimension.SEGMENT, segmentId))
+        .willReturn(CustomerBitmap.of(List.of(1L, 3L)));
 
     // when
     SegmentCustomersResponse response =
@@ -532,8 +547,7 @@ class CustomerQueryServiceImplTest {
     assertThat(response.customerIds()).containsExactly(1L, 3L);
 
     then(segmentRepository).should().findById(segmentId);
-    then(segmentByCustomerRepository).should().findCustomerIdsBySegmentId(segmentId);
-    then(customerJpaRepository).should().findAllById(allCustomerIds);
+    then(customerAudienceIndex).should().members(shopId, Dimension.SEGMENT, segmentId);
   }
 
   @Test
@@ -548,19 +562,11 @@ class CustomerQueryServiceImplTest {
     List<com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Segment>
         segments = List.of(vipSegment, loyalSegment);
 
-    List<Long> vipCustomerIds = List.of(1L, 2L);
-    List<Long> loyalCustomerIds = List.of(3L, 4L);
-
-    List<Customer> vipShopCustomers = List.of(createTestCustomerWithId(1L, shopId));
-    List<Customer> loyalShopCustomers = List.of(createTestCustomerWithId(3L, shopId));
-
     given(segmentRepository.findBySegmentTagIn(segmentTags)).willReturn(segments);
-    given(segmentByCustomerRepository.findCustomerIdsBySegmentTag("VIP"))
-        .willReturn(vipCustomerIds);
-    given(segmentByCustomerRepository.findCustomerIdsBySegmentTag("LOYAL"))
-        .willReturn(loyalCustomerIds);
-    given(customerJpaRepository.findAllById(vipCustomerIds)).willReturn(vipShopCustomers);
-    given(customerJpaRepository.findAllById(loyalCustomerIds)).willReturn(loyalShopCustomers);
+    given(customerAudienceIndex.members(shopId, Dimension.SEGMENT, 1L))
+        .willReturn(CustomerBitmap.of(List.of(1L)));
+    given(customerAudienceIndex.members(shopId, Dimension.SEGMENT, 2L))
+        .willReturn(CustomerBitmap.of(List.of(3L)));
 
     // when
     List<SegmentCustomersResponse> responses =
@@ -582,8 +588,6 @@ class CustomerQueryServiceImplTest {
     assertThat(loyalResponse.customerIds()).containsExactly(3L);
 
     then(segmentRepository).should().findBySegmentTagIn(segmentTags);
-    then(segmentByCustomerRepository).should().findCustomerIdsBySegmentTag("VIP");
-    then(segmentByCustomerRepository).should().findCustomerIdsBySegmentTag("LOYAL");
   }
 
   @Test
@@ -597,13 +601,9 @@ class CustomerQueryServiceImplTest {
     List<com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Segment>
         segments = List.of(vipSegment); // INVALID 세그먼트는 없음
 
-    List<Long> vipCustomerIds = List.of(1L);
-    List<Customer> vipShopCustomers = List.of(createTestCustomerWithId(1L, shopId));
-
     given(segmentRepository.findBySegmentTagIn(segmentTags)).willReturn(segments);
-    given(segmentByCustomerRepository.findCustomerIdsBySegmentTag("VIP"))
-        .willReturn(vipCustomerIds);
-    given(customerJpaRepository.findAllById(vipCustomerIds)).willReturn(vipShopCustomers);
+    given(customerAudienceIndex.members(shopId, Dimension.SEGMENT, 1L))
+        .willReturn(CustomerBitmap.of(List.of(1L)));
 
     // when
     List<SegmentCustomersResponse> responses =
@@ -623,8 +623,132 @@ class CustomerQueryServiceImplTest {
     assertThat(invalidResponse.customerIds()).isEmpty();
   }
 
+  @Test
+  @DisplayName("고급 검색 - 총 건수로 페이지를 계산하고 필요한 컬럼만 결과로 매핑한다")
+  void advancedSearch_CountAndProjection() {
+    // given
+    given(queryFactory.select(customer.id.countDistinct())).willReturn(countQuery);
+    given(countQuery.fetchOne()).willReturn(45L);
+    given(queryFactory.select(any(ConstructorExpression.class))).willReturn(contentQuery);
+    given(contentQuery.fetch()).willReturn(List.of());
+
+    // when
+    PagedResult<CustomerSearchResult> result =
+        customerQueryService.advancedSearch(searchQuery("customerName", "ASC", 2, null));
+
+    // then
+    assertThat(result.getPagination().getTotalItems()).isEqualTo(45L);
+    assertThat(result.getPagination().getTotalPages()).isEqualTo(3);
+    then(contentQuery).should().offset(40L);
+    then(contentQuery).should().orderBy(customer.customerName.asc(), customer.id.asc());
+
+    ConstructorExpression<CustomerSearchResult> projection =
+        Projections.constructor(
+            CustomerSearchResult.class,
+            customer.id,
+            customer.customerName,
+            customer.phoneNumber,
+            customer.customerGradeId,
+            customerGrade.customerGradeName,
+            customer.gender);
+    then(queryFactory).should().select(projection);
+    assertThat(projection.newInstance(7L, "김민수", "01012345678", 2L, "VIP", Customer.Gender.F))
+        .isEqualTo(
+            CustomerSearchResult.of(7L, "김민수", "01012345678", 2L, "VIP", Customer.Gender.F));
+  }
+
+  @Test
+  @DisplayName("고급 검색 - 총 건수가 0이면 결과 조회를 생략한다")
+  void advancedSearch_EmptyCountSkipsContentQuery() {
+    // given
+    given(queryFactory.select(customer.id.countDistinct())).willReturn(countQuery);
+    given(countQuery.fetchOne()).willReturn(0L);
+    given(queryFactory.select(any(ConstructorExpression.class))).willReturn(contentQuery);
+
+    // when
+    PagedResult<CustomerSearchResult> result =
+        customerQueryService.advancedSearch(searchQuery("createdAt", "DESC", 0, null));
+
+    // then
+    assertThat(result.getContent()).isEmpty();
+    assertThat(result.getPagination().getTotalItems()).isZero();
+    assertThat(result.getPagination().getTotalPages()).isZero();
+    then(contentQuery).should(never()).fetch();
+  }
+
+  @Test
+  @DisplayName("고급 검색 키셋 - 커서와 정렬 값이 같은 고객은 고객 ID 로 이어서 조회한다")
+  void advancedSearch_KeysetContinuesAcrossEqualSortKeys() {
+    // given
+    given(queryFactory.select(any(ConstructorExpression.class))).willReturn(contentQuery);
+    given(queryFactory.select(customer.id, customer.customerName)).willReturn(cursorQuery);
+    given(cursorQuery.fetchOne()).willReturn(cursorRow);
+    given(cursorRow.get(customer.customerName)).willReturn("김민수");
+    given(contentQuery.fetch()).willReturn(List.of());
+
+    // when
+    PagedResult<CustomerSearchResult> result =
+        customerQueryService.advancedSearch(searchQuery("customerName", "ASC", 1, 5L));
+
+    // then
+    ArgumentCaptor<Predicate> seek = ArgumentCaptor.forClass(Predicate.class);
+    then(contentQuery).should().where(any(Predicate.class), seek.capture());
+    assertThat(seek.getValue())
+        .isEqualTo(
+            customer
+                .customerName
+                .gt("김민수")
+                .or(customer.customerName.eq("김민수").and(customer.id.gt(5L))));
+    then(contentQuery).should().orderBy(customer.customerName.asc(), customer.id.asc());
+    then(queryFactory).should(never()).select(customer.id.countDistinct());
+    assertThat(result.getPagination().getTotalItems()).isZero();
+  }
+
+  @Test
+  @DisplayName("고급 검색 키셋 - 내림차순에서 정렬 값이 없는 커서 다음은 같은 NULL 고객만 이어진다")
+  void advancedSearch_KeysetDescendingFromNullSortKey() {
+    // given
+    given(queryFactory.select(any(ConstructorExpression.class))).willReturn(contentQuery);
+    given(queryFactory.select(customer.id, customer.recentVisitDate)).willReturn(cursorQuery);
+    given(cursorQuery.fetchOne()).willReturn(cursorRow);
+    given(cursorRow.get(customer.recentVisitDate)).willReturn(null);
+    given(contentQuery.fetch()).willReturn(List.of());
+
+    // when
+    customerQueryService.advancedSearch(searchQuery("recentVisitDate", "DESC", 1, 9L));
+
+    // then
+    ArgumentCaptor<Predicate> seek = ArgumentCaptor.forClass(Predicate.class);
+    then(contentQuery).should().where(any(Predicate.class), seek.capture());
+    assertThat(seek.getValue())
+        .isEqualTo(customer.recentVisitDate.isNull().and(customer.id.lt(9L)));
+    then(contentQuery).should().orderBy(customer.recentVisitDate.desc(), customer.id.desc());
+  }
+
   // --- Helper Methods ---
 
+  private CustomerSearchQuery searchQuery(
+      String sortBy, String sortDirection, int page, Long cursorId) {
+    return new CustomerSearchQuery(
+        1L, // shopId
+        null, // keyword
+        null, // customerGradeIds
+        null, // tagIds
+        null, // gender
+        null, // marketingConsent
+        null, // notificationConsent
+        null, // excludeDormant
+        null, // dormantMonths
+        null, // excludeRecentMessage
+        null, // recentMessageDays
+        null, // includeDeleted
+        page,
+        20,
+        sortBy,
+        sortDirection,
+        cursorId);
+  }
+
   private Customer createTestCustomer() {
     return Customer.builder()
         .id(1L)
@@ -733,29 +857,6 @@ class CustomerQueryServiceImplTest {
         .build();
   }
 
-  private Customer createTestCustomerWithId(Long customerId, Long shopId) {
-    return Customer.builder()
-        .id(customerId)
-        .customerGradeId(1L)
-        .shopId(shopId)
-        .staffId(1L)
-        .customerName("테스트고객" + customerId)
-        .phoneNumber("0101234567" + customerId)
-        .memo("테스트 고객 " + customerId)
-        .visitCount(0)
-        .totalRevenue(0)
-        .recentVisitDate(LocalDate.now())
-        .birthdate(LocalDate.of(1990, 1, 1))
-        .noshowCount(0)
-        .gender(Customer.Gender.M)
-        .marketingConsent(false)
-        .notificationConsent(false)
-        .channelId(1L)
-        .createdAt(LocalDateTime.now())
-        .modifiedAt(LocalDateTime.now())
-        .build();
-  }
-
   private com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Segment
       createTestSegment(Long segmentId, String segmentTag, String segmentTitle) {
     return com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Segment
@@ -11,6 +11,8 @@ import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.P
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
+import com.deveagles.be15_deveagles_be.features.items.query.service.support.PrimaryItemCatalogCache;
+import com.deveagles.be15_deveagles_be.features.items.query.service.support.SecondaryItemCatalogCache;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.Shop;
 import com.deveagles.be15_deveagles_be.features.shops.command.repository.ShopRepository;
 import java.util.List;
@@ -24,6 +26,8 @@ class PrimaryItemCommandServiceImplTest {
   private PrimaryItemRepository primaryItemRepository;
   private ShopRepository shopRepository;
   private SecondaryItemRepository secondaryItemRepository;
+  private PrimaryItemCatalogCache primaryItemCatalogCache;
+  private SecondaryItemCatalogCache secondaryItemCatalogCache;
   private PrimaryItemCommandServiceImpl primaryItemCommandService;
 
   @BeforeEach
@@ -31,9 +35,15 @@ class PrimaryItemCommandServiceImplTest {
     primaryItemRepository = mock(PrimaryItemRepository.class);
     secondaryItemRepository = mock(SecondaryItemRepository.class);
     shopRepository = mock(ShopRepository.class);
+    primaryItemCatalogCache = mock(PrimaryItemCatalogCache.class);
+    secondaryItemCatalogCache = mock(SecondaryItemCatalogCache.class);
     primaryItemCommandService =
         new PrimaryItemCommandServiceImpl(
-            primaryItemRepository, secondaryItemRepository, shopRepository);
+            primaryItemRepository,
+            secondaryItemRepository,
+            shopRepository,
+            primaryItemCatalogCache,
+            secondaryItemCatalogCache);
   }
 
   @Test
@@ -49,6 +59,7 @@ class PrimaryItemCommandServiceImplTest {
     primaryItemCommandService.registerPrimaryItem(request);
 
     verify(primaryItemRepository, times(1)).save(any(PrimaryItem.class));
+    verify(primaryItemCatalogCache).evict(1L);
   }
 
   @Test
@@ -152,6 +163,7 @@ class PrimaryItemCommandServiceImplTest {
     PrimaryItem item =
         PrimaryItem.builder()
             .primaryItemId(id)
+            .shopId(Shop.builder().shopId(1L).build())
             .primaryItemName("컷트")
             .category(Category.SERVICE)
             .build();
@@ -186,6 +198,8 @@ class PrimaryItemCommandServiceImplTest {
     verify(primaryItemRepository).save(item);
     verify(secondaryItemRepository).save(secondary1);
     verify(secondaryItemRepository).save(secondary2);
+    verify(primaryItemCatalogCache).evict(1L);
+    verify(secondaryItemCatalogCache).evict(1L);
   }
 
   @Test
@@ -15,6 +15,8 @@ import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.P
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
+import com.deveagles.be15_deveagles_be.features.items.query.service.support.SecondaryItemCatalogCache;
+import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.Shop;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,13 +26,17 @@ class SecondaryItemCommandServiceImplTest {
 
   private PrimaryItemRepository primaryItemRepository;
   private SecondaryItemRepository secondaryItemRepository;
+  private SecondaryItemCatalogCache secondaryItemCatalogCache;
   private SecondaryItemCommandServiceImpl service;
 
   @BeforeEach
   void setUp() {
     primaryItemRepository = mock(PrimaryItemRepository.class);
     secondaryItemRepository = mock(SecondaryItemRepository.class);
-    service = new SecondaryItemCommandServiceImpl(primaryItemRepository, secondaryItemRepository);
+    secondaryItemCatalogCache = mock(SecondaryItemCatalogCache.class);
+    service =
+        new SecondaryItemCommandServiceImpl(
+            primaryItemRepository, secondaryItemRepository, secondaryItemCatalogCache);
   }
 
   @Test
@@ -44,7 +50,11 @@ class SecondaryItemCommandServiceImplTest {
     request.setTimeTaken(60);
 
     PrimaryItem primaryItem =
-        PrimaryItem.builder().primaryItemId(1L).category(Category.SERVICE).build();
+        PrimaryItem.builder()
+            .primaryItemId(1L)
+            .shopId(Shop.builder().shopId(1L).build())
+            .category(Category.SERVICE)
+            .build();
     when(primaryItemRepository.findById(1L)).thenReturn(Optional.of(primaryItem));
 
     // when
@@ -52,6 +62,7 @@ class SecondaryItemCommandServiceImplTest {
 
     // then
     verify(secondaryItemRepository, times(1)).save(any(SecondaryItem.class));
+    verify(secondaryItemCatalogCache).evict(1L);
   }
 
   @Test
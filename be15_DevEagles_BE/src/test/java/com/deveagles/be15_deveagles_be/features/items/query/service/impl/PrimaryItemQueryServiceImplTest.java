@@ -3,27 +3,41 @@ package com.deveagles.be15_deveagles_be.features.items.query.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.Category;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.PrimaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.query.dto.response.PrimaryItemResponse;
+import com.deveagles.be15_deveagles_be.features.items.query.service.support.PrimaryItemCatalogCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 class PrimaryItemQueryServiceImplTest {
 
   @Mock private PrimaryItemRepository primaryItemRepository;
 
-  @InjectMocks private PrimaryItemQueryServiceImpl primaryItemQueryService;
+  private PrimaryItemQueryServiceImpl primaryItemQueryService;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    // Redis 에 값이 없는 것으로 두고 로컬 캐시만 쓴다
+    RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+    ReferenceCacheRegistry registry =
+        new ReferenceCacheRegistry(
+            redisTemplate, mock(RedisMessageListenerContainer.class), new ObjectMapper());
+    primaryItemQueryService =
+        new PrimaryItemQueryServiceImpl(
+            new PrimaryItemCatalogCache(registry, primaryItemRepository));
   }
 
   @Test
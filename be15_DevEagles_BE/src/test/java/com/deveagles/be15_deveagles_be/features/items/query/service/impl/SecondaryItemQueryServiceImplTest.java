@@ -3,26 +3,40 @@ package com.deveagles.be15_deveagles_be.features.items.query.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheRegistry;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.query.dto.response.SecondaryItemResponse;
+import com.deveagles.be15_deveagles_be.features.items.query.service.support.SecondaryItemCatalogCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 class SecondaryItemQueryServiceImplTest {
 
   @Mock private SecondaryItemRepository secondaryItemRepository;
 
-  @InjectMocks private SecondaryItemQueryServiceImpl secondaryItemQueryService;
+  private SecondaryItemQueryServiceImpl secondaryItemQueryService;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    // Redis 에 값이 없는 것으로 두고 로컬 캐시만 쓴다
+    RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+    ReferenceCacheRegistry registry =
+        new ReferenceCacheRegistry(
+            redisTemplate, mock(RedisMessageListenerContainer.class), new ObjectMapper());
+    secondaryItemQueryService =
+        new SecondaryItemQueryServiceImpl(
+            new SecondaryItemCatalogCache(registry, secondaryItemRepository));
   }
 
   @Test
@@ -72,4 +86,29 @@ class SecondaryItemQueryServiceImplTest {
 
     verify(secondaryItemRepository, times(1)).findAllByShopId(shopId);
   }
+
+  @Test
+  void getActiveSecondaryItems_shouldFilterCachedCatalog() {
+    // given
+    Long shopId = 1L;
+
+    SecondaryItem active =
+        SecondaryItem.builder().secondaryItemId(1L).secondaryItemName("히피펌").isActive(true).build();
+    SecondaryItem inactive =
+        SecondaryItem.builder()
+            .secondaryItemId(2L)
+            .secondaryItemName("볼륨매직")
+            .isActive(false)
+            .build();
+
+    when(secondaryItemRepository.findAllByShopId(shopId)).thenReturn(List.of(active, inactive));
+
+    // when
+    secondaryItemQueryService.getAllSecondaryItems(shopId);
+    List<SecondaryItemResponse> result = secondaryItemQueryService.getActiveSecondaryItems(shopId);
+
+    // then
+    assertThat(result).extracting(SecondaryItemResponse::getSecondaryItemId).containsExactly(1L);
+    verify(secondaryItemRepository, times(1)).findAllByShopId(shopId);
+  }
 }
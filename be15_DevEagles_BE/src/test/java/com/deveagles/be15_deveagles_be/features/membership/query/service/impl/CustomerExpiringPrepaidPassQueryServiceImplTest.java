@@ -48,7 +48,7 @@ class CustomerExpiringPrepaidPassQueryServiceImplTest {
     // stub mapper
     when(customerMembershipMapper.findExpiringPrepaidPassCustomers(shopId, request, 0))
         .thenReturn(List.of(customerMock));
-    when(customerMembershipMapper.findExpiringPrepaidPassesByCustomerId(anyLong()))
+    when(customerMembershipMapper.findExpiringPrepaidPassesByCustomerIds(anyList()))
         .thenReturn(List.of(passMock));
     when(customerMembershipMapper.countExpiringPrepaidPassCustomers(shopId, request))
         .thenReturn(1L);
@@ -43,15 +43,15 @@ class CustomerExpiringSessionPassQueryServiceImplTest {
     // mock 응답 DTO
     CustomerExpiringSessionPassResponse customerMock =
         mock(CustomerExpiringSessionPassResponse.class);
-    SessionPassInfo sessionPassMock = mock(SessionPassInfo.class);
+    SessionPassInfo sessionPass = SessionPassInfo.builder().customerId(100L).build();
 
     when(customerMock.getCustomerId()).thenReturn(100L);
 
     // stub mapper
     when(customerMembershipMapper.findExpiringSessionPassCustomers(shopId, request, 0))
         .thenReturn(List.of(customerMock));
-    when(customerMembershipMapper.findExpiringSessionPassesByCustomerId(100L))
-        .thenReturn(List.of(sessionPassMock));
+    when(customerMembershipMapper.findExpiringSessionPassesByCustomerIds(List.of(100L)))
+        .thenReturn(List.of(sessionPass));
     when(customerMembershipMapper.countExpiringSessionPassCustomers(shopId, request))
         .thenReturn(1L);
 
@@ -67,7 +67,8 @@ class CustomerExpiringSessionPassQueryServiceImplTest {
 
     // verify mapper calls
     verify(customerMembershipMapper).findExpiringSessionPassCustomers(shopId, request, 0);
-    verify(customerMembershipMapper).findExpiringSessionPassesByCustomerId(100L);
+    verify(customerMembershipMapper).findExpiringSessionPassesByCustomerIds(List.of(100L));
+    verify(customerMock).setSessionPasses(List.of(sessionPass));
     verify(customerMembershipMapper).countExpiringSessionPassCustomers(shopId, request);
   }
 }
@@ -36,11 +36,11 @@ class CustomerMembershipQueryServiceImplTest {
     CustomerMembershipResponse customer = mock(CustomerMembershipResponse.class);
     when(customer.getCustomerId()).thenReturn(100L);
 
-    SessionPassInfo sessionPass = mock(SessionPassInfo.class);
+    SessionPassInfo sessionPass = SessionPassInfo.builder().customerId(100L).build();
 
     when(customerMembershipMapper.findAllCustomerMemberships(shopId, offset, size))
         .thenReturn(List.of(customer));
-    when(customerMembershipMapper.findSessionPassesByCustomerId(100L))
+    when(customerMembershipMapper.findSessionPassesByCustomerIds(List.of(100L)))
         .thenReturn(List.of(sessionPass));
     when(customerMembershipMapper.countAllCustomerMemberships(shopId)).thenReturn(1L);
 
@@ -49,6 +49,7 @@ class CustomerMembershipQueryServiceImplTest {
     assertThat(result).isNotNull();
     assertThat(result.getList()).hasSize(1);
     assertThat(result.getPagination().getTotalItems()).isEqualTo(1L);
+    verify(customer).setSessionPasses(List.of(sessionPass));
   }
 
   @Test
@@ -66,8 +67,8 @@ class CustomerMembershipQueryServiceImplTest {
 
     when(customerMembershipMapper.findCustomerMemberships(shopId, filter, 0))
         .thenReturn(List.of(customer));
-    when(customerMembershipMapper.findSessionPassesByCustomerId(200L))
-        .thenReturn(List.of(mock(SessionPassInfo.class)));
+    when(customerMembershipMapper.findSessionPassesByCustomerIds(List.of(200L)))
+        .thenReturn(List.of(SessionPassInfo.builder().customerId(200L).build()));
     when(customerMembershipMapper.countCustomerMemberships(shopId, filter)).thenReturn(1L);
 
     CustomerMembershipResult result = service.getCustomerMembershipList(shopId, filter);
@@ -77,6 +78,32 @@ class CustomerMembershipQueryServiceImplTest {
     assertThat(result.getPagination().getTotalPages()).isEqualTo(1);
   }
 
+  @Test
+  @DisplayName("getCustomerMembershipList - 고객 수와 관계없이 횟수권은 한 번에 조회")
+  void getCustomerMembershipList_sessionPasses_batched() {
+    Long shopId = 1L;
+
+    CustomerMembershipResponse first = mock(CustomerMembershipResponse.class);
+    when(first.getCustomerId()).thenReturn(100L);
+    CustomerMembershipResponse second = mock(CustomerMembershipResponse.class);
+    when(second.getCustomerId()).thenReturn(200L);
+
+    SessionPassInfo firstPass = SessionPassInfo.builder().customerId(100L).build();
+    SessionPassInfo secondPass = SessionPassInfo.builder().customerId(100L).build();
+
+    when(customerMembershipMapper.findAllCustomerMemberships(shopId, 0, 10))
+        .thenReturn(List.of(first, second));
+    when(customerMembershipMapper.findSessionPassesByCustomerIds(List.of(100L, 200L)))
+        .thenReturn(List.of(firstPass, secondPass));
+    when(customerMembershipMapper.countAllCustomerMemberships(shopId)).thenReturn(2L);
+
+    service.getCustomerMembershipList(shopId, 1, 10);
+
+    verify(customerMembershipMapper, times(1)).findSessionPassesByCustomerIds(anyList());
+    verify(first).setSessionPasses(List.of(firstPass, secondPass));
+    verify(second).setSessionPasses(List.of());
+  }
+
   @Test
   @DisplayName("getPrepaidPassDetailsByCustomerId - 정상")
   void getPrepaidPassDetailsByCustomerId_success() {
@@ -0,0 +1,240 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLink;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLinkLog;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.MessageClickJdbcRepository;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageClickLinkLogRepository;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageClickLinkRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("링크 클릭 추적 테스트")
+class MessageClickTrackerTest {
+
+  private static final String PENDING_KEY = "MESSAGE_CLICK:PENDING";
+  private static final String FLUSHING_KEY = "MESSAGE_CLICK:FLUSHING";
+  private static final String FLUSH_LOCK_KEY = "MESSAGE_CLICK:FLUSH_LOCK";
+  private static final String LINK_TTL_MILLIS = String.valueOf(Duration.ofDays(30).toMillis());
+  // 2030-01-02 10:00 UTC
+  private static final long CLICKED_AT = 1893578400000L;
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+  @Mock private HashOperations<String, Object, Object> hashOperations;
+  @Mock private MessageClickLinkRepository linkRepository;
+  @Mock private MessageClickLinkLogRepository logRepository;
+  @Mock private MessageClickJdbcRepository messageClickJdbcRepository;
+
+  private MessageClickTracker messageClickTracker;
+
+  @BeforeEach
+  void setUp() {
+    messageClickTracker =
+        new MessageClickTracker(
+            redisTemplate, linkRepository, logRepository, messageClickJdbcRepository);
+  }
+
+  private MessageClickLink link(Long id, String token) {
+    return MessageClickLink.builder()
+        .id(id)
+        .shortToken(token)
+        .originalUrl("https://example.com/" + token)
+        .messageId(100L)
+        .build();
+  }
+
+  private void givenFlushLock() {
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.setIfAbsent(eq(FLUSH_LOCK_KEY), anyString(), any(Duration.class)))
+        .willReturn(true);
+  }
+
+  private void givenTakenClicks(Map<Object, Object> clicks) {
+    given(redisTemplate.execute(any(RedisScript.class), eq(List.of(PENDING_KEY, FLUSHING_KEY))))
+        .willReturn(1L);
+    given(redisTemplate.opsForHash()).willReturn(hashOperations);
+    given(hashOperations.entries(FLUSHING_KEY)).willReturn(clicks);
+  }
+
+  @Test
+  @DisplayName("Redis 에서 찾은 링크는 로컬에 두고 다시 조회하지 않는다")
+  void resolve_cachesRedisHitLocally() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.get("MESSAGE_LINK:abc")).willReturn("https://example.com/abc");
+
+    // when
+    String first = messageClickTracker.resolve("abc");
+    String second = messageClickTracker.resolve("abc");
+
+    // then
+    assertThat(first).isEqualTo("https://example.com/abc");
+    assertThat(second).isEqualTo("https://example.com/abc");
+    then(valueOperations).should(times(1)).get("MESSAGE_LINK:abc");
+  }
+
+  @Test
+  @DisplayName("Redis 를 쓸 수 없으면 null 을 돌려 DB 에서 찾게 한다")
+  void resolve_redisFailure() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.get("MESSAGE_LINK:abc"))
+        .willThrow(new QueryTimeoutException("redis timeout"));
+
+    // when
+    String url = messageClickTracker.resolve("abc");
+
+    // then
+    assertThat(url).isNull();
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 만든 링크는 커밋된 뒤에 한 번에 Redis 에 올린다")
+  void registerLinks_afterCommit() {
+    // given
+    List<MessageClickLink> links = List.of(link(1L, "abc"), link(2L, "def"));
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      messageClickTracker.registerLinks(links);
+
+      // then
+      then(redisTemplate).shouldHaveNoInteractions();
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    then(redisTemplate)
+        .should()
+        .execute(
+            any(RedisScript.class),
+            eq(List.of("MESSAGE_LINK:abc", "MESSAGE_LINK:def")),
+            eq(LINK_TTL_MILLIS),
+            eq("https://example.com/abc"),
+            eq("https://example.com/def"));
+  }
+
+  @Test
+  @DisplayName("클릭은 처리 대기 해시에 토큰별 첫 클릭 시각만 남긴다")
+  void recordClick_putsIfAbsent() {
+    // given
+    given(redisTemplate.opsForHash()).willReturn(hashOperations);
+
+    // when
+    boolean recorded = messageClickTracker.recordClick("abc");
+
+    // then
+    assertThat(recorded).isTrue();
+    then(hashOperations).should().putIfAbsent(eq(PENDING_KEY), eq("abc"), anyString());
+  }
+
+  @Test
+  @DisplayName("대기 중인 클릭을 처리용 키로 옮겨 이미 기록된 링크를 빼고 한 번에 저장한다")
+  void flush_movesPendingAndInsertsBatch() {
+    // given
+    givenFlushLock();
+    givenTakenClicks(Map.of("abc", String.valueOf(CLICKED_AT), "def", String.valueOf(CLICKED_AT)));
+    given(linkRepository.findByShortTokenIn(anyList()))
+        .willReturn(List.of(link(1L, "abc"), link(2L, "def")));
+    given(logRepository.findLoggedLinkIds(anyList())).willReturn(List.of(1L));
+
+    // when
+    int flushed = messageClickTracker.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(1);
+    ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+    then(redisTemplate).should().execute(script.capture(), eq(List.of(PENDING_KEY, FLUSHING_KEY)));
+    assertThat(script.getValue().getScriptAsString()).contains("rename");
+
+    ArgumentCaptor<List<MessageClickLinkLog>> logs = ArgumentCaptor.forClass(List.class);
+    then(messageClickJdbcRepository).should().insertClickLogs(logs.capture());
+    assertThat(logs.getValue()).hasSize(1);
+    assertThat(logs.getValue().get(0).getMessageLinkId()).isEqualTo(2L);
+    assertThat(logs.getValue().get(0).getReadAt())
+        .isEqualTo(
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(CLICKED_AT), ZoneId.systemDefault()));
+    then(redisTemplate).should().delete(FLUSHING_KEY);
+    then(redisTemplate)
+        .should()
+        .execute(any(RedisScript.class), eq(List.of(FLUSH_LOCK_KEY)), anyString());
+  }
+
+  @Test
+  @DisplayName("저장에 실패하면 처리용 키를 남겨 두고 다음 반영에서 같은 클릭을 다시 저장한다")
+  void flush_keepsBatchOnFailureAndRetries() {
+    // given
+    givenFlushLock();
+    givenTakenClicks(Map.of("abc", String.valueOf(CLICKED_AT)));
+    given(linkRepository.findByShortTokenIn(anyList())).willReturn(List.of(link(1L, "abc")));
+    given(logRepository.findLoggedLinkIds(anyList())).willReturn(List.of());
+    willThrow(new QueryTimeoutException("db timeout"))
+        .willDoNothing()
+        .given(messageClickJdbcRepository)
+        .insertClickLogs(anyList());
+
+    // when & then
+    assertThatThrownBy(() -> messageClickTracker.flush())
+        .isInstanceOf(QueryTimeoutException.class);
+    then(redisTemplate).should(never()).delete(FLUSHING_KEY);
+    then(redisTemplate)
+        .should()
+        .execute(any(RedisScript.class), eq(List.of(FLUSH_LOCK_KEY)), anyString());
+
+    int flushed = messageClickTracker.flush();
+
+    assertThat(flushed).isEqualTo(1);
+    then(hashOperations).should(times(2)).entries(FLUSHING_KEY);
+    then(messageClickJdbcRepository).should(times(2)).insertClickLogs(anyList());
+    then(redisTemplate).should().delete(FLUSHING_KEY);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 반영 중이면 아무것도 하지 않는다")
+  void flush_skipsWithoutLock() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.setIfAbsent(eq(FLUSH_LOCK_KEY), anyString(), any(Duration.class)))
+        .willReturn(false);
+
+    // when
+    int flushed = messageClickTracker.flush();
+
+    // then
+    assertThat(flushed).isZero();
+    then(redisTemplate).should(never()).opsForHash();
+    then(messageClickJdbcRepository).shouldHaveNoInteractions();
+  }
+}
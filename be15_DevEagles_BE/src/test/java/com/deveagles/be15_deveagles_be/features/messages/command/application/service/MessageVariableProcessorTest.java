@@ -0,0 +1,95 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.CustomerTemplateVariable;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageRecipientQueryRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MessageVariableProcessorTest {
+
+  @Mock private MessageRecipientQueryRepository recipientQueryRepository;
+
+  private MessageVariableProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    processor = new MessageVariableProcessor(recipientQueryRepository);
+  }
+
+  @Test
+  @DisplayName("템플릿에 쓰인 고객 변수만 한 번에 조회해 고객별로 치환한다")
+  void renderAll_loadsReferencedVariablesOnce() {
+    String content = "#{고객명}님, #{고객등급} 혜택 안내 #{프로필링크}";
+    when(recipientQueryRepository.findTemplateValues(
+            1L,
+            List.of(10L, 20L),
+            Set.of(
+                CustomerTemplateVariable.CUSTOMER_NAME, CustomerTemplateVariable.CUSTOMER_GRADE)))
+        .thenReturn(
+            Map.of(
+                10L, Map.of("고객명", "홍길동", "고객등급", "VIP"),
+                20L, Map.of("고객명", "김철수", "고객등급", "일반")));
+
+    Map<Long, String> result = processor.renderAll(1L, 5L, content, List.of(10L, 20L), null);
+
+    assertThat(result)
+        .containsEntry(10L, "홍길동님, VIP 혜택 안내 #{프로필링크}")
+        .containsEntry(20L, "김철수님, 일반 혜택 안내 #{프로필링크}");
+    verify(recipientQueryRepository, times(1)).findTemplateValues(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("payload 가 있으면 고객을 조회하지 않고 같은 값으로 치환한다")
+  void renderAll_withPayload_skipsQuery() {
+    Map<Long, String> result =
+        processor.renderAll(
+            1L, null, "#{고객명}님 #{예약일} 예약", List.of(10L), Map.of("고객명", "홍길동", "예약일", "7/1"));
+
+    assertThat(result).containsEntry(10L, "홍길동님 7/1 예약");
+    verifyNoInteractions(recipientQueryRepository);
+  }
+
+  @Test
+  @DisplayName("매장에 없는 고객이 있으면 예외")
+  void renderAll_missingCustomer_throws() {
+    when(recipientQueryRepository.findTemplateValues(any(), any(), any()))
+        .thenReturn(Map.of(10L, Map.of("고객명", "홍길동")));
+
+    assertThatThrownBy(
+            () -> processor.renderAll(1L, 5L, "#{고객명}님", List.of(10L, 20L), null))
+        .isInstanceOf(BusinessException.class);
+  }
+
+  @Test
+  @DisplayName("같은 템플릿은 캐시된 파싱 결과를 쓰고, 본문이 바뀌면 다시 파싱한다")
+  void compile_cachedByTemplateId() {
+    CompiledTemplate first = processor.compile(5L, "#{고객명}님 안녕하세요");
+
+    assertThat(processor.compile(5L, "#{고객명}님 안녕하세요")).isSameAs(first);
+    assertThat(processor.compile(5L, "#{고객명}님 반갑습니다").getSource()).isEqualTo("#{고객명}님 반갑습니다");
+  }
+
+  @Test
+  @DisplayName("닫히지 않은 변수와 값이 null 인 변수 처리")
+  void resolveVariables_edgeCases() {
+    Map<String, String> payload = new HashMap<>();
+    payload.put("고객명", null);
+
+    assertThat(processor.resolveVariables("#{고객명}님 #{미정", payload)).isEqualTo("님 #{미정");
+  }
+}
@@ -0,0 +1,137 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.CoolSmsClient;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("문자 디스패처 테스트")
+class SmsDispatcherTest {
+
+  @Mock private MessageCommandService messageCommandService;
+  @Mock private CustomerQueryService customerQueryService;
+  @Mock private MessageSenderCache messageSenderCache;
+  @Mock private CoolSmsClient coolSmsClient;
+  @InjectMocks private SmsDispatcher smsDispatcher;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(smsDispatcher, "perShopRatePerSecond", 0);
+    smsDispatcher.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    smsDispatcher.shutdown();
+  }
+
+  private void givenShopAndCustomers() {
+    given(messageSenderCache.get(1L)).willReturn(new MessageSenderCache.Sender("0212345678"));
+    given(customerQueryService.getCustomerPhoneNumberMap(List.of(10L, 11L, 12L)))
+        .willReturn(Map.of(10L, "01011110000", 11L, "01022220000", 12L, "01033330000"));
+  }
+
+  private Sms sms(Long messageId, Long customerId, int previousAttempts) {
+    return Sms.builder()
+        .messageId(messageId)
+        .shopId(1L)
+        .customerId(customerId)
+        .messageContent("안녕하세요")
+        .dispatchAttempts(previousAttempts)
+        .build();
+  }
+
+  @Test
+  @DisplayName("접수된 수신자는 발송 완료로, 거절된 수신자만 다시 대기시킨다")
+  void dispatchClaimed_retriesOnlyRejectedRecipients() throws Exception {
+    // given
+    givenShopAndCustomers();
+    given(coolSmsClient.sendBatch(eq("0212345678"), anyList()))
+        .willReturn(
+            List.of(
+                new MessageSendResult(true, "발송 성공", 1L),
+                new MessageSendResult(false, "발송 실패", 2L),
+                new MessageSendResult(true, "발송 성공", 3L)));
+
+    // when
+    smsDispatcher.dispatchClaimed(List.of(sms(1L, 10L, 0), sms(2L, 11L, 0), sms(3L, 12L, 0)));
+
+    // then
+    ArgumentCaptor<List<Long>> sent = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Long>> failed = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<Map<LocalDateTime, List<Long>>> retry = ArgumentCaptor.forClass(Map.class);
+    then(messageCommandService)
+        .should()
+        .completeDispatch(sent.capture(), failed.capture(), retry.capture());
+    assertThat(sent.getValue()).containsExactlyInAnyOrder(1L, 3L);
+    assertThat(failed.getValue()).isEmpty();
+    assertThat(retry.getValue().values()).containsExactly(List.of(2L));
+    assertThat(retry.getValue().keySet()).allMatch(at -> at.isAfter(LocalDateTime.now()));
+  }
+
+  @Test
+  @DisplayName("시도 한도에 닿은 수신자는 다시 대기시키지 않고 실패로 둔다")
+  void dispatchClaimed_failsAfterMaxAttempts() throws Exception {
+    // given
+    givenShopAndCustomers();
+    given(coolSmsClient.sendBatch(eq("0212345678"), anyList()))
+        .willThrow(new IllegalStateException("timeout"));
+
+    // when
+    smsDispatcher.dispatchClaimed(List.of(sms(1L, 10L, 2), sms(2L, 11L, 0), sms(3L, 12L, 1)));
+
+    // then
+    ArgumentCaptor<List<Long>> failed = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<Map<LocalDateTime, List<Long>>> retry = ArgumentCaptor.forClass(Map.class);
+    then(messageCommandService)
+        .should()
+        .completeDispatch(eq(List.of()), failed.capture(), retry.capture());
+    assertThat(failed.getValue()).containsExactly(1L);
+    // 시도 횟수마다 대기 시간이 달라 다음 시도 시각이 나뉜다
+    assertThat(retry.getValue()).hasSize(2);
+    assertThat(retry.getValue().values().stream().flatMap(List::stream))
+        .containsExactlyInAnyOrder(2L, 3L);
+  }
+
+  @Test
+  @DisplayName("처리 시작 시 점유 기한이 지난 발송 중 문자를 회수한다")
+  void requestDispatch_recoversExpiredClaims() {
+    // given
+    given(messageCommandService.claimDispatchBatch(any(LocalDateTime.class), eq(4000)))
+        .willReturn(List.of());
+
+    // when
+    smsDispatcher.requestDispatch();
+
+    // then
+    then(messageCommandService)
+        .should(timeout(1000))
+        .recoverExpiredClaims(any(LocalDateTime.class), eq(3));
+    then(messageCommandService).should(timeout(1000)).claimDispatchBatch(any(), eq(4000));
+    then(messageCommandService).should(never()).completeDispatch(anyList(), anyList(), anyMap());
+  }
+}
@@ -5,10 +5,14 @@ import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.verify;
 
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageClickTracker;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLink;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageClickLinkLog;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.MessageClickJdbcRepository;
 import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageClickLinkLogRepository;
 import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageClickLinkRepository;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +34,10 @@ class MessageClickServiceImplTest {
 
   @Mock private MessageClickLinkLogRepository logRepository;
 
+  @Mock private MessageClickJdbcRepository messageClickJdbcRepository;
+
+  @Mock private MessageClickTracker messageClickTracker;
+
   @BeforeEach
   void setUp() {
     // @Value 주입이므로 reflection으로 세팅
@@ -44,20 +52,50 @@ class MessageClickServiceImplTest {
     Long messageId = 1L;
     String originalUrl = "http://yourapp.com/profile/1";
 
-    ArgumentCaptor<MessageClickLink> linkCaptor = ArgumentCaptor.forClass(MessageClickLink.class);
+    ArgumentCaptor<List<MessageClickLink>> linkCaptor = ArgumentCaptor.forClass(List.class);
 
     // when
     String result = messageClickService.createTrackableLink(messageId, originalUrl);
 
     // then
-    verify(linkRepository).save(linkCaptor.capture());
-    MessageClickLink savedLink = linkCaptor.getValue();
+    verify(messageClickJdbcRepository).insertLinks(linkCaptor.capture());
+    MessageClickLink savedLink = linkCaptor.getValue().get(0);
 
     assertNotNull(savedLink.getShortToken());
     assertEquals(originalUrl, savedLink.getOriginalUrl());
     assertEquals(messageId, savedLink.getMessageId());
     assertTrue(result.startsWith("http://localhost:8080/api/v1/track/profile?token="));
     assertTrue(result.contains(savedLink.getShortToken()));
+    verify(messageClickTracker).registerLinks(linkCaptor.getValue());
+  }
+
+  @Test
+  @DisplayName("발송 한 번의 추적 링크는 한 번에 저장한다")
+  void createTrackableLinks_insertsOnce() {
+    // when
+    Map<Long, String> result =
+        messageClickService.createTrackableLinks(List.of(1L, 2L, 3L), "http://yourapp.com/p/1");
+
+    // then
+    assertEquals(3, result.size());
+    assertEquals(3, result.values().stream().distinct().count());
+    verify(messageClickJdbcRepository, times(1)).insertLinks(anyList());
+    verify(linkRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("캐시에 있는 토큰은 DB 를 읽지 않고 클릭을 쌓아 둔다")
+  void registerClickAndGetRedirectUrl_cachedToken() {
+    // given
+    when(messageClickTracker.resolve("abc123")).thenReturn("http://yourapp.com/profile/99");
+    when(messageClickTracker.recordClick("abc123")).thenReturn(true);
+
+    // when
+    String result = messageClickService.registerClickAndGetRedirectUrl("abc123");
+
+    // then
+    assertEquals("http://yourapp.com/profile/99", result);
+    verifyNoInteractions(linkRepository, logRepository);
   }
 
   @Test
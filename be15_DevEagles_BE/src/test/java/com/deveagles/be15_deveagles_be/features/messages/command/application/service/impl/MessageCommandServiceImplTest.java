@@ -5,13 +5,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsDispatchRequestedEvent;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.SmsRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageClickService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSenderCache;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageVariableProcessor;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.*;
-import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.SmsRepository;
 import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.CoolSmsClient;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandService;
@@ -25,6 +26,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class MessageCommandServiceImplTest {
@@ -32,11 +35,12 @@ class MessageCommandServiceImplTest {
   @InjectMocks private MessageCommandServiceImpl messageCommandService;
   @Mock private ShopCommandService shopCommandService;
   @Mock private CustomerQueryService customerQueryService;
-  @Mock private MessageSettingRepository messageSettingRepository;
+  @Mock private MessageSenderCache messageSenderCache;
   @Mock private CoolSmsClient coolSmsClient;
   @Mock private SmsRepository smsRepository;
   @Mock private MessageVariableProcessor messageVariableProcessor;
   @Mock private MessageClickService messageClickService;
+  @Mock private ApplicationEventPublisher eventPublisher;
   private final Long shopId = 1L;
 
   private SmsRequest immediateRequest() {
@@ -78,39 +82,25 @@ class MessageCommandServiceImplTest {
   void sendSms_immediate_success() {
     // given
     SmsRequest request = immediateRequest();
-    LocalDateTime now = LocalDateTime.now();
-    List<Long> customerIds = List.of(1L);
-    List<String> phones = List.of("01011112222");
-
-    MessageSettings settings =
-        MessageSettings.builder()
-            .shopId(shopId)
-            .senderNumber("07000000000")
-            .canAlimtalk(true)
-            .point(1000L)
-            .build();
-
-    when(customerQueryService.getCustomerPhoneNumbers(customerIds)).thenReturn(phones);
-    when(messageSettingRepository.findByShopId(shopId)).thenReturn(Optional.of(settings));
 
-    //  인자 정확히 안 맞아도 되도록 any() 사용
-    when(messageVariableProcessor.buildPayload(anyLong(), anyLong(), any()))
-        .thenReturn(Map.of("고객명", "신사임당"));
+    when(messageSenderCache.get(shopId)).thenReturn(new MessageSenderCache.Sender("07000000000"));
 
-    when(messageVariableProcessor.resolveVariables(any(), any())).thenReturn("안녕하세요 홍길동");
+    when(messageVariableProcessor.renderAll(
+            eq(shopId), eq(10L), eq("안녕하세요 #{고객명}"), eq(List.of(1L)), isNull()))
+        .thenReturn(Map.of(1L, "안녕하세요 홍길동"));
 
     Sms sms = Sms.builder().messageId(1L).messageContent("안녕하세요 홍길동").build();
     when(smsRepository.saveAll(anyList())).thenReturn(List.of(sms));
 
-    when(coolSmsClient.sendMany(any(), any(), anyList()))
-        .thenReturn(List.of(new MessageSendResult(true, "성공", 1L)));
-
     // when
     List<MessageSendResult> result = messageCommandService.sendSms(shopId, request);
 
     // then
     assertThat(result).hasSize(1);
     assertThat(result.get(0).success()).isTrue();
+    assertThat(result.get(0).resultMessage()).isEqualTo("발송 요청 완료");
+    verify(eventPublisher).publishEvent(new SmsDispatchRequestedEvent(shopId, 1));
+    verifyNoInteractions(coolSmsClient);
   }
 
   @Test
@@ -118,19 +108,9 @@ class MessageCommandServiceImplTest {
   void sendSms_reservation_success() {
     SmsRequest request = reservationRequest(LocalDateTime.now().plusMinutes(10));
 
-    MessageSettings settings =
-        MessageSettings.builder()
-            .shopId(shopId)
-            .senderNumber("07000000000")
-            .point(1000L)
-            .canAlimtalk(true)
-            .build();
-
-    when(customerQueryService.getCustomerPhoneNumbers(any())).thenReturn(List.of("01011112222"));
-    when(messageSettingRepository.findByShopId(shopId)).thenReturn(Optional.of(settings));
-    when(messageVariableProcessor.buildPayload(anyLong(), anyLong(), isNull()))
-        .thenReturn(Map.of("고객명", "신사임당"));
-    when(messageVariableProcessor.resolveVariables(any(), any())).thenReturn("예약 메시지 신사임당");
+    when(messageSenderCache.get(shopId)).thenReturn(new MessageSenderCache.Sender("07000000000"));
+    when(messageVariableProcessor.renderAll(eq(shopId), eq(10L), any(), eq(List.of(1L)), isNull()))
+        .thenReturn(Map.of(1L, "예약 메시지 신사임당"));
 
     Sms sms = Sms.builder().messageId(1L).messageContent("예약 메시지 신사임당").build();
     when(smsRepository.saveAll(anyList())).thenReturn(List.of(sms));
@@ -146,68 +126,48 @@ class MessageCommandServiceImplTest {
   @DisplayName("즉시 발송 성공 - 링크 포함 시 치환 처리")
   void sendSms_immediate_withLink_success() {
     SmsRequest request = immediateRequest();
-    List<String> phones = List.of("01012345678");
 
-    MessageSettings settings =
-        MessageSettings.builder()
-            .shopId(shopId)
-            .senderNumber("07000000000")
-            .canAlimtalk(true)
-            .point(1000L)
-            .build();
-
-    when(customerQueryService.getCustomerPhoneNumbers(any())).thenReturn(phones);
-    when(messageSettingRepository.findByShopId(shopId)).thenReturn(Optional.of(settings));
-    when(messageVariableProcessor.buildPayload(anyLong(), anyLong(), isNull()))
-        .thenReturn(Map.of("고객명", "홍길동"));
-    when(messageVariableProcessor.resolveVariables(any(), any())).thenReturn("안녕하세요 #{프로필링크}");
+    when(messageSenderCache.get(shopId)).thenReturn(new MessageSenderCache.Sender("07000000000"));
+    when(messageVariableProcessor.renderAll(eq(shopId), eq(10L), any(), eq(List.of(1L)), isNull()))
+        .thenReturn(Map.of(1L, "안녕하세요 #{프로필링크}"));
 
     Sms sms = Sms.builder().messageId(1L).messageContent("안녕하세요 #{프로필링크}").hasLink(true).build();
 
     when(smsRepository.saveAll(anyList())).thenReturn(List.of(sms));
-    when(messageClickService.createTrackableLink(eq(1L), any()))
-        .thenReturn("http://track.com/token123");
-    when(coolSmsClient.sendMany(any(), any(), anyList()))
-        .thenReturn(List.of(new MessageSendResult(true, "성공", 1L)));
+    when(messageClickService.createTrackableLinks(eq(List.of(1L)), any()))
+        .thenReturn(Map.of(1L, "http://track.com/token123"));
 
     List<MessageSendResult> result = messageCommandService.sendSms(shopId, request);
 
     assertThat(result).hasSize(1);
     assertThat(result.get(0).success()).isTrue();
-    verify(messageClickService).createTrackableLink(eq(1L), contains(shopId.toString()));
+    verify(messageClickService)
+        .createTrackableLinks(eq(List.of(1L)), contains(shopId.toString()));
+    assertThat(sms.getMessageContent()).contains("http://track.com/token123");
+    verify(eventPublisher).publishEvent(any(SmsDispatchRequestedEvent.class));
   }
 
   @Test
   @DisplayName("예약 발송 성공 - 링크 포함 시 치환 처리")
   void sendSms_reservation_withLink_success() {
     SmsRequest request = reservationRequest(LocalDateTime.now().plusMinutes(10));
-    List<String> phones = List.of("01012345678");
 
-    MessageSettings settings =
-        MessageSettings.builder()
-            .shopId(shopId)
-            .senderNumber("07000000000")
-            .canAlimtalk(true)
-            .point(1000L)
-            .build();
-
-    when(customerQueryService.getCustomerPhoneNumbers(any())).thenReturn(phones);
-    when(messageSettingRepository.findByShopId(shopId)).thenReturn(Optional.of(settings));
-    when(messageVariableProcessor.buildPayload(anyLong(), anyLong(), isNull()))
-        .thenReturn(Map.of("고객명", "홍길동"));
-    when(messageVariableProcessor.resolveVariables(any(), any())).thenReturn("예약 메시지 #{프로필링크}");
+    when(messageSenderCache.get(shopId)).thenReturn(new MessageSenderCache.Sender("07000000000"));
+    when(messageVariableProcessor.renderAll(eq(shopId), eq(10L), any(), eq(List.of(1L)), isNull()))
+        .thenReturn(Map.of(1L, "예약 메시지 #{프로필링크}"));
 
     Sms sms = Sms.builder().messageId(1L).messageContent("예약 메시지 #{프로필링크}").hasLink(true).build();
 
     when(smsRepository.saveAll(anyList())).thenReturn(List.of(sms));
-    when(messageClickService.createTrackableLink(eq(1L), any()))
-        .thenReturn("http://track.com/token456");
+    when(messageClickService.createTrackableLinks(eq(List.of(1L)), any()))
+        .thenReturn(Map.of(1L, "http://track.com/token456"));
 
     List<MessageSendResult> result = messageCommandService.sendSms(shopId, request);
 
     assertThat(result).hasSize(1);
     assertThat(result.get(0).resultMessage()).isEqualTo("예약 등록 완료");
-    verify(messageClickService).createTrackableLink(eq(1L), contains(shopId.toString()));
+    verify(messageClickService)
+        .createTrackableLinks(eq(List.of(1L)), contains(shopId.toString()));
     verifyNoInteractions(coolSmsClient);
   }
 
@@ -253,16 +213,8 @@ class MessageCommandServiceImplTest {
             .messageDeliveryStatus(MessageDeliveryStatus.FAIL)
             .build();
 
-    MessageSettings settings =
-        MessageSettings.builder()
-            .shopId(shopId)
-            .senderNumber("07000000000")
-            .canAlimtalk(true)
-            .point(1000L)
-            .build();
-
     when(smsRepository.findByMessageIdAndShopId(1L, shopId)).thenReturn(Optional.of(sms));
-    when(messageSettingRepository.findByShopId(shopId)).thenReturn(Optional.of(settings));
+    when(messageSenderCache.get(shopId)).thenReturn(new MessageSenderCache.Sender("07000000000"));
     when(customerQueryService.getCustomerPhoneNumbers(List.of(1L)))
         .thenReturn(List.of("01011112222"));
     when(messageVariableProcessor.buildPayload(anyLong(), anyLong(), isNull()))
@@ -301,4 +253,74 @@ class MessageCommandServiceImplTest {
     messages.forEach(m -> verify(m).markAsSent());
     verify(smsRepository).saveAll(messages);
   }
+
+  @Test
+  @DisplayName("발송 대상 점유 시 대기 상태를 발송 중으로 일괄 변경")
+  void claimDispatchBatch_success() {
+    LocalDateTime now = LocalDateTime.now();
+    Sms first = Sms.builder().messageId(1L).build();
+    Sms second = Sms.builder().messageId(2L).build();
+    when(smsRepository.findDispatchTargets(
+            eq(MessageDeliveryStatus.PENDING), eq(now), any(Pageable.class)))
+        .thenReturn(List.of(first, second));
+
+    List<Sms> claimed = messageCommandService.claimDispatchBatch(now, 100);
+
+    assertThat(claimed).containsExactly(first, second);
+    verify(smsRepository)
+        .claimForDispatch(
+            List.of(1L, 2L), MessageDeliveryStatus.PENDING, MessageDeliveryStatus.SENDING, now);
+  }
+
+  @Test
+  @DisplayName("발송 대상이 없으면 상태 변경을 하지 않는다")
+  void claimDispatchBatch_empty() {
+    when(smsRepository.findDispatchTargets(any(), any(), any(Pageable.class)))
+        .thenReturn(List.of());
+
+    List<Sms> claimed = messageCommandService.claimDispatchBatch(LocalDateTime.now(), 100);
+
+    assertThat(claimed).isEmpty();
+    verify(smsRepository, never()).claimForDispatch(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("발송 결과 일괄 반영")
+  void completeDispatch_success() {
+    LocalDateTime nextAttemptAt = LocalDateTime.now().plusMinutes(1);
+    messageCommandService.completeDispatch(
+        List.of(1L, 2L), List.of(3L), Map.of(nextAttemptAt, List.of(4L)));
+
+    verify(smsRepository)
+        .updateDeliveryStatusWithSentAt(
+            eq(List.of(1L, 2L)),
+            eq(MessageDeliveryStatus.SENDING),
+            eq(MessageDeliveryStatus.SENT),
+            any(LocalDateTime.class));
+    verify(smsRepository)
+        .updateDeliveryStatus(
+            List.of(3L), MessageDeliveryStatus.SENDING, MessageDeliveryStatus.FAIL);
+    verify(smsRepository)
+        .requeueForDispatch(
+            List.of(4L),
+            MessageDeliveryStatus.SENDING,
+            MessageDeliveryStatus.PENDING,
+            nextAttemptAt);
+  }
+
+  @Test
+  @DisplayName("점유 기한이 지난 발송 중 문자는 시도 한도에 따라 재대기 또는 실패로 회수")
+  void recoverExpiredClaims_success() {
+    LocalDateTime claimedBefore = LocalDateTime.now().minusMinutes(10);
+    when(smsRepository.requeueExpiredClaims(
+            MessageDeliveryStatus.SENDING, MessageDeliveryStatus.PENDING, claimedBefore, 3))
+        .thenReturn(2);
+    when(smsRepository.failExpiredClaims(
+            MessageDeliveryStatus.SENDING, MessageDeliveryStatus.FAIL, claimedBefore, 3))
+        .thenReturn(1);
+
+    int recovered = messageCommandService.recoverExpiredClaims(claimedBefore, 3);
+
+    assertThat(recovered).isEqualTo(3);
+  }
 }
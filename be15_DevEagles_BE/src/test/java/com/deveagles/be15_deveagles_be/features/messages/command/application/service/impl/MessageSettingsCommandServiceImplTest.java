@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.MessageSettingRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSettingResponse;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSenderCache;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSettings;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandServiceImpl;
@@ -26,6 +27,7 @@ class MessageSettingsCommandServiceImplTest {
 
   @Mock private MessageSettingRepository messageSettingRepository;
   @Mock private ShopCommandServiceImpl shopCommandServiceImpl;
+  @Mock private MessageSenderCache messageSenderCache;
 
   private final Long shopId = 1L;
 
@@ -58,6 +60,7 @@ class MessageSettingsCommandServiceImplTest {
 
     assertEquals(shopId, result);
     verify(messageSettingRepository).save(any(MessageSettings.class));
+    verify(messageSenderCache).evict(shopId);
   }
 
   @Test
@@ -114,6 +117,7 @@ class MessageSettingsCommandServiceImplTest {
     assertEquals("01099998888", settings.getSenderNumber());
     assertTrue(settings.isCanAlimtalk());
     assertEquals(800L, settings.getPoint());
+    verify(messageSenderCache).evict(shopId);
   }
 
   @Test
@@ -2,26 +2,58 @@ package com.deveagles.be15_deveagles_be.features.notifications.command.applicati
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.deveagles.be15_deveagles_be.features.notifications.command.application.service.NotificationSseService.NotificationEnvelope;
 import com.deveagles.be15_deveagles_be.features.notifications.command.domain.aggregate.NotificationType;
 import com.deveagles.be15_deveagles_be.features.notifications.query.application.dto.NotificationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationSseServiceTest {
 
-  @InjectMocks private NotificationSseService notificationSseService;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private RedisMessageListenerContainer listenerContainer;
+  @Mock private ValueOperations<String, String> valueOperations;
+  @Mock private ZSetOperations<String, String> zSetOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  private NotificationSseService notificationSseService;
 
   @BeforeEach
   void setUp() {
-    notificationSseService = new NotificationSseService();
+    notificationSseService =
+        new NotificationSseService(redisTemplate, listenerContainer, objectMapper);
+    notificationSseService.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificationSseService.shutdown();
   }
 
   @Test
@@ -35,42 +67,113 @@ class NotificationSseServiceTest {
 
     // then
     assertThat(emitter).isNotNull();
+    assertThat(notificationSseService.getConnectionCount(shopId)).isEqualTo(1);
   }
 
   @Test
-  @DisplayName("구독한 사용자에게 알림 발송 시 오류가 발생하지 않는다")
-  void send_notification_to_subscribed_user() {
+  @DisplayName("같은 매장이 여러 번 구독해도 기존 연결이 유지된다")
+  void subscribe_multiple_connections_per_shop() {
     // given
     final Long shopId = 1L;
-    notificationSseService.subscribe(shopId); // 1번 사용자를 구독 상태로 만듦
+
+    // when
+    notificationSseService.subscribe(shopId);
+    notificationSseService.subscribe(shopId);
+
+    // then
+    assertThat(notificationSseService.getConnectionCount(shopId)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("알림 발송 시 이벤트 ID를 발급해 재전송 목록에 보관하고 Redis 채널로 발행한다")
+  void send_publishes_to_channel() {
+    // given
+    final Long shopId = 1L;
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(valueOperations.increment("NOTIFICATION_SEQ:1")).thenReturn(7L);
 
     NotificationResponse notification =
         new NotificationResponse(
             101L, "테스트 알림", "내용입니다.", NotificationType.RESERVATION, false, LocalDateTime.now());
 
-    // when & then
-    assertDoesNotThrow(() -> notificationSseService.send(shopId, notification));
+    // when
+    notificationSseService.send(shopId, notification);
+
+    // then
+    verify(zSetOperations).add(eq("NOTIFICATION_REPLAY:1"), anyString(), eq(7.0));
+    verify(redisTemplate).convertAndSend(eq(NotificationSseService.CHANNEL), anyString());
   }
 
   @Test
-  @DisplayName("구독하지 않은 사용자에게는 알림 발송 로직이 실행되지 않는다")
-  void send_notification_to_unsubscribed_user() {
+  @DisplayName("Redis 발행 중 오류가 나도 예외를 던지지 않는다")
+  void send_redis_failure_is_swallowed() {
     // given
-    final Long subscribedShopId = 1L;
-    final Long unsubscribedShopId = 2L;
-
-    notificationSseService.subscribe(subscribedShopId);
+    when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
 
     NotificationResponse notification =
         new NotificationResponse(
-            102L,
-            "테스트 알림",
-            "구독 안한 사람에게 가는 내용",
-            NotificationType.NOTICE,
-            false,
-            LocalDateTime.now());
+            102L, "테스트 알림", "내용", NotificationType.NOTICE, false, LocalDateTime.now());
 
     // when & then
-    assertDoesNotThrow(() -> notificationSseService.send(unsubscribedShopId, notification));
+    assertDoesNotThrow(() -> notificationSseService.send(1L, notification));
+    verify(redisTemplate, never()).convertAndSend(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("다른 서버에서 발행한 알림을 수신하면 구독 중인 연결에 전달한다")
+  void onMessage_delivers_to_local_connections() throws Exception {
+    // given
+    final Long shopId = 1L;
+    notificationSseService.subscribe(shopId);
+    String body =
+        objectMapper.writeValueAsString(new NotificationEnvelope(shopId, 3L, "{\"title\":\"t\"}"));
+
+    // when & then
+    assertDoesNotThrow(
+        () ->
+            notificationSseService.onMessage(
+                new DefaultMessage(
+                    NotificationSseService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    body.getBytes(StandardCharsets.UTF_8)),
+                null));
+  }
+
+  @Test
+  @DisplayName("구독하지 않은 매장의 알림 수신 시 전달 로직이 실행되지 않는다")
+  void onMessage_for_unsubscribed_shop() throws Exception {
+    // given
+    notificationSseService.subscribe(1L);
+    String body = objectMapper.writeValueAsString(new NotificationEnvelope(2L, 1L, "{}"));
+
+    // when & then
+    assertDoesNotThrow(
+        () ->
+            notificationSseService.onMessage(
+                new DefaultMessage(
+                    NotificationSseService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    body.getBytes(StandardCharsets.UTF_8)),
+                null));
+    assertThat(notificationSseService.getConnectionCount(2L)).isZero();
+  }
+
+  @Test
+  @DisplayName("Last-Event-ID로 재연결하면 이후 이벤트를 재전송 목록에서 조회한다")
+  void subscribe_with_last_event_id_replays() throws Exception {
+    // given
+    final Long shopId = 1L;
+    Set<String> retained = new LinkedHashSet<>();
+    retained.add(objectMapper.writeValueAsString(new NotificationEnvelope(shopId, 6L, "{}")));
+    retained.add(objectMapper.writeValueAsString(new NotificationEnvelope(shopId, 7L, "{}")));
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(zSetOperations.rangeByScore("NOTIFICATION_REPLAY:1", 6.0, Double.POSITIVE_INFINITY))
+        .thenReturn(retained);
+
+    // when
+    SseEmitter emitter = notificationSseService.subscribe(shopId, "5");
+
+    // then
+    assertThat(emitter).isNotNull();
+    verify(zSetOperations).rangeByScore("NOTIFICATION_REPLAY:1", 6.0, Double.POSITIVE_INFINITY);
   }
 }
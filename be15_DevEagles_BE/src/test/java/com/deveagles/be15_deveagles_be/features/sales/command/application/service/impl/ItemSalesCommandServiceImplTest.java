@@ -3,19 +3,22 @@ package com.deveagles.be15_deveagles_be.features.sales.command.application.servi
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.events.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.common.events.DomainEvent;
+import com.deveagles.be15_deveagles_be.common.events.PaymentCompletedEvent;
+import com.deveagles.be15_deveagles_be.common.events.outbox.DomainEventPublisher;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
-import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerPrepaidPass;
-import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerSessionPass;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerPrepaidPassRepository;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerSessionPassRepository;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.AutomaticMessageTriggerService;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.dto.request.ItemSalesRequest;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.dto.request.PaymentsInfo;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.CustomerMembershipHistory;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.ItemSales;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Payments;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
@@ -24,12 +27,17 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.ItemSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.sales.command.infrastructure.repository.SalesJdbcRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class ItemSalesCommandServiceImplTest {
 
@@ -43,8 +51,9 @@ class ItemSalesCommandServiceImplTest {
   private CustomerMembershipHistoryRepository customerMembershipHistoryRepository;
   private AutomaticMessageTriggerService automaticMessageTriggerService;
   private CustomerQueryService customerQueryService;
-  private CustomerPrepaidPassRepository customerPrepaidPassRepository;
-  private CustomerSessionPassRepository customerSessionPassRepository;
+  private SalesRollupCommandService salesRollupCommandService;
+  private DomainEventPublisher domainEventPublisher;
+  private SalesJdbcRepository salesJdbcRepository;
 
   @BeforeEach
   void setUp() {
@@ -57,8 +66,16 @@ class ItemSalesCommandServiceImplTest {
     customerMembershipHistoryRepository = mock(CustomerMembershipHistoryRepository.class);
     automaticMessageTriggerService = mock(AutomaticMessageTriggerService.class);
     customerQueryService = mock(CustomerQueryService.class);
-    customerPrepaidPassRepository = mock(CustomerPrepaidPassRepository.class);
-    customerSessionPassRepository = mock(CustomerSessionPassRepository.class);
+    salesRollupCommandService = mock(SalesRollupCommandService.class);
+    domainEventPublisher = mock(DomainEventPublisher.class);
+    salesJdbcRepository = mock(SalesJdbcRepository.class);
+    // 결제 ID 는 200 부터 입력 순서대로 생성
+    when(salesJdbcRepository.insertPayments(anyList()))
+        .thenAnswer(
+            inv -> {
+              List<Payments> payments = inv.getArgument(0);
+              return LongStream.range(200, 200 + payments.size()).boxed().toList();
+            });
 
     service =
         new ItemSalesCommandServiceImpl(
@@ -70,7 +87,10 @@ class ItemSalesCommandServiceImplTest {
             itemSalesRepository,
             customerMembershipHistoryRepository,
             customerQueryService,
-            automaticMessageTriggerService);
+            automaticMessageTriggerService,
+            salesRollupCommandService,
+            domainEventPublisher,
+            salesJdbcRepository);
   }
 
   @Test
@@ -105,27 +125,12 @@ class ItemSalesCommandServiceImplTest {
 
     Customer customer = mock(Customer.class);
     when(customerRepository.findById(req.getCustomerId())).thenReturn(Optional.of(customer));
+    when(customer.getRecentVisitDate()).thenReturn(LocalDate.of(2024, 1, 1));
+    when(customer.getTotalRevenue()).thenReturn(50000);
     Sales savedSales = mock(Sales.class);
     when(savedSales.getSalesId()).thenReturn(100L);
     when(salesRepository.save(any())).thenReturn(savedSales);
 
-    // Payments: ID 포함된 mock 객체
-    Payments savedPayment = mock(Payments.class);
-    when(savedPayment.getPaymentsId()).thenReturn(200L);
-    when(paymentsRepository.save(any())).thenReturn(savedPayment);
-
-    // 선불권
-    CustomerPrepaidPass prepaidPass = mock(CustomerPrepaidPass.class);
-    when(prepaidPass.getCustomerPrepaidPassId()).thenReturn(300L);
-    when(prepaidPass.getRemainingAmount()).thenReturn(9000);
-    when(customerPrepaidPassRepository.findById(any())).thenReturn(Optional.of(prepaidPass));
-
-    // 횟수권
-    CustomerSessionPass sessionPass = mock(CustomerSessionPass.class);
-    when(sessionPass.getCustomerSessionPassId()).thenReturn(400L);
-    when(sessionPass.getRemainingCount()).thenReturn(8);
-    when(customerSessionPassRepository.findById(any())).thenReturn(Optional.of(sessionPass));
-
     // 고객 상세 정보
     CustomerDetailResponse customerDto =
         CustomerDetailResponse.builder()
@@ -138,10 +143,96 @@ class ItemSalesCommandServiceImplTest {
     service.registItemSales(req);
 
     verify(salesRepository).save(any());
-    verify(paymentsRepository).save(any());
-    verify(itemSalesRepository).save(any());
+    ArgumentCaptor<List<Payments>> paymentsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(salesJdbcRepository).insertPayments(paymentsCaptor.capture());
+    assertEquals(1, paymentsCaptor.getValue().size());
+    assertEquals(100L, paymentsCaptor.getValue().get(0).getSalesId());
+    ArgumentCaptor<List<ItemSales>> itemsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(salesJdbcRepository).insertItemSales(itemsCaptor.capture());
+    assertEquals(5L, itemsCaptor.getValue().get(0).getSecondaryItemId());
+    verify(paymentsRepository, never()).save(any());
+    verify(itemSalesRepository, never()).save(any());
     verify(customer).incrementVisitCount();
     verify(customer).addRevenue(req.getTotalAmount());
+
+    ArgumentCaptor<DomainEvent> eventCaptor = ArgumentCaptor.forClass(DomainEvent.class);
+    verify(domainEventPublisher, times(2)).publish(eventCaptor.capture());
+    CustomerVisitEvent visit = (CustomerVisitEvent) eventCaptor.getAllValues().get(0);
+    assertEquals(LocalDate.of(2024, 1, 1), visit.previousVisitDate());
+    PaymentCompletedEvent payment = (PaymentCompletedEvent) eventCaptor.getAllValues().get(1);
+    assertEquals(9000L, payment.amount());
+    assertEquals(req.getCustomerId(), payment.customerId());
+    assertEquals(50000L, payment.previousTotalRevenue());
+  }
+
+  @Test
+  @DisplayName("성공: 선불권 결제는 조건부 차감 후 잔액을 이력에 기록")
+  void successRegistWithPrepaidPass() {
+    ItemSalesRequest req = validRequest();
+    req.setPayments(List.of(new PaymentsInfo(PaymentsMethod.PREPAID_PASS, 9000, 300L, null, null)));
+    stubSavedSales();
+    when(prepaidRepository.deductAmount(300L, 9000)).thenReturn(1);
+    when(prepaidRepository.findRemainingAmountById(300L)).thenReturn(Optional.of(1000));
+
+    service.registItemSales(req);
+
+    verify(prepaidRepository, never()).findById(any());
+    ArgumentCaptor<List<CustomerMembershipHistory>> captor = ArgumentCaptor.forClass(List.class);
+    verify(salesJdbcRepository).insertMembershipHistories(captor.capture());
+    CustomerMembershipHistory history = captor.getValue().get(0);
+    assertEquals(200L, history.getPaymentsId());
+    assertEquals(300L, history.getCustomerPrepaidPassId());
+    assertEquals(9000, history.getUsedAmount());
+    assertEquals(1000, history.getBalanceAfter());
+  }
+
+  @Test
+  @DisplayName("실패: 선불권 잔액 부족")
+  void failWhenPrepaidBalanceInsufficient() {
+    ItemSalesRequest req = validRequest();
+    req.setPayments(List.of(new PaymentsInfo(PaymentsMethod.PREPAID_PASS, 9000, 300L, null, null)));
+    stubSavedSales();
+    when(prepaidRepository.deductAmount(300L, 9000)).thenReturn(0);
+    when(prepaidRepository.findRemainingAmountById(300L)).thenReturn(Optional.of(5000));
+
+    assertThrowsWithCode(
+        () -> service.registItemSales(req), ErrorCode.CUSTOMERPREPAIDPASS_INSUFFICIENT_BALANCE);
+    // 차감이 모두 끝난 뒤에 저장하므로 하위 행은 하나도 쓰지 않는다
+    verify(salesJdbcRepository, never()).insertPayments(anyList());
+    verify(salesJdbcRepository, never()).insertMembershipHistories(anyList());
+  }
+
+  @Test
+  @DisplayName("실패: 선불권 없음")
+  void failWhenPrepaidPassNotFound() {
+    ItemSalesRequest req = validRequest();
+    req.setPayments(List.of(new PaymentsInfo(PaymentsMethod.PREPAID_PASS, 9000, 300L, null, null)));
+    stubSavedSales();
+    when(prepaidRepository.deductAmount(300L, 9000)).thenReturn(0);
+    when(prepaidRepository.findRemainingAmountById(300L)).thenReturn(Optional.empty());
+
+    assertThrowsWithCode(
+        () -> service.registItemSales(req), ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("실패: 횟수권 잔여 횟수 부족")
+  void failWhenSessionCountInsufficient() {
+    ItemSalesRequest req = validRequest();
+    req.setPayments(List.of(new PaymentsInfo(PaymentsMethod.SESSION_PASS, 9000, null, 400L, 2)));
+    stubSavedSales();
+    when(sessionRepository.deductCount(400L, 2)).thenReturn(0);
+    when(sessionRepository.findRemainingCountById(400L)).thenReturn(Optional.of(1));
+
+    assertThrowsWithCode(
+        () -> service.registItemSales(req), ErrorCode.CUSTOMERSESSIONPASS_INSUFFICIENT_COUNT);
+  }
+
+  private void stubSavedSales() {
+    Sales savedSales = mock(Sales.class);
+    when(savedSales.getSalesId()).thenReturn(100L);
+    when(salesRepository.save(any())).thenReturn(savedSales);
+    when(customerRepository.findById(any())).thenReturn(Optional.of(mock(Customer.class)));
   }
 
   private ItemSalesRequest validRequest() {
@@ -248,5 +339,63 @@ class ItemSalesCommandServiceImplTest {
     // then
     verify(sales).setRefunded(true);
     verify(customer).subtractRevenue(9000);
+    verifyNoInteractions(domainEventPublisher);
+  }
+
+  @Test
+  @DisplayName("성공: 환불 시 이력의 차감 금액만큼 선불권 복원")
+  void successRefundRestoresPrepaidAmount() {
+    long salesId = 1L;
+    Sales sales = mock(Sales.class);
+    Payments oldPayment = mock(Payments.class);
+    CustomerMembershipHistory history = mock(CustomerMembershipHistory.class);
+
+    when(sales.getIsRefunded()).thenReturn(false);
+    when(sales.getCustomerId()).thenReturn(2L);
+    when(salesRepository.findById(salesId)).thenReturn(Optional.of(sales));
+    when(oldPayment.getPaymentsId()).thenReturn(10L);
+    when(oldPayment.getAmount()).thenReturn(9000);
+    when(paymentsRepository.findAllBySalesId(salesId)).thenReturn(List.of(oldPayment));
+    when(history.getCustomerPrepaidPassId()).thenReturn(300L);
+    when(history.getUsedAmount()).thenReturn(7000);
+    when(customerMembershipHistoryRepository.findBySalesIdAndPaymentsId(salesId, 10L))
+        .thenReturn(Optional.of(history));
+    when(prepaidRepository.restoreAmount(300L, 7000)).thenReturn(1);
+    when(prepaidRepository.findRemainingAmountById(300L)).thenReturn(Optional.of(12000));
+    when(customerRepository.findById(2L)).thenReturn(Optional.of(mock(Customer.class)));
+
+    service.refundItemSales(salesId);
+
+    verify(prepaidRepository).restoreAmount(300L, 7000);
+    ArgumentCaptor<List<CustomerMembershipHistory>> captor = ArgumentCaptor.forClass(List.class);
+    verify(salesJdbcRepository).insertMembershipHistories(captor.capture());
+    assertEquals(1, captor.getValue().size());
+    CustomerMembershipHistory compensation = captor.getValue().get(0);
+    assertEquals(salesId, compensation.getSalesId());
+    assertEquals(10L, compensation.getPaymentsId());
+    assertEquals(300L, compensation.getCustomerPrepaidPassId());
+    assertEquals(-7000, compensation.getUsedAmount());
+    assertEquals(12000, compensation.getBalanceAfter());
+  }
+
+  @Test
+  @DisplayName("성공: 이미 취소된 결제는 다시 복원하지 않음")
+  void successRefundSkipsCancelledPayments() {
+    long salesId = 1L;
+    Sales sales = mock(Sales.class);
+    Payments cancelled = mock(Payments.class);
+
+    when(sales.getIsRefunded()).thenReturn(false);
+    when(sales.getCustomerId()).thenReturn(2L);
+    when(salesRepository.findById(salesId)).thenReturn(Optional.of(sales));
+    when(cancelled.getDeletedAt()).thenReturn(LocalDateTime.now());
+    when(paymentsRepository.findAllBySalesId(salesId)).thenReturn(List.of(cancelled));
+    when(customerRepository.findById(2L)).thenReturn(Optional.of(mock(Customer.class)));
+
+    service.refundItemSales(salesId);
+
+    verify(cancelled, never()).softDelete();
+    verifyNoInteractions(customerMembershipHistoryRepository, prepaidRepository, sessionRepository);
+    verify(salesJdbcRepository).insertMembershipHistories(List.of());
   }
 }
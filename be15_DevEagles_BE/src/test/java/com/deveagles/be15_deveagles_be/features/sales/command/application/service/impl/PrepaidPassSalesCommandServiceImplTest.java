@@ -16,6 +16,7 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.S
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PrepaidPassSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +32,7 @@ class PrepaidPassSalesCommandServiceImplTest {
   private PrepaidPassSalesCommandServiceImpl service;
   private PrepaidPassRepository prepaidPassRepository;
   private CustomerPrepaidPassCommandService customerPrepaidPassCommandService;
+  private SalesRollupCommandService salesRollupCommandService;
 
   @BeforeEach
   void setUp() {
@@ -39,6 +41,7 @@ class PrepaidPassSalesCommandServiceImplTest {
     paymentsRepository = mock(PaymentsRepository.class);
     prepaidPassRepository = mock(PrepaidPassRepository.class);
     customerPrepaidPassCommandService = mock(CustomerPrepaidPassCommandService.class);
+    salesRollupCommandService = mock(SalesRollupCommandService.class);
 
     service =
         new PrepaidPassSalesCommandServiceImpl(
@@ -46,7 +49,8 @@ class PrepaidPassSalesCommandServiceImplTest {
             prepaidPassRepository,
             salesRepository,
             paymentsRepository,
-            customerPrepaidPassCommandService);
+            customerPrepaidPassCommandService,
+            salesRollupCommandService);
   }
 
   // ===== 등록 테스트 =====
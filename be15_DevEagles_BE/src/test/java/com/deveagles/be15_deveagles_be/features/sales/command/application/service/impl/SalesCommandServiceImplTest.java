@@ -7,6 +7,7 @@ import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Sales;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +20,7 @@ import org.mockito.MockitoAnnotations;
 class SalesCommandServiceImplTest {
 
   @Mock private SalesRepository salesRepository;
+  @Mock private SalesRollupCommandService salesRollupCommandService;
 
   @InjectMocks private SalesCommandServiceImpl salesCommandService;
 
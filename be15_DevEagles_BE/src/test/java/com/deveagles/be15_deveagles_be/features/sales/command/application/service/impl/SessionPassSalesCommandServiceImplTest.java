@@ -16,6 +16,7 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.S
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SessionPassSalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +32,7 @@ class SessionPassSalesCommandServiceImplTest {
   private SessionPassSalesCommandServiceImpl service;
   private SessionPassRepository sessionPassRepository;
   private CustomerSessionPassCommandService customerSessionPassCommandService;
+  private SalesRollupCommandService salesRollupCommandService;
 
   @BeforeEach
   void setUp() {
@@ -39,6 +41,7 @@ class SessionPassSalesCommandServiceImplTest {
     paymentsRepository = mock(PaymentsRepository.class);
     sessionPassRepository = mock(SessionPassRepository.class);
     customerSessionPassCommandService = mock(CustomerSessionPassCommandService.class);
+    salesRollupCommandService = mock(SalesRollupCommandService.class);
 
     service =
         new SessionPassSalesCommandServiceImpl(
@@ -46,7 +49,8 @@ class SessionPassSalesCommandServiceImplTest {
             sessionPassRepository,
             salesRepository,
             paymentsRepository,
-            customerSessionPassCommandService);
+            customerSessionPassCommandService,
+            salesRollupCommandService);
   }
 
   // ===== 등록 테스트 =====
@@ -16,11 +16,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 
 public class LeaveCommandServiceTest {
 
   @Mock private LeaveRepository leaveRepository;
   @Mock private RegularLeaveRepository regularLeaveRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @InjectMocks private LeaveCommandService leaveCommandService;
 
   private final Long shopId = 1L;
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("일정 command 테스트")
@@ -28,6 +29,8 @@ class PlanCommandServiceTest {
 
   @Mock private RegularPlanRepository regularPlanRepository;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   private final Long shopId = 1L;
 
   @Test
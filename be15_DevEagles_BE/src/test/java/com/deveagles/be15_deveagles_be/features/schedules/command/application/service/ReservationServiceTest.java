@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.deveagles.be15_deveagles_be.common.events.ReservationCreatedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.outbox.DomainEventPublisher;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerIdResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
@@ -16,10 +19,10 @@ import com.deveagles.be15_deveagles_be.features.schedules.command.application.dt
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationStatusRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Reservation;
-import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationDetail;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationDetailRepository;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.infrastructure.repository.ReservationDetailJdbcRepository;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -45,6 +48,12 @@ class ReservationServiceTest {
   @Mock private MessageVariableProcessor messageVariableProcessor;
 
   @Mock private AutomaticMessageTriggerService automaticMessageTriggerService;
+
+  @Mock private ReservationSlotClaimer reservationSlotClaimer;
+
+  @Mock private DomainEventPublisher domainEventPublisher;
+
+  @Mock private ReservationDetailJdbcRepository reservationDetailJdbcRepository;
   @InjectMocks private ReservationService reservationService;
 
   @BeforeEach
@@ -92,8 +101,8 @@ class ReservationServiceTest {
     // then
     assertThat(resultId).isEqualTo(123L);
     verify(reservationRepository).save(any(Reservation.class));
-    verify(reservationDetailRepository, times(2)).save(any(ReservationDetail.class));
-    verify(eventPublisher).publishEvent(any(ReservationCreatedEvent.class));
+    verify(reservationDetailJdbcRepository).insertAll(123L, List.of(101L, 102L));
+    verify(domainEventPublisher).publish(any(ReservationCreatedEvent.class));
   }
 
   @Test
@@ -119,8 +128,8 @@ class ReservationServiceTest {
     // then
     assertThat(resultId).isEqualTo(456L);
     verify(reservationRepository).save(any(Reservation.class));
-    verify(reservationDetailRepository, times(2)).save(any(ReservationDetail.class));
-    verify(eventPublisher).publishEvent(any(ReservationCreatedEvent.class));
+    verify(reservationDetailJdbcRepository).insertAll(456L, List.of(101L, 102L));
+    verify(domainEventPublisher).publish(any(ReservationCreatedEvent.class));
   }
 
   @Test
@@ -165,7 +174,7 @@ class ReservationServiceTest {
     // then
     assertThat(resultId).isEqualTo(789L);
     verify(reservationRepository).save(any(Reservation.class));
-    verify(reservationDetailRepository, times(2)).save(any(ReservationDetail.class));
+    verify(reservationDetailJdbcRepository).insertAll(789L, List.of(101L, 102L));
     verify(customerQueryService).getCustomerDetail(2L, 1L);
     verify(messageVariableProcessor).buildPayload(eq(2L), eq(1L), anyMap());
     verify(automaticMessageTriggerService)
@@ -325,4 +334,126 @@ class ReservationServiceTest {
         .isInstanceOf(BusinessException.class)
         .hasMessageContaining("PAID 상태의 예약은 수정할 수 없습니다");
   }
+
+  @Test
+  @DisplayName("고객 예약 - 시간을 선점한 뒤 저장하고 가능 시간 캐시를 무효화한다")
+  void createReservation_claimsSlot() {
+    // given
+    CreateReservationRequest request = buildRequest();
+    when(customerQueryService.findCustomerIdByPhoneNumber("01012345678", 1L))
+        .thenReturn(Optional.empty());
+    when(reservationRepository.save(any(Reservation.class))).thenAnswer(i -> i.getArgument(0));
+
+    // when
+    reservationService.createReservation(request);
+
+    // then
+    InOrder inOrder = inOrder(reservationSlotClaimer, reservationRepository);
+    inOrder
+        .verify(reservationSlotClaimer)
+        .claimOpenSlot(1L, 2L, request.reservationStartAt(), request.reservationEndAt());
+    inOrder.verify(reservationRepository).save(any(Reservation.class));
+    verify(eventPublisher).publishEvent(any(ScheduleChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("고객 예약 실패 - 다른 예약과 겹치면 저장하지 않는다")
+  void createReservation_conflict() {
+    // given
+    CreateReservationRequest request = buildRequest();
+    when(customerQueryService.findCustomerIdByPhoneNumber("01012345678", 1L))
+        .thenReturn(Optional.empty());
+    doThrow(new BusinessException(ErrorCode.RESERVATION_TIME_CONFLICT))
+        .when(reservationSlotClaimer)
+        .claimOpenSlot(any(), any(), any(), any());
+
+    // then
+    assertThatThrownBy(() -> reservationService.createReservation(request))
+        .isInstanceOf(BusinessException.class)
+        .hasMessageContaining("해당 시간에 이미 다른 예약이 있습니다");
+    verify(reservationRepository, never()).save(any());
+    verify(reservationDetailJdbcRepository, never()).insertAll(any(), anyList());
+  }
+
+  @Test
+  @DisplayName("예약 수정 - 시간이 그대로면 다시 선점하지 않는다")
+  void updateReservation_sameTime_skipsClaim() {
+    // given
+    LocalDateTime startAt = LocalDateTime.of(2030, 1, 2, 10, 0);
+    Reservation reservation =
+        Reservation.builder()
+            .reservationId(1L)
+            .shopId(10L)
+            .staffId(2L)
+            .reservationStatusName(ReservationStatusName.PENDING)
+            .reservationStartAt(startAt)
+            .reservationEndAt(startAt.plusHours(1))
+            .build();
+    when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
+
+    UpdateReservationRequest request =
+        new UpdateReservationRequest(
+            2L, "CONFIRMED", "메모", "메모", startAt, startAt.plusHours(1), List.of());
+
+    // when
+    reservationService.updateReservation(10L, 1L, request);
+
+    // then
+    verify(reservationSlotClaimer, never()).claim(any(), any(), any(), any());
+    verify(eventPublisher, times(1)).publishEvent(any(ScheduleChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("예약 수정 - 시간이 바뀌면 자신을 제외하고 겹침을 확인한다")
+  void updateReservation_moved_claimsNewTime() {
+    // given
+    LocalDateTime startAt = LocalDateTime.of(2030, 1, 2, 10, 0);
+    Reservation reservation =
+        Reservation.builder()
+            .reservationId(1L)
+            .shopId(10L)
+            .staffId(2L)
+            .reservationStatusName(ReservationStatusName.CONFIRMED)
+            .reservationStartAt(startAt)
+            .reservationEndAt(startAt.plusHours(1))
+            .build();
+    when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
+
+    LocalDateTime newStartAt = startAt.plusHours(2);
+    UpdateReservationRequest request =
+        new UpdateReservationRequest(
+            2L, "CONFIRMED", "메모", "메모", newStartAt, newStartAt.plusHours(1), List.of());
+
+    // when
+    reservationService.updateReservation(10L, 1L, request);
+
+    // then
+    verify(reservationSlotClaimer).claim(2L, newStartAt, newStartAt.plusHours(1), reservation);
+    verify(eventPublisher, times(2)).publishEvent(any(ScheduleChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("취소된 예약을 되살리면 그 시간을 다시 선점한다")
+  void changeReservationStatuses_restoreCancelled_claims() {
+    // given
+    LocalDateTime startAt = LocalDateTime.of(2030, 1, 2, 10, 0);
+    Reservation reservation =
+        Reservation.builder()
+            .reservationId(100L)
+            .shopId(1L)
+            .staffId(2L)
+            .reservationStatusName(ReservationStatusName.CBC)
+            .reservationStartAt(startAt)
+            .reservationEndAt(startAt.plusHours(1))
+            .build();
+    when(reservationRepository.findById(100L)).thenReturn(Optional.of(reservation));
+
+    // when
+    reservationService.changeReservationStatuses(
+        1L, List.of(new UpdateReservationStatusRequest(100L, ReservationStatusName.CONFIRMED)));
+
+    // then
+    verify(reservationSlotClaimer).claim(2L, startAt, startAt.plusHours(1), reservation);
+    assertThat(reservation.getReservationStatusName()).isEqualTo(ReservationStatusName.CONFIRMED);
+  }
 }
@@ -11,6 +11,7 @@ import com.deveagles.be15_deveagles_be.features.schedules.command.application.dt
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationSetting;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationSettingId;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationSettingRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CustomerReservationSettingCache;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandServiceImpl;
 import java.time.LocalTime;
 import java.util.List;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("예약 설정 수정 테스트")
@@ -29,6 +31,8 @@ class ReservationSettingCommandServiceTest {
 
   @Mock private ReservationSettingRepository reservationSettingRepository;
   @Mock private ShopCommandServiceImpl shopCommandService;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private CustomerReservationSettingCache customerReservationSettingCache;
 
   @Test
   void 기존_요일이_요청에_없으면_softDelete_처리된다() {
@@ -95,6 +99,7 @@ class ReservationSettingCommandServiceTest {
     reservationSettingCommandService.updateReservationSettings(shopId, List.of(req));
 
     verify(reservationSettingRepository).save(any());
+    verify(customerReservationSettingCache).evictShop(shopId);
   }
 
   @Test
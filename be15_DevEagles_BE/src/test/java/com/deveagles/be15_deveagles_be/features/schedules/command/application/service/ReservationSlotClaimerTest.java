@@ -0,0 +1,176 @@
+package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Reservation;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.AvailabilityQueryService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 시간 선점 테스트")
+class ReservationSlotClaimerTest {
+
+  private static final LocalDateTime START_AT = LocalDateTime.of(2030, 1, 2, 10, 0);
+  private static final String KEY = "RESERVATION_SLOT:2:2030-01-02";
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ReservationRepository reservationRepository;
+  @Mock private AvailabilityQueryService availabilityQueryService;
+  @InjectMocks private ReservationSlotClaimer reservationSlotClaimer;
+
+  private Reservation reservation(ReservationStatusName status) {
+    return Reservation.builder()
+        .reservationId(1L)
+        .shopId(10L)
+        .staffId(2L)
+        .reservationStatusName(status)
+        .reservationStartAt(START_AT)
+        .reservationEndAt(START_AT.plusHours(1))
+        .build();
+  }
+
+  @Test
+  @DisplayName("예약을 옮기면 자신의 이전 구간을 비우는 키와 함께 새 구간을 선점한다")
+  void claim_moveReleasesOwnPreviousRange() {
+    // given
+    Reservation reservation = reservation(ReservationStatusName.CONFIRMED);
+    // 새 구간 11:00 ~ 12:00 을 선점하고, 이전 구간 10:00 ~ 11:00 은 비운다
+    given(
+            redisTemplate.execute(
+                any(RedisScript.class),
+                eq(List.of(KEY, KEY)),
+                eq("60000"),
+                eq("1"),
+                eq("660"),
+                eq("720"),
+                eq("600"),
+                eq("660")))
+        .willReturn(1L);
+
+    // when
+    reservationSlotClaimer.claim(2L, START_AT.plusHours(1), START_AT.plusHours(2), reservation);
+
+    // then
+    then(reservationRepository)
+        .should()
+        .existsOverlapping(
+            2L,
+            START_AT.plusHours(1),
+            START_AT.plusHours(2),
+            1L,
+            ReservationStatusName.cancelledStatuses());
+  }
+
+  @Test
+  @DisplayName("새 예약은 비울 구간 없이 선점한다")
+  void claim_newReservation() {
+    // given
+    given(
+            redisTemplate.execute(
+                any(RedisScript.class),
+                eq(List.of(KEY)),
+                eq("60000"),
+                eq("1"),
+                eq("600"),
+                eq("660")))
+        .willReturn(1L);
+
+    // when
+    reservationSlotClaimer.claim(2L, START_AT, START_AT.plusHours(1), null);
+
+    // then
+    then(reservationRepository)
+        .should()
+        .existsOverlapping(
+            2L, START_AT, START_AT.plusHours(1), null, ReservationStatusName.cancelledStatuses());
+  }
+
+  @Test
+  @DisplayName("취소된 예약을 되살릴 때는 이전 구간을 비우지 않아 다른 요청의 선점과 충돌한다")
+  void claim_restoreCancelledKeepsOtherClaim() {
+    // given
+    Reservation cancelled = reservation(ReservationStatusName.CBS);
+    // 같은 구간을 다른 예약이 선점하고 아직 커밋하지 않은 상태
+    given(
+            redisTemplate.execute(
+                any(RedisScript.class),
+                eq(List.of(KEY)),
+                eq("60000"),
+                eq("1"),
+                eq("600"),
+                eq("660")))
+        .willReturn(0L);
+
+    // when & then
+    assertThatThrownBy(
+            () -> reservationSlotClaimer.claim(2L, START_AT, START_AT.plusHours(1), cancelled))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.RESERVATION_TIME_CONFLICT);
+    then(reservationRepository)
+        .should(never())
+        .existsOverlapping(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("되살린 예약도 겹침 확인에서는 자신을 제외한다")
+  void claim_restoreCancelledExcludesItself() {
+    // given
+    Reservation cancelled = reservation(ReservationStatusName.CBC);
+    given(
+            redisTemplate.execute(
+                any(RedisScript.class),
+                eq(List.of(KEY)),
+                eq("60000"),
+                eq("1"),
+                eq("600"),
+                eq("660")))
+        .willReturn(1L);
+
+    // when
+    reservationSlotClaimer.claim(2L, START_AT, START_AT.plusHours(1), cancelled);
+
+    // then
+    then(reservationRepository)
+        .should()
+        .existsOverlapping(
+            2L, START_AT, START_AT.plusHours(1), 1L, ReservationStatusName.cancelledStatuses());
+  }
+
+  @Test
+  @DisplayName("다른 요청이 선점한 구간이면 DB 를 확인하지 않고 충돌로 끝낸다")
+  void claim_conflict() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+        .willReturn(0L);
+
+    // when & then
+    assertThatThrownBy(
+            () -> reservationSlotClaimer.claim(2L, START_AT, START_AT.plusHours(1), null))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.RESERVATION_TIME_CONFLICT);
+    then(reservationRepository)
+        .should(never())
+        .existsOverlapping(any(), any(), any(), any(), any());
+  }
+}
@@ -0,0 +1,220 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.AvailableSlotResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.BusyInterval;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.StaffAvailableSlotsResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.AvailabilityQueryMapper;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.AvailabilityCache;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 가능 시간 조회 테스트")
+class AvailabilityQueryServiceTest {
+
+  private static final Long SHOP_ID = 1L;
+  // 월요일
+  private static final LocalDate DATE = LocalDate.of(2030, 1, 7);
+
+  @Mock private AvailabilityQueryMapper availabilityQueryMapper;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private RedisMessageListenerContainer listenerContainer;
+
+  private AvailabilityCache availabilityCache;
+  private AvailabilityQueryService availabilityQueryService;
+
+  @BeforeEach
+  void setUp() {
+    availabilityCache = new AvailabilityCache(redisTemplate, listenerContainer);
+    availabilityQueryService =
+        new AvailabilityQueryService(availabilityQueryMapper, availabilityCache);
+  }
+
+  // 10:00 ~ 13:00 운영, 12:00 ~ 12:30 점심, 30분 단위
+  private void givenDay(List<Long> staffIds, List<Long> onLeave, List<BusyInterval> busy) {
+    when(availabilityQueryMapper.findDayFrame(SHOP_ID, 1))
+        .thenReturn(
+            new CustomerReservationSettingResponse(
+                LocalTime.of(10, 0),
+                LocalTime.of(13, 0),
+                LocalTime.of(12, 0),
+                LocalTime.of(12, 30),
+                30));
+    when(availabilityQueryMapper.findBookableStaffIds(SHOP_ID)).thenReturn(staffIds);
+    lenient()
+        .when(
+            availabilityQueryMapper.findStaffIdsOnLeave(
+                eq(SHOP_ID), anyList(), eq(DATE), eq("MON"), eq(7)))
+        .thenReturn(onLeave);
+    lenient()
+        .when(
+            availabilityQueryMapper.findBusyIntervals(
+                eq(SHOP_ID), anyList(), eq(DATE), any(), any(), eq("MON"), eq(7)))
+        .thenReturn(busy);
+  }
+
+  private BusyInterval busy(Long staffId, int hour, int minute, int minutes) {
+    return new BusyInterval(
+        staffId, DATE.atTime(hour, minute), DATE.atTime(hour, minute).plusMinutes(minutes));
+  }
+
+  @Test
+  @DisplayName("점심시간과 예약을 뺀 연속 구간에서 시작 시각을 찾는다")
+  void getAvailableSlots_excludesLunchAndReservations() {
+    // given
+    givenDay(List.of(2L), List.of(), List.of(busy(2L, 10, 30, 30)));
+
+    // when
+    StaffAvailableSlotsResponse thirty =
+        availabilityQueryService.getAvailableSlots(SHOP_ID, 2L, DATE, 30);
+    StaffAvailableSlotsResponse hour =
+        availabilityQueryService.getAvailableSlots(SHOP_ID, 2L, DATE, 60);
+
+    // then
+    assertThat(thirty.slotMinutes()).isEqualTo(30);
+    assertThat(thirty.startTimes())
+        .containsExactly(
+            LocalTime.of(10, 0), LocalTime.of(11, 0), LocalTime.of(11, 30), LocalTime.of(12, 30));
+    assertThat(hour.startTimes()).containsExactly(LocalTime.of(11, 0));
+  }
+
+  @Test
+  @DisplayName("휴무인 직원은 예약 가능한 시간이 없다")
+  void getAvailableSlots_leave() {
+    // given
+    givenDay(List.of(2L), List.of(2L), List.of());
+
+    // when
+    StaffAvailableSlotsResponse result =
+        availabilityQueryService.getAvailableSlots(SHOP_ID, 2L, DATE, 30);
+
+    // then
+    assertThat(result.startTimes()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("같은 날을 다시 조회하면 DB 를 읽지 않는다")
+  void getAvailableSlots_cached() {
+    // given
+    givenDay(List.of(2L, 3L), List.of(), List.of());
+
+    // when
+    availabilityQueryService.getAvailableSlots(SHOP_ID, 2L, DATE, 30);
+    availabilityQueryService.getAvailableSlots(SHOP_ID, 3L, DATE, 60);
+
+    // then
+    verify(availabilityQueryMapper, times(1)).findDayFrame(SHOP_ID, 1);
+    verify(availabilityQueryMapper, times(1))
+        .findBusyIntervals(any(), anyList(), any(), any(), any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("일정이 바뀐 직원만 다시 계산한다")
+  void getAvailableSlots_evictsChangedStaffOnly() {
+    // given
+    givenDay(List.of(2L, 3L), List.of(), List.of());
+    availabilityQueryService.getAvailableSlots(SHOP_ID, 2L, DATE, 30);
+
+    // when
+    availabilityCache.onScheduleChanged(ScheduleChangedEvent.ofDate(SHOP_ID, 2L, DATE));
+    availabilityQueryService.getAvailableSlots(SHOP_ID, 2L, DATE, 30);
+    availabilityQueryService.getAvailableSlots(SHOP_ID, 3L, DATE, 30);
+
+    // then
+    verify(availabilityQueryMapper, times(1)).findDayFrame(SHOP_ID, 1);
+    verify(availabilityQueryMapper)
+        .findBusyIntervals(eq(SHOP_ID), eq(List.of(2L)), eq(DATE), any(), any(), eq("MON"), eq(7));
+    verify(redisTemplate).convertAndSend(eq(AvailabilityCache.CHANNEL), anyString());
+  }
+
+  @Test
+  @DisplayName("읽는 도중 다른 매장의 일정이 바뀌어도 읽은 결과를 캐시에 넣는다")
+  void cachePut_ignoresOtherShopInvalidation() {
+    // given
+    long generation = availabilityCache.generation(SHOP_ID);
+
+    // when
+    availabilityCache.onScheduleChanged(ScheduleChangedEvent.ofDate(2L, 3L, DATE));
+    availabilityCache.put(SHOP_ID, DATE, null, List.of(), Map.of(), generation);
+
+    // then
+    assertThat(availabilityCache.get(SHOP_ID, DATE)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("읽는 도중 같은 매장의 일정이 바뀌면 읽은 결과를 캐시에 넣지 않는다")
+  void cachePut_skipsAfterSameShopInvalidation() {
+    // given
+    long generation = availabilityCache.generation(SHOP_ID);
+
+    // when
+    availabilityCache.onScheduleChanged(ScheduleChangedEvent.ofDate(SHOP_ID, 3L, DATE));
+    availabilityCache.put(SHOP_ID, DATE, null, List.of(), Map.of(), generation);
+
+    // then
+    assertThat(availabilityCache.get(SHOP_ID, DATE)).isNull();
+  }
+
+  @Test
+  @DisplayName("직원 구분 없이 가장 이른 시간부터 찾는다")
+  void findFirstAvailableSlots() {
+    // given
+    givenDay(List.of(2L, 3L), List.of(), List.of(busy(2L, 10, 0, 60)));
+
+    // when
+    List<AvailableSlotResponse> result =
+        availabilityQueryService.findFirstAvailableSlots(SHOP_ID, DATE, 60, 2);
+
+    // then
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0).staffId()).isEqualTo(3L);
+    assertThat(result.get(0).startAt()).isEqualTo(DATE.atTime(10, 0));
+    assertThat(result.get(1).startAt()).isEqualTo(DATE.atTime(10, 30));
+  }
+
+  @Test
+  @DisplayName("예약 시점에는 운영 시간과 겹침을 다시 확인한다")
+  void isBookable() {
+    // given
+    givenDay(List.of(2L), List.of(), List.of(busy(2L, 11, 0, 30)));
+
+    // then
+    assertThat(
+            availabilityQueryService.isBookable(
+                SHOP_ID, 2L, DATE.atTime(10, 0), DATE.atTime(11, 0)))
+        .isTrue();
+    assertThat(
+            availabilityQueryService.isBookable(
+                SHOP_ID, 2L, DATE.atTime(10, 30), DATE.atTime(11, 30)))
+        .isFalse();
+    assertThat(
+            availabilityQueryService.isBookable(
+                SHOP_ID, 2L, DATE.atTime(12, 30), DATE.atTime(13, 30)))
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("소요 시간이 0 이하이면 예외")
+  void getAvailableSlots_invalidDuration() {
+    assertThatThrownBy(() -> availabilityQueryService.getAvailableSlots(SHOP_ID, 2L, DATE, 0))
+        .isInstanceOf(BusinessException.class);
+  }
+}
@@ -1,35 +1,50 @@
 package com.deveagles.be15_deveagles_be.features.schedules.query.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.events.ScheduleChangedEvent;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ScheduleType;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.request.CalendarRegularRequest;
-import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRegularResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.request.CalendarScheduleRequest;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRegularRow;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarRenderedResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarScheduleResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CalendarScheduleRow;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationItemName;
 import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.CalendarScheduleQueryMapper;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CalendarWeekCache;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @ExtendWith(MockitoExtension.class)
 public class CalendarScheduleQueryServiceTest {
 
   @Mock private CalendarScheduleQueryMapper calendarScheduleQueryMapper;
+  @Mock private RedisMessageListenerContainer listenerContainer;
 
-  @InjectMocks private CalendarScheduleQueryService calendarScheduleQueryService;
+  private CalendarWeekCache calendarWeekCache;
+  private CalendarScheduleQueryService calendarScheduleQueryService;
 
-  private CalendarRegularResponse regularSchedule;
+  private CalendarRegularRow regularSchedule;
 
   @BeforeEach
   void setup() {
+    calendarWeekCache = new CalendarWeekCache(listenerContainer);
+    calendarScheduleQueryService =
+        new CalendarScheduleQueryService(calendarScheduleQueryMapper, calendarWeekCache);
+
     regularSchedule =
-        new CalendarRegularResponse(
+        new CalendarRegularRow(
+            1L,
             1L,
             ScheduleType.REGULAR_PLAN,
             "정기미팅",
@@ -42,6 +57,28 @@ public class CalendarScheduleQueryServiceTest {
             "11:00:00");
   }
 
+  private CalendarScheduleRow row(
+      Long staffId, Long id, ScheduleType type, String title, LocalDateTime startAt) {
+    return new CalendarScheduleRow(
+        staffId,
+        id,
+        type,
+        title,
+        startAt,
+        startAt.plusHours(1),
+        "직원",
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private CalendarScheduleRequest request(
+      LocalDateTime from, LocalDateTime to, Long staffId, String scheduleType) {
+    return new CalendarScheduleRequest(from, to, null, null, staffId, scheduleType);
+  }
+
   @Test
   void 정기일정이_요일기준으로_정상적으로_확장되는지_검증() {
     // given
@@ -50,8 +87,7 @@ public class CalendarScheduleQueryServiceTest {
     CalendarRegularRequest request =
         new CalendarRegularRequest(ScheduleType.REGULAR_PLAN, from, to, 1L);
 
-    when(calendarScheduleQueryMapper.findRegularSchedules(1L, request))
-        .thenReturn(List.of(regularSchedule));
+    when(calendarScheduleQueryMapper.findRegularRules(1L)).thenReturn(List.of(regularSchedule));
 
     // when
     List<CalendarRenderedResponse> result =
@@ -62,5 +98,114 @@ public class CalendarScheduleQueryServiceTest {
     assertThat(result.get(0).title()).isEqualTo("정기미팅");
     assertThat(result.get(0).scheduleType()).isEqualTo(ScheduleType.REGULAR_PLAN);
     assertThat(result.get(0).staffName()).isEqualTo("이채은");
+    assertThat(result)
+        .extracting(CalendarRenderedResponse::startAt)
+        .containsExactly(
+            LocalDateTime.of(2025, 7, 1, 10, 0), LocalDateTime.of(2025, 7, 8, 10, 0));
+  }
+
+  @Test
+  void 정기일정은_요청한_담당자와_종류만_반환한다() {
+    // given
+    CalendarRegularRow otherStaff =
+        new CalendarRegularRow(
+            2L,
+            2L,
+            ScheduleType.REGULAR_LEAVE,
+            "정기휴무",
+            "김직원",
+            null,
+            null,
+            "TUE",
+            null,
+            "00:00:00",
+            "23:59:59");
+    when(calendarScheduleQueryMapper.findRegularRules(1L))
+        .thenReturn(List.of(regularSchedule, otherStaff));
+
+    // when
+    LocalDate tuesday = LocalDate.of(2025, 7, 1);
+    List<CalendarRenderedResponse> result =
+        calendarScheduleQueryService.getExpandedRegularSchedules(
+            1L, new CalendarRegularRequest(ScheduleType.REGULAR_LEAVE, tuesday, tuesday, 2L));
+
+    // then
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0).title()).isEqualTo("정기휴무");
+  }
+
+  @Test
+  void 캘린더는_주간_캐시에서_기간과_담당자로_걸러_반환한다() {
+    // given
+    LocalDateTime monday = LocalDateTime.of(2025, 7, 7, 0, 0);
+    when(calendarScheduleQueryMapper.findWeekSchedules(1L, monday, monday.plusWeeks(1)))
+        .thenReturn(
+            List.of(
+                row(2L, 10L, ScheduleType.RESERVATION, "홍길동", monday.plusDays(1).plusHours(11)),
+                row(2L, 20L, ScheduleType.PLAN, "회의", monday.plusDays(1).plusHours(9)),
+                row(3L, 11L, ScheduleType.RESERVATION, "김고객", monday.plusDays(1).plusHours(10)),
+                row(2L, 12L, ScheduleType.RESERVATION, "이고객", monday.plusDays(5))));
+    when(calendarScheduleQueryMapper.findReservationItemNames(anyList()))
+        .thenReturn(
+            List.of(new ReservationItemName(10L, "네일"), new ReservationItemName(10L, "커트")));
+
+    // when
+    List<CalendarScheduleResponse> result =
+        calendarScheduleQueryService.findSchedules(
+            1L, request(monday.plusDays(1), monday.plusDays(2), 2L, null));
+
+    // then
+    assertThat(result).extracting(CalendarScheduleResponse::id).containsExactly(20L, 10L);
+    assertThat(result.get(1).items()).isEqualTo("네일, 커트");
+    assertThat(result.get(0).items()).isNull();
+  }
+
+  @Test
+  void 같은_주를_다시_조회하면_DB를_읽지_않는다() {
+    // given
+    LocalDateTime monday = LocalDateTime.of(2025, 7, 7, 0, 0);
+
+    // when
+    calendarScheduleQueryService.findSchedules(
+        1L, request(monday, monday.plusDays(6), null, "RESERVATION"));
+    calendarScheduleQueryService.findSchedules(1L, request(monday, monday.plusDays(3), 2L, null));
+
+    // then
+    verify(calendarScheduleQueryMapper, times(1)).findWeekSchedules(eq(1L), any(), any());
+    verify(calendarScheduleQueryMapper, times(1)).findRegularRules(1L);
+  }
+
+  @Test
+  void 일정이_바뀐_주만_다시_읽는다() {
+    // given
+    LocalDateTime monday = LocalDateTime.of(2025, 7, 7, 0, 0);
+    CalendarScheduleRequest twoWeeks = request(monday, monday.plusDays(13), null, null);
+    calendarScheduleQueryService.findSchedules(1L, twoWeeks);
+
+    // when
+    calendarWeekCache.onScheduleChanged(
+        ScheduleChangedEvent.ofDate(1L, 2L, LocalDate.of(2025, 7, 16)));
+    calendarScheduleQueryService.findSchedules(1L, twoWeeks);
+
+    // then
+    verify(calendarScheduleQueryMapper, times(1))
+        .findWeekSchedules(1L, monday, monday.plusWeeks(1));
+    verify(calendarScheduleQueryMapper, times(2))
+        .findWeekSchedules(1L, monday.plusWeeks(1), monday.plusWeeks(2));
+  }
+
+  @Test
+  void 검색어가_있으면_DB에서_바로_조회한다() {
+    // given
+    LocalDateTime monday = LocalDateTime.of(2025, 7, 7, 0, 0);
+    CalendarScheduleRequest request =
+        new CalendarScheduleRequest(monday, monday.plusDays(6), "홍길동", null, null, null);
+
+    // when
+    calendarScheduleQueryService.findSchedules(1L, request);
+
+    // then
+    verify(calendarScheduleQueryMapper).findSchedules(1L, request);
+    verify(calendarScheduleQueryMapper, never()).findWeekSchedules(any(), any(), any());
   }
 }
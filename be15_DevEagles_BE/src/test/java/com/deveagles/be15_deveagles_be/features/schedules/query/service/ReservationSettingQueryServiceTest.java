@@ -7,6 +7,7 @@ import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationSettingResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.ReservationSettingMapper;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.support.CustomerReservationSettingCache;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -22,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ReservationSettingQueryServiceTest {
 
   @Mock private ReservationSettingMapper reservationSettingMapper;
+  @Mock private CustomerReservationSettingCache customerReservationSettingCache;
 
   @InjectMocks private ReservationSettingQueryService reservationSettingQueryService;
 
@@ -65,8 +67,7 @@ class ReservationSettingQueryServiceTest {
         new CustomerReservationSettingResponse(
             LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(12, 0), LocalTime.of(13, 0), 30);
 
-    when(reservationSettingMapper.findCustomerReservationSetting(shopId, dayOfWeek))
-        .thenReturn(expectedResponse);
+    when(customerReservationSettingCache.get(shopId, dayOfWeek)).thenReturn(expectedResponse);
 
     // when
     CustomerReservationSettingResponse result =
@@ -80,7 +81,7 @@ class ReservationSettingQueryServiceTest {
     assertThat(result.lunchEndTime()).isEqualTo(LocalTime.of(13, 0));
     assertThat(result.reservationTerm()).isEqualTo(30);
 
-    verify(reservationSettingMapper, times(1)).findCustomerReservationSetting(shopId, dayOfWeek);
+    verify(customerReservationSettingCache, times(1)).get(shopId, dayOfWeek);
   }
 
   @Test
@@ -14,6 +14,7 @@ import com.deveagles.be15_deveagles_be.features.shops.command.application.dto.re
 import com.deveagles.be15_deveagles_be.features.shops.command.application.dto.request.ValidBizNumberRequest;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.dto.response.GetShopResponse;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandServiceImpl;
+import com.deveagles.be15_deveagles_be.features.shops.command.application.service.support.ShopExistenceCache;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.Industry;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.SNS;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.SNSType;
@@ -44,13 +45,19 @@ public class ShopCommandServiceImplTest {
 
   @Mock private ReservationSettingInitializer reservationSettingInitializer;
 
+  @Mock private ShopExistenceCache shopExistenceCache;
+
   private ShopCommandServiceImpl shopCommandService;
 
   @BeforeEach
   void setUp() {
     shopCommandService =
         new ShopCommandServiceImpl(
-            shopRepository, industryRepository, snsRepository, reservationSettingInitializer);
+            shopRepository,
+            industryRepository,
+            snsRepository,
+            reservationSettingInitializer,
+            shopExistenceCache);
   }
 
   @Test
@@ -144,7 +151,7 @@ public class ShopCommandServiceImplTest {
   void 존재하는_shopId_예외없음() {
     // given
     Long validShopId = 1L;
-    when(shopRepository.existsById(validShopId)).thenReturn(true);
+    when(shopExistenceCache.get(validShopId)).thenReturn(true);
 
     // when & then
     assertDoesNotThrow(() -> shopCommandService.validateShopExists(validShopId));
@@ -155,7 +162,7 @@ public class ShopCommandServiceImplTest {
   void 존재하지않는_shopId_예외발생() {
     // given
     Long invalidShopId = 999L;
-    when(shopRepository.existsById(invalidShopId)).thenReturn(false);
+    when(shopExistenceCache.get(invalidShopId)).thenReturn(false);
 
     // when & then
     BusinessException exception =
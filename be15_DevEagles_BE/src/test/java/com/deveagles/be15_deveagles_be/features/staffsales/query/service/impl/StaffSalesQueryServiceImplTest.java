@@ -3,22 +3,27 @@ package com.deveagles.be15_deveagles_be.features.staffsales.query.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.Category;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.SearchMode;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.Incentive;
 import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.SalesTarget;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.request.GetStaffSalesListRequest;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.SalesTargetQueryRepository;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.StaffSalesQueryRepository;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.IncentiveRateTable;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.SalesCalculator;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.StaffSalesFacts;
 import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.Staff;
 import com.deveagles.be15_deveagles_be.features.users.command.repository.UserRepository;
 import java.time.LocalDate;
-import java.time.YearMonth;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -51,49 +56,37 @@ public class StaffSalesQueryServiceImplTest {
 
     Staff staff = Staff.builder().staffId(staffId).staffName("홍길동").build();
 
-    StaffNetSalesResponse netSale =
-        StaffNetSalesResponse.builder().paymentsMethod(PaymentsMethod.CARD).amount(10000).build();
+    StaffSalesFacts facts = new StaffSalesFacts();
+    facts.addSale(1L, staffId, ProductType.SERVICE, 2000);
+    facts.addPayment(1L, PaymentsMethod.CARD, 10000);
 
-    StaffSalesDeductionsResponse deduction =
-        StaffSalesDeductionsResponse.builder().deduction("DISCOUNT").amount(2000).build();
-
-    StaffPaymentsSalesResponse paymentsSales =
-        StaffPaymentsSalesResponse.builder()
-            .category("SERVICE")
-            .netSalesList(List.of(netSale))
-            .deductionList(List.of(deduction))
-            .incentiveTotal(1000)
-            .build();
-
-    StaffSalesListResponse salesResponse =
-        StaffSalesListResponse.builder()
-            .staffId(staffId)
-            .staffName("홍길동")
-            .paymentsSalesList(List.of(paymentsSales))
-            .build();
+    // 공통 10%, 직원 개별 20% -> 개별 설정 우선
+    IncentiveRateTable rates =
+        IncentiveRateTable.of(
+            List.of(
+                incentive(null, ProductType.SERVICE, PaymentsMethod.CARD, 10),
+                incentive(staffId, ProductType.SERVICE, PaymentsMethod.CARD, 20)));
 
     StaffSalesSummaryResponse summary =
         StaffSalesSummaryResponse.builder()
-            .totalNetSales(10000)
+            .totalNetSales(8000)
             .totalDiscount(2000)
             .totalCoupon(0)
             .totalPrepaid(0)
-            .totalIncentiveAmount(1000)
+            .totalIncentiveAmount(2000)
             .build();
 
     // stub
     given(userRepository.findByShopIdAndLeftDateIsNull(shopId)).willReturn(List.of(staff));
     given(
-            staffSalesQueryRepository.getSalesByStaff(
-                false,
+            staffSalesQueryRepository.findSalesFacts(
                 shopId,
-                staffId,
+                List.of(staffId),
                 start.withDayOfMonth(1).atStartOfDay(),
                 start.withDayOfMonth(start.lengthOfMonth()).atTime(23, 59, 59)))
-        .willReturn(List.of(paymentsSales));
-    given(salesCalculator.getEffectiveIncentiveRates(shopId, staffId, ProductType.SERVICE))
-        .willReturn(Map.of(PaymentsMethod.CARD, 10));
-    given(salesCalculator.calculateSummary(eq(shopId), anyList())).willReturn(summary);
+        .willReturn(facts);
+    given(salesCalculator.loadIncentiveRateTable(shopId)).willReturn(rates);
+    given(salesCalculator.calculateSummary(anyList())).willReturn(summary);
 
     // when
     StaffSalesListResult result = staffSalesQueryService.getStaffSales(shopId, request);
@@ -101,9 +94,51 @@ public class StaffSalesQueryServiceImplTest {
     // then
     assertThat(result.getStaffSalesList()).hasSize(1);
     assertThat(result.getStaffSalesList().get(0).getStaffName()).isEqualTo("홍길동");
-    assertThat(result.getTotalSummary().getTotalNetSales()).isEqualTo(10000);
-    assertThat(result.getTotalSummary().getTotalDiscount()).isEqualTo(2000);
-    assertThat(result.getTotalSummary().getTotalIncentiveAmount()).isEqualTo(1000);
+
+    List<StaffPaymentsSalesResponse> paymentsSalesList =
+        result.getStaffSalesList().get(0).getPaymentsSalesList();
+    assertThat(paymentsSalesList)
+        .extracting(StaffPaymentsSalesResponse::getCategory)
+        .containsExactly("SERVICE", "PRODUCT", "SESSION_PASS", "PREPAID_PASS");
+
+    StaffPaymentsSalesResponse service = paymentsSalesList.get(0);
+    assertThat(service.getGrossSalesTotal()).isEqualTo(10000);
+    assertThat(service.getDeductionTotal()).isEqualTo(2000);
+    assertThat(service.getNetSalesTotal()).isEqualTo(8000);
+    assertThat(service.getIncentiveTotal()).isEqualTo(2000);
+
+    assertThat(result.getTotalSummary().getTotalNetSales()).isEqualTo(8000);
+    assertThat(result.getTotalSummary().getTotalIncentiveAmount()).isEqualTo(2000);
+  }
+
+  @Test
+  @DisplayName("직원 매출 요약 조회 - 직원 수와 관계없이 매출/인센티브율은 한 번만 조회")
+  void getStaffSales_조회횟수_일정() {
+    // given
+    Long shopId = 1L;
+    LocalDate start = LocalDate.of(2024, 6, 1);
+    GetStaffSalesListRequest request = new GetStaffSalesListRequest(SearchMode.MONTH, start, null);
+
+    List<Staff> staffList =
+        List.of(
+            Staff.builder().staffId(1L).staffName("직원1").build(),
+            Staff.builder().staffId(2L).staffName("직원2").build(),
+            Staff.builder().staffId(3L).staffName("직원3").build());
+
+    given(userRepository.findByShopIdAndLeftDateIsNull(shopId)).willReturn(staffList);
+    given(
+            staffSalesQueryRepository.findSalesFacts(
+                eq(shopId), eq(List.of(1L, 2L, 3L)), any(), any()))
+        .willReturn(new StaffSalesFacts());
+    given(salesCalculator.loadIncentiveRateTable(shopId)).willReturn(IncentiveRateTable.empty());
+
+    // when
+    StaffSalesListResult result = staffSalesQueryService.getStaffSales(shopId, request);
+
+    // then
+    assertThat(result.getStaffSalesList()).hasSize(3);
+    verify(staffSalesQueryRepository, times(1)).findSalesFacts(any(), anyList(), any(), any());
+    verify(salesCalculator, times(1)).loadIncentiveRateTable(shopId);
   }
 
   @DisplayName("getStaffDetailSales - 성공")
@@ -122,64 +157,36 @@ public class StaffSalesQueryServiceImplTest {
     List<Staff> staffList = List.of(staff);
     when(userRepository.findByShopIdAndLeftDateIsNull(shopId)).thenReturn(staffList);
 
-    // 상세 매출
-    StaffNetSalesResponse net =
-        StaffNetSalesResponse.builder()
-            .paymentsMethod(PaymentsMethod.CARD)
-            .amount(20000)
-            .incentiveAmount(2000)
-            .build();
-
-    StaffSalesDeductionsResponse deduction =
-        StaffSalesDeductionsResponse.builder().deduction("DISCOUNT").amount(3000).build();
-
-    StaffSecondarySalesResponse secondary =
-        StaffSecondarySalesResponse.builder()
-            .secondaryItemName("디자인 펌")
-            .netSalesList(List.of(net))
-            .deductionList(List.of(deduction))
-            .incentiveTotal(2000)
-            .build();
-
-    StaffPrimarySalesResponse primary =
-        StaffPrimarySalesResponse.builder()
-            .primaryItemId(111L)
-            .primaryItemName("시술")
-            .secondaryList(List.of(secondary))
-            .build();
-
-    StaffPaymentsDetailSalesResponse detailSales =
-        StaffPaymentsDetailSalesResponse.builder()
-            .category("SERVICE")
-            .primaryList(List.of(primary))
-            .build();
-
-    when(staffSalesQueryRepository.getDetailSalesByStaff(eq(staffId), eq(shopId), any(), any()))
-        .thenReturn(List.of(detailSales));
+    // 시술 매출 1건 (디자인 펌)
+    StaffSalesFacts facts = new StaffSalesFacts();
+    facts.addSale(1L, staffId, ProductType.SERVICE, 3000);
+    facts.addPayment(1L, PaymentsMethod.CARD, 20000);
+
+    when(staffSalesQueryRepository.findSalesFacts(eq(shopId), eq(List.of(staffId)), any(), any()))
+        .thenReturn(facts);
+    when(staffSalesQueryRepository.findItemSalesRows(
+            eq(shopId), eq(List.of(staffId)), any(), any()))
+        .thenReturn(
+            List.of(
+                new StaffItemSalesProjection(
+                    staffId, Category.SERVICE, 111L, "시술", "디자인 펌", 1L)));
+    when(salesCalculator.loadIncentiveRateTable(shopId))
+        .thenReturn(
+            IncentiveRateTable.of(
+                List.of(incentive(null, ProductType.SERVICE, PaymentsMethod.CARD, 10))));
 
     StaffSalesSummaryResponse summary =
         StaffSalesSummaryResponse.builder()
-            .totalGrossSales(100000)
-            .totalNetSales(90000)
-            .totalDeduction(10000)
-            .totalIncentiveAmount(3000)
+            .totalGrossSales(20000)
+            .totalNetSales(17000)
+            .totalDeduction(3000)
+            .totalIncentiveAmount(2000)
             .build();
 
     given(salesCalculator.calculateFromDetailAndSalesList(any(), any())).willReturn(summary);
 
     when(salesCalculator.calculateFromSummaryList(eq(shopId), any())).thenReturn(summary);
 
-    // 기본 매출 리스트
-    StaffPaymentsSalesResponse sales =
-        StaffPaymentsSalesResponse.builder()
-            .category("SERVICE")
-            .netSalesList(List.of(net))
-            .deductionList(List.of(deduction))
-            .incentiveTotal(2000)
-            .build();
-    when(staffSalesQueryRepository.getSalesByStaff(eq(true), eq(shopId), eq(staffId), any(), any()))
-        .thenReturn(List.of(sales));
-
     // when
     StaffSalesDetailListResult result = staffSalesQueryService.getStaffDetailSales(shopId, request);
 
@@ -190,10 +197,24 @@ public class StaffSalesQueryServiceImplTest {
     StaffDetailSalesListResponse response = result.getStaffSalesList().get(0);
     assertThat(response.getStaffId()).isEqualTo(staffId);
     assertThat(response.getStaffName()).isEqualTo(staffName);
-    assertThat(response.getPaymentsSalesList()).hasSize(1);
-    assertThat(response.getPaymentsDetailSalesList()).hasSize(1);
-    assertThat(response.getSummary().getTotalNetSales()).isEqualTo(90000);
-    assertThat(response.getSummary().getTotalIncentiveAmount()).isEqualTo(3000);
+    assertThat(response.getPaymentsSalesList())
+        .extracting(StaffPaymentsSalesResponse::getCategory)
+        .containsExactly("SESSION_PASS", "PREPAID_PASS");
+    assertThat(response.getPaymentsDetailSalesList())
+        .extracting(StaffPaymentsDetailSalesResponse::getCategory)
+        .containsExactly("SERVICE", "PRODUCT");
+
+    StaffPrimarySalesResponse primary =
+        response.getPaymentsDetailSalesList().get(0).getPrimaryList().get(0);
+    assertThat(primary.getPrimaryItemName()).isEqualTo("시술");
+    StaffSecondarySalesResponse secondary = primary.getSecondaryList().get(0);
+    assertThat(secondary.getSecondaryItemName()).isEqualTo("디자인 펌");
+    assertThat(secondary.getGrossSalesTotal()).isEqualTo(20000);
+    assertThat(secondary.getNetSalesTotal()).isEqualTo(17000);
+    assertThat(secondary.getIncentiveTotal()).isEqualTo(2000);
+
+    assertThat(response.getSummary().getTotalNetSales()).isEqualTo(17000);
+    assertThat(response.getSummary().getTotalIncentiveAmount()).isEqualTo(2000);
   }
 
   @DisplayName("getStaffSalesTarget - 성공")
@@ -204,41 +225,24 @@ public class StaffSalesQueryServiceImplTest {
     GetStaffSalesListRequest request =
         new GetStaffSalesListRequest(SearchMode.MONTH, LocalDate.of(2024, 6, 1), null);
 
-    LocalDate startDate = LocalDate.of(2024, 6, 1);
-    LocalDate endDate = LocalDate.of(2024, 6, 30);
-
-    given(salesTargetQueryRepository.existsTargetForShopInMonths(eq(shopId), anyList()))
-        .willReturn(true);
+    // 상품: 직원 개별 목표, 회원권: 매장 일괄 목표
+    given(salesTargetQueryRepository.findTargetsInMonths(eq(shopId), anyList()))
+        .willReturn(
+            List.of(
+                target(10L, true, false, 500000, false),
+                target(null, false, true, 200000, true)));
 
     Staff staff = Staff.builder().staffId(10L).staffName("최승철").build();
 
     given(userRepository.findAllByShopId(shopId)).willReturn(List.of(staff));
 
-    given(
-            salesTargetQueryRepository.findTargetAmountByItemsOrMembership(
-                eq(shopId), eq(10L), eq(true), any()))
-        .willReturn(500000);
-    given(
-            salesTargetQueryRepository.findTargetAmountByItemsOrMembership(
-                eq(shopId), eq(10L), eq(false), any()))
-        .willReturn(200000);
-
-    given(
-            staffSalesQueryRepository.getTargetTotalSales(
-                shopId, 10L, ProductType.SERVICE, startDate, endDate))
-        .willReturn(300000);
-    given(
-            staffSalesQueryRepository.getTargetTotalSales(
-                shopId, 10L, ProductType.PRODUCT, startDate, endDate))
-        .willReturn(100000);
-    given(
-            staffSalesQueryRepository.getTargetTotalSales(
-                shopId, 10L, ProductType.SESSION_PASS, startDate, endDate))
-        .willReturn(50000);
-    given(
-            staffSalesQueryRepository.getTargetTotalSales(
-                shopId, 10L, ProductType.PREPAID_PASS, startDate, endDate))
-        .willReturn(10000);
+    StaffSalesFacts facts = new StaffSalesFacts();
+    addSale(facts, 1L, 10L, ProductType.SERVICE, 300000);
+    addSale(facts, 2L, 10L, ProductType.PRODUCT, 100000);
+    addSale(facts, 3L, 10L, ProductType.SESSION_PASS, 50000);
+    addSale(facts, 4L, 10L, ProductType.PREPAID_PASS, 10000);
+    given(staffSalesQueryRepository.findSalesFacts(eq(shopId), eq(List.of(10L)), any(), any()))
+        .willReturn(facts);
 
     given(
             salesCalculator.calculateAdjustedTarget(
@@ -270,8 +274,8 @@ public class StaffSalesQueryServiceImplTest {
     GetStaffSalesListRequest request = new GetStaffSalesListRequest(SearchMode.PERIOD, start, end);
 
     // 목표 매출이 존재하지 않음
-    given(salesTargetQueryRepository.existsTargetForShopInMonths(eq(shopId), anyList()))
-        .willReturn(false);
+    given(salesTargetQueryRepository.findTargetsInMonths(eq(shopId), anyList()))
+        .willReturn(List.of());
 
     // when
     StaffSalesTargetListResult result = staffSalesQueryService.getStaffSalesTarget(shopId, request);
@@ -290,52 +294,30 @@ public class StaffSalesQueryServiceImplTest {
     GetStaffSalesListRequest request =
         new GetStaffSalesListRequest(SearchMode.MONTH, anyDayInMonth, null);
 
-    given(salesTargetQueryRepository.existsTargetForShopInMonths(eq(shopId), anyList()))
-        .willReturn(true);
+    // 상품은 개별 목표가 일괄 목표보다 우선
+    given(salesTargetQueryRepository.findTargetsInMonths(eq(shopId), anyList()))
+        .willReturn(
+            List.of(
+                target(7L, true, false, 300000, false),
+                target(null, true, false, 999999, true),
+                target(null, false, true, 200000, true)));
 
     Staff staff = Staff.builder().staffId(7L).staffName("이도겸").build();
     given(userRepository.findAllByShopId(shopId)).willReturn(List.of(staff));
 
     // 월간 요청 → 자동으로 6월 1일 ~ 6월 30일로 계산됨
-    YearMonth june = YearMonth.of(2024, 6);
-
-    given(salesTargetQueryRepository.findTargetAmountByItemsOrMembership(shopId, 7L, true, june))
-        .willReturn(300000);
-    given(salesTargetQueryRepository.findTargetAmountByItemsOrMembership(shopId, 7L, false, june))
-        .willReturn(200000);
-
-    given(
-            staffSalesQueryRepository.getTargetTotalSales(
-                shopId,
-                7L,
-                ProductType.SERVICE,
-                LocalDate.of(2024, 6, 1),
-                LocalDate.of(2024, 6, 30)))
-        .willReturn(250000);
-    given(
-            staffSalesQueryRepository.getTargetTotalSales(
-                shopId,
-                7L,
-                ProductType.PRODUCT,
-                LocalDate.of(2024, 6, 1),
-                LocalDate.of(2024, 6, 30)))
-        .willReturn(100000);
-    given(
-            staffSalesQueryRepository.getTargetTotalSales(
-                shopId,
-                7L,
-                ProductType.SESSION_PASS,
-                LocalDate.of(2024, 6, 1),
-                LocalDate.of(2024, 6, 30)))
-        .willReturn(50000);
+    StaffSalesFacts facts = new StaffSalesFacts();
+    addSale(facts, 1L, 7L, ProductType.SERVICE, 250000);
+    addSale(facts, 2L, 7L, ProductType.PRODUCT, 100000);
+    addSale(facts, 3L, 7L, ProductType.SESSION_PASS, 50000);
+    addSale(facts, 4L, 7L, ProductType.PREPAID_PASS, 10000);
     given(
-            staffSalesQueryRepository.getTargetTotalSales(
+            staffSalesQueryRepository.findSalesFacts(
                 shopId,
-                7L,
-                ProductType.PREPAID_PASS,
-                LocalDate.of(2024, 6, 1),
-                LocalDate.of(2024, 6, 30)))
-        .willReturn(10000);
+                List.of(7L),
+                LocalDate.of(2024, 6, 1).atStartOfDay(),
+                LocalDate.of(2024, 6, 30).atTime(23, 59, 59)))
+        .willReturn(facts);
 
     given(
             salesCalculator.calculateAdjustedTarget(
@@ -356,4 +338,35 @@ public class StaffSalesQueryServiceImplTest {
     assertThat(response.getTotalActualAmount()).isEqualTo(410000);
     assertThat(response.getTotalAchievementRate()).isEqualTo(75.0);
   }
+
+  private void addSale(
+      StaffSalesFacts facts, Long salesId, Long staffId, ProductType type, int amount) {
+    facts.addSale(salesId, staffId, type, 0);
+    facts.addPayment(salesId, PaymentsMethod.CARD, amount);
+  }
+
+  private Incentive incentive(Long staffId, ProductType type, PaymentsMethod method, int rate) {
+    return Incentive.builder()
+        .shopId(1L)
+        .staffId(staffId)
+        .type(type)
+        .paymentsMethod(method)
+        .incentive(rate)
+        .isActive(true)
+        .build();
+  }
+
+  private SalesTarget target(
+      Long staffId, boolean items, boolean membership, int sales, boolean applyStatus) {
+    return SalesTarget.builder()
+        .shopId(1L)
+        .staffId(staffId)
+        .items(items)
+        .membership(membership)
+        .sales(sales)
+        .targetYear(2024)
+        .targetMonth(6)
+        .applyStatus(applyStatus)
+        .build();
+  }
 }
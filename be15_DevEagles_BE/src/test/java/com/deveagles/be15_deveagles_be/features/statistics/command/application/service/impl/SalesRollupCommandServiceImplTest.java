@@ -0,0 +1,174 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.application.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailyCategorySalesRollup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailyPrimaryItemSalesRollup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailyCategorySalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailyItemSalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailyItemSalesRollupRepository.SalesItemGroup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailyPrimaryItemSalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailySalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.infrastructure.rollup.SalesRollupDirtyDays;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("매출 집계 서비스 테스트")
+class SalesRollupCommandServiceImplTest {
+
+  @Mock private DailySalesRollupRepository dailySalesRollupRepository;
+  @Mock private DailyItemSalesRollupRepository dailyItemSalesRollupRepository;
+  @Mock private DailyPrimaryItemSalesRollupRepository dailyPrimaryItemSalesRollupRepository;
+  @Mock private DailyCategorySalesRollupRepository dailyCategorySalesRollupRepository;
+  @Mock private SalesRollupDirtyDays salesRollupDirtyDays;
+  @InjectMocks private SalesRollupCommandServiceImpl salesRollupCommandService;
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("매출 트랜잭션 안에서는 집계를 건드리지 않고 커밋 뒤 재집계 대상으로 등록한다")
+  void refresh_marksAfterCommit() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    salesRollupCommandService.refresh(1L, LocalDateTime.of(2026, 10, 1, 14, 30));
+
+    // then
+    then(salesRollupDirtyDays).should(never()).mark(any(), any());
+    then(dailySalesRollupRepository).shouldHaveNoInteractions();
+    then(dailyItemSalesRollupRepository).shouldHaveNoInteractions();
+
+    assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    then(salesRollupDirtyDays).should().mark(1L, LocalDate.of(2026, 10, 1));
+  }
+
+  @Test
+  @DisplayName("롤백되면 재집계 대상으로 등록하지 않는다")
+  void refresh_rollback_doesNotMark() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    salesRollupCommandService.refresh(1L, LocalDateTime.of(2026, 10, 1, 14, 30));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // then
+    then(salesRollupDirtyDays).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("일자 단위로 집계 행을 지우고 원본에서 다시 채운다")
+  void rebuild_replacesShopDay() {
+    // given
+    LocalDate day = LocalDate.of(2026, 10, 1);
+
+    // when
+    salesRollupCommandService.rebuild(1L, day, day);
+
+    // then
+    then(dailySalesRollupRepository).should().deleteByShopIdAndSalesDayBetween(1L, day, day);
+    then(dailyItemSalesRollupRepository).should().deleteByShopIdAndSalesDayBetween(1L, day, day);
+    then(dailyPrimaryItemSalesRollupRepository)
+        .should()
+        .deleteByShopIdAndSalesDayBetween(1L, day, day);
+    then(dailyCategorySalesRollupRepository)
+        .should()
+        .deleteByShopIdAndSalesDayBetween(1L, day, day);
+    then(dailySalesRollupRepository)
+        .should()
+        .insertAggregatedFromSales(1L, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    then(dailyItemSalesRollupRepository)
+        .should()
+        .insertAggregatedFromSales(1L, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+  }
+
+  private SalesItemGroup group(Long salesId, Long primaryItemId, String category) {
+    return new SalesItemGroup() {
+      @Override
+      public Long getSalesId() {
+        return salesId;
+      }
+
+      @Override
+      public String getGender() {
+        return "F";
+      }
+
+      @Override
+      public Long getPrimaryItemId() {
+        return primaryItemId;
+      }
+
+      @Override
+      public String getCategory() {
+        return category;
+      }
+    };
+  }
+
+  @Test
+  @DisplayName("여러 상품을 담은 매출은 1차 상품 · 카테고리 단위 거래 건수에서 한 번만 센다")
+  void rebuild_countsMultiItemSaleOnce() {
+    // given
+    LocalDate day = LocalDate.of(2026, 10, 1);
+    // 매출 1 은 같은 카테고리의 1차 상품 두 개(10, 20)를, 매출 2 는 1차 상품 10 만 담았다
+    given(
+            dailyItemSalesRollupRepository.findSalesItemGroups(
+                1L, day.atStartOfDay(), day.plusDays(1).atStartOfDay()))
+        .willReturn(
+            List.of(
+                group(1L, 10L, "SERVICE"), group(1L, 20L, "SERVICE"), group(2L, 10L, "SERVICE")));
+
+    // when
+    salesRollupCommandService.rebuild(1L, day, day);
+
+    // then
+    ArgumentCaptor<List<DailyPrimaryItemSalesRollup>> primaryItemRows =
+        ArgumentCaptor.forClass(List.class);
+    then(dailyPrimaryItemSalesRollupRepository).should().saveAll(primaryItemRows.capture());
+    assertThat(primaryItemRows.getValue())
+        .extracting(
+            DailyPrimaryItemSalesRollup::getPrimaryItemId,
+            DailyPrimaryItemSalesRollup::getTransactionCount)
+        .containsExactlyInAnyOrder(tuple(10L, 2L), tuple(20L, 1L));
+
+    ArgumentCaptor<List<DailyCategorySalesRollup>> categoryRows =
+        ArgumentCaptor.forClass(List.class);
+    then(dailyCategorySalesRollupRepository).should().saveAll(categoryRows.capture());
+    assertThat(categoryRows.getValue())
+        .singleElement()
+        .satisfies(
+            row -> {
+              assertThat(row.getCategory()).isEqualTo("SERVICE");
+              assertThat(row.getGender()).isEqualTo("F");
+              assertThat(row.getSalesDay()).isEqualTo(day);
+              assertThat(row.getTransactionCount()).isEqualTo(2L);
+            });
+  }
+}
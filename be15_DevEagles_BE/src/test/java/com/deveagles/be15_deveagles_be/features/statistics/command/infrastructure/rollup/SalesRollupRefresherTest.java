@@ -0,0 +1,137 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.infrastructure.rollup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailySalesRollupRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.infrastructure.rollup.SalesRollupDirtyDays.ShopDay;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("매출 집계 재계산기 테스트")
+class SalesRollupRefresherTest {
+
+  private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+
+  @Mock private SalesRollupCommandService salesRollupCommandService;
+  @Mock private SalesRollupDirtyDays salesRollupDirtyDays;
+  @Mock private DailySalesRollupRepository dailySalesRollupRepository;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private SalesRollupRefresher refresher;
+
+  @BeforeEach
+  void setUp() {
+    refresher =
+        new SalesRollupRefresher(
+            salesRollupCommandService,
+            salesRollupDirtyDays,
+            dailySalesRollupRepository,
+            redisTemplate);
+  }
+
+  private void givenLock(boolean acquired) {
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(acquired);
+  }
+
+  @Test
+  @DisplayName("등록된 매장-일자를 하루씩 재집계한다")
+  void flush_rebuildsEachShopDay() {
+    // given
+    givenLock(true);
+    given(salesRollupDirtyDays.pop(50))
+        .willReturn(List.of(new ShopDay(1L, DAY), new ShopDay(2L, DAY.plusDays(1))));
+
+    // when
+    int processed = refresher.flush();
+
+    // then
+    assertThat(processed).isEqualTo(2);
+    then(salesRollupCommandService).should().rebuild(1L, DAY, DAY);
+    then(salesRollupCommandService).should().rebuild(2L, DAY.plusDays(1), DAY.plusDays(1));
+    then(salesRollupDirtyDays).should(never()).markAll(any());
+  }
+
+  @Test
+  @DisplayName("재집계에 실패한 매장-일자만 다시 등록한다")
+  void flush_requeuesFailedShopDays() {
+    // given
+    givenLock(true);
+    given(salesRollupDirtyDays.pop(50))
+        .willReturn(List.of(new ShopDay(1L, DAY), new ShopDay(2L, DAY)));
+    doThrow(new CannotAcquireLockException("deadlock"))
+        .when(salesRollupCommandService)
+        .rebuild(1L, DAY, DAY);
+
+    // then
+    assertThatThrownBy(() -> refresher.flush()).isInstanceOf(CannotAcquireLockException.class);
+    then(salesRollupCommandService).should().rebuild(2L, DAY, DAY);
+    then(salesRollupDirtyDays).should().markAll(List.of(new ShopDay(1L, DAY)));
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 처리 중이면 꺼내지 않는다")
+  void flush_skipsWhenLocked() {
+    // given
+    givenLock(false);
+
+    // when
+    int processed = refresher.flush();
+
+    // then
+    assertThat(processed).isZero();
+    then(salesRollupDirtyDays).should(never()).pop(50);
+  }
+
+  @Test
+  @DisplayName("백필은 기간의 하루마다 따로 재집계한다")
+  void backfill_rebuildsDayByDay() {
+    // when
+    int days = refresher.backfill(1L, DAY, DAY.plusDays(2));
+
+    // then
+    assertThat(days).isEqualTo(3);
+    then(salesRollupCommandService).should().rebuild(1L, DAY, DAY);
+    then(salesRollupCommandService).should().rebuild(1L, DAY.plusDays(1), DAY.plusDays(1));
+    then(salesRollupCommandService).should().rebuild(1L, DAY.plusDays(2), DAY.plusDays(2));
+  }
+
+  @Test
+  @DisplayName("매출이 있는 매장-일자를 재집계 대상으로 등록한다")
+  void markSalesDays_marksShopsWithSales() {
+    // given
+    given(
+            dailySalesRollupRepository.findShopIdsWithSalesBetween(
+                DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()))
+        .willReturn(List.of(1L, 2L));
+
+    // when
+    refresher.markSalesDays(DAY, DAY);
+
+    // then
+    then(salesRollupDirtyDays)
+        .should()
+        .markAll(List.of(new ShopDay(1L, DAY), new ShopDay(2L, DAY)));
+  }
+}
@@ -0,0 +1,142 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService.ActionExecutionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActionExecutorService 단위 테스트")
+class ActionExecutorServiceImplTest {
+
+  @Mock private WorkflowRepository workflowRepository;
+  @Mock private WorkflowExecutionRepository workflowExecutionRepository;
+  @Spy private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  @Mock private MessageServiceAdapter messageService;
+  @Mock private CouponServiceAdapter couponService;
+  @Mock private NotificationServiceAdapter notificationService;
+
+  @InjectMocks private ActionExecutorServiceImpl actionExecutorService;
+
+  private Workflow workflow;
+  private WorkflowExecution execution;
+
+  @BeforeEach
+  void setUp() {
+    workflow =
+        Workflow.builder()
+            .id(100L)
+            .title("휴면 고객 재방문 유도")
+            .shopId(1L)
+            .staffId(1L)
+            .isActive(true)
+            .triggerType("visit-cycle")
+            .triggerCategory("periodic")
+            .actionType("message-only")
+            .actionConfig("{\"messageTemplateId\": \"1\", \"sendTime\": \"10:00:00\"}")
+            .build();
+    execution =
+        WorkflowExecution.builder()
+            .id(10L)
+            .workflowId(100L)
+            .shopId(1L)
+            .executionStatus("RUNNING")
+            .triggerType("visit-cycle")
+            .actionType("message-only")
+            .build();
+  }
+
+  @Test
+  @DisplayName("청크 발송 중 예외는 삼키지 않고 전파해 체크포인트를 남기지 않는다")
+  void executeChunk_propagatesSendFailure() {
+    // given
+    given(messageService.sendMessages(List.of(1L, 2L), 1L, "1", LocalTime.of(10, 0)))
+        .willThrow(new IllegalStateException("문자 저장 실패"));
+
+    // when & then
+    assertThatThrownBy(
+            () -> actionExecutorService.executeChunk(workflow, List.of(1L, 2L), execution))
+        .isInstanceOf(IllegalStateException.class);
+    then(workflowExecutionRepository).should(never()).save(any());
+    assertThat(execution.getProcessedChunkCount()).isNull();
+  }
+
+  @Test
+  @DisplayName("발송이 실패한 청크는 전원 실패로 기록하고 체크포인트를 넘긴다")
+  void recordFailedChunk_countsAllAsFailure() {
+    // given
+    execution.recordChunk(2L, 2, 2, 0);
+
+    // when
+    ActionExecutionResult result =
+        actionExecutorService.recordFailedChunk(workflow, List.of(3L, 4L, 5L), execution);
+
+    // then
+    assertThat(result.getSuccessCount()).isZero();
+    assertThat(result.getFailureCount()).isEqualTo(3);
+    assertThat(execution.getLastCustomerId()).isEqualTo(5L);
+    assertThat(execution.getProcessedChunkCount()).isEqualTo(2);
+    assertThat(execution.getSuccessCount()).isEqualTo(2);
+    assertThat(execution.getFailureCount()).isEqualTo(3);
+    assertThat(execution.getExecutionDetails()).contains("\"failureCount\":3");
+    then(workflowExecutionRepository).should().save(execution);
+  }
+
+  @Test
+  @DisplayName("단건 실행도 발송 예외를 삼키지 않고 전파한다")
+  void executeAction_propagatesSendFailure() {
+    // given
+    given(messageService.sendMessages(eq(List.of(7L)), eq(1L), eq("1"), any()))
+        .willThrow(new IllegalStateException("문자 저장 실패"));
+
+    // when & then
+    assertThatThrownBy(() -> actionExecutorService.executeAction(workflow, List.of(7L), execution))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @DisplayName("실패한 단건 실행은 대상 전원 실패로 기록하고 워크플로우 실행 통계에 반영한다")
+  void recordFailedAction_recordsFailure() {
+    // given
+    WorkflowExecution failed =
+        WorkflowExecution.builder()
+            .workflowId(100L)
+            .shopId(1L)
+            .executionStatus("SCHEDULED")
+            .triggerType("visit-cycle")
+            .actionType("message-only")
+            .build();
+
+    // when
+    actionExecutorService.recordFailedAction(workflow, List.of(7L), failed, "문자 저장 실패");
+
+    // then
+    assertThat(failed.getExecutionStatus()).isEqualTo("FAILED");
+    assertThat(failed.getErrorMessage()).isEqualTo("문자 저장 실패");
+    assertThat(failed.getTargetCount()).isEqualTo(1);
+    assertThat(failed.getSuccessCount()).isZero();
+    assertThat(failed.getFailureCount()).isEqualTo(1);
+    then(workflowExecutionRepository).should().save(failed);
+    then(workflowRepository).should().save(workflow);
+  }
+}
@@ -0,0 +1,264 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.deveagles.be15_deveagles_be.common.events.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.common.events.PaymentCompletedEvent;
+import com.deveagles.be15_deveagles_be.common.events.WorkflowChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.outbox.DomainEventDeduplicator;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TriggerCheckService 단위 테스트")
+class TriggerCheckServiceImplTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final Long CUSTOMER_ID = 10L;
+
+  @Mock private WorkflowRepository workflowRepository;
+  @Mock private WorkflowExecutionService workflowExecutionService;
+  @Mock private CustomerQueryService customerQueryService;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private RedisMessageListenerContainer listenerContainer;
+  @Mock private DomainEventDeduplicator domainEventDeduplicator;
+
+  private WorkflowTriggerIndex workflowTriggerIndex;
+  private TriggerCheckServiceImpl triggerCheckService;
+
+  @BeforeEach
+  void setUp() {
+    workflowTriggerIndex =
+        new WorkflowTriggerIndex(
+            workflowRepository, new ObjectMapper(), redisTemplate, listenerContainer);
+    triggerCheckService =
+        new TriggerCheckServiceImpl(
+            workflowRepository,
+            workflowExecutionService,
+            workflowTriggerIndex,
+            customerQueryService,
+            domainEventDeduplicator);
+  }
+
+  private Workflow workflow(Long id, String triggerType, String triggerConfig) {
+    return Workflow.builder()
+        .id(id)
+        .title("워크플로우 " + id)
+        .shopId(SHOP_ID)
+        .staffId(1L)
+        .isActive(true)
+        .triggerType(triggerType)
+        .triggerConfig(triggerConfig)
+        .build();
+  }
+
+  private CustomerVisitEvent visit() {
+    return visit(LocalDate.now().minusDays(30));
+  }
+
+  private CustomerVisitEvent visit(LocalDate previousVisitDate) {
+    return CustomerVisitEvent.of(
+        CUSTOMER_ID, SHOP_ID, null, LocalDateTime.now(), previousVisitDate);
+  }
+
+  private PaymentCompletedEvent payment(long amount, long previousTotalRevenue) {
+    return PaymentCompletedEvent.of(
+        CUSTOMER_ID, SHOP_ID, amount, LocalDateTime.now(), previousTotalRevenue);
+  }
+
+  private void givenFirstDelivery() {
+    given(domainEventDeduplicator.handleOnce(anyString(), anyString(), any()))
+        .willAnswer(TriggerCheckServiceImplTest::runWork);
+  }
+
+  private static boolean runWork(InvocationOnMock invocation) {
+    invocation.getArgument(2, Runnable.class).run();
+    return true;
+  }
+
+  @Test
+  @DisplayName("방문 이벤트마다 워크플로우는 색인에서 찾고 고객 정보는 한 번만 조회한다")
+  void onCustomerVisit_usesIndexAndSingleCustomerLoad() {
+    // given
+    Workflow visitCycle = workflow(100L, "visit-cycle", "{\"visitCycleDays\": 30}");
+    Workflow otherCycle = workflow(101L, "visit-cycle", "{\"visitCycleDays\": 90}");
+    Workflow birthday = workflow(200L, "birthday", "{\"birthdayDaysBefore\": 0}");
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID))
+        .willReturn(List.of(visitCycle, otherCycle, birthday));
+    given(workflowRepository.findById(100L)).willReturn(Optional.of(visitCycle));
+    given(workflowRepository.findById(200L)).willReturn(Optional.of(birthday));
+    CustomerDetailResponse customer =
+        CustomerDetailResponse.builder()
+            .customerId(CUSTOMER_ID)
+            .shopId(SHOP_ID)
+            .recentVisitDate(LocalDate.now())
+            .birthdate(LocalDate.now().minusYears(30))
+            .build();
+    given(customerQueryService.getCustomerDetail(CUSTOMER_ID, SHOP_ID))
+        .willReturn(Optional.of(customer));
+    givenFirstDelivery();
+
+    // when
+    triggerCheckService.onCustomerVisit(visit());
+    triggerCheckService.onCustomerVisit(visit());
+
+    // then
+    verify(workflowRepository, times(1)).findAllByShopIdAndIsActiveTrue(SHOP_ID);
+    verify(customerQueryService, times(2)).getCustomerDetail(CUSTOMER_ID, SHOP_ID);
+    verify(workflowExecutionService, times(2)).executeTriggeredWorkflow(visitCycle, CUSTOMER_ID);
+    verify(workflowExecutionService, times(2)).executeTriggeredWorkflow(birthday, CUSTOMER_ID);
+    verify(workflowExecutionService, never()).executeTriggeredWorkflow(otherCycle, CUSTOMER_ID);
+  }
+
+  @Test
+  @DisplayName("트리거 워크플로우가 없는 매장은 고객 정보를 조회하지 않는다")
+  void onCustomerVisit_noWorkflows_skipsCustomerLoad() {
+    // given
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID)).willReturn(List.of());
+
+    // when
+    triggerCheckService.onCustomerVisit(visit());
+
+    // then
+    verify(customerQueryService, never()).getCustomerDetail(anyLong(), anyLong());
+    verify(workflowExecutionService, never()).executeTriggeredWorkflow(any(), anyLong());
+  }
+
+  @Test
+  @DisplayName("워크플로우가 바뀌면 매장 색인을 다시 읽는다")
+  void onWorkflowChanged_reloadsShopIndex() {
+    // given
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID)).willReturn(List.of());
+    triggerCheckService.onCustomerVisit(visit());
+
+    // when
+    workflowTriggerIndex.onWorkflowChanged(new WorkflowChangedEvent(SHOP_ID));
+    triggerCheckService.onCustomerVisit(visit());
+
+    // then
+    verify(workflowRepository, times(2)).findAllByShopIdAndIsActiveTrue(SHOP_ID);
+    verify(redisTemplate).convertAndSend(WorkflowTriggerIndex.CHANNEL, "1");
+  }
+
+  @Test
+  @DisplayName("다른 매장의 무효화는 매장 색인 세대를 바꾸지 않는다")
+  void evict_bumpsOnlyThatShopGeneration() {
+    // given
+    long shop1 = workflowTriggerIndex.generation(SHOP_ID);
+    long shop2 = workflowTriggerIndex.generation(2L);
+
+    // when
+    workflowTriggerIndex.evict(2L);
+
+    // then
+    assertThat(workflowTriggerIndex.generation(SHOP_ID)).isEqualTo(shop1);
+    assertThat(workflowTriggerIndex.generation(2L)).isEqualTo(shop2 + 1);
+  }
+
+  @Test
+  @DisplayName("다시 전달된 이벤트로는 같은 워크플로우를 다시 실행하지 않는다")
+  void onCustomerVisit_redeliveredEvent_executesOnce() {
+    // given
+    Workflow visitCycle = workflow(100L, "visit-cycle", "{\"visitCycleDays\": 30}");
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID))
+        .willReturn(List.of(visitCycle));
+    given(workflowRepository.findById(100L)).willReturn(Optional.of(visitCycle));
+    CustomerVisitEvent event = visit();
+    given(domainEventDeduplicator.handleOnce(eq("workflow-100"), eq(event.eventId()), any()))
+        .willAnswer(TriggerCheckServiceImplTest::runWork)
+        .willReturn(false);
+
+    // when
+    triggerCheckService.onCustomerVisit(event);
+    triggerCheckService.onCustomerVisit(event);
+
+    // then
+    verify(workflowExecutionService, times(1)).executeTriggeredWorkflow(visitCycle, CUSTOMER_ID);
+  }
+
+  @Test
+  @DisplayName("워크플로우 실행에 실패하면 예외를 전달기로 던져 다시 전달받는다")
+  void onCustomerVisit_executionFailure_propagates() {
+    // given
+    Workflow visitCycle = workflow(100L, "visit-cycle", "{\"visitCycleDays\": 30}");
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID))
+        .willReturn(List.of(visitCycle));
+    given(workflowRepository.findById(100L)).willReturn(Optional.of(visitCycle));
+    givenFirstDelivery();
+    willThrow(new IllegalStateException("발송 실패"))
+        .given(workflowExecutionService)
+        .executeTriggeredWorkflow(visitCycle, CUSTOMER_ID);
+
+    // when & then
+    assertThatThrownBy(() -> triggerCheckService.onCustomerVisit(visit()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("발송 실패");
+  }
+
+  @Test
+  @DisplayName("방문 주기는 이벤트에 담긴 이전 방문일을 기준으로 확인한다")
+  void onCustomerVisit_visitCycleUsesPreviousVisitDate() {
+    // given
+    Workflow visitCycle = workflow(100L, "visit-cycle", "{\"visitCycleDays\": 30}");
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID))
+        .willReturn(List.of(visitCycle));
+    given(workflowRepository.findById(100L)).willReturn(Optional.of(visitCycle));
+    givenFirstDelivery();
+
+    // when
+    triggerCheckService.onCustomerVisit(visit(LocalDate.now().minusDays(31)));
+    triggerCheckService.onCustomerVisit(visit(LocalDate.now()));
+    triggerCheckService.onCustomerVisit(visit(null));
+
+    // then
+    verify(workflowExecutionService, times(1)).executeTriggeredWorkflow(visitCycle, CUSTOMER_ID);
+    verify(customerQueryService, never()).getCustomerDetail(anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("누적 금액 마일스톤은 이번 결제로 넘어섰을 때만 실행한다")
+  void onPaymentCompleted_firesOnlyOnCrossing() {
+    // given
+    Workflow milestone = workflow(300L, "amount-milestone", "{\"amountMilestone\": 100000}");
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID))
+        .willReturn(List.of(milestone));
+    given(workflowRepository.findById(300L)).willReturn(Optional.of(milestone));
+    givenFirstDelivery();
+
+    // when
+    triggerCheckService.onPaymentCompleted(payment(30000L, 60000L));
+    triggerCheckService.onPaymentCompleted(payment(10000L, 90000L));
+    triggerCheckService.onPaymentCompleted(payment(20000L, 100000L));
+
+    // then
+    verify(workflowExecutionService, times(1)).executeTriggeredWorkflow(milestone, CUSTOMER_ID);
+    verify(customerQueryService, never()).getCustomerDetail(anyLong(), anyLong());
+  }
+}
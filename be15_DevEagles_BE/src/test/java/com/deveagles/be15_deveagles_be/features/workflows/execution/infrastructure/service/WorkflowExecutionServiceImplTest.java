@@ -0,0 +1,197 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.ActionExecutorService;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService.ActionExecutionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkflowExecutionService 단위 테스트")
+class WorkflowExecutionServiceImplTest {
+
+  @Mock private WorkflowRepository workflowRepository;
+  @Mock private WorkflowExecutionRepository workflowExecutionRepository;
+  @Mock private CustomerQueryService customerQueryService;
+  @Mock private ActionExecutorService actionExecutorService;
+  @Spy private ObjectMapper objectMapper = new ObjectMapper();
+
+  @InjectMocks private WorkflowExecutionServiceImpl workflowExecutionService;
+
+  private Workflow workflow;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(workflowExecutionService, "chunkSize", 2);
+
+    workflow =
+        Workflow.builder()
+            .id(100L)
+            .title("휴면 고객 재방문 유도")
+            .shopId(1L)
+            .staffId(1L)
+            .isActive(true)
+            .targetCustomerGrades("[1]")
+            .triggerType("visit-cycle")
+            .triggerCategory("periodic")
+            .actionType("message-only")
+            .actionConfig("{\"messageTemplateId\": \"1\"}")
+            .build();
+
+    given(workflowExecutionRepository.save(any(WorkflowExecution.class)))
+        .willAnswer(invocation -> invocation.getArgument(0));
+    lenient()
+        .when(actionExecutorService.executeChunk(eq(workflow), anyList(), any()))
+        .thenAnswer(
+            invocation -> {
+              List<Long> chunk = invocation.getArgument(1);
+              WorkflowExecution execution = invocation.getArgument(2);
+              execution.recordChunk(chunk.get(chunk.size() - 1), chunk.size(), chunk.size(), 0);
+              return new ActionExecutionResult(chunk.size(), 0);
+            });
+  }
+
+  private CustomerSearchQuery cursorAt(Long cursorId) {
+    return argThat(query -> Objects.equals(query.cursorId(), cursorId));
+  }
+
+  @Test
+  @DisplayName("대상 고객 전체를 청크 단위로 끝까지 처리한다")
+  void executeWorkflow_processesAllChunks() {
+    // given
+    given(workflowExecutionRepository.findLatestRunningByWorkflowId(100L))
+        .willReturn(Optional.empty());
+    given(customerQueryService.searchCustomerIds(any(), anyInt()))
+        .willReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+    // when
+    workflowExecutionService.executeWorkflow(workflow);
+
+    // then
+    verify(actionExecutorService, times(3)).executeChunk(eq(workflow), anyList(), any());
+    verify(customerQueryService).searchCustomerIds(cursorAt(null), eq(2));
+    verify(customerQueryService).searchCustomerIds(cursorAt(2L), eq(2));
+    verify(customerQueryService).searchCustomerIds(cursorAt(4L), eq(2));
+    verify(workflowRepository).save(workflow);
+    assertThat(workflow.getExecutionCount()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("중단된 실행이 있으면 체크포인트 이후 고객부터 이어서 처리한다")
+  void executeWorkflow_resumesFromCheckpoint() {
+    // given
+    WorkflowExecution running =
+        WorkflowExecution.builder()
+            .id(10L)
+            .workflowId(100L)
+            .shopId(1L)
+            .executionStatus("RUNNING")
+            .triggerType("visit-cycle")
+            .actionType("message-only")
+            .startedAt(LocalDateTime.now().minusHours(1))
+            .build();
+    running.recordChunk(4L, 4, 4, 0);
+    given(workflowExecutionRepository.findLatestRunningByWorkflowId(100L))
+        .willReturn(Optional.of(running));
+    given(customerQueryService.searchCustomerIds(any(), anyInt())).willReturn(List.of(5L));
+
+    // when
+    workflowExecutionService.executeWorkflow(workflow);
+
+    // then
+    verify(customerQueryService).searchCustomerIds(cursorAt(4L), eq(2));
+    verify(customerQueryService, never()).searchCustomerIds(cursorAt(null), anyInt());
+    assertThat(running.isSuccessful()).isTrue();
+    assertThat(running.getTargetCount()).isEqualTo(5);
+    assertThat(running.getProcessedChunkCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("청크 발송이 실패하면 그 청크를 실패로 기록하고 다음 청크를 이어서 처리한다")
+  void executeWorkflow_recordsFailedChunkAndContinues() {
+    // given
+    WorkflowExecution running =
+        WorkflowExecution.builder()
+            .id(10L)
+            .workflowId(100L)
+            .shopId(1L)
+            .executionStatus("RUNNING")
+            .triggerType("visit-cycle")
+            .actionType("message-only")
+            .startedAt(LocalDateTime.now())
+            .build();
+    given(workflowExecutionRepository.findLatestRunningByWorkflowId(100L))
+        .willReturn(Optional.of(running));
+    given(workflowExecutionRepository.findById(10L)).willReturn(Optional.of(running));
+    given(customerQueryService.searchCustomerIds(any(), anyInt()))
+        .willReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    given(actionExecutorService.executeChunk(eq(workflow), eq(List.of(3L, 4L)), any()))
+        .willThrow(new IllegalStateException("문자 저장 실패"));
+    given(actionExecutorService.recordFailedChunk(workflow, List.of(3L, 4L), running))
+        .willAnswer(
+            invocation -> {
+              running.recordChunk(4L, 2, 0, 2);
+              return new ActionExecutionResult(0, 2);
+            });
+
+    // when
+    workflowExecutionService.executeWorkflow(workflow);
+
+    // then
+    verify(actionExecutorService).recordFailedChunk(workflow, List.of(3L, 4L), running);
+    verify(customerQueryService).searchCustomerIds(cursorAt(4L), eq(2));
+    assertThat(running.isSuccessful()).isTrue();
+    assertThat(running.getProcessedChunkCount()).isEqualTo(3);
+    assertThat(running.getSuccessCount()).isEqualTo(3);
+    assertThat(running.getFailureCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("트리거된 실행의 발송이 실패하면 새 트랜잭션에 실패를 기록하고 예외를 전파한다")
+  void executeTriggeredWorkflow_recordsFailureAndPropagates() {
+    // given
+    given(actionExecutorService.executeAction(eq(workflow), eq(List.of(7L)), any()))
+        .willThrow(new IllegalStateException("문자 저장 실패"));
+
+    // when & then
+    assertThatThrownBy(() -> workflowExecutionService.executeTriggeredWorkflow(workflow, 7L))
+        .isInstanceOf(IllegalStateException.class);
+    verify(actionExecutorService)
+        .recordFailedAction(
+            eq(workflow),
+            eq(List.of(7L)),
+            argThat(execution -> "SCHEDULED".equals(execution.getExecutionStatus())),
+            eq("문자 저장 실패"));
+    verify(workflowRepository, never()).save(any());
+  }
+}
@@ -0,0 +1,149 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.WorkflowLeaseManager.Lease;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("워크플로우 임대 관리 테스트")
+class WorkflowLeaseManagerTest {
+
+  private static final String RUNNING_KEY = "WORKFLOW_LEASE:1:RUNNING";
+  private static final String SLOT_KEY = "WORKFLOW_LEASE:1:daily:2026-10-18";
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @InjectMocks private WorkflowLeaseManager workflowLeaseManager;
+
+  @BeforeEach
+  void setUp() {
+    // 연장 주기는 만료 시간의 1/3 (최소 1초)
+    ReflectionTestUtils.setField(workflowLeaseManager, "leaseTtlSeconds", 3L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    workflowLeaseManager.shutdown();
+  }
+
+  private void givenLeaseScriptReturns(Long first, Long... next) {
+    given(
+            redisTemplate.execute(
+                any(RedisScript.class),
+                eq(List.of(RUNNING_KEY, SLOT_KEY)),
+                anyString(),
+                eq("3000")))
+        .willReturn(first, next);
+  }
+
+  @Test
+  @DisplayName("슬롯과 실행 표시를 함께 선점하면 임대를 돌려준다")
+  void tryAcquire_success() {
+    // given
+    givenLeaseScriptReturns(1L);
+
+    // when
+    Optional<Lease> lease = workflowLeaseManager.tryAcquire(1L, "daily:2026-10-18");
+
+    // then
+    assertThat(lease).isPresent();
+    assertThat(lease.get().getKey()).isEqualTo(SLOT_KEY);
+  }
+
+  @Test
+  @DisplayName("이미 실행된 슬롯이거나 같은 워크플로우가 실행 중이면 임대를 얻지 못한다")
+  void tryAcquire_alreadyLeased() {
+    // given
+    givenLeaseScriptReturns(0L);
+
+    // when
+    Optional<Lease> lease = workflowLeaseManager.tryAcquire(1L, "daily:2026-10-18");
+
+    // then
+    assertThat(lease).isEmpty();
+    // 연장도 예약되지 않는다
+    then(redisTemplate)
+        .should(after(1500).times(1))
+        .execute(any(RedisScript.class), eq(List.of(RUNNING_KEY, SLOT_KEY)), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("실행 중에는 임대를 주기적으로 연장한다")
+  void tryAcquire_renewsWhileHeld() {
+    // given
+    givenLeaseScriptReturns(1L);
+
+    // when
+    workflowLeaseManager.tryAcquire(1L, "daily:2026-10-18");
+
+    // then (선점 1회 + 연장 2회)
+    then(redisTemplate)
+        .should(timeout(3500).times(3))
+        .execute(any(RedisScript.class), eq(List.of(RUNNING_KEY, SLOT_KEY)), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("만료돼 다른 노드로 넘어간 임대는 더 연장하지 않는다")
+  void tryAcquire_stopsRenewingExpiredLease() {
+    // given
+    givenLeaseScriptReturns(1L, 0L);
+
+    // when
+    workflowLeaseManager.tryAcquire(1L, "daily:2026-10-18");
+
+    // then (선점 1회 + 실패한 연장 1회 뒤 중단)
+    then(redisTemplate)
+        .should(after(2500).times(2))
+        .execute(any(RedisScript.class), eq(List.of(RUNNING_KEY, SLOT_KEY)), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("임대를 닫으면 연장을 멈추고 실행 표시를 지운다")
+  void close_releasesRunningMarker() {
+    // given
+    givenLeaseScriptReturns(1L);
+    Lease lease = workflowLeaseManager.tryAcquire(1L, "daily:2026-10-18").orElseThrow();
+
+    // when
+    lease.close();
+
+    // then
+    then(redisTemplate)
+        .should()
+        .execute(any(RedisScript.class), eq(List.of(RUNNING_KEY)), anyString());
+    then(redisTemplate)
+        .should(after(1500).times(1))
+        .execute(any(RedisScript.class), eq(List.of(RUNNING_KEY, SLOT_KEY)), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("실행 표시가 만료되면 실행 중이 아닌 것으로 본다")
+  void isRunning_followsRunningMarker() {
+    // given
+    given(redisTemplate.hasKey(RUNNING_KEY)).willReturn(true, false);
+
+    // when & then
+    assertThat(workflowLeaseManager.isRunning(1L)).isTrue();
+    assertThat(workflowLeaseManager.isRunning(1L)).isFalse();
+  }
+}
@@ -0,0 +1,173 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.WorkflowLeaseManager.Lease;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("워크플로우 스케줄러 테스트")
+class WorkflowSchedulerImplTest {
+
+  @Mock private WorkflowRepository workflowRepository;
+  @Mock private WorkflowExecutionRepository workflowExecutionRepository;
+  @Mock private WorkflowExecutionService workflowExecutionService;
+  @Mock private WorkflowLeaseManager workflowLeaseManager;
+  @InjectMocks private WorkflowSchedulerImpl workflowScheduler;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(workflowScheduler, "workerCount", 2);
+    workflowScheduler.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    workflowScheduler.shutdown();
+  }
+
+  private Workflow workflow(Long id, Long shopId, String triggerType) {
+    return Workflow.builder()
+        .id(id)
+        .title("워크플로우 " + id)
+        .shopId(shopId)
+        .staffId(1L)
+        .isActive(true)
+        .triggerType(triggerType)
+        .triggerCategory("event")
+        .actionType("message-only")
+        .build();
+  }
+
+  private WorkflowExecution running(Long id, Long workflowId, LocalDateTime startedAt) {
+    return WorkflowExecution.builder()
+        .id(id)
+        .workflowId(workflowId)
+        .shopId(1L)
+        .executionStatus("RUNNING")
+        .triggerType("birthday")
+        .actionType("message-only")
+        .startedAt(startedAt)
+        .build();
+  }
+
+  @Test
+  @DisplayName("매장이 다르면 병렬로, 같은 매장은 한 워커에서 순서대로 실행한다")
+  void checkDailyTriggers_partitionsByShop() throws Exception {
+    // given
+    Workflow first = workflow(1L, 10L, "birthday");
+    Workflow second = workflow(2L, 10L, "birthday");
+    Workflow otherShop = workflow(3L, 20L, "birthday");
+    given(workflowRepository.findByTriggerType("birthday")).willReturn(List.of(first, second));
+    given(workflowRepository.findByTriggerType("first-visit-anniversary"))
+        .willReturn(List.of(otherShop));
+    given(workflowLeaseManager.tryAcquire(any(), anyString()))
+        .willAnswer(invocation -> Optional.of(mock(Lease.class)));
+
+    // 다른 매장 실행이 시작돼야 첫 워크플로우가 끝나므로, 매장이 순차 실행되면 시간 초과로 실패한다
+    CountDownLatch otherShopStarted = new CountDownLatch(1);
+    List<Long> executed = new CopyOnWriteArrayList<>();
+    Map<Long, String> threadByWorkflow = new ConcurrentHashMap<>();
+    willAnswer(
+            invocation -> {
+              Workflow workflow = invocation.getArgument(0);
+              threadByWorkflow.put(workflow.getId(), Thread.currentThread().getName());
+              if (workflow.getId().equals(3L)) {
+                otherShopStarted.countDown();
+              } else if (workflow.getId().equals(1L)) {
+                assertThat(otherShopStarted.await(2, TimeUnit.SECONDS)).isTrue();
+              }
+              executed.add(workflow.getId());
+              return null;
+            })
+        .given(workflowExecutionService)
+        .executeWorkflow(any());
+
+    // when
+    workflowScheduler.checkDailyTriggers();
+
+    // then
+    assertThat(executed).containsExactlyInAnyOrder(1L, 2L, 3L);
+    assertThat(executed.indexOf(1L)).isLessThan(executed.indexOf(2L));
+    assertThat(threadByWorkflow.get(1L)).isEqualTo(threadByWorkflow.get(2L));
+    assertThat(threadByWorkflow.get(3L)).isNotEqualTo(threadByWorkflow.get(1L));
+    then(workflowLeaseManager).should().tryAcquire(1L, "daily:" + LocalDate.now());
+  }
+
+  @Test
+  @DisplayName("임대를 얻지 못한 워크플로우는 실행하지 않는다")
+  void checkDailyTriggers_skipsWithoutLease() {
+    // given
+    Workflow leased = workflow(1L, 10L, "birthday");
+    Workflow taken = workflow(2L, 20L, "birthday");
+    given(workflowRepository.findByTriggerType("birthday")).willReturn(List.of(leased, taken));
+    given(workflowRepository.findByTriggerType("first-visit-anniversary")).willReturn(List.of());
+    given(workflowLeaseManager.tryAcquire(1L, "daily:" + LocalDate.now()))
+        .willReturn(Optional.of(mock(Lease.class)));
+    given(workflowLeaseManager.tryAcquire(2L, "daily:" + LocalDate.now()))
+        .willReturn(Optional.empty());
+
+    // when
+    workflowScheduler.checkDailyTriggers();
+
+    // then
+    then(workflowExecutionService).should().executeWorkflow(leased);
+    then(workflowExecutionService).should(never()).executeWorkflow(taken);
+  }
+
+  @Test
+  @DisplayName("실행 표시가 만료된 미완료 실행만 실행 ID 슬롯으로 이어서 처리한다")
+  void resumeUnfinishedExecutions_resumesOrphanedRuns() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    Workflow orphaned = workflow(1L, 10L, "birthday");
+    given(workflowExecutionRepository.findRunningExecutions())
+        .willReturn(
+            List.of(
+                running(11L, 1L, now.minusHours(1)), // 노드 종료로 중단
+                running(12L, 2L, now.minusMinutes(5)), // 다른 노드에서 실행 중
+                running(13L, 3L, now.minusHours(13)))); // 재개 가능 시간 경과
+    given(workflowLeaseManager.isRunning(1L)).willReturn(false);
+    given(workflowLeaseManager.isRunning(2L)).willReturn(true);
+    given(workflowRepository.findById(1L)).willReturn(Optional.of(orphaned));
+    given(workflowLeaseManager.tryAcquire(1L, "resume:11"))
+        .willReturn(Optional.of(mock(Lease.class)));
+
+    // when
+    workflowScheduler.resumeUnfinishedExecutions();
+
+    // then
+    then(workflowExecutionService).should().executeWorkflow(orphaned);
+    then(workflowRepository).should(never()).findById(2L);
+    then(workflowRepository).should(never()).findById(3L);
+  }
+}